@@ -25,31 +25,93 @@
  */
 package de.elamx.clt.optimization.additionaloptimizers.branchandbound;
 
+import de.elamx.clt.optimization.FitnessCache;
 import de.elamx.clt.optimization.OptimizationInput;
 import de.elamx.clt.optimization.Optimizer;
 import de.elamx.clt.optimization.additionaloptimizers.DummyBundle;
 import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
 import de.elamx.laminate.Laminat;
+import de.elamx.laminate.addFailureCriteria.MaxStress;
+import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.optimization.GenomeEvaluator;
+import de.elamx.laminate.optimization.LaminateGenome;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.PlyTemplate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.UUID;
+import org.openide.util.Lookup;
 import org.openide.util.NbBundle;
+import org.openide.util.lookup.Lookups;
 import org.openide.util.lookup.ServiceProvider;
 
 /**
+ * Branch-and-Bound-Verfahren zur Bestimmung des Laminats mit der kleinsten
+ * Lagenanzahl, das alle Randbedingungen erfüllt. Bei gleicher Lagenanzahl wird
+ * das Laminat mit dem größten minimalen Reservefaktor gewählt.
+ *
+ * <p>Für eine feste Lagenanzahl werden die Lagen von außen nach innen in einer
+ * Tiefensuche festgelegt. Bewertet werden nur vollständige Lagenaufbauten, die
+ * Suche ist damit exakt. Lagen mit gleichwertigem Winkel (z.B. 90° und -90°)
+ * werden nur einmal verwendet. Hängt der Reservefaktor bei symmetrischen
+ * Laminaten für alle Rechner nicht von der Reihenfolge der Lagen ab (siehe
+ * {@link MinimalReserveFactorCalculator#isStackingSequenceIrrelevant()}),
+ * werden nur Lagenaufbauten mit von außen nach innen nicht fallenden
+ * Lagenindizes durchsucht, d.h. jede Kombination von Lagen genau einmal.
+ *
+ * <p>Optional ({@link SuperlayerBranchAndBoundOptimizer}) werden die noch
+ * nicht festgelegten Lagen wie beim Verfahren von Todoroki durch Superlagen
+ * ersetzt und Teilbäume verworfen, deren Reservefaktor kleiner als 1 oder
+ * nicht größer als der beste bisher gefundene ist. Die Superlage ist isotrop
+ * mit E = E∥ und ν = 0, ihre Schubfestigkeit ist experimentell bestimmt und
+ * ihr eigenes Versagen geht in den Reservefaktor ein. Die Abschätzung ist daher
+ * keine obere Schranke und das Verfahren nur eine Heuristik. Bei
+ * unsymmetrischen Laminaten wird sie wegen der Kopplung über die B-Matrix
+ * nicht verwendet.
+ *
+ * <p>Im Speicher stehen während der Suche höchstens Lagenanzahl mal
+ * Winkelanzahl Teillaminate.
  *
  * @author Andreas Hauffe
  */
 @ServiceProvider(service = Optimizer.class)
 public class BranchAndBoundOptimizer extends Optimizer{
 
+    private PlyTemplate template;
+    private GenomeEvaluator evaluator;
+    private FitnessCache cache;
+    private int[] plies;
+    private final boolean superlayerBounds;
+    private boolean useBounds;
+    private boolean orderIndependent;
+    private int numberOfCalculators;
+
+    private LaminateGenome bestGenome;
+    private LaminateGenome publishedGenome;
+    private double bestReserveFactor;
+    private int numberOfCheckedLaminates;
+    private int numberOfConstraintEvals;
+    private int numberOfPrunedLaminates;
+
     public BranchAndBoundOptimizer() {
         this(null);
     }
 
     public BranchAndBoundOptimizer(OptimizationInput input) {
-        super(NbBundle.getMessage(DummyBundle.class, "BranchAndBoundOptimizer.name"), input);
+        this(NbBundle.getMessage(DummyBundle.class, "BranchAndBoundOptimizer.name"), input, false);
+    }
+
+    /**
+     * @param name Name des Optimierers
+     * @param input Eingabe der Optimierung
+     * @param superlayerBounds true, wenn Teilbäume anhand der Superlagen
+     * verworfen werden sollen (Heuristik)
+     */
+    protected BranchAndBoundOptimizer(String name, OptimizationInput input, boolean superlayerBounds) {
+        super(name, input);
+        this.superlayerBounds = superlayerBounds;
     }
 
     @Override
@@ -72,74 +134,161 @@ public class BranchAndBoundOptimizer extends Optimizer{
 
         laminat.setSymmetric(isSymmetricLaminateNeeded || input.isSymmetricLaminat());
 
-        double maxReserveFactor = -Double.MAX_VALUE;
-
         result.setBestLaminate(laminat.getCopyWithoutListener(false));
-        result.setMinReserveFactor(maxReserveFactor);
+        result.setMinReserveFactor(-Double.MAX_VALUE);
         result.setNumberOfCheckedLaminates(0);
         result.setNumberOfContraintEvaluations(0);
+        result.setNumberOfPrunedLaminates(0);
+
+        // Die Lagen mit den Indizes 0 bis angles.length-1 sind die Winkel,
+        // danach folgt die Superlage für die noch nicht festgelegten Lagen.
+        template = PlyTemplate.create(baseLayer, angles, laminat.isSymmetric()).withPly(getSuperlayer());
+        int superPly = angles.length;
+        plies = getDistinctPlies(angles.length);
+        useBounds = superlayerBounds && template.isSymmetric();
+        orderIndependent = template.isSymmetric();
+        for (MinimalReserveFactorCalculator calc : calculators) {
+            orderIndependent &= calc.isStackingSequenceIrrelevant();
+        }
+        evaluator = new GenomeEvaluator(template, calculators);
+        cache = new FitnessCache();
+        numberOfCalculators = calculators.size();
 
-        int numberOfCheckedLaminates = 0;
-        int numberOfConstraintEvals = 0;
-        
-        ArrayList<Laminat> oldLaminates = new ArrayList<>();
-        oldLaminates.add(laminat);
-        ArrayList<Laminat> newLaminates;
-        Laminat bestLam = laminat;
-        
-        while(maxReserveFactor < 1.0){
-            
-            newLaminates = new ArrayList<>(oldLaminates.size());
-            System.gc();
-            
-            for (Laminat lam : oldLaminates) {
-                newLaminates.addAll(Arrays.asList(createSubLaminates(lam, baseLayer, angles)));
+        bestGenome = null;
+        publishedGenome = null;
+        bestReserveFactor = -Double.MAX_VALUE;
+        numberOfCheckedLaminates = 0;
+        numberOfConstraintEvals = 0;
+        numberOfPrunedLaminates = 0;
+
+        int numLayers = 0;
+        while (bestGenome == null) {
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
             }
-            
-            for (Laminat lam : newLaminates) {
+            numLayers++;
 
-                double minResFac = Double.MAX_VALUE;
-                for (MinimalReserveFactorCalculator calcs : calculators) {
-                    minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(lam));
-                    numberOfConstraintEvals++;
-                }
+            // Reichen selbst nur Superlagen nicht aus, muss die Lagenanzahl erhöht werden.
+            LaminateGenome root = LaminateGenome.filled(numLayers, superPly);
+            if (useBounds && evaluate(root) < 1.0) {
+                numberOfPrunedLaminates++;
+                continue;
+            }
 
-                if (minResFac > maxReserveFactor) {
-                    maxReserveFactor = minResFac;
-                    bestLam          = lam;
-                }
-                numberOfCheckedLaminates++;
-                
-                if (numberOfCheckedLaminates % 100 == 0){
-                    result.setBestLaminate(bestLam.getCopyWithoutListener(false));
-                    result.setMinReserveFactor(maxReserveFactor);
-                    result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
-                    result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
-                }
-                
+            if (!search(root, 0, 0)) {
+                return null;
             }
-            
-            result.setBestLaminate(bestLam.getCopyWithoutListener(false));
-            result.setMinReserveFactor(maxReserveFactor);
-            result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
-            result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
-            
-            oldLaminates = newLaminates;
+            publishResults();
         }
 
         result.setFinished(true);
-        
+
+        // Nur für das Ergebnis wird ein vollständiges Laminat erzeugt
+        Laminat bestLam = template.createLaminat(bestGenome);
+        bestLam.setName(laminat.getName());
+
         return bestLam;
     }
-    
-    private Laminat[] createSubLaminates(Laminat laminate, DataLayer baseLayer, double[] angles){
-        Laminat[] newLaminates = new Laminat[angles.length];
-        for(int ii = 0; ii < angles.length; ii++){
-            newLaminates[ii] = laminate.getCopyWithoutListener(false);
-            DataLayer newLayer = baseLayer.getCopyWithoutListeners(angles[ii]);
-            newLaminates[ii].addLayer(newLayer);
+
+    /**
+     * Tiefensuche ab der Lage <code>position</code>. Die Kinder werden nach
+     * absteigender Abschätzung durchsucht, damit früh ein gutes Laminat
+     * gefunden wird und möglichst viele Teilbäume verworfen werden können.
+     * Ohne Abschätzung werden alle Teilbäume durchsucht.
+     *
+     * @param firstPly kleinster zulässiger Index in {@link #plies} für die
+     * Lage <code>position</code>
+     * @return false, wenn die Suche unterbrochen wurde
+     */
+    private boolean search(LaminateGenome genome, int position, int firstPly) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+
+        boolean isLastLayer = position + 1 == genome.getNumberOfLayers();
+
+        // Teilbäume mit kleinerem Lagenindex sind bereits als Permutation
+        // eines anderen Teilbaums durchsucht
+        numberOfPrunedLaminates += firstPly;
+
+        int numChildren = plies.length - firstPly;
+        LaminateGenome[] children = new LaminateGenome[numChildren];
+        double[] bounds = new double[numChildren];
+        Integer[] order = new Integer[numChildren];
+        for (int ii = 0; ii < numChildren; ii++) {
+            children[ii] = genome.withPly(position, plies[firstPly + ii]);
+            // ohne Abschätzung werden nur vollständige Lagenaufbauten bewertet
+            bounds[ii] = useBounds || isLastLayer ? evaluate(children[ii]) : Double.POSITIVE_INFINITY;
+            order[ii] = ii;
         }
-        return newLaminates;
+        Arrays.sort(order, (i1, i2) -> Double.compare(bounds[i2], bounds[i1]));
+
+        for (int ii = 0; ii < order.length; ii++) {
+            int child = order[ii];
+            if (bounds[child] < 1.0 || bounds[child] <= bestReserveFactor) {
+                // alle weiteren Kinder haben eine kleinere Abschätzung,
+                // bereits bewertete vollständige Lagenaufbauten zählen nicht
+                if (!isLastLayer) {
+                    numberOfPrunedLaminates += order.length - ii;
+                }
+                break;
+            }
+            if (isLastLayer) {
+                // alle Lagen sind festgelegt, die Abschätzung ist der Reservefaktor
+                bestGenome = children[child];
+                bestReserveFactor = bounds[child];
+                publishResults();
+            } else if (!search(children[child], position + 1, orderIndependent ? firstPly + child : 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double evaluate(LaminateGenome genome) {
+        int numberOfMisses = cache.getNumberOfMisses();
+        double minResFac = cache.getMinimalReserveFactor(FitnessCache.createKey(genome, template.isSymmetric()),
+                () -> evaluator.getMinimalReserveFactor(genome));
+        numberOfConstraintEvals += (cache.getNumberOfMisses() - numberOfMisses) * numberOfCalculators;
+        numberOfCheckedLaminates++;
+
+        if (numberOfCheckedLaminates % 100 == 0) {
+            publishResults();
+        }
+
+        return minResFac;
+    }
+
+    private void publishResults() {
+        // das Laminat wird nur bei einem neuen besten Lagenaufbau erzeugt
+        if (bestGenome != publishedGenome) {
+            result.setBestLaminate(template.createLaminat(bestGenome));
+            result.setMinReserveFactor(bestReserveFactor);
+            publishedGenome = bestGenome;
+        }
+        result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
+        result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
+        result.setNumberOfPrunedLaminates(numberOfPrunedLaminates);
+        result.setCacheStatistics(cache);
+    }
+
+    /**
+     * Indizes der Lagen mit unterschiedlichen Winkeln. Winkel, die sich um ein
+     * Vielfaches von 180° unterscheiden, ergeben gleichwertige Lagen.
+     */
+    private int[] getDistinctPlies(int numAngles) {
+        int[] distinct = new int[numAngles];
+        int num = 0;
+        for (int ii = 0; ii < numAngles; ii++) {
+            boolean isNew = true;
+            for (int jj = 0; jj < num && isNew; jj++) {
+                isNew = (template.getPly(ii).getAngle() - template.getPly(distinct[jj]).getAngle()) % 180.0 != 0.0;
+            }
+            if (isNew) {
+                distinct[num++] = ii;
+            }
+        }
+        return Arrays.copyOf(distinct, num);
     }
 
     @Override
@@ -151,5 +300,35 @@ public class BranchAndBoundOptimizer extends Optimizer{
     public boolean onlySymmetricLaminates() {
         return false;
     }
-    
+
+    private DataLayer getSuperlayer(){
+        double EPar = input.getMaterial().getEpar();
+        double nue  = 0.0;
+        double G    = EPar/(2.0*(1.0+nue));
+        DefaultMaterial superMaterial = new DefaultMaterial("", "Supermaterial", EPar, EPar, nue, G, 0.0, false);
+        double RPar = Math.max(input.getMaterial().getRParTen(), input.getMaterial().getRParCom());
+        superMaterial.setRParTen(RPar);
+        superMaterial.setRParCom(RPar);
+        superMaterial.setRNorTen(RPar);
+        superMaterial.setRNorCom(RPar);
+        /*
+        *
+        *  ACHTUNG: Der Schubwert ist durch reine Versuche bestimmt.
+        *
+        */
+        superMaterial.setRShear(2.0*RPar/3.0);
+
+        Criterion criterion = null;
+        Lookup lkp = Lookups.forPath("elamx/failurecriteria");
+        Collection<? extends Criterion> c = lkp.lookupAll(Criterion.class);
+        for (Criterion crit : c) {
+            if (crit instanceof MaxStress) {
+                criterion = crit;
+                break;
+            }
+        }
+
+        return new DataLayer("", "Superlayer", superMaterial,  0.0, input.getThickness(), criterion);
+    }
+
 }
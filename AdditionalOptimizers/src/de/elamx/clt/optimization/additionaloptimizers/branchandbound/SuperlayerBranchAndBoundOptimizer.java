@@ -0,0 +1,57 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.additionaloptimizers.branchandbound;
+
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.clt.optimization.Optimizer;
+import de.elamx.clt.optimization.additionaloptimizers.DummyBundle;
+import org.openide.util.NbBundle;
+import org.openide.util.lookup.ServiceProvider;
+
+/**
+ * Branch-and-Bound-Verfahren, bei dem Teilbäume anhand von Superlagen
+ * verworfen werden (siehe {@link BranchAndBoundOptimizer}). Deutlich weniger
+ * Laminate werden bewertet, das gefundene Laminat ist aber nicht in jedem Fall
+ * das optimale.
+ *
+ * @author Andreas Hauffe
+ */
+@ServiceProvider(service = Optimizer.class)
+public class SuperlayerBranchAndBoundOptimizer extends BranchAndBoundOptimizer {
+
+    public SuperlayerBranchAndBoundOptimizer() {
+        this(null);
+    }
+
+    public SuperlayerBranchAndBoundOptimizer(OptimizationInput input) {
+        super(NbBundle.getMessage(DummyBundle.class, "SuperlayerBranchAndBoundOptimizer.name"), input, true);
+    }
+
+    @Override
+    public Optimizer getInstance(OptimizationInput input) {
+        return new SuperlayerBranchAndBoundOptimizer(input);
+    }
+}
@@ -25,6 +25,7 @@
  */
 package de.elamx.clt.optimization.additionaloptimizers.todoroki;
 
+import de.elamx.clt.optimization.FitnessCache;
 import de.elamx.clt.optimization.OptimizationInput;
 import de.elamx.clt.optimization.Optimizer;
 import de.elamx.clt.optimization.additionaloptimizers.DummyBundle;
@@ -34,7 +35,10 @@ import de.elamx.laminate.DefaultMaterial;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.addFailureCriteria.MaxStress;
 import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.optimization.GenomeEvaluator;
+import de.elamx.laminate.optimization.LaminateGenome;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.PlyTemplate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
@@ -127,8 +131,15 @@ public class TodorokiOptimizer extends Optimizer{
         
         ArrayList<Individuum> allIndivs = new ArrayList<>();
         
+        FitnessCache cache = new FitnessCache();
         
-        allIndivs.add(new Individuum(laminat.getCopyWithoutListener(false),0));
+        // Die Entwürfe werden als LaminateGenome bewertet. Die Lagen mit den
+        // Indizes 0 bis angles.length-1 sind die Winkel, danach folgt die Superlage.
+        PlyTemplate template = PlyTemplate.create(baseLayer, angles, laminat.isSymmetric()).withPly(superLayer);
+        int superPly = angles.length;
+        GenomeEvaluator evaluator = new GenomeEvaluator(template, calculators);
+        
+        allIndivs.add(new Individuum(LaminateGenome.filled(laminat.getOriginalLayers().size(), superPly),0));
         ArrayList<Individuum> allIndivsOld;
         
         while(true){
@@ -142,14 +153,13 @@ public class TodorokiOptimizer extends Optimizer{
             for (Individuum individuum : allIndivsOld) {
 
                 // Ändern der äußersten Superlage
-                Individuum[] indivs = createSubLaminates(individuum, baseLayer, angles);
+                Individuum[] indivs = createSubLaminates(individuum, angles);
 
                 for (Individuum indiv : indivs) {
-                    minResFac = Double.MAX_VALUE;
-                    for (MinimalReserveFactorCalculator calcs : calculators) {
-                        minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(indiv.getLaminat()));
-                        numberOfConstraintEvals++;
-                    }
+                    int numberOfMisses = cache.getNumberOfMisses();
+                    minResFac = cache.getMinimalReserveFactor(FitnessCache.createKey(indiv.getGenome(), template.isSymmetric()),
+                            () -> evaluator.getMinimalReserveFactor(indiv.getGenome()));
+                    numberOfConstraintEvals += (cache.getNumberOfMisses() - numberOfMisses) * calculators.size();
                     numberOfCheckedLaminates++;
                     /*String angleStr = "[";
                     String separator = "";
@@ -167,6 +177,7 @@ public class TodorokiOptimizer extends Optimizer{
                 
                 result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
                 result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
+                result.setCacheStatistics(cache);
             }
             
             /*System.out.println("Anzahl an Individuen nachher: " + allIndivs.size());
@@ -175,14 +186,14 @@ public class TodorokiOptimizer extends Optimizer{
                 System.out.println("" + allIndivs.get(0).outestSuperLayerPosition + " ==  "  + allIndivs.get(0).laminat.getNumberofLayers());
             }*/
             
-            if (!allIndivs.isEmpty() && allIndivs.get(0).outestSuperLayerPosition == (allIndivs.get(0).laminat.isSymmetric() ? allIndivs.get(0).laminat.getNumberofLayers()/2 : allIndivs.get(0).laminat.getNumberofLayers())){
+            if (!allIndivs.isEmpty() && allIndivs.get(0).outestSuperLayerPosition == allIndivs.get(0).genome.getNumberOfLayers()){
                 //System.out.println("Bestes gefunden");
                 break;
             }
 
             if (allIndivs.isEmpty()){
                 laminat.addLayer(superLayer.getCopyWithoutListeners(superLayer.getAngle()));
-                allIndivs.add(new Individuum(laminat.getCopyWithoutListener(false),0));
+                allIndivs.add(new Individuum(LaminateGenome.filled(laminat.getOriginalLayers().size(), superPly),0));
                 //System.out.println("mehr Lagen (" + laminat.getNumberofLayers() + ")");
             }
         
@@ -196,22 +207,24 @@ public class TodorokiOptimizer extends Optimizer{
             }
         }
         
-        result.setBestLaminate(bestIndiv.laminat.getCopyWithoutListener(false));
+        // Nur für das Ergebnis wird ein vollständiges Laminat erzeugt
+        Laminat bestLam = template.createLaminat(bestIndiv.genome);
+        bestLam.setName(laminat.getName());
+        
+        result.setBestLaminate(bestLam.getCopyWithoutListener(false));
         result.setMinReserveFactor(bestIndiv.minReserverFactor);
         result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
         result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
+        result.setCacheStatistics(cache);
         
-        return bestIndiv.laminat;
+        return bestLam;
     }
     
-    private Individuum[] createSubLaminates(Individuum indiv, DataLayer baseLayer, double[] angles){
+    private Individuum[] createSubLaminates(Individuum indiv, double[] angles){
         Individuum[] newIndivs = new Individuum[angles.length];
         for(int ii = 0; ii < angles.length; ii++){
-            Laminat lam = indiv.getLaminat().getCopyWithoutListener(false);
-            DataLayer newLayer = baseLayer.getCopyWithoutListeners(baseLayer.getAngle());
-            newLayer.setAngle(angles[ii]);
-            lam.setLayer(indiv.getOutestSuperLayerPosition(), newLayer);
-            newIndivs[ii] = new Individuum(lam,indiv.getOutestSuperLayerPosition()+1);
+            LaminateGenome genome = indiv.getGenome().withPly(indiv.getOutestSuperLayerPosition(), ii);
+            newIndivs[ii] = new Individuum(genome,indiv.getOutestSuperLayerPosition()+1);
         }
         return newIndivs;
     }
@@ -258,12 +271,12 @@ public class TodorokiOptimizer extends Optimizer{
     
     private class Individuum{
         
-        private final Laminat laminat;
+        private final LaminateGenome genome;
         private double minReserverFactor = 0.0;
         private int outestSuperLayerPosition = 0;
 
-        public Individuum(Laminat laminat, int outestSuperLayerPosition) {
-            this.laminat = laminat;
+        public Individuum(LaminateGenome genome, int outestSuperLayerPosition) {
+            this.genome = genome;
             this.outestSuperLayerPosition = outestSuperLayerPosition;
         }
         /**
@@ -303,12 +316,12 @@ public class TodorokiOptimizer extends Optimizer{
         }
 
         /**
-         * Get the value of laminat
+         * Get the value of genome
          *
-         * @return the value of laminat
+         * @return the value of genome
          */
-        public Laminat getLaminat() {
-            return laminat;
+        public LaminateGenome getGenome() {
+            return genome;
         }
 
     }
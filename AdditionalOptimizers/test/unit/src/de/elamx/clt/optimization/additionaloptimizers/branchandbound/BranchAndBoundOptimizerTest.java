@@ -0,0 +1,155 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.additionaloptimizers.branchandbound;
+
+import de.elamx.clt.CLT_Input;
+import de.elamx.clt.optimization.MinimalReserveFactorImplementation;
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import de.elamx.laminate.optimization.GenomeEvaluator;
+import de.elamx.laminate.optimization.LaminateGenome;
+import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.PlyTemplate;
+import java.util.ArrayList;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Vergleich des Branch-and-Bound-Verfahrens mit einer vollständigen Suche.
+ *
+ * @author Andreas Hauffe
+ */
+public class BranchAndBoundOptimizerTest {
+
+    private static final double[] ANGLES = {0.0, 45.0, -45.0, 90.0};
+    private static final double THICKNESS = 0.125;
+
+    private static final double[][] LOADS = {
+        {-300.0, 100.0, 120.0, 0.0, 0.0, 0.0},
+        {400.0, -200.0, 50.0, 0.0, 0.0, 0.0},
+        {-200.0, -100.0, 0.0, 15.0, 5.0, 0.0}};
+
+    public BranchAndBoundOptimizerTest() {
+    }
+
+    private static DefaultMaterial createMaterial() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+        mat.setRParTen(2000.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(50.0);
+        mat.setRNorCom(200.0);
+        mat.setRShear(80.0);
+        return mat;
+    }
+
+    private static ArrayList<MinimalReserveFactorCalculator> createCalculators(double[] loads) {
+        CLT_Input input = new CLT_Input();
+        input.getLoad().setN_x(loads[0]);
+        input.getLoad().setN_y(loads[1]);
+        input.getLoad().setN_xy(loads[2]);
+        input.getLoad().setM_x(loads[3]);
+        input.getLoad().setM_y(loads[4]);
+        input.getLoad().setM_xy(loads[5]);
+        ArrayList<MinimalReserveFactorCalculator> calculators = new ArrayList<>();
+        calculators.add(new MinimalReserveFactorImplementation(input));
+        return calculators;
+    }
+
+    /**
+     * Vollständige Suche über alle Lagenaufbauten mit zunehmender Lagenanzahl.
+     *
+     * @return {Lagenanzahl des Genoms, größter Reservefaktor}
+     */
+    private static double[] bruteForce(PlyTemplate template, GenomeEvaluator evaluator) {
+        for (int numLayers = 1; ; numLayers++) {
+            double bestReserveFactor = -Double.MAX_VALUE;
+            int total = (int) Math.pow(ANGLES.length, numLayers);
+            for (int code = 0; code < total; code++) {
+                short[] plies = new short[numLayers];
+                int rest = code;
+                for (int ii = 0; ii < numLayers; ii++) {
+                    plies[ii] = (short) (rest % ANGLES.length);
+                    rest /= ANGLES.length;
+                }
+                bestReserveFactor = Math.max(bestReserveFactor, evaluator.getMinimalReserveFactor(new LaminateGenome(plies)));
+            }
+            if (bestReserveFactor >= 1.0) {
+                return new double[]{numLayers, bestReserveFactor};
+            }
+        }
+    }
+
+    private static int binomial(int n, int k) {
+        int result = 1;
+        for (int ii = 1; ii <= k; ii++) {
+            result = result * (n - k + ii) / ii;
+        }
+        return result;
+    }
+
+    @Test
+    public void exactSearchMatchesBruteForce() {
+        DefaultMaterial mat = createMaterial();
+        for (boolean symmetric : new boolean[]{true, false}) {
+            for (double[] loads : LOADS) {
+                ArrayList<MinimalReserveFactorCalculator> calculators = createCalculators(loads);
+                DataLayer baseLayer = new DataLayer("", "Layer", mat, 0.0, THICKNESS);
+                OptimizationInput input = new OptimizationInput(ANGLES, THICKNESS, mat, baseLayer.getCriterion(), calculators, symmetric);
+
+                BranchAndBoundOptimizer optimizer = new BranchAndBoundOptimizer(input);
+                Laminat best = optimizer.internalOptimize();
+
+                PlyTemplate template = PlyTemplate.create(baseLayer, ANGLES, symmetric);
+                double[] expected = bruteForce(template, new GenomeEvaluator(template, calculators));
+
+                int expectedLayers = (int) expected[0] * (symmetric ? 2 : 1);
+                assertEquals(expectedLayers, best.getNumberofLayers());
+                assertEquals(expected[1], optimizer.getResult().getMinReserveFactor(), 1.0E-12 * expected[1]);
+                assertTrue(optimizer.getResult().isFinished());
+
+                boolean inPlane = loads[3] == 0.0 && loads[4] == 0.0 && loads[5] == 0.0;
+                assertEquals(inPlane, calculators.get(0).isStackingSequenceIrrelevant());
+                if (symmetric && inPlane) {
+                    // jede Kombination von Lagen wird höchstens einmal bewertet
+                    int combinations = 0;
+                    for (int numLayers = 1; numLayers <= expected[0]; numLayers++) {
+                        combinations += binomial(numLayers + ANGLES.length - 1, numLayers);
+                    }
+                    assertTrue(optimizer.getResult().getNumberOfCheckedLaminates() <= combinations);
+                }
+            }
+        }
+    }
+}
@@ -42,13 +42,15 @@ public class CarpetPlotCalculator {
 
     private double[][] Q_0, Q_45, Q_m45, Q_90;
 
+    private final double[] Qtot  = new double[9];    // Steifigkeitsmatrix des Laminats, zeilenweise
+    private final double[] iQtot = new double[9];    // Inverse, zeilenweise
+
     public CarpetPlotCalculator(LayerMaterial material) {
         this.material = material;
     }
 
     public double[][] getChartData(double fraction0, int nP, int type, boolean with90Deg) {
         double[][] data = new double[2][nP];
-        double[][] Qtot = new double[3][3];
         ValueCalculator valCal;
         switch(type){
             case VAL_EX:
@@ -77,11 +79,11 @@ public class CarpetPlotCalculator {
 
             for (int mm = 0; mm < 3; mm++) {
                 for (int nn = 0; nn < 3; nn++) {
-                    Qtot[mm][nn] = fraction0 * Q_0[mm][nn] + fraction45 * Q_45[mm][nn] / 2.0 + fraction45 * Q_m45[mm][nn] / 2.0 + fraction90 * Q_90[mm][nn];
+                    Qtot[3 * mm + nn] = fraction0 * Q_0[mm][nn] + fraction45 * Q_45[mm][nn] / 2.0 + fraction45 * Q_m45[mm][nn] / 2.0 + fraction90 * Q_90[mm][nn];
                 }
             }
 
-            double[][] iQtot = MatrixTools.getInverse(Qtot);
+            MatrixTools.invert3x3(Qtot, iQtot);
 
             data[0][ii] = fraction45;
             data[1][ii] = valCal.getValue(iQtot);
@@ -147,14 +149,14 @@ public class CarpetPlotCalculator {
     }
     
     private interface ValueCalculator{
-        public double getValue(double[][] Qmat);
+        public double getValue(double[] Qmat);
     }
     
     private class ExCalculator implements ValueCalculator{
 
         @Override
-        public double getValue(double[][] Qmat) {
-            return 1.0 / Qmat[0][0];
+        public double getValue(double[] Qmat) {
+            return 1.0 / Qmat[0];
         }
         
     }
@@ -162,8 +164,8 @@ public class CarpetPlotCalculator {
     private class NuexyCalculator implements ValueCalculator{
 
         @Override
-        public double getValue(double[][] Qmat) {
-            return -Qmat[0][1]/Qmat[0][0];
+        public double getValue(double[] Qmat) {
+            return -Qmat[1]/Qmat[0];
         }
         
     }
@@ -171,8 +173,8 @@ public class CarpetPlotCalculator {
     private class GxyCalculator implements ValueCalculator{
 
         @Override
-        public double getValue(double[][] Qmat) {
-            return 1.0 / Qmat[2][2];
+        public double getValue(double[] Qmat) {
+            return 1.0 / Qmat[8];
         }
         
     }
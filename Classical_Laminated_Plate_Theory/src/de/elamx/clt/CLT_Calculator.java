@@ -35,6 +35,7 @@ import de.elamx.laminate.StressStrainState;
 import de.elamx.laminate.failure.ReserveFactor;
 import de.elamx.mathtools.MatrixTools;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -59,20 +60,42 @@ public class CLT_Calculator {
             return;
         }
 
-        double[] formom = loads.getForceMomentAsVector();
-        double[] epskappa = strains.getEpsilonKappaAsVector();
+        CLT_Workspace ws = new CLT_Workspace();
+        ws.setLoads(loads);
+        ws.setStrains(strains);
+
+        determineValues(lam, ws, useStrain);
+
+        // Speichern der Ergebnisse
+        ws.writeResults(loads, strains, useStrain);
+    }
+
+    /**
+     * Allokationsfreie Variante von
+     * {@link #determineValues(CLT_Laminate, Loads, Strains, boolean[])}. Die
+     * vorgegebenen Größen werden aus dem Arbeitsspeicher <code>ws</code>
+     * gelesen und die berechneten Größen (Kräfte oder Verzerrungen) sowie die
+     * hygrothermalen Schnittlasten dort abgelegt.
+     *
+     * @param lam Laminat
+     * @param ws Arbeitsspeicher mit Lasten und Verzerrungen
+     * @param useStrain Boolean-Vektor der Länge 6
+     */
+    public static void determineValues(CLT_Laminate lam, CLT_Workspace ws, boolean[] useStrain) {
+
+        double[] formom = ws.getForceMoment();
+        double[] epskappa = ws.getEpsilonKappa();
 
-        // Berechnen der rechten-Hand-Seite des Gleichungssystems
-        // (je nachdem was gewählt pro Zeile Schnittlasten oder Verzerrungen, gespeichert in "werte")
         // hygrothermale Schnittlasten berechnen
-        double[] tForce = getHygroThermalForces(lam, loads);
+        double[] tForce = ws.getHygrothermalForces();
+        getHygroThermalForces(lam, ws.getDeltaT(), ws.getDeltaH(), tForce, ws.qMatGlobal);
 
         /*
          * Aufstellen der rechten Seite des Gleichungssystems. Dabei muss das
          * vertauschen von linker und rechter Seite berücksichtigt werden.
          * Im Falle von Lasten, werden die thermischen Lasten dazuaddiert.
          */
-        double[] rhs = new double[6];
+        double[] rhs = ws.rhs;
         for (int i = 0; i < 6; i++) {
             if (useStrain[i]) {
                 rhs[i] = epskappa[i];
@@ -85,48 +108,146 @@ public class CLT_Calculator {
          * Lösen des Gleichungssystems inklusive vertauschen der linken und
          * rechten Seite des Gleichungssystems.
          */
-        double[] results = MatrixTools.solveAbWithExchange(lam.getABDMatrix(), rhs, useStrain);
-
+        double[] results = ws.solution;
+        int nStrain = 0;
         for (int i = 0; i < 6; i++) {
             if (useStrain[i]) {
-                results[i] -= tForce[i];
+                nStrain++;
             }
         }
-
-        // Speichern der Ergebnisse
-        if (useStrain[0]) {
-            loads.setN_x(results[0]);
-        } else {
-            strains.setEpsilon_x(results[0]);
-        }
-        if (useStrain[1]) {
-            loads.setN_y(results[1]);
+        if (nStrain == 0) {
+            // reine Lastvorgabe: eps = ABD^-1 * (N + N_th)
+            multiply6x6(lam.getInvABDMatrix(), rhs, results);
+        } else if (nStrain == 6) {
+            // reine Verzerrungsvorgabe: N + N_th = ABD * eps
+            multiply6x6(lam.getABDMatrix(), rhs, results);
         } else {
-            strains.setEpsilon_y(results[1]);
+            MatrixTools.solveAbWithExchange(lam.getABDMatrix(), rhs, useStrain, ws.abdWork, results);
         }
-        if (useStrain[2]) {
-            loads.setN_xy(results[2]);
-        } else {
-            strains.setGamma_xy(results[2]);
+
+        for (int i = 0; i < 6; i++) {
+            if (useStrain[i]) {
+                formom[i] = results[i] - tForce[i];
+            } else {
+                epskappa[i] = results[i];
+            }
         }
-        if (useStrain[3]) {
-            loads.setM_x(results[3]);
-        } else {
-            strains.setKappa_x(results[3]);
+    }
+
+    /**
+     * Berechnet die nicht vorgegebenen Größen für mehrere Lastfälle eines
+     * Laminats. Die Lasten und Verzerrungen werden aus den übergebenen
+     * Objekten gelesen und die Ergebnisse wie bei
+     * {@link #determineValues(CLT_Laminate, Loads, Strains, boolean[])}
+     * zurückgeschrieben.
+     *
+     * @param lam Laminat
+     * @param loads Lasten der Lastfälle
+     * @param strains Verzerrungen der Lastfälle
+     * @param useStrain Boolean-Vektoren der Länge 6 der Lastfälle
+     */
+    public static void determineValues(CLT_Laminate lam, Loads[] loads, Strains[] strains, boolean[][] useStrain) {
+        int num = loads.length;
+        double[][] forceMoment = new double[num][];
+        double[][] epsilonKappa = new double[num][];
+        double[] deltaT = new double[num];
+        double[] deltaH = new double[num];
+        double[][] hygrothermalForces = new double[num][6];
+        for (int ii = 0; ii < num; ii++) {
+            forceMoment[ii] = loads[ii].getForceMomentAsVector();
+            epsilonKappa[ii] = strains[ii].getEpsilonKappaAsVector();
+            deltaT[ii] = loads[ii].getDeltaT();
+            deltaH[ii] = loads[ii].getDeltaH();
         }
-        if (useStrain[4]) {
-            loads.setM_y(results[4]);
-        } else {
-            strains.setKappa_y(results[4]);
+
+        determineValues(lam, forceMoment, epsilonKappa, deltaT, deltaH, useStrain, hygrothermalForces);
+
+        for (int ii = 0; ii < num; ii++) {
+            CLT_Workspace.writeResults(forceMoment[ii], epsilonKappa[ii], hygrothermalForces[ii], loads[ii], strains[ii], useStrain[ii]);
         }
-        if (useStrain[5]) {
-            loads.setM_xy(results[5]);
-        } else {
-            strains.setKappa_xy(results[5]);
+    }
+
+    private static void multiply6x6(double[][] mat, double[] vec, double[] result) {
+        for (int i = 0; i < 6; i++) {
+            double[] row = mat[i];
+            result[i] = row[0] * vec[0] + row[1] * vec[1] + row[2] * vec[2]
+                      + row[3] * vec[3] + row[4] * vec[4] + row[5] * vec[5];
         }
+    }
 
-        // Setzen der hygrothermalen Kräfte
-        loads.setHygrothermalForcesAsVector(tForce);
+    /**
+     * Berechnet die nicht vorgegebenen Größen für N Lastfälle eines Laminats.
+     * Die ABD-Matrix wird dabei für jeden unterschiedlichen
+     * <code>useStrain</code>-Vektor nur einmal getauscht und faktorisiert,
+     * anschließend werden alle zugehörigen Lastfälle nur noch durch Vorwärts-
+     * und Rückwärtseinsetzen gelöst. Die hygrothermalen Schnittlasten werden
+     * aus den Einheitslasten für &Delta;T = 1 und &Delta;H = 1
+     * zusammengesetzt.<br>
+     * Die Felder sind spaltenweise nach Lastfall organisiert, d.h. der erste
+     * Index ist der Lastfall.
+     *
+     * @param lam Laminat
+     * @param forceMoment Schnittlasten [N][6], Eingabe bzw. Ergebnis
+     * @param epsilonKappa Verzerrungen [N][6], Eingabe bzw. Ergebnis
+     * @param deltaT Temperaturänderungen [N]
+     * @param deltaH Änderungen der relativen Feuchte [N]
+     * @param useStrain Boolean-Vektoren der Länge 6 [N][6]
+     * @param hygrothermalForces Ergebnis hygrothermale Schnittlasten [N][6]
+     */
+    public static void determineValues(CLT_Laminate lam, double[][] forceMoment, double[][] epsilonKappa,
+            double[] deltaT, double[] deltaH, boolean[][] useStrain, double[][] hygrothermalForces) {
+        int num = forceMoment.length;
+
+        // hygrothermale Schnittlasten sind linear in deltaT und deltaH
+        double[][] qMatrix = new double[3][3];
+        double[] unitT = new double[6];
+        double[] unitH = new double[6];
+        getHygroThermalForces(lam, 1.0, 0.0, unitT, qMatrix);
+        getHygroThermalForces(lam, 0.0, 1.0, unitH, qMatrix);
+
+        double[][] abd = lam.getABDMatrix();
+        double[][] lu = new double[6][6];
+        double[] rhs = new double[6];
+        double[] results = new double[6];
+        boolean[] solved = new boolean[num];
+
+        for (int ii = 0; ii < num; ii++) {
+            if (solved[ii]) {
+                continue;
+            }
+            boolean[] mask = useStrain[ii];
+            MatrixTools.factorizeLUWithExchange(abd, mask, lu);
+
+            for (int jj = ii; jj < num; jj++) {
+                if (solved[jj] || !Arrays.equals(mask, useStrain[jj])) {
+                    continue;
+                }
+                solved[jj] = true;
+
+                double[] formom = forceMoment[jj];
+                double[] epskappa = epsilonKappa[jj];
+                double[] tForce = hygrothermalForces[jj];
+
+                for (int i = 0; i < 6; i++) {
+                    tForce[i] = deltaT[jj] * unitT[i] + deltaH[jj] * unitH[i];
+                    if (mask[i]) {
+                        rhs[i] = epskappa[i];
+                    } else {
+                        rhs[i] = formom[i] + tForce[i];
+                    }
+                }
+
+                MatrixTools.solveLU(lu, rhs, results);
+
+                for (int i = 0; i < 6; i++) {
+                    if (mask[i]) {
+                        formom[i] = results[i] - tForce[i];
+                    } else {
+                        epskappa[i] = results[i];
+                    }
+                }
+            }
+        }
     }
 
     public static CLT_LayerResult[] getLayerResults(CLT_Laminate laminat, Loads load, Strains strain) {
@@ -156,6 +277,65 @@ public class CLT_Calculator {
         return results;
     }
 
+    /**
+     * Allokationsfreie Berechnung der Schichtspannungen und Reservefaktoren
+     * an Ober- und Unterseite aller Schichten. Als Verzerrungen werden die im
+     * Arbeitsspeicher <code>ws</code> abgelegten Werte verwendet, die
+     * Ergebnisse werden in dessen Schichtfelder geschrieben. Die
+     * Versagenskriterien liefern weiterhin jeweils ein
+     * <code>ReserveFactor</code>-Objekt, von dem nur der Reservefaktor und die
+     * Versagensart übernommen werden.
+     *
+     * @param laminat Laminat
+     * @param ws Arbeitsspeicher
+     */
+    public static void calcLayerResults(CLT_Laminate laminat, CLT_Workspace ws) {
+        CLT_Layer[] clt_layers = laminat.getCLTLayers();
+        ws.ensureNumberOfLayers(clt_layers.length);
+
+        double[] epskappa = ws.getEpsilonKappa();
+        double deltaTemp = ws.getDeltaT();
+        double deltaHygro = ws.getDeltaH();
+
+        for (int ii = 0; ii < clt_layers.length; ii++) {
+            CLT_Layer cl = clt_layers[ii];
+            Layer l = cl.getLayer();
+
+            for (int position = CLT_Layer.POSITION_UPPER; position <= CLT_Layer.POSITION_LOWER; position++) {
+                int index = CLT_Workspace.getIndex(ii, position);
+                StressStrainState sss = ws.getStressStrainState(index);
+                cl.getStressState(epskappa, deltaTemp, deltaHygro, position, ws.getStrainGlobal(index), sss.getStrain(), sss.getStress(), ws.getStressGlobal(index));
+
+                ReserveFactor rf = l.getCriterion().getReserveFactor(l.getMaterial(), l, sss);
+                ws.setReserveFactor(index, rf.getMinimalReserveFactor(), rf.getFailureType());
+            }
+        }
+    }
+
+    /**
+     * Berechnet die Reservefaktoren an Ober- und Unterseite aller Schichten
+     * für N Lastfälle. Die Reservefaktoren eines Lastfalls werden wie im
+     * {@link CLT_Workspace} über <code>2 * Schichtindex + Position</code>
+     * adressiert.
+     *
+     * @param laminat Laminat
+     * @param epsilonKappa Verzerrungen [N][6]
+     * @param deltaT Temperaturänderungen [N]
+     * @param deltaH Änderungen der relativen Feuchte [N]
+     * @param reserveFactors Ergebnis Reservefaktoren [N][2 * Schichtanzahl]
+     */
+    public static void calcLayerResults(CLT_Laminate laminat, double[][] epsilonKappa, double[] deltaT, double[] deltaH, double[][] reserveFactors) {
+        CLT_Workspace ws = new CLT_Workspace(laminat);
+        int num = 2 * ws.getNumberOfLayers();
+        for (int ii = 0; ii < epsilonKappa.length; ii++) {
+            System.arraycopy(epsilonKappa[ii], 0, ws.getEpsilonKappa(), 0, 6);
+            ws.setDeltaT(deltaT[ii]);
+            ws.setDeltaH(deltaH[ii]);
+            calcLayerResults(laminat, ws);
+            System.arraycopy(ws.getReserveFactors(), 0, reserveFactors[ii], 0, num);
+        }
+    }
+
     public static CLT_LayerResult[] getLayerResults_radial(CLT_Laminate laminat, Loads load, Strains strain, double meanRadius) {
         CLT_Layer[] clt_layers = laminat.getCLTLayers();
 
@@ -185,90 +365,56 @@ public class CLT_Calculator {
 
     public static double[] getHygroThermalForces(CLT_Laminate lam, Loads loads) {
         double[] forces = new double[6];
+        getHygroThermalForces(lam, loads.getDeltaT(), loads.getDeltaH(), forces, new double[3][3]);
+        return forces;
+    }
 
-        if (loads.getDeltaH() == 0.0 && loads.getDeltaT() == 0.0) {
-            return forces;
+    /**
+     * Berechnet die hygrothermalen Schnittlasten ohne neuen Speicher
+     * anzulegen.
+     *
+     * @param lam Laminat
+     * @param deltaT Temperaturänderung
+     * @param deltaH Änderung der relativen Feuchte
+     * @param forces Ergebnisvektor der Länge 6
+     * @param qMatrix Arbeitsfeld 3x3 für die globale Q-Matrix
+     */
+    static void getHygroThermalForces(CLT_Laminate lam, double deltaT, double deltaH, double[] forces, double[][] qMatrix) {
+        for (int i = 0; i < 6; i++) {
+            forces[i] = 0.0;
+        }
+
+        if (deltaH == 0.0 && deltaT == 0.0) {
+            return;
         }
 
-        double[] nt = new double[]{0.0, 0.0, 0.0};
-        double[] mt = new double[]{0.0, 0.0, 0.0};
         for (CLT_Layer layer : lam.getCLTLayers()) {
 
             // Winkel
             double angle = layer.getLayer().getAngle() * Math.PI / 180.0;
             // globale Q-Matrix
-            double[][] qMatrix = layer.getQMatGlobal();
+            layer.getQMatGlobal(qMatrix);
             //
             Material mat = layer.getLayer().getMaterial();
 
-            // calculate alpha_i and beta_i values
-            double[] alpha_i = calc_angle_i(mat.getAlphaTPar(), mat.getAlphaTNor(), angle);
-            double[] beta_i = calc_angle_i(mat.getBetaPar(), mat.getBetaNor(), angle);
-
-            double[] hygroCoeff = calcHygroCoeff(alpha_i, beta_i, loads.getDeltaT(), loads.getDeltaH());
-
-            double[] qalpha = MatrixTools.MatVecMult(qMatrix, hygroCoeff);
-
-            double[] qalpha_t = MatrixTools.multiply(qalpha, layer.getLayer().getThickness());
-            nt = MatrixTools.add(nt, qalpha_t);
-
-            double[] qalpha_tz = MatrixTools.multiply(qalpha_t, layer.getZm());
-            mt = MatrixTools.add(mt, qalpha_tz);
-        }
-
-        forces[0] = nt[0];
-        forces[1] = nt[1];
-        forces[2] = nt[2];
-        forces[3] = mt[0];
-        forces[4] = mt[1];
-        forces[5] = mt[2];
-
-        return forces;
-    }
-
-    /**
-     * interne hilfsmethode zur berechnung von winkel alpha i
-     *
-     * @param angleTparallel als {@link double} value
-     * @param angleTvertical als {@link double} value
-     * @param angle als {@link double} value
-     * @return double array with alphaX on position 0, alphaY o position 1,
-     * alphaXY on position 2
-     */
-    private static double[] calc_angle_i(double angleTparallel, double angleTvertical, double angle) {
-
-        double[] rs = new double[3];
-
-        double c = Math.cos(angle);
-        double c2 = c * c;
-
-        double s = Math.sin(angle);
-        double s2 = s * s;
-
-        rs[0] = angleTparallel * c2 + angleTvertical * s2;
-        rs[1] = angleTparallel * s2 + angleTvertical * c2;
-        rs[2] = 2.0 * (angleTparallel - angleTvertical) * s * c;
-
-        return rs;
-    }
-
-    /**
-     * interne hilfsmethode zur Berechnung des Hygro Koffizienten
-     *
-     * @param alpha_i {@link double} array mit Werten von alpha i
-     * @param beta_i {@link double} array mit Werten von beta i
-     * @param deltaT Wert fuer delta t
-     * @param deltaC Wert fuer delta c
-     * @return {@link double} array mit Werten fuer hygro koeffizienten
-     */
-    private static double[] calcHygroCoeff(double[] alpha_i, double[] beta_i, double deltaT, double deltaC) {
-        double[] rs = new double[3];
-
-        for (int i = 0; i < 3; i++) {
-            rs[i] = alpha_i[i] * deltaT + beta_i[i] * deltaC;
+            double c = Math.cos(angle);
+            double s = Math.sin(angle);
+            double c2 = c * c;
+            double s2 = s * s;
+
+            // alpha_i und beta_i im globalen System sowie hygrothermale Dehnungen
+            double h0 = (mat.getAlphaTPar() * c2 + mat.getAlphaTNor() * s2) * deltaT + (mat.getBetaPar() * c2 + mat.getBetaNor() * s2) * deltaH;
+            double h1 = (mat.getAlphaTPar() * s2 + mat.getAlphaTNor() * c2) * deltaT + (mat.getBetaPar() * s2 + mat.getBetaNor() * c2) * deltaH;
+            double h2 = 2.0 * (mat.getAlphaTPar() - mat.getAlphaTNor()) * s * c * deltaT + 2.0 * (mat.getBetaPar() - mat.getBetaNor()) * s * c * deltaH;
+
+            double t = layer.getLayer().getThickness();
+            double zm = layer.getZm();
+            for (int i = 0; i < 3; i++) {
+                double qalpha_t = (qMatrix[i][0] * h0 + qMatrix[i][1] * h1 + qMatrix[i][2] * h2) * t;
+                forces[i] += qalpha_t;
+                forces[i + 3] += qalpha_t * zm;
+            }
         }
-
-        return rs;
     }
 
     public static CLT_LastPlyFailureResult determineValuesLastPlyFailure(CLT_Laminate lam, Loads loads, Strains strains, boolean[] useStrain,
@@ -27,8 +27,10 @@ package de.elamx.clt;
 
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.Layer;
+import de.elamx.laminate.Material;
 import de.elamx.mathtools.MatrixTools;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Diese Klasse repräsentiert ein gesamten Laminat bestehend aus 
@@ -50,7 +52,8 @@ public class CLT_Laminate extends CLT_Object{
     private final double[][] B      = new double[3][3];  // B-Matrix
     private final double[][] D      = new double[3][3];  // D-Matrix
     private final double[][] ABD    = new double[6][6];  // ABD-Matrix
-    private double[][] ABDInv = new double[6][6];  // Inverse ABD-Matrix
+    private final double[][] ABDInv = new double[6][6];  // Inverse ABD-Matrix
+    private final double[] abdWork = new double[72];     // Arbeitsfeld für die Inversion
     private double  tges      = 0.0;               // Gesamtdicke des Laminats
     private boolean isSym     = false;             // Flag, ob das Laminat symmetrisch aufgebaut ist
 
@@ -63,6 +66,22 @@ public class CLT_Laminate extends CLT_Object{
     
     private CLT_Layer[] layers;
     
+    /*
+     * Zustand, mit dem die ABD-Matrix zuletzt aufgebaut wurde. Damit kann bei
+     * reinen Winkeländerungen nur der Beitrag der geänderten Schichten
+     * ausgetauscht werden, siehe updateChangedLayers().
+     */
+    private static final int MAX_INCREMENTAL_UPDATES = 1000;
+    private Layer[] dataLayers;              // Schichten ohne symmetrische Schichten
+    private boolean symmetric, withMiddleLayer, invertZ;
+    private double offset;
+    private double[] layerAngles;            // Winkel je Schicht
+    private double[] layerThicknesses;       // Dicke je Schicht
+    private double[][] layerMaterialValues;  // E_par, E_nor, nu12, nu21, G je Schicht
+    private double[][][] layerQglo;          // globale Q-Matrix je Schicht
+    private CLT_LaminationParameters lamParams; // nur bei Laminaten aus einem Material
+    private int incrementalUpdates = 0;
+    
     /** 
      * Konstruktor eines neues Laminats. Übergeben wird dazu der Lagenaufbau als
      * <CODE>ArrayList&lt;Layer&gt;</CODE>, der die einzelnen <CODE>Layer</CODE>-Objekte enthält.
@@ -84,15 +103,38 @@ public class CLT_Laminate extends CLT_Object{
 
     /**
      * Alle notwendigen Daten des Laminates werden neu berechnet.
-     * Bisher wird nur die ABD-Matrix neu bestimmt.
+     * Bisher wird nur die ABD-Matrix neu bestimmt. Haben sich seit dem letzten
+     * Aufruf nur Schichtwinkel geändert, werden nur die Beiträge der
+     * geänderten Schichten in der ABD-Matrix ausgetauscht.
      */
     @Override
     public final void refresh(){
-        initCLTLayers();
-        calcABD();
+        if (!updateChangedLayers()) {
+            initCLTLayers();
+            calcABD();
+        }
         calculateNonDimensionalParameters();
     }
     
+    /**
+     * Setzt den Winkel der Schicht mit dem Index <CODE>index</CODE> (ohne
+     * symmetrische Schichten) und aktualisiert die ABD-Matrix inkrementell.
+     * Es wird nur der Beitrag der geänderten Schicht und ggf. ihrer
+     * symmetrischen Schicht ausgetauscht, die übrigen Schichten werden nicht
+     * neu berechnet. Gedacht ist die Methode für Optimierer, die nacheinander
+     * einzelne Schichtwinkel variieren.
+     * @param index Index der Schicht im Lagenaufbau ohne symmetrische Schichten
+     * @param angle neuer Winkel im Gradmaß
+     */
+    public void setLayerAngle(int index, double angle){
+        laminat.getOriginalLayers().get(index).setAngle(angle);
+        /*
+         * Im Normalfall wurde das Laminat über die Änderungsbenachrichtigung
+         * bereits aktualisiert und hier wird nichts mehr gemacht.
+         */
+        refresh();
+    }
+    
     public CLT_Layer[] getCLTLayers(){
         return layers;
     }
@@ -101,7 +143,7 @@ public class CLT_Laminate extends CLT_Object{
         
         int numLayers = layers.length;
         
-        double[][] Qglo;
+        double[][] Qglo = new double[3][3];
         double[] zm = new double[numLayers];
         double t;
         CLT_Layer layer;
@@ -127,20 +169,157 @@ public class CLT_Laminate extends CLT_Object{
                 D[m][n] = 0.0;
             }
         }
+        /*
+         * Laminate aus nur einem Material werden über die Laminatparameter
+         * berechnet, dafür sind keine transformierten Q-Matrizen nötig.
+         */
+        lamParams = CLT_LaminationParameters.isSingleMaterial(laminat) ? new CLT_LaminationParameters(laminat) : null;
+        if (lamParams != null) {
+            lamParams.getABD(A, B, D);
+        } else {
+            for (int i = 0; i < numLayers; i++){
+                layer = layers[i];
+                layer.getQMatGlobal(Qglo);
+                t     = layer.getLayer().getThickness();
+
+                for (int m = 0; m < 3; m++){
+                    for (int n = 0; n < 3; n++){
+                        temp = Qglo[m][n] * t;
+                        A[m][n] += temp;
+                        B[m][n] += temp * zm[i];
+                        D[m][n] += temp * (t*t/12.0 + zm[i]*zm[i]);
+                    }
+                }
+            }
+        }
+        
+        storeState();
+        assembleABD();
+    }
+    
+    /**
+     * Speichert den Zustand, mit dem die ABD-Matrix aufgebaut wurde.
+     */
+    private void storeState(){
+        int numLayers = layers.length;
+        
+        ArrayList<? extends Layer> origLayers = laminat.getOriginalLayers();
+        dataLayers      = origLayers.toArray(new Layer[origLayers.size()]);
+        symmetric       = laminat.isSymmetric();
+        withMiddleLayer = laminat.isWithMiddleLayer();
+        invertZ         = laminat.isInvertZ();
+        offset          = laminat.getOffset();
+        
+        layerAngles         = new double[numLayers];
+        layerThicknesses    = new double[numLayers];
+        layerMaterialValues = new double[numLayers][];
+        layerQglo           = lamParams == null ? new double[numLayers][3][3] : null;
         for (int i = 0; i < numLayers; i++){
-            layer = layers[i];
-            Qglo  = layer.getQMatGlobal();
-            t     = layer.getLayer().getThickness();
-
+            Layer l = layers[i].getLayer();
+            layerAngles[i]         = l.getAngle();
+            layerThicknesses[i]    = l.getThickness();
+            layerMaterialValues[i] = getMaterialValues(l);
+            if (layerQglo != null) {
+                layers[i].getQMatGlobal(layerQglo[i]);
+            }
+        }
+        incrementalUpdates = 0;
+    }
+    
+    private static double[] getMaterialValues(Layer layer){
+        Material material = layer.getMaterial();
+        return new double[]{material.getEpar(), material.getEnor(), material.getNue12(), material.getNue21(), material.getG()};
+    }
+    
+    /**
+     * Tauscht die Beiträge aller Schichten, deren Winkel sich seit dem letzten
+     * Aufbau der ABD-Matrix geändert hat, aus. Das ist nur möglich, wenn sich
+     * weder der Lagenaufbau noch Dicken oder Materialkennwerte geändert haben.
+     * Nach {@value #MAX_INCREMENTAL_UPDATES} inkrementellen Aktualisierungen
+     * wird die ABD-Matrix wieder vollständig aufgebaut, um die Anhäufung von
+     * Rundungsfehlern zu begrenzen.
+     * @return <CODE>true</CODE>, wenn die ABD-Matrix aktuell ist, sonst muss
+     * sie vollständig neu aufgebaut werden
+     */
+    private boolean updateChangedLayers(){
+        if (layers == null || incrementalUpdates >= MAX_INCREMENTAL_UPDATES
+                || symmetric != laminat.isSymmetric()
+                || withMiddleLayer != laminat.isWithMiddleLayer()
+                || invertZ != laminat.isInvertZ()
+                || offset != laminat.getOffset()){
+            return false;
+        }
+        
+        ArrayList<? extends Layer> origLayers = laminat.getOriginalLayers();
+        if (origLayers.size() != dataLayers.length) {
+            return false;
+        }
+        for (int i = 0; i < dataLayers.length; i++){
+            if (origLayers.get(i) != dataLayers[i]) {
+                return false;
+            }
+        }
+        
+        int numLayers = layers.length;
+        boolean changed = false;
+        for (int i = 0; i < numLayers; i++){
+            Layer l = layers[i].getLayer();
+            if (l.getThickness() != layerThicknesses[i] || !Arrays.equals(getMaterialValues(l), layerMaterialValues[i])) {
+                return false;
+            }
+            changed |= l.getAngle() != layerAngles[i];
+        }
+        if (!changed) {
+            return true;
+        }
+        
+        if (lamParams != null) {
+            for (int i = 0; i < dataLayers.length; i++){
+                lamParams.setAngle(i, dataLayers[i].getAngle());
+            }
+            for (int i = 0; i < numLayers; i++){
+                layerAngles[i] = layers[i].getLayer().getAngle();
+            }
+            lamParams.getABD(A, B, D);
+            incrementalUpdates++;
+            
+            assembleABD();
+            return true;
+        }
+        
+        double[][] Qglo = new double[3][3];
+        double t, zm, temp;
+        for (int i = 0; i < numLayers; i++){
+            Layer l = layers[i].getLayer();
+            if (l.getAngle() == layerAngles[i]) {
+                continue;
+            }
+            layers[i].getQMatGlobal(Qglo);
+            t  = layerThicknesses[i];
+            zm = layers[i].getZm();
+            
             for (int m = 0; m < 3; m++){
                 for (int n = 0; n < 3; n++){
-                    temp = Qglo[m][n] * t;
+                    temp = (Qglo[m][n] - layerQglo[i][m][n]) * t;
                     A[m][n] += temp;
-                    B[m][n] += temp * zm[i];
-                    D[m][n] += temp * (t*t/12.0 + zm[i]*zm[i]);
+                    B[m][n] += temp * zm;
+                    D[m][n] += temp * (t*t/12.0 + zm*zm);
                 }
+                System.arraycopy(Qglo[m], 0, layerQglo[i][m], 0, 3);
             }
+            layerAngles[i] = l.getAngle();
         }
+        incrementalUpdates++;
+        
+        assembleABD();
+        return true;
+    }
+    
+    /**
+     * Setzt die ABD-Matrix aus A-, B- und D-Matrix zusammen, prüft die
+     * Symmetrie und invertiert die ABD-Matrix.
+     */
+    private void assembleABD(){
 
         double Amax = 0.0, Bmax = 0.0;
         for (int m = 0; m < 3; m++){
@@ -181,7 +360,7 @@ public class CLT_Laminate extends CLT_Object{
             }
         }
 
-        ABDInv = MatrixTools.getInverse(ABD);
+        MatrixTools.invertSym6x6(ABD, ABDInv, abdWork);
     }
       
     private void calculateNonDimensionalParameters() {
@@ -0,0 +1,483 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.Material;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Darstellung der Steifigkeiten eines Laminats aus nur einem Material über
+ * die Laminatparameter. Die A-, B- und D-Matrix sind linear in den
+ * Tsai-Pagano-Invarianten U<sub>1</sub> bis U<sub>5</sub> des Materials und
+ * den über die Dicke gewichteten Summen von cos(2&theta;), sin(2&theta;),
+ * cos(4&theta;) und sin(4&theta;) der Schichtwinkel. Es werden daher keine
+ * transformierten 3x3-Steifigkeitsmatrizen der Schichten benötigt.<br>
+ * Die Summen werden bezüglich der Oberseite des Laminats gebildet, sodass
+ * das Ändern eines Schichtwinkels sowie das Anhängen und Entfernen der
+ * letzten Schicht nur einen konstanten Aufwand erfordern. Die Schichten
+ * sind wie bei {@link Laminat#getOriginalLayers()} sortiert, d.h. ohne die
+ * symmetrischen Schichten. Bei symmetrischen Laminaten ist die letzte Schicht
+ * die innerste Schicht bzw. die Mittelschicht.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_LaminationParameters {
+
+    private static final int NUM_TERMS = 5;       // 1, cos(2t), sin(2t), cos(4t), sin(4t)
+
+    private final double[] U = new double[5];     // Tsai-Pagano-Invarianten
+
+    private int numLayers = 0;
+    private double[] angles = new double[8];
+    private double[] thicknesses = new double[8];
+    private double[] zTop = new double[8];        // Abstand der Schichtmitte von der Oberseite
+    private double[][] terms = new double[8][];   // Winkelterme je Schicht
+
+    private double thickness = 0.0;               // Summe der Schichtdicken ohne symmetrische Schichten
+    private final double[] S0 = new double[NUM_TERMS];  // Summe t * f(theta)
+    private final double[] S1 = new double[NUM_TERMS];  // Summe t * z * f(theta)
+    private final double[] S2 = new double[NUM_TERMS];  // Summe (t * z^2 + t^3/12) * f(theta)
+
+    private boolean symmetric = false;
+    private boolean withMiddleLayer = false;
+    private boolean invertZ = false;
+    private double offset = 0.0;
+
+    /**
+     * Erzeugt ein leeres Laminat aus dem übergebenen Material.
+     *
+     * @param material Material aller Schichten
+     */
+    public CLT_LaminationParameters(Material material) {
+        double[][] Q = new double[3][3];
+        CLT_Layer.calcQlocal(material, Q);
+        U[0] = (3.0 * Q[0][0] + 3.0 * Q[1][1] + 2.0 * Q[0][1] + 4.0 * Q[2][2]) / 8.0;
+        U[1] = (Q[0][0] - Q[1][1]) / 2.0;
+        U[2] = (Q[0][0] + Q[1][1] - 2.0 * Q[0][1] - 4.0 * Q[2][2]) / 8.0;
+        U[3] = (Q[0][0] + Q[1][1] + 6.0 * Q[0][1] - 4.0 * Q[2][2]) / 8.0;
+        U[4] = (Q[0][0] + Q[1][1] - 2.0 * Q[0][1] + 4.0 * Q[2][2]) / 8.0;
+    }
+
+    /**
+     * Erzeugt die Laminatparameter des übergebenen Laminats. Alle Schichten
+     * müssen aus dem gleichen Material bestehen, siehe
+     * {@link #isSingleMaterial(Laminat)}.
+     *
+     * @param laminat Laminat
+     * @throws IllegalArgumentException wenn das Laminat leer ist oder aus
+     * mehreren Materialien besteht
+     */
+    public CLT_LaminationParameters(Laminat laminat) {
+        this(getSingleMaterial(laminat));
+        symmetric = laminat.isSymmetric();
+        withMiddleLayer = laminat.isWithMiddleLayer();
+        invertZ = laminat.isInvertZ();
+        offset = laminat.getOffset();
+        for (Layer l : laminat.getOriginalLayers()) {
+            addLayer(l.getAngle(), l.getThickness());
+        }
+    }
+
+    private static Material getSingleMaterial(Laminat laminat) {
+        if (!isSingleMaterial(laminat)) {
+            throw new IllegalArgumentException("Lamination parameters require a non-empty laminate of a single material.");
+        }
+        return laminat.getOriginalLayers().get(0).getMaterial();
+    }
+
+    /**
+     * Prüft, ob alle Schichten des Laminats die gleichen Steifigkeitskennwerte
+     * besitzen und das Laminat damit über Laminatparameter beschrieben werden
+     * kann.
+     *
+     * @param laminat Laminat
+     * @return <code>true</code>, wenn das Laminat nicht leer ist und nur aus
+     * einem Material besteht
+     */
+    public static boolean isSingleMaterial(Laminat laminat) {
+        ArrayList<? extends Layer> layers = laminat.getOriginalLayers();
+        if (layers.isEmpty()) {
+            return false;
+        }
+        double[] first = getStiffnessValues(layers.get(0).getMaterial());
+        for (int ii = 1; ii < layers.size(); ii++) {
+            Material mat = layers.get(ii).getMaterial();
+            if (mat != layers.get(0).getMaterial() && !Arrays.equals(first, getStiffnessValues(mat))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double[] getStiffnessValues(Material material) {
+        return new double[]{material.getEpar(), material.getEnor(), material.getNue12(), material.getNue21(), material.getG()};
+    }
+
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    public void setSymmetric(boolean symmetric) {
+        this.symmetric = symmetric;
+    }
+
+    public boolean isWithMiddleLayer() {
+        return withMiddleLayer;
+    }
+
+    public void setWithMiddleLayer(boolean withMiddleLayer) {
+        this.withMiddleLayer = withMiddleLayer;
+    }
+
+    public boolean isInvertZ() {
+        return invertZ;
+    }
+
+    public void setInvertZ(boolean invertZ) {
+        this.invertZ = invertZ;
+    }
+
+    public double getOffset() {
+        return offset;
+    }
+
+    public void setOffset(double offset) {
+        this.offset = offset;
+    }
+
+    /**
+     * Liefert die Anzahl der Schichten ohne symmetrische Schichten.
+     *
+     * @return Anzahl der Schichten
+     */
+    public int getNumberOfLayers() {
+        return numLayers;
+    }
+
+    public double getAngle(int index) {
+        checkIndex(index);
+        return angles[index];
+    }
+
+    public double getThickness(int index) {
+        checkIndex(index);
+        return thicknesses[index];
+    }
+
+    /**
+     * Liefert die Gesamtdicke des Laminats inklusive der symmetrischen
+     * Schichten.
+     *
+     * @return Gesamtdicke
+     */
+    public double getTotalThickness() {
+        if (!symmetric) {
+            return thickness;
+        }
+        return withMiddleLayer ? 2.0 * thickness - thicknesses[numLayers - 1] : 2.0 * thickness;
+    }
+
+    /**
+     * Hängt eine Schicht an. Bei symmetrischen Laminaten ist das die neue
+     * innerste Schicht. Aufwand O(1).
+     *
+     * @param angle Winkel im Gradmaß
+     * @param t Dicke der Schicht
+     */
+    public void addLayer(double angle, double t) {
+        if (numLayers == angles.length) {
+            int newLength = 2 * angles.length;
+            angles = Arrays.copyOf(angles, newLength);
+            thicknesses = Arrays.copyOf(thicknesses, newLength);
+            zTop = Arrays.copyOf(zTop, newLength);
+            terms = Arrays.copyOf(terms, newLength);
+        }
+        int index = numLayers++;
+        angles[index] = angle;
+        thicknesses[index] = t;
+        zTop[index] = thickness + t / 2.0;
+        terms[index] = getTerms(angle, new double[NUM_TERMS]);
+        thickness += t;
+        addContribution(index, 1.0);
+    }
+
+    /**
+     * Fügt eine Schicht an der Stelle <code>index</code> ein. Die Summen der
+     * darunter liegenden Schichten werden dabei neu gebildet, Aufwand O(n).
+     *
+     * @param index Index der neuen Schicht
+     * @param angle Winkel im Gradmaß
+     * @param t Dicke der Schicht
+     */
+    public void addLayer(int index, double angle, double t) {
+        if (index < 0 || index > numLayers) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + numLayers);
+        }
+        if (index == numLayers) {
+            addLayer(angle, t);
+            return;
+        }
+        addLayer(0.0, 0.0);
+        System.arraycopy(angles, index, angles, index + 1, numLayers - 1 - index);
+        System.arraycopy(thicknesses, index, thicknesses, index + 1, numLayers - 1 - index);
+        System.arraycopy(terms, index, terms, index + 1, numLayers - 1 - index);
+        angles[index] = angle;
+        thicknesses[index] = t;
+        terms[index] = getTerms(angle, new double[NUM_TERMS]);
+        recalculate();
+    }
+
+    /**
+     * Entfernt die letzte Schicht. Aufwand O(1).
+     */
+    public void removeLastLayer() {
+        checkIndex(numLayers - 1);
+        int index = numLayers - 1;
+        addContribution(index, -1.0);
+        thickness -= thicknesses[index];
+        terms[index] = null;
+        numLayers--;
+        if (numLayers == 0) {
+            // Rundungsfehler der Summen verwerfen
+            recalculate();
+        }
+    }
+
+    /**
+     * Entfernt die Schicht an der Stelle <code>index</code>. Die Summen der
+     * darunter liegenden Schichten werden dabei neu gebildet, Aufwand O(n).
+     *
+     * @param index Index der Schicht
+     */
+    public void removeLayer(int index) {
+        checkIndex(index);
+        if (index == numLayers - 1) {
+            removeLastLayer();
+            return;
+        }
+        System.arraycopy(angles, index + 1, angles, index, numLayers - 1 - index);
+        System.arraycopy(thicknesses, index + 1, thicknesses, index, numLayers - 1 - index);
+        System.arraycopy(terms, index + 1, terms, index, numLayers - 1 - index);
+        numLayers--;
+        terms[numLayers] = null;
+        recalculate();
+    }
+
+    /**
+     * Setzt den Winkel der Schicht <code>index</code>. Aufwand O(1).
+     *
+     * @param index Index der Schicht
+     * @param angle Winkel im Gradmaß
+     */
+    public void setAngle(int index, double angle) {
+        checkIndex(index);
+        if (angles[index] == angle) {
+            return;
+        }
+        addContribution(index, -1.0);
+        angles[index] = angle;
+        getTerms(angle, terms[index]);
+        addContribution(index, 1.0);
+    }
+
+    /**
+     * Berechnet die A-, B- und D-Matrix in die übergebenen 3x3-Matrizen.
+     * Aufwand O(1).
+     *
+     * @param A A-Matrix
+     * @param B B-Matrix
+     * @param D D-Matrix
+     */
+    public void getABD(double[][] A, double[][] B, double[][] D) {
+        double[] vA = new double[NUM_TERMS];
+        double[] vB = new double[NUM_TERMS];
+        double[] vD = new double[NUM_TERMS];
+        getWeightedSums(vA, vB, vD);
+        toMatrix(vA, A);
+        toMatrix(vB, B);
+        toMatrix(vD, D);
+    }
+
+    /**
+     * Liefert die ABD-Matrix des Laminats.
+     *
+     * @return ABD-Matrix (6x6)
+     */
+    public double[][] getABDMatrix() {
+        double[][] A = new double[3][3];
+        double[][] B = new double[3][3];
+        double[][] D = new double[3][3];
+        getABD(A, B, D);
+        double[][] ABD = new double[6][6];
+        for (int ii = 0; ii < 3; ii++) {
+            for (int jj = 0; jj < 3; jj++) {
+                ABD[ii][jj] = A[ii][jj];
+                ABD[ii][jj + 3] = B[ii][jj];
+                ABD[ii + 3][jj] = B[ii][jj];
+                ABD[ii + 3][jj + 3] = D[ii][jj];
+            }
+        }
+        return ABD;
+    }
+
+    /**
+     * Liefert die 12 normierten Laminatparameter
+     * (&xi;<sup>A</sup><sub>1..4</sub>, &xi;<sup>B</sup><sub>1..4</sub>,
+     * &xi;<sup>D</sup><sub>1..4</sub>) bezüglich der Winkelterme
+     * cos(2&theta;), sin(2&theta;), cos(4&theta;) und sin(4&theta;).
+     *
+     * @return Laminatparameter
+     */
+    public double[] getLaminationParameters() {
+        double[] vA = new double[NUM_TERMS];
+        double[] vB = new double[NUM_TERMS];
+        double[] vD = new double[NUM_TERMS];
+        getWeightedSums(vA, vB, vD);
+        double h = getTotalThickness();
+        double[] xi = new double[12];
+        for (int ii = 0; ii < 4; ii++) {
+            xi[ii] = vA[ii + 1] / h;
+            xi[ii + 4] = 4.0 * vB[ii + 1] / (h * h);
+            xi[ii + 8] = 12.0 * vD[ii + 1] / (h * h * h);
+        }
+        return xi;
+    }
+
+    /**
+     * Bildet die auf die Laminatmittelebene bezogenen Summen
+     * &int;f(&theta;)dz, &int;f(&theta;)z dz und &int;f(&theta;)z<sup>2</sup>dz
+     * aus den auf die Oberseite bezogenen Summen.
+     */
+    private void getWeightedSums(double[] vA, double[] vB, double[] vD) {
+        if (!symmetric) {
+            double c = thickness / 2.0;
+            for (int ii = 0; ii < NUM_TERMS; ii++) {
+                vA[ii] = S0[ii];
+                vB[ii] = c * S0[ii] - S1[ii];
+                vD[ii] = c * c * S0[ii] - 2.0 * c * S1[ii] + S2[ii];
+            }
+        } else {
+            /*
+             * Die symmetrischen Schichten haben den gleichen Abstand zur
+             * Unterseite wie die Originalschichten zur Oberseite. Die
+             * B-Matrix verschwindet, A und D verdoppeln sich.
+             */
+            double c = thickness;
+            double[] s0 = S0, s1 = S1, s2 = S2;
+            double tm = 0.0;
+            double[] fm = null;
+            if (withMiddleLayer && numLayers > 0) {
+                int m = numLayers - 1;
+                tm = thicknesses[m];
+                fm = terms[m];
+                double zm = zTop[m];
+                s0 = new double[NUM_TERMS];
+                s1 = new double[NUM_TERMS];
+                s2 = new double[NUM_TERMS];
+                for (int ii = 0; ii < NUM_TERMS; ii++) {
+                    s0[ii] = S0[ii] - tm * fm[ii];
+                    s1[ii] = S1[ii] - tm * zm * fm[ii];
+                    s2[ii] = S2[ii] - (tm * zm * zm + tm * tm * tm / 12.0) * fm[ii];
+                }
+                c = thickness - tm / 2.0;
+            }
+            for (int ii = 0; ii < NUM_TERMS; ii++) {
+                vA[ii] = 2.0 * s0[ii];
+                vB[ii] = 0.0;
+                vD[ii] = 2.0 * (c * c * s0[ii] - 2.0 * c * s1[ii] + s2[ii]);
+                if (fm != null) {
+                    vA[ii] += tm * fm[ii];
+                    vD[ii] += tm * tm * tm / 12.0 * fm[ii];
+                }
+            }
+        }
+
+        // Umkehr der z-Richtung und Verschiebung der Bezugsebene
+        double sign = invertZ ? -1.0 : 1.0;
+        for (int ii = 0; ii < NUM_TERMS; ii++) {
+            double b0 = sign * vB[ii];
+            vD[ii] += 2.0 * offset * b0 + offset * offset * vA[ii];
+            vB[ii] = b0 + offset * vA[ii];
+        }
+    }
+
+    private void toMatrix(double[] v, double[][] M) {
+        M[0][0] = U[0] * v[0] + U[1] * v[1] + U[2] * v[3];
+        M[1][1] = U[0] * v[0] - U[1] * v[1] + U[2] * v[3];
+        M[0][1] = U[3] * v[0] - U[2] * v[3];
+        M[2][2] = U[4] * v[0] - U[2] * v[3];
+        M[0][2] = 0.5 * U[1] * v[2] + U[2] * v[4];
+        M[1][2] = 0.5 * U[1] * v[2] - U[2] * v[4];
+        M[1][0] = M[0][1];
+        M[2][0] = M[0][2];
+        M[2][1] = M[1][2];
+    }
+
+    private void addContribution(int index, double factor) {
+        double t = factor * thicknesses[index];
+        double z = zTop[index];
+        double w2 = t * z * z + t * thicknesses[index] * thicknesses[index] / 12.0;
+        double[] f = terms[index];
+        for (int ii = 0; ii < NUM_TERMS; ii++) {
+            S0[ii] += t * f[ii];
+            S1[ii] += t * z * f[ii];
+            S2[ii] += w2 * f[ii];
+        }
+    }
+
+    private void recalculate() {
+        Arrays.fill(S0, 0.0);
+        Arrays.fill(S1, 0.0);
+        Arrays.fill(S2, 0.0);
+        thickness = 0.0;
+        for (int ii = 0; ii < numLayers; ii++) {
+            zTop[ii] = thickness + thicknesses[ii] / 2.0;
+            thickness += thicknesses[ii];
+            addContribution(ii, 1.0);
+        }
+    }
+
+    private static double[] getTerms(double angle, double[] f) {
+        double rad = angle * Math.PI / 180.0;
+        double c2 = Math.cos(2.0 * rad);
+        double s2 = Math.sin(2.0 * rad);
+        f[0] = 1.0;
+        f[1] = c2;
+        f[2] = s2;
+        f[3] = c2 * c2 - s2 * s2;
+        f[4] = 2.0 * s2 * c2;
+        return f;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= numLayers) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + numLayers);
+        }
+    }
+}
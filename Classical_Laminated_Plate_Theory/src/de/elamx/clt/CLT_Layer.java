@@ -29,6 +29,8 @@ import de.elamx.laminate.Layer;
 import de.elamx.laminate.Material;
 import de.elamx.laminate.StressStrainState;
 import de.elamx.mathtools.MatrixTools;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  *
@@ -40,10 +42,31 @@ public class CLT_Layer extends CLT_Object {
     public static final int POSITION_LOWER = 1;
     public static final int POSITION_MIDDLE = 2;
 
+    /**
+     * Maximale Anzahl an Einträgen im gemeinsamen Cache der transformierten
+     * Steifigkeiten. Wird diese überschritten, wird der am längsten nicht
+     * verwendete Eintrag entfernt.
+     */
+    private static final int MAX_STIFFNESS_CACHE_SIZE = 4096;
+
+    /**
+     * Gemeinsamer Cache der transformierten Steifigkeiten aller Schichten. Der
+     * Schlüssel besteht aus der lokalen Q-Matrix und dem Winkel, so dass
+     * Schichten mit gleichem Material und Winkel denselben Eintrag nutzen.
+     */
+    private static final Map<StiffnessKey, TransformedStiffness> STIFFNESS_CACHE = new LinkedHashMap<StiffnessKey, TransformedStiffness>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StiffnessKey, TransformedStiffness> eldest) {
+            return size() > MAX_STIFFNESS_CACHE_SIZE;
+        }
+    };
+
     private final Layer layer;
 
     private double[][] Qlok_ = null;                // Lokale reduzierte Steifigkeitsmatrix
 
+    private TransformedStiffness stiffness = null;  // Transformierte Steifigkeit für den aktuellen Winkel
+
     private double zm = 0.0;
 
     @SuppressWarnings("this-escape")
@@ -55,11 +78,13 @@ public class CLT_Layer extends CLT_Object {
 
     /**
      * Alle notwendigen Daten der Schicht werden neu berechnet. Bisher wird nur
-     * die lokale Q-Matrix neu bestimmt.
+     * die lokale Q-Matrix neu bestimmt und die zwischengespeicherte
+     * transformierte Steifigkeit verworfen.
      */
     @Override
     public void refresh() {
         calcQlocal();
+        stiffness = null;
     }
 
     public double getZm() {
@@ -75,22 +100,31 @@ public class CLT_Layer extends CLT_Object {
     }
 
     private void calcQlocal() {
-        Material material = layer.getMaterial();
+        Qlok_ = new double[3][3];
+        calcQlocal(layer.getMaterial(), Qlok_);
+    }
+
+    /**
+     * Berechnet die Q-Matrix im lokalen Koordinatensystem des übergebenen
+     * Materials.
+     *
+     * @param material Material
+     * @param Qlok Zielmatrix (3x3)
+     */
+    static void calcQlocal(Material material, double[][] Qlok) {
         double nu21 = material.getNue21();
 
         double temp = 1.0 / (1.0 - material.getNue12() * nu21);
 
-        Qlok_ = new double[3][3];
-
-        Qlok_[0][0] = temp * material.getEpar();
-        Qlok_[0][1] = temp * material.getEpar() * nu21;
-        Qlok_[0][2] = 0.0;
-        Qlok_[1][0] = Qlok_[0][1];
-        Qlok_[1][1] = temp * material.getEnor();
-        Qlok_[1][2] = 0.0;
-        Qlok_[2][0] = 0.0;
-        Qlok_[2][1] = 0.0;
-        Qlok_[2][2] = material.getG();
+        Qlok[0][0] = temp * material.getEpar();
+        Qlok[0][1] = temp * material.getEpar() * nu21;
+        Qlok[0][2] = 0.0;
+        Qlok[1][0] = Qlok[0][1];
+        Qlok[1][1] = temp * material.getEnor();
+        Qlok[1][2] = 0.0;
+        Qlok[2][0] = 0.0;
+        Qlok[2][1] = 0.0;
+        Qlok[2][2] = material.getG();
     }
 
     /**
@@ -109,41 +143,59 @@ public class CLT_Layer extends CLT_Object {
      * @return Q-Matrix im globalen System
      */
     public double[][] getQMatGlobal() {
-        return getQMatGlobal(layer.getAngle());
+        return copy(getTransformedStiffness().qGlo);
     }
 
     /**
-     * Gibt die Q-Matrix im globalen Koordinatensystem, also gedreht um den
-     * übergegeben Winkel, zurück.
+     * Schreibt die Q-Matrix im globalen Koordinatensystem, also gedreht um den
+     * Schichtwinkel, in die übergebene 3x3-Matrix.
      *
-     * @param angle Winkel, um den das globale Koordinatensystem gegenüber dem
-     * Lokalen gedreht ist.
-     * @return Q-Matrix im globalen System
+     * @param Qglo Zielmatrix (3x3)
      */
-    private double[][] getQMatGlobal(double angle) {
-        double c = Math.cos(angle * Math.PI / 180.0);
-        double c2 = c * c;
-        double c3 = c2 * c;
-        double c4 = c3 * c;
-
-        double s = Math.sin(angle * Math.PI / 180.0);
-        double s2 = s * s;
-        double s3 = s2 * s;
-        double s4 = s3 * s;
-
-        double[][] Qglo = new double[3][3];
-
-        Qglo[0][0] = c4 * Qlok_[0][0] + 2 * c2 * s2 * Qlok_[0][1] + s4 * Qlok_[1][1] + 4 * c2 * s2 * Qlok_[2][2];
-        Qglo[0][1] = c2 * s2 * Qlok_[0][0] + (c4 + s4) * Qlok_[0][1] + c2 * s2 * Qlok_[1][1] - 4 * c2 * s2 * Qlok_[2][2];
-        Qglo[0][2] = s * c3 * Qlok_[0][0] - c * s * (c2 - s2) * Qlok_[0][1] - c * s3 * Qlok_[1][1] - 2 * c * s * (c2 - s2) * Qlok_[2][2];
-        Qglo[1][0] = Qglo[0][1];
-        Qglo[1][1] = s4 * Qlok_[0][0] + 2 * c2 * s2 * Qlok_[0][1] + c4 * Qlok_[1][1] + 4 * c2 * s2 * Qlok_[2][2];
-        Qglo[1][2] = c * s3 * Qlok_[0][0] + c * s * (c2 - s2) * Qlok_[0][1] - s * c3 * Qlok_[1][1] + 2 * c * s * (c2 - s2) * Qlok_[2][2];
-        Qglo[2][0] = Qglo[0][2];
-        Qglo[2][1] = Qglo[1][2];
-        Qglo[2][2] = c2 * s2 * Qlok_[0][0] - 2 * c2 * s2 * Qlok_[0][1] + c2 * s2 * Qlok_[1][1] + (c2 - s2) * (c2 - s2) * Qlok_[2][2];
-
-        return Qglo;
+    public void getQMatGlobal(double[][] Qglo) {
+        double[][] q = getTransformedStiffness().qGlo;
+        for (int ii = 0; ii < 3; ii++) {
+            System.arraycopy(q[ii], 0, Qglo[ii], 0, 3);
+        }
+    }
+
+    /**
+     * Liefert die transformierte Steifigkeit für den aktuellen Schichtwinkel.
+     * Hat sich der Winkel seit dem letzten Aufruf geändert, wird der Eintrag
+     * neu aus dem gemeinsamen Cache geholt.
+     */
+    private TransformedStiffness getTransformedStiffness() {
+        TransformedStiffness ts = stiffness;
+        double angle = layer.getAngle();
+        if (ts == null || ts.angle != angle) {
+            ts = getTransformedStiffness(Qlok_, angle);
+            stiffness = ts;
+        }
+        return ts;
+    }
+
+    private static TransformedStiffness getTransformedStiffness(double[][] Qlok, double angle) {
+        StiffnessKey key = new StiffnessKey(Qlok, angle);
+        synchronized (STIFFNESS_CACHE) {
+            TransformedStiffness ts = STIFFNESS_CACHE.get(key);
+            if (ts != null) {
+                return ts;
+            }
+        }
+
+        TransformedStiffness ts = new TransformedStiffness(Qlok, angle);
+        synchronized (STIFFNESS_CACHE) {
+            TransformedStiffness old = STIFFNESS_CACHE.putIfAbsent(key, ts);
+            return old != null ? old : ts;
+        }
+    }
+
+    private static double[][] copy(double[][] mat) {
+        double[][] res = new double[mat.length][];
+        for (int ii = 0; ii < mat.length; ii++) {
+            res[ii] = mat[ii].clone();
+        }
+        return res;
     }
 
     /**
@@ -153,7 +205,7 @@ public class CLT_Layer extends CLT_Object {
      * @return Q-Matrix im globalen System
      */
     public double[][] getQMatGlobal_deltaAngle(double deltaAngle) {
-        return getQMatGlobal(layer.getAngle() + deltaAngle);
+        return copy(getTransformedStiffness(Qlok_, layer.getAngle() + deltaAngle).qGlo);
     }
 
     /**
@@ -163,7 +215,9 @@ public class CLT_Layer extends CLT_Object {
      * @return S-Matrix im lokalen Koordinatensystem.
      */
     public double[][] getSMatLokal() {
-        return MatrixTools.getInverse(getQMatLocal());
+        double[][] S = new double[3][3];
+        MatrixTools.invert3x3(getQMatLocal(), S);
+        return S;
     }
 
     /**
@@ -173,7 +227,7 @@ public class CLT_Layer extends CLT_Object {
      * @return S-Matrix im globalen System
      */
     public double[][] getSMatGlobal() {
-        return MatrixTools.getInverse(getQMatGlobal());
+        return copy(getTransformedStiffness().sGlo);
     }
 
     /**
@@ -190,118 +244,220 @@ public class CLT_Layer extends CLT_Object {
      * @param deltaHygro Änderung der relativen Feuchte
      */
     public StressStrainState[] getStressState(double[] epskappa, double deltaTemp, double deltaHygro, int position, boolean calcGlobal) {
-        double pos = 0.0;
-        switch (position) {
-            case POSITION_UPPER:
-                pos = zm + layer.getThickness() / 2.0;
-                break;
-            case POSITION_LOWER:
-                pos = zm - layer.getThickness() / 2.0;
-                break;
-            case POSITION_MIDDLE:
-                pos = zm;
-                break;
-            default:
-                pos = 0.0;
-                break;
-        }
         double[] strain_glo = new double[3];
+        double[] strain_loc = new double[3];
+        double[] stress_loc = new double[3];
+        double[] stress_glo = calcGlobal ? new double[3] : null;
+        getStressState(epskappa, deltaTemp, deltaHygro, position, strain_glo, strain_loc, stress_loc, stress_glo);
+        return toStressStrainStates(strain_glo, strain_loc, stress_loc, stress_glo);
+    }
+
+    /**
+     * Allokationsfreie Variante von
+     * {@link #getStressState(double[], double, double, int, boolean)}. Die
+     * Dehnungen und Spannungen werden in die übergebenen Vektoren der Länge 3
+     * geschrieben.
+     *
+     * @param epskappa globale Verformungsgrößen (Dehnungen, Krümmungen)
+     * @param deltaTemp Temperaturänderung
+     * @param deltaHygro Änderung der relativen Feuchte
+     * @param position Position in der Schicht
+     * @param strain_glo Ergebnis globale Dehnungen
+     * @param strain_loc Ergebnis lokale Dehnungen
+     * @param stress_loc Ergebnis lokale Spannungen
+     * @param stress_glo Ergebnis globale Spannungen, bei <code>null</code>
+     * werden diese nicht berechnet
+     */
+    public void getStressState(double[] epskappa, double deltaTemp, double deltaHygro, int position,
+            double[] strain_glo, double[] strain_loc, double[] stress_loc, double[] stress_glo) {
+        double pos = getZPosition(position);
         strain_glo[0] = epskappa[0] + pos * epskappa[3];
         strain_glo[1] = epskappa[1] + pos * epskappa[4];
         strain_glo[2] = epskappa[2] + pos * epskappa[5];
-        return getStressStrainState(strain_glo, deltaTemp, deltaHygro, calcGlobal);
+        calcStressStrainState(strain_glo, deltaTemp, deltaHygro, strain_loc, stress_loc, stress_glo);
     }
     
     public StressStrainState[] getStressState_radial(double[] epskappa, double deltaTemp, double deltaHygro, int position, double meanRadius, boolean calcGlobal) {
+        double[] strain_glo = new double[3];
+        double[] strain_loc = new double[3];
+        double[] stress_loc = new double[3];
+        double[] stress_glo = calcGlobal ? new double[3] : null;
+        getStressState_radial(epskappa, deltaTemp, deltaHygro, position, meanRadius, strain_glo, strain_loc, stress_loc, stress_glo);
+        return toStressStrainStates(strain_glo, strain_loc, stress_loc, stress_glo);
+    }
+
+    /**
+     * Allokationsfreie Variante von
+     * {@link #getStressState_radial(double[], double, double, int, double, boolean)}.
+     *
+     * @param epskappa globale Verformungsgrößen (Dehnungen, Krümmungen)
+     * @param deltaTemp Temperaturänderung
+     * @param deltaHygro Änderung der relativen Feuchte
+     * @param position Position in der Schicht
+     * @param meanRadius mittlerer Radius
+     * @param strain_glo Ergebnis globale Dehnungen
+     * @param strain_loc Ergebnis lokale Dehnungen
+     * @param stress_loc Ergebnis lokale Spannungen
+     * @param stress_glo Ergebnis globale Spannungen, bei <code>null</code>
+     * werden diese nicht berechnet
+     */
+    public void getStressState_radial(double[] epskappa, double deltaTemp, double deltaHygro, int position, double meanRadius,
+            double[] strain_glo, double[] strain_loc, double[] stress_loc, double[] stress_glo) {
         
         double w = epskappa[1] * meanRadius;
         
-        double pos = 0.0;
+        double pos = getZPosition(position);
+        strain_glo[0] = epskappa[0];
+        strain_glo[1] = w / (meanRadius + pos);
+        strain_glo[2] = epskappa[2];
+        calcStressStrainState(strain_glo, deltaTemp, deltaHygro, strain_loc, stress_loc, stress_glo);
+    }
+
+    private double getZPosition(int position) {
         switch (position) {
             case POSITION_UPPER:
-                pos = zm + layer.getThickness() / 2.0;
-                break;
+                return zm + layer.getThickness() / 2.0;
             case POSITION_LOWER:
-                pos = zm - layer.getThickness() / 2.0;
-                break;
+                return zm - layer.getThickness() / 2.0;
             case POSITION_MIDDLE:
-                pos = zm;
-                break;
+                return zm;
             default:
-                pos = 0.0;
-                break;
+                return 0.0;
         }
-        double[] strain_glo = new double[3];
-        strain_glo[0] = epskappa[0];
-        strain_glo[1] = w / (meanRadius + pos);
-        strain_glo[2] = epskappa[2];
-        return getStressStrainState(strain_glo, deltaTemp, deltaHygro, calcGlobal);
     }
 
-    private StressStrainState[] getStressStrainState(double[] strain_glo, double deltaTemp, double deltaHygro, boolean calcGlobal) {
-
-        Material material = layer.getMaterial();
+    private static StressStrainState[] toStressStrainStates(double[] strain_glo, double[] strain_loc, double[] stress_loc, double[] stress_glo) {
+        if (stress_glo != null) {
+            return new StressStrainState[]{new StressStrainState(stress_loc, strain_loc), new StressStrainState(stress_glo, strain_glo)};
+        }
+        return new StressStrainState[]{new StressStrainState(stress_loc, strain_loc)};
+    }
 
-        double[][] transeps = getTransMat_eps_glo_to_loc();
+    private void calcStressStrainState(double[] strain_glo, double deltaTemp, double deltaHygro,
+            double[] strain_loc, double[] stress_loc, double[] stress_glo) {
 
-        double[] alpha = new double[]{material.getAlphaTPar(), material.getAlphaTNor(), 0.0};
-        double[] beta = new double[]{material.getBetaPar(), material.getBetaNor(), 0.0};
+        Material material = layer.getMaterial();
 
-        double[] strain_loc = new double[3];
+        TransformedStiffness ts = getTransformedStiffness();
+        double c2 = ts.c2;
+        double s2 = ts.s2;
+        double sc = ts.sc;
 
         // Transformation der globalen Dehnungen in die lokalen Dehnungen
-        for (int ii = 0; ii < 3; ii++) {
-            strain_loc[ii] = 0.0;
-            for (int jj = 0; jj < 3; jj++) {
-                strain_loc[ii] += transeps[ii][jj] * strain_glo[jj];
-            }
-        }
-
-        double[] stress_loc = new double[3];
+        double e1 = c2 * strain_glo[0] + s2 * strain_glo[1] + sc * strain_glo[2];
+        double e2 = s2 * strain_glo[0] + c2 * strain_glo[1] - sc * strain_glo[2];
+        double g12 = -2.0 * sc * strain_glo[0] + 2.0 * sc * strain_glo[1] + (c2 - s2) * strain_glo[2];
+        strain_loc[0] = e1;
+        strain_loc[1] = e2;
+        strain_loc[2] = g12;
 
         // Berechnen der lokalen Spannungen
-        for (int ii = 0; ii < 3; ii++) {
-            stress_loc[ii] = 0.0;
-            for (int jj = 0; jj < 3; jj++) {
-                stress_loc[ii] += Qlok_[ii][jj] * (strain_loc[jj] - alpha[jj] * deltaTemp - beta[jj] * deltaHygro);
-            }
-        }
-
-        if (calcGlobal) {
-            double[] stress_glo = new double[3];
-
+        double e1m = e1 - material.getAlphaTPar() * deltaTemp - material.getBetaPar() * deltaHygro;
+        double e2m = e2 - material.getAlphaTNor() * deltaTemp - material.getBetaNor() * deltaHygro;
+        double s1 = Qlok_[0][0] * e1m + Qlok_[0][1] * e2m + Qlok_[0][2] * g12;
+        double s2l = Qlok_[1][0] * e1m + Qlok_[1][1] * e2m + Qlok_[1][2] * g12;
+        double t12 = Qlok_[2][0] * e1m + Qlok_[2][1] * e2m + Qlok_[2][2] * g12;
+        stress_loc[0] = s1;
+        stress_loc[1] = s2l;
+        stress_loc[2] = t12;
+
+        if (stress_glo != null) {
             // Transformation der lokalen Spanngungen in die globalen Spannungen
-            for (int ii = 0; ii < 3; ii++) {
-                stress_glo[ii] = 0.0;
-                for (int jj = 0; jj < 3; jj++) {
-                    stress_glo[ii] += transeps[jj][ii] * stress_loc[jj];
-                }
-            }
-
-            return new StressStrainState[]{new StressStrainState(stress_loc, strain_loc), new StressStrainState(stress_glo, strain_glo)};
+            stress_glo[0] = c2 * s1 + s2 * s2l - 2.0 * sc * t12;
+            stress_glo[1] = s2 * s1 + c2 * s2l + 2.0 * sc * t12;
+            stress_glo[2] = sc * s1 - sc * s2l + (c2 - s2) * t12;
         }
-        return new StressStrainState[]{new StressStrainState(stress_loc, strain_loc)};
     }
 
-    private double[][] getTransMat_eps_glo_to_loc() {
-        double[][] transMat_eps_glo_to_loc_ = new double[3][3];
-
-        double c = Math.cos(layer.getRadAngle());
-        double c2 = c * c;
+    /**
+     * Schlüssel des Steifigkeitscaches aus den Komponenten der lokalen Q-Matrix
+     * und dem Winkel im Gradmaß.
+     */
+    private static final class StiffnessKey {
+
+        private final double q11, q12, q22, q66, angle;
+        private final int hash;
+
+        StiffnessKey(double[][] Qlok, double angle) {
+            this.q11 = Qlok[0][0];
+            this.q12 = Qlok[0][1];
+            this.q22 = Qlok[1][1];
+            this.q66 = Qlok[2][2];
+            this.angle = angle;
+            int h = Double.hashCode(q11);
+            h = 31 * h + Double.hashCode(q12);
+            h = 31 * h + Double.hashCode(q22);
+            h = 31 * h + Double.hashCode(q66);
+            h = 31 * h + Double.hashCode(angle);
+            this.hash = h;
+        }
 
-        double s = Math.sin(layer.getRadAngle());
-        double s2 = s * s;
+        @Override
+        public int hashCode() {
+            return hash;
+        }
 
-        transMat_eps_glo_to_loc_[0][0] = c2;
-        transMat_eps_glo_to_loc_[0][1] = s2;
-        transMat_eps_glo_to_loc_[0][2] = s * c;
-        transMat_eps_glo_to_loc_[1][0] = s2;
-        transMat_eps_glo_to_loc_[1][1] = c2;
-        transMat_eps_glo_to_loc_[1][2] = -s * c;
-        transMat_eps_glo_to_loc_[2][0] = -2.0 * c * s;
-        transMat_eps_glo_to_loc_[2][1] = 2.0 * c * s;
-        transMat_eps_glo_to_loc_[2][2] = c2 - s2;
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StiffnessKey)) {
+                return false;
+            }
+            StiffnessKey other = (StiffnessKey) obj;
+            return Double.compare(q11, other.q11) == 0
+                    && Double.compare(q12, other.q12) == 0
+                    && Double.compare(q22, other.q22) == 0
+                    && Double.compare(q66, other.q66) == 0
+                    && Double.compare(angle, other.angle) == 0;
+        }
+    }
 
-        return transMat_eps_glo_to_loc_;
+    /**
+     * Unveränderliche, um einen Winkel transformierte Steifigkeit: globale
+     * Q-Matrix, deren Inverse sowie die Komponenten der
+     * Dehnungstransformation global nach lokal.
+     */
+    private static final class TransformedStiffness {
+
+        private final double angle;
+        private final double c2, s2, sc;
+        private final double[][] qGlo;
+        private final double[][] sGlo;
+
+        TransformedStiffness(double[][] Qlok_, double angle) {
+            this.angle = angle;
+
+            double c = Math.cos(angle * Math.PI / 180.0);
+            double c2 = c * c;
+            double c3 = c2 * c;
+            double c4 = c3 * c;
+
+            double s = Math.sin(angle * Math.PI / 180.0);
+            double s2 = s * s;
+            double s3 = s2 * s;
+            double s4 = s3 * s;
+
+            this.c2 = c2;
+            this.s2 = s2;
+            this.sc = s * c;
+
+            double[][] Qglo = new double[3][3];
+
+            Qglo[0][0] = c4 * Qlok_[0][0] + 2 * c2 * s2 * Qlok_[0][1] + s4 * Qlok_[1][1] + 4 * c2 * s2 * Qlok_[2][2];
+            Qglo[0][1] = c2 * s2 * Qlok_[0][0] + (c4 + s4) * Qlok_[0][1] + c2 * s2 * Qlok_[1][1] - 4 * c2 * s2 * Qlok_[2][2];
+            Qglo[0][2] = s * c3 * Qlok_[0][0] - c * s * (c2 - s2) * Qlok_[0][1] - c * s3 * Qlok_[1][1] - 2 * c * s * (c2 - s2) * Qlok_[2][2];
+            Qglo[1][0] = Qglo[0][1];
+            Qglo[1][1] = s4 * Qlok_[0][0] + 2 * c2 * s2 * Qlok_[0][1] + c4 * Qlok_[1][1] + 4 * c2 * s2 * Qlok_[2][2];
+            Qglo[1][2] = c * s3 * Qlok_[0][0] + c * s * (c2 - s2) * Qlok_[0][1] - s * c3 * Qlok_[1][1] + 2 * c * s * (c2 - s2) * Qlok_[2][2];
+            Qglo[2][0] = Qglo[0][2];
+            Qglo[2][1] = Qglo[1][2];
+            Qglo[2][2] = c2 * s2 * Qlok_[0][0] - 2 * c2 * s2 * Qlok_[0][1] + c2 * s2 * Qlok_[1][1] + (c2 - s2) * (c2 - s2) * Qlok_[2][2];
+
+            this.qGlo = Qglo;
+            this.sGlo = new double[3][3];
+            MatrixTools.invert3x3(Qglo, this.sGlo);
+        }
     }
 }
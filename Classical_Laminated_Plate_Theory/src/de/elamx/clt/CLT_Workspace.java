@@ -0,0 +1,385 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.StressStrainState;
+
+/**
+ * Wiederverwendbarer Arbeitsspeicher für die Auswertung der klassischen
+ * Laminattheorie mit {@link CLT_Calculator}. Alle für die Berechnung der
+ * Laminatverzerrungen, der Schichtspannungen und der Reservefaktoren nötigen
+ * Vektoren werden einmalig angelegt, so dass wiederholte Auswertungen (z.B.
+ * bei Lastfallvariationen) keinen neuen Speicher anfordern.<br>
+ * Die Ergebnisse stehen als primitive Felder zur Verfügung. Die Schichtwerte
+ * werden über den Index <code>2 * Schichtindex + Position</code> adressiert,
+ * wobei für die Position {@link CLT_Layer#POSITION_UPPER} bzw.
+ * {@link CLT_Layer#POSITION_LOWER} zu verwenden ist.<br>
+ * Ein Objekt dieser Klasse ist nicht threadsicher und sollte pro Thread
+ * angelegt werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_Workspace {
+
+    private final double[] forceMoment = new double[6];         // n_x, n_y, n_xy, m_x, m_y, m_xy
+    private final double[] epsilonKappa = new double[6];        // eps_x, eps_y, gamma_xy, kappa_x, kappa_y, kappa_xy
+    private final double[] hygrothermalForces = new double[6];
+    private double deltaT = 0.0;
+    private double deltaH = 0.0;
+
+    // Arbeitsfelder des Gleichungssystems
+    final double[] rhs = new double[6];
+    final double[] solution = new double[6];
+    final double[][] abdWork = new double[6][6];
+    final double[][] qMatGlobal = new double[3][3];
+
+    private int numLayers = -1;
+    private double[][] strainGlobal;
+    private double[][] strainLocal;
+    private double[][] stressLocal;
+    private double[][] stressGlobal;
+    private StressStrainState[] stressStrainStates;
+    private double[] reserveFactors;
+    private int[] failureTypes;
+
+    /**
+     * Legt einen leeren Arbeitsspeicher an. Die Felder für die Schichtergebnisse
+     * werden bei der ersten Auswertung angelegt.
+     */
+    public CLT_Workspace() {
+    }
+
+    /**
+     * Legt einen Arbeitsspeicher an, dessen Felder für die Schichtergebnisse
+     * bereits für das übergebene Laminat dimensioniert sind.
+     *
+     * @param laminate Laminat
+     */
+    public CLT_Workspace(CLT_Laminate laminate) {
+        ensureNumberOfLayers(laminate.getCLTLayers().length);
+    }
+
+    /**
+     * Stellt sicher, dass die Felder für die Schichtergebnisse für die
+     * übergebene Anzahl an Schichten dimensioniert sind. Neuer Speicher wird
+     * nur angelegt, wenn sich die Schichtanzahl geändert hat.
+     *
+     * @param numLayers Anzahl der Schichten
+     */
+    public final void ensureNumberOfLayers(int numLayers) {
+        if (this.numLayers == numLayers) {
+            return;
+        }
+        this.numLayers = numLayers;
+        int num = 2 * numLayers;
+        strainGlobal = new double[num][3];
+        strainLocal = new double[num][3];
+        stressLocal = new double[num][3];
+        stressGlobal = new double[num][3];
+        stressStrainStates = new StressStrainState[num];
+        for (int ii = 0; ii < num; ii++) {
+            stressStrainStates[ii] = new StressStrainState(stressLocal[ii], strainLocal[ii]);
+        }
+        reserveFactors = new double[num];
+        failureTypes = new int[num];
+    }
+
+    /**
+     * Übernimmt die Schnittlasten und die hygrothermalen Randbedingungen aus
+     * dem übergebenen <code>Loads</code>-Objekt.
+     *
+     * @param loads Lasten
+     */
+    public void setLoads(Loads loads) {
+        forceMoment[0] = loads.getN_x();
+        forceMoment[1] = loads.getN_y();
+        forceMoment[2] = loads.getN_xy();
+        forceMoment[3] = loads.getM_x();
+        forceMoment[4] = loads.getM_y();
+        forceMoment[5] = loads.getM_xy();
+        deltaT = loads.getDeltaT();
+        deltaH = loads.getDeltaH();
+    }
+
+    /**
+     * Übernimmt die Verzerrungen aus dem übergebenen <code>Strains</code>-Objekt.
+     *
+     * @param strains Verzerrungen
+     */
+    public void setStrains(Strains strains) {
+        epsilonKappa[0] = strains.getEpsilon_x();
+        epsilonKappa[1] = strains.getEpsilon_y();
+        epsilonKappa[2] = strains.getGamma_xy();
+        epsilonKappa[3] = strains.getKappa_x();
+        epsilonKappa[4] = strains.getKappa_y();
+        epsilonKappa[5] = strains.getKappa_xy();
+    }
+
+    /**
+     * Schreibt die berechneten Größen zurück in die übergebenen Objekte. Über
+     * den Boolean-Vektor <code>useStrain</code> wird festgelegt, ob die Kraft
+     * (true) oder die Verzerrung (false) das Ergebnis war.
+     *
+     * @param loads Lasten
+     * @param strains Verzerrungen
+     * @param useStrain Boolean-Vektor der Länge 6
+     */
+    public void writeResults(Loads loads, Strains strains, boolean[] useStrain) {
+        writeResults(forceMoment, epsilonKappa, hygrothermalForces, loads, strains, useStrain);
+    }
+
+    static void writeResults(double[] forceMoment, double[] epsilonKappa, double[] hygrothermalForces,
+            Loads loads, Strains strains, boolean[] useStrain) {
+        if (useStrain[0]) {
+            loads.setN_x(forceMoment[0]);
+        } else {
+            strains.setEpsilon_x(epsilonKappa[0]);
+        }
+        if (useStrain[1]) {
+            loads.setN_y(forceMoment[1]);
+        } else {
+            strains.setEpsilon_y(epsilonKappa[1]);
+        }
+        if (useStrain[2]) {
+            loads.setN_xy(forceMoment[2]);
+        } else {
+            strains.setGamma_xy(epsilonKappa[2]);
+        }
+        if (useStrain[3]) {
+            loads.setM_x(forceMoment[3]);
+        } else {
+            strains.setKappa_x(epsilonKappa[3]);
+        }
+        if (useStrain[4]) {
+            loads.setM_y(forceMoment[4]);
+        } else {
+            strains.setKappa_y(epsilonKappa[4]);
+        }
+        if (useStrain[5]) {
+            loads.setM_xy(forceMoment[5]);
+        } else {
+            strains.setKappa_xy(epsilonKappa[5]);
+        }
+
+        // Setzen der hygrothermalen Kräfte
+        loads.setHygrothermalForcesAsVector(hygrothermalForces);
+    }
+
+    /**
+     * Schnittlasten (n_x, n_y, n_xy, m_x, m_y, m_xy). Das Feld wird direkt
+     * zurückgegeben und kann auch zum Setzen verwendet werden.
+     *
+     * @return Schnittlasten
+     */
+    public double[] getForceMoment() {
+        return forceMoment;
+    }
+
+    /**
+     * Verzerrungen (&epsilon;<sub>x</sub>, &epsilon;<sub>y</sub>,
+     * &gamma;<sub>xy</sub>, &kappa;<sub>x</sub>, &kappa;<sub>y</sub>,
+     * &kappa;<sub>xy</sub>). Das Feld wird direkt zurückgegeben und kann auch
+     * zum Setzen verwendet werden.
+     *
+     * @return Verzerrungen
+     */
+    public double[] getEpsilonKappa() {
+        return epsilonKappa;
+    }
+
+    /**
+     * Hygrothermale Schnittlasten der letzten Berechnung.
+     *
+     * @return hygrothermale Schnittlasten
+     */
+    public double[] getHygrothermalForces() {
+        return hygrothermalForces;
+    }
+
+    public double getDeltaT() {
+        return deltaT;
+    }
+
+    public void setDeltaT(double deltaT) {
+        this.deltaT = deltaT;
+    }
+
+    public double getDeltaH() {
+        return deltaH;
+    }
+
+    public void setDeltaH(double deltaH) {
+        this.deltaH = deltaH;
+    }
+
+    /**
+     * Anzahl der Schichten, für die die Ergebnisfelder dimensioniert sind.
+     *
+     * @return Anzahl der Schichten
+     */
+    public int getNumberOfLayers() {
+        return numLayers;
+    }
+
+    /**
+     * Liefert den Index einer Schichtposition in den Ergebnisfeldern.
+     *
+     * @param layer Schichtindex
+     * @param position {@link CLT_Layer#POSITION_UPPER} oder
+     * {@link CLT_Layer#POSITION_LOWER}
+     * @return Index in den Ergebnisfeldern
+     */
+    public static int getIndex(int layer, int position) {
+        return 2 * layer + position;
+    }
+
+    double[] getStrainGlobal(int index) {
+        return strainGlobal[index];
+    }
+
+    StressStrainState getStressStrainState(int index) {
+        return stressStrainStates[index];
+    }
+
+    double[] getStressGlobal(int index) {
+        return stressGlobal[index];
+    }
+
+    void setReserveFactor(int index, double reserveFactor, int failureType) {
+        reserveFactors[index] = reserveFactor;
+        failureTypes[index] = failureType;
+    }
+
+    /**
+     * Lokale Dehnungen an der Schichtposition.
+     *
+     * @param layer Schichtindex
+     * @param position Position in der Schicht
+     * @return lokale Dehnungen (&epsilon;<sub>11</sub>, &epsilon;<sub>22</sub>, &gamma;<sub>12</sub>)
+     */
+    public double[] getStrainLocal(int layer, int position) {
+        return strainLocal[getIndex(layer, position)];
+    }
+
+    /**
+     * Lokale Spannungen an der Schichtposition.
+     *
+     * @param layer Schichtindex
+     * @param position Position in der Schicht
+     * @return lokale Spannungen (&sigma;<sub>11</sub>, &sigma;<sub>22</sub>, &tau;<sub>12</sub>)
+     */
+    public double[] getStressLocal(int layer, int position) {
+        return stressLocal[getIndex(layer, position)];
+    }
+
+    /**
+     * Globale Dehnungen an der Schichtposition.
+     *
+     * @param layer Schichtindex
+     * @param position Position in der Schicht
+     * @return globale Dehnungen (&epsilon;<sub>x</sub>, &epsilon;<sub>y</sub>, &gamma;<sub>xy</sub>)
+     */
+    public double[] getStrainGlobal(int layer, int position) {
+        return strainGlobal[getIndex(layer, position)];
+    }
+
+    /**
+     * Globale Spannungen an der Schichtposition.
+     *
+     * @param layer Schichtindex
+     * @param position Position in der Schicht
+     * @return globale Spannungen (&sigma;<sub>x</sub>, &sigma;<sub>y</sub>, &tau;<sub>xy</sub>)
+     */
+    public double[] getStressGlobal(int layer, int position) {
+        return stressGlobal[getIndex(layer, position)];
+    }
+
+    /**
+     * Reservefaktor an der Schichtposition.
+     *
+     * @param layer Schichtindex
+     * @param position Position in der Schicht
+     * @return Reservefaktor
+     */
+    public double getReserveFactor(int layer, int position) {
+        return reserveFactors[getIndex(layer, position)];
+    }
+
+    /**
+     * Versagensart an der Schichtposition (siehe
+     * {@link de.elamx.laminate.failure.ReserveFactor}).
+     *
+     * @param layer Schichtindex
+     * @param position Position in der Schicht
+     * @return Versagensart
+     */
+    public int getFailureType(int layer, int position) {
+        return failureTypes[getIndex(layer, position)];
+    }
+
+    /**
+     * Alle Reservefaktoren als Feld der Länge 2*Schichtanzahl. Das Feld wird
+     * direkt zurückgegeben und bei der nächsten Auswertung überschrieben.
+     *
+     * @return Reservefaktoren
+     */
+    public double[] getReserveFactors() {
+        return reserveFactors;
+    }
+
+    /**
+     * Alle Versagensarten als Feld der Länge 2*Schichtanzahl. Das Feld wird
+     * direkt zurückgegeben und bei der nächsten Auswertung überschrieben.
+     *
+     * @return Versagensarten
+     */
+    public int[] getFailureTypes() {
+        return failureTypes;
+    }
+
+    /**
+     * Liefert den minimalen Reservefaktor über alle Schichten und Positionen.
+     *
+     * @return minimaler Reservefaktor
+     */
+    public double getMinimalReserveFactor() {
+        double min = Double.MAX_VALUE;
+        for (int ii = 0; ii < 2 * numLayers; ii++) {
+            min = Math.min(min, reserveFactors[ii]);
+        }
+        return min;
+    }
+
+    /**
+     * Gibt an, ob die Schicht an einer der beiden Positionen versagt.
+     *
+     * @param layer Schichtindex
+     * @return <code>true</code>, wenn ein Reservefaktor kleiner 1 ist
+     */
+    public boolean isFailed(int layer) {
+        return reserveFactors[2 * layer] < 1.0 || reserveFactors[2 * layer + 1] < 1.0;
+    }
+}
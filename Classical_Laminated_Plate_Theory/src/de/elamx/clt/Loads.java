@@ -234,4 +234,29 @@ public class Loads {
         mT_y  = forces[4];
         mT_xy = forces[5];
     }
+
+    /**
+     * Liefert eine Kopie der Lasten inklusive der hygrothermalen Schnittlasten.
+     * Die Kopie ist eine reine {@link Loads}-Instanz ohne Listener.
+     *
+     * @return Kopie der Lasten
+     */
+    public Loads getCopy() {
+        Loads copy = new Loads();
+        copy.n_x = n_x;
+        copy.n_y = n_y;
+        copy.n_xy = n_xy;
+        copy.m_x = m_x;
+        copy.m_y = m_y;
+        copy.m_xy = m_xy;
+        copy.deltaT = deltaT;
+        copy.deltaH = deltaH;
+        copy.nT_x = nT_x;
+        copy.nT_y = nT_y;
+        copy.nT_xy = nT_xy;
+        copy.mT_x = mT_x;
+        copy.mT_y = mT_y;
+        copy.mT_xy = mT_xy;
+        return copy;
+    }
 }
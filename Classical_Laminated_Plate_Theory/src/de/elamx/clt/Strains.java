@@ -149,4 +149,21 @@ public class Strains {
     public double[] getEpsilonKappaAsVector(){
         return new double[]{epsilon_x, epsilon_y, gamma_xy, kappa_x, kappa_y, kappa_xy};
     }
+
+    /**
+     * Liefert eine Kopie der Verzerrungen. Die Kopie ist eine reine
+     * {@link Strains}-Instanz ohne Listener.
+     *
+     * @return Kopie der Verzerrungen
+     */
+    public Strains getCopy() {
+        Strains copy = new Strains();
+        copy.epsilon_x = epsilon_x;
+        copy.epsilon_y = epsilon_y;
+        copy.gamma_xy = gamma_xy;
+        copy.kappa_x = kappa_x;
+        copy.kappa_y = kappa_y;
+        copy.kappa_xy = kappa_xy;
+        return copy;
+    }
 }
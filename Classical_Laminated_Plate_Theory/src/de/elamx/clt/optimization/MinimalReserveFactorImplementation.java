@@ -28,7 +28,7 @@ package de.elamx.clt.optimization;
 import de.elamx.clt.CLT_Calculator;
 import de.elamx.clt.CLT_Input;
 import de.elamx.clt.CLT_Laminate;
-import de.elamx.clt.CLT_LayerResult;
+import de.elamx.clt.CLT_Workspace;
 import de.elamx.core.ELamXDecimalFormat;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
@@ -42,6 +42,7 @@ import org.openide.util.*;
 public class MinimalReserveFactorImplementation implements MinimalReserveFactorCalculator {
 
     private final CLT_Input input;
+    private final CLT_Workspace workspace = new CLT_Workspace();
 
     public MinimalReserveFactorImplementation() {
         input = new CLT_Input();
@@ -53,27 +54,19 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
 
     @Override
     public double getMinimalReserveFactor(Laminat laminat) {
-        boolean oldNotify = input.isNotify();
-        input.setNotify(false);
         CLT_Laminate clt_lam = laminat.getLookup().lookup(CLT_Laminate.class);
         if (clt_lam == null) {
             clt_lam = new CLT_Laminate(laminat);
         }
 
-        CLT_Calculator.determineValues(clt_lam, input.getLoad(), input.getStrains(), input.isUseStrains());
+        // Die Eingabe wird nur gelesen, die Ergebnisse landen im Arbeitsspeicher.
+        workspace.setLoads(input.getLoad());
+        workspace.setStrains(input.getStrains());
 
-        CLT_LayerResult[] results = CLT_Calculator.getLayerResults(clt_lam, input.getLoad(), input.getStrains());
+        CLT_Calculator.determineValues(clt_lam, workspace, input.isUseStrains());
+        CLT_Calculator.calcLayerResults(clt_lam, workspace);
 
-        double minimalReserveFactor = Double.MAX_VALUE;
-
-        for (CLT_LayerResult r : results) {
-            minimalReserveFactor = Math.min(minimalReserveFactor, r.getRr_lower().getMinimalReserveFactor());
-            minimalReserveFactor = Math.min(minimalReserveFactor, r.getRr_upper().getMinimalReserveFactor());
-        }
-
-        input.setNotify(oldNotify);
-
-        return minimalReserveFactor;
+        return workspace.getMinimalReserveFactor();
     }
 
     public CLT_Input getInput() {
@@ -85,6 +78,25 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
         return false;
     }
 
+    /**
+     * Bei symmetrischen Laminaten sind Scheiben- und Plattenverhalten
+     * entkoppelt. Ohne Momente bzw. mit vorgegebenen Krümmungen gleich null
+     * ist die Verzerrung über die Dicke konstant und hängt nur von der
+     * A-Matrix und den hygrothermalen Schnittkräften ab, die beide nicht von
+     * der Reihenfolge der Lagen abhängen.
+     */
+    @Override
+    public boolean isStackingSequenceIrrelevant() {
+        double[] moments = {input.getLoad().getM_x(), input.getLoad().getM_y(), input.getLoad().getM_xy()};
+        double[] curvatures = {input.getStrains().getKappa_x(), input.getStrains().getKappa_y(), input.getStrains().getKappa_xy()};
+        for (int ii = 0; ii < 3; ii++) {
+            if ((input.isUseStrains(ii + 3) ? curvatures[ii] : moments[ii]) != 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public MinimalReserveFactorCalculator getCopy() {
         return new MinimalReserveFactorImplementation(input.copy());
@@ -33,7 +33,9 @@ import de.elamx.laminate.failure.Puck;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import org.junit.Test;
 
 /**
@@ -1818,4 +1820,212 @@ public class CLT_CalculatorTest {
         assertEquals(-123.4, stress[1], 0.05);
         assertEquals(-184.3, stress[2], 0.05);
     }
-}
\ No newline at end of file
+
+    /**
+     * KLT-Beispiel aus HSB 37103-01, Issue D Prüfung der Auswertung über den
+     * Arbeitsspeicher gegenüber der objektbasierten Auswertung
+     */
+    @Test
+    public void HSB37103_01_D_workspace() {
+
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+        mat.setAlphaTPar(-0.5E-6);
+        mat.setAlphaTNor(30.0E-6);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 70.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, 90.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 10.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer4", mat, 0.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        Loads loads = new Loads();
+        loads.setN_x(100.0);
+        loads.setN_xy(20.0);
+        loads.setM_x(15.0);
+        loads.setDeltaT(-80.0);
+
+        Strains strains = new Strains();
+        strains.setEpsilon_y(0.001);
+
+        boolean[] useStrains = new boolean[]{false, true, false, false, false, false};
+
+        CLT_Workspace ws = new CLT_Workspace(clt_lam);
+        ws.setLoads(loads);
+        ws.setStrains(strains);
+        CLT_Calculator.determineValues(clt_lam, ws, useStrains);
+        CLT_Calculator.calcLayerResults(clt_lam, ws);
+
+        CLT_Calculator.determineValues(clt_lam, loads, strains, useStrains);
+        CLT_LayerResult[] layerResults = CLT_Calculator.getLayerResults(clt_lam, loads, strains);
+
+        double[] epsKappa = strains.getEpsilonKappaAsVector();
+        double[] forMom = loads.getForceMomentAsVector();
+        for (int ii = 0; ii < 6; ii++) {
+            assertEquals(epsKappa[ii], ws.getEpsilonKappa()[ii], 1.0E-12);
+            assertEquals(forMom[ii], ws.getForceMoment()[ii], 1.0E-9);
+        }
+
+        for (int ii = 0; ii < layerResults.length; ii++) {
+            for (int jj = 0; jj < 3; jj++) {
+                assertEquals(layerResults[ii].getSss_lower().getStrain()[jj], ws.getStrainLocal(ii, CLT_Layer.POSITION_LOWER)[jj], 1.0E-12);
+                assertEquals(layerResults[ii].getSss_upper().getStress()[jj], ws.getStressLocal(ii, CLT_Layer.POSITION_UPPER)[jj], 1.0E-9);
+                assertEquals(layerResults[ii].getSss_upper_glo().getStress()[jj], ws.getStressGlobal(ii, CLT_Layer.POSITION_UPPER)[jj], 1.0E-9);
+            }
+            assertEquals(layerResults[ii].getRr_lower().getMinimalReserveFactor(), ws.getReserveFactor(ii, CLT_Layer.POSITION_LOWER), 1.0E-9);
+            assertEquals(layerResults[ii].getRr_upper().getMinimalReserveFactor(), ws.getReserveFactor(ii, CLT_Layer.POSITION_UPPER), 1.0E-9);
+        }
+    }
+
+    @Test
+    public void HSB37103_01_D_batch() {
+
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+        mat.setAlphaTPar(-0.5E-6);
+        mat.setAlphaTNor(30.0E-6);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 70.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, 90.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 10.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer4", mat, 0.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        int numCases = 5;
+        boolean[][] useStrains = new boolean[][]{
+            {false, false, false, false, false, false},
+            {false, true, false, false, false, false},
+            {false, false, false, false, false, false},
+            {true, false, false, false, false, true},
+            {false, true, false, false, false, false}};
+
+        Loads[] batchLoads = new Loads[numCases];
+        Strains[] batchStrains = new Strains[numCases];
+        Loads[] singleLoads = new Loads[numCases];
+        Strains[] singleStrains = new Strains[numCases];
+        for (int ii = 0; ii < numCases; ii++) {
+            for (int jj = 0; jj < 2; jj++) {
+                Loads loads = new Loads();
+                loads.setN_x(100.0 * (ii + 1));
+                loads.setN_xy(-20.0 * ii);
+                loads.setM_x(15.0);
+                loads.setDeltaT(-20.0 * ii);
+                loads.setDeltaH(0.1 * ii);
+                Strains strains = new Strains();
+                strains.setEpsilon_x(0.0005);
+                strains.setEpsilon_y(0.001 * ii);
+                strains.setKappa_xy(0.0001);
+                if (jj == 0) {
+                    batchLoads[ii] = loads;
+                    batchStrains[ii] = strains;
+                } else {
+                    singleLoads[ii] = loads;
+                    singleStrains[ii] = strains;
+                }
+            }
+        }
+
+        CLT_Calculator.determineValues(clt_lam, batchLoads, batchStrains, useStrains);
+
+        double[][] epsilonKappa = new double[numCases][];
+        double[] deltaT = new double[numCases];
+        double[] deltaH = new double[numCases];
+        for (int ii = 0; ii < numCases; ii++) {
+            epsilonKappa[ii] = batchStrains[ii].getEpsilonKappaAsVector();
+            deltaT[ii] = batchLoads[ii].getDeltaT();
+            deltaH[ii] = batchLoads[ii].getDeltaH();
+        }
+        double[][] reserveFactors = new double[numCases][2 * lam.getNumberofLayers()];
+        CLT_Calculator.calcLayerResults(clt_lam, epsilonKappa, deltaT, deltaH, reserveFactors);
+
+        for (int ii = 0; ii < numCases; ii++) {
+            CLT_Calculator.determineValues(clt_lam, singleLoads[ii], singleStrains[ii], useStrains[ii]);
+            CLT_LayerResult[] layerResults = CLT_Calculator.getLayerResults(clt_lam, singleLoads[ii], singleStrains[ii]);
+
+            double[] epsKappa = singleStrains[ii].getEpsilonKappaAsVector();
+            double[] forMom = singleLoads[ii].getForceMomentAsVector();
+            double[] batchEpsKappa = batchStrains[ii].getEpsilonKappaAsVector();
+            double[] batchForMom = batchLoads[ii].getForceMomentAsVector();
+            for (int jj = 0; jj < 6; jj++) {
+                assertEquals(epsKappa[jj], batchEpsKappa[jj], 1.0E-12);
+                assertEquals(forMom[jj], batchForMom[jj], 1.0E-9);
+            }
+
+            for (int jj = 0; jj < layerResults.length; jj++) {
+                assertEquals(layerResults[jj].getRr_lower().getMinimalReserveFactor(), reserveFactors[ii][CLT_Workspace.getIndex(jj, CLT_Layer.POSITION_LOWER)], 1.0E-9);
+                assertEquals(layerResults[jj].getRr_upper().getMinimalReserveFactor(), reserveFactors[ii][CLT_Workspace.getIndex(jj, CLT_Layer.POSITION_UPPER)], 1.0E-9);
+            }
+        }
+    }
+
+    /**
+     * Die Kopien der Lasten und Verzerrungen, wie sie im parallelen
+     * Batchbetrieb verwendet werden, enthalten alle Werte und sind vom
+     * Original unabhängig.
+     */
+    @Test
+    public void loadsAndStrainsCopy() {
+        Loads loads = new Loads();
+        loads.setN_x(1.0);
+        loads.setN_y(2.0);
+        loads.setN_xy(3.0);
+        loads.setM_x(4.0);
+        loads.setM_y(5.0);
+        loads.setM_xy(6.0);
+        loads.setDeltaT(7.0);
+        loads.setDeltaH(8.0);
+        loads.setHygrothermalForcesAsVector(new double[]{9.0, 10.0, 11.0, 12.0, 13.0, 14.0});
+
+        Loads loadsCopy = loads.getCopy();
+        assertNotSame(loads, loadsCopy);
+        assertArrayEquals(loads.getForceMomentAsVector(), loadsCopy.getForceMomentAsVector(), 0.0);
+        assertEquals(7.0, loadsCopy.getDeltaT(), 0.0);
+        assertEquals(8.0, loadsCopy.getDeltaH(), 0.0);
+        assertArrayEquals(new double[]{9.0, 10.0, 11.0, 12.0, 13.0, 14.0},
+                new double[]{loadsCopy.getnT_x(), loadsCopy.getnT_y(), loadsCopy.getnT_xy(),
+                    loadsCopy.getmT_x(), loadsCopy.getmT_y(), loadsCopy.getmT_xy()}, 0.0);
+
+        loads.setN_x(-1.0);
+        loads.setDeltaT(-7.0);
+        loads.setHygrothermalForcesAsVector(new double[6]);
+        assertEquals(1.0, loadsCopy.getN_x(), 0.0);
+        assertEquals(7.0, loadsCopy.getDeltaT(), 0.0);
+        assertEquals(9.0, loadsCopy.getnT_x(), 0.0);
+
+        Strains strains = new Strains();
+        strains.setEpsilon_x(0.1);
+        strains.setEpsilon_y(0.2);
+        strains.setGamma_xy(0.3);
+        strains.setKappa_x(0.4);
+        strains.setKappa_y(0.5);
+        strains.setKappa_xy(0.6);
+
+        Strains strainsCopy = strains.getCopy();
+        assertNotSame(strains, strainsCopy);
+        assertArrayEquals(new double[]{0.1, 0.2, 0.3, 0.4, 0.5, 0.6}, strainsCopy.getEpsilonKappaAsVector(), 0.0);
+
+        strains.setEpsilon_x(-0.1);
+        strains.setKappa_xy(-0.6);
+        assertArrayEquals(new double[]{0.1, 0.2, 0.3, 0.4, 0.5, 0.6}, strainsCopy.getEpsilonKappaAsVector(), 0.0);
+    }
+}
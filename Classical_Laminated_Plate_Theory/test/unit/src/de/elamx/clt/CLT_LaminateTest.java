@@ -0,0 +1,217 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_LaminateTest {
+
+    public CLT_LaminateTest() {
+    }
+
+    /**
+     * Prüfung der inkrementellen Aktualisierung der ABD-Matrix bei Änderung
+     * einzelner Schichtwinkel gegen einen vollständigen Neuaufbau.
+     */
+    @Test
+    public void incrementalABDUpdate() {
+
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 45.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, -45.0, 0.25));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 0.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer4", mat, 90.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+        lam.setSymmetric(true);
+
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        // über die API des Laminats
+        clt_lam.setLayerAngle(1, 30.0);
+        assertABDEquals(lam, clt_lam);
+
+        // über die Änderungsbenachrichtigung der Schicht
+        layers.get(3).setAngle(-60.0);
+        assertABDEquals(lam, clt_lam);
+
+        clt_lam.setLayerAngle(0, 15.0);
+        clt_lam.setLayerAngle(2, 75.0);
+        assertABDEquals(lam, clt_lam);
+
+        // Materialänderung erfordert vollständigen Neuaufbau
+        mat.setEnor(12000.0);
+        assertABDEquals(lam, clt_lam);
+
+        // Änderung des Lagenaufbaus
+        lam.setSymmetric(false);
+        assertABDEquals(lam, clt_lam);
+
+        clt_lam.setLayerAngle(3, 0.0);
+        assertABDEquals(lam, clt_lam);
+    }
+
+    /**
+     * Prüfung der inkrementellen Aktualisierung für ein Laminat aus mehreren
+     * Materialien, bei dem die Schichtbeiträge einzeln ausgetauscht werden.
+     */
+    @Test
+    public void incrementalABDUpdateMultiMaterial() {
+
+        DefaultMaterial mat1 = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        DefaultMaterial mat2 = new DefaultMaterial(UUID.randomUUID().toString(), "Mat2", 70000.0, 70000.0, 0.3, 26900.0, 0.0, false);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat1, 45.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat2, 0.0, 0.5));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat1, 0.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        clt_lam.setLayerAngle(0, -30.0);
+        assertABDEquals(lam, clt_lam);
+
+        clt_lam.setLayerAngle(2, 60.0);
+        assertABDEquals(lam, clt_lam);
+
+        assertABDEquals(getPlyWiseABD(clt_lam), clt_lam.getABDMatrix());
+    }
+
+    /**
+     * Prüfung der Laminatparameter gegen die schichtweise aufsummierte
+     * ABD-Matrix für unsymmetrische und symmetrische Laminate mit und ohne
+     * Mittelschicht, umgekehrter z-Richtung und Versatz.
+     */
+    @Test
+    public void laminationParameters() {
+
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+
+        double[] angles = new double[]{30.0, -45.0, 90.0, 10.0, 0.0};
+        double[] thicknesses = new double[]{0.125, 0.25, 0.125, 0.2, 0.125};
+
+        for (int variant = 0; variant < 4; variant++) {
+            List<DataLayer> layers = new ArrayList<>();
+            for (int ii = 0; ii < angles.length; ii++) {
+                layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, mat, angles[ii], thicknesses[ii]));
+            }
+
+            Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+            lam.addLayers(layers);
+            lam.setSymmetric(variant >= 2);
+            lam.setWithMiddleLayer(variant == 3);
+            lam.setInvertZ(variant == 1);
+            lam.setOffset(variant == 1 || variant == 3 ? 0.3 : 0.0);
+
+            CLT_Laminate clt_lam = new CLT_Laminate(lam);
+            CLT_LaminationParameters lamParams = new CLT_LaminationParameters(lam);
+
+            assertABDEquals(getPlyWiseABD(clt_lam), lamParams.getABDMatrix());
+            assertEquals(lam.getThickness(), lamParams.getTotalThickness(), 1.0E-12);
+
+            // Aktualisierungen gegen Neuaufbau
+            lamParams.setAngle(1, 60.0);
+            lamParams.addLayer(-30.0, 0.15);
+            lamParams.addLayer(45.0, 0.1);
+            lamParams.removeLastLayer();
+            lamParams.addLayer(2, 15.0, 0.3);
+            lamParams.removeLayer(0);
+
+            lam.getOriginalLayers().get(1).setAngle(60.0);
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer5", mat, -30.0, 0.15));
+            lam.addLayer(2, new DataLayer(UUID.randomUUID().toString(), "Layer6", mat, 15.0, 0.3));
+            lam.removeLayer(0);
+
+            assertABDEquals(getPlyWiseABD(clt_lam), lamParams.getABDMatrix());
+            assertABDEquals(getPlyWiseABD(clt_lam), clt_lam.getABDMatrix());
+            assertABDEquals(new CLT_LaminationParameters(lam).getABDMatrix(), lamParams.getABDMatrix());
+        }
+    }
+
+    private static double[][] getPlyWiseABD(CLT_Laminate clt_lam) {
+        double[][] abd = new double[6][6];
+        double[][] Qglo = new double[3][3];
+        for (CLT_Layer layer : clt_lam.getCLTLayers()) {
+            layer.getQMatGlobal(Qglo);
+            double t = layer.getLayer().getThickness();
+            double zm = layer.getZm();
+            for (int m = 0; m < 3; m++) {
+                for (int n = 0; n < 3; n++) {
+                    abd[m][n] += Qglo[m][n] * t;
+                    abd[m][n + 3] += Qglo[m][n] * t * zm;
+                    abd[m + 3][n] += Qglo[m][n] * t * zm;
+                    abd[m + 3][n + 3] += Qglo[m][n] * t * (t * t / 12.0 + zm * zm);
+                }
+            }
+        }
+        return abd;
+    }
+
+    private static void assertABDEquals(double[][] abdRef, double[][] abd) {
+        for (int ii = 0; ii < 6; ii++) {
+            for (int jj = 0; jj < 6; jj++) {
+                assertEquals(abdRef[ii][jj], abd[ii][jj], 1.0E-9 * Math.abs(abdRef[0][0]));
+            }
+        }
+    }
+
+    private static void assertABDEquals(Laminat lam, CLT_Laminate clt_lam) {
+        CLT_Laminate reference = new CLT_Laminate(lam.getCopy(false));
+
+        double[][] abd = clt_lam.getABDMatrix();
+        double[][] abdRef = reference.getABDMatrix();
+        double[][] abdInv = clt_lam.getInvABDMatrix();
+        double[][] abdInvRef = reference.getInvABDMatrix();
+        for (int ii = 0; ii < 6; ii++) {
+            for (int jj = 0; jj < 6; jj++) {
+                assertEquals(abdRef[ii][jj], abd[ii][jj], 1.0E-9 * Math.abs(abdRef[0][0]));
+                assertEquals(abdInvRef[ii][jj], abdInv[ii][jj], 1.0E-9 * Math.abs(abdInvRef[0][0]));
+            }
+        }
+        assertEquals(reference.isSymmetric(), clt_lam.isSymmetric());
+    }
+}
@@ -608,4 +608,47 @@ public class CLT_LayerTest {
         assertEquals(-367.15, InvABDMat[5][4]*100000.0, 0.005);
         assertEquals(1557.74, InvABDMat[5][5]*100000.0, 0.005);
     }
+
+    /**
+     * Vergleich der im gemeinsamen Cache gehaltenen globalen Q-Matrix mit
+     * der direkten Berechnung über die Invarianten. Es werden mehr Winkel
+     * abgefragt als der Cache aufnehmen kann, sodass auch bereits
+     * verdrängte Einträge erneut geprüft werden.
+     */
+    @Test
+    public void cachedGlobalStiffness() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        CLT_Layer layer = new CLT_Layer(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 0.0, 0.125));
+        double[][] Q = layer.getQMatLocal();
+        double U1 = (3.0 * Q[0][0] + 3.0 * Q[1][1] + 2.0 * Q[0][1] + 4.0 * Q[2][2]) / 8.0;
+        double U2 = (Q[0][0] - Q[1][1]) / 2.0;
+        double U3 = (Q[0][0] + Q[1][1] - 2.0 * Q[0][1] - 4.0 * Q[2][2]) / 8.0;
+        double U4 = (Q[0][0] + Q[1][1] + 6.0 * Q[0][1] - 4.0 * Q[2][2]) / 8.0;
+        double U5 = (Q[0][0] + Q[1][1] - 2.0 * Q[0][1] + 4.0 * Q[2][2]) / 8.0;
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (int ii = 0; ii <= 6000; ii++) {
+                double angle = -90.0 + ii * 0.03;
+                double[][] Qglo = layer.getQMatGlobal_deltaAngle(angle);
+
+                double c2 = Math.cos(2.0 * Math.toRadians(angle));
+                double c4 = Math.cos(4.0 * Math.toRadians(angle));
+                double s2 = Math.sin(2.0 * Math.toRadians(angle));
+                double s4 = Math.sin(4.0 * Math.toRadians(angle));
+                double tol = 1.0E-9 * Q[0][0];
+
+                assertEquals(U1 + U2 * c2 + U3 * c4, Qglo[0][0], tol);
+                assertEquals(U4 - U3 * c4, Qglo[0][1], tol);
+                assertEquals(U1 - U2 * c2 + U3 * c4, Qglo[1][1], tol);
+                assertEquals(U5 - U3 * c4, Qglo[2][2], tol);
+                assertEquals(U2 / 2.0 * s2 + U3 * s4, Qglo[0][2], tol);
+                assertEquals(U2 / 2.0 * s2 - U3 * s4, Qglo[1][2], tol);
+            }
+        }
+    }
 }
\ No newline at end of file
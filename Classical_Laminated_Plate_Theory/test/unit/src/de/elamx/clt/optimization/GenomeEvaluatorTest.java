@@ -0,0 +1,121 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.clt.CLT_Input;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.failure.Puck;
+import de.elamx.laminate.optimization.GenomeEvaluator;
+import de.elamx.laminate.optimization.LaminateGenome;
+import de.elamx.laminate.optimization.PlyTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Vergleich der inkrementellen Bewertung im {@link GenomeEvaluator} mit der
+ * Berechnung an vollständig neu erzeugten Laminaten.
+ *
+ * @author Andreas Hauffe
+ */
+public class GenomeEvaluatorTest {
+
+    private static final double[] ANGLES = {0.0, 45.0, -45.0, 90.0};
+    private static final double THICKNESS = 0.125;
+
+    private static final double[][] LOADS = {
+        {-300.0, 100.0, 120.0, 0.0, 0.0, 0.0},
+        {200.0, -150.0, 40.0, 10.0, -5.0, 3.0}};
+
+    public GenomeEvaluatorTest() {
+    }
+
+    private static DefaultMaterial createMaterial(String name, double EPar, double ENor, double RParTen, double RNorTen) {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), name, EPar, ENor, 0.28, 4600.0, 1.5E-9, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+        mat.setRParTen(RParTen);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(RNorTen);
+        mat.setRNorCom(200.0);
+        mat.setRShear(80.0);
+        return mat;
+    }
+
+    private static CLT_Input createInput(double[] loads) {
+        CLT_Input input = new CLT_Input();
+        input.getLoad().setN_x(loads[0]);
+        input.getLoad().setN_y(loads[1]);
+        input.getLoad().setN_xy(loads[2]);
+        input.getLoad().setM_x(loads[3]);
+        input.getLoad().setM_y(loads[4]);
+        input.getLoad().setM_xy(loads[5]);
+        return input;
+    }
+
+    /**
+     * Zufällige Lagenaufbauten mit wechselnder Lagenanzahl und wechselndem
+     * Material werden nacheinander mit demselben Bewerter berechnet, sodass
+     * das Arbeitslaminat sowohl über Winkeländerungen als auch über
+     * Materialwechsel und neu aufgebaute Lagenlisten aktualisiert wird.
+     */
+    @Test
+    public void randomGenomesMatchCreatedLaminates() {
+        DefaultMaterial mat1 = createMaterial("Mat1", 132700.0, 9300.0, 2000.0, 50.0);
+        DefaultMaterial mat2 = createMaterial("Mat2", 60000.0, 12000.0, 900.0, 70.0);
+
+        DataLayer baseLayer = new DataLayer("", "Layer", mat1, 0.0, THICKNESS);
+        Random random = new Random(42L);
+        for (boolean symmetric : new boolean[]{false, true}) {
+            PlyTemplate template = PlyTemplate.create(baseLayer, ANGLES, symmetric)
+                    .withPly(new DataLayer("", "Layer", mat2, 30.0, THICKNESS, baseLayer.getCriterion()))
+                    .withPly(new DataLayer("", "Layer", mat2, -60.0, 2.0 * THICKNESS, baseLayer.getCriterion()));
+            for (double[] loads : LOADS) {
+                List<MinimalReserveFactorImplementation> calculators = new ArrayList<>();
+                calculators.add(new MinimalReserveFactorImplementation(createInput(loads)));
+                GenomeEvaluator evaluator = new GenomeEvaluator(template, calculators);
+
+                for (int ii = 0; ii < 200; ii++) {
+                    short[] plies = new short[1 + random.nextInt(8)];
+                    for (int jj = 0; jj < plies.length; jj++) {
+                        plies[jj] = (short) random.nextInt(template.getNumberOfPlies());
+                    }
+                    LaminateGenome genome = new LaminateGenome(plies);
+
+                    double actual = evaluator.getMinimalReserveFactor(genome);
+                    double expected = new MinimalReserveFactorImplementation(createInput(loads)).getMinimalReserveFactor(template.createLaminat(genome));
+                    assertEquals(expected, actual, 1.0E-10 * Math.abs(expected));
+                }
+            }
+        }
+    }
+}
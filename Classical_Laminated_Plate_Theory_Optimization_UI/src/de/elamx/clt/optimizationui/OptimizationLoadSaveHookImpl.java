@@ -144,6 +144,20 @@ public class OptimizationLoadSaveHookImpl implements LoadSaveHook {
 
                         OptimizationInput input = new OptimizationInput(angles, thickness, material, criterion, mrfcArrayList, symmetricLaminat);
 
+                        // optionale Einstellungen, fehlen in älteren Dateien
+                        String seed = getTagValue("seed", optimizationElem);
+                        if (seed != null) {
+                            input.setSeed(Long.parseLong(seed));
+                        }
+                        String parallelism = getTagValue("parallelism", optimizationElem);
+                        if (parallelism != null) {
+                            input.setParallelism(Integer.parseInt(parallelism));
+                        }
+                        String islands = getTagValue("islands", optimizationElem);
+                        if (islands != null) {
+                            input.setNumberOfIslands(Integer.parseInt(islands));
+                        }
+
                         OptimizationModuleData data = new OptimizationModuleData(input, true);
                         data.setName(name);
                         data.setAngleType(angletype);
@@ -217,6 +231,9 @@ public class OptimizationLoadSaveHookImpl implements LoadSaveHook {
                 addValue(doc, "material", input.getMaterial().getUUID(), dataElement);
                 addValue(doc, "criterion", input.getCriterion().getClass().getName(), dataElement);
                 addValue(doc, "symmetriclaminat", Boolean.toString(input.isSymmetricLaminat()), dataElement);
+                addValue(doc, "seed", Long.toString(input.getSeed()), dataElement);
+                addValue(doc, "parallelism", Integer.toString(input.getParallelism()), dataElement);
+                addValue(doc, "islands", Integer.toString(input.getNumberOfIslands()), dataElement);
 
                 double[] angles = input.getAngles();
 
@@ -25,6 +25,7 @@
  */
 package de.elamx.clt.optimizationui;
 
+import de.elamx.clt.optimization.IslandOptimizer;
 import de.elamx.clt.optimization.OptimizationInput;
 import de.elamx.clt.optimization.OptimizationResult;
 import de.elamx.clt.optimization.Optimizer;
@@ -440,7 +441,7 @@ public final class OptimizationTopComponent extends TopComponent implements Prop
                 minResFacDataset.removeAllSeries();
                 minResFacDataset.addSeries(new XYSeries(NbBundle.getMessage(OptimizationTopComponent.class, "OptimizationChart.yaxis2.caption")));
                 for (int ii = 0; ii < 1; ii++) {
-                    Optimizer optimizer = data.getOptimizer().getInstance(data.getOptimizationInput());
+                    Optimizer optimizer = IslandOptimizer.create(data.getOptimizer(), data.getOptimizationInput());
                     OptimizationResult result = optimizer.getResult();
                     result.addPropertyChangeListener(new OptimizationResultListener());
                     optimizer.optimize(false);
@@ -0,0 +1,163 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.laminate.optimization.LaminateGenome;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Zwischenspeicher für die minimalen Reservefaktoren bereits bewerteter
+ * Lagenaufbauten. Genetische Operatoren erzeugen dieselben Lagenaufbauten
+ * häufig mehrfach, sodass die Bewertung durch alle Reservefaktorrechner
+ * eingespart werden kann.
+ *
+ * <p>Als Schlüssel dient eine kompakte Zeichenkette aus dem Symmetrieflag und
+ * einem Zeichen je Einzelschicht (siehe {@link #createKey(boolean, int[], int)}).
+ * Die Länge des Schlüssels enthält damit auch die Lagenanzahl. Ist die
+ * maximale Anzahl an Einträgen erreicht, wird der am längsten nicht mehr
+ * verwendete Eintrag verworfen. Die Klasse kann von mehreren Threads
+ * gleichzeitig verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class FitnessCache {
+
+    /**
+     * Standardwert für die maximale Anzahl an gespeicherten Lagenaufbauten.
+     */
+    public static final int DEFAULT_MAX_SIZE = 100000;
+
+    private final Map<String, Double> cache;
+    private final AtomicInteger numberOfHits = new AtomicInteger();
+    private final AtomicInteger numberOfMisses = new AtomicInteger();
+
+    public FitnessCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize maximale Anzahl an gespeicherten Lagenaufbauten
+     */
+    public FitnessCache(final int maxSize) {
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Liefert den gespeicherten minimalen Reservefaktor für den Schlüssel.
+     * Ist für den Schlüssel noch kein Wert vorhanden, wird er mit
+     * <code>evaluator</code> berechnet und gespeichert. Für den Schlüssel
+     * <code>null</code> wird immer neu berechnet.
+     *
+     * @param key Schlüssel des Lagenaufbaus
+     * @param evaluator Berechnung des minimalen Reservefaktors
+     * @return minimaler Reservefaktor
+     */
+    public double getMinimalReserveFactor(String key, DoubleSupplier evaluator) {
+        if (key == null) {
+            return evaluator.getAsDouble();
+        }
+        Double value;
+        synchronized (cache) {
+            value = cache.get(key);
+        }
+        if (value != null) {
+            numberOfHits.incrementAndGet();
+            return value;
+        }
+        // Berechnung außerhalb der Sperre, damit andere Threads nicht warten
+        double minResFac = evaluator.getAsDouble();
+        numberOfMisses.incrementAndGet();
+        synchronized (cache) {
+            cache.put(key, minResFac);
+        }
+        return minResFac;
+    }
+
+    /**
+     * Gibt die Anzahl der aus dem Zwischenspeicher beantworteten Anfragen
+     * zurück.
+     *
+     * @return Anzahl der Treffer
+     */
+    public int getNumberOfHits() {
+        return numberOfHits.get();
+    }
+
+    /**
+     * Gibt die Anzahl der Anfragen zurück, für die die Reservefaktorrechner
+     * aufgerufen werden mussten.
+     *
+     * @return Anzahl der Fehlzugriffe
+     */
+    public int getNumberOfMisses() {
+        return numberOfMisses.get();
+    }
+
+    /**
+     * Erzeugt den kanonischen Schlüssel eines Lagenaufbaus.
+     *
+     * @param symmetric true, wenn das Laminat symmetrisch ist
+     * @param codes Kennzahl je Einzelschicht, in der Regel der Index der Lage
+     * im {@link de.elamx.laminate.optimization.PlyTemplate}
+     * @param numLayers Anzahl der zu berücksichtigenden Einzelschichten
+     * @return Schlüssel oder null, wenn eine Kennzahl negativ oder größer als
+     * {@link Character#MAX_VALUE} ist
+     */
+    public static String createKey(boolean symmetric, int[] codes, int numLayers) {
+        char[] key = new char[numLayers + 1];
+        key[0] = symmetric ? 'S' : 'U';
+        for (int ii = 0; ii < numLayers; ii++) {
+            if (codes[ii] < 0 || codes[ii] > Character.MAX_VALUE) {
+                return null;
+            }
+            key[ii + 1] = (char) codes[ii];
+        }
+        return new String(key);
+    }
+
+    /**
+     * Erzeugt den kanonischen Schlüssel eines Lagenaufbaus.
+     *
+     * @param genome Lagenaufbau
+     * @param symmetric true, wenn das Laminat symmetrisch ist
+     * @return Schlüssel
+     */
+    public static String createKey(LaminateGenome genome, boolean symmetric) {
+        int[] codes = new int[genome.getNumberOfLayers()];
+        for (int ii = 0; ii < codes.length; ii++) {
+            codes[ii] = genome.getPly(ii);
+        }
+        return createKey(symmetric, codes, codes.length);
+    }
+}
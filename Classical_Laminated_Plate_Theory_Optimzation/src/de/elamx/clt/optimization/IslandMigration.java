@@ -0,0 +1,117 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.laminate.optimization.LaminateGenome;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Austausch der besten Lagenaufbauten zwischen den Inseln eines
+ * {@link IslandOptimizer}. Die Inseln sind in einem Ring angeordnet. Jede
+ * Insel legt ihre Auswanderer ab und übernimmt die zuletzt abgelegten
+ * Auswanderer ihres Vorgängers. Der Austausch ist asynchron, d.h. keine
+ * Insel wartet auf eine andere.
+ *
+ * <p>Die Lagenaufbauten werden als {@link LaminateGenome} ausgetauscht. Die
+ * Indizes beziehen sich auf die Winkel aus {@link OptimizationInput#getAngles()},
+ * die für alle Inseln gleich sind.
+ *
+ * @author Andreas Hauffe
+ */
+public class IslandMigration {
+
+    private final int interval;
+    private final int numberOfMigrants;
+    private final List<List<LaminateGenome>> emigrants;
+
+    /**
+     * @param numberOfIslands Anzahl der Inseln
+     * @param interval Anzahl der Generationen zwischen zwei Migrationen
+     * @param numberOfMigrants maximale Anzahl der Auswanderer je Migration
+     */
+    public IslandMigration(int numberOfIslands, int interval, int numberOfMigrants) {
+        this.interval = Math.max(1, interval);
+        this.numberOfMigrants = Math.max(0, numberOfMigrants);
+        this.emigrants = new ArrayList<>(numberOfIslands);
+        for (int ii = 0; ii < numberOfIslands; ii++) {
+            emigrants.add(Collections.emptyList());
+        }
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getNumberOfMigrants() {
+        return numberOfMigrants;
+    }
+
+    public int getNumberOfIslands() {
+        return emigrants.size();
+    }
+
+    /**
+     * Legt die Auswanderer der Insel ab und liefert die Einwanderer vom
+     * Vorgänger im Ring. Einwanderer werden nur einmal ausgeliefert.
+     *
+     * @param island Index der Insel
+     * @param genomes beste Lagenaufbauten der Insel, die besten zuerst
+     * @return Einwanderer, eventuell leer
+     */
+    public synchronized List<LaminateGenome> migrate(int island, List<LaminateGenome> genomes) {
+        int size = emigrants.size();
+        emigrants.set(island, new ArrayList<>(genomes.subList(0, Math.min(genomes.size(), numberOfMigrants))));
+        int source = (island + size - 1) % size;
+        if (source == island) {
+            return Collections.emptyList();
+        }
+        List<LaminateGenome> immigrants = emigrants.get(source);
+        emigrants.set(source, Collections.emptyList());
+        return immigrants;
+    }
+
+    /**
+     * Vergleicht zwei Lagenaufbauten. Zulässige Lagenaufbauten
+     * (Reservefaktor mindestens 1) sind besser als unzulässige, unter den
+     * zulässigen ist der mit weniger Lagen besser. Bei gleicher Lagenanzahl
+     * bzw. unter den unzulässigen entscheidet der größere Reservefaktor.
+     *
+     * @return negativ, wenn der erste Lagenaufbau besser ist
+     */
+    public static int compare(int numLayers1, double minReserveFactor1, int numLayers2, double minReserveFactor2) {
+        boolean feasible1 = minReserveFactor1 >= 1.0;
+        boolean feasible2 = minReserveFactor2 >= 1.0;
+        if (feasible1 != feasible2) {
+            return feasible1 ? -1 : 1;
+        }
+        if (feasible1 && numLayers1 != numLayers2) {
+            return Integer.compare(numLayers1, numLayers2);
+        }
+        return Double.compare(minReserveFactor2, minReserveFactor1);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.laminate.Laminat;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.openide.util.NbBundle;
+
+/**
+ * Startet mehrere Instanzen eines Optimierers (Inseln) mit unterschiedlichen
+ * Startwerten für die Zufallszahlen parallel und liefert den besten
+ * Lagenaufbau aller Inseln. Die Startwerte werden aus
+ * {@link OptimizationInput#getSeed()} abgeleitet, die verfügbaren Threads
+ * ({@link OptimizationInput#getParallelism()}) werden auf die Inseln
+ * aufgeteilt.
+ *
+ * <p>Optimierer, die die Migration unterstützen, tauschen in regelmäßigen
+ * Abständen ihre besten Lagenaufbauten über eine {@link IslandMigration}
+ * aus. Alle anderen Optimierer laufen als unabhängige Mehrfachstarts.
+ *
+ * <p>Die Klasse benötigt keine Oberfläche und kann z.B. auch im Batchbetrieb
+ * verwendet werden. Über {@link #create(Optimizer, OptimizationInput)} wird
+ * sie abhängig von {@link OptimizationInput#getNumberOfIslands()} eingesetzt.
+ *
+ * @author Andreas Hauffe
+ */
+public class IslandOptimizer extends Optimizer {
+
+    public static final int DEFAULT_MIGRATION_INTERVAL = 50;
+    public static final int DEFAULT_NUMBER_OF_MIGRANTS = 3;
+
+    private final Optimizer prototype;
+    private final int numberOfIslands;
+    private int migrationInterval = DEFAULT_MIGRATION_INTERVAL;
+    private int numberOfMigrants = DEFAULT_NUMBER_OF_MIGRANTS;
+    private List<Optimizer> islands;
+
+    public IslandOptimizer(Optimizer prototype, OptimizationInput input) {
+        this(prototype, input, input.getNumberOfIslands());
+    }
+
+    /**
+     * Erzeugt den Optimierer für die Eingabe. Ist mehr als eine Insel
+     * gefordert, werden die Inseln über einen {@link IslandOptimizer}
+     * gestartet, sonst wird direkt eine Instanz des Prototyps geliefert.
+     *
+     * @param prototype Optimierer, z.B. aus dem Lookup
+     * @param input Eingabe der Optimierung
+     * @return Optimierer für die Eingabe
+     */
+    public static Optimizer create(Optimizer prototype, OptimizationInput input) {
+        if (input.getNumberOfIslands() > 1) {
+            return new IslandOptimizer(prototype, input);
+        }
+        return prototype.getInstance(input);
+    }
+
+    /**
+     * @param prototype Optimierer, von dem über
+     * {@link Optimizer#getInstance(OptimizationInput)} die Inseln erzeugt
+     * werden
+     * @param input Eingabe der Optimierung
+     * @param numberOfIslands Anzahl der Inseln
+     */
+    public IslandOptimizer(Optimizer prototype, OptimizationInput input, int numberOfIslands) {
+        super(NbBundle.getMessage(Optimizer.class, "IslandOptimizer.name", prototype.getName(), Math.max(1, numberOfIslands)), input);
+        this.prototype = prototype;
+        this.numberOfIslands = Math.max(1, numberOfIslands);
+    }
+
+    public int getNumberOfIslands() {
+        return numberOfIslands;
+    }
+
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    /**
+     * @param migrationInterval Anzahl der Generationen zwischen zwei
+     * Migrationen
+     */
+    public void setMigrationInterval(int migrationInterval) {
+        this.migrationInterval = migrationInterval;
+    }
+
+    public int getNumberOfMigrants() {
+        return numberOfMigrants;
+    }
+
+    /**
+     * @param numberOfMigrants Anzahl der Lagenaufbauten, die je Migration an
+     * die nächste Insel weitergegeben werden
+     */
+    public void setNumberOfMigrants(int numberOfMigrants) {
+        this.numberOfMigrants = numberOfMigrants;
+    }
+
+    @Override
+    public Laminat internalOptimize() {
+        IslandMigration migration = new IslandMigration(numberOfIslands, migrationInterval, numberOfMigrants);
+        SplittableRandom seeds = new SplittableRandom(input.getSeed());
+        int parallelism = Math.max(1, input.getParallelism() / numberOfIslands);
+
+        islands = new ArrayList<>(numberOfIslands);
+        List<Callable<Laminat>> tasks = new ArrayList<>(numberOfIslands);
+        PropertyChangeListener listener = evt -> updateResult();
+        for (int ii = 0; ii < numberOfIslands; ii++) {
+            OptimizationInput islandInput = input.copy();
+            islandInput.setSeed(seeds.nextLong());
+            islandInput.setParallelism(parallelism);
+            Optimizer island = prototype.getInstance(islandInput);
+            island.setMigration(migration, ii);
+            island.getResult().addPropertyChangeListener(listener);
+            islands.add(island);
+            tasks.add(island::internalOptimize);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfIslands);
+        try {
+            List<Future<Laminat>> futures = executor.invokeAll(tasks);
+
+            Laminat bestLaminate = null;
+            double bestReserveFactor = 0.0;
+            for (int ii = 0; ii < numberOfIslands; ii++) {
+                Laminat laminat = futures.get(ii).get();
+                if (laminat == null) {
+                    continue;
+                }
+                double minReserveFactor = islands.get(ii).getResult().getMinReserveFactor();
+                if (bestLaminate == null || IslandMigration.compare(laminat.getOriginalLayers().size(), minReserveFactor,
+                        bestLaminate.getOriginalLayers().size(), bestReserveFactor) < 0) {
+                    bestLaminate = laminat;
+                    bestReserveFactor = minReserveFactor;
+                }
+            }
+
+            updateResult();
+            result.setFinished(bestLaminate != null);
+
+            return bestLaminate;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Fasst die Zwischenergebnisse der Inseln zusammen. Wird bei jeder
+     * Änderung eines Inselergebnisses aufgerufen.
+     */
+    private synchronized void updateResult() {
+        Laminat bestLaminate = null;
+        double bestReserveFactor = 0.0;
+        int numberOfContraintEvaluations = 0;
+        int numberOfCheckedLaminates = 0;
+        int numberOfPrunedLaminates = 0;
+        for (Optimizer island : islands) {
+            OptimizationResult islandResult = island.getResult();
+            numberOfContraintEvaluations += islandResult.getNumberOfContraintEvaluations();
+            numberOfCheckedLaminates += islandResult.getNumberOfCheckedLaminates();
+            numberOfPrunedLaminates += islandResult.getNumberOfPrunedLaminates();
+            Laminat laminat = islandResult.getBestLaminate();
+            if (laminat == null) {
+                continue;
+            }
+            double minReserveFactor = islandResult.getMinReserveFactor();
+            if (bestLaminate == null || IslandMigration.compare(laminat.getOriginalLayers().size(), minReserveFactor,
+                    bestLaminate.getOriginalLayers().size(), bestReserveFactor) < 0) {
+                bestLaminate = laminat;
+                bestReserveFactor = minReserveFactor;
+            }
+        }
+        if (bestLaminate != null) {
+            result.setNewResults(bestLaminate, numberOfContraintEvaluations, numberOfCheckedLaminates, bestReserveFactor);
+        }
+        result.setNumberOfPrunedLaminates(numberOfPrunedLaminates);
+    }
+
+    /**
+     * @return die Optimierer der Inseln des letzten Laufs
+     */
+    public List<Optimizer> getIslands() {
+        return islands;
+    }
+
+    @Override
+    public Optimizer getInstance(OptimizationInput input) {
+        IslandOptimizer optimizer = new IslandOptimizer(prototype, input, numberOfIslands);
+        optimizer.setMigrationInterval(migrationInterval);
+        optimizer.setNumberOfMigrants(numberOfMigrants);
+        return optimizer;
+    }
+
+    @Override
+    public boolean onlySymmetricLaminates() {
+        return prototype.onlySymmetricLaminates();
+    }
+}
@@ -31,6 +31,7 @@ import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 /**
  *
@@ -45,6 +46,9 @@ public class OptimizationInput {
     public static final String PROP_SYMMETRY = "SYMMETRY";
     public static final String PROP_OPTIMIZER = "OPTIMIZER";
     public static final String PROP_CALCULATORS = "CALCULATORS";
+    public static final String PROP_SEED = "SEED";
+    public static final String PROP_PARALLELISM = "PARALLELISM";
+    public static final String PROP_ISLANDS = "ISLANDS";
     
     private double[] angles;
     private double   thickness;
@@ -52,6 +56,9 @@ public class OptimizationInput {
     private Criterion criterion;
     private ArrayList<MinimalReserveFactorCalculator> calculators;
     private boolean symmetricLaminat;
+    private long seed = new SplittableRandom().nextLong();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int numberOfIslands = 1;
 
     private final boolean notify = true;
     @SuppressWarnings("this-escape")
@@ -131,6 +138,55 @@ public class OptimizationInput {
         firePropertyChange(PROP_SYMMETRY, oldSymmetricLaminat, this.symmetricLaminat);
     }
 
+    /**
+     * Startwert der Zufallszahlen stochastischer Optimierer. Bei gleichem
+     * Startwert und gleicher Eingabe liefern sie dasselbe Ergebnis.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        long oldSeed = this.seed;
+        this.seed = seed;
+        firePropertyChange(PROP_SEED, oldSeed, this.seed);
+    }
+
+    /**
+     * Maximale Anzahl an Threads, die ein Optimierer für parallele
+     * Bewertungen verwenden darf.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        int oldParallelism = this.parallelism;
+        this.parallelism = Math.max(1, parallelism);
+        firePropertyChange(PROP_PARALLELISM, oldParallelism, this.parallelism);
+    }
+
+    /**
+     * Anzahl der Inseln, auf denen der Optimierer parallel läuft (siehe
+     * {@link IslandOptimizer#create(Optimizer, OptimizationInput)}). Bei
+     * einer Insel läuft der Optimierer allein.
+     *
+     * @return the numberOfIslands
+     */
+    public int getNumberOfIslands() {
+        return numberOfIslands;
+    }
+
+    public void setNumberOfIslands(int numberOfIslands) {
+        int oldNumberOfIslands = this.numberOfIslands;
+        this.numberOfIslands = Math.max(1, numberOfIslands);
+        firePropertyChange(PROP_ISLANDS, oldNumberOfIslands, this.numberOfIslands);
+    }
+
     /**
      * Add PropertyChangeListener.
      *
@@ -182,6 +238,10 @@ public class OptimizationInput {
             newCalculators.add(calc.getCopy());
         }
         
-        return new OptimizationInput(newAngles, thickness, material, criterion, newCalculators, symmetricLaminat);
+        OptimizationInput in = new OptimizationInput(newAngles, thickness, material, criterion, newCalculators, symmetricLaminat);
+        in.seed = seed;
+        in.parallelism = parallelism;
+        in.numberOfIslands = numberOfIslands;
+        return in;
     }    
 }
@@ -42,6 +42,9 @@ public class OptimizationResult {
     public static final String PROP_FINISHED = "finished";
     public static final String PROP_GENERATIONOFLASTCHANGE = "generationOfLastChange";
     public static final String PROP_ALLRESULTS = "allResults";
+    public static final String PROP_NUMBEROFCACHEHITS = "numberOfCacheHits";
+    public static final String PROP_NUMBEROFCACHEMISSES = "numberOfCacheMisses";
+    public static final String PROP_NUMBEROFPRUNEDLAMINATES = "numberOfPrunedLaminates";
 
     private Laminat bestLaminate;
     private double minReserveFactor;
@@ -49,6 +52,9 @@ public class OptimizationResult {
     private int numberOfContraintEvaluations;
     private boolean finished;
     private int generationOfLastChange;
+    private int numberOfCacheHits;
+    private int numberOfCacheMisses;
+    private int numberOfPrunedLaminates;
 
     public OptimizationResult() {
         this(false);
@@ -179,6 +185,58 @@ public class OptimizationResult {
         this.generationOfLastChange = generationOfLastChange;
         propertyChangeSupport.firePropertyChange(PROP_GENERATIONOFLASTCHANGE, oldGenerationOfLastChange, generationOfLastChange);
     }
+
+    /**
+     * Get the number of partial laminates discarded by bounding
+     *
+     * @return the value of numberOfPrunedLaminates
+     */
+    public int getNumberOfPrunedLaminates() {
+        return numberOfPrunedLaminates;
+    }
+
+    /**
+     * Set the number of partial laminates discarded by bounding
+     *
+     * @param numberOfPrunedLaminates new value of numberOfPrunedLaminates
+     */
+    public void setNumberOfPrunedLaminates(int numberOfPrunedLaminates) {
+        int oldNumberOfPrunedLaminates = this.numberOfPrunedLaminates;
+        this.numberOfPrunedLaminates = numberOfPrunedLaminates;
+        propertyChangeSupport.firePropertyChange(PROP_NUMBEROFPRUNEDLAMINATES, oldNumberOfPrunedLaminates, numberOfPrunedLaminates);
+    }
+
+    /**
+     * Get the number of laminates found in the fitness cache
+     *
+     * @return the value of numberOfCacheHits
+     */
+    public int getNumberOfCacheHits() {
+        return numberOfCacheHits;
+    }
+
+    /**
+     * Get the number of laminates that were not found in the fitness cache
+     *
+     * @return the value of numberOfCacheMisses
+     */
+    public int getNumberOfCacheMisses() {
+        return numberOfCacheMisses;
+    }
+
+    /**
+     * Set the statistics of the fitness cache
+     *
+     * @param cache fitness cache of the optimization
+     */
+    public void setCacheStatistics(FitnessCache cache) {
+        int oldNumberOfCacheHits = this.numberOfCacheHits;
+        int oldNumberOfCacheMisses = this.numberOfCacheMisses;
+        this.numberOfCacheHits = cache.getNumberOfHits();
+        this.numberOfCacheMisses = cache.getNumberOfMisses();
+        propertyChangeSupport.firePropertyChange(PROP_NUMBEROFCACHEHITS, oldNumberOfCacheHits, numberOfCacheHits);
+        propertyChangeSupport.firePropertyChange(PROP_NUMBEROFCACHEMISSES, oldNumberOfCacheMisses, numberOfCacheMisses);
+    }
     
     public void setNewResults(Laminat bestLaminate, int numberOfContraintEvaluations, int numberOfCheckedLaminates, double minReserveFactor){
         this.bestLaminate = bestLaminate;
@@ -27,9 +27,12 @@ package de.elamx.clt.optimization;
 
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.eLamXLookup;
+import de.elamx.laminate.optimization.LaminateGenome;
 import de.elamx.laminate.optimization.MRFC_ModuleDataGenerator;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.openide.util.Lookup;
 
@@ -45,6 +48,8 @@ public abstract class Optimizer{
     protected final AtomicInteger atomicLayerCounter = new AtomicInteger(0);
     
     private final String name;
+    private IslandMigration migration;
+    private int island;
 
     public Optimizer(String name, OptimizationInput input) {
         this.input  = input;
@@ -82,6 +87,42 @@ public abstract class Optimizer{
     }
     
     public abstract Optimizer getInstance(OptimizationInput input);
+
+    /**
+     * Verbindet den Optimierer als Insel mit den anderen Inseln eines
+     * {@link IslandOptimizer}. Muss vor dem Start der Optimierung aufgerufen
+     * werden.
+     *
+     * @param migration gemeinsamer Austausch aller Inseln
+     * @param island Index dieser Insel
+     */
+    public final void setMigration(IslandMigration migration, int island) {
+        this.migration = migration;
+        this.island = island;
+    }
+
+    /**
+     * @return gemeinsamer Austausch der Inseln oder null, wenn der
+     * Optimierer nicht als Insel läuft
+     */
+    protected final IslandMigration getMigration() {
+        return migration;
+    }
+
+    /**
+     * Gibt die besten Lagenaufbauten an die anderen Inseln weiter. Optimierer,
+     * die die Migration unterstützen, rufen diese Methode alle
+     * {@link IslandMigration#getInterval()} Generationen auf.
+     *
+     * @param emigrants beste Lagenaufbauten, die besten zuerst
+     * @return Einwanderer von einer anderen Insel, eventuell leer
+     */
+    protected final List<LaminateGenome> migrate(List<LaminateGenome> emigrants) {
+        if (migration == null) {
+            return Collections.emptyList();
+        }
+        return migration.migrate(island, emigrants);
+    }
     
     public abstract boolean onlySymmetricLaminates();
 
@@ -28,6 +28,7 @@ package de.elamx.clt.optimization.hauffe;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 /**
  *
@@ -35,19 +36,19 @@ import java.util.Map;
  */
 public class GEP {
     
-    private static Individuum getRandomIndividuum(Individuum[] indivs){
-        return indivs[(int)(indivs.length*Math.random())];
+    private static Individuum getRandomIndividuum(SplittableRandom random, Individuum[] indivs){
+        return indivs[random.nextInt(indivs.length)];
     }
     
-    public static int getRandomInteger(int upperBound){
-        return (int)(upperBound*Math.random());
+    public static int getRandomInteger(SplittableRandom random, int upperBound){
+        return upperBound > 0 ? random.nextInt(upperBound) : 0;
     }
     
-    public static int getRandomInteger(int lowerBound, int upperBound){
-        return lowerBound + (int)((upperBound-lowerBound)*Math.random());
+    public static int getRandomInteger(SplittableRandom random, int lowerBound, int upperBound){
+        return lowerBound + getRandomInteger(random, upperBound-lowerBound);
     }
     
-    public static void onePointCrossover(Individuum[] eltern, Individuum[] kinder, int start, int ende){
+    public static void onePointCrossover(SplittableRandom random, Individuum[] eltern, Individuum[] kinder, int start, int ende){
         
         if ((ende-start+1)%2 != 0){
             System.err.println("Ungerade Anzahl von Kindern für onePointCrossover");
@@ -55,10 +56,10 @@ public class GEP {
         }
         
         for (int ii = start; ii <= ende; ii+=2){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
-            kinder[ii+1] = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
+            kinder[ii+1] = getRandomIndividuum(random, eltern).copy();
             
-            int crosspoint = getRandomInteger(kinder[ii].getMaxLayerNum());
+            int crosspoint = getRandomInteger(random, kinder[ii].getMaxLayerNum());
             
             double[] anglesK1 = kinder[ii].getAngles();
             double[] anglesK2 = kinder[ii+1].getAngles();
@@ -72,7 +73,7 @@ public class GEP {
         }
     }
     
-    public static void twoPointCrossover(Individuum[] eltern, Individuum[] kinder, int start, int ende){
+    public static void twoPointCrossover(SplittableRandom random, Individuum[] eltern, Individuum[] kinder, int start, int ende){
         
         if ((ende-start+1)%2 != 0){
             System.err.println("Ungerade Anzahl von Kindern für onePointCrossover");
@@ -80,11 +81,11 @@ public class GEP {
         }
         
         for (int ii = start; ii <= ende; ii+=2){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
-            kinder[ii+1] = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
+            kinder[ii+1] = getRandomIndividuum(random, eltern).copy();
             
-            int crosspoint1 = getRandomInteger(kinder[ii].getMaxLayerNum());
-            int crosspoint2 = crosspoint1+getRandomInteger(kinder[ii].getMaxLayerNum()-crosspoint1);
+            int crosspoint1 = getRandomInteger(random, kinder[ii].getMaxLayerNum());
+            int crosspoint2 = crosspoint1+getRandomInteger(random, kinder[ii].getMaxLayerNum()-crosspoint1);
             
             double[] anglesK1 = kinder[ii].getAngles();
             double[] anglesK2 = kinder[ii+1].getAngles();
@@ -98,28 +99,28 @@ public class GEP {
         }
     }
     
-    public static void mutation(OptimizationParameter params, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
+    public static void mutation(SplittableRandom random, OptimizationParameter params, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
         
         for (int ii = start; ii <= ende; ii++){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
             
-            if (Math.random() <= params.getMutationswahrscheinlichkeit()){
-                kinder[ii].setNumLayers(getRandomInteger(params.getMinLayerNum(), params.getMaxLayerNum()));
+            if (random.nextDouble() <= params.getMutationswahrscheinlichkeit()){
+                kinder[ii].setNumLayers(getRandomInteger(random, params.getMinLayerNum(), params.getMaxLayerNum()));
             }
             
             double[] angles = kinder[ii].getAngles();
             
             for (int jj = 0; jj < angles.length; jj++){
-                if (Math.random() <= params.getMutationswahrscheinlichkeit()){
-                    angles[jj] = possibleAngles[getRandomInteger(possibleAngles.length)];
+                if (random.nextDouble() <= params.getMutationswahrscheinlichkeit()){
+                    angles[jj] = possibleAngles[getRandomInteger(random, possibleAngles.length)];
                 }
             }
         }
     }
     
-    public static void permutation(Individuum[] eltern, Individuum[] kinder, int start, int ende){
+    public static void permutation(SplittableRandom random, Individuum[] eltern, Individuum[] kinder, int start, int ende){
         for (int ii = start; ii <= ende; ii++){
-            kinder[ii] = getRandomIndividuum(eltern).copy();
+            kinder[ii] = getRandomIndividuum(random, eltern).copy();
             
             ArrayList<Double> anglesVec = new ArrayList<>();
             
@@ -130,12 +131,12 @@ public class GEP {
             double[] angles = kinder[ii].getAngles();
             
             for (int jj = 0; jj < angles.length; jj++){
-                angles[jj] = anglesVec.remove(getRandomInteger(anglesVec.size()));
+                angles[jj] = anglesVec.remove(getRandomInteger(random, anglesVec.size()));
             }
         }
     }
     
-    public static void angleShifts(OptimizationParameter params, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
+    public static void angleShifts(SplittableRandom random, OptimizationParameter params, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
         double[] sortedAngle = new double[possibleAngles.length];
         System.arraycopy(possibleAngles, 0, sortedAngle, 0, possibleAngles.length);
         Map<Double, Integer> angleIndexMap = new HashMap<>();
@@ -145,17 +146,17 @@ public class GEP {
         }
         
         for (int ii = start; ii <= ende; ii++){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
             
-            if (Math.random() <= params.getMutationswahrscheinlichkeit()){
-                kinder[ii].setNumLayers(getRandomInteger(params.getMinLayerNum(), params.getMaxLayerNum()));
+            if (random.nextDouble() <= params.getMutationswahrscheinlichkeit()){
+                kinder[ii].setNumLayers(getRandomInteger(random, params.getMinLayerNum(), params.getMaxLayerNum()));
             }
             
             double[] angles = kinder[ii].getAngles();
             
             for (int jj = 0; jj < angles.length; jj++){
-                if (Math.random() <= params.getShiftwahrscheinlichkeit()){
-                    int newIndex = angleIndexMap.get(angles[jj]) + (int)Math.signum(Math.random()-0.5);
+                if (random.nextDouble() <= params.getShiftwahrscheinlichkeit()){
+                    int newIndex = angleIndexMap.get(angles[jj]) + (random.nextBoolean() ? 1 : -1);
                     if (newIndex == sortedAngle.length){
                         newIndex = 0;
                     }
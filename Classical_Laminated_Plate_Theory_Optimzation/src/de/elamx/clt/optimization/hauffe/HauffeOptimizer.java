@@ -25,6 +25,8 @@
  */
 package de.elamx.clt.optimization.hauffe;
 
+import de.elamx.clt.optimization.FitnessCache;
+import de.elamx.clt.optimization.IslandMigration;
 import de.elamx.clt.optimization.OptimizationInput;
 import de.elamx.clt.optimization.Optimizer;
 import de.elamx.clt.optimization.sda.SequentialDecisionApproach;
@@ -34,10 +36,20 @@ import de.elamx.laminate.Laminat;
 import de.elamx.laminate.Layer;
 import de.elamx.laminate.addFailureCriteria.MaxStress;
 import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.optimization.GenomeEvaluator;
+import de.elamx.laminate.optimization.LaminateGenome;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.PlyTemplate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import org.openide.util.Lookup;
 import org.openide.util.NbBundle;
 import org.openide.util.lookup.Lookups;
@@ -50,7 +62,16 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service = Optimizer.class)
 public class HauffeOptimizer extends Optimizer {
 
-    private static final OptimizationParameter params = new OptimizationParameter();
+    // je Instanz, da die Lagenanzahlgrenzen während der Optimierung angepasst werden
+    private final OptimizationParameter params = new OptimizationParameter();
+
+    private SplittableRandom random;
+    private ForkJoinPool pool;
+    private PlyTemplate template;
+    private GenomeEvaluator evaluator;
+    // eigene Bewerter mit Kopien der Reservefaktorrechner je paralleler Teilaufgabe
+    private List<GenomeEvaluator> workerEvaluators;
+    private FitnessCache cache;
 
     public HauffeOptimizer() {
         this(null);
@@ -60,8 +81,37 @@ public class HauffeOptimizer extends Optimizer {
         super(NbBundle.getMessage(Optimizer.class, "HauffeOptimizer.name"), input);
     }
 
+    /**
+     * Die Nachkommen einer Generation werden parallel bewertet. Die
+     * Zufallszahlen für die genetischen Operatoren werden nur im aufrufenden
+     * Thread aus einem mit {@link OptimizationInput#getSeed()} initialisierten
+     * Generator gezogen, sodass das Ergebnis für einen Startwert
+     * reproduzierbar ist. Bereits bewertete Lagenaufbauten werden über einen
+     * {@link FitnessCache} wiederverwendet.
+     *
+     * <p>Läuft der Optimierer als Insel eines
+     * {@link de.elamx.clt.optimization.IslandOptimizer}, werden die besten
+     * Eltern in regelmäßigen Abständen mit den anderen Inseln ausgetauscht.
+     * Das Ergebnis ist dann nicht mehr reproduzierbar.
+     */
     @Override
     public Laminat internalOptimize() {
+        random = new SplittableRandom(input.getSeed());
+        pool = new ForkJoinPool(input.getParallelism());
+        cache = new FitnessCache();
+        try {
+            return optimizeGEP();
+        } finally {
+            pool.shutdownNow();
+            pool = null;
+            template = null;
+            evaluator = null;
+            workerEvaluators = null;
+            cache = null;
+        }
+    }
+
+    private Laminat optimizeGEP() {
         double[] angles = input.getAngles();
         ArrayList<MinimalReserveFactorCalculator> calculators = input.getCalculators();
 
@@ -76,6 +126,18 @@ public class HauffeOptimizer extends Optimizer {
             }
         }
 
+        // Individuen werden als LaminateGenome mit einem gemeinsamen Template bewertet
+        template = PlyTemplate.create(baseLayer, angles, isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+        evaluator = new GenomeEvaluator(template, calculators);
+        workerEvaluators = new ArrayList<>(pool.getParallelism());
+        for (int ii = 0; ii < pool.getParallelism(); ii++) {
+            List<MinimalReserveFactorCalculator> copies = new ArrayList<>();
+            for (MinimalReserveFactorCalculator calc : calculators) {
+                copies.add(calc.getCopy());
+            }
+            workerEvaluators.add(new GenomeEvaluator(template, copies));
+        }
+
         // Bestimmung der maximalen Lagenanzahl durch Sequential Decision Approach
         SequentialDecisionApproach sda = new SequentialDecisionApproach(input);
 
@@ -125,43 +187,49 @@ public class HauffeOptimizer extends Optimizer {
         }
 
         while (ind < params.getMaxLayerNum()) {
-            tmpAngles[ind++] = angles[GEP.getRandomInteger(angles.length)];
+            tmpAngles[ind++] = angles[GEP.getRandomInteger(random, angles.length)];
         }
 
+        int numberOfMisses = cache.getNumberOfMisses();
+
         eltern[0] = new Individuum(sdaLam.getLayers().size(), tmpAngles);
-        evalObjectiv(input, eltern[0], baseLayer, isSymmetricLaminateNeeded);
-        numberOfConstraintEvals += calculators.size();
+        evalObjectiv(evaluator, eltern[0]);
         numberOfCheckedLaminates++;
         
-        eltern[0] = permuteIndividuum(eltern[0], baseLayer, isSymmetricLaminateNeeded);
+        eltern[0] = permuteIndividuum(eltern[0]);
 
         for (int ii = 1; ii < eltern.length; ii++) {
             eltern[ii] = getNewIndividuum(angles);
-            evalObjectiv(input, eltern[ii], baseLayer, isSymmetricLaminateNeeded);
-            numberOfConstraintEvals += calculators.size();
-            numberOfCheckedLaminates++;
         }
+        if (!evalObjectiv(eltern, 1)) {
+            return null;
+        }
+        numberOfCheckedLaminates += eltern.length - 1;
 
         Individuum bestIndiv = null;
+        Laminat bestLaminat = null;
         int stopGenCounter = 0;
         int generationOfLastChange = 0;
         int generationOhneAenderung = 0;
         Individuum oldBestIndiv = eltern[0];
         for (int ii = 0; ii < params.getMaxGenerations(); ii++) {
             
-            if (Thread.interrupted ()) return null;
+            if (Thread.currentThread().isInterrupted()) return null;
             
-            GEP.mutation(params, eltern, kinder, 0, 19, angles);
-            GEP.onePointCrossover(eltern, kinder, 20, 29);
-            GEP.twoPointCrossover(eltern, kinder, 30, 39);
-            GEP.permutation(eltern, kinder, 40, 49);
-            GEP.angleShifts(params, eltern, kinder, 50, 59, angles);
-
-            for (Individuum indiv : kinder) {
-                evalObjectiv(input, indiv, baseLayer, isSymmetricLaminateNeeded);
-                numberOfConstraintEvals += calculators.size();
-                numberOfCheckedLaminates++;
+            GEP.mutation(random, params, eltern, kinder, 0, 19, angles);
+            GEP.onePointCrossover(random, eltern, kinder, 20, 29);
+            GEP.twoPointCrossover(random, eltern, kinder, 30, 39);
+            GEP.permutation(random, eltern, kinder, 40, 49);
+            GEP.angleShifts(random, params, eltern, kinder, 50, 59, angles);
+
+            if (!evalObjectiv(kinder, 0)) {
+                return null;
             }
+            numberOfCheckedLaminates += kinder.length;
+
+            // Reservefaktorrechner werden nur für neue Lagenaufbauten aufgerufen
+            numberOfConstraintEvals += (cache.getNumberOfMisses() - numberOfMisses) * calculators.size();
+            numberOfMisses = cache.getNumberOfMisses();
 
             oldBestIndiv = bestIndiv;
             bestIndiv = GEP.selection(eltern, kinder);
@@ -172,9 +240,12 @@ public class HauffeOptimizer extends Optimizer {
             } else {
                 generationOfLastChange = ii + 1;
                 stopGenCounter = 0;
+                // das Laminat wird nur bei einem neuen besten Individuum erzeugt
+                bestLaminat = IndividuumToLaminat(bestIndiv);
             }
-            
-            result.setNewResults(IndividuumToLaminat(bestIndiv, baseLayer, isSymmetricLaminateNeeded),
+
+            result.setCacheStatistics(cache);
+            result.setNewResults(bestLaminat,
                              numberOfConstraintEvals,
                              numberOfCheckedLaminates,
                              bestIndiv.getMinReserveFactor(),
@@ -182,6 +253,10 @@ public class HauffeOptimizer extends Optimizer {
 
             kinder = new Individuum[params.getAnzKinder()];
 
+            if (getMigration() != null && (ii + 1) % getMigration().getInterval() == 0) {
+                numberOfCheckedLaminates += migrate(eltern, bestIndiv, angles);
+            }
+
             if (params.getMaxLayerNum() > bestIndiv.getNumLayers() + params.getDeltaMaxLayerNum()
                     || generationOhneAenderung > params.getMaxGenerationOhneAenderung()) {
                 generationOhneAenderung = 0;
@@ -192,10 +267,11 @@ public class HauffeOptimizer extends Optimizer {
 
                 for (int jj = 1; jj < eltern.length; jj++) {
                     eltern[jj] = getNewIndividuum(angles);
-                    evalObjectiv(input, eltern[jj], baseLayer, isSymmetricLaminateNeeded);
-                    numberOfConstraintEvals += calculators.size();
-                    numberOfCheckedLaminates++;
                 }
+                if (!evalObjectiv(eltern, 1)) {
+                    return null;
+                }
+                numberOfCheckedLaminates += eltern.length - 1;
             }
 
             if (stopGenCounter == params.getStopGens()) {
@@ -203,7 +279,7 @@ public class HauffeOptimizer extends Optimizer {
             }
         }
 
-        laminat = IndividuumToLaminat(bestIndiv, baseLayer, isSymmetricLaminateNeeded).getCopy(false);
+        laminat = bestLaminat.getCopy(false);
 
         laminat.setName(NbBundle.getMessage(Optimizer.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet());
 
@@ -221,27 +297,115 @@ public class HauffeOptimizer extends Optimizer {
         return new HauffeOptimizer(input);
     }
 
+    /**
+     * Gibt die besten Eltern an die anderen Inseln weiter und ersetzt die
+     * schlechtesten Eltern durch die Einwanderer. Das beste Individuum wird
+     * nie ersetzt. Einwanderer mit mehr als der zulässigen Lagenanzahl werden
+     * verworfen.
+     *
+     * @return Anzahl der bewerteten Einwanderer
+     */
+    private int migrate(Individuum[] eltern, Individuum bestIndiv, double[] possibleAngles) {
+        Comparator<Individuum> comparator = (i1, i2) -> IslandMigration.compare(i1.getNumLayers(), i1.getMinReserveFactor(), i2.getNumLayers(), i2.getMinReserveFactor());
+        Individuum[] sorted = eltern.clone();
+        Arrays.sort(sorted, comparator);
+
+        List<LaminateGenome> emigrants = new ArrayList<>();
+        for (int ii = 0; ii < Math.min(getMigration().getNumberOfMigrants(), sorted.length); ii++) {
+            emigrants.add(IndividuumToGenome(sorted[ii]));
+        }
+
+        List<Individuum> immigrants = new ArrayList<>();
+        for (LaminateGenome genome : migrate(emigrants)) {
+            if (genome.getNumberOfLayers() > params.getMaxLayerNum()) {
+                continue;
+            }
+            double[] angles = new double[params.getMaxLayerNum()];
+            for (int ii = 0; ii < angles.length; ii++) {
+                angles[ii] = ii < genome.getNumberOfLayers()
+                        ? possibleAngles[genome.getPly(ii)]
+                        : possibleAngles[GEP.getRandomInteger(random, possibleAngles.length)];
+            }
+            Individuum immigrant = new Individuum(genome.getNumberOfLayers(), angles);
+            evalObjectiv(evaluator, immigrant);
+            immigrants.add(immigrant);
+        }
+
+        // die schlechtesten Eltern werden ersetzt
+        int replaced = 0;
+        for (int ii = sorted.length - 1; ii >= 0 && replaced < immigrants.size(); ii--) {
+            if (sorted[ii] == bestIndiv) {
+                continue;
+            }
+            for (int jj = 0; jj < eltern.length; jj++) {
+                if (eltern[jj] == sorted[ii]) {
+                    eltern[jj] = immigrants.get(replaced++);
+                    break;
+                }
+            }
+        }
+
+        return immigrants.size();
+    }
+
     private Individuum getNewIndividuum(double[] possibleAngles) {
 
-        int numLayer = params.getMinLayerNum() + (int) ((params.getMaxLayerNum() - params.getMinLayerNum()) * Math.random());
+        int numLayer = GEP.getRandomInteger(random, params.getMinLayerNum(), params.getMaxLayerNum());
 
         double[] angles = new double[params.getMaxLayerNum()];
 
         for (int ii = 0; ii < angles.length; ii++) {
-            angles[ii] = possibleAngles[(int) (possibleAngles.length * Math.random())];
+            angles[ii] = possibleAngles[GEP.getRandomInteger(random, possibleAngles.length)];
         }
 
         return new Individuum(numLayer, angles);
     }
 
-    private void evalObjectiv(OptimizationInput input, Individuum indiv, DataLayer baseLayer, boolean isSymmetryNeeded) {
+    /**
+     * Bewertet die Individuen ab dem Index start parallel. Jede Teilaufgabe
+     * verwendet einen eigenen Bewerter mit eigenen Kopien der
+     * Reservefaktorrechner.
+     *
+     * @return false, wenn die Bewertung unterbrochen wurde
+     */
+    private boolean evalObjectiv(Individuum[] indivs, int start) {
+        int count = indivs.length - start;
+        int tasksNum = Math.min(workerEvaluators.size(), count);
+        List<Callable<Void>> tasks = new ArrayList<>(tasksNum);
+        for (int ii = 0; ii < tasksNum; ii++) {
+            int from = start + (int) ((long) count * ii / tasksNum);
+            int to = start + (int) ((long) count * (ii + 1) / tasksNum);
+            GenomeEvaluator workerEvaluator = workerEvaluators.get(ii);
+            tasks.add(() -> {
+                for (int jj = from; jj < to; jj++) {
+                    evalObjectiv(workerEvaluator, indivs[jj]);
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+        return true;
+    }
 
-        Laminat laminat = IndividuumToLaminat(indiv, baseLayer, isSymmetryNeeded);
+    private void evalObjectiv(GenomeEvaluator evaluator, Individuum indiv) {
+        LaminateGenome genome = IndividuumToGenome(indiv);
+        setObjectiv(indiv, cache.getMinimalReserveFactor(FitnessCache.createKey(genome, template.isSymmetric()),
+                () -> evaluator.getMinimalReserveFactor(genome)));
+    }
 
-        double minResFac = Double.MAX_VALUE;
-        for (MinimalReserveFactorCalculator calcs : input.getCalculators()) {
-            minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(laminat));
-        }
+    private void setObjectiv(Individuum indiv, double minResFac) {
 
         double objective = (double) indiv.getNumLayers() + 100.0 * ((1.0 - Math.min(1.0, minResFac)) > 0.0 ? 1.0 : 0.0);
 
@@ -249,30 +413,51 @@ public class HauffeOptimizer extends Optimizer {
         indiv.setMinReserveFactor(minResFac);
     }
 
-    private Laminat IndividuumToLaminat(Individuum indiv, DataLayer baseLayer, boolean isSymmetryNeeded) {
-        Laminat laminat = new Laminat("", "", false);
-        laminat.setSymmetric(isSymmetryNeeded || input.isSymmetricLaminat());
-
+    private LaminateGenome IndividuumToGenome(Individuum indiv) {
         double[] angles = indiv.getAngles();
-        DataLayer[] layers = new DataLayer[indiv.getNumLayers()];
+        short[] plies = new short[indiv.getNumLayers()];
 
-        for (int ii = 0; ii < indiv.getNumLayers(); ii++) {
-            layers[ii] = baseLayer.getCopyWithoutListeners(angles[ii]);
+        for (int ii = 0; ii < plies.length; ii++) {
+            plies[ii] = (short) getPlyIndex(angles[ii]);
         }
 
-        laminat.addLayers(Arrays.asList(layers));
+        return new LaminateGenome(plies);
+    }
 
-        return laminat;
+    /**
+     * Index der Lage im Template. Die Winkel der Lagen im Template sind auf
+     * den Bereich von -90° bis 90° reduziert, die Winkel der Individuen nicht
+     * zwingend (z.B. beim Startindividuum aus dem Sequential Decision
+     * Approach).
+     */
+    private int getPlyIndex(double angle) {
+        double[] angles = input.getAngles();
+        for (int ii = 0; ii < angles.length; ii++) {
+            if (angles[ii] == angle || template.getPly(ii).getAngle() == angle) {
+                return ii;
+            }
+        }
+        throw new IllegalArgumentException("Angle " + angle + " is not one of the possible angles.");
+    }
+
+    private Laminat IndividuumToLaminat(Individuum indiv) {
+        return template.createLaminat(IndividuumToGenome(indiv));
     }
 
-    private Individuum permuteIndividuum(Individuum indiv, DataLayer baseLayer, boolean isSymmetryNeeded) {
+    private Individuum permuteIndividuum(Individuum indiv) {
         double[] angles = input.getAngles();
         Individuum bestIndiv = indiv;
         for (int layNum = 0; layNum < indiv.getNumLayers(); layNum++) {
             Individuum checkIndiv = bestIndiv.copy();
+            /*
+             * Es wird nur der Winkel einer Schicht variiert. Der Bewerter
+             * verwendet sein Arbeitslaminat weiter, sodass die
+             * Laminatsteifigkeiten nur für die geänderte Schicht aktualisiert
+             * werden müssen.
+             */
             for (int angleNum = 0; angleNum < angles.length; angleNum++) {
                 checkIndiv.getAngles()[layNum] = angles[angleNum];
-                evalObjectiv(input, checkIndiv, baseLayer, isSymmetryNeeded);
+                evalObjectiv(evaluator, checkIndiv);
                 if (checkIndiv.getMinReserveFactor() > bestIndiv.getMinReserveFactor()) {
                     bestIndiv = checkIndiv.copy();
                     bestIndiv.setMinReserveFactor(checkIndiv.getMinReserveFactor());
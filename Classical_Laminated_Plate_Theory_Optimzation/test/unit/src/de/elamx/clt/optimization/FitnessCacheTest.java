@@ -0,0 +1,107 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.laminate.optimization.LaminateGenome;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ * Test des Zwischenspeichers für bereits bewertete Lagenaufbauten.
+ *
+ * @author Andreas Hauffe
+ */
+public class FitnessCacheTest {
+
+    public FitnessCacheTest() {
+    }
+
+    private static double get(FitnessCache cache, String key, double value, int[] evaluations) {
+        return cache.getMinimalReserveFactor(key, () -> {
+            evaluations[0]++;
+            return value;
+        });
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        FitnessCache cache = new FitnessCache();
+        int[] evaluations = new int[1];
+
+        assertEquals(1.5, get(cache, "Sa", 1.5, evaluations), 0.0);
+        assertEquals(1.5, get(cache, "Sa", 2.0, evaluations), 0.0);
+        assertEquals(0.7, get(cache, "Sb", 0.7, evaluations), 0.0);
+        assertEquals(1.5, get(cache, "Sa", 3.0, evaluations), 0.0);
+
+        assertEquals(2, evaluations[0]);
+        assertEquals(2, cache.getNumberOfMisses());
+        assertEquals(2, cache.getNumberOfHits());
+
+        // ohne Schlüssel wird immer neu berechnet und nichts gezählt
+        assertEquals(4.0, get(cache, null, 4.0, evaluations), 0.0);
+        assertEquals(3, evaluations[0]);
+        assertEquals(2, cache.getNumberOfMisses());
+        assertEquals(2, cache.getNumberOfHits());
+    }
+
+    @Test
+    public void leastRecentlyUsedEviction() {
+        FitnessCache cache = new FitnessCache(2);
+        int[] evaluations = new int[1];
+
+        get(cache, "Ua", 1.0, evaluations);
+        get(cache, "Ub", 2.0, evaluations);
+        // Zugriff auf "Ua", damit "Ub" der am längsten nicht verwendete Eintrag ist
+        get(cache, "Ua", 1.0, evaluations);
+        get(cache, "Uc", 3.0, evaluations);
+        assertEquals(3, evaluations[0]);
+
+        assertEquals(1.0, get(cache, "Ua", -1.0, evaluations), 0.0);
+        assertEquals(3.0, get(cache, "Uc", -1.0, evaluations), 0.0);
+        assertEquals(3, evaluations[0]);
+
+        // "Ub" wurde verworfen und wird neu berechnet
+        assertEquals(2.5, get(cache, "Ub", 2.5, evaluations), 0.0);
+        assertEquals(4, evaluations[0]);
+        assertEquals(4, cache.getNumberOfMisses());
+        assertEquals(3, cache.getNumberOfHits());
+    }
+
+    @Test
+    public void createKey() {
+        assertNull(FitnessCache.createKey(true, new int[]{0, -1}, 2));
+        assertNull(FitnessCache.createKey(false, new int[]{Character.MAX_VALUE + 1}, 1));
+        // nicht berücksichtigte Einzelschichten werden nicht geprüft
+        assertEquals(FitnessCache.createKey(true, new int[]{3}, 1), FitnessCache.createKey(true, new int[]{3, -1}, 1));
+
+        LaminateGenome genome = new LaminateGenome(new short[]{0, 2, 1});
+        assertEquals(FitnessCache.createKey(true, new int[]{0, 2, 1}, 3), FitnessCache.createKey(genome, true));
+        assertNotEquals(FitnessCache.createKey(genome, true), FitnessCache.createKey(genome, false));
+        assertNotEquals(FitnessCache.createKey(genome, true), FitnessCache.createKey(new LaminateGenome(new short[]{0, 2}), true));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.laminate.optimization.LaminateGenome;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Test des Austauschs der Lagenaufbauten zwischen den Inseln und der
+ * Reihenfolge der Lagenaufbauten.
+ *
+ * @author Andreas Hauffe
+ */
+public class IslandMigrationTest {
+
+    public IslandMigrationTest() {
+    }
+
+    private static List<LaminateGenome> genomes(int island, int number) {
+        LaminateGenome[] genomes = new LaminateGenome[number];
+        for (int ii = 0; ii < number; ii++) {
+            genomes[ii] = LaminateGenome.filled(ii + 1, island);
+        }
+        return Arrays.asList(genomes);
+    }
+
+    /**
+     * Jede Insel erhält die Auswanderer ihres Vorgängers im Ring, höchstens
+     * die geforderte Anzahl und jeden Lagenaufbau nur einmal.
+     */
+    @Test
+    public void ringOrderAndDeliverOnce() {
+        IslandMigration migration = new IslandMigration(3, 10, 2);
+
+        // noch hat keine Insel Auswanderer abgelegt
+        assertTrue(migration.migrate(0, genomes(0, 4)).isEmpty());
+        assertTrue(migration.migrate(2, genomes(2, 4)).isEmpty());
+
+        // Insel 1 erhält die beiden besten Lagenaufbauten von Insel 0
+        assertEquals(genomes(0, 2), migration.migrate(1, genomes(1, 4)));
+        // ... aber nur einmal
+        assertTrue(migration.migrate(1, genomes(1, 4)).isEmpty());
+
+        // Insel 0 erhält die Auswanderer von Insel 2, Insel 2 die von Insel 1
+        assertEquals(genomes(2, 2), migration.migrate(0, genomes(0, 1)));
+        assertEquals(genomes(1, 2), migration.migrate(2, genomes(2, 4)));
+        assertEquals(genomes(0, 1), migration.migrate(1, genomes(1, 4)));
+    }
+
+    /**
+     * Eine einzelne Insel tauscht nichts aus.
+     */
+    @Test
+    public void singleIsland() {
+        IslandMigration migration = new IslandMigration(1, 10, 2);
+        assertTrue(migration.migrate(0, genomes(0, 4)).isEmpty());
+        assertTrue(migration.migrate(0, genomes(0, 4)).isEmpty());
+    }
+
+    @Test
+    public void compare() {
+        // zulässig vor unzulässig, auch bei mehr Lagen
+        assertTrue(IslandMigration.compare(10, 1.0, 4, 0.99) < 0);
+        assertTrue(IslandMigration.compare(4, 0.99, 10, 1.0) > 0);
+        // unter den zulässigen weniger Lagen vor größerem Reservefaktor
+        assertTrue(IslandMigration.compare(4, 1.1, 6, 3.0) < 0);
+        // gleiche Lagenanzahl, größerer Reservefaktor
+        assertTrue(IslandMigration.compare(4, 1.5, 4, 1.2) < 0);
+        // unter den unzulässigen entscheidet nur der Reservefaktor
+        assertTrue(IslandMigration.compare(10, 0.9, 4, 0.5) < 0);
+        assertEquals(0, IslandMigration.compare(4, 1.2, 4, 1.2));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Test der Zusammenfassung der Ergebnisse der Inseln im
+ * {@link IslandOptimizer}.
+ *
+ * @author Andreas Hauffe
+ */
+public class IslandOptimizerTest {
+
+    public IslandOptimizerTest() {
+    }
+
+    /**
+     * Optimierer, der für jede Insel ein festes Ergebnis liefert. Die Inseln
+     * werden über den Startwert der Zufallszahlen unterschieden.
+     */
+    private static class FixedResultOptimizer extends Optimizer {
+
+        private final int[] numLayers;
+        private final double[] reserveFactors;
+        private final Set<Long> seeds;
+        private final int island;
+
+        FixedResultOptimizer(OptimizationInput input, int[] numLayers, double[] reserveFactors, Set<Long> seeds) {
+            super("Fixed", input);
+            this.numLayers = numLayers;
+            this.reserveFactors = reserveFactors;
+            this.seeds = seeds;
+            synchronized (seeds) {
+                island = input == null ? -1 : seeds.size();
+                if (input != null) {
+                    seeds.add(input.getSeed());
+                }
+            }
+        }
+
+        @Override
+        public Laminat internalOptimize() {
+            DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+            Laminat laminat = new Laminat(UUID.randomUUID().toString(), "Island " + island, false);
+            for (int ii = 0; ii < numLayers[island]; ii++) {
+                laminat.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, 0.0, 0.125));
+            }
+            result.setNewResults(laminat, 10 * (island + 1), island + 1, reserveFactors[island]);
+            result.setNumberOfPrunedLaminates(100 * (island + 1));
+            result.setFinished(true);
+            return laminat;
+        }
+
+        @Override
+        public Optimizer getInstance(OptimizationInput input) {
+            return new FixedResultOptimizer(input, numLayers, reserveFactors, seeds);
+        }
+
+        @Override
+        public boolean onlySymmetricLaminates() {
+            return false;
+        }
+    }
+
+    @Test
+    public void aggregation() {
+        int[] numLayers = {6, 4, 4, 2};
+        double[] reserveFactors = {1.5, 1.1, 1.3, 0.8};
+        Set<Long> seeds = new HashSet<>();
+        Optimizer prototype = new FixedResultOptimizer(null, numLayers, reserveFactors, seeds);
+
+        OptimizationInput input = new OptimizationInput(new double[]{0.0, 90.0}, 0.125, null, null, new ArrayList<>(), false);
+        input.setSeed(4711L);
+        input.setParallelism(8);
+        input.setNumberOfIslands(1);
+        assertTrue(IslandOptimizer.create(prototype, input) instanceof FixedResultOptimizer);
+        seeds.clear();
+
+        input.setNumberOfIslands(numLayers.length);
+        Optimizer optimizer = IslandOptimizer.create(prototype, input);
+        assertTrue(optimizer instanceof IslandOptimizer);
+        Laminat best = optimizer.internalOptimize();
+
+        // jede Insel hat einen eigenen Startwert
+        assertEquals(numLayers.length, seeds.size());
+
+        // zulässig mit den wenigsten Lagen und bei gleicher Lagenanzahl dem
+        // größten Reservefaktor
+        IslandOptimizer islandOptimizer = (IslandOptimizer) optimizer;
+        assertSame(islandOptimizer.getIslands().get(2).getResult().getBestLaminate(), best);
+        OptimizationResult result = optimizer.getResult();
+        assertTrue(result.isFinished());
+        assertSame(best, result.getBestLaminate());
+        assertEquals(1.3, result.getMinReserveFactor(), 0.0);
+
+        // die Zähler aller Inseln werden summiert
+        assertEquals(10 + 20 + 30 + 40, result.getNumberOfContraintEvaluations());
+        assertEquals(1 + 2 + 3 + 4, result.getNumberOfCheckedLaminates());
+        assertEquals(100 + 200 + 300 + 400, result.getNumberOfPrunedLaminates());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.hauffe;
+
+import de.elamx.clt.CLT_Input;
+import de.elamx.clt.optimization.MinimalReserveFactorImplementation;
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import java.util.ArrayList;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Reproduzierbarkeit des Optimierers bei paralleler Bewertung.
+ *
+ * @author Andreas Hauffe
+ */
+public class HauffeOptimizerTest {
+
+    private static final double[] ANGLES = {0.0, 45.0, -45.0, 90.0};
+    private static final double THICKNESS = 0.125;
+
+    public HauffeOptimizerTest() {
+    }
+
+    private static OptimizationInput createInput() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+        mat.setRParTen(2000.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(50.0);
+        mat.setRNorCom(200.0);
+        mat.setRShear(80.0);
+
+        CLT_Input cltInput = new CLT_Input();
+        cltInput.getLoad().setN_x(-300.0);
+        cltInput.getLoad().setN_y(100.0);
+        cltInput.getLoad().setN_xy(120.0);
+        cltInput.getLoad().setM_x(10.0);
+        ArrayList<MinimalReserveFactorCalculator> calculators = new ArrayList<>();
+        calculators.add(new MinimalReserveFactorImplementation(cltInput));
+
+        DataLayer baseLayer = new DataLayer("", "Layer", mat, 0.0, THICKNESS);
+        OptimizationInput input = new OptimizationInput(ANGLES, THICKNESS, mat, baseLayer.getCriterion(), calculators, false);
+        input.setSeed(4711L);
+        input.setParallelism(4);
+        return input;
+    }
+
+    private static double[] getAngles(Laminat laminat) {
+        return laminat.getLayers().stream().mapToDouble(l -> l.getAngle()).toArray();
+    }
+
+    @Test
+    public void sameSeedSameResult() {
+        HauffeOptimizer first = new HauffeOptimizer(createInput());
+        HauffeOptimizer second = new HauffeOptimizer(createInput());
+
+        Laminat firstLaminat = first.internalOptimize();
+        Laminat secondLaminat = second.internalOptimize();
+
+        assertEquals(firstLaminat.getNumberofLayers(), secondLaminat.getNumberofLayers());
+        assertArrayEquals(getAngles(firstLaminat), getAngles(secondLaminat), 0.0);
+        assertEquals(first.getResult().getMinReserveFactor(), second.getResult().getMinReserveFactor(), 0.0);
+        assertEquals(first.getResult().getNumberOfCheckedLaminates(), second.getResult().getNumberOfCheckedLaminates());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+/**
+ * Steuerung der adaptiven Wahl der Termanzahl im Ritz-Ansatz. Beginnend mit
+ * {@link #START_TERMS} Termen je Richtung wird die Termanzahl schrittweise um
+ * {@link #STEP} bis zur vorgegebenen Maximalanzahl erhöht, bis sich die
+ * überwachten Ergebnisgrößen relativ um weniger als die Toleranz ändern.
+ *
+ * Die Ansatzfunktionen sind hierarchisch, d.h. die ersten Terme sind
+ * unabhängig von der Gesamtanzahl. Die Matrizen müssen daher nur einmal für
+ * die Maximalanzahl aufgebaut werden, die kleineren Systeme sind
+ * Untermatrizen davon.
+ *
+ * @author Andreas Hauffe
+ */
+final class AdaptiveTerms {
+
+    /**
+     * Anfängliche Termanzahl je Richtung.
+     */
+    static final int START_TERMS = 4;
+
+    /**
+     * Erhöhung der Termanzahl je Schritt und Richtung. Bei symmetrischen
+     * Randbedingungen kommt damit je Schritt eine gerade und eine ungerade
+     * Ansatzfunktion hinzu.
+     */
+    static final int STEP = 2;
+
+    private final int mMax;
+    private final int nMax;
+    private final double tolerance;
+    private int m;
+    private int n;
+    private double[] previous;
+    private double error = Double.NaN;
+    private boolean converged = false;
+
+    /**
+     * @param mMax maximale Anzahl der Terme in x-Richtung
+     * @param nMax maximale Anzahl der Terme in y-Richtung
+     * @param tolerance zulässige relative Änderung der überwachten Größen
+     */
+    AdaptiveTerms(int mMax, int nMax, double tolerance) {
+        this.mMax = mMax;
+        this.nMax = nMax;
+        this.tolerance = tolerance;
+        this.m = Math.min(mMax, START_TERMS);
+        this.n = Math.min(nMax, START_TERMS);
+    }
+
+    /**
+     * @return aktuelle Anzahl der Terme in x-Richtung
+     */
+    int getM() {
+        return m;
+    }
+
+    /**
+     * @return aktuelle Anzahl der Terme in y-Richtung
+     */
+    int getN() {
+        return n;
+    }
+
+    /**
+     * @return relative Änderung der überwachten Größen im letzten Schritt
+     * oder NaN, wenn kein Vergleich möglich war
+     */
+    double getError() {
+        return error;
+    }
+
+    /**
+     * @return true, wenn die Toleranz eingehalten wurde
+     */
+    boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * Übernimmt die überwachten Größen der aktuellen Termanzahl und erhöht
+     * die Termanzahl, falls noch keine Konvergenz erreicht ist.
+     *
+     * @param values überwachte Größen der aktuellen Termanzahl
+     * @return true, wenn mit der erhöhten Termanzahl weitergerechnet werden
+     * soll
+     */
+    boolean next(double... values) {
+        if (previous != null) {
+            int len = Math.min(previous.length, values.length);
+            error = len > 0 ? 0.0 : Double.NaN;
+            for (int i = 0; i < len; i++) {
+                double ref = Math.abs(values[i]);
+                double diff = Math.abs(values[i] - previous[i]);
+                error = Math.max(error, ref > 0.0 ? diff / ref : diff);
+            }
+            converged = error <= tolerance;
+        }
+        previous = values.clone();
+        if (converged || (m == mMax && n == nMax)) {
+            return false;
+        }
+        m = Math.min(mMax, m + STEP);
+        n = Math.min(nMax, n + STEP);
+        return true;
+    }
+
+    /**
+     * Setzt die erreichte Konvergenz im Ergebnis.
+     *
+     * @param result Ergebnis der letzten Termanzahl
+     */
+    void setConvergence(Result result) {
+        result.setConvergence(error, converged);
+    }
+
+    /**
+     * Liefert die zur aktuellen Termanzahl gehörende Untermatrix einer für
+     * die Maximalanzahl aufgebauten Matrix. Der Index pp*n+qq der kleinen
+     * Matrix entspricht dabei pp*nMax+qq der großen Matrix.
+     *
+     * @param A Matrix (mMax*nMax x mMax*nMax)
+     * @return Untermatrix (m*n x m*n)
+     */
+    double[][] getSubMatrix(double[][] A) {
+        int[] idx = getIndices();
+        double[][] sub = new double[idx.length][idx.length];
+        for (int i = 0; i < idx.length; i++) {
+            double[] row = A[idx[i]];
+            double[] subRow = sub[i];
+            for (int j = 0; j < idx.length; j++) {
+                subRow[j] = row[idx[j]];
+            }
+        }
+        return sub;
+    }
+
+    /**
+     * Liefert den zur aktuellen Termanzahl gehörenden Teil eines für die
+     * Maximalanzahl aufgebauten Vektors.
+     *
+     * @param b Vektor der Länge mMax*nMax
+     * @return Teilvektor der Länge m*n
+     */
+    double[] getSubVector(double[] b) {
+        int[] idx = getIndices();
+        double[] sub = new double[idx.length];
+        for (int i = 0; i < idx.length; i++) {
+            sub[i] = b[idx[i]];
+        }
+        return sub;
+    }
+
+    private int[] getIndices() {
+        int[] idx = new int[m * n];
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                idx[pp * n + qq] = pp * nMax + qq;
+            }
+        }
+        return idx;
+    }
+}
@@ -31,11 +31,12 @@ package de.elamx.clt.plate.Boundary;
  * Alle Rückgabewerte basieren auf den Vibrationseigenformen eines Bernoullibalkens
  * mit einer zusätzlichen Konstante c5, um die Starrkörperverschiebungen
  * beschreiben zu können. Abhängig von den Randbedingungen werden die fünf
- * constanten belegt. Derzeit sind die ersten 20 Nullstellen der charakterisischen
- * Gleichung und die entsprechende Anzahl aller Integrale bestimmbar. Die Konstanten
- * und Integrale selbst müssen mit einem extra Tool mit höherer Rechengenauigkeit
- * (mind. 100 signifikante Stellen) bestimmt werden. Dies ist mit 16 signifikanten
- * Stellen nicht möglich.
+ * constanten belegt. Die Nullstellen der charakterisischen Gleichung, die
+ * Konstanten und alle Integrale werden für die benötigte Anzahl an Ansätzen von
+ * {@link BoundaryTables} erzeugt und zwischengespeichert. Die hyperbolischen
+ * Anteile werden dabei als abklingende Exponentialfunktionen der beiden Ränder
+ * ausgewertet, da sinh und cosh für hohe Ordnungen mit 16 signifikanten Stellen
+ * nicht mehr auswertbar sind.
  *
  * @author Martin Rädel
  * @author Oliver Hennig
@@ -43,10 +44,24 @@ package de.elamx.clt.plate.Boundary;
  */
 public abstract class Boundary {
 
+    /** Tabelle der Integrale {@link #IXX(int, int)} */
+    public static final int TABLE_IXX = 0;
+    /** Tabelle der Integrale {@link #IXdX(int, int)} */
+    public static final int TABLE_IXDX = 1;
+    /** Tabelle der Integrale {@link #IXdX2(int, int)} */
+    public static final int TABLE_IXDX2 = 2;
+    /** Tabelle der Integrale {@link #IdXdX(int, int)} */
+    public static final int TABLE_IDXDX = 3;
+    /** Tabelle der Integrale {@link #IdXdX2(int, int)} */
+    public static final int TABLE_IDXDX2 = 4;
+    /** Tabelle der Integrale {@link #IdX2dX2(int, int)} */
+    public static final int TABLE_IDX2DX2 = 5;
+
     protected double a_ = 0.0; // Länge in die entsprechende Richtung
 
     // Konstanten des Verschiebungsansatzes
-    protected double[] c1_, c2_, c3_, c4_, c5_;
+    // ep_ und em_ sind die Faktoren von exp(-cv*(1-x/a)) und exp(-cv*x/a)
+    protected double[] c1_, c2_, ep_, em_, c5_;
 
     // Nullstellen der charakteristischen Gleichung
     protected double[] cv_;
@@ -56,15 +71,10 @@ public abstract class Boundary {
     // Integrale des Verschiebungsansatzes
     protected double[][] IXX_, IXdX_, IXdX2_, IdXdX_, IdXdX2_, IdX2dX2_;
 
-    // Zwei temporäre double Variablen, um sie nicht bei jedem Methodenaufruf neu anlegen zu müssen.
-    private double temp;
-    private double cva;
-
     /**
      * Dieser Konstruktor muss beim Generieren einen neues Boundary-Objekts aufgerufen werden.
-     * Er speichert die Länge und die Anzahl der Halbwellen und ruft die Initialisierung
-     * der Felder auf. Diese werden dann mit Werten der entsprechenden Randbedingung
-     * gefüllt.
+     * Er speichert die Länge und übernimmt die Felder der entsprechenden
+     * Randbedingung für die Anzahl der Halbwellen aus {@link BoundaryTables}.
      * 
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
@@ -72,72 +82,127 @@ public abstract class Boundary {
     @SuppressWarnings("this-escape")
     public Boundary (double length, int m){
         a_ = length;
-        initArrays();
+        initArrays(BoundaryTables.getTables(getBoundaryType(), m));
     }
 
     public double getA(){return a_;}
 
-    protected abstract void initArrays();
+    /**
+     * Liefert die Lagerung, z.B. {@link BoundaryTables#CC}.
+     * @return Lagerung
+     */
+    protected abstract int getBoundaryType();
+
+    private void initArrays(BoundaryTables tables){
+        cv_ = tables.cv;
+        c1_ = tables.c1;
+        c2_ = tables.c2;
+        ep_ = tables.ep;
+        em_ = tables.em;
+        c5_ = tables.c5;
+        IX_ = tables.IX;
+        IXX_     = tables.IXX;
+        IXdX_    = tables.IXdX;
+        IXdX2_   = tables.IXdX2;
+        IdXdX_   = tables.IdXdX;
+        IdXdX2_  = tables.IdXdX2;
+        IdX2dX2_ = tables.IdX2dX2;
+    }
 
     /**
      * Grundansatzfunktion
-     * c1 * sin(cv*x/a) + c2 * cos(cv*x/a) + c3 * sinh(cv*x/a) + c4 * cosh(cv*x/a) + c5
+     * c1 * sin(cv*x/a) + c2 * cos(cv*x/a) + ep * exp(-cv*(1-x/a)) + em * exp(-cv*x/a) + c5
      * @param i Nullstelle
      * @param x Position
      * @return Verschiebung an der Stelle x
      */
     public double wx(int i,double x){
-        temp = cv_[i]*x/a_;
+        double temp = cv_[i]*x/a_;
         return   c1_[i]* Math.sin(temp)
-               + c3_[i]*Math.sinh(temp)
                + c2_[i]* Math.cos(temp)
-               + c4_[i]*Math.cosh(temp)
+               + ep_[i]* Math.exp(temp-cv_[i])
+               + em_[i]* Math.exp(-temp)
                + c5_[i];
     }
     /**
      * Grundansatzfunktion | erste Ableitung
-     * (c1 * cos(cv*x/a) - c2 * sin(cv*x/a) + c3 * cosh(cv*x/a) + c4 * sinh(cv*x/a) + c5)*(cv/a)
+     * (c1 * cos(cv*x/a) - c2 * sin(cv*x/a) + ep * exp(-cv*(1-x/a)) - em * exp(-cv*x/a))*(cv/a)
      * @param i Nullstelle
      * @param x Position
      * @return erste Ableitung der Verschiebung an der Stelle x
      */
     public double wdx(int i,double x){
-        cva = cv_[i]/a_;
-        temp = cva*x;
+        double cva = cv_[i]/a_;
+        double temp = cva*x;
         return  (c1_[i]* Math.cos(temp)
-               + c3_[i]*Math.cosh(temp)
                - c2_[i]* Math.sin(temp)
-               + c4_[i]*Math.sinh(temp))*cva;
+               + ep_[i]* Math.exp(temp-cv_[i])
+               - em_[i]* Math.exp(-temp))*cva;
     }
     /**
      * Grundansatzfunktion | zweite Ableitung
-     * (-c1 * sin(cv*x/a) - c2 * cos(cv*x/a) + c3 * sinh(cv*x/a) + c4 * cosh(cv*x/a) + c5)*(cv/a)*(cv/a)
+     * (-c1 * sin(cv*x/a) - c2 * cos(cv*x/a) + ep * exp(-cv*(1-x/a)) + em * exp(-cv*x/a))*(cv/a)*(cv/a)
      * @param i Nullstelle
      * @param x Position
      * @return zweite Ableitung der Verschiebung an der Stelle x
      */
     public double wdx2(int i,double x){
-        cva = cv_[i]/a_;
-        temp = cva*x;
+        double cva = cv_[i]/a_;
+        double temp = cva*x;
         return (- c1_[i]* Math.sin(temp)
-                + c3_[i]*Math.sinh(temp)
                 - c2_[i]* Math.cos(temp)
-                + c4_[i]*Math.cosh(temp))*cva*cva;
+                + ep_[i]* Math.exp(temp-cv_[i])
+                + em_[i]* Math.exp(-temp))*cva*cva;
     }
     /**
      * Grundansatzfunktion | dritte Ableitung
-     * (-c1 * cos(cv*x/a) + c2 * sin(cv*x/a) + c3 * cosh(cv*x/a) + c4 * sinh(cv*x/a) + c5)*(cv/a)*(cv/a)*(cv/a)
+     * (-c1 * cos(cv*x/a) + c2 * sin(cv*x/a) + ep * exp(-cv*(1-x/a)) - em * exp(-cv*x/a))*(cv/a)*(cv/a)*(cv/a)
      * @param i Nullstelle
      * @param x Position
      * @return zweite Ableitung der Verschiebung an der Stelle x
      */
     public double wdx3(int i,double x){
-        cva = cv_[i]/a_;
-        temp = cva*x;
+        double cva = cv_[i]/a_;
+        double temp = cva*x;
         return (- c1_[i]* Math.cos(temp)
-                + c3_[i]*Math.cosh(temp)
                 + c2_[i]* Math.sin(temp)
-                + c4_[i]*Math.sinh(temp))*cva*cva*cva;
+                + ep_[i]* Math.exp(temp-cv_[i])
+                - em_[i]* Math.exp(-temp))*cva*cva*cva;
+    }
+
+    /**
+     * Tabelliert die ersten m Ansatzfunktionen und deren erste und zweite
+     * Ableitung an den Stellen x. Im Gegensatz zu {@link #wx(int, double)},
+     * {@link #wdx(int, double)} und {@link #wdx2(int, double)} werden sin, cos
+     * und exp je Stelle und Ansatzfunktion nur einmal ausgewertet. Nicht
+     * benötigte Felder können <code>null</code> sein.
+     *
+     * @param x Stellen
+     * @param m Anzahl der Ansatzfunktionen
+     * @param w Ergebnis X_i(x[p]) in w[p][i] oder <code>null</code>
+     * @param wd Ergebnis X_i'(x[p]) in wd[p][i] oder <code>null</code>
+     * @param wd2 Ergebnis X_i''(x[p]) in wd2[p][i] oder <code>null</code>
+     */
+    public void tabulate(double[] x, int m, double[][] w, double[][] wd, double[][] wd2){
+        for (int i = 0; i < m; i++) {
+            double cva = cv_[i]/a_;
+            for (int p = 0; p < x.length; p++) {
+                double temp = cva*x[p];
+                double sin = Math.sin(temp);
+                double cos = Math.cos(temp);
+                double ep = ep_[i]*Math.exp(temp-cv_[i]);
+                double em = em_[i]*Math.exp(-temp);
+                if (w != null) {
+                    w[p][i] = c1_[i]*sin + c2_[i]*cos + ep + em + c5_[i];
+                }
+                if (wd != null) {
+                    wd[p][i] = (c1_[i]*cos - c2_[i]*sin + ep - em)*cva;
+                }
+                if (wd2 != null) {
+                    wd2[p][i] = (- c1_[i]*sin - c2_[i]*cos + ep + em)*cva*cva;
+                }
+            }
+        }
     }
 
     /**
@@ -161,9 +226,9 @@ public abstract class Boundary {
     }*/
     public double IX(int i, double x2, double x1){
         return  ((c1_[i] * (- Math.cos(cv_[i]*x2/a_) +  Math.cos(cv_[i]*x1/a_))
-                + c3_[i] * ( Math.cosh(cv_[i]*x2/a_) - Math.cosh(cv_[i]*x1/a_))
                 + c2_[i] * (  Math.sin(cv_[i]*x2/a_) -  Math.sin(cv_[i]*x1/a_))
-                + c4_[i] * ( Math.sinh(cv_[i]*x2/a_) - Math.sinh(cv_[i]*x1/a_)))*(a_/(cv_[i]))
+                + ep_[i] * (  Math.exp(cv_[i]*(x2/a_-1.0)) - Math.exp(cv_[i]*(x1/a_-1.0)))
+                - em_[i] * (  Math.exp(-cv_[i]*x2/a_) - Math.exp(-cv_[i]*x1/a_)))*(a_/(cv_[i]))
                 + c5_[i] * (x2-x1));
     }
 
@@ -239,10 +304,38 @@ public abstract class Boundary {
         return IdX2dX2_[i][p]/a_/a_/a_;
     }
 
+    /**
+     * Liefert eine Tabelle der mit der Länge skalierten Integrale für die
+     * ersten m Ansätze, sodass table[i][p] dem Wert des entsprechenden
+     * Integrals (i, p) entspricht. Damit müssen die Integrale bei der
+     * Assemblierung der Matrizen nicht für jeden Eintrag neu bestimmt werden.
+     *
+     * @param type Art des Integrals, z.B. {@link #TABLE_IXX}
+     * @param m Anzahl der Ansätze
+     * @return Tabelle der Integrale (m x m)
+     */
+    public double[][] getIntegralTable(int type, int m){
+        double[][] table = new double[m][m];
+        for (int i = 0; i < m; i++){
+            for (int p = 0; p < m; p++){
+                switch (type){
+                    case TABLE_IXX:     table[i][p] = IXX(i, p); break;
+                    case TABLE_IXDX:    table[i][p] = IXdX(i, p); break;
+                    case TABLE_IXDX2:   table[i][p] = IXdX2(i, p); break;
+                    case TABLE_IDXDX:   table[i][p] = IdXdX(i, p); break;
+                    case TABLE_IDXDX2:  table[i][p] = IdXdX2(i, p); break;
+                    case TABLE_IDX2DX2: table[i][p] = IdX2dX2(i, p); break;
+                    default: throw new IllegalArgumentException("Unknown integral table " + type);
+                }
+            }
+        }
+        return table;
+    }
+
     public double getCv(int i){return cv_[i];}
     public double getC1(int i){return c1_[i];}
     public double getC2(int i){return c2_[i];}
-    public double getC3(int i){return c3_[i];}
-    public double getC4(int i){return c4_[i];}
+    public double getC3(int i){return ep_[i]*Math.exp(-cv_[i]) - em_[i];}
+    public double getC4(int i){return ep_[i]*Math.exp(-cv_[i]) + em_[i];}
     public double getC5(int i){return c5_[i];}
 }
\ No newline at end of file
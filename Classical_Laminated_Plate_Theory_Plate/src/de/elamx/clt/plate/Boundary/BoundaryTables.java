@@ -0,0 +1,498 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate.Boundary;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diese Klasse erzeugt die Nullstellen der charakteristischen Gleichung, die
+ * Konstanten und alle Integrale des Verschiebungsansatzes für eine beliebige
+ * Anzahl an Ansätzen. Die Ansätze sind die Vibrationseigenformen eines
+ * Bernoullibalkens mit der jeweiligen Lagerung.
+ *
+ * <p>Die hyperbolischen Anteile werden nicht als sinh/cosh, sondern als
+ * abklingende Exponentialfunktionen der beiden Ränder gespeichert
+ * <pre>
+ * X(xi) = c1 * sin(cv*xi) + c2 * cos(cv*xi) + ep * exp(-cv*(1-xi)) + em * exp(-cv*xi) + c5
+ * </pre>
+ * Damit sind alle Koeffizienten von der Größenordnung eins und der Ansatz
+ * lässt sich auch für hohe Ordnungen mit 16 signifikanten Stellen auswerten.
+ * Die Integrale werden mit einer zusammengesetzten Gauß-Legendre-Quadratur
+ * bestimmt, deren Intervalle höchstens eine Halbwelle des höchsten Ansatzes
+ * enthalten.
+ *
+ * <p>Die Tabellen werden für jede Kombination aus Lagerung und Anzahl der
+ * Ansätze nur einmal erzeugt und prozessweit zwischengespeichert. Alle Felder
+ * dürfen daher nicht verändert werden.
+ *
+ * @author Andreas Hauffe
+ */
+public final class BoundaryTables {
+
+    /** Gelenkig - gelenkig */
+    public static final int SS = 0;
+    /** Eingespannt - eingespannt */
+    public static final int CC = 1;
+    /** Eingespannt - frei */
+    public static final int CF = 2;
+    /** Frei - frei */
+    public static final int FF = 3;
+    /** Gelenkig - eingespannt */
+    public static final int SC = 4;
+    /** Gelenkig - frei */
+    public static final int SF = 5;
+
+    // Ableitungsordnungen der Randbedingungen gelenkig, eingespannt und frei
+    private static final int[] SIMPLE  = {0, 2};
+    private static final int[] CLAMPED = {0, 1};
+    private static final int[] FREE    = {2, 3};
+
+    private static final int GAUSS_POINTS = 20;
+    private static final double[] GAUSS_NODES   = new double[GAUSS_POINTS];
+    private static final double[] GAUSS_WEIGHTS = new double[GAUSS_POINTS];
+
+    static {
+        initGaussLegendre();
+    }
+
+    private static final ConcurrentHashMap<Long, BoundaryTables> CACHE = new ConcurrentHashMap<>();
+
+    final int type;
+    final int m;
+
+    // Nullstellen der charakteristischen Gleichung
+    final double[] cv;
+
+    // Konstanten des Verschiebungsansatzes
+    final double[] c1, c2, ep, em, c5;
+
+    final double[] IX;
+
+    // Integrale des Verschiebungsansatzes (Länge 1)
+    final double[][] IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2;
+
+    /**
+     * Liefert die Tabellen für die Lagerung <code>type</code> und die ersten
+     * <code>m</code> Ansätze. Die Tabellen werden beim ersten Aufruf erzeugt und
+     * anschließend aus dem Zwischenspeicher geliefert.
+     *
+     * @param type Lagerung, z.B. {@link #CC}
+     * @param m Anzahl der Ansätze
+     * @return Tabellen der Lagerung
+     */
+    public static BoundaryTables getTables(int type, int m) {
+        if (type < SS || type > SF) {
+            throw new IllegalArgumentException("Unknown boundary condition " + type);
+        }
+        if (m < 1) {
+            throw new IllegalArgumentException("Number of terms must be positive: " + m);
+        }
+        return CACHE.computeIfAbsent(((long) type << 32) | m, k -> new BoundaryTables(type, m));
+    }
+
+    private BoundaryTables(int type, int m) {
+        this.type = type;
+        this.m = m;
+
+        cv = new double[m];
+        c1 = new double[m];
+        c2 = new double[m];
+        ep = new double[m];
+        em = new double[m];
+        c5 = new double[m];
+        for (int i = 0; i < m; i++) {
+            initTerm(i);
+        }
+
+        IX      = new double[m];
+        IXX     = new double[m][m];
+        IXdX    = new double[m][m];
+        IXdX2   = new double[m][m];
+        IdXdX   = new double[m][m];
+        IdXdX2  = new double[m][m];
+        IdX2dX2 = new double[m][m];
+        integrate();
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getM() {
+        return m;
+    }
+
+    /**
+     * Bestimmt Nullstelle und Konstanten des i-ten Ansatzes.
+     */
+    private void initTerm(int i) {
+        switch (type) {
+            case SS:
+                cv[i] = (i + 1) * Math.PI;
+                c1[i] = 1.0;
+                return;
+            case CC:
+                initBeamTerm(i, i, CLAMPED, CLAMPED);
+                return;
+            case CF:
+                initBeamTerm(i, i, CLAMPED, FREE);
+                return;
+            case FF:
+                // Die ersten beiden Ansätze ersetzen die Starrkörperverschiebung
+                // und -drehung. Sie sind aus den bisherigen Tabellen übernommen.
+                if (i == 0) {
+                    cv[i] = 1.0;
+                    c5[i] = 1.0;
+                } else if (i == 1) {
+                    setHyperbolic(i, 1.75, -0.50813733833137500, 0.32948052946113070, -0.50813733833137500, 0.32948052946113070);
+                } else {
+                    initBeamTerm(i, i - 2, FREE, FREE);
+                }
+                return;
+            case SC:
+                initBeamTerm(i, i, SIMPLE, CLAMPED);
+                return;
+            case SF:
+                // Der erste Ansatz ersetzt die Starrkörperdrehung um das Gelenk.
+                // Er ist aus den bisherigen Tabellen übernommen.
+                if (i == 0) {
+                    setHyperbolic(i, 2.3650203724313520, 0.71343114531971550, 0.0, 0.094783960205306910, 0.0);
+                } else {
+                    initBeamTerm(i, i - 1, SIMPLE, FREE);
+                }
+                return;
+            default:
+                throw new IllegalArgumentException("Unknown boundary condition " + type);
+        }
+    }
+
+    /**
+     * Setzt einen Ansatz, der in der Form
+     * c1 * sin + c2 * cos + c3 * sinh + c4 * cosh gegeben ist.
+     */
+    private void setHyperbolic(int i, double cvi, double c1i, double c2i, double c3i, double c4i) {
+        cv[i] = cvi;
+        c1[i] = c1i;
+        c2[i] = c2i;
+        ep[i] = 0.5 * (c3i + c4i) * Math.exp(cvi);
+        em[i] = 0.5 * (c4i - c3i);
+    }
+
+    /**
+     * Bestimmt die Nullstelle <code>root</code> der charakteristischen
+     * Gleichung für die Randbedingungen <code>left</code> und
+     * <code>right</code> und die zugehörige Eigenform. Die Eigenform wird so
+     * skaliert, dass der betragsmäßig größte Wert eins ist und die erste nicht
+     * verschwindende Ableitung am linken Rand positiv ist.
+     */
+    private void initBeamTerm(int i, int root, int[] left, int[] right) {
+        double lambda = findRoot(root, left, right);
+        cv[i] = lambda;
+
+        // Randbedingungen als 4x4-Matrix für (c1, c2, ep, em)
+        double e = Math.exp(-lambda);
+        double[][] a = new double[4][];
+        a[0] = boundaryRow(left[0], 0.0, lambda, e);
+        a[1] = boundaryRow(left[1], 0.0, lambda, e);
+        a[2] = boundaryRow(right[0], 1.0, lambda, e);
+        a[3] = boundaryRow(right[1], 1.0, lambda, e);
+
+        double[] v = nullVector(a);
+        c1[i] = v[0];
+        c2[i] = v[1];
+        ep[i] = v[2];
+        em[i] = v[3];
+
+        double sign = 0.0;
+        for (int k = 0; k < 4 && sign == 0.0; k++) {
+            double d = derivative(i, k, 0.0) / Math.pow(lambda, k);
+            if (Math.abs(d) > 1E-6) {
+                sign = Math.signum(d);
+            }
+        }
+        double scale = sign / maxAbs(i);
+        c1[i] *= scale;
+        c2[i] *= scale;
+        ep[i] *= scale;
+        em[i] *= scale;
+    }
+
+    /**
+     * Liefert die k-te Ableitung des Ansatzes an der Stelle xi geteilt durch
+     * cv^k als Zeile der Koeffizienten (c1, c2, ep, em).
+     */
+    private static double[] boundaryRow(int k, double xi, double lambda, double e) {
+        double s = Math.sin(lambda * xi);
+        double c = Math.cos(lambda * xi);
+        double sk = (k % 2 == 0) ? 1.0 : -1.0;
+        double ePlus  = xi == 0.0 ? e : 1.0;
+        double eMinus = xi == 0.0 ? 1.0 : e;
+        switch (k) {
+            case 0:  return new double[]{ s,  c, ePlus, sk * eMinus};
+            case 1:  return new double[]{ c, -s, ePlus, sk * eMinus};
+            case 2:  return new double[]{-s, -c, ePlus, sk * eMinus};
+            default: return new double[]{-c,  s, ePlus, sk * eMinus};
+        }
+    }
+
+    /**
+     * Bestimmt die Nullstelle <code>root</code> (beginnend bei 0) der
+     * charakteristischen Gleichung mittels Bisektion. Die Startintervalle
+     * ergeben sich aus den asymptotischen Werten der Nullstellen.
+     */
+    private static double findRoot(int root, int[] left, int[] right) {
+        double guess;
+        if (left == CLAMPED && right == CLAMPED || left == FREE && right == FREE) {
+            guess = (root + 1.5) * Math.PI;
+        } else if (left == CLAMPED && right == FREE) {
+            guess = (root + 0.5) * Math.PI;
+        } else {
+            guess = (root + 1.25) * Math.PI;
+        }
+        double lo = guess - 0.25 * Math.PI;
+        double hi = guess + 0.25 * Math.PI;
+        double flo = characteristic(lo, left, right);
+        for (int iter = 0; iter < 200; iter++) {
+            double mid = 0.5 * (lo + hi);
+            if (mid <= lo || mid >= hi) {
+                break;
+            }
+            double fmid = characteristic(mid, left, right);
+            if (fmid == 0.0) {
+                return mid;
+            }
+            if (Math.signum(fmid) == Math.signum(flo)) {
+                lo = mid;
+                flo = fmid;
+            } else {
+                hi = mid;
+            }
+        }
+        return 0.5 * (lo + hi);
+    }
+
+    /**
+     * Charakteristische Gleichung, durch cosh geteilt, damit sie auch für
+     * große Werte auswertbar bleibt.
+     */
+    private static double characteristic(double lambda, int[] left, int[] right) {
+        if (left == CLAMPED && right == CLAMPED || left == FREE && right == FREE) {
+            // cos * cosh = 1
+            return Math.cos(lambda) - 1.0 / Math.cosh(lambda);
+        } else if (left == CLAMPED && right == FREE) {
+            // cos * cosh = -1
+            return Math.cos(lambda) + 1.0 / Math.cosh(lambda);
+        } else {
+            // tan = tanh
+            return Math.sin(lambda) - Math.cos(lambda) * Math.tanh(lambda);
+        }
+    }
+
+    /**
+     * Nullvektor einer singulären 4x4-Matrix aus den Kofaktoren der Zeile,
+     * die den betragsmäßig größten Vektor liefert.
+     */
+    private static double[] nullVector(double[][] a) {
+        double[] best = null;
+        double bestNorm = -1.0;
+        for (int r = 0; r < 4; r++) {
+            double[] v = new double[4];
+            double norm = 0.0;
+            for (int j = 0; j < 4; j++) {
+                v[j] = ((j % 2 == 0) ? 1.0 : -1.0) * minor3(a, r, j);
+                norm += v[j] * v[j];
+            }
+            if (norm > bestNorm) {
+                bestNorm = norm;
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    private static double minor3(double[][] a, int row, int col) {
+        double[][] b = new double[3][3];
+        for (int i = 0, bi = 0; i < 4; i++) {
+            if (i == row) {
+                continue;
+            }
+            for (int j = 0, bj = 0; j < 4; j++) {
+                if (j == col) {
+                    continue;
+                }
+                b[bi][bj++] = a[i][j];
+            }
+            bi++;
+        }
+        return b[0][0] * (b[1][1] * b[2][2] - b[1][2] * b[2][1])
+             - b[0][1] * (b[1][0] * b[2][2] - b[1][2] * b[2][0])
+             + b[0][2] * (b[1][0] * b[2][1] - b[1][1] * b[2][0]);
+    }
+
+    /**
+     * Betragsmäßig größter Wert des i-ten Ansatzes auf [0,1]. Das Maximum
+     * wird zunächst auf einem gleichmäßigen Raster gesucht und anschließend
+     * mit dem Newton-Verfahren für X'(xi) = 0 verbessert.
+     */
+    private double maxAbs(int i) {
+        int samples = 32 * (i + 2);
+        int kMax = 0;
+        double vMax = 0.0;
+        for (int k = 0; k <= samples; k++) {
+            double v = Math.abs(derivative(i, 0, (double) k / samples));
+            if (v > vMax) {
+                vMax = v;
+                kMax = k;
+            }
+        }
+        if (kMax > 0 && kMax < samples) {
+            double xi = (double) kMax / samples;
+            for (int iter = 0; iter < 8; iter++) {
+                double d2 = derivative(i, 2, xi);
+                if (d2 == 0.0) {
+                    break;
+                }
+                xi = Math.min(1.0, Math.max(0.0, xi - derivative(i, 1, xi) / d2));
+            }
+            vMax = Math.max(vMax, Math.abs(derivative(i, 0, xi)));
+        }
+        return vMax;
+    }
+
+    /**
+     * k-te Ableitung des i-ten Ansatzes an der Stelle xi (Länge 1).
+     */
+    double derivative(int i, int k, double xi) {
+        double l = cv[i];
+        double t = l * xi;
+        double s = Math.sin(t);
+        double c = Math.cos(t);
+        double eP = ep[i] == 0.0 ? 0.0 : ep[i] * Math.exp(l * (xi - 1.0));
+        double eM = em[i] == 0.0 ? 0.0 : em[i] * Math.exp(-t);
+        switch (k) {
+            case 0:  return  c1[i] * s + c2[i] * c + eP + eM + c5[i];
+            case 1:  return (c1[i] * c - c2[i] * s + eP - eM) * l;
+            case 2:  return (-c1[i] * s - c2[i] * c + eP + eM) * l * l;
+            default: return (-c1[i] * c + c2[i] * s + eP - eM) * l * l * l;
+        }
+    }
+
+    /**
+     * Bestimmt alle Integrale mit einer zusammengesetzten Gauß-Legendre-Quadratur.
+     */
+    private void integrate() {
+        double cvMax = 0.0;
+        for (int i = 0; i < m; i++) {
+            cvMax = Math.max(cvMax, cv[i]);
+        }
+        int panels = Math.max(4, (int) Math.ceil(cvMax / Math.PI));
+        int points = panels * GAUSS_POINTS;
+
+        double[] w = new double[points];
+        double[][] x   = new double[m][points];
+        double[][] dx  = new double[m][points];
+        double[][] dx2 = new double[m][points];
+        double h = 1.0 / panels;
+        for (int p = 0, k = 0; p < panels; p++) {
+            for (int g = 0; g < GAUSS_POINTS; g++, k++) {
+                double xi = (p + GAUSS_NODES[g]) * h;
+                w[k] = GAUSS_WEIGHTS[g] * h;
+                for (int i = 0; i < m; i++) {
+                    x[i][k]   = derivative(i, 0, xi);
+                    dx[i][k]  = derivative(i, 1, xi);
+                    dx2[i][k] = derivative(i, 2, xi);
+                }
+            }
+        }
+
+        double[] wx   = new double[points];
+        double[] wdx  = new double[points];
+        double[] wdx2 = new double[points];
+        for (int i = 0; i < m; i++) {
+            double sum = 0.0;
+            for (int k = 0; k < points; k++) {
+                wx[k]   = w[k] * x[i][k];
+                wdx[k]  = w[k] * dx[i][k];
+                wdx2[k] = w[k] * dx2[i][k];
+                sum += wx[k];
+            }
+            IX[i] = sum;
+            for (int p = 0; p < m; p++) {
+                double[] xp = x[p], dxp = dx[p], dx2p = dx2[p];
+                double sXdX = 0.0, sXdX2 = 0.0, sdXdX2 = 0.0;
+                for (int k = 0; k < points; k++) {
+                    sXdX   += wx[k]  * dxp[k];
+                    sXdX2  += wx[k]  * dx2p[k];
+                    sdXdX2 += wdx[k] * dx2p[k];
+                }
+                IXdX[i][p]   = sXdX;
+                IXdX2[i][p]  = sXdX2;
+                IdXdX2[i][p] = sdXdX2;
+                if (p < i) {
+                    continue;
+                }
+                double sXX = 0.0, sdXdX = 0.0, sdX2dX2 = 0.0;
+                for (int k = 0; k < points; k++) {
+                    sXX     += wx[k]   * xp[k];
+                    sdXdX   += wdx[k]  * dxp[k];
+                    sdX2dX2 += wdx2[k] * dx2p[k];
+                }
+                IXX[i][p]     = IXX[p][i]     = sXX;
+                IdXdX[i][p]   = IdXdX[p][i]   = sdXdX;
+                IdX2dX2[i][p] = IdX2dX2[p][i] = sdX2dX2;
+            }
+        }
+    }
+
+    /**
+     * Stützstellen und Gewichte der Gauß-Legendre-Quadratur auf [0,1].
+     */
+    private static void initGaussLegendre() {
+        int n = GAUSS_POINTS;
+        for (int i = 0; i < (n + 1) / 2; i++) {
+            double z = Math.cos(Math.PI * (i + 0.75) / (n + 0.5));
+            double dp;
+            double z1;
+            do {
+                double p1 = 1.0;
+                double p2 = 0.0;
+                for (int j = 1; j <= n; j++) {
+                    double p3 = p2;
+                    p2 = p1;
+                    p1 = ((2.0 * j - 1.0) * z * p2 - (j - 1.0) * p3) / j;
+                }
+                dp = n * (z * p1 - p2) / (z * z - 1.0);
+                z1 = z;
+                z = z1 - p1 / dp;
+            } while (Math.abs(z - z1) > 1E-14);
+            double weight = 1.0 / ((1.0 - z * z) * dp * dp);
+            GAUSS_NODES[i]         = 0.5 * (1.0 - z);
+            GAUSS_NODES[n - 1 - i] = 0.5 * (1.0 + z);
+            GAUSS_WEIGHTS[i]         = weight;
+            GAUSS_WEIGHTS[n - 1 - i] = weight;
+        }
+    }
+}
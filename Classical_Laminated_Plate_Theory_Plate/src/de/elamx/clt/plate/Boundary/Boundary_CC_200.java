@@ -47,261 +47,7 @@ public class Boundary_CC_200 extends Boundary{
     }
 
     @Override
-    protected void initArrays() {
-        c1_ = new double[]{-6.1878232899490017e-1,-6.6321834970696019e-1,-6.6178128320776205e-1,-6.6120199683796105e-1,-6.6126396957788217e-1,-6.6126412767871943e-1,-6.6385010869322005e-1,-6.6575151919972743e-1,-6.6591475771082471e-1,-6.6186764253600814e-1,-6.6374840425316533e-1,-6.6385010901083831e-1,-6.6697138057993834e-1,-6.6127681274251698e-1,-6.701552493360118e-1,-6.7151495321114281e-1,-6.6232337768062367e-1,-6.6238141404102029e-1,-6.7188103353225574e-1,-6.9166981453688079e-1,-6.7741034798667521e-1,-6.6697138057993835e-1,-6.6182666413360099e-1,-6.618676425359838e-1,-6.6717408191320761e-1,-6.7802679317569223e-1,-6.9493936451089207e-1,-7.0730710128699976e-1,-7.0712903354419646e-1,-6.9669266604408597e-1,-6.8470113008548866e-1,-6.7529258549765671e-1,-6.6833787749214765e-1,-6.6374840425316624e-1,-6.6147357855472264e-1,-6.6149968688665693e-1,-6.6385010901083774e-1,-6.6858695265486354e-1,-6.758142592245991e-1,-6.8568305894101976e-1};
-        c2_ = new double[]{6.2980247760742859e-1,6.6270322260104682e-1,6.6180348663174259e-1,6.6120103816412534e-1,6.6126401100978656e-1,6.6126412588828401e-1,6.6385010877089435e-1,6.6575151919636121e-1,6.6591475771097022e-1,6.6186764253600189e-1,6.637484042531656e-1,6.638501090108383e-1,6.6697138057993835e-1,6.6127681274251698e-1,6.701552493360118e-1,6.7151495321114281e-1,6.6232337768062367e-1,6.6238141404102029e-1,6.7188103353225574e-1,6.9166981453688079e-1,6.7741034798667521e-1,6.6697138057993835e-1,6.6182666413360099e-1,6.618676425359838e-1,6.6717408191320761e-1,6.7802679317569223e-1,6.9493936451089207e-1,7.0730710128699976e-1,7.0712903354419646e-1,6.9669266604408597e-1,6.8470113008548866e-1,6.7529258549765671e-1,6.6833787749214765e-1,6.6374840425316624e-1,6.6147357855472264e-1,6.6149968688665693e-1,6.6385010901083774e-1,6.6858695265486354e-1,6.758142592245991e-1,6.8568305894101976e-1};
-        c3_ = new double[]{6.1878232899490017e-1,6.6321834970696019e-1,6.6178128320776205e-1,6.6120199683796105e-1,6.6126396957788217e-1,6.6126412767871943e-1,6.6385010869322005e-1,6.6575151919972743e-1,6.6591475771082471e-1,6.6186764253600814e-1,6.6374840425316533e-1,6.6385010901083831e-1,6.6697138057993834e-1,6.6127681274251698e-1,6.701552493360118e-1,6.7151495321114281e-1,6.6232337768062367e-1,6.6238141404102029e-1,6.7188103353225574e-1,6.9166981453688079e-1,6.7741034798667521e-1,6.6697138057993835e-1,6.6182666413360099e-1,6.618676425359838e-1,6.6717408191320761e-1,6.7802679317569223e-1,6.9493936451089207e-1,7.0730710128699976e-1,7.0712903354419646e-1,6.9669266604408597e-1,6.8470113008548866e-1,6.7529258549765671e-1,6.6833787749214765e-1,6.6374840425316624e-1,6.6147357855472264e-1,6.6149968688665693e-1,6.6385010901083774e-1,6.6858695265486354e-1,6.758142592245991e-1,6.8568305894101976e-1};
-        c4_ = new double[]{-6.2980247760742859e-1,-6.6270322260104682e-1,-6.6180348663174259e-1,-6.6120103816412534e-1,-6.6126401100978656e-1,-6.6126412588828401e-1,-6.6385010877089435e-1,-6.6575151919636121e-1,-6.6591475771097022e-1,-6.6186764253600189e-1,-6.637484042531656e-1,-6.638501090108383e-1,-6.6697138057993835e-1,-6.6127681274251698e-1,-6.701552493360118e-1,-6.7151495321114281e-1,-6.6232337768062367e-1,-6.6238141404102029e-1,-6.7188103353225574e-1,-6.9166981453688079e-1,-6.7741034798667521e-1,-6.6697138057993835e-1,-6.6182666413360099e-1,-6.618676425359838e-1,-6.6717408191320761e-1,-6.7802679317569223e-1,-6.9493936451089207e-1,-7.0730710128699976e-1,-7.0712903354419646e-1,-6.9669266604408597e-1,-6.8470113008548866e-1,-6.7529258549765671e-1,-6.6833787749214765e-1,-6.6374840425316624e-1,-6.6147357855472264e-1,-6.6149968688665693e-1,-6.6385010901083774e-1,-6.6858695265486354e-1,-6.758142592245991e-1,-6.8568305894101976e-1};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-
-        cv_ = new double[]{4.730040744862704,7.8532046240958375,1.099560783800167e1,1.4137165491257464e1,1.7278759657399481e1,2.0420352245626061e1,2.3561944902040455e1,2.6703537555508186e1,2.9845130209103254e1,3.2986722862692819e1,3.6128315516282622e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2,1.2409290981679683e2,1.2723450247038662e2};
-
-        IX_ = new double[]{-5.2327864589070146e-1,0,-2.4074386535343494e-1,0,-1.5308135136764901e-1,0,-1.1269869468809952e-1,-1e-189,-8.9249368730542149e-2,0,-7.3487888352173125e-2,0,-6.2904765700813602e-2,0,-5.5049559004287942e-2,0,-4.8188360906601857e-2,0,-4.3870025705169224e-2,0,-4.0116541538113603e-2,0,-3.5858037469576917e-2,0,-3.3312644090755788e-2,0,-3.2175428366850599e-2,0,-3.052015758436706e-2,0,-2.7675827147609491e-2,0,-2.5401618354249761e-2,0,-2.372434698629166e-2,0,-2.2539738948515924e-2,0,-2.1784137714953412e-2,0};
-
-        IXX_ =   new double[][] {{3.9665116080045559e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,4.3917556124581262e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,4.3798385491793109e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,4.3718681286931714e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,4.3727009225675112e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,4.3727024418679632e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,4.4069696691512827e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,4.4322508531226291e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,4.4344246453726017e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,4.3806877623616478e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,4.4056194414862375e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,4.406969672337019e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,4.4485082251270896e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,4.3728702307090187e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4910805821261215e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5093233238616332e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3867225662227007e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3874913766698155e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5142412322037217e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7840713234148307e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5888477955942841e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4485082251270897e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3801453335821029e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3806877623614083e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4512125557673147e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5972033226411293e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.8294072034680251e-1,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.0028333553101814e-1,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.0003147008114932e-1,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.8538067091961631e-1,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.6881563754034527e-1,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5602007602811e-1,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4667551849070896e-1,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4056194414862459e-1,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3754729512599082e-1,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3758183575114516e-1,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4069696723370116e-1,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4700851326031674e-1,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5672491297129363e-1,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7016125731871398e-1}};
-
-        IXdX_ =  new double[][] {{0,-1.394864360716068,0,-3.7766766032624265e-1,0,-1.7927703265104099e-1,0,-1.053480320723407e-1,0,-6.8596280339230835e-2,0,-4.8536202818147937e-2,0,-3.5927098884675124e-2,0,-2.8173595851079502e-2,0,-2.2105895072932476e-2,0,-1.8798712563729837e-2,0,-1.5047877278678735e-2,0,-1.2594169824415418e-2,0,-1.1027676146144079e-2,0,-9.9459449487995864e-3,0,-8.553985486984365e-3,0,-7.3021647927295068e-3,0,-6.3692932551374057e-3,0,-5.67112919876672e-3,0,-5.1518335608099927e-3,0,-4.7746173585541179e-3},
-                                 {1.394864360716068,0,-2.4192476608739638,0,-7.5646988825802227e-1,0,-3.9586174910505286e-1,0,-2.4561878238818263e-1,0,-1.666409062885935e-1,0,-1.2138182491769488e-1,0,-9.2471749463114005e-2,0,-7.1676697185074444e-2,0,-5.8552252741835013e-2,0,-4.8557624061720976e-2,0,-3.9707019949735908e-2,0,-3.3993983966419863e-2,0,-3.0444884349755301e-2,0,-2.6920317678555367e-2,0,-2.286126788235847e-2,0,-1.9729817914262871e-2,0,-1.7388800477539768e-2,0,-1.5639368838366386e-2,0,-1.434971504629858e-2,0},
-                                 {0,2.4192476608739638,0,-3.3399982131061184,0,-1.1082613361309227,0,-6.1531852734856576e-1,0,-3.94226148079309e-1,0,-2.7725888299597613e-1,0,-2.0468305409502256e-1,0,-1.6029712946259612e-1,0,-1.2568376991656963e-1,0,-1.068361062731272e-1,0,-8.5497675131377153e-2,0,-7.1544734840849994e-2,0,-6.2639034992380412e-2,0,-5.6490428557373544e-2,0,-4.8581917840053422e-2,0,-4.1470708558331979e-2,0,-3.6171713475754415e-2,0,-3.2206120342285556e-2,0,-2.9256601700927713e-2,0,-2.7114111298160593e-2},
-                                 {3.7766766032624265e-1,0,3.3399982131061184,0,-4.2428452040719269,0,-1.4523692567194865,0,-8.3225032801050126e-1,0,-5.5050307895376401e-1,0,-3.9690186889150359e-1,0,-3.0092402538740743e-1,0,-2.3267269193058144e-1,0,-1.8980385762050138e-1,0,-1.5727424581582322e-1,0,-1.2854089325699645e-1,0,-1.1000910919842068e-1,0,-9.8501190202815578e-2,0,-8.7083986864499338e-2,0,-7.3945084167156869e-2,0,-6.3811115705599888e-2,0,-5.6236255066841712e-2,0,-5.0576178621676899e-2,0,-4.6403931103791789e-2,0},
-                                 {0,7.5646988825802227e-1,0,4.2428452040719269,0,-5.1389298152811807,0,-1.7879983731926308,0,-1.0388998734953957,0,-7.0636786267858452e-1,0,-5.1395130092915851e-1,0,-3.9964380724291128e-1,0,-3.1214830420538002e-1,0,-2.6475087179200174e-1,0,-2.1158545629079848e-1,0,-1.7690236056713557e-1,0,-1.5479322836123271e-1,0,-1.3954405276351137e-1,0,-1.1997514820368545e-1,0,-1.0239337735599318e-1,0,-8.9296854974624073e-2,0,-7.949835329239269e-2,0,-7.2211707227629095e-2,0,-6.6919296416383097e-2},
-                                 {1.7927703265104099e-1,0,1.1082613361309227,0,5.1389298152811807,0,-6.052293126236613,0,-2.1120315290363713,0,-1.2492601670349384,0,-8.644144488564046e-1,0,-6.4334931127710741e-1,0,-4.9275510818828214e-1,0,-3.9986174179697289e-1,0,-3.3030104529537482e-1,0,-2.6943227148620992e-1,0,-2.302967627626352e-1,0,-2.060301747396748e-1,0,-1.8204181368719172e-1,0,-1.5451111076247761e-1,0,-1.3329507504328578e-1,0,-1.1744535642216365e-1,0,-1.0560667256804753e-1,0,-9.6882066785187865e-2,0},
-                                 {0,3.9586174910505286e-1,0,1.4523692567194865,0,6.052293126236613,0,-6.98891006318267,0,-2.4245117588229617,0,-1.4581884940150215,0,-1.0120079157853195,0,-7.6969204113832618e-1,0,-5.942097593621207e-1,0,-5.0063914127505728e-1,0,-3.9849212119461576e-1,0,-3.3231675077654088e-1,0,-2.9029064827640374e-1,0,-2.6138981696026369e-1,0,-2.2455097226597099e-1,0,-1.9153194907079722e-1,0,-1.6696248011772288e-1,0,-1.4859402884308225e-1,0,-1.3494129529585268e-1,0,-1.2502790937353156e-1},
-                                 {1.053480320723407e-1,0,6.1531852734856576e-1,0,1.7879983731926308,0,6.98891006318267,0,-7.906421882739258,0,-2.7529264755617195,0,-1.6708377105735717,0,-1.180101931733739,0,-8.8126078515573121e-1,0,-7.0539488936313802e-1,0,-5.7803805944472321e-1,0,-4.6918736619174896e-1,0,-3.9975494274178478e-1,0,-3.5686478181926051e-1,0,-3.1484619949733497e-1,0,-2.6694922458136659e-1,0,-2.3011781441175401e-1,0,-2.0264017602560805e-1,0,-1.8213583977145155e-1,0,-1.6703420927748828e-1,0},
-                                 {0,2.4561878238818263e-1,0,8.3225032801050126e-1,0,2.1120315290363713,0,7.906421882739258,0,-8.7490563258551355,0,-3.0653850498630507,0,-1.8537425301431012,0,-1.3322938239994843,0,-1.0000478474466906,0,-8.295693462379775e-1,0,-6.5422071862655652e-1,0,-5.4240701378879013e-1,0,-4.7200190126107638e-1,0,-4.2390561328270937e-1,0,-3.6350003717707798e-1,0,-3.0964448907291204e-1,0,-2.6966541393513375e-1,0,-2.3982659316996234e-1,0,-2.1767337149410533e-1,0,-2.0159789886176085e-1},
-                                 {6.8596280339230835e-2,0,3.94226148079309e-1,0,1.0388998734953957,0,2.4245117588229617,0,8.7490563258551355,0,-9.6051573066033933,0,-3.3694274061140324,0,-2.0627527767343504,0,-1.4504903357491193,0,-1.1261560215745931,0,-9.0708989056135626e-1,0,-7.2863758216374025e-1,0,-6.1668911690494101e-1,0,-5.4808882875662273e-1,0,-4.8208236577068975e-1,0,-4.0786337053027663e-1,0,-3.5104111361512464e-1,0,-3.0876784200078649e-1,0,-2.7728404768593993e-1,0,-2.5412465075815264e-1,0},
-                                 {0,1.666409062885935e-1,0,5.5050307895376401e-1,0,1.2492601670349384,0,2.7529264755617195,0,9.6051573066033933,0,-1.0520155407128953e1,0,-3.6547130025749151,0,-2.2670764856424598,0,-1.5976632331649361,0,-1.2828353902679334,0,-9.9295344990478806e-1,0,-8.1383992989497447e-1,0,-7.0295344692151966e-1,0,-6.2816830695890086e-1,0,-5.3678237201728053e-1,0,-4.5611746682771759e-1,0,-3.9650574973376176e-1,0,-3.5215503930576534e-1,0,-3.1929836597259417e-1,0,-2.9548472718614545e-1},
-                                 {4.8536202818147937e-2,0,2.7725888299597613e-1,0,7.0636786267858452e-1,0,1.4581884940150215,0,3.0653850498630507,0,1.0520155407128953e1,0,-1.1461006500717919e1,0,-4.0114038437911617,0,-2.4261811798661851,0,-1.7641028581867968,0,-1.3729276762237215,0,-1.0809982435251391,0,-9.0358341465060443e-1,0,-7.9654115752374266e-1,0,-6.9673171416862911e-1,0,-5.8717143436815968e-1,0,-5.0395049290018675e-1,0,-4.4234752277305856e-1,0,-3.9662727051033137e-1,0,-3.6307025519646732e-1,0},
-                                 {0,1.2138182491769488e-1,0,3.9690186889150359e-1,0,8.644144488564046e-1,0,1.6708377105735717,0,3.3694274061140324,0,1.1461006500717919e1,0,-1.2302300461734738e1,0,-4.346221964756285,0,-2.6269441676030171,0,-1.9712298164833689,0,-1.4719328686082282,0,-1.1811564161762993,0,-1.0067048151550312,0,-8.9169662814850955e-1,0,-7.5736289279611248e-1,0,-6.4079037922275646e-1,0,-5.5530747279581663e-1,0,-4.9205423810842321e-1,0,-4.4536586477180096e-1,0,-4.1159787881595047e-1},
-                                 {3.5927098884675124e-2,0,2.0468305409502256e-1,0,5.1395130092915851e-1,0,1.0120079157853195,0,1.8537425301431012,0,3.6547130025749151,0,1.2302300461734738e1,0,-1.3250493587164204e1,0,-4.5500263215873125,0,-2.8307535926385118,0,-2.0551579392396674,0,-1.5589181627018319,0,-1.2744572216888736,0,-1.107712573963546,0,-9.5980560195152052e-1,0,-8.0359939350531497e-1,0,-6.8648795141381544e-1,0,-6.0051542332614548e-1,0,-5.3707503315879799e-1,0,-4.906831320032215e-1,0},
-                                 {0,9.2471749463114005e-2,0,3.0092402538740743e-1,0,6.4334931127710741e-1,0,1.180101931733739,0,2.0627527767343504,0,4.0114038437911617,0,1.3250493587164204e1,0,-1.435848224261818e1,0,-4.9145561392454556,0,-3.1491259089123686,0,-2.1902293459309478,0,-1.6911880726944614,0,-1.4084585694409576,0,-1.2291599814139071,0,-1.0335921823640653,0,-8.6841002937881512e-1,0,-7.4878824824494604e-1,0,-6.6104478967465626e-1,0,-5.9666056752784942e-1,0,-5.5025107495964812e-1},
-                                 {2.8173595851079502e-2,0,1.6029712946259612e-1,0,3.9964380724291128e-1,0,7.6969204113832618e-1,0,1.3322938239994843,0,2.2670764856424598,0,4.346221964756285,0,1.435848224261818e1,0,-1.5082643457583388e1,0,-5.3023805805256805,0,-3.2816851260531481,0,-2.3155003816020256,0,-1.8195957602140335,0,-1.544102784410668,0,-1.3173430107143318,0,-1.0914010957622242,0,-9.2546885558258205e-1,0,-8.0524000596854292e-1,0,-7.1731800105704759e-1,0,-6.5339417604101872e-1,0},
-                                 {0,7.1676697185074444e-2,0,2.3267269193058144e-1,0,4.9275510818828214e-1,0,8.8126078515573121e-1,0,1.4504903357491193,0,2.4261811798661851,0,4.5500263215873125,0,1.5082643457583388e1,0,-1.575706339532837e1,0,-5.6951116645100563,0,-3.3717474568122915,0,-2.4189358351931618,0,-1.9346556860388286,0,-1.6472040517020239,0,-1.3630079089937604,0,-1.1326535687412603,0,-9.6905597281429138e-1,0,-8.5066337363423334e-1,0,-7.6457353052830048e-1,0,-7.0284473695671429e-1},
-                                 {2.2105895072932476e-2,0,1.2568376991656963e-1,0,3.1214830420538002e-1,0,5.942097593621207e-1,0,1.0000478474466906,0,1.5976632331649361,0,2.6269441676030171,0,4.9145561392454556,0,1.575706339532837e1,0,-1.6876474907947967e1,0,-5.8825148697127016,0,-3.5287584164055715,0,-2.5738301110665742,0,-2.0958175841198893,0,-1.7432858815031153,0,-1.4204691275772919,0,-1.1908122461183092,0,-1.0277087878881523,0,-9.1005341458129707e-1,0,-8.2526071175965245e-1,0},
-                                 {0,5.8552252741835013e-2,0,1.8980385762050138e-1,0,3.9986174179697289e-1,0,7.0539488936313802e-1,0,1.1261560215745931,0,1.7641028581867968,0,2.8307535926385118,0,5.3023805805256805,0,1.6876474907947967e1,0,-1.8553968233772653e1,0,-6.1783789395545403,0,-3.7643034955079278,0,-2.791942170050071,0,-2.2793299399778575,0,-1.8377769241743451,0,-1.5012671038704091,0,-1.2693176290544765,0,-1.1048401156013395,0,-9.8685437673321747e-1,0,-9.0293327379698312e-1},
-                                 {1.8798712563729837e-2,0,1.068361062731272e-1,0,2.6475087179200174e-1,0,5.0063914127505728e-1,0,8.295693462379775e-1,0,1.2828353902679334,0,1.9712298164833689,0,3.1491259089123686,0,5.6951116645100563,0,1.8553968233772653e1,0,-1.9645418002842044e1,0,-6.6208382138852195,0,-4.0973357390449615,0,-3.0915596009131516,0,-2.4641589036012392,0,-1.9553936428288641,0,-1.6107195736031001,0,-1.3732447169649928,0,-1.2054036628885025,0,-1.0860213822557831,0},
-                                 {0,4.8557624061720976e-2,0,1.5727424581582322e-1,0,3.3030104529537482e-1,0,5.7803805944472321e-1,0,9.0708989056135626e-1,0,1.3729276762237215,0,2.0551579392396674,0,3.2816851260531481,0,5.8825148697127016,0,1.9645418002842044e1,0,-1.9849001612323043e1,0,-6.7875653936156575,0,-4.2678249954512425,0,-3.2263285229411514,0,-2.4912573554845189,0,-1.9809622312966161,0,-1.6450820589817009,0,-1.4140715671343173,0,-1.2516703663743966,0,-1.1375510730405924},
-                                 {1.5047877278678735e-2,0,8.5497675131377153e-2,0,2.1158545629079848e-1,0,3.9849212119461576e-1,0,6.5422071862655652e-1,0,9.9295344990478806e-1,0,1.4719328686082282,0,2.1902293459309478,0,3.3717474568122915,0,6.1783789395545403,0,1.9849001612323043e1,0,-2.0276524325421313e1,0,-7.0367742833207303,0,-4.4978309355105735,0,-3.3176252197287384,0,-2.5199467165394543,0,-2.0196654505493429,0,-1.6906217127504183,0,-1.4650445637301137,0,-1.3076988559114232,0},
-                                 {0,3.9707019949735908e-2,0,1.2854089325699645e-1,0,2.6943227148620992e-1,0,4.6918736619174896e-1,0,7.2863758216374025e-1,0,1.0809982435251391,0,1.5589181627018319,0,2.3155003816020256,0,3.5287584164055715,0,6.6208382138852195,0,2.0276524325421313e1,0,-2.0998637623237497e1,0,-7.3985506447584282,0,-4.7350091468125277,0,-3.3816167617911104,0,-2.5726284819840791,0,-2.07786910850127,0,-1.7530511954908203,0,-1.5314706752548441,0,-1.3785894177197163},
-                                 {1.2594169824415418e-2,0,7.1544734840849994e-2,0,1.7690236056713557e-1,0,3.3231675077654088e-1,0,5.4240701378879013e-1,0,8.1383992989497447e-1,0,1.1811564161762993,0,1.6911880726944614,0,2.4189358351931618,0,3.7643034955079278,0,6.7875653936156575,0,2.0998637623237497e1,0,-2.2052566106584783e1,0,-7.89334725811175,0,-4.9261452541756481,0,-3.4589951231509073,0,-2.6512413285768217,0,-2.1576892776630816,0,-1.8346434130488423,0,-1.6158064741395296,0},
-                                 {0,3.3993983966419863e-2,0,1.1000910919842068e-1,0,2.302967627626352e-1,0,3.9975494274178478e-1,0,6.1668911690494101e-1,0,9.0358341465060443e-1,0,1.2744572216888736,0,1.8195957602140335,0,2.5738301110665742,0,4.0973357390449615,0,7.0367742833207303,0,2.2052566106584783e1,0,-2.3496734030847308e1,0,-8.4158185570433477,0,-5.0827400696148051,0,-3.5730236566076637,0,-2.7588088662956829,0,-2.2621808193552933,0,-1.9385477573236366,0,-1.7213829213466415},
-                                 {1.1027676146144079e-2,0,6.2639034992380412e-2,0,1.5479322836123271e-1,0,2.9029064827640374e-1,0,4.7200190126107638e-1,0,7.0295344692151966e-1,0,1.0067048151550312,0,1.4084585694409576,0,1.9346556860388286,0,2.791942170050071,0,4.2678249954512425,0,7.3985506447584282,0,2.3496734030847308e1,0,-2.5417960355105997e1,0,-8.8730178655481826,0,-5.2663676216935319,0,-3.7283881750647254,0,-2.8997057803207714,0,-2.3956032450091058,0,-2.0690655855134104,0},
-                                 {0,3.0444884349755301e-2,0,9.8501190202815578e-2,0,2.060301747396748e-1,0,3.5686478181926051e-1,0,5.4808882875662273e-1,0,7.9654115752374266e-1,0,1.107712573963546,0,1.544102784410668,0,2.0958175841198893,0,3.0915596009131516,0,4.4978309355105735,0,7.89334725811175,0,2.5417960355105997e1,0,-2.7499669589664224e1,0,-9.2855495349844155,0,-5.5152057742494528,0,-3.9318761540357631,0,-3.0800707770142072,0,-2.5638223207110352,0,-2.2320609784909046},
-                                 {9.9459449487995864e-3,0,5.6490428557373544e-2,0,1.3954405276351137e-1,0,2.6138981696026369e-1,0,4.2390561328270937e-1,0,6.2816830695890086e-1,0,8.9169662814850955e-1,0,1.2291599814139071,0,1.6472040517020239,0,2.2793299399778575,0,3.2263285229411514,0,4.7350091468125277,0,8.4158185570433477,0,2.7499669589664224e1,0,-2.8983268484249611e1,0,-9.6134768787666581,0,-5.748347134295764,0,-4.1265240442696781,0,-3.2559251598507651,0,-2.7308726535468028,0},
-                                 {0,2.6920317678555367e-2,0,8.7083986864499338e-2,0,1.8204181368719172e-1,0,3.1484619949733497e-1,0,4.8208236577068975e-1,0,6.9673171416862911e-1,0,9.5980560195152052e-1,0,1.3173430107143318,0,1.7432858815031153,0,2.4641589036012392,0,3.3176252197287384,0,4.9261452541756481,0,8.8730178655481826,0,2.8983268484249611e1,0,-2.9534473237088674e1,0,-9.7996244748010049,0,-5.8986383616591623,0,-4.2637346332625327,0,-3.3886833586997541,0,-2.8642782361172836},
-                                 {8.553985486984365e-3,0,4.8581917840053422e-2,0,1.1997514820368545e-1,0,2.2455097226597099e-1,0,3.6350003717707798e-1,0,5.3678237201728053e-1,0,7.5736289279611248e-1,0,1.0335921823640653,0,1.3630079089937604,0,1.8377769241743451,0,2.4912573554845189,0,3.3816167617911104,0,5.0827400696148051,0,9.2855495349844155,0,2.9534473237088674e1,0,-2.9552553945815335e1,0,-9.8680694921544174,0,-5.9791977204750738,0,-4.3520184995048793,0,-3.4843787068878195,0},
-                                 {0,2.286126788235847e-2,0,7.3945084167156869e-2,0,1.5451111076247761e-1,0,2.6694922458136659e-1,0,4.0786337053027663e-1,0,5.8717143436815968e-1,0,8.0359939350531497e-1,0,1.0914010957622242,0,1.4204691275772919,0,1.9553936428288641,0,2.5199467165394543,0,3.4589951231509073,0,5.2663676216935319,0,9.6134768787666581,0,2.9552553945815335e1,0,-2.9570243462636739e1,0,-9.9365215034250996,0,-6.0606477550408032,0,-4.4423007467974112,0,-3.5834571815848168},
-                                 {7.3021647927295068e-3,0,4.1470708558331979e-2,0,1.0239337735599318e-1,0,1.9153194907079722e-1,0,3.0964448907291204e-1,0,4.5611746682771759e-1,0,6.4079037922275646e-1,0,8.6841002937881512e-1,0,1.1326535687412603,0,1.5012671038704091,0,1.9809622312966161,0,2.5726284819840791,0,3.5730236566076637,0,5.5152057742494528,0,9.7996244748010049,0,2.9570243462636739e1,0,-2.9766850044564208e1,0,-1.0065965234996173e1,0,-6.180690164355314,0,-4.5626689259890598,0},
-                                 {0,1.9729817914262871e-2,0,6.3811115705599888e-2,0,1.3329507504328578e-1,0,2.3011781441175401e-1,0,3.5104111361512464e-1,0,5.0395049290018675e-1,0,6.8648795141381544e-1,0,9.2546885558258205e-1,0,1.1908122461183092,0,1.6107195736031001,0,2.0196654505493429,0,2.6512413285768217,0,3.7283881750647254,0,5.748347134295764,0,9.8680694921544174,0,2.9766850044564208e1,0,-3.014579227083002e1,0,-1.0259087096606433e1,0,-6.3420282148141161,0,-4.7160358270737119},
-                                 {6.3692932551374057e-3,0,3.6171713475754415e-2,0,8.9296854974624073e-2,0,1.6696248011772288e-1,0,2.6966541393513375e-1,0,3.9650574973376176e-1,0,5.5530747279581663e-1,0,7.4878824824494604e-1,0,9.6905597281429138e-1,0,1.2693176290544765,0,1.6450820589817009,0,2.07786910850127,0,2.7588088662956829,0,3.9318761540357631,0,5.8986383616591623,0,9.9365215034250996,0,3.014579227083002e1,0,-3.0714830858921975e1,0,-1.0520155407128953e1,0,-6.5484699038558801,0},
-                                 {0,1.7388800477539768e-2,0,5.6236255066841712e-2,0,1.1744535642216365e-1,0,2.0264017602560805e-1,0,3.0876784200078649e-1,0,4.4234752277305856e-1,0,6.0051542332614548e-1,0,8.0524000596854292e-1,0,1.0277087878881523,0,1.3732447169649928,0,1.6906217127504183,0,2.1576892776630816,0,2.8997057803207714,0,4.1265240442696781,0,5.9791977204750738,0,1.0065965234996173e1,0,3.0714830858921975e1,0,-3.1486421518517813e1,0,-1.0855227765523928e1,0,-6.8051263698450492},
-                                 {5.67112919876672e-3,0,3.2206120342285556e-2,0,7.949835329239269e-2,0,1.4859402884308225e-1,0,2.3982659316996234e-1,0,3.5215503930576534e-1,0,4.9205423810842321e-1,0,6.6104478967465626e-1,0,8.5066337363423334e-1,0,1.1048401156013395,0,1.4140715671343173,0,1.7530511954908203,0,2.2621808193552933,0,3.0800707770142072,0,4.2637346332625327,0,6.0606477550408032,0,1.0259087096606433e1,0,3.1486421518517813e1,0,-3.2478312801762012e1,0,-1.1272459570297418e1,0},
-                                 {0,1.5639368838366386e-2,0,5.0576178621676899e-2,0,1.0560667256804753e-1,0,1.8213583977145155e-1,0,2.7728404768593993e-1,0,3.9662727051033137e-1,0,5.3707503315879799e-1,0,7.1731800105704759e-1,0,9.1005341458129707e-1,0,1.2054036628885025,0,1.4650445637301137,0,1.8346434130488423,0,2.3956032450091058,0,3.2559251598507651,0,4.3520184995048793,0,6.180690164355314,0,1.0520155407128953e1,0,3.2478312801762012e1,0,-3.3714439610219508e1,0,-1.1782541537422522e1},
-                                 {5.1518335608099927e-3,0,2.9256601700927713e-2,0,7.2211707227629095e-2,0,1.3494129529585268e-1,0,2.1767337149410533e-1,0,3.1929836597259417e-1,0,4.4536586477180096e-1,0,5.9666056752784942e-1,0,7.6457353052830048e-1,0,9.8685437673321747e-1,0,1.2516703663743966,0,1.5314706752548441,0,1.9385477573236366,0,2.5638223207110352,0,3.3886833586997541,0,4.4423007467974112,0,6.3420282148141161,0,1.0855227765523928e1,0,3.3714439610219508e1,0,-3.5226191822055808e1,0},
-                                 {0,1.434971504629858e-2,0,4.6403931103791789e-2,0,9.6882066785187865e-2,0,1.6703420927748828e-1,0,2.5412465075815264e-1,0,3.6307025519646732e-1,0,4.906831320032215e-1,0,6.5339417604101872e-1,0,8.2526071175965245e-1,0,1.0860213822557831,0,1.3076988559114232,0,1.6158064741395296,0,2.0690655855134104,0,2.7308726535468028,0,3.4843787068878195,0,4.5626689259890598,0,6.5484699038558801,0,1.1272459570297418e1,0,3.5226191822055808e1,0,-3.7054177413419382e1},
-                                 {4.7746173585541179e-3,0,2.7114111298160593e-2,0,6.6919296416383097e-2,0,1.2502790937353156e-1,0,2.0159789886176085e-1,0,2.9548472718614545e-1,0,4.1159787881595047e-1,0,5.5025107495964812e-1,0,7.0284473695671429e-1,0,9.0293327379698312e-1,0,1.1375510730405924,0,1.3785894177197163,0,1.7213829213466415,0,2.2320609784909046,0,2.8642782361172836,0,3.5834571815848168,0,4.7160358270737119,0,6.8051263698450492,0,1.1782541537422522e1,0,3.7054177413419382e1,0}};
-
-        IXdX2_ = new double[][] {{-4.8798479576847673,0,4.0558474760465271,0,3.1715677329474325,0,2.5537392020236339,0,2.1248753207733357,0,1.8051316045973125,0,1.5787443452291917,0,1.4034451599477677,0,1.2432951102475882,0,1.1425760766359282,0,1.0527843534059322,0,9.4693841345596913e-1,0,8.8435057141828188e-1,0,8.5798379249234099e-1,0,8.1697960326288532e-1,0,7.4332311981058897e-1,0,6.842481842865398e-1,0,6.4072994861242629e-1,0,6.1014819613498742e-1,0,5.9092005208641506e-1,0},
-                                 {0,-2.0224087359463326e1,0,7.5055515542461244,0,6.6585927834794799,0,5.7958434156353356,0,5.0134983142610433,0,4.4281724860414978,0,3.9310084134159251,0,3.5953825146236427,0,3.2235651594676912,0,3.0836973191031125,0,2.7425498492410392,0,2.5248075364976513,0,2.4116988425324397,0,2.3563622061756724,0,2.1824580733884921,0,1.9961362840355279,0,1.8571939382881438,0,1.7569675826390971,0,1.6899708897342299,0,1.653243850687741},
-                                 {4.0558474760465271,0,-4.3318706188149019e1,0,1.0656157231016384e1,0,1.0097847412317499e1,0,9.189970302847751,0,8.2518923696389753,0,7.4906329797467361,0,6.8380986724683291,0,6.1791454726926081,0,5.7663986023701081,0,5.3785195271552603,0,4.8860988012757358,0,4.6009276677686217,0,4.4948615304753687,0,4.3054988806747386,0,3.9374356835462339,0,3.6407315753016665,0,3.4225981285030099,0,3.2706071583421486,0,3.1773961869061935,0},
-                                 {0,7.5055515542461244,0,-7.5014985950322929e1,0,1.3674955833912584e1,0,1.3460543132269507e1,0,1.2544283400933276e1,0,1.1633072067635054e1,0,1.068299016234886e1,0,1.0015589489412221e1,0,9.1498480963766096,0,8.8821639141201888,0,7.9929716735868403,0,7.4295366230989266,0,7.1538077311515341,0,7.0371656065759087,0,6.5556985547101386,0,6.0261671807064727,0,5.6313240145596247,0,5.3480133659008882,0,5.1617226749888024,0,5.0650101972870267},
-                                 {3.1715677329474325,0,1.0656157231016384e1,0,-1.1543842139213096e2,0,1.6694495504577423e1,0,1.6715820896270731e1,0,1.5974859115332849e1,0,1.5135694290331212e1,0,1.4249262890939126e1,0,1.317569150959577e1,0,1.2515510623781557e1,0,1.1838560151349339e1,0,1.0877427417426435e1,0,1.033879300044105e1,0,1.0179812266282941e1,0,9.8159214470916154,0,9.0281183955062217,0,8.3891948586618193,0,7.9207713351514751,0,7.5979881827907946,0,7.4065419661734211,0},
-                                 {0,6.6585927834794799,0,1.3674955833912584e1,0,-1.6447923885929835e2,0,1.9665038611522469e1,0,1.9763894018093735e1,0,1.9311565390984008e1,0,1.841111778650259e1,0,1.7746659847216736e1,0,1.6559864417347355e1,0,1.6344535343230236e1,0,1.49052457304342e1,0,1.4005867956693138e1,0,1.3608225486816159e1,0,1.3488360416532032e1,0,1.2647104834170777e1,0,1.1690566861728234e1,0,1.0977727107783114e1,0,1.0469928292292718e1,0,1.0143339200680833e1,0,9.9867015274957353},
-                                 {2.5537392020236339,0,1.0097847412317499e1,0,1.6694495504577423e1,0,-2.2389228537864625e2,0,2.2647054309372161e1,0,2.3002054733158469e1,0,2.2777154890278615e1,0,2.2157395190380292e1,0,2.1005381781911824e1,0,2.034445261982652e1,0,1.954404279884291e1,0,1.8184029435110525e1,0,1.7463280858175379e1,0,1.734416129539178e1,0,1.684720926797863e1,0,1.5592707339010226e1,0,1.456815866573179e1,0,1.382013565660232e1,0,1.3312407252623637e1,0,1.30250797914338e1,0},
-                                 {0,5.7958434156353356,0,1.3460543132269507e1,0,1.9665038611522469e1,0,-2.9238310883608624e2,0,2.5440354306023287e1,0,2.6132107436777268e1,0,2.5868002143116891e1,0,2.566162880904617e1,0,2.4487991901496679e1,0,2.4603233564005997e1,0,2.2761299599880429e1,0,2.1641480476792551e1,0,2.1234352112388969e1,0,2.1222085228081961e1,0,2.0039265831083967e1,0,1.8636448795438507e1,0,1.7592668325265663e1,0,1.6856639221242266e1,0,1.6397613630837453e1,0,1.6203046675044294e1},
-                                 {2.1248753207733357,0,9.189970302847751,0,1.6715820896270731e1,0,2.2647054309372161e1,0,-3.6851910720244224e2,0,2.8376287168136117e1,0,2.9294500901840893e1,0,2.9432900178539546e1,0,2.8618372740035039e1,0,2.8281972039315293e1,0,2.7614709575726841e1,0,2.6037460427582062e1,0,2.5283205246866065e1,0,2.5344826573777388e1,0,2.4813409032532548e1,0,2.3121505058986241e1,0,2.1729072863260313e1,0,2.0718953486402114e1,0,2.004766041080663e1,0,1.9693170606903312e1,0},
-                                 {0,5.0134983142610433,0,1.2544283400933276e1,0,1.9763894018093735e1,0,2.5440354306023287e1,0,-4.4777219215871676e2,0,3.1035204765280089e1,0,3.1822981346826076e1,0,3.246519234793413e1,0,3.1682877699641662e1,0,3.2415227240949863e1,0,3.0437909536844597e1,0,2.929953982793968e1,0,2.9047122596187164e1,0,2.9285750907497819e1,0,2.7861505754026529e1,0,2.6079250875882114e1,0,2.4757592902942333e1,0,2.3839179279139798e1,0,2.3291284632569157e1,0,2.3104191862137791e1},
-                                 {1.8051316045973125,0,8.2518923696389753,0,1.5974859115332849e1,0,2.3002054733158469e1,0,2.8376287168136117e1,0,-5.432122387660631e2,0,3.4107752889709154e1,0,3.5317325599474884e1,0,3.5189866279450402e1,0,3.5476851585437183e1,0,3.5212914963747398e1,0,3.3657163962671302e1,0,3.3057688850642755e1,0,3.3460258487225138e1,0,3.3030374163154332e1,0,3.0997970974167957e1,0,2.9311735976320268e1,0,2.8100573045515776e1,0,2.7319831481133052e1,0,2.6950183031393036e1,0},
-                                 {0,4.4281724860414978,0,1.1633072067635054e1,0,1.9311565390984008e1,0,2.6132107436777268e1,0,3.1035204765280089e1,0,-6.4499785478143208e2,0,3.662785385205537e1,0,3.8353470555727205e1,0,3.8243237879486137e1,0,3.9831183437658245e1,0,3.7961924825079109e1,0,3.7001776764857278e1,0,3.7073502175951323e1,0,3.7717610662690605e1,0,3.616368251654804e1,0,3.4079589809254406e1,0,3.2543733966744991e1,0,3.1499261325117451e1,0,3.0916665770330129e1,0,3.0793587757457131e1},
-                                 {1.5787443452291917,0,7.4906329797467361,0,1.5135694290331212e1,0,2.2777154890278615e1,0,2.9294500901840893e1,0,3.4107752889709154e1,0,-7.6243534105563065e2,0,4.014474508698884e1,0,4.091989545645138e1,0,4.2047456824142705e1,0,4.2408447694647331e1,0,4.1086680633844515e1,0,4.0821153629179068e1,0,4.172619298860673e1,0,4.1540023368707874e1,0,3.927093242164611e1,0,3.7373032920542598e1,0,3.6030633792135963e1,0,3.5203817972265466e1,0,3.4880883876912681e1,0},
-                                 {0,3.9310084134159251,0,1.068299016234886e1,0,1.841111778650259e1,0,2.5868002143116891e1,0,3.1822981346826076e1,0,3.662785385205537e1,0,-8.6756789396772457e2,0,4.2709424918900704e1,0,4.3447473938339501e1,0,4.6026989369534855e1,0,4.4505478553960123e1,0,4.3918232261506207e1,0,4.4471423674606503e1,0,4.5658866420597756e1,0,4.4125767565144454e1,0,4.1871142387466554e1,0,4.022737053471534e1,0,3.9145259996826547e1,0,3.8604147657228739e1,0,3.8613649125885299e1},
-                                 {1.4034451599477677,0,6.8380986724683291,0,1.4249262890939126e1,0,2.2157395190380292e1,0,2.9432900178539546e1,0,3.5317325599474884e1,0,4.014474508698884e1,0,-1.0211743061461389e3,0,4.5511458697230884e1,0,4.7602575875629916e1,0,4.8748288595939821e1,0,4.7851415227799733e1,0,4.8081767803793698e1,0,4.9630108155566065e1,0,4.982993310186511e1,0,4.7458722774728135e1,0,4.5460245633070992e1,0,4.4080012780549181e1,0,4.328861006992161e1,0,4.3086816459410087e1,0},
-                                 {0,3.5953825146236427,0,1.0015589489412221e1,0,1.7746659847216736e1,0,2.566162880904617e1,0,3.246519234793413e1,0,3.8353470555727205e1,0,4.2709424918900704e1,0,-1.1649057779331471e3,0,4.843118543013448e1,0,5.2125289401537077e1,0,5.1099005429459137e1,0,5.1029047529343688e1,0,5.220976529062689e1,0,5.4090264396758795e1,0,5.2689176464626801e1,0,5.0345945407934843e1,0,4.8667503111912435e1,0,4.7617130109896792e1,0,4.7187474054272851e1,0,4.7404612681097801e1},
-                                 {1.2432951102475882,0,6.1791454726926081,0,1.317569150959577e1,0,2.1005381781911824e1,0,2.8618372740035039e1,0,3.5189866279450402e1,0,4.091989545645138e1,0,4.5511458697230884e1,0,-1.2776814667388693e3,0,5.1274965889745058e1,0,5.3260631192733451e1,0,5.293487234589544e1,0,5.3771498439300849e1,0,5.6034679129698021e1,0,5.6733418498571853e1,0,5.4433988810560547e1,0,5.2483321193437001e1,0,5.1185739306155924e1,0,5.0527212328961328e1,0,5.0524815188770866e1,0},
-                                 {0,3.2235651594676912,0,9.1498480963766096,0,1.6559864417347355e1,0,2.4487991901496679e1,0,3.1682877699641662e1,0,3.8243237879486137e1,0,4.3447473938339501e1,0,4.843118543013448e1,0,-1.4310387442730086e3,0,5.5692093598974045e1,0,5.5300363528499812e1,0,5.5852801096823254e1,0,5.7717711119969606e1,0,6.0325009315142921e1,0,5.9221376951529588e1,0,5.697935265877833e1,0,5.5418757142304273e1,0,5.4520393908221874e1,0,5.4294031085879159e1,0,5.478475361105754e1},
-                                 {1.1425760766359282,0,5.7663986023701081,0,1.2515510623781557e1,0,2.034445261982652e1,0,2.8281972039315293e1,0,3.5476851585437183e1,0,4.2047456824142705e1,0,4.7602575875629916e1,0,5.1274965889745058e1,0,-1.6388478617725946e3,0,5.8207164571288158e1,0,5.8528063210095914e1,0,6.0070394164031257e1,0,6.3175176867496316e1,0,6.4485844085864467e1,0,6.2321957671589299e1,0,6.0477913974327624e1,0,5.9324180500165236e1,0,5.8864865246254938e1,0,5.9136735598993821e1,0},
-                                 {0,3.0836973191031125,0,8.8821639141201888,0,1.6344535343230236e1,0,2.4603233564005997e1,0,3.2415227240949863e1,0,3.9831183437658245e1,0,4.6026989369534855e1,0,5.2125289401537077e1,0,5.5692093598974045e1,0,-1.922668486982187e3,0,6.1916266461443041e1,0,6.3201036432057783e1,0,6.5932690897418515e1,0,6.9496212277681963e1,0,6.8742062375334109e1,0,6.6587971815543645e1,0,6.5157538023455666e1,0,6.4450886338129463e1,0,6.4498421155531393e1,0,6.5369839215180417e1},
-                                 {1.0527843534059322,0,5.3785195271552603,0,1.1838560151349339e1,0,1.954404279884291e1,0,2.7614709575726841e1,0,3.5212914963747398e1,0,4.2408447694647331e1,0,4.8748288595939821e1,0,5.3260631192733451e1,0,5.8207164571288158e1,0,-2.0315453964096225e3,0,6.3006307119889448e1,0,6.5296553078172722e1,0,6.9272249837491313e1,0,7.1264610078057316e1,0,6.9358734916132078e1,0,6.7732851933041522e1,0,6.68195778651745e1,0,6.6643233181327973e1,0,6.726231071386006e1,0},
-                                 {0,2.7425498492410392,0,7.9929716735868403,0,1.49052457304342e1,0,2.2761299599880429e1,0,3.0437909536844597e1,0,3.7961924825079109e1,0,4.4505478553960123e1,0,5.1099005429459137e1,0,5.5300363528499812e1,0,6.1916266461443041e1,0,-2.159802149655231e3,0,6.4828524500173258e1,0,6.8235120671142727e1,0,7.2503591989822355e1,0,7.2238964571702943e1,0,7.0434929239134065e1,0,6.9330615429945516e1,0,6.8946435915725895e1,0,6.9332365960332001e1,0,7.0578775376029577e1},
-                                 {9.4693841345596913e-1,0,4.8860988012757358,0,1.0877427417426435e1,0,1.8184029435110525e1,0,2.6037460427582062e1,0,3.3657163962671302e1,0,4.1086680633844515e1,0,4.7851415227799733e1,0,5.293487234589544e1,0,5.8528063210095914e1,0,6.3006307119889448e1,0,-2.322718436981507e3,0,6.7632930724932961e1,0,7.2341621985008881e1,0,7.4978094818767758e1,0,7.3466845846983076e1,0,7.2184761548927555e1,0,7.1607584722169849e1,0,7.1779263854424893e1,0,7.2778670808852345e1,0},
-                                 {0,2.5248075364976513,0,7.4295366230989266,0,1.4005867956693138e1,0,2.1641480476792551e1,0,2.929953982793968e1,0,3.7001776764857278e1,0,4.3918232261506207e1,0,5.1029047529343688e1,0,5.5852801096823254e1,0,6.3201036432057783e1,0,6.4828524500173258e1,0,-2.527784755722171e3,0,7.1570470779496556e1,0,7.6626076785884538e1,0,7.6875521031631588e1,0,7.5428519855481246e1,0,7.4672126853284654e1,0,7.4646459258343139e1,0,7.5421814216865249e1,0,7.7111355828177438e1},
-                                 {8.8435057141828188e-1,0,4.6009276677686217,0,1.033879300044105e1,0,1.7463280858175379e1,0,2.5283205246866065e1,0,3.3057688850642755e1,0,4.0821153629179068e1,0,4.8081767803793698e1,0,5.3771498439300849e1,0,6.0070394164031257e1,0,6.5296553078172722e1,0,6.7632930724932961e1,0,-2.7853413766735064e3,0,7.686985848883998e1,0,8.0232989465566561e1,0,7.9122737670105473e1,0,7.8200012216305403e1,0,7.7992298222245607e1,0,7.8563837791126574e1,0,8.0016039842672665e1,0},
-                                 {0,2.4116988425324397,0,7.1538077311515341,0,1.3608225486816159e1,0,2.1234352112388969e1,0,2.9047122596187164e1,0,3.7073502175951323e1,0,4.4471423674606503e1,0,5.220976529062689e1,0,5.7717711119969606e1,0,6.5932690897418515e1,0,6.8235120671142727e1,0,7.1570470779496556e1,0,-3.10974383730874e3,0,8.2536155308384202e1,0,8.3347261579637831e1,0,8.2270243461176943e1,0,8.1894440555661681e1,0,8.2280247946423634e1,0,8.3520370846568296e1,0,8.5754620085947643e1},
-                                 {8.5798379249234099e-1,0,4.4948615304753687,0,1.0179812266282941e1,0,1.734416129539178e1,0,2.5344826573777388e1,0,3.3460258487225138e1,0,4.172619298860673e1,0,4.9630108155566065e1,0,5.6034679129698021e1,0,6.3175176867496316e1,0,6.9272249837491313e1,0,7.2341621985008881e1,0,7.686985848883998e1,0,-3.5211694398149526e3,0,8.767301418996271e1,0,8.6987462860871495e1,0,8.6456333731529127e1,0,8.6672753160763209e1,0,8.7723359180133389e1,0,8.9735976885072355e1,0},
-                                 {0,2.3563622061756724,0,7.0371656065759087,0,1.3488360416532032e1,0,2.1222085228081961e1,0,2.9285750907497819e1,0,3.7717610662690605e1,0,4.5658866420597756e1,0,5.4090264396758795e1,0,6.0325009315142921e1,0,6.9496212277681963e1,0,7.2503591989822355e1,0,7.6626076785884538e1,0,8.2536155308384202e1,0,-3.9209783433509953e3,0,9.1023539060326033e1,0,9.0359405344946347e1,0,9.0420354210886988e1,0,9.1287972751184043e1,0,9.3079510251178581e1,0,9.5965019806065145e1},
-                                 {8.1697960326288532e-1,0,4.3054988806747386,0,9.8159214470916154,0,1.684720926797863e1,0,2.4813409032532548e1,0,3.3030374163154332e1,0,4.1540023368707874e1,0,4.982993310186511e1,0,5.6733418498571853e1,0,6.4485844085864467e1,0,7.1264610078057316e1,0,7.4978094818767758e1,0,8.0232989465566561e1,0,8.767301418996271e1,0,-4.2020990958967822e3,0,9.2486553639659989e1,0,9.2412212972949038e1,0,9.3101541835789203e1,0,9.4661344741017456e1,0,9.7243232424181336e1,0},
-                                 {0,2.1824580733884921,0,6.5556985547101386,0,1.2647104834170777e1,0,2.0039265831083967e1,0,2.7861505754026529e1,0,3.616368251654804e1,0,4.4125767565144454e1,0,5.2689176464626801e1,0,5.9221376951529588e1,0,6.8742062375334109e1,0,7.2238964571702943e1,0,7.6875521031631588e1,0,8.3347261579637831e1,0,9.1023539060326033e1,0,-4.3633598009523036e3,0,9.2834704987990968e1,0,9.3362145602471645e1,0,9.4696245058730795e1,0,9.6971412271369037e1,0,1.0037794175804094e2},
-                                 {7.4332311981058897e-1,0,3.9374356835462339,0,9.0281183955062217,0,1.5592707339010226e1,0,2.3121505058986241e1,0,3.0997970974167957e1,0,3.927093242164611e1,0,4.7458722774728135e1,0,5.4433988810560547e1,0,6.2321957671589299e1,0,6.9358734916132078e1,0,7.3466845846983076e1,0,7.9122737670105473e1,0,8.6987462860871495e1,0,9.2486553639659989e1,0,-4.4983772876956154e3,0,9.3180847251504085e1,0,9.4317355939764278e1,0,9.6317624897641005e1,0,9.9348074556078048e1,0},
-                                 {0,1.9961362840355279,0,6.0261671807064727,0,1.1690566861728234e1,0,1.8636448795438507e1,0,2.6079250875882114e1,0,3.4079589809254406e1,0,4.1871142387466554e1,0,5.0345945407934843e1,0,5.697935265877833e1,0,6.6587971815543645e1,0,7.0434929239134065e1,0,7.5428519855481246e1,0,8.2270243461176943e1,0,9.0359405344946347e1,0,9.2834704987990968e1,0,-4.6607833419051371e3,0,9.409336874184581e1,0,9.5860479821087955e1,0,9.856946575597509e1,0,1.0242565365943862e2},
-                                 {6.842481842865398e-1,0,3.6407315753016665,0,8.3891948586618193,0,1.456815866573179e1,0,2.1729072863260313e1,0,2.9311735976320268e1,0,3.7373032920542598e1,0,4.5460245633070992e1,0,5.2483321193437001e1,0,6.0477913974327624e1,0,6.7732851933041522e1,0,7.2184761548927555e1,0,7.8200012216305403e1,0,8.6456333731529127e1,0,9.2412212972949038e1,0,9.3180847251504085e1,0,-4.8534318323877122e3,0,9.5590064936137152e1,0,9.8024990421143842e1,0,1.0150431394553552e2,0},
-                                 {0,1.8571939382881438,0,5.6313240145596247,0,1.0977727107783114e1,0,1.7592668325265663e1,0,2.4757592902942333e1,0,3.2543733966744991e1,0,4.022737053471534e1,0,4.8667503111912435e1,0,5.5418757142304273e1,0,6.5157538023455666e1,0,6.9330615429945516e1,0,7.4672126853284654e1,0,8.1894440555661681e1,0,9.0420354210886988e1,0,9.3362145602471645e1,0,9.409336874184581e1,0,-5.079911279966602e3,0,9.7702885038604872e1,0,1.0086031542153645e2,0,1.051939064372664e2},
-                                 {6.4072994861242629e-1,0,3.4225981285030099,0,7.9207713351514751,0,1.382013565660232e1,0,2.0718953486402114e1,0,2.8100573045515776e1,0,3.6030633792135963e1,0,4.4080012780549181e1,0,5.1185739306155924e1,0,5.9324180500165236e1,0,6.68195778651745e1,0,7.1607584722169849e1,0,7.7992298222245607e1,0,8.6672753160763209e1,0,9.3101541835789203e1,0,9.4317355939764278e1,0,9.5590064936137152e1,0,-5.3446909077237179e3,0,1.0047943532051964e2,0,1.0443431973215246e2,0},
-                                 {0,1.7569675826390971,0,5.3480133659008882,0,1.0469928292292718e1,0,1.6856639221242266e1,0,2.3839179279139798e1,0,3.1499261325117451e1,0,3.9145259996826547e1,0,4.7617130109896792e1,0,5.4520393908221874e1,0,6.4450886338129463e1,0,6.8946435915725895e1,0,7.4646459258343139e1,0,8.2280247946423634e1,0,9.1287972751184043e1,0,9.4696245058730795e1,0,9.5860479821087955e1,0,9.7702885038604872e1,0,-5.6533141097626244e3,0,1.0398532926957344e2,0,1.0883688641610764e2},
-                                 {6.1014819613498742e-1,0,3.2706071583421486,0,7.5979881827907946,0,1.3312407252623637e1,0,2.004766041080663e1,0,2.7319831481133052e1,0,3.5203817972265466e1,0,4.328861006992161e1,0,5.0527212328961328e1,0,5.8864865246254938e1,0,6.6643233181327973e1,0,7.1779263854424893e1,0,7.8563837791126574e1,0,8.7723359180133389e1,0,9.4661344741017456e1,0,9.6317624897641005e1,0,9.8024990421143842e1,0,1.0047943532051964e2,0,-6.0126542462409834e3,0,1.0830758951319138e2,0},
-                                 {0,1.6899708897342299,0,5.1617226749888024,0,1.0143339200680833e1,0,1.6397613630837453e1,0,2.3291284632569157e1,0,3.0916665770330129e1,0,3.8604147657228739e1,0,4.7187474054272851e1,0,5.4294031085879159e1,0,6.4498421155531393e1,0,6.9332365960332001e1,0,7.5421814216865249e1,0,8.3520370846568296e1,0,9.3079510251178581e1,0,9.6971412271369037e1,0,9.856946575597509e1,0,1.0086031542153645e2,0,1.0398532926957344e2,0,-6.4312538476547229e3,0,1.1355941419487069e2},
-                                 {5.9092005208641506e-1,0,3.1773961869061935,0,7.4065419661734211,0,1.30250797914338e1,0,1.9693170606903312e1,0,2.6950183031393036e1,0,3.4880883876912681e1,0,4.3086816459410087e1,0,5.0524815188770866e1,0,5.9136735598993821e1,0,6.726231071386006e1,0,7.2778670808852345e1,0,8.0016039842672665e1,0,8.9735976885072355e1,0,9.7243232424181336e1,0,9.9348074556078048e1,0,1.0150431394553552e2,0,1.0443431973215246e2,0,1.0830758951319138e2,0,-6.9197772460717938e3,0},
-                                 {0,1.653243850687741,0,5.0650101972870267,0,9.9867015274957353,0,1.6203046675044294e1,0,2.3104191862137791e1,0,3.0793587757457131e1,0,3.8613649125885299e1,0,4.7404612681097801e1,0,5.478475361105754e1,0,6.5369839215180417e1,0,7.0578775376029577e1,0,7.7111355828177438e1,0,8.5754620085947643e1,0,9.5965019806065145e1,0,1.0037794175804094e2,0,1.0242565365943862e2,0,1.051939064372664e2,0,1.0883688641610764e2,0,1.1355941419487069e2,0,-7.4916198167973745e3}};
-
-        IdXdX_ = new double[][] {{4.8798479576847673,0,-4.0558474760465271,0,-3.1715677329474325,0,-2.5537392020236339,0,-2.1248753207733357,0,-1.8051316045973125,0,-1.5787443452291917,0,-1.4034451599477677,0,-1.2432951102475882,0,-1.1425760766359282,0,-1.0527843534059322,0,-9.4693841345596913e-1,0,-8.8435057141828188e-1,0,-8.5798379249234099e-1,0,-8.1697960326288532e-1,0,-7.4332311981058897e-1,0,-6.842481842865398e-1,0,-6.4072994861242629e-1,0,-6.1014819613498742e-1,0,-5.9092005208641506e-1,0},
-                                 {0,2.0224087359463326e1,0,-7.5055515542461244,0,-6.6585927834794799,0,-5.7958434156353356,0,-5.0134983142610433,0,-4.4281724860414978,0,-3.9310084134159251,0,-3.5953825146236427,0,-3.2235651594676912,0,-3.0836973191031125,0,-2.7425498492410392,0,-2.5248075364976513,0,-2.4116988425324397,0,-2.3563622061756724,0,-2.1824580733884921,0,-1.9961362840355279,0,-1.8571939382881438,0,-1.7569675826390971,0,-1.6899708897342299,0,-1.653243850687741},
-                                 {-4.0558474760465271,0,4.3318706188149019e1,0,-1.0656157231016384e1,0,-1.0097847412317499e1,0,-9.189970302847751,0,-8.2518923696389753,0,-7.4906329797467361,0,-6.8380986724683291,0,-6.1791454726926081,0,-5.7663986023701081,0,-5.3785195271552603,0,-4.8860988012757358,0,-4.6009276677686217,0,-4.4948615304753687,0,-4.3054988806747386,0,-3.9374356835462339,0,-3.6407315753016665,0,-3.4225981285030099,0,-3.2706071583421486,0,-3.1773961869061935,0},
-                                 {0,-7.5055515542461244,0,7.5014985950322929e1,0,-1.3674955833912584e1,0,-1.3460543132269507e1,0,-1.2544283400933276e1,0,-1.1633072067635054e1,0,-1.068299016234886e1,0,-1.0015589489412221e1,0,-9.1498480963766096,0,-8.8821639141201888,0,-7.9929716735868403,0,-7.4295366230989266,0,-7.1538077311515341,0,-7.0371656065759087,0,-6.5556985547101386,0,-6.0261671807064727,0,-5.6313240145596247,0,-5.3480133659008882,0,-5.1617226749888024,0,-5.0650101972870267},
-                                 {-3.1715677329474325,0,-1.0656157231016384e1,0,1.1543842139213096e2,0,-1.6694495504577423e1,0,-1.6715820896270731e1,0,-1.5974859115332849e1,0,-1.5135694290331212e1,0,-1.4249262890939126e1,0,-1.317569150959577e1,0,-1.2515510623781557e1,0,-1.1838560151349339e1,0,-1.0877427417426435e1,0,-1.033879300044105e1,0,-1.0179812266282941e1,0,-9.8159214470916154,0,-9.0281183955062217,0,-8.3891948586618193,0,-7.9207713351514751,0,-7.5979881827907946,0,-7.4065419661734211,0},
-                                 {0,-6.6585927834794799,0,-1.3674955833912584e1,0,1.6447923885929835e2,0,-1.9665038611522469e1,0,-1.9763894018093735e1,0,-1.9311565390984008e1,0,-1.841111778650259e1,0,-1.7746659847216736e1,0,-1.6559864417347355e1,0,-1.6344535343230236e1,0,-1.49052457304342e1,0,-1.4005867956693138e1,0,-1.3608225486816159e1,0,-1.3488360416532032e1,0,-1.2647104834170777e1,0,-1.1690566861728234e1,0,-1.0977727107783114e1,0,-1.0469928292292718e1,0,-1.0143339200680833e1,0,-9.9867015274957353},
-                                 {-2.5537392020236339,0,-1.0097847412317499e1,0,-1.6694495504577423e1,0,2.2389228537864625e2,0,-2.2647054309372161e1,0,-2.3002054733158469e1,0,-2.2777154890278615e1,0,-2.2157395190380292e1,0,-2.1005381781911824e1,0,-2.034445261982652e1,0,-1.954404279884291e1,0,-1.8184029435110525e1,0,-1.7463280858175379e1,0,-1.734416129539178e1,0,-1.684720926797863e1,0,-1.5592707339010226e1,0,-1.456815866573179e1,0,-1.382013565660232e1,0,-1.3312407252623637e1,0,-1.30250797914338e1,0},
-                                 {0,-5.7958434156353356,0,-1.3460543132269507e1,0,-1.9665038611522469e1,0,2.9238310883608624e2,0,-2.5440354306023287e1,0,-2.6132107436777268e1,0,-2.5868002143116891e1,0,-2.566162880904617e1,0,-2.4487991901496679e1,0,-2.4603233564005997e1,0,-2.2761299599880429e1,0,-2.1641480476792551e1,0,-2.1234352112388969e1,0,-2.1222085228081961e1,0,-2.0039265831083967e1,0,-1.8636448795438507e1,0,-1.7592668325265663e1,0,-1.6856639221242266e1,0,-1.6397613630837453e1,0,-1.6203046675044294e1},
-                                 {-2.1248753207733357,0,-9.189970302847751,0,-1.6715820896270731e1,0,-2.2647054309372161e1,0,3.6851910720244224e2,0,-2.8376287168136117e1,0,-2.9294500901840893e1,0,-2.9432900178539546e1,0,-2.8618372740035039e1,0,-2.8281972039315293e1,0,-2.7614709575726841e1,0,-2.6037460427582062e1,0,-2.5283205246866065e1,0,-2.5344826573777388e1,0,-2.4813409032532548e1,0,-2.3121505058986241e1,0,-2.1729072863260313e1,0,-2.0718953486402114e1,0,-2.004766041080663e1,0,-1.9693170606903312e1,0},
-                                 {0,-5.0134983142610433,0,-1.2544283400933276e1,0,-1.9763894018093735e1,0,-2.5440354306023287e1,0,4.4777219215871676e2,0,-3.1035204765280089e1,0,-3.1822981346826076e1,0,-3.246519234793413e1,0,-3.1682877699641662e1,0,-3.2415227240949863e1,0,-3.0437909536844597e1,0,-2.929953982793968e1,0,-2.9047122596187164e1,0,-2.9285750907497819e1,0,-2.7861505754026529e1,0,-2.6079250875882114e1,0,-2.4757592902942333e1,0,-2.3839179279139798e1,0,-2.3291284632569157e1,0,-2.3104191862137791e1},
-                                 {-1.8051316045973125,0,-8.2518923696389753,0,-1.5974859115332849e1,0,-2.3002054733158469e1,0,-2.8376287168136117e1,0,5.432122387660631e2,0,-3.4107752889709154e1,0,-3.5317325599474884e1,0,-3.5189866279450402e1,0,-3.5476851585437183e1,0,-3.5212914963747398e1,0,-3.3657163962671302e1,0,-3.3057688850642755e1,0,-3.3460258487225138e1,0,-3.3030374163154332e1,0,-3.0997970974167957e1,0,-2.9311735976320268e1,0,-2.8100573045515776e1,0,-2.7319831481133052e1,0,-2.6950183031393036e1,0},
-                                 {0,-4.4281724860414978,0,-1.1633072067635054e1,0,-1.9311565390984008e1,0,-2.6132107436777268e1,0,-3.1035204765280089e1,0,6.4499785478143208e2,0,-3.662785385205537e1,0,-3.8353470555727205e1,0,-3.8243237879486137e1,0,-3.9831183437658245e1,0,-3.7961924825079109e1,0,-3.7001776764857278e1,0,-3.7073502175951323e1,0,-3.7717610662690605e1,0,-3.616368251654804e1,0,-3.4079589809254406e1,0,-3.2543733966744991e1,0,-3.1499261325117451e1,0,-3.0916665770330129e1,0,-3.0793587757457131e1},
-                                 {-1.5787443452291917,0,-7.4906329797467361,0,-1.5135694290331212e1,0,-2.2777154890278615e1,0,-2.9294500901840893e1,0,-3.4107752889709154e1,0,7.6243534105563065e2,0,-4.014474508698884e1,0,-4.091989545645138e1,0,-4.2047456824142705e1,0,-4.2408447694647331e1,0,-4.1086680633844515e1,0,-4.0821153629179068e1,0,-4.172619298860673e1,0,-4.1540023368707874e1,0,-3.927093242164611e1,0,-3.7373032920542598e1,0,-3.6030633792135963e1,0,-3.5203817972265466e1,0,-3.4880883876912681e1,0},
-                                 {0,-3.9310084134159251,0,-1.068299016234886e1,0,-1.841111778650259e1,0,-2.5868002143116891e1,0,-3.1822981346826076e1,0,-3.662785385205537e1,0,8.6756789396772457e2,0,-4.2709424918900704e1,0,-4.3447473938339501e1,0,-4.6026989369534855e1,0,-4.4505478553960123e1,0,-4.3918232261506207e1,0,-4.4471423674606503e1,0,-4.5658866420597756e1,0,-4.4125767565144454e1,0,-4.1871142387466554e1,0,-4.022737053471534e1,0,-3.9145259996826547e1,0,-3.8604147657228739e1,0,-3.8613649125885299e1},
-                                 {-1.4034451599477677,0,-6.8380986724683291,0,-1.4249262890939126e1,0,-2.2157395190380292e1,0,-2.9432900178539546e1,0,-3.5317325599474884e1,0,-4.014474508698884e1,0,1.0211743061461389e3,0,-4.5511458697230884e1,0,-4.7602575875629916e1,0,-4.8748288595939821e1,0,-4.7851415227799733e1,0,-4.8081767803793698e1,0,-4.9630108155566065e1,0,-4.982993310186511e1,0,-4.7458722774728135e1,0,-4.5460245633070992e1,0,-4.4080012780549181e1,0,-4.328861006992161e1,0,-4.3086816459410087e1,0},
-                                 {0,-3.5953825146236427,0,-1.0015589489412221e1,0,-1.7746659847216736e1,0,-2.566162880904617e1,0,-3.246519234793413e1,0,-3.8353470555727205e1,0,-4.2709424918900704e1,0,1.1649057779331471e3,0,-4.843118543013448e1,0,-5.2125289401537077e1,0,-5.1099005429459137e1,0,-5.1029047529343688e1,0,-5.220976529062689e1,0,-5.4090264396758795e1,0,-5.2689176464626801e1,0,-5.0345945407934843e1,0,-4.8667503111912435e1,0,-4.7617130109896792e1,0,-4.7187474054272851e1,0,-4.7404612681097801e1},
-                                 {-1.2432951102475882,0,-6.1791454726926081,0,-1.317569150959577e1,0,-2.1005381781911824e1,0,-2.8618372740035039e1,0,-3.5189866279450402e1,0,-4.091989545645138e1,0,-4.5511458697230884e1,0,1.2776814667388693e3,0,-5.1274965889745058e1,0,-5.3260631192733451e1,0,-5.293487234589544e1,0,-5.3771498439300849e1,0,-5.6034679129698021e1,0,-5.6733418498571853e1,0,-5.4433988810560547e1,0,-5.2483321193437001e1,0,-5.1185739306155924e1,0,-5.0527212328961328e1,0,-5.0524815188770866e1,0},
-                                 {0,-3.2235651594676912,0,-9.1498480963766096,0,-1.6559864417347355e1,0,-2.4487991901496679e1,0,-3.1682877699641662e1,0,-3.8243237879486137e1,0,-4.3447473938339501e1,0,-4.843118543013448e1,0,1.4310387442730086e3,0,-5.5692093598974045e1,0,-5.5300363528499812e1,0,-5.5852801096823254e1,0,-5.7717711119969606e1,0,-6.0325009315142921e1,0,-5.9221376951529588e1,0,-5.697935265877833e1,0,-5.5418757142304273e1,0,-5.4520393908221874e1,0,-5.4294031085879159e1,0,-5.478475361105754e1},
-                                 {-1.1425760766359282,0,-5.7663986023701081,0,-1.2515510623781557e1,0,-2.034445261982652e1,0,-2.8281972039315293e1,0,-3.5476851585437183e1,0,-4.2047456824142705e1,0,-4.7602575875629916e1,0,-5.1274965889745058e1,0,1.6388478617725946e3,0,-5.8207164571288158e1,0,-5.8528063210095914e1,0,-6.0070394164031257e1,0,-6.3175176867496316e1,0,-6.4485844085864467e1,0,-6.2321957671589299e1,0,-6.0477913974327624e1,0,-5.9324180500165236e1,0,-5.8864865246254938e1,0,-5.9136735598993821e1,0},
-                                 {0,-3.0836973191031125,0,-8.8821639141201888,0,-1.6344535343230236e1,0,-2.4603233564005997e1,0,-3.2415227240949863e1,0,-3.9831183437658245e1,0,-4.6026989369534855e1,0,-5.2125289401537077e1,0,-5.5692093598974045e1,0,1.922668486982187e3,0,-6.1916266461443041e1,0,-6.3201036432057783e1,0,-6.5932690897418515e1,0,-6.9496212277681963e1,0,-6.8742062375334109e1,0,-6.6587971815543645e1,0,-6.5157538023455666e1,0,-6.4450886338129463e1,0,-6.4498421155531393e1,0,-6.5369839215180417e1},
-                                 {-1.0527843534059322,0,-5.3785195271552603,0,-1.1838560151349339e1,0,-1.954404279884291e1,0,-2.7614709575726841e1,0,-3.5212914963747398e1,0,-4.2408447694647331e1,0,-4.8748288595939821e1,0,-5.3260631192733451e1,0,-5.8207164571288158e1,0,2.0315453964096225e3,0,-6.3006307119889448e1,0,-6.5296553078172722e1,0,-6.9272249837491313e1,0,-7.1264610078057316e1,0,-6.9358734916132078e1,0,-6.7732851933041522e1,0,-6.68195778651745e1,0,-6.6643233181327973e1,0,-6.726231071386006e1,0},
-                                 {0,-2.7425498492410392,0,-7.9929716735868403,0,-1.49052457304342e1,0,-2.2761299599880429e1,0,-3.0437909536844597e1,0,-3.7961924825079109e1,0,-4.4505478553960123e1,0,-5.1099005429459137e1,0,-5.5300363528499812e1,0,-6.1916266461443041e1,0,2.159802149655231e3,0,-6.4828524500173258e1,0,-6.8235120671142727e1,0,-7.2503591989822355e1,0,-7.2238964571702943e1,0,-7.0434929239134065e1,0,-6.9330615429945516e1,0,-6.8946435915725895e1,0,-6.9332365960332001e1,0,-7.0578775376029577e1},
-                                 {-9.4693841345596913e-1,0,-4.8860988012757358,0,-1.0877427417426435e1,0,-1.8184029435110525e1,0,-2.6037460427582062e1,0,-3.3657163962671302e1,0,-4.1086680633844515e1,0,-4.7851415227799733e1,0,-5.293487234589544e1,0,-5.8528063210095914e1,0,-6.3006307119889448e1,0,2.322718436981507e3,0,-6.7632930724932961e1,0,-7.2341621985008881e1,0,-7.4978094818767758e1,0,-7.3466845846983076e1,0,-7.2184761548927555e1,0,-7.1607584722169849e1,0,-7.1779263854424893e1,0,-7.2778670808852345e1,0},
-                                 {0,-2.5248075364976513,0,-7.4295366230989266,0,-1.4005867956693138e1,0,-2.1641480476792551e1,0,-2.929953982793968e1,0,-3.7001776764857278e1,0,-4.3918232261506207e1,0,-5.1029047529343688e1,0,-5.5852801096823254e1,0,-6.3201036432057783e1,0,-6.4828524500173258e1,0,2.527784755722171e3,0,-7.1570470779496556e1,0,-7.6626076785884538e1,0,-7.6875521031631588e1,0,-7.5428519855481246e1,0,-7.4672126853284654e1,0,-7.4646459258343139e1,0,-7.5421814216865249e1,0,-7.7111355828177438e1},
-                                 {-8.8435057141828188e-1,0,-4.6009276677686217,0,-1.033879300044105e1,0,-1.7463280858175379e1,0,-2.5283205246866065e1,0,-3.3057688850642755e1,0,-4.0821153629179068e1,0,-4.8081767803793698e1,0,-5.3771498439300849e1,0,-6.0070394164031257e1,0,-6.5296553078172722e1,0,-6.7632930724932961e1,0,2.7853413766735064e3,0,-7.686985848883998e1,0,-8.0232989465566561e1,0,-7.9122737670105473e1,0,-7.8200012216305403e1,0,-7.7992298222245607e1,0,-7.8563837791126574e1,0,-8.0016039842672665e1,0},
-                                 {0,-2.4116988425324397,0,-7.1538077311515341,0,-1.3608225486816159e1,0,-2.1234352112388969e1,0,-2.9047122596187164e1,0,-3.7073502175951323e1,0,-4.4471423674606503e1,0,-5.220976529062689e1,0,-5.7717711119969606e1,0,-6.5932690897418515e1,0,-6.8235120671142727e1,0,-7.1570470779496556e1,0,3.10974383730874e3,0,-8.2536155308384202e1,0,-8.3347261579637831e1,0,-8.2270243461176943e1,0,-8.1894440555661681e1,0,-8.2280247946423634e1,0,-8.3520370846568296e1,0,-8.5754620085947643e1},
-                                 {-8.5798379249234099e-1,0,-4.4948615304753687,0,-1.0179812266282941e1,0,-1.734416129539178e1,0,-2.5344826573777388e1,0,-3.3460258487225138e1,0,-4.172619298860673e1,0,-4.9630108155566065e1,0,-5.6034679129698021e1,0,-6.3175176867496316e1,0,-6.9272249837491313e1,0,-7.2341621985008881e1,0,-7.686985848883998e1,0,3.5211694398149526e3,0,-8.767301418996271e1,0,-8.6987462860871495e1,0,-8.6456333731529127e1,0,-8.6672753160763209e1,0,-8.7723359180133389e1,0,-8.9735976885072355e1,0},
-                                 {0,-2.3563622061756724,0,-7.0371656065759087,0,-1.3488360416532032e1,0,-2.1222085228081961e1,0,-2.9285750907497819e1,0,-3.7717610662690605e1,0,-4.5658866420597756e1,0,-5.4090264396758795e1,0,-6.0325009315142921e1,0,-6.9496212277681963e1,0,-7.2503591989822355e1,0,-7.6626076785884538e1,0,-8.2536155308384202e1,0,3.9209783433509953e3,0,-9.1023539060326033e1,0,-9.0359405344946347e1,0,-9.0420354210886988e1,0,-9.1287972751184043e1,0,-9.3079510251178581e1,0,-9.5965019806065145e1},
-                                 {-8.1697960326288532e-1,0,-4.3054988806747386,0,-9.8159214470916154,0,-1.684720926797863e1,0,-2.4813409032532548e1,0,-3.3030374163154332e1,0,-4.1540023368707874e1,0,-4.982993310186511e1,0,-5.6733418498571853e1,0,-6.4485844085864467e1,0,-7.1264610078057316e1,0,-7.4978094818767758e1,0,-8.0232989465566561e1,0,-8.767301418996271e1,0,4.2020990958967822e3,0,-9.2486553639659989e1,0,-9.2412212972949038e1,0,-9.3101541835789203e1,0,-9.4661344741017456e1,0,-9.7243232424181336e1,0},
-                                 {0,-2.1824580733884921,0,-6.5556985547101386,0,-1.2647104834170777e1,0,-2.0039265831083967e1,0,-2.7861505754026529e1,0,-3.616368251654804e1,0,-4.4125767565144454e1,0,-5.2689176464626801e1,0,-5.9221376951529588e1,0,-6.8742062375334109e1,0,-7.2238964571702943e1,0,-7.6875521031631588e1,0,-8.3347261579637831e1,0,-9.1023539060326033e1,0,4.3633598009523036e3,0,-9.2834704987990968e1,0,-9.3362145602471645e1,0,-9.4696245058730795e1,0,-9.6971412271369037e1,0,-1.0037794175804094e2},
-                                 {-7.4332311981058897e-1,0,-3.9374356835462339,0,-9.0281183955062217,0,-1.5592707339010226e1,0,-2.3121505058986241e1,0,-3.0997970974167957e1,0,-3.927093242164611e1,0,-4.7458722774728135e1,0,-5.4433988810560547e1,0,-6.2321957671589299e1,0,-6.9358734916132078e1,0,-7.3466845846983076e1,0,-7.9122737670105473e1,0,-8.6987462860871495e1,0,-9.2486553639659989e1,0,4.4983772876956154e3,0,-9.3180847251504085e1,0,-9.4317355939764278e1,0,-9.6317624897641005e1,0,-9.9348074556078048e1,0},
-                                 {0,-1.9961362840355279,0,-6.0261671807064727,0,-1.1690566861728234e1,0,-1.8636448795438507e1,0,-2.6079250875882114e1,0,-3.4079589809254406e1,0,-4.1871142387466554e1,0,-5.0345945407934843e1,0,-5.697935265877833e1,0,-6.6587971815543645e1,0,-7.0434929239134065e1,0,-7.5428519855481246e1,0,-8.2270243461176943e1,0,-9.0359405344946347e1,0,-9.2834704987990968e1,0,4.6607833419051371e3,0,-9.409336874184581e1,0,-9.5860479821087955e1,0,-9.856946575597509e1,0,-1.0242565365943862e2},
-                                 {-6.842481842865398e-1,0,-3.6407315753016665,0,-8.3891948586618193,0,-1.456815866573179e1,0,-2.1729072863260313e1,0,-2.9311735976320268e1,0,-3.7373032920542598e1,0,-4.5460245633070992e1,0,-5.2483321193437001e1,0,-6.0477913974327624e1,0,-6.7732851933041522e1,0,-7.2184761548927555e1,0,-7.8200012216305403e1,0,-8.6456333731529127e1,0,-9.2412212972949038e1,0,-9.3180847251504085e1,0,4.8534318323877122e3,0,-9.5590064936137152e1,0,-9.8024990421143842e1,0,-1.0150431394553552e2,0},
-                                 {0,-1.8571939382881438,0,-5.6313240145596247,0,-1.0977727107783114e1,0,-1.7592668325265663e1,0,-2.4757592902942333e1,0,-3.2543733966744991e1,0,-4.022737053471534e1,0,-4.8667503111912435e1,0,-5.5418757142304273e1,0,-6.5157538023455666e1,0,-6.9330615429945516e1,0,-7.4672126853284654e1,0,-8.1894440555661681e1,0,-9.0420354210886988e1,0,-9.3362145602471645e1,0,-9.409336874184581e1,0,5.079911279966602e3,0,-9.7702885038604872e1,0,-1.0086031542153645e2,0,-1.051939064372664e2},
-                                 {-6.4072994861242629e-1,0,-3.4225981285030099,0,-7.9207713351514751,0,-1.382013565660232e1,0,-2.0718953486402114e1,0,-2.8100573045515776e1,0,-3.6030633792135963e1,0,-4.4080012780549181e1,0,-5.1185739306155924e1,0,-5.9324180500165236e1,0,-6.68195778651745e1,0,-7.1607584722169849e1,0,-7.7992298222245607e1,0,-8.6672753160763209e1,0,-9.3101541835789203e1,0,-9.4317355939764278e1,0,-9.5590064936137152e1,0,5.3446909077237179e3,0,-1.0047943532051964e2,0,-1.0443431973215246e2,0},
-                                 {0,-1.7569675826390971,0,-5.3480133659008882,0,-1.0469928292292718e1,0,-1.6856639221242266e1,0,-2.3839179279139798e1,0,-3.1499261325117451e1,0,-3.9145259996826547e1,0,-4.7617130109896792e1,0,-5.4520393908221874e1,0,-6.4450886338129463e1,0,-6.8946435915725895e1,0,-7.4646459258343139e1,0,-8.2280247946423634e1,0,-9.1287972751184043e1,0,-9.4696245058730795e1,0,-9.5860479821087955e1,0,-9.7702885038604872e1,0,5.6533141097626244e3,0,-1.0398532926957344e2,0,-1.0883688641610764e2},
-                                 {-6.1014819613498742e-1,0,-3.2706071583421486,0,-7.5979881827907946,0,-1.3312407252623637e1,0,-2.004766041080663e1,0,-2.7319831481133052e1,0,-3.5203817972265466e1,0,-4.328861006992161e1,0,-5.0527212328961328e1,0,-5.8864865246254938e1,0,-6.6643233181327973e1,0,-7.1779263854424893e1,0,-7.8563837791126574e1,0,-8.7723359180133389e1,0,-9.4661344741017456e1,0,-9.6317624897641005e1,0,-9.8024990421143842e1,0,-1.0047943532051964e2,0,6.0126542462409834e3,0,-1.0830758951319138e2,0},
-                                 {0,-1.6899708897342299,0,-5.1617226749888024,0,-1.0143339200680833e1,0,-1.6397613630837453e1,0,-2.3291284632569157e1,0,-3.0916665770330129e1,0,-3.8604147657228739e1,0,-4.7187474054272851e1,0,-5.4294031085879159e1,0,-6.4498421155531393e1,0,-6.9332365960332001e1,0,-7.5421814216865249e1,0,-8.3520370846568296e1,0,-9.3079510251178581e1,0,-9.6971412271369037e1,0,-9.856946575597509e1,0,-1.0086031542153645e2,0,-1.0398532926957344e2,0,6.4312538476547229e3,0,-1.1355941419487069e2},
-                                 {-5.9092005208641506e-1,0,-3.1773961869061935,0,-7.4065419661734211,0,-1.30250797914338e1,0,-1.9693170606903312e1,0,-2.6950183031393036e1,0,-3.4880883876912681e1,0,-4.3086816459410087e1,0,-5.0524815188770866e1,0,-5.9136735598993821e1,0,-6.726231071386006e1,0,-7.2778670808852345e1,0,-8.0016039842672665e1,0,-8.9735976885072355e1,0,-9.7243232424181336e1,0,-9.9348074556078048e1,0,-1.0150431394553552e2,0,-1.0443431973215246e2,0,-1.0830758951319138e2,0,6.9197772460717938e3,0},
-                                 {0,-1.653243850687741,0,-5.0650101972870267,0,-9.9867015274957353,0,-1.6203046675044294e1,0,-2.3104191862137791e1,0,-3.0793587757457131e1,0,-3.8613649125885299e1,0,-4.7404612681097801e1,0,-5.478475361105754e1,0,-6.5369839215180417e1,0,-7.0578775376029577e1,0,-7.7111355828177438e1,0,-8.5754620085947643e1,0,-9.5965019806065145e1,0,-1.0037794175804094e2,0,-1.0242565365943862e2,0,-1.051939064372664e2,0,-1.0883688641610764e2,0,-1.1355941419487069e2,0,7.4916198167973745e3}};
-
-        IdXdX2_ = new double[][]{{0,-5.0946547980054986e1,0,-2.481253799595915e1,0,-1.7013211675440083e1,0,-1.3073553409393361e1,0,-1.0515699281903628e1,0,-8.857763941028582,0,-7.6056869168481167,0,-6.7869479264177792,0,-5.9707395214319026,0,-5.6263955507642349,0,-4.9431757454433254,0,-4.5048872109238019,0,-4.2665630698733097,0,-4.1384642081292183,0,-3.8090497136228773,0,-3.4648407872069621,0,-3.2081793025495999,0,-3.0221129950583066,0,-2.8958152166454133,0,-2.8232015792176571},
-                                 {5.0946547980054986e1,0,-2.090592393949481e2,0,-1.0272793227948857e2,0,-7.3305918561389191e1,0,-5.7612857608442298e1,0,-4.7316618135933337e1,0,-4.0459607800077941e1,0,-3.5389547503248218e1,0,-3.0970646505975955e1,0,-2.8191128269616554e1,0,-2.5776866708022007e1,0,-2.3039306045591176e1,0,-2.1403090267878525e1,0,-2.067194114994797e1,0,-1.96081415770922e1,0,-1.7780546444300823e1,0,-1.6319322376553328e1,0,-1.5241658082989544e1,0,-1.448053899040671e1,0,-1.3995055017678688e1,0},
-                                 {0,2.090592393949481e2,0,-5.1917512662391074e2,0,-2.4883420814150493e2,0,-1.8066476554695216e2,0,-1.4298460165563081e2,0,-1.1971540149217749e2,0,-1.0251901736177789e2,0,-9.1361712943770729e1,0,-8.0316628865989554e1,0,-7.5653052619113872e1,0,-6.6449446488134404e1,0,-6.054779152466743e1,0,-5.7338387651965396e1,0,-5.5612737516890245e1,0,-5.118338903118922e1,0,-4.6556396772955335e1,0,-4.310649594611873e1,0,-4.0605589512625726e1,0,-3.890802201075114e1,0,-3.7931930114139454e1},
-                                 {2.481253799595915e1,0,5.1917512662391074e2,0,-1.0364126267741734e3,0,-4.8378361453934928e2,0,-3.5114818224569083e2,0,-2.8117094269363253e2,0,-2.379741348759746e2,0,-2.071578548149929e2,0,-1.8084075331629112e2,0,-1.6438133021915865e2,0,-1.5017889879647977e2,0,-1.3415968199255859e2,0,-1.2458956592202698e2,0,-1.2030592490942053e2,0,-1.1409672110463184e2,0,-1.0345052659581875e2,0,-9.494104102979517e1,0,-8.8666096546797492e1,0,-8.4234523667867001e1,0,-8.140755536437711e1,0},
-                                 {0,1.0272793227948857e2,0,1.0364126267741734e3,0,-1.813211452140075e3,0,-8.2498956297255154e2,0,-5.9214136665228467e2,0,-4.7929550313924119e2,0,-4.0453153384300646e2,0,-3.5794758867462005e2,0,-3.1346937467858462e2,0,-2.9461419576238268e2,0,-2.5842274763394863e2,0,-2.3526759974940461e2,0,-2.2266924734633867e2,0,-2.1588307788340797e2,0,-1.9863397958511134e2,0,-1.8064154468020444e2,0,-1.6723133921379744e2,0,-1.57511913182099e2,0,-1.5091442434010228e2,0,-1.4711901165169067e2},
-                                 {1.7013211675440083e1,0,2.4883420814150493e2,0,1.813211452140075e3,0,-2.9120197773473471e3,0,-1.2871735461970936e3,0,-9.2164534966309402e2,0,-7.4863286585979099e2,0,-6.3972252344463524e2,0,-5.532001471538968e2,0,-5.0021598723305637e2,0,-4.5557670705695859e2,0,-4.0619126322856682e2,0,-3.7673946507518542e2,0,-3.6347674302296619e2,0,-3.4451352234121977e2,0,-3.1223628537301307e2,0,-2.8646529404820944e2,0,-2.6747137261900289e2,0,-2.5405967024244283e2,0,-2.455011856055225e2,0},
-                                 {0,7.3305918561389191e1,0,4.8378361453934928e2,0,2.9120197773473471e3,0,-4.3973333163270681e3,0,-1.8844065389119339e3,0,-1.3492259603002566e3,0,-1.0862078084067627e3,0,-9.4007379953658085e2,0,-8.1371536670250703e2,0,-7.5969570424809127e2,0,-6.6368693126832166e2,0,-6.0266965656362686e2,0,-5.6942945457619681e2,0,-5.5143526122063504e2,0,-5.0696244411639659e2,0,-4.6077148827610122e2,0,-4.2638212634902963e2,0,-4.0147197189116553e2,0,-3.8456221701727534e2,0,-3.7482021135890277e2},
-                                 {1.3073553409393361e1,0,1.8066476554695216e2,0,8.2498956297255154e2,0,4.3973333163270681e3,0,-6.3011854390476087e3,0,-2.6558963615879328e3,0,-1.8922857037088078e3,0,-1.5345105921335592e3,0,-1.2937821794037664e3,0,-1.1539462796371602e3,0,-1.042590024776382e3,0,-9.2498106544124844e2,0,-8.5517046608501665e2,0,-8.2329419921819476e2,0,-7.7918241463724996e2,0,-7.0543643799421789e2,0,-6.4671616831255951e2,0,-6.0349347409789101e2,0,-5.7298776860294901e2,0,-5.5350454612884612e2,0},
-                                 {0,5.7612857608442298e1,0,3.5114818224569083e2,0,1.2871735461970936e3,0,6.3011854390476087e3,0,-8.6133850506973541e3,0,-3.5926788612747156e3,0,-2.5202334235311598e3,0,-2.0611391360079911e3,0,-1.734665968857443e3,0,-1.5945197674566406e3,0,-1.3801623074206165e3,0,-1.245990501896997e3,0,-1.1727703365754839e3,0,-1.1327586262850451e3,0,-1.0395075539566206e3,0,-9.4356118399403624e2,0,-8.723036608929826e2,0,-8.2075503060860357e2,0,-7.8575903638264375e2,0,-7.6553380841708914e2},
-                                 {1.0515699281903628e1,0,1.4298460165563081e2,0,5.9214136665228467e2,0,1.8844065389119339e3,0,8.6133850506973541e3,0,-1.1446991666288921e4,0,-4.7138842801387598e3,0,-3.3133546445586385e3,0,-2.6305219660159269e3,0,-2.2757377788967162e3,0,-2.0210535983973754e3,0,-1.7744692366955085e3,0,-1.6296543833732271e3,0,-1.5619700008848488e3,0,-1.4737788034986595e3,0,-1.3314176261411239e3,0,-1.2186860365745349e3,0,-1.135924482604462e3,0,-1.0775692688485132e3,0,-1.0402385277495257e3,0},
-                                 {0,4.7316618135933337e1,0,2.8117094269363253e2,0,9.2164534966309402e2,0,2.6558963615879328e3,0,1.1446991666288921e4,0,-1.4925529740286934e4,0,-6.0147678034498897e3,0,-4.2456843444424959e3,0,-3.3547066924888274e3,0,-2.9848490945707164e3,0,-2.5357649400327887e3,0,-2.2630943698539127e3,0,-2.1143166241083821e3,0,-2.031975498159798e3,0,-1.858213753697094e3,0,-1.6825099855586927e3,0,-1.5526235536507816e3,0,-1.4588960811037005e3,0,-1.3952595740827275e3,0,-1.3582748122322651e3},
-                                 {8.857763941028582,0,1.1971540149217749e2,0,4.7929550313924119e2,0,1.3492259603002566e3,0,3.5926788612747156e3,0,1.4925529740286934e4,0,-1.9088257533817387e4,0,-7.6707502498004289e3,0,-5.2380668485791349e3,0,-4.2439305999515896e3,0,-3.6416305033269138e3,0,-3.134026100173014e3,0,-2.8426159571583423e3,0,-2.7024064766686428e3,0,-2.5356969822481054e3,0,-2.281840223053364e3,0,-2.082775401113387e3,0,-1.9373215567975546e3,0,-1.8349473068535122e3,0,-1.7692838956171471e3,0},
-                                 {0,4.0459607800077941e1,0,2.379741348759746e2,0,7.4863286585979099e2,0,1.8922857037088078e3,0,4.7138842801387598e3,0,1.9088257533817387e4,0,-2.3767737691314357e4,0,-9.5549707163599135e3,0,-6.4752432045681922e3,0,-5.3842427822153423e3,0,-4.4126962671301205e3,0,-3.855733525867219e3,0,-3.5545246776136337e3,0,-3.3860666185188596e3,0,-3.0777786036294687e3,0,-2.7748074862254691e3,0,-2.552619759828579e3,0,-2.3929815771182131e3,0,-2.2846052512795404e3,0,-2.221067028164739e3},
-                                 {7.6056869168481167,0,1.0251901736177789e2,0,4.0453153384300646e2,0,1.0862078084067627e3,0,2.5202334235311598e3,0,6.0147678034498897e3,0,2.3767737691314357e4,0,-2.9392159928052364e4,0,-1.139514105143493e4,0,-7.8995877223851172e3,0,-6.323411003760197e3,0,-5.2427473194133018e3,0,-4.6508591863957857e3,0,-4.3594081019341386e3,0,-4.052033656495983e3,0,-3.6225793046320145e3,0,-3.2911333090657026e3,0,-3.0508458650493634e3,0,-2.8822654728449867e3,0,-2.7737414206184923e3,0},
-                                 {0,3.5389547503248218e1,0,2.071578548149929e2,0,6.3972252344463524e2,0,1.5345105921335592e3,0,3.3133546445586385e3,0,7.6707502498004289e3,0,2.9392159928052364e4,0,-3.6242981986001518e4,0,-1.3908729865447108e4,0,-9.8758692070666143e3,0,-7.5388231457083087e3,0,-6.3385429139159992e3,0,-5.7098065439114438e3,0,-5.3590118302043292e3,0,-4.8225917488041869e3,0,-4.3175724618832988e3,0,-3.9519328668962456e3,0,-3.6910947574260675e3,0,-3.5141436457071069e3,0,-3.4091598606392797e3},
-                                 {6.7869479264177792,0,9.1361712943770729e1,0,3.5794758867462005e2,0,9.4007379953658085e2,0,2.0611391360079911e3,0,4.2456843444424959e3,0,9.5549707163599135e3,0,3.6242981986001518e4,0,-4.2983245376906441e4,0,-1.6837949286167403e4,0,-1.148997432340392e4,0,-8.8612789615203293e3,0,-7.5561189534914331e3,0,-6.9150064501770651e3,0,-6.3285552676593889e3,0,-5.5985895459415481e3,0,-5.0488248511687958e3,0,-4.6551897297317365e3,0,-4.3805302820069535e3,0,-4.2029676216375118e3,0},
-                                 {0,3.0970646505975955e1,0,1.8084075331629112e2,0,5.532001471538968e2,0,1.2937821794037664e3,0,2.6305219660159269e3,0,5.2380668485791349e3,0,1.139514105143493e4,0,4.2983245376906441e4,0,-5.0348299248509026e4,0,-2.0164799069611836e4,0,-1.31031390810271e4,0,-1.0235951674233114e4,0,-8.854975259345538e3,0,-8.1083046136375464e3,0,-7.1801912025969102e3,0,-6.3579667554575395e3,0,-5.774385203117128e3,0,-5.3627603860898761e3,0,-5.0841432924021937e3,0,-4.9164566521104027e3},
-                                 {5.9707395214319026,0,8.0316628865989554e1,0,3.1346937467858462e2,0,8.1371536670250703e2,0,1.734665968857443e3,0,3.3547066924888274e3,0,6.4752432045681922e3,0,1.3908729865447108e4,0,5.0348299248509026e4,0,-6.0088010267758428e4,0,-2.3092607146078952e4,0,-1.5141233712268597e4,0,-1.1983716644900035e4,0,-1.0523438017511027e4,0,-9.389924551106179e3,0,-8.1698451827972312e3,0,-7.2838261753531387e3,0,-6.661467248824286e3,0,-6.2311703601334655e3,0,-5.9519563771299396e3,0},
-                                 {0,2.8191128269616554e1,0,1.6438133021915865e2,0,5.0021598723305637e2,0,1.1539462796371602e3,0,2.2757377788967162e3,0,4.2439305999515896e3,0,7.8995877223851172e3,0,1.6837949286167403e4,0,6.0088010267758428e4,0,-7.3202350533451463e4,0,-2.6754165933340348e4,0,-1.7749457026945351e4,0,-1.4239234723769223e4,0,-1.2502199131568169e4,0,-1.0787653542530927e4,0,-9.3902182433675291e3,0,-8.427985187784334e3,0,-7.7611603418997488e3,0,-7.3122016216052247e3,0,-7.0379315296825755e3},
-                                 {5.6263955507642349,0,7.5653052619113872e1,0,2.9461419576238268e2,0,7.5969570424809127e2,0,1.5945197674566406e3,0,2.9848490945707164e3,0,5.3842427822153423e3,0,9.8758692070666143e3,0,2.0164799069611836e4,0,7.3202350533451463e4,0,-8.545812113010615e4,0,-3.14799797522935e4,0,-2.1139530556083565e4,0,-1.720140509971816e4,0,-1.4707685435389631e4,0,-1.2462304519793557e4,0,-1.0917378058636412e4,0,-9.8634738249709515e3,0,-9.1457090465564537e3,0,-8.6793874949774519e3,0},
-                                 {0,2.5776866708022007e1,0,1.5017889879647977e2,0,4.5557670705695859e2,0,1.042590024776382e3,0,2.0210535983973754e3,0,3.6416305033269138e3,0,6.323411003760197e3,0,1.148997432340392e4,0,2.3092607146078952e4,0,8.545812113010615e4,0,-9.4767492687965676e4,0,-3.5287290797035876e4,0,-2.3998863848075764e4,0,-1.9511544687542667e4,0,-1.6123400380178192e4,0,-1.3661480347532319e4,0,-1.2043282296791003e4,0,-1.0952227583778074e4,0,-1.0225602470493422e4,0,-9.7760661812501669e3},
-                                 {4.9431757454433254,0,6.6449446488134404e1,0,2.5842274763394863e2,0,6.6368693126832166e2,0,1.3801623074206165e3,0,2.5357649400327887e3,0,4.4126962671301205e3,0,7.5388231457083087e3,0,1.31031390810271e4,0,2.6754165933340348e4,0,9.4767492687965676e4,0,-1.058141234799648e5,0,-3.9847039877732282e4,0,-2.7467433672816446e4,0,-2.1733596671829622e4,0,-1.7627234218383533e4,0,-1.502472413592545e4,0,-1.3327756788020082e4,0,-1.2200127418672961e4,0,-1.1470625553427079e4,0},
-                                 {0,2.3039306045591176e1,0,1.3415968199255859e2,0,4.0619126322856682e2,0,9.2498106544124844e2,0,1.7744692366955085e3,0,3.134026100173014e3,0,5.2427473194133018e3,0,8.8612789615203293e3,0,1.5141233712268597e4,0,3.14799797522935e4,0,1.058141234799648e5,0,-1.1932317780905899e5,0,-4.5473683275232256e4,0,-3.1299203799989481e4,0,-2.3921688702035527e4,0,-1.9392242890205598e4,0,-1.6626655149076536e4,0,-1.4840723419104709e4,0,-1.3675305041125065e4,0,-1.294963630652338e4},
-                                 {4.5048872109238019,0,6.054779152466743e1,0,2.3526759974940461e2,0,6.0266965656362686e2,0,1.245990501896997e3,0,2.2630943698539127e3,0,3.855733525867219e3,0,6.3385429139159992e3,0,1.0235951674233114e4,0,1.7749457026945351e4,0,3.5287290797035876e4,0,1.1932317780905899e5,0,-1.3597690216216428e5,0,-5.2487964747093302e4,0,-3.513945805275535e4,0,-2.6346706486522448e4,0,-2.1476321556908528e4,0,-1.8521795559278225e4,0,-1.6635994321668119e4,0,-1.5433067983772823e4,0},
-                                 {0,2.1403090267878525e1,0,1.2458956592202698e2,0,3.7673946507518542e2,0,8.5517046608501665e2,0,1.6296543833732271e3,0,2.8426159571583423e3,0,4.6508591863957857e3,0,7.5561189534914331e3,0,1.1983716644900035e4,0,2.1139530556083565e4,0,3.9847039877732282e4,0,1.3597690216216428e5,0,-1.5670876958360333e5,0,-6.0364436305060664e4,0,-3.9015543907356048e4,0,-2.922531349284659e4,0,-2.3954142785097331e4,0,-2.0780696809143185e4,0,-1.878352771194066e4,0,-1.7545770273432684e4},
-                                 {4.2665630698733097,0,5.7338387651965396e1,0,2.2266924734633867e2,0,5.6942945457619681e2,0,1.1727703365754839e3,0,2.1143166241083821e3,0,3.5545246776136337e3,0,5.7098065439114438e3,0,8.854975259345538e3,0,1.4239234723769223e4,0,2.3998863848075764e4,0,4.5473683275232256e4,0,1.5670876958360333e5,0,-1.8281802425611802e5,0,-6.8460330476181231e4,0,-4.3387771581181314e4,0,-3.2667172682245045e4,0,-2.6923276207137539e4,0,-2.3495883478142034e4,0,-2.1375533958242962e4,0},
-                                 {0,2.067194114994797e1,0,1.2030592490942053e2,0,3.6347674302296619e2,0,8.2329419921819476e2,0,1.5619700008848488e3,0,2.7024064766686428e3,0,4.3594081019341386e3,0,6.9150064501770651e3,0,1.0523438017511027e4,0,1.720140509971816e4,0,2.7467433672816446e4,0,5.2487964747093302e4,0,1.8281802425611802e5,0,-2.1271826153334946e5,0,-7.6866992592196696e4,0,-4.8649403644310972e4,0,-3.6817251506946173e4,0,-3.0513076646847963e4,0,-2.6790516893631686e4,0,-2.4535421176776205e4},
-                                 {4.1384642081292183,0,5.5612737516890245e1,0,2.1588307788340797e2,0,5.5143526122063504e2,0,1.1327586262850451e3,0,2.031975498159798e3,0,3.3860666185188596e3,0,5.3590118302043292e3,0,8.1083046136375464e3,0,1.2502199131568169e4,0,1.9511544687542667e4,0,3.1299203799989481e4,0,6.0364436305060664e4,0,2.1271826153334946e5,0,-2.4049939116533033e5,0,-8.5179609610348575e4,0,-5.4166702649687397e4,0,-4.1205703996980244e4,0,-3.4343953450781232e4,0,-3.0341926329862808e4,0},
-                                 {0,1.96081415770922e1,0,1.1409672110463184e2,0,3.4451352234121977e2,0,7.7918241463724996e2,0,1.4737788034986595e3,0,2.5356969822481054e3,0,4.052033656495983e3,0,6.3285552676593889e3,0,9.389924551106179e3,0,1.4707685435389631e4,0,2.1733596671829622e4,0,3.513945805275535e4,0,6.8460330476181231e4,0,2.4049939116533033e5,0,-2.6227133694840247e5,0,-9.2728782150641334e4,0,-5.925058291630611e4,0,-4.5311119563817061e4,0,-3.7985118079838938e4,0,-3.3774737913456209e4},
-                                 {3.8090497136228773,0,5.118338903118922e1,0,1.9863397958511134e2,0,5.0696244411639659e2,0,1.0395075539566206e3,0,1.858213753697094e3,0,3.0777786036294687e3,0,4.8225917488041869e3,0,7.1801912025969102e3,0,1.0787653542530927e4,0,1.6123400380178192e4,0,2.3921688702035527e4,0,3.9015543907356048e4,0,7.6866992592196696e4,0,2.6227133694840247e5,0,-2.8022388983993302e5,0,-9.9512260330480867e4,0,-6.3895585297319696e4,0,-4.9127151695933915e4,0,-4.1430677141922156e4,0},
-                                 {0,1.7780546444300823e1,0,1.0345052659581875e2,0,3.1223628537301307e2,0,7.0543643799421789e2,0,1.3314176261411239e3,0,2.281840223053364e3,0,3.6225793046320145e3,0,5.5985895459415481e3,0,8.1698451827972312e3,0,1.2462304519793557e4,0,1.7627234218383533e4,0,2.6346706486522448e4,0,4.3387771581181314e4,0,8.5179609610348575e4,0,2.8022388983993302e5,0,-2.9877796188935133e5,0,-1.0657706864110292e5,0,-6.8773671071154359e4,0,-5.3171509027134946e4,0,-4.5119839060945954e4},
-                                 {3.4648407872069621,0,4.6556396772955335e1,0,1.8064154468020444e2,0,4.6077148827610122e2,0,9.4356118399403624e2,0,1.6825099855586927e3,0,2.7748074862254691e3,0,4.3175724618832988e3,0,6.3579667554575395e3,0,9.3902182433675291e3,0,1.3661480347532319e4,0,1.9392242890205598e4,0,2.922531349284659e4,0,4.8649403644310972e4,0,9.2728782150641334e4,0,2.9877796188935133e5,0,-3.1986063349221569e5,0,-1.1462171060765231e5,0,-7.4344928345867057e4,0,-5.7809492775121218e4,0},
-                                 {0,1.6319322376553328e1,0,9.494104102979517e1,0,2.8646529404820944e2,0,6.4671616831255951e2,0,1.2186860365745349e3,0,2.082775401113387e3,0,3.2911333090657026e3,0,5.0488248511687958e3,0,7.2838261753531387e3,0,1.0917378058636412e4,0,1.502472413592545e4,0,2.1476321556908528e4,0,3.2667172682245045e4,0,5.4166702649687397e4,0,9.9512260330480867e4,0,3.1986063349221569e5,0,-3.438668811844914e5,0,-1.2380726612567712e5,0,-8.0729721031788162e4,0,-6.3150482242378858e4},
-                                 {3.2081793025495999,0,4.310649594611873e1,0,1.6723133921379744e2,0,4.2638212634902963e2,0,8.723036608929826e2,0,1.5526235536507816e3,0,2.552619759828579e3,0,3.9519328668962456e3,0,5.774385203117128e3,0,8.427985187784334e3,0,1.2043282296791003e4,0,1.6626655149076536e4,0,2.3954142785097331e4,0,3.6817251506946173e4,0,5.925058291630611e4,0,1.0657706864110292e5,0,3.438668811844914e5,0,-3.7127467072686019e5,0,-1.3432976766258246e5,0,-8.8075632761860814e4,0},
-                                 {0,1.5241658082989544e1,0,8.8666096546797492e1,0,2.6747137261900289e2,0,6.0349347409789101e2,0,1.135924482604462e3,0,1.9373215567975546e3,0,3.0508458650493634e3,0,4.6551897297317365e3,0,6.661467248824286e3,0,9.8634738249709515e3,0,1.3327756788020082e4,0,1.8521795559278225e4,0,2.6923276207137539e4,0,4.1205703996980244e4,0,6.3895585297319696e4,0,1.1462171060765231e5,0,3.7127467072686019e5,0,-4.0266535798316022e5,0,-1.4642922649721535e5,0,-9.6564904657868373e4},
-                                 {3.0221129950583066,0,4.0605589512625726e1,0,1.57511913182099e2,0,4.0147197189116553e2,0,8.2075503060860357e2,0,1.4588960811037005e3,0,2.3929815771182131e3,0,3.6910947574260675e3,0,5.3627603860898761e3,0,7.7611603418997488e3,0,1.0952227583778074e4,0,1.4840723419104709e4,0,2.0780696809143185e4,0,3.0513076646847963e4,0,4.5311119563817061e4,0,6.8773671071154359e4,0,1.2380726612567712e5,0,4.0266535798316022e5,0,-4.38750210462761e5,0,-1.6040148763802303e5,0},
-                                 {0,1.448053899040671e1,0,8.4234523667867001e1,0,2.5405967024244283e2,0,5.7298776860294901e2,0,1.0775692688485132e3,0,1.8349473068535122e3,0,2.8822654728449867e3,0,4.3805302820069535e3,0,6.2311703601334655e3,0,9.1457090465564537e3,0,1.2200127418672961e4,0,1.6635994321668119e4,0,2.3495883478142034e4,0,3.4343953450781232e4,0,4.9127151695933915e4,0,7.4344928345867057e4,0,1.3432976766258246e5,0,4.38750210462761e5,0,-4.8040518712332857e5,0,-1.7661395491715333e5},
-                                 {2.8958152166454133,0,3.890802201075114e1,0,1.5091442434010228e2,0,3.8456221701727534e2,0,7.8575903638264375e2,0,1.3952595740827275e3,0,2.2846052512795404e3,0,3.5141436457071069e3,0,5.0841432924021937e3,0,7.3122016216052247e3,0,1.0225602470493422e4,0,1.3675305041125065e4,0,1.878352771194066e4,0,2.6790516893631686e4,0,3.7985118079838938e4,0,5.3171509027134946e4,0,8.0729721031788162e4,0,1.4642922649721535e5,0,4.8040518712332857e5,0,-5.28716989751062e5,0},
-                                 {0,1.3995055017678688e1,0,8.140755536437711e1,0,2.455011856055225e2,0,5.5350454612884612e2,0,1.0402385277495257e3,0,1.7692838956171471e3,0,2.7737414206184923e3,0,4.2029676216375118e3,0,5.9519563771299396e3,0,8.6793874949774519e3,0,1.1470625553427079e4,0,1.5433067983772823e4,0,2.1375533958242962e4,0,3.0341926329862808e4,0,4.1430677141922156e4,0,5.7809492775121218e4,0,8.8075632761860814e4,0,1.6040148763802303e5,0,5.28716989751062e5,0,-5.850446884470482e5},
-                                 {2.8232015792176571,0,3.7931930114139454e1,0,1.4711901165169067e2,0,3.7482021135890277e2,0,7.6553380841708914e2,0,1.3582748122322651e3,0,2.221067028164739e3,0,3.4091598606392797e3,0,4.9164566521104027e3,0,7.0379315296825755e3,0,9.7760661812501669e3,0,1.294963630652338e4,0,1.7545770273432684e4,0,2.4535421176776205e4,0,3.3774737913456209e4,0,4.5119839060945954e4,0,6.3150482242378858e4,0,9.6564904657868373e4,0,1.7661395491715333e5,0,5.850446884470482e5,0}};
-
-        IdX2dX2_ =new double[][]{{1.9854925268014778e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,1.67042053204691e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,6.4022859945934662e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,1.746290218119865e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,3.897624792959836e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,7.6033125275815106e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,1.3582653002067469e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,2.2537177539347246e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,3.5182864135207716e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,5.1867938423714141e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,7.5058145895050266e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,1.0480442138592885e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,1.4392921696502941e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,1.8829469704633285e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5250915641761641e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.2557169718934912e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.0076690834516942e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.0061364209929904e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,6.3580318542493253e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,8.2302415343375336e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,9.5511789831819224e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.1105649457178195e7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.3012461588713596e7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.5374681500658146e7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.8333211381057185e7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.2083947114440098e7,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.6904448348738064e7,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.2151035692048996e7,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.6887981612580562e7,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.0914884149053216e7,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4961810954532236e7,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.9558356714568848e7,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.4798777393761324e7,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,6.0797098174990828e7,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,6.7692087385750733e7,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,7.5653710725130802e7,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,8.4891581322602227e7,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,9.5666129432103554e7,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.0830352075438615e8,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.2321580613713889e8}};
+    protected int getBoundaryType() {
+        return BoundaryTables.CC;
     }
-}
\ No newline at end of file
+}
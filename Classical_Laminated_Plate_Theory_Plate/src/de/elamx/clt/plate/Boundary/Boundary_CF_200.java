@@ -47,261 +47,7 @@ public class Boundary_CF_200 extends Boundary{
     }
 
     @Override
-    protected void initArrays() {
-        c1_ = new double[]{3.6704775687945637e-1,5.092336593796097e-1,4.9961224825871414e-1,5.0001677662585669e-1,4.9999927505432504e-1,5.0000003132781422e-1,4.9999999864620252e-1,5.0000000005850289e-1,4.9999999999747186e-1,5.0000000000010925e-1,4.9999999999999527e-1,5.000000000000002e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1};
-        c2_ = new double[]{-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1};
-        c3_ = new double[]{-3.6704775687945637e-1,-5.092336593796097e-1,-4.9961224825871414e-1,-5.0001677662585669e-1,-4.9999927505432504e-1,-5.0000003132781422e-1,-4.9999999864620252e-1,-5.0000000005850289e-1,-4.9999999999747186e-1,-5.0000000000010925e-1,-4.9999999999999527e-1,-5.000000000000002e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
-        c4_ = new double[]{4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-
-        cv_ = new double[]{1.8751040687119611,4.6940911329741745,7.8547574382376125,1.0995540734875466e1,1.413716839104647e1,1.7278759532088236e1,2.042035225104125e1,2.3561944901806443e1,2.6703537555518298e1,2.9845130209102817e1,3.2986722862692838e1,3.6128315516282621e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2,1.2409290981679683e2};
-
-        IX_ = new double[]{3.9149587801981286e-1,2.1696794755535963e-1,1.2721264843305285e-1,9.0949010818524292e-2,7.0735420449683668e-2,5.7874528596716499e-2,4.8970751581497043e-2,4.2441318163015394e-2,3.7448221903778933e-2,3.3506303808827637e-2,3.0315227255598816e-2,2.7679120537720939e-2,2.5464790894703253e-2,2.3578510087688197e-2,2.1952405943709701e-2,2.0536121689276817e-2,1.9291508253563071e-2,1.8189136353359466e-2,1.7205939793718414e-2,1.632358390686106e-2,1.552731152116052e-2,1.4805110985292589e-2,1.4147106052612918e-2,1.3545101539735773e-2,1.2992240252399619e-2,1.2482740634658457e-2,1.2011693818256251e-2,1.1574904952137842e-2,1.1168767936273356e-2,1.0790165633348836e-2,1.0436389710943956e-2,1.010507575186637e-2,9.794150344116636e-3,9.5017876472773334e-3,9.2263735125736426e-3,8.966475667149033e-3,8.7208187995559088e-3,8.4882636315677512e-3,8.2677892515270304e-3,8.0584781312352068e-3};
-
-        IXX_ =   new double[][] {{2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1}};
-
-        IXdX_ =  new double[][] {{5e-1,-1.1898652573931245,9.4608432544067085e-1,-1.0299526199059948,9.8271171068360794e-1,-1.0119170995117971,9.9163862449448987e-1,-1.0063736430012273,9.9509344107058332e-1,-1.003962976471014,9.9677914368380412e-1,-1.0027010136579122,9.9772520677863751e-1,-1.0019585435040943,9.9830846979102803e-1,-1.0014850191970384,9.9869318171225616e-1,-1.0011646096888728,9.9896018583430243e-1,-1.0009377538475825,9.9915301583988587e-1,-1.0007712744029617,9.9929679740244217e-1,-1.0006454989328324,9.994068546063415e-1,-1.000548161644839,9.9949296376125756e-1,-1.0004712921984265,9.9956159969222577e-1,-1.0004095291262987,9.99617188440414e-1,-1.0003591582541678,9.9966283861203905e-1,-1.0003175406117575,9.9970078535228765e-1,-1.0002827594214291,9.9973266909895045e-1,-1.0002533952710902,9.9975971581836311e-1,-1.0002283789059252},
-                                 {1.8986525739312456e-1,4.9999999999999999e-1,-1.5555466186378499,8.4584409296396532e-1,-1.123911074301308,9.3126894158897256e-1,-1.055789695902964,9.6182518793538574e-1,-1.0318857814670459,9.7585965669861762e-1,-1.0206685215102969,9.8339888269848604e-1,-1.0144955063361453,9.8789825576457899e-1,-1.0107325653777557,9.9079290172772076e-1,-1.0082682095372246,9.9276276506281804e-1,-1.0065660184116456,9.9416297370050991e-1,-1.0053408316418132,9.9519344544904778e-1,-1.0044295307910048,9.9597361409671069e-1,-1.0037332703359786,9.9657835948340568e-1,-1.0031892930678028,9.9705654304822301e-1,-1.0027561885191029,9.9744113995318334e-1,-1.0024057314786375,9.9775505287436225e-1,-1.0021181440488425,9.9801458835896241e-1,-1.0018792323181124,9.9823161060939008e-1,-1.0016785951074261,9.9841491770755435e-1,-1.0015084692295552,9.9857114516196953e-1},
-                                 {5.3915674559329144e-2,5.5554661863784993e-1,5e-1,-2.0420999127738333,7.6411537571194459e-1,-1.2604815203921115,8.7111184246742817e-1,-1.1250277835033915,9.2036768837596121e-1,-1.0744205557822525,9.4634190098511267e-1,-1.0496134607469141,9.6153115513353175e-1,-1.0355186286927722,9.7112610097662036e-1,-1.0267148195686173,9.7755401409085746e-1,-1.0208375350727788,9.8206251752436344e-1,-1.0167145867135047,9.8534298547841894e-1,-1.0137088853496388,9.8780249808694563e-1,-1.0114491738629342,9.8969295619989683e-1,-1.0097069049345072,9.9117681877625415e-1,-1.0083349934450634,9.9236258355382214e-1,-1.0072352357937799,9.9332490491247932e-1,-1.0063400026576057,9.9411649173938066e-1,-1.0056014710649341,9.947754046464452e-1,-1.0049850406278335,9.9532967573781268e-1,-1.0044651716466952,9.9580031601875681e-1,-1.0040226768075832},
-                                 {2.9952619905994849e-2,1.5415590703603467e-1,1.0420999127738333,4.9999999999999999e-1,-2.5312255503762455,7.1176595644866278e-1,-1.4083298235781372,8.2116877943447149e-1,-1.2041651662576336,8.8048844708444858e-1,-1.1249991417754193,9.1522538701123113e-1,-1.085068881105663,9.3701835502512069e-1,-1.061868285927849,9.5148543023349828e-1,-1.047115083525683,9.6153868723877362e-1,-1.0371209771631712,9.6878999344627762e-1,-1.0300243210647041,9.7418350438543306e-1,-1.0247974157594488,9.7829950954580064e-1,-1.0208332035400272,9.8150954472239962e-1,-1.0177535129156182,9.8405995259500413e-1,-1.0153124051178452,9.8611906370901052e-1,-1.0133441440538401,9.8780495156718802e-1,-1.0117336440247392,9.8920235694465556e-1,-1.0103989172000112,9.9037333912868799e-1,-1.0092802458676107,9.9136416927411412e-1,-1.0083332820517292,9.9220990408811372e-1},
-                                 {1.7288289316392051e-2,1.23911074301308e-1,2.358846242880554e-1,1.5312255503762455,5e-1,-3.0250013009005016,6.7599995513235831e-1,-1.5625001802880892,7.8108104600734761e-1,-1.2892857907889175,8.4482755931719435e-1,-1.1808036152198962,8.8526910097968504e-1,-1.125000028844695,9.1214748898599293e-1,-1.0920454751634517,9.3076921755187517e-1,-1.0708042113557024,9.4413792021626142e-1,-1.0562500121868834,9.5402950292238077e-1,-1.045814489465911,9.6153845395274317e-1,-1.0380639178792098,9.6736502172750659e-1,-1.0321428639478503,9.7197231275125374e-1,-1.0275135927553225,9.756756708076858e-1,-1.023823534414812,9.7869541918448763e-1,-1.0208333376956482,9.8118903476497716e-1,-1.0183756844192031,9.8327137209074651e-1,-1.0163306485656996,9.850277234074332e-1,-1.0146103926510261,9.8652245983517125e-1,-1.0131493533819828},
-                                 {1.1917099511797117e-2,6.8731058411027434e-2,2.6048152039211152e-1,2.8823404355133721e-1,2.0250013009005016,5e-1,-3.5208332666121251,6.5028901898805732e-1,-1.7202380862521279,7.489626569652225e-1,-1.3781249962207854,8.13846154944886e-1,-1.24007936292022,8.5764705970895599e-1,-1.1680555541319362,8.8817005617319546e-1,-1.1249999989801412,9.1010401248041994e-1,-1.0969551274338036,9.2630937930138e-1,-1.0775641019579507,9.3857868062113333e-1,-1.0635504196778889,9.4806866988496156e-1,-1.0530701750332883,9.5554739193186012e-1,-1.0450148806112225,9.6153846180666897e-1,-1.0386828641587348,9.6640755159579494e-1,-1.0336111108591592,9.7041564812996836e-1,-1.0294834305790924,9.737527116821039e-1,-1.0260775860128414,9.765594732384661e-1,-1.0232334867707526,9.7894187275653544e-1,-1.0208333331790954,9.8098082377567461e-1},
-                                 {8.3613755055101257e-3,5.5789695902964034e-2,1.2888815753257182e-1,4.0832982357813721e-1,3.2400004486764168e-1,2.5208332666121251,5e-1,-4.0178571461930324,6.3100436675056992e-1,-1.8802083337722336,7.2295081961901639e-1,-1.4694444446273756,7.8715365234851711e-1,-1.3017857143898953,8.3267326728978471e-1,-1.2133838384524993,8.6565977739364406e-1,-1.1600378788371105,8.9011703508459567e-1,-1.1250000000372917,9.0864864862663655e-1,-1.100595238124598,9.229717410932706e-1,-1.0828431372786907,9.3424124511989519e-1,-1.0694901315986557,9.4325050367955906e-1,-1.0591736694844076,9.5055588061948492e-1,-1.0510265700625311,9.5655526991185877e-1,-1.0444736842228446,9.6153846152865436e-1,-1.0391203703811503,9.657200811271237e-1,-1.0346880131458068,9.6926154964651894e-1,-1.0309750733222515,9.7228599540118491e-1,-1.0278326745793912},
-                                 {6.3736430012273497e-3,3.8174812064614255e-2,1.250277835033915e-1,1.788312205655285e-1,5.6250018028808926e-1,3.4971098101194267e-1,3.0178571461930324,5e-1,-4.5156249998363189,6.1604095563374505e-1,-2.0416666666455432,7.0159151193841883e-1,-1.5624999999912709,7.6415094339801635e-1,-1.3652597402547875,8.1028667791046433e-1,-1.2604166666634067,8.4482758620819854e-1,-1.1966783216759841,8.7113402061967163e-1,-1.154532967031195,8.9151398264319779e-1,-1.1249999999986033,9.0755957272063602e-1,-1.1034007352929845,9.2038216560582332e-1,-1.0870743034046326,9.3076923076987075e-1,-1.0744047619039679,9.3928764166273582e-1,-1.0643592677338734,9.4635193133097633e-1,-1.0562499999994099,9.522698345358778e-1,-1.0496031746026575,9.5727307254123417e-1,-1.0440830720998563,9.6153846153882883e-1,-1.0394460028046418,9.6520259820633419e-1},
-                                 {4.9065589294166748e-3,3.1885781467045926e-2,7.963231162403878e-2,2.0416516625763365e-1,2.1891895399265238e-1,7.2023808625212793e-1,3.6899563324943007e-1,3.5156249998363189,5e-1,-5.0138888888968049,6.0410958904100545e-1,-2.2041666666676718,6.8380743982486341e-1,-1.6568181818185939,7.4424778761054738e-1,-1.4300595238097567,7.9027576197381241e-1,-1.3087606837608367,8.2569360675507215e-1,-1.2345779220780317,8.5329949238573939e-1,-1.1852564102564934,8.7510803802934495e-1,-1.1505208333333989,8.9256505576204547e-1,-1.1250000000000532,9.0671400903805705e-1,-1.1056286549708044,9.1831543244768216e-1,-1.0905388471178318,9.2793017456356569e-1,-1.0785326086956842,9.359769605671018e-1,-1.0688095238095516,9.4277227722770234e-1,-1.0608164983165227,9.4855820576715845e-1,-1.0541604197901265,9.5352203280796005e-1,-1.048555107526901},
-                                 {3.9629764710140678e-3,2.4140343301382371e-2,7.4420555782252503e-2,1.1951155291555141e-1,2.8928579078891757e-1,2.5103734303477749e-1,8.8020833377223364e-1,3.8395904436625494e-1,4.0138888888968049,4.9999999999999999e-1,-5.5124999999996215,5.9438202247191363e-1,-2.367424242424195,6.6880733944954452e-1,-1.752083333333314,7.2692889561271092e-1,-1.49587912087911,7.7238335435057003e-1,-1.3581349206349135,8.0818278427205327e-1,-1.2734848484848433,8.3665158371040924e-1,-1.2169471153846115,8.5953307392996285e-1,-1.1769607843137224,8.7812288993923181e-1,-1.1474673202614354,8.9338452451270074e-1,-1.1249999999999979,9.0603852160333284e-1,-1.1074404761904744,9.166281755196316e-1,-1.0934265010351951,9.2556701030927935e-1,-1.0820454545454532,9.3317289892632449e-1,-1.0726650563607073,9.3969261610424406e-1,-1.0648347701149415,9.4531960012117615e-1},
-                                 {3.2208563161958742e-3,2.0668521510296917e-2,5.3658099014887329e-2,1.2499914177541937e-1,1.5517244068280564e-1,3.7812499622078547e-1,2.770491803809836e-1,1.0416666666455432,3.9589041095899454e-1,4.5124999999996215,5e-1,-6.0113636363636542,5.863039399624764e-1,-2.5312500000000022,6.5600624024960985e-1,-1.8480769230769239,7.1176470588235282e-1,-1.5625000000000005,7.5635359116022088e-1,-1.4083333333333336,7.9217719132893487e-1,-1.3132102272727275,8.2116788321167874e-1,-1.2494343891402716,8.4482758620689647e-1,-1.2041666666666668,8.6430769230769224e-1,-1.1706656346749227,8.8048780487804872e-1,-1.1450657894736843,8.9404132628543963e-1,-1.125,9.0548649807115297e-1,-1.1089426877470356,9.1522491349480964e-1,-1.0958695652173913,9.2357019064124779e-1,-1.0850694444444444,9.3076923076923073e-1,-1.0760344827586207},
-                                 {2.7010136579122739e-3,1.6601117301513954e-2,4.9613460746914176e-2,8.4774612988768863e-2,1.8080361521989626e-1,1.8615384505511399e-1,4.6944444462737568e-1,2.9840848806158116e-1,1.2041666666676718,4.0561797752808636e-1,5.0113636363636542,4.9999999999999999e-1,-6.5104166666666658,5.794912559618442e-1,-2.6955128205128204,6.4496644295302013e-1,-1.9446428571428571,6.984036488027366e-1,-1.6297619047619047,7.4195121951219512e-1,-1.4592013888888888,7.7754415475189235e-1,-1.3536096256684491,8.0679327976625274e-1,-1.28258547008547,8.3099041533546326e-1,-1.2320175438596491,8.5115362971299944e-1,-1.194485294117647,8.6807980049875311e-1,-1.1657268170426065,8.8239217429968875e-1,-1.1431277056277056,8.945795137504982e-1,-1.1249999999999999,9.0502692998204668e-1,-1.1102083333333333,9.1403964900877478e-1,-1.0979629629629629,9.2186115214180206e-1},
-                                 {2.2747932213624852e-3,1.4495506336145396e-2,3.8468844866468241e-2,8.506888110566306e-2,1.1473089902031495e-1,2.4007936292022e-1,2.1284634765148288e-1,5.6249999999127091e-1,3.1619256017513658e-1,1.367424242424195,4.1369606003752359e-1,5.5104166666666658,5e-1,-7.0096153846153846,5.7366984993178717e-1,-2.8601190476190476,6.3535589264877479e-1,-2.0416666666666666,6.8655967903711133e-1,-1.6975446428571428,7.2896790980052038e-1,-1.5106209150326797,7.6415094339622641e-1,-1.394570707070707,7.9345670852610707e-1,-1.3162955465587044,8.1799650553290623e-1,-1.2604166666666666,8.3866804336602994e-1,-1.2188375350140056,8.5618959963184537e-1,-1.186901913875598,8.711340206185567e-1,-1.1617494824016563,8.8395841069439287e-1,-1.1415307971014492,8.950285522337924e-1,-1.125,9.0463838877021666e-1,-1.1112891737891737},
-                                 {1.9585435040943183e-3,1.2101744235421001e-2,3.5518628692772268e-2,6.2981644974879306e-2,1.2500002884469504e-1,1.42352940291044e-1,3.0178571438989531e-1,2.3584905660198364e-1,6.5681818181859392e-1,3.3119266055045547e-1,1.5312500000000022,4.2050874403815579e-1,6.0096153846153846,5e-1,-7.5089285714285714,5.6863905325443786e-1,-3.0249999999999999,6.2691914022517911e-1,-2.1390624999999999,6.76e-1,-1.7657563025210084,7.1722265321955003e-1,-1.5624999999999999,7.518720217835262e-1,-1.4360047846889952,7.8108108108108108e-1,-1.3504807692307692,8.058071390516782e-1,-1.2892857142857142,8.2684085510688836e-1,-1.2436497326203208,8.4482758620689655e-1,-1.2085240274599542,8.6029129934840935e-1,-1.1808035714285714,8.7365684575389948e-1,-1.1584782608695652,8.8526912181303116e-1,-1.1401923076923076,8.9540889526542324e-1},
-                                 {1.6915302089719652e-3,1.0732565377755791e-2,2.8873899023379632e-2,6.1868285927849018e-2,8.7852511014007065e-2,1.680555541319362e-1,1.6732673271021528e-1,3.6525974025478754e-1,2.5575221238945261e-1,7.5208333333331403e-1,3.4399375975039014e-1,1.6955128205128204,4.2633015006821282e-1,6.5089285714285714,4.9999999999999999e-1,-8.0083333333333333,5.6424870466321243e-1,-3.1901041666666666,6.1945701357466063e-1,-2.2367647058823529,6.6653449643140364e-1,-1.8343253968253968,7.0655966503838101e-1,-1.614766081871345,7.405922270203578e-1,-1.477840909090909,7.6958904109589041e-1,-1.38507326007326,7.9437652811735941e-1,-1.318560606060606,8.1565103024989039e-1,-1.2688618925831202,8.3399131464666403e-1,-1.2305372807017543,8.4987504462691895e-1,-1.2002380952380952,8.6369529983792544e-1,-1.1757943143812709,8.7577548005908419e-1,-1.1557407407407407},
-                                 {1.4850191970384359e-3,9.2070982722792306e-3,2.6714819568617367e-2,4.8514569766501716e-2,9.2045475163451712e-2,1.1182994382680453e-1,2.1338383845249939e-1,1.8971332208953566e-1,4.3005952380975671e-1,2.7307110438728907e-1,8.4807692307692397e-1,3.5503355704697986e-1,1.8601190476190476,4.3136094674556213e-1,7.0083333333333333,5e-1,-8.5078124999999999,5.6038426349496797e-1,-3.355392156862745,6.1281224818694601e-1,-2.3347222222222222,6.5800711743772241e-1,-1.9031954887218045,6.9684542586750788e-1,-1.6673611111111111,7.3020774845592363e-1,-1.520021645021645,7.589061716006021e-1,-1.4200174825174825,7.8365601080594326e-1,-1.3481884057971014,8.050709939148073e-1,-1.2944240196078431,8.236697247706422e-1,-1.2528947368421052,8.3988670443185604e-1,-1.2200091575091575,8.5408442150015183e-1,-1.1934380032206119,8.6656484309913912e-1},
-                                 {1.3068182877438374e-3,8.2682095372246457e-3,2.2445985909142538e-2,4.7115083525683035e-2,6.9230782448124822e-2,1.249999989801412e-1,1.3434022260635593e-1,2.6041666666340673e-1,2.0972423802618758e-1,4.9587912087911001e-1,2.8823529411764717e-1,9.446428571428571e-1,3.646441073512252e-1,2.0249999999999999,4.3575129533678756e-1,7.5078124999999999,5e-1,-9.0073529411764705,5.5695687550854353e-1,-3.5208333333333333,6.0685920577617328e-1,-2.4328947368421052,6.5028901734104046e-1,-1.9723214285714285,6.8796561604584527e-1,-1.7202380952380952,7.2062596203181118e-1,-1.5625,7.4896265560165975e-1,-1.455267558528428,7.7359667359667359e-1,-1.378125,7.9506962739932254e-1,-1.3202941176470588,8.1384615384615384e-1,-1.2755566801619433,8.3032097226550327e-1,-1.240079365079365,8.4482758620689655e-1,-1.2113742236024844},
-                                 {1.1646096888728556e-3,7.2372349371819585e-3,2.0837535072778895e-2,3.8461312761226375e-2,7.0804211355702444e-2,8.9895987519580057e-2,1.6003787883711055e-1,1.5517241379180145e-1,3.0876068376083678e-1,2.2761664564942996e-1,5.625000000000005e-1,3.0159635119726339e-1,1.0416666666666666,3.7308085977482088e-1,2.1901041666666666,4.3961573650503202e-1,8.0073529411764705,5e-1,-9.5069444444444444,5.538965768390386e-1,-3.6864035087719298,6.0149642160052049e-1,-2.5312499999999999,6.4327315084449621e-1,-2.0416666666666666,6.7982226868792472e-1,-1.7733585858585858,7.1176470588235294e-1,-1.6052371541501976,7.3969400764980875e-1,-1.4907852564102564,7.6415094339622641e-1,-1.4083333333333333,7.856142807140357e-1,-1.3464366515837104,8.0450047877433769e-1,-1.2984892787524366,8.2116788321167883e-1,-1.2604166666666666,8.35922850254487e-1},
-                                 {1.039814165697563e-3,6.566018411645629e-3,1.7937482475636553e-2,3.7120977163171253e-2,5.5862079783738578e-2,9.695512743380365e-2,1.0988296491540432e-1,1.9667832167598413e-1,1.7430639324492784e-1,3.5813492063491351e-1,2.4364640883977911e-1,6.2976190476190473e-1,3.1344032096288866e-1,1.1390624999999999,3.8054298642533936e-1,2.355392156862745,4.4304312449145646e-1,8.5069444444444444,4.9999999999999999e-1,-1.0006578947368421e1,5.5114754098360655e-1,-3.8520833333333333,5.966411314083677e-1,-2.6297619047619047,6.3687002652519893e-1,-2.1112012987012987,6.723312589755864e-1,-1.8266908212560386,7.0355132091814638e-1,-1.6482007575757575,7.3104125736738703e-1,-1.5265384615384615,7.5527350732928137e-1,-1.4387820512820512,7.7667210440456769e-1,-1.3728213507625272,7.9561063003881755e-1,-1.3216635338345864,8.1241436009865716e-1,-1.2809934318555008},
-                                 {9.3775384758258591e-4,5.8370262994900851e-3,1.6714586713504752e-2,3.1210006553722374e-2,5.6250012186883482e-2,7.3690620698619995e-2,1.2500000003729176e-1,1.2886597938032836e-1,2.3457792207803175e-1,1.9181721572794672e-1,4.0833333333333366e-1,2.5804878048780487e-1,6.9754464285714285e-1,3.2399999999999999e-1,1.2367647058823529,3.8718775181305398e-1,2.5208333333333333,4.4610342316096139e-1,9.006578947368421,5e-1,-1.0506249999999999e1,5.486646884272997e-1,-4.0178571428571428,5.9222520107238605e-1,-2.7284090909090909,6.3100436681222707e-1,-2.1809006211180124,6.6542014958205015e-1,-1.8802083333333333,6.9592163134746101e-1,-1.6913636363636363,7.2295081967213114e-1,-1.5624999999999999,7.4692179700499168e-1,-1.4694444444444444,7.6821091130752819e-1,-1.399422268907563,7.871536523929471e-1,-1.34505444646098,8.040453491368204e-1},
-                                 {8.469841601141225e-4,5.3408316418132354e-3,1.4657014521581056e-2,3.0024321064704148e-2,4.5970497077619225e-2,7.7564101957950768e-2,9.1351351373363448e-2,1.5453296703119507e-1,1.467005076142606e-1,2.7348484848484338e-1,2.0782280867106512e-1,4.5920138888888887e-1,2.7103209019947961e-1,7.657563025210084e-1,3.3346550356859635e-1,1.3347222222222222,3.9314079422382671e-1,2.6864035087719298,4.4885245901639344e-1,9.5062499999999999,4.9999999999999999e-1,-1.100595238095238e1,5.464112250404749e-1,-4.1837121212121212,5.881920627143557e-1,-2.8271739130434782,6.2561247216035634e-1,-2.2507440476190476,6.5902636916835699e-1,-1.9338888888888888,6.8881895594224361e-1,-1.7347027972027972,7.1537419573315272e-1,-1.5986467236467236,7.3905619372865569e-1,-1.500297619047619,7.6019971469329529e-1,-1.4262170385395537,7.7910643889618922e-1,-1.3686403508771929},
-                                 {7.7127440296178886e-4,4.8065545509522117e-3,1.3708885349638886e-2,2.5816495614566933e-2,4.5814489465911065e-2,6.1421319378866664e-2,1.0059523812459805e-1,1.084860173568022e-1,1.852564102564934e-1,1.6334841628959075e-1,3.132102272727275e-1,2.2245584524810764e-1,5.1062091503267973e-1,2.8277734678044996e-1,8.3432539682539682e-1,3.4199288256227758e-1,1.4328947368421052,3.985035783994795e-1,2.8520833333333333,4.5133531157270029e-1,1.000595238095238e1,4.9999999999999999e-1,-1.1505681818181818e1,5.4435682602267126e-1,-4.3496376811594202,5.8449438202247191e-1,-2.9260416666666666,6.2064013130898645e-1,-2.3207142857142857,6.5309568480300187e-1,-1.9877136752136752,6.8219319353729804e-1,-1.7781986531986531,7.0826759230041022e-1,-1.6349587912087912,7.3164005805515239e-1,-1.5313218390804597,7.526090446882526e-1,-1.4531862745098039,7.7144622991347342e-1},
-                                 {7.0320259755782218e-4,4.4295307910048622e-3,1.2197501913054362e-2,2.4797415759448823e-2,3.8461546047256823e-2,6.3550419677888997e-2,7.7028258906729393e-2,1.2499999999860334e-1,1.2489196197065504e-1,2.1694711538461151e-1,1.7883211678832125e-1,3.5360962566844918e-1,2.3584905660377358e-1,5.6249999999999999e-1,2.9344033496161898e-1,9.0319548872180451e-1,3.4971098265895953e-1,1.5312499999999999,4.0335886859163229e-1,3.0178571428571428,4.5358877495952509e-1,1.0505681818181818e1,4.9999999999999999e-1,-1.2005434782608695e1,5.4247627654767284e-1,-4.515625,5.8109226313611915e-1,-3.025,6.1604095563139931e-1,-2.3907967032967032,6.4758092586146884e-1,-2.0416666666666666,6.7599999999999999e-1,-1.8218344155844155,7.0159151193633952e-1,-1.671419098143236,7.2463965189012782e-1,-1.5625,7.4541111390495348e-1,-1.4803130929791271},
-                                 {6.4549893283245622e-4,4.026385903289309e-3,1.1449173862934216e-2,2.1700490454199358e-2,3.8063917879209846e-2,5.1931330115038438e-2,8.2843137278690761e-2,9.2440427279363979e-2,1.5052083333339891e-1,1.4046692607003714e-1,2.4943438914027167e-1,1.9320672023374725e-1,3.9457070707070707e-1,2.4812797821647379e-1,6.1476608187134502e-1,3.0315457413249211e-1,9.7232142857142857e-1,3.5672684915550378e-1,1.6297619047619047,4.0777479892761394e-1,3.1837121212121212,4.5564317397732873e-1,1.1005434782608695e1,5e-1,-1.2505208333333333e1,5.4074844074844074e-1,-4.6816666666666666,5.7795185326709973e-1,-3.1240384615384615,6.117750439367311e-1,-2.4609788359788359,6.4244091939138879e-1,-2.0957341269841269,6.7020005971931919e-1,-1.8655956112852664,6.953103448275862e-1,-1.7080128205128205,7.1802399795762062e-1,-1.5938172043010752,7.3857988165680473e-1},
-                                 {5.9314539365849761e-4,3.7332703359786779e-3,1.030704380010316e-2,2.0833203540027219e-2,3.2634978272493407e-2,5.3070175033288332e-2,6.5758754880104804e-2,1.034007352929845e-1,1.0743494423795452e-1,1.7696078431372244e-1,1.5517241379310352e-1,2.8258547008547007e-1,2.0654329147389292e-1,4.3600478468899521e-1,2.5940777297964219e-1,6.6736111111111111e-1,3.1203438395415472e-1,1.0416666666666666,3.6312997347480106e-1,1.7284090909090909,4.1180793728564429e-1,3.3496376811594202,4.5752372345232715e-1,1.1505208333333333e1,4.9999999999999999e-1,-1.3005e1,5.3915547024952015e-1,-4.8477564102564102,5.7504424778761061e-1,-3.2231481481481481,6.0780790591310029e-1,-2.53125,6.376396015695744e-1,-2.1499042145593869,6.6475844736107232e-1,-1.9094696969696969,6.8939197930142302e-1,-1.7447270471464019,7.1176470588235294e-1,-1.6252604166666666},
-                                 {5.4816164483900215e-4,3.4216405165943107e-3,9.7069049345072488e-3,1.8490455277600372e-2,3.2142863947850373e-2,4.4452608068139877e-2,6.9490131598655723e-2,7.961783439417667e-2,1.2500000000005325e-1,1.2187711006076818e-1,2.041666666666668e-1,1.6900958466453673e-1,3.1629554655870445e-1,2.1891891891891891e-1,4.7784090909090909e-1,2.6979225154407636e-1,7.2023809523809523e-1,3.2017773131207527e-1,1.1112012987012987,3.6899563318777292e-1,1.8271739130434782,4.1550561797752808e-1,3.515625,4.5925155925155925e-1,1.2005e1,4.9999999999999999e-1,-1.3504807692307692e1,5.3768218983291859e-1,-5.0138888888888888,5.7234462347911871e-1,-3.3223214285714285,6.0410958904109589e-1,-2.6016009852216748,6.3314527503526093e-1,-2.2041666666666666,6.5964407223239989e-1,-1.9534457478005865,6.8380743982494529e-1,-1.7815504807692307,7.0583578375933046e-1},
-                                 {5.0703623874243481e-4,3.1892930678028035e-3,8.8231812237458464e-3,1.775351291561828e-2,2.8027687248746254e-2,4.5014880611222535e-2,5.6749496320440937e-2,8.7074303404632652e-2,9.3285990961942941e-2,1.4746732026143543e-1,1.3569230769230775e-1,2.3201754385964911e-1,1.8200349446709376e-1,3.5048076923076923e-1,2.3041095890410958e-1,5.2002164502164502e-1,2.7937403796818881e-1,7.7335858585858585e-1,3.2766874102441359e-1,1.1809006211180124,3.7438752783964365e-1,1.9260416666666666,4.1890773686388084e-1,3.6816666666666666,4.6084452975047984e-1,1.2504807692307692e1,4.9999999999999999e-1,-1.4004629629629629e1,5.3631561571475734e-1,-5.1800595238095238,5.6983154670750382e-1,-3.421551724137931,6.0065396644867785e-1,-2.6720238095238095,6.2892998678996036e-1,-2.2585125448028673,6.5482919636274268e-1,-1.9975142045454545,6.7853055619134813e-1,-1.8184731934731934},
-                                 {4.7129219842651515e-4,2.9434569517769864e-3,8.3349934450634519e-3,1.5940047404995863e-2,2.7513592755322592e-2,3.846153819333102e-2,5.9173669484407693e-2,6.9230769230129249e-2,1.0562865497080446e-1,1.0661547548729925e-1,1.7066563467492271e-1,1.4884637028700055e-1,2.6041666666666666e-1,1.9419286094832179e-1,3.8507326007326007e-1,2.4109382839939789e-1,5.625e-1,2.8823529411764705e-1,8.2669082125603864e-1,3.3457985041794984e-1,1.2507440476190476,3.7935986869101354e-1,2.025,4.2204814673290026e-1,3.8477564102564102,4.623178101670814e-1,1.3004629629629629e1,4.9999999999999999e-1,-1.4504464285714285e1,5.3504457423916384e-1,-5.3462643678160919,5.6748641692879611e-1,-3.5208333333333333,5.9741815278147458e-1,-2.7425115207373271,6.2496900570295065e-1,-2.3129340277777777,6.5028901734104046e-1,-2.0416666666666666,6.7353766458018562e-1},
-                                 {4.3840030777422931e-4,2.7561885191029734e-3,7.6374164461778559e-3,1.5312405117845201e-2,2.4324329192314198e-2,3.8682864158734885e-2,4.944411938051507e-2,7.4404761903967951e-2,8.1684567552317835e-2,1.2499999999999794e-1,1.1951219512195127e-1,1.9448529411764705e-1,1.6133195663397005e-1,2.8928571428571428e-1,2.0562347188264058e-1,4.2001748251748251e-1,2.5103734439834024e-1,6.0523715415019762e-1,2.9644867908185361e-1,8.8020833333333333e-1,3.40973630831643e-1,1.3207142857142857,3.8395904436860068e-1,2.1240384615384615,4.2495575221238938e-1,4.0138888888888888,4.6368438428524265e-1,1.3504464285714285e1,5e-1,-1.5004310344827586e1,5.3385939741750358e-1,-5.5125,5.6529301578806529e-1,-3.6201612903225806,5.9438202247191011e-1,-2.8130580357142857,6.2124038237351363e-1,-2.3674242424242424,6.4600130747439529e-1,-2.0858957219251336},
-                                 {4.0952912629873627e-4,2.558860046816658e-3,7.2352357937799093e-3,1.3880936290989473e-2,2.3823534414812081e-2,3.3592448404205055e-2,5.1026570062531174e-2,6.0712358337264172e-2,9.0538847117831877e-2,9.3961478396667155e-2,1.450657894736843e-1,1.3192019950124688e-1,2.188375350140056e-1,1.7315914489311163e-1,3.1856060606060606e-1,2.1634398919405673e-1,4.5526755852842809e-1,2.6030599235019124e-1,6.4820075757575757e-1,3.0407836865253898e-1,9.3388888888888888e-1,3.4690431519699812e-1,1.3907967032967032,3.8822495606326889e-1,2.2231481481481481,4.2765537652088128e-1,4.1800595238095238,4.6495542576083615e-1,1.4004310344827586e1,4.9999999999999999e-1,-1.5504166666666666e1,5.3275167785234899e-1,-5.678763440860215,5.6323713927227101e-1,-3.7195312499999999,5.9152781037315184e-1,-2.8836580086580086,6.1772457720184493e-1,-2.4219771241830065,6.4194610162518e-1},
-                                 {3.8281155958599486e-4,2.4057314786375461e-3,6.6750950875206759e-3,1.3344144053840126e-2,2.1304580815512368e-2,3.3611110859159263e-2,4.3444730088141229e-2,6.4359267733873436e-2,7.2069825436434303e-2,1.0744047619047444e-1,1.0595867371456036e-1,1.6572681704260651e-1,1.4381040036815462e-1,2.4364973262032085e-1,1.843489697501096e-1,3.4818840579710144e-1,2.264033264033264e-1,4.9078525641025641e-1,2.6895874263261296e-1,6.9136363636363636e-1,3.1118104405775638e-1,9.8771367521367521e-1,3.5241907413853115e-1,1.4609788359788359,3.921920940868997e-1,2.3223214285714285,4.3016845329249617e-1,4.3462643678160919,4.6614060258249641e-1,1.4504166666666666e1,5e-1,-1.6004032258064516e1,5.3171406997231311e-1,-5.8450520833333333,5.6130629568497995e-1,-3.8189393939393939,5.8883977900552486e-1,-2.9543067226890756,6.144041450777202e-1,-2.4765873015873015},
-                                 {3.591582541678199e-4,2.2449471256377444e-3,6.3400026576057726e-3,1.2195048432811972e-2,2.083333769564823e-2,2.9584351870031632e-2,4.4473684222844624e-2,5.3648068669023662e-2,7.8532608695684249e-2,8.3371824480368396e-2,1.2500000000000008e-1,1.1760782570031124e-1,1.8690191387559808e-1,1.5517241379310344e-1,2.688618925831202e-1,1.9492900608519269e-1,3.78125e-1,2.3584905660377358e-1,5.2653846153846153e-1,2.7704918032786885e-1,7.347027972027972e-1,3.1780680646270195e-1,1.0416666666666666,3.575590806086112e-1,1.53125,3.958904109589041e-1,2.421551724137931,4.3251358307120388e-1,4.5125,4.67248322147651e-1,1.5004032258064516e1,4.9999999999999999e-1,-1.6503906249999999e1,5.3074012768976117e-1,-6.0113636363636363,5.5948945615982241e-1,-3.9183823529411764,5.8630393996247654e-1,-3.0249999999999999,6.1126346718903036e-1},
-                                 {3.3716138796094027e-4,2.1181440488425458e-3,5.8835082606193397e-3,1.1733644024739228e-2,1.881096523502283e-2,2.9483430579092475e-2,3.8461538471345633e-2,5.6249999999409913e-2,6.4023039432898191e-2,9.3426501035195191e-2,9.4513501928847027e-2,1.4312770562770562e-1,1.2886597938144329e-1,2.0852402745995423e-1,1.6600868535333596e-1,2.9442401960784313e-1,2.0493037260067745e-1,4.0833333333333333e-1,2.4472649267071862e-1,5.6249999999999999e-1,2.8462580426684727e-1,7.7819865319865319e-1,3.24e-1,1.0957341269841269,3.6236039843042559e-1,1.6016009852216748,3.9934603355132214e-1,2.5208333333333333,4.347069842119347e-1,4.678763440860215,4.6828593002768688e-1,1.5503906249999999e1,5e-1,-1.7003787878787878e1,5.2982417093256176e-1,-6.1776960784313725,5.5777684739376177e-1,-4.0178571428571428,5.8390781957849123e-1,-3.0957341269841269},
-                                 {3.1754061175753378e-4,1.9854116410375852e-3,5.6014710649341625e-3,1.0797643055344439e-2,1.837568441920316e-2,2.6247288317896095e-2,3.9120370381150383e-2,4.7730165464122192e-2,6.880952380955166e-2,7.443298969072064e-2,1.0894268774703564e-1,1.0542048624950179e-1,1.6174948240165631e-1,1.3970870065159064e-1,2.3053728070175438e-1,1.7633027522935779e-1,3.2029411764705882e-1,2.1438571928596429e-1,4.3878205128205128e-1,2.5307820299500831e-1,5.9864672364672364e-1,2.9173240769958977e-1,8.2183441558441558e-1,3.297999402806808e-1,1.1499042145593869,3.6685472496473906e-1,1.6720238095238095,4.0258184721852541e-1,2.6201612903225806,4.3676286072772898e-1,4.8450520833333333,4.6925987231023882e-1,1.6003787878787878e1,4.9999999999999999e-1,-1.7503676470588235e1,5.2896117523609653e-1,-6.344047619047619,5.5615977852481708e-1,-4.1173611111111111,5.8164026095060577e-1},
-                                 {2.9921464771234326e-4,1.8792323181124173e-3,5.224595353554796e-3,1.0398917200011209e-2,1.6728627909253489e-2,2.6077586012841434e-2,3.4279918872876291e-2,4.9603174602657519e-2,5.7227722772297659e-2,8.2045454545453245e-2,8.4775086505190355e-2,1.2499999999999999e-1,1.1604158930560712e-1,1.8080357142857142e-1,1.5012495537308104e-1,2.5289473684210526e-1,1.8615384615384615e-1,3.464366515837104e-1,2.233278955954323e-1,4.6944444444444444e-1,2.609438062713443e-1,6.349587912087912e-1,2.9840848806366047e-1,8.6559561128526645e-1,3.3524155263892767e-1,1.2041666666666666,3.7107001321003963e-1,1.7425115207373271,4.0561797752808988e-1,2.7195312499999999,4.3869370431502004e-1,5.0113636363636363,4.7017582906743823e-1,1.6503676470588235e1,5e-1,-1.8003571428571428e1,5.2814667988107036e-1,-6.5104166666666666,5.5463049579045837e-1,-4.2168918918918918},
-                                 {2.827594214291919e-4,1.768389390609916e-3,4.9850406278335459e-3,9.6266608713120016e-3,1.6330648565699636e-2,2.3440526761533896e-2,3.4688013145806858e-2,4.2726927458765824e-2,6.0816498316522748e-2,6.6827101073675503e-2,9.5869565217391364e-2,9.4973070017953319e-2,1.4153079710144927e-1,1.2634315424610051e-1,2.0023809523809523e-1,1.6011329556814395e-1,2.7555668016194331e-1,1.954995212256623e-1,3.7282135076252723e-1,2.317890886924718e-1,5.0029761904761904e-1,2.683599419448476e-1,6.7141909814323607e-1,3.0468965517241379e-1,9.0946969696969696e-1,3.403559277676001e-1,1.2585125448028673,3.7503099429704934e-1,1.8130580357142857,4.0847218962684815e-1,2.8189393939393939,4.4051054384017758e-1,5.1776960784313725,4.7103882476390346e-1,1.7003571428571428e1,4.9999999999999999e-1,-1.8503472222222222e1,5.2737671104444027e-1,-6.6768018018018018,5.5318205991845417e-1},
-                                 {2.6733090104954216e-4,1.6785951074261353e-3,4.6703242621873148e-3,9.2802458676107124e-3,1.4972276592566796e-2,2.3233486770752696e-2,3.0738450353481053e-2,4.4083072099856356e-2,5.1441794232841547e-2,7.2665056360707393e-2,7.6429809358752206e-2,1.1020833333333333e-1,1.0497144776620759e-1,1.5847826086956521e-1,1.3630470016207455e-1,2.200091575091575e-1,1.6967902773449672e-1,2.9848927875243664e-1,2.0438936996118244e-1,3.9942226890756302e-1,2.398002853067047e-1,5.3132183908045977e-1,2.7536034810987217e-1,7.0801282051282051e-1,3.1060802069857697e-1,9.5344574780058651e-1,3.4517080363725731e-1,1.3129340277777777,3.7875961762648636e-1,1.8836580086580086,4.1116022099447513e-1,2.9183823529411764,4.4222315260623822e-1,5.344047619047619,4.7185332011892963e-1,1.7503472222222222e1,5e-1,-1.9003378378378378e1,5.26647717178895e-1,-6.8432017543859649},
-                                 {2.5339527109027777e-4,1.5850822924456465e-3,4.4651716466952166e-3,8.6358307258858761e-3,1.4610392651026141e-2,2.1058127243464556e-2,3.0975073322251578e-2,3.8461538461171162e-2,5.4160419790126568e-2,6.0307383895755935e-2,8.5069444444444497e-2,8.5960350991225217e-2,1.25e-1,1.1473087818696883e-1,1.757943143812709e-1,1.4591557849984816e-1,2.4007936507936507e-1,1.7883211678832116e-1,3.2166353383458646e-1,2.1284634760705289e-1,4.2621703853955375e-1,2.4739095531174739e-1,5.625e-1,2.8197600204237937e-1,7.4472704714640198e-1,3.161925601750547e-1,9.9751420454545454e-1,3.4971098265895953e-1,1.3674242424242424,3.8227542279815506e-1,1.9543067226890756,4.1369606003752345e-1,3.0178571428571428,4.4384022147518291e-1,5.5104166666666666,4.7262328895555972e-1,1.8003378378378378e1,4.9999999999999999e-1,-1.950328947368421e1,5.2595651441092196e-1},
-                                 {2.4028418163688331e-4,1.5084692295552057e-3,4.1996839812431898e-3,8.3332820517292915e-3,1.3477540164828741e-2,2.0833333179095429e-2,2.7714004598815083e-2,3.9446002804641866e-2,4.6477967192039941e-2,6.4834770114941517e-2,6.9230769230769267e-2,9.796296296296296e-2,9.5361611229783338e-2,1.4019230769230769e-1,1.242245199409158e-1,1.9343800322061191e-1,1.5517241379310344e-1,2.6041666666666666e-1,1.8758563990134283e-1,3.4505444646098003e-1,2.2089356110381077e-1,4.5318627450980392e-1,2.5458888609504651e-1,5.9381720430107526e-1,2.8823529411764705e-1,7.8155048076923076e-1,3.2146944380865186e-1,1.0416666666666666,3.539986925256047e-1,1.4219771241830065,3.8559585492227979e-1,2.0249999999999999,4.1609218042150876e-1,3.1173611111111111,4.4536950420954162e-1,5.6768018018018018,4.7335228282110499e-1,1.850328947368421e1,4.9999999999999999e-1,-2.0003205128205128e1},
-                                 {2.2837890592529868e-4,1.4288548380304663e-3,4.0226768075832029e-3,7.7900959118862791e-3,1.3149353381982861e-2,1.9019176224325385e-2,2.7832674579391268e-2,3.4797401793665807e-2,4.8555107526901e-2,5.4680399878823841e-2,7.6034482758620736e-2,7.813884785819793e-2,1.1128917378917378e-1,1.0459110473457675e-1,1.5574074074074074e-1,1.3343515690086087e-1,2.1137422360248447e-1,1.6407714974551299e-1,2.8099343185550082e-1,1.9595465086317959e-1,3.6864035087719298e-1,2.2855377008652657e-1,4.8031309297912713e-1,2.6142011834319526e-1,6.2526041666666666e-1,2.9416421624066953e-1,8.1847319347319347e-1,3.2646233541981437e-1,1.0858957219251336,3.5805389837481999e-1,1.4765873015873015,3.8873653281096963e-1,2.0957341269841269,4.1835973904939422e-1,3.2168918918918918,4.4681794008154582e-1,5.8432017543859649,4.7404348558907803e-1,1.9003205128205128e1,4.9999999999999999e-1}};
-
-        IXdX2_ = new double[][] {{2.1456090500287491e-1,-2.9358095927961391,6.8632871747078522,-9.3475625664632224,1.2989153208471687e1,-1.5717158014666909e1,1.9205787561011313e1,-2.2045817154156675e1,2.5452532193569826e1,-2.835669141265357e1,3.1712689441906718e1,-3.4658449255540106e1,3.7979996305925411e1,-4.0954940098569749e1,4.4251567686332647e1,-4.7248120321195542e1,5.0525887853518726e1,-5.3539086345891053e1,5.6802083697114559e1,-5.9828499417635602e1,6.3079616640591368e1,-6.6116781686382618e1,6.93581363640605e1,-7.2404215180177692e1,7.5637405133376176e1,-7.8690995428588628e1,8.1917255923230844e1,-8.4977262234258911e1,8.8197567942118534e1,-9.126311819101678e1,9.4478251667272147e1,-9.7548640282800641e1,1.0075923933993347e2,-1.0383388740091826e2,1.0704047872944805e2,-1.1011890536163262e2,1.1332192892553236e2,-1.1640373034243137e2,1.1960355742860112e2,-1.2268839128914005e2},
-                                 {4.684633327429601e-1,-3.3235713467806026,-2.2605549365177899,7.6002918235463823,-8.4272644859769218,1.3493879963496413e1,-1.4854630243063792e1,1.9557399060272737e1,-2.126564033168355e1,2.5700108632382774e1,-2.7646111136705135e1,3.1885813216378069e1,-3.4003277703809519e1,3.8097415389356459e1,-4.034391910511658e1,4.4325812275771619e1,-4.6672764714312266e1,5.0565716816947886e1,-5.2993002414353227e1,5.6813849330177677e1,-5.9306806031046977e1,6.3068067847228812e1,-6.5615691321539143e1,6.9326914316192819e1,-7.1920740688214413e1,7.5589361889860017e1,-7.8222744772487477e1,8.185466652817344e1,-8.4522293158209436e1,8.812227592597994e1,-9.0819833753635544e1,9.4391771498812965e1,-9.7115712554874183e1,1.0066283022809912e2,-1.0341020085674851e2,1.0693519886365496e2,-1.0970351425508589e2,1.1320867605393827e2,-1.1599582616702556e2,1.1948309970052912e2},
-                                 {3.9112661289088375e-1,8.0733269976007921e-1,-1.147605665408454e1,-2.0838422588242899,9.0966412999952177,-7.8150879541756003,1.4754776634980048e1,-1.4141671579927113e1,2.0640756872048271e1,-2.0571559472364368e1,2.664907375042838e1,-2.700325125622013e1,3.273072998277394e1,-3.341663329187253e1,3.8859822799347672e1,-3.981017106671061e1,4.5021365262645299e1,-4.6186438785468064e1,5.1206082915852829e1,-5.2548503691194538e1,5.7407928479615478e1,-5.8899055027875295e1,6.3622790389323609e1,-6.5240269251355901e1,6.9847775615874685e1,-7.1573865058438464e1,7.6080789366163446e1,-7.7901193217326834e1,8.2320277529994664e1,-8.4223318967461276e1,8.8565062805980491e1,-9.0541088229841683e1,9.481423702452523e1,-9.6855178415860782e1,1.0106708839927842e2,-1.0316613679911746e2,1.0732305116620073e2,-1.0947440940578308e2,1.1358166996441129e2,-1.1578036283305301e2},
-                                 {2.7184161988571195e-1,1.3851605627365471,1.0634013657076759,-2.4729552537805134e1,-1.9572377000574763,1.0558636256143639e1,-7.3061145487276676,1.6064506383883272e1,-1.3430498446415115e1,2.1809493885434214e1,-1.9791743951276652e1,2.7697988352564675e1,-2.6218482050826031e1,3.3679346880189575e1,-3.2654608253966649e1,3.9724245941233625e1,-3.9081874913426013e1,4.5814531856953647e1,-4.549517602719642e1,5.1938364923692941e1,-5.1894072254708288e1,5.8087694001109729e1,-5.8279708593805637e1,6.4256853406447001e1,-6.4653656026631108e1,7.0441740370758696e1,-7.101747925671185e1,7.6639310886138793e1,-7.7372588467183927e1,8.2847258875589439e1,-8.372020323670306e1,8.9063805359137536e1,-9.0061359339793e1,9.5287555997172031e1,-9.6396930021255138e1,1.0151740246588895e2,-1.0272765019411776e2,1.0775245269806253e2,-1.0905413911561292e2,1.1399198059127701e2},
-                                 {2.2851079945591451e-1,9.2910499749975222e-1,2.8081594527964129,1.1840005226093626,-4.2896163695159787e1,-1.8818569647065165,1.2066610537166696e1,-6.9299974258253521,1.7460033184229802e1,-1.2829369689395589e1,2.309073040270226e1,-1.9071028451632721e1,2.8874955243307497e1,-2.5446917114834878e1,3.4764224754211322e1,-3.1871203182520917e1,4.0728526008420155e1,-3.8307722591958404e1,4.6748285443621153e1,-4.4741238838633756e1,5.2810193066973934e1,-5.1165656087543069e1,5.8904882599353852e1,-5.757896348603531e1,6.5025571568412663e1,-6.3980977185373522e1,7.1167227820118914e1,-7.0372300490305896e1,7.732603911814105e1,-7.6753836526572174e1,8.3499064595361843e1,-8.3126559939487589e1,8.9683999248376961e1,-8.9491412965905397e1,9.5879010895342029e1,-9.5849262006035476e1,1.0208262485353688e2,-1.0220088359035737e2,1.0829364079997024e2,-1.085469643085514e2},
-                                 {1.8509711536032954e-1,9.958977590082737e-1,1.6150066140346699,4.2757853124653355,1.2597557563049488,-6.5999511787675136e1,-1.8307895822862555,1.3593427435643943e1,-6.643318394359904,1.8901914195811895e1,-1.2325998865091212e1,2.4439741474241871e1,-1.8424218817896433e1,3.0134486160762902e1,-2.471799787830463e1,3.5941314749143613e1,-3.1101766375134658e1,4.1830987972478212e1,-3.7524109458084905e1,4.7783623123040333e1,-4.3959632122251235e1,5.3785228663601686e1,-5.0395771238882482e1,5.9825672790448189e1,-5.6826452365212393e1,6.5897438358471218e1,-6.3248944106844751e1,7.1994830560556595e1,-6.9662252513975836e1,7.8113456259670272e1,-7.6066281330475053e1,8.4249872186176759e1,-8.246138465745615e1,9.0401341382119082e1,-8.8848126036551849e1,9.6565660930090903e1,-9.5227148519009185e1,1.0274103775776748e2,-1.0159910543227372e2,1.0892599756122577e2},
-                                 {1.6194084993263931e-1,7.8494354247578243e-1,2.183090485718343,2.1183279760020716,5.7834062351037962,1.3108019987651794,-9.4037519851754696e1,-1.7940567497444473,1.5132004746757183e1,-6.4195186085557908,2.0374152444978735e1,-1.1904745839581084e1,2.5835465975841243e1,-1.7852502615591574e1,3.1453326516344632e1,-2.404569461093116e1,3.7186895713610562e1,-3.0367977812177172e1,4.3008403489238313e1,-3.6756634093350049e1,4.8898307936616888e1,-4.3177439218336373e1,5.4842458020068211e1,-4.961153449713571e1,6.0830354584148897e1,-5.6048508116248752e1,6.6854043723248044e1,-6.248267798232726e1,7.2907389567337357e1,-6.8911050083372813e1,7.8985582920997194e1,-7.5332172851080437e1,8.5084801090437086e1,-8.1745481886093339e1,9.1201967273340708e1,-8.8150919135653703e1,9.7334577095731452e1,-9.4548708881818972e1,1.0348057140567417e2,-1.0093922497791294e2},
-                                 {1.3962226573411678e-1,7.7623256592104437e-1,1.5716072781467104,3.4984711503414138,2.4947995850496671,7.3102431457803897,1.3475359590676714,-1.2701033946913777e2,-1.7663818600993454,1.6678160991940405e1,-6.2407313506740595,2.1867138334048188e1,-1.1549972989228223e1,2.7264536239714995e1,-1.7349489633678935e1,3.2815984127972928e1,-2.3432838352367656e1,3.8484510003155117e1,-2.9679575763400894e1,4.4244096534881775e1,-3.6019530039108398e1,5.0075903587335191e1,-4.241150082112844e1,5.5965952995222327e1,-4.8831069053825347e1,6.1903655239378065e1,-5.5263659033437353e1,6.7880841262158989e1,-6.1700554160431467e1,7.3891108288654486e1,-6.813657477508985e1,7.99293669336787e1,-7.4568702027962934e1,8.599152086281345e1,-8.0995248862539046e1,9.2074235850369343e1,-8.7415352946443584e1,9.8174770421890538e1,-9.3828662353218759e1,1.0429084973687105e2},
-                                 {1.2550012285908253e-1,6.5711881348809386e-1,1.7858853631544964,2.2771294379466938,4.8936435225348324,2.7814585463236007,8.8488193871251135,1.3752107907206054,-1.6491796071524964e2,-1.7447922276844759,1.8229504740298491e1,-6.0949969942727303,2.3374945339459132e1,-1.1248629884507179e1,2.8718254583562571e1,-1.6906795024657267e1,3.4211943997774442e1,-2.2877185605009361e1,3.9822595766506063e1,-2.9039771650500181e1,4.552601078192296e1,-3.532014154096085e1,5.1304234867246215e1,-4.1672006636101012e1,5.7143666373401418e1,-4.8066367600038984e1,6.3033812599674243e1,-5.4484923888189663e1,6.8966449537396812e1,-6.0916064872815176e1,7.4935040154038301e1,-6.7352411594354136e1,8.0934322935610516e1,-7.3789291659625341e1,8.6960015254448663e1,-8.0223780732231211e1,9.3008595838917259e1,-8.6654092258633173e1,9.9077142782765589e1,-9.3079184116917581e1},
-                                 {1.1193331178323313e-1,6.3575683348507014e-1,1.4249046902554671,2.9602733473463455,2.8786126260254407,6.3355446014023309,3.005259404802339,1.0394975687394394e1,1.3968004260415842,-2.0776038419511803e2,-1.7274842396885232,1.9784553735086727e1,-5.9741239609299739,2.4893707005062801e1,-1.0990347011929981e1,3.0190705400987552e1,-1.6516110895384977e1,3.5633805561541741e1,-2.2374313921890943e1,4.1192779535423233e1,-2.8448183035023713e1,4.6845200132955934e1,-3.4661536716571134e1,5.2574077058930598e1,-4.0964684800514658e1,5.8366303514185773e1,-4.7325070658314177e1,6.4211606602081395e1,-5.372123437637987e1,7.0101820686826633e1,-6.0138949422865482e1,7.6030373427419109e1,-6.6568745336363253e1,8.1991915243973168e1,-7.3004308003415759e1,8.7982047593027265e1,-7.9441436867561872e1,9.3997120619368633e1,-8.5877358100293437e1,1.0003408036251311e2},
-                                 {1.0247206388672666e-1,5.5983331577575718e-1,1.5110169342253565,2.1990692403944051,4.2411554336980416,3.3819633829015408,7.8077817780374169,3.18404660745514,1.1946319432989243e1,1.4141084138946652,-2.555376098736742e2,-1.713301560566152,2.1342341396670843e1,-5.8723616524795696,2.6420794216690812e1,-1.0767013338444539e1,3.1677725923697601e1,-1.6169962187594743e1,3.7076209851417929e1,-2.1919093697752871e1,4.2588848795842695e1,-2.7902555887058234e1,4.8194887299389267e1,-3.4044194804958019e1,5.387831400906533e1,-4.0292319980212543e1,5.9626579486039075e1,-4.6611772132387772e1,6.5429708535341626e1,-5.2978530473170926e1,7.127967234151023e1,-5.937610115284736e1,7.7169935822191484e1,-6.579310683675187e1,8.3095125687450368e1,-7.222167350759854e1,8.9050783249893994e1,-7.8656344257163126e1,9.5033177771091576e1,-8.5093342229955844e1},
-                                 {9.3360776069994965e-2,5.3827611030706653e-1,1.2763982135730028,2.5655825073035082,2.9201391709616072,5.5901865726590082,3.803217480950343,9.3007677223288794,3.3297809666266279,1.3501368427913429e1,1.4282910930239575,-3.0824963775287585e2,-1.7014691581400445,2.2902210444669539e1,-5.7855753759175447,2.7954356852775812e1,-1.0572294189614591e1,3.3176301729719773e1,-1.5861897997550563e1,3.8535180855726393e1,-2.1506405093285048e1,4.4006097094602462e1,-2.7399755817820131e1,4.9569844084141789e1,-3.3467075596074464e1,5.5211368189101685e1,-3.9655783840325314e1,6.0918703699417447e1,-4.5928953688651403e1,6.6682219677719923e1,-5.2260578592034056e1,7.24940769889412e1,-5.8632269286864607e1,7.8347830122025438e1,-6.5030967929308707e1,8.423813067418162e1,-7.1447367919853214e1,9.0160503451237672e1,-7.7874818328370205e1,9.6111175250264197e1},
-                                 {8.6593620725531028e-2,4.8585205585126116e-1,1.3094878593910285,2.0555164480249143,3.7421949671233908,3.5669287372762078,6.9859100017200371,4.1579902760808641,1.0808574724969996e1,3.4506539998331024,1.5059156089490956e1,1.4401234954497336,-3.6589646783261685e2,-1.6914483341705759,2.4463698348787188e1,-5.7107261162038931,2.9493055170338664e1,-1.040121892066891e1,3.4684196312616347e1,-1.5586457121514692e1,4.000770644457911e1,-2.113146457089238e1,4.5440893739423796e1,-2.6936330236266191e1,5.096597271127766e1,-3.2928292745143112e1,5.6568806179062367e1,-3.9054730590859416e1,6.2238015436056331e1,-4.5277649406108913e1,6.7964338744230353e1,-5.1569578493656922e1,7.3740160896760425e1,-5.7910597939236648e1,7.9559162892239392e1,-6.4286211972319343e1,8.5416057402959226e1,-7.0685834705770348e1,9.1306386485950413e1,-7.7101711808688507e1},
-                                 {8.0055240219924261e-2,4.6669297610588475e-1,1.1462014851001753,2.2637557277488354,2.8274358149390221,5.0017459520004667,4.1386460121194257,8.4149803208161145,4.4593333835717504,1.232733639070993e1,3.552416308290112,1.6619025137489967e1,1.450144319419218,-4.2847810011290279e2,-1.6828531348210293,2.6026470173274062e1,-5.6455353131341333,3.103589516651207e1,-1.0249857823556784e1,3.6199715349318753e1,-1.533905425510004e1,4.1491462974910912e1,-2.0789951384050102e1,4.6890393052566576e1,-2.6508819033214066e1,5.2380015974275975e1,-3.2425533898004092e1,5.7947059616519052e1,-3.8488063844318394e1,6.3580721088058548e1,-4.4657916064748213e1,6.927211801165494e1,-5.090661087341959e1,7.5013879904066924e1,-5.7213037358572152e1,8.0799839626255855e1,-6.3561503263872596e1,8.6624797433542092e1,-6.9940308062232968e1,9.248433844836745e1},
-                                 {7.4979693953180604e-2,4.283959617237875e-1,1.1553953687851739,1.9025755520638836,3.3482791708476291,3.5563349840475983,6.3205852350438386,4.641658938809739,9.8686986618938481,4.7176162560126817,1.3854423602331337e1,3.6392025848518205,1.8180513041607601e1,1.4587395187687638,-4.9599453459373341e2,-1.6753998557712493,2.7590277417413587e1,-5.5882637957127251,3.2582123808821416e1,-1.0115077108615739e1,3.772155179060316e1,-1.5115848964837432e1,4.2984629212968454e1,-2.0478033949514321e1,4.8352333085058292e1,-2.6113918481074251e1,5.3809352219108104e1,-3.1956319478121732e1,5.9343224020425803e1,-3.7954248127531479e1,6.4943701466709003e1,-4.4069164473111043e1,7.0602281709664236e1,-5.0271966044526651e1,7.6311850121127579e1,-5.6540656222657106e1,8.2066408093039255e1,-6.285857555802343e1,8.786086246761266e1,-6.9213074523629976e1},
-                                 {7.0060324773717497e-2,4.1190455534145868e-1,1.0358490174416814,2.0254694816132999,2.6863350544325695,4.5253892332015914,4.2286393239594257,7.6832429018944607,5.0843535506012493,1.1341149479455095e1,4.9409499295047289,1.5387986238416654e1,3.7140518445654872,1.9743284866094476e1,1.4661927978185439,-5.684457712751087e2,-1.6688753169557487,2.9154931823087096e1,-5.5375626730872449,3.4131160186500539e1,-9.9943551299856972,3.9248681192483295e1,-1.4913622191773382e1,4.4485757511409315e1,-2.0192348498340821e1,4.9824893243823489e1,-2.5748560053918042e1,5.5251847541332119e1,-3.1518158885907861e1,6.0754911261922612e1,-3.7451515155940689e1,6.6324368309031326e1,-4.351039189049111e1,7.1952088887574397e1,-4.9665384454924695e1,7.76312184644419e1,-5.5893877944448357e1,8.335593715303107e1,-6.2178456515541267e1,8.9121271595699543e1},
-                                 {6.6114553959673023e-2,3.8273565970768753e-1,1.0337525249032138,1.7584941997841057,3.0293951178768747,3.4557517943971566,5.7709691251301823,4.8414955273006047,9.0792027689261323,5.4750376797372723,1.282817000215854e1,5.1356690783343605,1.692668455597949e1,3.7792426476352463,2.1307092110234e1,1.4727173366340445,-6.4583181015702867e2,-1.6631162491994367,3.0720288162603049e1,-5.4923706047242247,3.5682548991111097e1,-9.8856446842878279,4.0780289253329046e1,-1.4729668648410846e1,4.5993682690665204e1,-1.9929957297529395e1,5.1306591650777495e1,-2.540994058050568e1,5.6705747397295767e1,-3.110864165271311e1,6.2180139702168194e1,-3.697799893860584e1,6.7720555925596308e1,-4.298034424048008e1,7.3319228547750027e1,-4.9086232099213182e1,7.896956250462268e1,-5.5272658952233292e1,8.4665922014244927e1,-6.1521641783661622e1},
-                                 {6.2279607257793513e-2,3.6862378933813892e-1,9.4276660586381435e-1,1.8325700901537352,2.5330009521746694,4.1318771493566041,4.1895414298930009,7.0685834698970629,5.3971482774287421,1.0501064332829698e1,5.821186387534111,1.4326745808181028e1,5.3067443472800563,1.8469524552152897e1,3.8365141650566545,2.2871746515907509e1,1.4784764043903564,-7.2815265123949332e2,-1.6579955060772655,3.2286232608851861e1,-5.4518416214911656,3.7235928310817485e1,-9.7872694207989712,4.2315720559633251e1,-1.4561706488936474e1,4.7507456348761931e1,-1.9688300415320665e1,5.2796209872828469e1,-2.5095525222763884e1,5.8169595889074841e1,-3.072548755198121e1,6.3617251235193313e1,-3.6531822829587733e1,6.9130438342963636e1,-4.2477628567256447e1,7.4701738522387489e1,-4.8533627978123307e1,8.0324812165648122e1,-5.4676622827203182e1,8.5994209434446928e1},
-                                 {5.9125090375919351e-2,3.4568326684631385e-1,9.3528487093115806e-1,1.6283783931932851,2.765969245898287,3.3165940186264959,5.3092915935783475,4.8779434234469525,8.406669230478167,5.9000199604108928,1.1943468622699281e1,6.129250577577975,1.5834640391077587e1,5.4581054443921812,2.0015753194462243e1,3.8872152876821347,2.4437102855423463e1,1.4835971475125276,-8.1540829452250265e2,-1.6534126041903375,3.385267468387463e1,-5.4152934895781799,3.8791006850727629e1,-9.6978454049466926,4.3854441635285427e1,-1.4407802882596817e1,4.9026298688520717e1,-1.9465147927624515e1,5.4292736869751267e1,-2.4803035937857066e1,5.9642174816365411e1,-3.0366571027964136e1,6.5064847850082727e1,-3.6111154204415965e1,7.0552465206325498e1,-4.2000790270621608e1,7.6097942049909128e1,-4.8006536295740513e1,8.1695187908481947e1,-5.4105160942461483e1},
-                                 {5.605184269283099e-2,3.335709953883431e-1,8.6388700731692677e-1,1.6732178497134428,2.3826700126789032,3.8013269927391386,4.0840704558997101,6.5449846944441352,5.5177475391175086,9.7768529995316039,6.3552401845555698,1.3402439627008061e1,6.404691453613861,1.7350159427779994e1,5.5928861593332263,2.1564789572141366e1,3.9324073560451549,2.6003047301672275e1,1.4881800493994556,-9.0759874000605666e2,-1.649287086409882,3.5419541563948339e1,-5.3821701552617016,4.0347547510347984e1,-9.6162212662788036,4.5396013844372512e1,-1.4266313244234666e1,5.054956264419747e1,-1.9258555719836298e1,5.5795326669112603e1,-2.45304328317596e1,6.11224570691073e1,-3.0029929776961258e1,6.6521742556436706e1,-3.5714237401482821e1,7.1985311667027944e1,-4.1548365440388341e1,7.7506397703695556e1,-4.750383275430118e1,8.3079151487516523e1},
-                                 {5.3472726673142369e-2,3.1506495733214964e-1,8.5394512751422009e-1,1.5126674728610037,2.5446915620714816,3.1642566616397519,4.9160107337773356,4.8211744549190355,7.8268989387154778,6.1093361544577097,1.1172922259944461e1,6.7679287890230759,1.4874965215860763e1,6.6520943200285123,1.88719958690644e1,5.7136081379632689,2.3116178376751924e1,3.972936339278214,2.7569489376695044e1,1.4923055671799111,-1.0047239876901553e3,-1.6455537723760701,3.69867739739496e1,-5.3520140142261079,4.1905355340383853e1,-9.541432148513606,4.6940073212413453e1,-1.4135831797654881e1,5.2076706793434888e1,-1.9066826083749444e1,5.7303266000037356e1,-2.4275892683730404e1,6.2609570572721115e1,-2.9713763773993446e1,6.798692101700457e1,-3.5339412154298157e1,7.3427838820087755e1,-4.1118915617235693e1,7.8925859504804593e1,-4.7024351839185065e1},
-                                 {5.0954881125401706e-2,3.0460420525989162e-1,7.9652097781575578e-1,1.5393616199506437,2.2414380709491772,3.5197472261209052,3.9464506380929721,6.0936064397179644,5.5205629558364258,9.1460882898847186,6.6549633024297935,1.2590170558704544e1,7.1428693114157588,1.6358721746192566e1,6.8752996102911199,2.0399125270944535e1,5.8223185836611382,2.4669557696458312e1,4.0094844711911997,2.9136356256768753e1,1.496038881213723,-1.1067840375747987e3,-1.6421592987917736,3.855432317655474e1,-5.3244451491311248,4.3464268574399213e1,-9.4726639801778973,4.8486315189332268e1,-1.4015151377126847e1,5.3607274642872893e1,-1.8888473317067968e1,5.8815949255178723e1,-2.4037787055578801e1,6.4102770099839008e1,-2.9416428760761433e1,6.9459511257658542e1,-3.4985122424728353e1,7.4879062188316046e1,-4.0711050184273081e1,8.035524488136844e1},
-                                 {4.8807142962687727e-2,2.8936497401957014e-1,7.8562173004276514e-1,1.4102164409432411,2.3561957872718128,3.0113028521880922,4.5769755100490717,4.7123889800785799,7.3219377168591463,6.1791677800898747,1.0495775456311446e1,7.1577633716675798,1.4024967203525862e1,7.4843824982580368,1.7851887984250108e1,7.0775263833551705,2.1930733331790287e1,5.9206938471499949,2.6224636236368456e1,4.0426078055076781,3.0703588666770014e1,1.4994333547980195,-1.2137788896599867e3,-1.6390595587576412,4.0122148730154753e1,-5.2991455849462076,4.502415185680474e1,-9.4092255218902223,5.0034482997613912e1,-1.3903230691976478e1,5.5140878603809531e1,-1.8722194057204038e1,6.0332858915531256e1,-2.3814661289777463e1,6.5601415016407919e1,-2.9136426743235199e1,7.0938759538050882e1,-3.4649918973416837e1,7.633812640628641e1,-4.0323440088061492e1},
-                                 {4.6706694509913946e-2,2.8026536704431197e-1,7.3849206151473591e-1,1.4253357181083299,2.1113159796365222,3.2770060457878219,3.7955406664732216,5.7004705404255136,5.4518831678758503,8.5917799086797953,6.7965096917095948,1.1870732241064285e1,7.6211889532215345,1.5474466516668643e1,7.796299932793818,1.9353016282690969e1,7.2614799267177058,2.3466164638094492e1,6.0101178630022735,2.7781176895988811e1,4.0727639465432717,3.2271137869375153e1,1.5025330948321519,-1.3257085439457195e3,-1.6362177790171569,4.1690216795852307e1,-5.2758472084099616,4.6584891064260414e1,-9.3505263205507862,5.1584358618613538e1,-1.3799167596636314e1,5.6677187464081315e1,-1.8566841879507598e1,6.1853550096335885e1,-2.3605215044641472e1,6.71049515540091e1,-2.8872395099859393e1,7.2424010969026995e1,-3.4332457931556679e1,7.7804284726404363e1},
-                                 {4.4890605098776562e-2,2.675009145238864e-1,7.274216494142539e-1,1.3194543152973563,2.1936994491510371,2.863807033037767,4.2816867669501717,4.5760060545612591,6.8781839158347621,6.1592050033259372,9.8960168588079235,7.3736289005928328,1.326686086820014e1,8.0487001562736587,1.6936406549160359e1,8.0819853839673175,2.0860941461946858e1,7.4294420861920786,2.5004885713746668e1,6.0917420016701625,2.933898472602468e1,4.1003328116382548,3.3838963422975166e1,1.5053748745726362,-1.4425730004319969e3,-1.6336030571745406,4.3258498842812398e1,-5.254322397959339,4.8146389299590746e1,-9.2960591866253572,5.3135755745489184e1,-1.3702177189118559e1,5.821591649744244e1,-1.8421405631013241e1,6.3377638236190701e1,-2.3408284632384792e1,6.8612898569590197e1,-2.8623095289528237e1,7.3914693821959857e1,-3.4031496906480964e1},
-                                 {4.311175327856447e-2,2.595276335319236e-1,6.8808156161175965e-1,1.3270373752404378,1.9924875874778971,3.0655863066312639,3.6417523545397665,5.3549874774016655,5.3407075111174651,8.1008210567553847,6.8315698236346566,1.1229071038844594e1,7.9124117515242004,1.4680904131198456e1,8.4436007084134739,1.8408966707925556e1,8.3443765847787435,2.2374715120043585e1,7.5833456925317351,2.6546457922833752e1,6.1665311194353601,3.089789796004004e1,4.125632375823172,3.540703148867272e1,1.5079895964152526,-1.5643722591188189e3,-1.6311892354775839,4.4826970646741153e1,-5.2343766828273016,4.9708563759754864e1,-9.245386162612797,5.4688514219727584e1,-1.3611573795768844e1,5.9756819584595685e1,-1.8284990982568466e1,6.4904789207976015e1,-2.3222827208168989e1,7.0124836017629313e1,-2.8387401753896892e1,7.541030673482269e1},
-                                 {4.1556087773858114e-2,2.4868213743040911e-1,6.7725009252342883e-1,1.2388163923962015,2.0521703936777017,2.7245005985849957,4.0221905988697324,4.4266013821288394,6.485144834928001,6.0820044527060049,9.3610970286020816,7.4681059635215701,1.2586509028805261e1,8.4151705986632194,1.6110240376030586e1,8.8089591355696828,1.9890665114879563e1,8.586033466987474,2.3893557459802371e1,7.7248353308938865,2.8090517290874693e1,6.2352992877710688,3.2457781242445567e1,4.148930752359418,3.6975313535632811e1,1.5104034181122092,-1.6911063200061857e3,-1.6289540241873713,4.6395611506878355e1,-5.2158429382254707,5.1271343263191318e1,-9.1981272072129605,5.6242495599224052e1,-1.3526756091223906e1,6.1299682884184449e1,-1.8156804726205774e1,6.643471131341273e1,-2.3047906739491161e1,7.1640395550514938e1,-2.8164291355105049e1},
-                                 {4.0030254787867816e-2,2.4164696466576035e-1,6.4393870990297668e-1,1.241422583440949,1.8843495897251089,2.8797932015370553,3.4907677956408452,5.0489881930030026,5.2053365301463721,7.6629388374714195,6.7953029786390146,1.0653221241980769e1,8.0691592129874827,1.3964762466261946e1,8.8843850185455792,1.75527356982546e1,9.147578608982045,2.1380283336930537e1,8.8091859546836236,2.5416821415479125e1,7.8553167774736712,2.9636759267793508e1,6.2987377460587438,3.4018520449901241e1,4.1704555628100406,3.8543785339561567e1,1.5126386294024218,-1.8227751830940972e3,-1.6268783123227985,4.7964403627833641e1,-5.1985767554140026,5.2834666280075802e1,-9.1539510078737078,5.7797579598215499e1,-1.3447194755482537e1,6.2844319709310109e1,-1.8036141400385452e1,6.7967148755548411e1,-2.2882681625471602e1,7.3159252802439923e1},
-                                 {3.8682799481961727e-2,2.3231905888803664e-1,6.3355294917506075e-1,1.1668924891037109,1.9277963845202517,2.5943774986334971,3.7923511357794588,4.2728915623143124,6.1345964654709839,5.9690260418198982,8.8810407707250457,7.4781214223750668,1.1972532978619639e1,8.635825959528504,1.5360926870168698e1,9.3225456107594505,1.9006635554218249e1,9.4619939667238408,2.2876810333853334e1,9.0157781624718405,2.6943965564716543e1,7.9759971980017053,3.1184927076075153e1,6.3574369473981799,3.5580018685231573e1,4.190401277942078,4.0112426199698769e1,1.5147143412669946,-1.9593788483825533e3,-1.6249456206754933,4.9533331627150934e1,-5.1824527190764294,5.4398479350069165e1,-9.1125674734844803,5.935366120532145e1,-1.3372422191462368e1,6.4390566349923108e1,-1.7922371882801812e1,6.9501876280350313e1,-2.2726393810494509e1},
-                                 {3.735960520958506e-2,2.2607105529267358e-1,6.0499826694812033e-1,1.1661852657120082,1.7859988606384182,2.7152335934711458,3.3455810017748785,4.7760699123189138,5.057380852700446,7.2699676150370709,6.7117299450354472,1.0133551913103659e1,8.1294257049175727,1.3315238630621856e1,9.1696416763154191,1.6772614111665507e1,9.7320628439542019,2.0470484045997322e1,9.754483251630659,2.437940013321467e1,9.2075077985586946,2.8474533414154547e1,8.0879178831520739,3.2734802697074779e1,6.4119040813236089,3.7142193145395691e1,4.208935022543909,4.1681218320654055e1,1.5166470329142998,-2.1009173158715541e3,-1.6231416639832852,5.1102382139745448e1,-5.1673613916753995,5.5962735801446753e1,-9.0737215625703746,6.0910648333639029e1,-1.3302023922458576e1,6.5938278643442488e1,-1.781493364380499e1,7.1038694750195288e1},
-                                 {3.6181217455988617e-2,2.1796377064151493e-1,5.9515291798130109e-1,1.1024630267641644,1.8176365545614579,2.4735339893138667,3.5873591822597089,4.120056254835516,5.8200017749328864,5.8344963025138729,8.4478192697140632,7.4296818261720008,1.1415670979614074e1,8.7491590462782713,1.4678219009272311e1,9.6723746479062087,1.8197842551911089e1,1.0115216944686101e1,2.1943062973287892e1,1.0027086357728124e1,2.5887339464139423e1,9.3858605652401704,3.0008137375091185e1,8.1919809784922382,3.4286199823950425e1,6.4625771053361691,3.8704972648832145e1,4.226201205355377,4.3250146319971348e1,1.5184509896065079,-2.2473905855610996e3,-1.6214539976720272,5.2671543497686017e1,-5.1532068533366316,5.7527394706696175e1,-9.0371881800651379,6.2468459891716448e1,-1.3235631364765472e1,6.7487329141789435e1,-1.7713322401072585e1},
-                                 {3.5022820605310712e-2,2.1238132094611205e-1,5.7041431174730075e-1,1.0995464420805187,1.6964607549025889,2.5684642127980456,3.207643541246841,4.5311432501635408,4.9042194383410724,6.9153350484499614,6.5973445725385994,9.66222391714535,8.12068192454915,1.2723450247038662e1,9.3379106379154415,1.6058885851594634e1,1.0145890865241058e1,1.9634954084936207e1,1.0474133468703175e1,2.3423345226029781e1,1.0281626505757321e1,2.7400022719280791e1,9.552139825104101,3.1544446235362969e1,8.2889713860099929,3.5838958298188825e1,6.5098360607360056,4.0268295665716629e1,4.2423252416929502,4.4819196832565861e1,1.520138655917766,-2.3987986574511897e3,-1.6198717307074537,5.4240805469094545e1,-5.13990468169794,5.9092420025172192e1,-9.0027679344912928,6.4027024190009373e1,-1.3172915730646311e1,6.903760475723204e1},
-                                 {3.3983582937731718e-2,2.0527027658246265e-1,5.6114182934645314e-1,1.0444922308538102,1.7193859003969888,2.361615969512356,3.4033920445200151,3.9711143091420179,5.536099249325514,5.6878856961956882,8.0548974432157311,7.3411764385210359,1.0908307824964559e1,8.7836495447864808,1.4053613945047958e1,9.8966832205353744,1.7455073468159616e1,1.0592066974259165e1,2.1082550699825622e1,1.0810774719706053e1,2.4910458729643596e1,1.0519732133908924e1,2.8916932379633324e1,9.7074920028005407,3.3083175268724094e1,8.3795747793597078,3.7392939677685293e1,6.5540122600752583,4.1832108735709992e1,4.2574165690939801,4.6388358190506431e1,1.5217209228823394,-2.5551415315418246e3,-1.6183852905628393,5.5810159043809722e1,-5.1273802827798881,6.0657779894855102e1,-8.970283592102836,6.5586277616668606e1,-1.311358286426307e1},
-                                 {3.2961009667276571e-2,2.0025474305268793e-1,5.3950943290778799e-1,1.0401117729354272,1.614793035664368,2.4367481015607828,3.0775198134135251,4.3101118721187047,4.750524680249454,6.5936915578244331,6.4635241958136759,9.2327917430500013,8.0628477861490099,1.2182026832271059e1,9.4182943736794195,1.5403421122958118e1,1.0426730870546404e1,1.8864955885526944e1,1.1012735599430932e1,2.2539445406179601e1,1.1126940722673865e1,2.6403658256761489e1,1.0742857899710261e1,3.0437623560437952e1,9.8529282512948972,3.4624078355877339e1,8.4643924839046457,3.8948023676676739e1,6.5953957944644858,4.339636518708758e1,4.2715711074327481,4.7957620161914959e1,1.5232073630269539,-2.7164192078330041e3,-1.6169862295936222,5.7379596256326622e1,-5.1155675038643333,6.2223446043811925e1,-8.9395770988356134,6.7146163531006505e1},
-                                 {3.2037665272720474e-2,1.9396728188771837e-1,5.3080789692006062e-1,9.9210685657125904e-1,1.6312122401824704,2.2580598975962434,3.2373729202440507,3.8277527817454925,5.2786062609840749,5.5355083363227689,7.6969020012950291,7.2256631032565228,1.044412451326394e1,8.7604083668135054,1.3479997049331714e1,1.0024875963281376e1,1.6770560783133749e1,1.0929446543770037e1,2.0286982748888806e1,1.1409652402364077e1,2.4004623866747465e1,1.1424275735905878e1,2.79023031733304e1,1.0952304144846253e1,3.1961711700292769e1,9.9893428997396726,3.6166941655466103e1,8.5439538196460148,4.0504105283782691e1,6.6342417053785915,4.4961024092337002e1,4.2848732790714396,4.9526973736630135e1,1.524606423996171,-2.8826316863247283e3,-1.6156670645527594,5.8949110038662e1,-5.1044074744201579,6.3789393298403712e1,-8.910507067375886},
-                                 {3.1128356132501111e-2,1.8943807142894153e-1,5.1173635683069347e-1,9.8677293447276439e-1,1.5401293027138755,2.3178823423530168,2.9552678710327483,4.1096415524950106,4.59922091482317,6.3006385996989442,6.3181428321465928,8.8399069880265971,7.9704190602459015,1.1684801247280404e1,9.4327895027285512,1.4799365392646035e1,1.0604028318992889e1,1.815307075777121e1,1.1406284840404876e1,2.1719829209591252e1,1.178447764954874e1,2.5477214107401437e1,1.1704277753432112e1,2.9405839710931581e1,1.1149234557102933e1,3.3488862672078082e1,1.0117529156102364e1,3.7711578480591764e1,8.6187263836661842,4.206109241210027e1,6.6707750878838282,4.652604941081302e1,4.2973976779894916,5.1096410949147035e1,1.5259255890370338,-3.0537789670169972e3,-1.6144211428138869,6.0518694097406119e1,-5.0938476325799136,6.5355599170179665e1},
-                                 {3.0302554177447102e-2,1.8383919072992803e-1,5.0358535666278231e-1,9.4457199088821897e-1,1.5516408911977371,2.1622227223184945,3.0867974354552078,3.6908340050205412,5.0440015382730844,5.3815647793562424,7.3693742565590681,7.0924484198916024,1.0017833716804187e1,8.6951277686926482,1.2951369714063804e1,1.00795677809373e1,1.6137709432826815e1,1.1156632440082764e1,1.9549274285292849e1,1.1858709670638143e1,2.3162356362651063e1,1.2138767379118544e1,2.6956462387793776e1,1.1968309396807918e1,3.0913786726512678e1,1.1334691981318735e1,3.5018784777514798e1,1.0238192481922686e1,3.9257825121204762e1,8.6891246526699763,4.3618903970177688e1,6.7051953334576733,4.8091409280495929e1,4.3092104569050463,5.2665924731482414e1,1.5271715107759062,-3.2298610499098107e3,-1.6132425302576763,6.208834281044628e1,-5.0838409034711926},
-                                 {2.9488682513340427e-2,1.7972995453266484e-1,4.8664905734466043e-1,9.3863785946675565e-1,1.4716930255715584,2.210073862850015,2.840663432047065,3.9269908168366196,4.4520946956007948,6.0325263188607252,6.1666573897615926,8.4790944579030627,7.8539816339744831,1.1226573747387055e1,9.3980554745418141,1.4240898774055619e1,1.0700786773152365e1,1.7492959093852257e1,1.1683724122465557e1,2.0957729939079278e1,1.2288159493790791e1,2.4613579730879354e1,1.2473970830430061e1,2.844171381876989e1,1.2217609207139075e1,3.2425724174551794e1,1.1509612449996564e1,3.6551222219650479e1,1.0351961999506326e1,4.0805537414724142e1,8.7555172103630798,4.5177468268470613e1,6.7376796758461301,4.9657075429452752e1,4.3203704863492217,5.4235508790226533e1,1.5283501233321168,-3.410877935003169e3,-1.6121259168369295,6.3658051139785388e1},
-                                 {2.8745750066621694e-2,1.747125859698411e-1,4.7901884769376193e-1,9.0126837657264248e-1,1.4794715304515164,2.0734511162335421,2.9496064382183444,3.5607099054249531,4.829363174941828,5.2288288538042633,7.0685834705770634,6.9481833185541976,9.6249774926157881,8.5995082775118626,1.2462638781457623e1,1.0078174517023976e1,1.5550883635269476e1,1.1296822898182475e1,1.8863334836686083e1,1.218642766390489e1,2.2377191740188315e1,1.2696024926753403e1,2.6072643948849718e1,1.2791431872290218e1,2.9932396671702752e1,1.2453302742770419e1,3.394128370743742e1,1.1674837564016123e1,3.8085949744452381e1,1.0459400238503149e1,4.2354587913071089e1,8.8182328444822414,4.6736721695129846e1,6.7683861691133527,5.1223022684044539e1,4.3309303281894661,5.5805157503266693e1,1.5294667367528636,-3.5968296222970719e3,-1.6110665366519227},
-                                 {2.8013042984240373e-2,1.709682939439292e-1,4.6388093725431771e-1,8.9498044550164767e-1,1.4087976145571173,2.1118483591287114,2.7333326431326747,3.7598848246375474,4.310188144495973,5.7863007548256218,6.0128447241484615,8.1465809497500015,7.7212898382359104,1.0802929455032826e1,9.3267418161148549,1.3723047909544505e1,1.0734989248903622e1,1.6879171055471476e1,1.1868284782924174e1,2.0247298415720658e1,1.2665908579021005e1,2.3806577116752162e1,1.3083635022964993e1,2.7538802268967671e1,1.3092392897365934e1,3.1428009584565585e1,1.2676413141562262e1,3.5460140959362405e1,1.1831125378993216e1,3.9622768214297356e1,1.0561011481235553e1,4.3904863528513694e1,8.877565710865482,4.8296607609467746e1,6.7974562005730801,5.2789228555820492e1,4.340937057298187,5.7374865832605801e1,1.5305261169378705,-3.7877161117915195e3}};
-
-        IdXdX_ = new double[][] {{1.1619445796696598,-1.8449688174154948,9.8537887178165102e-1,-1.6483471045582467,1.1479946852166202,-1.5616026000328643,1.2145646347398954,-1.5161277504066515,1.2510053618134522,-1.4884387964557679,1.2740334207858081,-1.4698662607425297,1.2899118639470037,-1.456560724892459,1.3015257907193541,-1.4465658094462522,1.3103909307128617,-1.4387850919303282,1.3173803942966154,-1.4325573273653657,1.3230327579993924,-1.4274603657979364,1.327698341709847,-1.4232121791824487,1.3316148795737582,-1.4196172379510992,1.3349493968986766,-1.4165357394604025,1.337822685190573,-1.4138650898821198,1.3403242672165461,-1.4115283052778454,1.342521901734803,-1.4094664943398113,1.3444678193998143,-1.4076338408050358,1.3462029304950876,-1.4059941671858752,1.347759734605913,-1.4045185276567751},
-                                 {-1.8449688174154948,8.1043497569922367,-5.5881111099717132,3.3956178474750868,-5.7098834077113862,3.7848806512033603,-5.5657219526874164,4.0045458442905896,-5.4378972236997278,4.1450215767265638,-5.3406117259873912,4.2425022999045674,-5.2666304660628951,4.3140854341057492,-5.2091743719354215,4.3688738548701753,-5.1635140699193215,4.412154620873495,-5.1264616770579478,4.4472074148232909,-5.0958433675437836,4.4761742049517423,-5.0701433842312041,4.500513043167322,-5.0482793247355204,4.5212507766797104,-5.0294605476420431,4.5391314455458736,-5.0130974690996706,4.5547073549189604,-4.9987421808531489,4.5683970892655219,-4.9860486867940966,4.580523667158946,-4.9747456920993523,4.5913403387826924,-4.964617600941562,4.6010484556789691,-4.9554909961814751,4.6098101162677048},
-                                 {9.8537887178165102e-1,-5.5881111099717132,1.9324722700574043e1,-8.9120674121971792,5.0405065936930903,-9.4636726605241731,5.6655755607711601,-9.4202733246362136,6.0627806833350067,-9.2735707367449703,6.3376491122641466,-9.125064260062506,6.5391781870984747,-8.9948675315896786,6.6932706777043293,-8.8845150639311846,6.8149135215862894,-8.7914326523533175,6.9133811755583451,-8.71255305380643,6.9947209189752831,-8.645187024305259,7.063044316446738,-8.5871581080042391,7.1212443970752493,-8.5367476081012628,7.1714159539660744,-8.4926047563924799,7.2151130973144424,-8.4536643134376235,7.2535131285082021,-8.4190803582368039,7.28752421714305,-8.3881754793972912,7.3178581495694426,-8.3604024033201967,7.3450806898267209,-8.3353151038341636,7.3696471987957412,-8.3125469837438209},
-                                 {-1.6483471045582467,3.3956178474750868,-8.9120674121971792,3.5725462208826603e1,-1.2179910193630831e1,6.7201243585561336,-1.311423764702354e1,7.4974385206800553,-1.3273039108968163e1,8.0356363236751235,-1.3194978911415874e1,8.4303271637179609,-1.3051426119046383e1,8.7321539432726337,-1.2898485223085352e1,8.9704401894081692,-1.2754403870805574e1,9.1633395808677339,-1.2624288064214754e1,9.3226918213080263,-1.2508577143882472e1,9.4565480510708254,-1.240612611196471e1,9.5705739529131392,-1.2315363986318825e1,9.6688722957810313,-1.223472606341767e1,9.7544870875805201,-1.216280216012518e1,9.8297244053094609,-1.2098372697785633e1,9.8963632289409504,-1.2040401901875279e1,9.9557978980860419,-1.1988016527592728e1,1.0009136736548704e1,-1.1940481661909688e1,1.0057271811554713e1,-1.1897178047594111e1,1.0100929225519821e1},
-                                 {1.1479946852166202,-5.7098834077113862,5.0405065936930903,-1.2179910193630831e1,5.7033311588848095e1,-1.5396903649993256e1,8.3537416585845118,-1.6631947478737975e1,9.2435043711534757,-1.7015760519713748e1,9.8959924599902664,-1.7057287064649915e1,1.0394952926564917e1,-1.696458370862733e1,1.0788868722840678e1,-1.6823482948120877e1,1.1107752775811433e1,-1.6670148845862977e1,1.1371178647790021e1,-1.6519817906367211e1,1.1592456331616826e1,-1.6378585964637485e1,1.1780952106416495e1,-1.624846387332483e1,1.194344844453727e1,-1.6129635481166205e1,1.2084977500010606e1,-1.6021497483413417e1,1.2209351509168056e1,-1.5923146754326726e1,1.231951133912685e1,-1.5833608648590897e1,1.2417761993291319e1,-1.5751940929352676e1,1.2505935653505837e1,-1.5677277196402183e1,1.258550700249057e1,-1.5608840919259866e1,1.2657676363236791e1,-1.5545945508245425e1},
-                                 {-1.5616026000328643,3.7848806512033603,-9.4636726605241731,6.7201243585561336,-1.5396903649993256e1,8.327827240237491e1,-1.8589562613464952e1,9.9685174689193837,-2.0060219161023374e1,1.0943216013297442e1,-2.0660723997601314e1,1.1688574042040765e1,-2.0845689351975981e1,1.2277014662699306e1,-2.0835095598747371e1,1.2753371381498182e1,-2.073451240909693e1,1.3146883465343169e1,-2.0595354633326269e1,1.3477433621960634e1,-2.0443017276339525e1,1.3759013388578868e1,-2.0290063466887865e1,1.4001754568911951e1,-2.014256764773754e1,1.4213174308068509e1,-2.0003261213284769e1,1.4398967413162718e1,-1.987313811333327e1,1.4563527021228627e1,-1.975229460401364e1,1.4710296401901727e1,-1.9640376584212129e1,1.484201251313899e1,-1.9536820512296016e1,1.4960878272346756e1,-1.9440983337018267e1,1.5068686751849758e1,-1.9352211730933315e1,1.5166912255571062e1},
-                                 {1.2145646347398954,-5.5657219526874164,5.6655755607711601,-1.311423764702354e1,8.3537416585845118,-1.8589562613464952e1,1.144578720475059e2,-2.176788815481888e1,1.1571532808626095e1,-2.3425611600553547e1,1.2612570417713791e1,-2.4223569676701551e1,1.3434442194031171e1,-2.4558998207870634e1,1.4099766960707369e1,-2.4648991519710634e1,1.4649383070621026e1,-2.4609893625644209e1,1.5111060602172861e1,-2.4504422651650918e1,1.5504341461973872e1,-2.436680283384418e1,1.5843376685702136e1,-2.421589286222443e1,1.6138665428801036e1,-2.4062104550290975e1,1.6398161596881476e1,-2.3911119991392053e1,1.6628001059971749e1,-2.3765933197526087e1,1.6832993013491499e1,-2.3627995736998049e1,1.7016960151231193e1,-2.3497872009164733e1,1.7182979275507157e1,-2.3375620066783956e1,1.7333554760296e1,-2.3261015627798273e1,1.7470745757532864e1,-2.3153684838883883e1},
-                                 {-1.5161277504066515,4.0045458442905896,-9.4202733246362136,7.4974385206800553,-1.6631947478737975e1,9.9685174689193837,-2.176788815481888e1,1.505722843737011e2,-2.4937155695283932e1,1.3166969217168932e1,-2.6745991512018467e1,1.4261177182234447e1,-2.7719935180644191e1,1.5146964583747212e1,-2.8203603843373066e1,1.5878702002668866e1,-2.8403440431863932e1,1.6493361434666264e1,-2.8439888328010279e1,1.7016960210119192e1,-2.8383119359482362e1,1.7468338464845362e1,-2.8274333884641907e1,1.7861474364137813e1,-2.8137950959124586e1,1.8206957427161661e1,-2.7988546286692166e1,1.8512956711560324e1,-2.7834836466877639e1,1.8785874992244413e1,-2.7682001159398843e1,1.9030801654399786e1,-2.7533059213705345e1,1.9251833032444622e1,-2.7389697686308819e1,1.9452303352068316e1,-2.7252778909583868e1,1.9634954087726707e1,-2.712265480998828e1,1.9802060079925779e1},
-                                 {1.2510053618134522,-5.4378972236997278,6.0627806833350067,-1.3273039108968163e1,9.2435043711534757,-2.0060219161023374e1,1.1571532808626095e1,-2.4937155695283932e1,1.9162149827063292e2,-2.8100337981424862e1,1.4757218122394035e1,-3.0033318522009906e1,1.5894962830413282e1,-3.1162870938955028e1,1.683483889348943e1,-3.1787891105984527e1,1.7624334786457145e1,-3.210068583281202e1,1.8296868324905111e1,-3.2221285094500786e1,1.88766386166678e1,-3.2224100511219704e1,1.9381599838524131e1,-3.2155420723259128e1,1.9825353639548516e1,-3.2044245066500743e1,2.0218392720455277e1,-3.190887408552965e1,2.0568941089912294e1,-3.1760918408083724e1,2.0883535780450391e1,-3.160775699372435e1,2.1167438306057764e1,-3.1454062235632732e1,2.1424931294399203e1,-3.1302758470206448e1,2.1659536017110193e1,-3.1155632250984073e1,2.187417438044145e1,-3.1013725699879251e1},
-                                 {-1.4884387964557679,4.1450215767265638,-9.2735707367449703,8.0356363236751235,-1.7015760519713748e1,1.0943216013297442e1,-2.3425611600553547e1,1.3166969217168932e1,-2.8100337981424862e1,2.3760551440422737e2,-3.1259238623004003e1,1.6343761781195908e1,-3.329578420894244e1,1.7517793818399407e1,-3.456274646512202e1,1.8503980729654242e1,-3.532016788884661e1,1.934406587627964e1,-3.5745150169520231e1,2.0068277209577734e1,-3.5954466363567048e1,2.0699041919224619e1,-3.6024297989199213e1,2.1253350300429543e1,-3.6004335212435275e1,2.1744309152353953e1,-3.5927134661815343e1,2.2182191371637918e1,-3.5814156250929236e1,2.2575162594072267e1,-3.5679626511623211e1,2.2929795160659377e1,-3.5533015905305026e1,2.3251438651284905e1,-3.5380638545432107e1,2.3544491609410394e1,-3.522669498846558e1,2.3812603890248613e1,-3.5073959062913601e1,2.4058829454283716e1},
-                                 {1.2740334207858081,-5.3406117259873912,6.3376491122641466,-1.3194978911415874e1,9.8959924599902664,-2.0660723997601314e1,1.2612570417713791e1,-2.6745991512018467e1,1.4757218122394035e1,-3.1259238623004003e1,2.8852433273636672e2,-3.4415013955716484e1,1.792756677320157e1,-3.6539139170982639e1,1.9132299260361189e1,-3.7927672792197255e1,2.0158552860533986e1,-3.8807909250226638e1,2.1043254239993245e1,-3.9341963047248096e1,2.1813800602748065e1,-3.964168616512232e1,2.249094740638108e1,-3.9783232554402121e1,2.3090706003884603e1,-3.9818292686327183e1,2.3625625834090445e1,-3.9782025841331541e1,2.4105682091967481e1,-3.9698452807727974e1,2.4538903592978463e1,-3.9584067435231126e1,2.4931825419476795e1,-3.9450247058506202e1,2.5289820861397497e1,-3.9304865694839119e1,2.5617348606133458e1,-3.9153380252454119e1,2.5918139392115463e1,-3.8999567586840988e1},
-                                 {-1.4698662607425297,4.2425022999045674,-9.125064260062506,8.4303271637179609,-1.7057287064649915e1,1.1688574042040765e1,-2.4223569676701551e1,1.4261177182234447e1,-3.0033318522009906e1,1.6343761781195908e1,-3.4415013955716484e1,3.4437795326915849e2,-3.756843901173237e1,1.9509290378792669e1,-3.9767518101134457e1,2.0740329277865982e1,-4.1263984594616997e1,2.1801569708101608e1,-4.2257566093860611e1,2.2725875889274575e1,-4.2896244305305712e1,2.3538144957578092e1,-4.3286078887950216e1,2.4257583275218351e1,-4.3501944416875469e1,2.4899244477438041e1,-4.3596421479804206e1,2.5475094274301866e1,-4.3606436938657703e1,2.5994763603178977e1,-4.3557997342454637e1,2.6466091599137286e1,-4.3469491954803672e1,2.6895523773232635e1,-4.3353978619539159e1,2.7288408528256039e1,-4.3220763936174239e1,2.7649221058379573e1,-4.3076498834836834e1,2.7981734566532635e1},
-                                 {1.2899118639470037,-5.2666304660628951,6.5391781870984747,-1.3051426119046383e1,1.0394952926564917e1,-2.0845689351975981e1,1.3434442194031171e1,-2.7719935180644191e1,1.5894962830413282e1,-3.329578420894244e1,1.792756677320157e1,-3.756843901173237e1,4.0516637600248926e2,-4.0720052489291632e1,2.1089395128264813e1,-4.2983960014437902e1,2.2343223613892924e1,-4.4576652517152471e1,2.3435267778794827e1,-4.5674599623486275e1,2.439494295401165e1,-4.6412777481288173e1,2.5244940966346551e1,-4.6891097123093949e1,2.6003047301672274e1,-4.7182319921396615e1,2.6683399141067153e1,-4.7339067382859897e1,2.7297375191252775e1,-4.7399333874789987e1,2.785423719025834e1,-4.7390590094421564e1,2.8361600344907854e1,-4.7332755956021424e1,2.8825783656608474e1,-4.7240327230118316e1,2.9252074453068227e1,-4.7123889803846897e1,2.9644930677256626e1,-4.6991198008108325e1},
-                                 {-1.456560724892459,4.3140854341057492,-8.9948675315896786,8.7321539432726337,-1.696458370862733e1,1.2277014662699306e1,-2.4558998207870634e1,1.5146964583747212e1,-3.1162870938955028e1,1.7517793818399407e1,-3.6539139170982639e1,1.9509290378792669e1,-4.0720052489291632e1,4.70889600936365e2,-4.3870240342230972e1,2.2668215957367732e1,-4.6190743471097455e1,2.3941976271309311e1,-4.786960626785439e1,2.5061341395682214e1,-4.9063595143490721e1,2.6052779077269642e1,-4.9895883321720245e1,2.6937034306793565e1,-5.0460200979735867e1,2.7730596692263751e1,-5.0826671422125428e1,2.8446738357200261e1,-5.1047326782990712e1,2.9096262192840352e1,-5.116065986974048e1,2.9688050576423546e1,-5.1195150368248689e1,3.0229473991191148e1,-5.1171909190275714e1,3.0726699576181804e1,-5.1106628592154857e1,3.1184927076075153e1,-5.1011009100974071e1,3.1608571368429382e1},
-                                 {1.3015257907193541,-5.2091743719354215,6.6932706777043293,-1.2898485223085352e1,1.0788868722840678e1,-2.0835095598747371e1,1.4099766960707369e1,-2.8203603843373066e1,1.683483889348943e1,-3.456274646512202e1,1.9132299260361189e1,-3.9767518101134457e1,2.1089395128264813e1,-4.3870240342230972e1,5.4154762807078541e2,-4.7019286274870545e1,2.4246001366818001e1,-4.9389607642108656e1,2.5537340282589758e1,-5.1145979636385228e1,2.6681097607987601e1,-5.2428393087343121e1,2.7701205492801893e1,-5.3349393409845819e1,2.8616686927891642e1,-5.3996694185465475e1,2.9442853101021415e1,-5.4437478495597581e1,3.0192166606883303e1,-5.4722735153367421e1,3.087487446777969e1,-5.4891004114967443e1,3.1499479532004043e1,-5.4971387850731421e1,3.2073096427720287e1,-5.4985882979780553e1,3.2601723762988197e1,-5.4951148951593816e1,3.3090454695594378e1,-5.4879835293166856e1},
-                                 {-1.4465658094462522,4.3688738548701753,-8.8845150639311846,8.9704401894081692,-1.6823482948120877e1,1.2753371381498182e1,-2.4648991519710634e1,1.5878702002668866e1,-3.1787891105984527e1,1.8503980729654242e1,-3.7927672792197255e1,2.0740329277865982e1,-4.2983960014437902e1,2.2668215957367732e1,-4.7019286274870545e1,6.1714045740575049e2,-5.0167403467275839e1,2.5822939614734285e1,-5.2581901418323929e1,2.7129896558500428e1,-5.4408294268605064e1,2.8295560859697259e1,-5.5772212513996965e1,2.9341669847950825e1,-5.6776671514609112e1,3.0285719422716238e1,-5.7503645266211478e1,3.1141950432387194e1,-5.8017231741401245e1,3.1922072018976287e1,-5.8367060778548003e1,3.263580027904716e1,-5.8591369351177169e1,3.3291265007683676e1,-5.8719562093923171e1,3.3895320737995759e1,-5.8774253911579095e1,3.4453787356586175e1,-5.8772860647665771e1,3.4971638221097289e1},
-                                 {1.3103909307128617,-5.1635140699193215,6.8149135215862894,-1.2754403870805574e1,1.1107752775811433e1,-2.073451240909693e1,1.4649383070621026e1,-2.8403440431863932e1,1.7624334786457145e1,-3.532016788884661e1,2.0158552860533986e1,-4.1263984594616997e1,2.2343223613892924e1,-4.6190743471097455e1,2.4246001366818001e1,-5.0167403467275839e1,6.9766808894126026e2,-5.3314755188621944e1,2.7399175928808125e1,-5.5768686140276743e1,2.8720100407479663e1,-5.7658597367892726e1,2.9905545452441301e1,-5.9097758710949294e1,3.0975337322284729e1,-6.0180655369010331e1,3.1945613669352025e1,-6.0983857393213633e1,3.2829643230013339e1,-6.156834162818579e1,3.3638436232320498e1,-6.1982169649472646e1,3.4381205316071971e1,-6.2263009654777992e1,3.5065718001097839e1,-6.2440307103224477e1,3.5698569351404773e1,-6.2537065557383953e1,3.6285395148962111e1,-6.257126803313521e1},
-                                 {-1.4387850919303282,4.412154620873495,-8.7914326523533175,9.1633395808677339,-1.6670148845862977e1,1.3146883465343169e1,-2.4609893625644209e1,1.6493361434666264e1,-3.210068583281202e1,1.934406587627964e1,-3.8807909250226638e1,2.1801569708101608e1,-4.4576652517152471e1,2.3941976271309311e1,-4.9389607642108656e1,2.5822939614734285e1,-5.3314755188621944e1,7.8313052267731471e2,-5.6461468585333909e1,2.8974824136149106e1,-5.8950807777099595e1,3.0308313741363069e1,-6.0898565284971376e1,3.1511706799726889e1,-6.240731352401346e1,3.2603156317777796e1,-6.3563904904808855e1,3.3597588100890844e1,-6.4439865404545222e1,3.4507387391824058e1,-6.5093088382507483e1,3.5342917352885173e1,-6.5569938412080546e1,3.6112915552294436e1,-6.5907317981591419e1,3.682480068005017e1,-6.6134503877904146e1,3.7484912343969123e1,-6.6274694336003857e1,3.8098700382349904e1},
-                                 {1.3173803942966154,-5.1264616770579478,6.9133811755583451,-1.2624288064214754e1,1.1371178647790021e1,-2.0595354633326269e1,1.5111060602172861e1,-2.8439888328010279e1,1.8296868324905111e1,-3.5745150169520231e1,2.1043254239993245e1,-4.2257566093860611e1,2.3435267778794827e1,-4.786960626785439e1,2.5537340282589758e1,-5.2581901418323929e1,2.7399175928808125e1,-5.6461468585333909e1,8.7352775861391383e2,-5.960764414081063e1,3.054997471471613e1,-6.2128948562602374e1,3.1894827855042717e1,-6.4129581954413448e1,3.3114578377664506e1,-6.570280978394291e1,3.4225906631608803e1,-6.6928650046094798e1,3.524265375755784e1,-6.7873947343041833e1,3.6176401118123282e1,-6.859359756011435e1,3.7036913391585552e1,-6.9132199690842107e1,3.7832481342522368e1,-6.9525748931816051e1,3.8570189806118325e1,-6.9803188213876732e1,3.9256129254725091e1,-6.9987748874335349e1},
-                                 {-1.4325573273653657,4.4472074148232909,-8.71255305380643,9.3226918213080263,-1.6519817906367211e1,1.3477433621960634e1,-2.4504422651650918e1,1.7016960210119192e1,-3.2221285094500786e1,2.0068277209577734e1,-3.9341963047248096e1,2.2725875889274575e1,-4.5674599623486275e1,2.5061341395682214e1,-5.1145979636385228e1,2.7129896558500428e1,-5.5768686140276743e1,2.8974824136149106e1,-5.960764414081063e1,9.6885979675105763e2,-6.2753362312180879e1,3.2124700488232215e1,-6.5303664550508646e1,3.3479879849012157e1,-6.735279874667113e1,3.4714598822167215e1,-6.8985892075894854e1,3.5844235329521843e1,-7.0276834907472808e1,3.6881656611786297e1,-7.1288143102729093e1,3.7837711518971186e1,-7.2071831464707021e1,3.8721611338821366e1,-7.2670709147365045e1,3.9541227535409715e1,-7.3119766415639111e1,4.0303326805921689e1,-7.3447484408905858e1,4.1013758329280309e1},
-                                 {1.3230327579993924,-5.0958433675437836,6.9947209189752831,-1.2508577143882472e1,1.1592456331616826e1,-2.0443017276339525e1,1.5504341461973872e1,-2.8383119359482362e1,1.88766386166678e1,-3.5954466363567048e1,2.1813800602748065e1,-4.2896244305305712e1,2.439494295401165e1,-4.9063595143490721e1,2.6681097607987601e1,-5.4408294268605064e1,2.8720100407479663e1,-5.8950807777099595e1,3.054997471471613e1,-6.2753362312180879e1,1.0691266370887461e3,-6.5898688279804484e1,3.3699060731820747e1,-6.8475413345134033e1,3.5063664672566081e1,-7.0569180518026121e1,3.6312132107716067e1,-7.2257966176064432e1,3.7458683833874218e1,-7.3610157197149456e1,3.8515309934451337e1,-7.4684275904348082e1,3.9492190668947165e1,-7.5529590121264627e1,4.0398025531843295e1,-7.6187127048139502e1,4.1240293035939698e1,-7.6690808892381552e1,4.2025457658402445e1,-7.7068557977611766e1},
-                                 {-1.4274603657979364,4.4761742049517423,-8.645187024305259,9.4565480510708254,-1.6378585964637485e1,1.3759013388578868e1,-2.436680283384418e1,1.7468338464845362e1,-3.2224100511219704e1,2.0699041919224619e1,-3.964168616512232e1,2.3538144957578092e1,-4.6412777481288173e1,2.6052779077269642e1,-5.2428393087343121e1,2.8295560859697259e1,-5.7658597367892726e1,3.0308313741363069e1,-6.2128948562602374e1,3.2124700488232215e1,-6.5898688279804484e1,1.1743282796269792e3,-6.9043675406978574e1,3.52731041828054e1,-7.1644574863818809e1,3.6646344092140513e1,-7.3779541339951623e1,3.7907482784387045e1,-7.5520239250182259e1,3.9069708638026007e1,-7.6930102617420725e1,4.0144219332899763e1,-7.8063974186089478e1,4.1140583795419065e1,-7.8968517788086433e1,4.2067027944779117e1,-7.9683009431299099e1,4.2930662321301199e1,-8.0240266978933957e1,4.3737664935428391e1},
-                                 {1.327698341709847,-5.0701433842312041,7.063044316446738,-1.240612611196471e1,1.1780952106416495e1,-2.0290063466887865e1,1.5843376685702136e1,-2.8274333884641907e1,1.9381599838524131e1,-3.6024297989199213e1,2.249094740638108e1,-4.3286078887950216e1,2.5244940966346551e1,-4.9895883321720245e1,2.7701205492801893e1,-5.5772212513996965e1,2.9905545452441301e1,-6.0898565284971376e1,3.1894827855042717e1,-6.5303664550508646e1,3.3699060731820747e1,-6.9043675406978574e1,1.2844647243657571e3,-7.2188367800602499e1,3.6846871282795181e1,-7.4811467081593519e1,3.8228053463324779e1,-7.6984572451829091e1,3.9500907629695194e1,-7.8773752588922421e1,4.0677697330679162e1,-8.0237974530874448e1,4.1768902326137023e1,-8.1428692605480609e1,4.2783531532439947e1,-8.239011245920246e1,4.3729372317976571e1,-8.3159805536200409e1,4.4613190756920629e1,-8.376946972873534e1},
-                                 {-1.4232121791824487,4.500513043167322,-8.5871581080042391,9.5705739529131392,-1.624846387332483e1,1.4001754568911951e1,-2.421589286222443e1,1.7861474364137813e1,-3.2155420723259128e1,2.1253350300429543e1,-3.9783232554402121e1,2.4257583275218351e1,-4.6891097123093949e1,2.6937034306793565e1,-5.3349393409845819e1,2.9341669847950825e1,-5.9097758710949294e1,3.1511706799726889e1,-6.4129581954413448e1,3.3479879849012157e1,-6.8475413345134033e1,3.52731041828054e1,-7.2188367800602499e1,1.3995359713050796e3,-7.5332802233932777e1,3.842039587068742e1,-7.7976358111719559e1,3.9808906909458899e1,-8.0184864306758321e1,4.1092624662285361e1,-8.2019408337852379e1,4.2282981123997171e1,-8.3534919362160681e1,4.3389803798922188e1,-8.4779731504206394e1,4.4421587648428559e1,-8.5795736756168059e1,4.538571354059025e1,-8.6618859231650359e1,4.6288625090392469e1},
-                                 {1.3316148795737582,-5.0482793247355204,7.1212443970752493,-1.2315363986318825e1,1.194344844453727e1,-2.014256764773754e1,1.6138665428801036e1,-2.8137950959124586e1,1.9825353639548516e1,-3.6004335212435275e1,2.3090706003884603e1,-4.3501944416875469e1,2.6003047301672274e1,-5.0460200979735867e1,2.8616686927891642e1,-5.6776671514609112e1,3.0975337322284729e1,-6.240731352401346e1,3.3114578377664506e1,-6.735279874667113e1,3.5063664672566081e1,-7.1644574863818809e1,3.6846871282795181e1,-7.5332802233932777e1,1.5195420204449468e3,-7.8477009609365186e1,3.9993706477317122e1,-8.1139475575759975e1,4.138900132771836e1,-8.3380924094273543e1,4.2682820188999509e1,-8.5257991398959927e1,4.3885844744225839e1,-8.6821948264244831e1,4.5007308312657164e1,-8.8118254570052867e1,4.6055233286437255e1,-8.9186629220089009e1,4.7036623341247182e1,-9.0061412910315868e1},
-                                 {-1.4196172379510992,4.5212507766797104,-8.5367476081012628,9.6688722957810313,-1.6129635481166205e1,1.4213174308068509e1,-2.4062104550290975e1,1.8206957427161661e1,-3.2044245066500743e1,2.1744309152353953e1,-3.9818292686327183e1,2.4899244477438041e1,-4.7182319921396615e1,2.7730596692263751e1,-5.3996694185465475e1,3.0285719422716238e1,-6.0180655369010331e1,3.2603156317777796e1,-6.570280978394291e1,3.4714598822167215e1,-7.0569180518026121e1,3.6646344092140513e1,-7.4811467081593519e1,3.842039587068742e1,-7.8477009609365186e1,1.6444828717853587e3,-8.1621016084651936e1,4.156682732697816e1,-8.4301013944481805e1,4.2968419521144035e1,-8.6573189771875896e1,4.4271654368350902e1,-8.8490187445899435e1,4.5486534310662387e1,-9.00999555662794e1,4.6621749994461644e1,-9.1445304647858463e1,4.7684888491987933e1,-9.2563915409310147e1,4.8682603081974142e1},
-                                 {1.3349493968986766,-5.0294605476420431,7.1714159539660744,-1.223472606341767e1,1.2084977500010606e1,-2.0003261213284769e1,1.6398161596881476e1,-2.7988546286692166e1,2.0218392720455277e1,-3.5927134661815343e1,2.3625625834090445e1,-4.3596421479804206e1,2.6683399141067153e1,-5.0826671422125428e1,2.9442853101021415e1,-5.7503645266211478e1,3.1945613669352025e1,-6.3563904904808855e1,3.4225906631608803e1,-6.8985892075894854e1,3.6312132107716067e1,-7.3779541339951623e1,3.8228053463324779e1,-7.7976358111719559e1,3.9993706477317122e1,-8.1621016084651936e1,1.7743585253263152e3,-8.4764843949531942e1,4.3139779120430751e1,-8.7461140342673429e1,4.4547232671297375e1,-8.9762041380865526e1,4.5859265642444227e1,-9.1716597804034166e1,4.7085263664663417e1,-9.3369734476231885e1,4.8233420542614722e1,-9.4761817770126084e1,4.93109216126921e1,-9.5928618461691783e1},
-                                 {-1.4165357394604025,4.5391314455458736,-8.4926047563924799,9.7544870875805201,-1.6021497483413417e1,1.4398967413162718e1,-2.3911119991392053e1,1.8512956711560324e1,-3.190887408552965e1,2.2182191371637918e1,-3.9782025841331541e1,2.5475094274301866e1,-4.7339067382859897e1,2.8446738357200261e1,-5.4437478495597581e1,3.1141950432387194e1,-6.0983857393213633e1,3.3597588100890844e1,-6.6928650046094798e1,3.5844235329521843e1,-7.2257966176064432e1,3.7907482784387045e1,-7.6984572451829091e1,3.9808906909458899e1,-8.1139475575759975e1,4.156682732697816e1,-8.4764843949531942e1,1.9091689810678165e3,-8.7908512314986308e1,4.4712579653065259e1,-9.0619999179074691e1,4.6125502308002684e1,-9.2947810233794572e1,4.7445774297042574e1,-9.4937751793365328e1,4.8682219493127549e1,-9.6631990455642e1,4.9842575754068835e1,-9.8068635537735437e1,5.0933657014356909e1},
-                                 {1.337822685190573,-5.0130974690996706,7.2151130973144424,-1.216280216012518e1,1.2209351509168056e1,-1.987313811333327e1,1.6628001059971749e1,-2.7834836466877639e1,2.0568941089912294e1,-3.5814156250929236e1,2.4105682091967481e1,-4.3606436938657703e1,2.7297375191252775e1,-5.1047326782990712e1,3.0192166606883303e1,-5.8017231741401245e1,3.2829643230013339e1,-6.4439865404545222e1,3.524265375755784e1,-7.0276834907472808e1,3.7458683833874218e1,-7.5520239250182259e1,3.9500907629695194e1,-8.0184864306758321e1,4.138900132771836e1,-8.4301013944481805e1,4.3139779120430751e1,-8.7908512314986308e1,2.0489142390098624e3,-9.1052037660223407e1,4.6285244307337758e1,-9.3777715869002057e1,4.7703281891599114e1,-9.6130786421773593e1,4.9031285343526415e1,-9.8154117010975291e1,5.0277565506104344e1,-9.9887352626815434e1,5.1449440882856725e1,-1.0136651600630232e2},
-                                 {-1.4138650898821198,4.5547073549189604,-8.4536643134376235,9.8297244053094609,-1.5923146754326726e1,1.4563527021228627e1,-2.3765933197526087e1,1.8785874992244413e1,-3.1760918408083724e1,2.2575162594072267e1,-3.9698452807727974e1,2.5994763603178977e1,-4.7399333874789987e1,2.9096262192840352e1,-5.4722735153367421e1,3.1922072018976287e1,-6.156834162818579e1,3.4507387391824058e1,-6.7873947343041833e1,3.6881656611786297e1,-7.3610157197149456e1,3.9069708638026007e1,-7.8773752588922421e1,4.1092624662285361e1,-8.3380924094273543e1,4.2968419521144035e1,-8.7461140342673429e1,4.4712579653065259e1,-9.1052037660223407e1,2.193594299152453e3,-9.4195434270505408e1,4.7857786448333038e1,-9.693439984999288e1,4.928061809381132e1,-9.9311224986277492e1,5.061589086879863e1,-1.0136610793356887e2,5.1871445866174757e1,-1.0313638351940204e2,5.3054215066601544e1},
-                                 {1.3403242672165461,-4.9987421808531489,7.2535131285082021,-1.2098372697785633e1,1.231951133912685e1,-1.975229460401364e1,1.6832993013491499e1,-2.7682001159398843e1,2.0883535780450391e1,-3.5679626511623211e1,2.4538903592978463e1,-4.3557997342454637e1,2.785423719025834e1,-5.116065986974048e1,3.087487446777969e1,-5.8367060778548003e1,3.3638436232320498e1,-6.5093088382507483e1,3.6176401118123282e1,-7.1288143102729093e1,3.8515309934451337e1,-7.6930102617420725e1,4.0677697330679162e1,-8.2019408337852379e1,4.2682820188999509e1,-8.6573189771875896e1,4.4547232671297375e1,-9.0619999179074691e1,4.6285244307337758e1,-9.4195434270505408e1,2.3432091614955883e3,-9.7338714590406459e1,4.9430217743982262e1,-1.0009014704192144e2,5.0857551842151691e1,-1.0248935102237252e2,5.2199671964311004e1,-1.0457409314485177e2,5.3463988021417604e1,-1.0637958741572424e2},
-                                 {-1.4115283052778454,4.5683970892655219,-8.4190803582368039,9.8963632289409504,-1.5833608648590897e1,1.4710296401901727e1,-2.3627995736998049e1,1.9030801654399786e1,-3.160775699372435e1,2.2929795160659377e1,-3.9584067435231126e1,2.6466091599137286e1,-4.7390590094421564e1,2.9688050576423546e1,-5.4891004114967443e1,3.263580027904716e1,-6.1982169649472646e1,3.5342917352885173e1,-6.859359756011435e1,3.7837711518971186e1,-7.4684275904348082e1,4.0144219332899763e1,-8.0237974530874448e1,4.2282981123997171e1,-8.5257991398959927e1,4.4271654368350902e1,-8.9762041380865526e1,4.6125502308002684e1,-9.3777715869002057e1,4.7857786448333038e1,-9.7338714590406459e1,2.4977588260392682e3,-1.0048188951096082e2,5.1002548426163527e1,-1.0324504186714992e2,5.2434119177265466e1,-1.0566536392153616e2,5.3782700319607873e1,-1.0777840143256072e2,5.5055305059564792e1},
-                                 {1.342521901734803,-4.9860486867940966,7.28752421714305,-1.2040401901875279e1,1.2417761993291319e1,-1.9640376584212129e1,1.7016960151231193e1,-2.7533059213705345e1,2.1167438306057764e1,-3.5533015905305026e1,2.4931825419476795e1,-4.3469491954803672e1,2.8361600344907854e1,-5.1195150368248689e1,3.1499479532004043e1,-5.8591369351177169e1,3.4381205316071971e1,-6.5569938412080546e1,3.7036913391585552e1,-7.2071831464707021e1,3.9492190668947165e1,-7.8063974186089478e1,4.1768902326137023e1,-8.3534919362160681e1,4.3885844744225839e1,-8.8490187445899435e1,4.5859265642444227e1,-9.2947810233794572e1,4.7703281891599114e1,-9.693439984999288e1,4.9430217743982262e1,-1.0048188951096082e2,2.6572432927834929e3,-1.0362496860469523e2,5.2574787505038144e1,-1.0639915891965777e2,5.4010351961172351e1,-1.0883944091751441e2,5.5365039546538433e1,-1.1097932695253376e2},
-                                 {-1.4094664943398113,4.580523667158946,-8.3881754793972912,9.9557978980860419,-1.5751940929352676e1,1.484201251313899e1,-2.3497872009164733e1,1.9251833032444622e1,-3.1454062235632732e1,2.3251438651284905e1,-3.9450247058506202e1,2.6895523773232635e1,-4.7332755956021424e1,3.0229473991191148e1,-5.4971387850731421e1,3.3291265007683676e1,-6.2263009654777992e1,3.6112915552294436e1,-6.9132199690842107e1,3.8721611338821366e1,-7.5529590121264627e1,4.1140583795419065e1,-8.1428692605480609e1,4.3389803798922188e1,-8.6821948264244831e1,4.5486534310662387e1,-9.1716597804034166e1,4.7445774297042574e1,-9.6130786421773593e1,4.928061809381132e1,-1.0009014704192144e2,5.1002548426163527e1,-1.0362496860469523e2,2.8216625617282622e3,-1.0676796031925424e2,5.4146942946111037e1,-1.0955256435216311e2,5.558627846580532e1,-1.1201174006437142e2,5.6946746285790327e1},
-                                 {1.3444678193998143,-4.9747456920993523,7.3178581495694426,-1.1988016527592728e1,1.2505935653505837e1,-1.9536820512296016e1,1.7182979275507157e1,-2.7389697686308819e1,2.1424931294399203e1,-3.5380638545432107e1,2.5289820861397497e1,-4.3353978619539159e1,2.8825783656608474e1,-5.1171909190275714e1,3.2073096427720287e1,-5.8719562093923171e1,3.5065718001097839e1,-6.5907317981591419e1,3.7832481342522368e1,-7.2670709147365045e1,4.0398025531843295e1,-7.8968517788086433e1,4.2783531532439947e1,-8.4779731504206394e1,4.5007308312657164e1,-9.00999555662794e1,4.7085263664663417e1,-9.4937751793365328e1,4.9031285343526415e1,-9.9311224986277492e1,5.0857551842151691e1,-1.0324504186714992e2,5.2574787505038144e1,-1.0676796031925424e2,2.9910166328735762e3,-1.099108721378849e2,5.5719021817365452e1,-1.1270531703519708e2,5.7161923864803326e1,-1.1518240274942094e2},
-                                 {-1.4076338408050358,4.5913403387826924,-8.3604024033201967,1.0009136736548704e1,-1.5677277196402183e1,1.4960878272346756e1,-2.3375620066783956e1,1.9452303352068316e1,-3.1302758470206448e1,2.3544491609410394e1,-3.9304865694839119e1,2.7288408528256039e1,-4.7240327230118316e1,3.0726699576181804e1,-5.4985882979780553e1,3.3895320737995759e1,-6.2440307103224477e1,3.682480068005017e1,-6.9525748931816051e1,3.9541227535409715e1,-7.6187127048139502e1,4.2067027944779117e1,-8.239011245920246e1,4.4421587648428559e1,-8.8118254570052867e1,4.6621749994461644e1,-9.3369734476231885e1,4.8682219493127549e1,-9.8154117010975291e1,5.061589086879863e1,-1.0248935102237252e2,5.2434119177265466e1,-1.0639915891965777e2,5.4146942946111037e1,-1.099108721378849e2,3.1653055062194348e3,-1.1305371071321356e2,5.7291030412211126e1,-1.1585746953062712e2,5.8737310646617167e1},
-                                 {1.3462029304950876,-4.964617600941562,7.3450806898267209,-1.1940481661909688e1,1.258550700249057e1,-1.9440983337018267e1,1.7333554760296e1,-2.7252778909583868e1,2.1659536017110193e1,-3.522669498846558e1,2.5617348606133458e1,-4.3220763936174239e1,2.9252074453068227e1,-5.1106628592154857e1,3.2601723762988197e1,-5.8774253911579095e1,3.5698569351404773e1,-6.6134503877904146e1,3.8570189806118325e1,-7.3119766415639111e1,4.1240293035939698e1,-7.9683009431299099e1,4.3729372317976571e1,-8.5795736756168059e1,4.6055233286437255e1,-9.1445304647858463e1,4.8233420542614722e1,-9.6631990455642e1,5.0277565506104344e1,-1.0136610793356887e2,5.2199671964311004e1,-1.0566536392153616e2,5.4010351961172351e1,-1.0955256435216311e2,5.5719021817365452e1,-1.1305371071321356e2,3.3445291817658382e3,-1.1619648197935957e2,5.8862974352760759e1,-1.1900906891332564e2},
-                                 {-1.4059941671858752,4.6010484556789691,-8.3353151038341636,1.0057271811554713e1,-1.5608840919259866e1,1.5068686751849758e1,-2.3261015627798273e1,1.9634954087726707e1,-3.1155632250984073e1,2.3812603890248613e1,-3.9153380252454119e1,2.7649221058379573e1,-4.7123889803846897e1,3.1184927076075153e1,-5.4951148951593816e1,3.4453787356586175e1,-6.2537065557383953e1,3.7484912343969123e1,-6.9803188213876732e1,4.0303326805921689e1,-7.6690808892381552e1,4.2930662321301199e1,-8.3159805536200409e1,4.538571354059025e1,-8.9186629220089009e1,4.7684888491987933e1,-9.4761817770126084e1,4.9842575754068835e1,-9.9887352626815434e1,5.1871445866174757e1,-1.0457409314485177e2,5.3782700319607873e1,-1.0883944091751441e2,5.558627846580532e1,-1.1270531703519708e2,5.7291030412211126e1,-1.1619648197935957e2,3.5286876595127862e3,-1.1933919124637011e2,6.0434858677011444e1},
-                                 {1.347759734605913,-4.9554909961814751,7.3696471987957412,-1.1897178047594111e1,1.2657676363236791e1,-1.9352211730933315e1,1.7470745757532864e1,-2.712265480998828e1,2.187417438044145e1,-3.5073959062913601e1,2.5918139392115463e1,-4.3076498834836834e1,2.9644930677256626e1,-5.1011009100974071e1,3.3090454695594378e1,-5.8772860647665771e1,3.6285395148962111e1,-6.6274694336003857e1,3.9256129254725091e1,-7.3447484408905858e1,4.2025457658402445e1,-8.0240266978933957e1,4.4613190756920629e1,-8.6618859231650359e1,4.7036623341247182e1,-9.2563915409310147e1,4.93109216126921e1,-9.8068635537735437e1,5.1449440882856725e1,-1.0313638351940204e2,5.3463988021417604e1,-1.0777840143256072e2,5.5365039546538433e1,-1.1201174006437142e2,5.7161923864803326e1,-1.1585746953062712e2,5.8862974352760759e1,-1.1933919124637011e2,3.7177809394602789e3,-1.2248184328014491e2},
-                                 {-1.4045185276567751,4.6098101162677048,-8.3125469837438209,1.0100929225519821e1,-1.5545945508245425e1,1.5166912255571062e1,-2.3153684838883883e1,1.9802060079925779e1,-3.1013725699879251e1,2.4058829454283716e1,-3.8999567586840988e1,2.7981734566532635e1,-4.6991198008108325e1,3.1608571368429382e1,-5.4879835293166856e1,3.4971638221097289e1,-6.257126803313521e1,3.8098700382349904e1,-6.9987748874335349e1,4.1013758329280309e1,-7.7068557977611766e1,4.3737664935428391e1,-8.376946972873534e1,4.6288625090392469e1,-9.0061412910315868e1,4.8682603081974142e1,-9.5928618461691783e1,5.0933657014356909e1,-1.0136651600630232e2,5.3054215066601544e1,-1.0637958741572424e2,5.5055305059564792e1,-1.1097932695253376e2,5.6946746285790327e1,-1.1518240274942094e2,5.8737310646617167e1,-1.1900906891332564e2,6.0434858677011444e1,-1.2248184328014491e2,3.9118090216083163e3}};
-
-        IdXdX2_ = new double[][]{{9.4738367466678493e-1,-7.830226856370325,1.0221241369346696e1,-1.5589290728473677e1,1.9123433895661241e1,-2.4067748728724438e1,2.7873699176669912e1,-3.2639863687184266e1,3.6577212741928587e1,-4.1244792365221248e1,4.5260157435716393e1,-4.9865148096228972e1,5.3932279475834965e1,-5.8494002607402108e1,6.2598017164317053e1,-6.7128041146246636e1,7.1259676748088461e1,-7.5765476135002936e1,7.9918574123595807e1,-8.4405257806644742e1,8.8575514470512357e1,-9.3046728895641219e1,9.7231017942790053e1,-1.0168945677175026e2,1.0588543546451666e2,-1.1033314497932979e2,1.1453901234294908e2,-1.1897758354501191e2,1.231919252056278e2,-1.2762261957360063e2,1.3184430445504255e2,-1.362681390809896e2,1.4049624845705756e2,-1.4491405535260282e2,1.4914783280706475e2,-1.5356030124651754e2,1.5779911655670392e2,-1.6220682396485377e2,1.6645014650372917e2,-1.7085358141662971e2},
-                                 {1.2494591537099694,1.1427921103772839e1,-5.8368360726449628e1,4.4465184514099493e1,-7.5961296106609271e1,7.6928332997452564e1,-1.0307165795002368e2,1.0834425727055665e2,-1.3173435252727741e2,1.3923853865714008e2,-1.6096168405657487e2,1.6985410142002571e2,-1.9046212607845891e2,2.0030623797180301e2,-2.2011657580705374e2,2.3065510544009784e2,-2.4986677166457477e2,2.6093480753954122e2,-2.7968068858592191e2,2.9116601525854177e2,-3.0953921007299808e2,3.2136195012069408e2,-3.3943019848202341e2,3.5153144754549341e2,-3.6934556744723649e2,3.8168062964265496e2,-3.9927971743374545e2,4.1181386926937987e2,-4.292286458212343e2,4.4193437148055102e2,-4.5918941435275476e2,4.7204453807091039e2,-4.8915981675000159e2,5.0214620387458936e2,-5.1913816376265063e2,5.3224079443797339e2,-5.4912313987128875e2,5.623294339325213e2,-5.791137052087335e2,5.9241302068519715e2},
-                                 {5.8249049100920438e-1,2.084562754243151e1,3.0800779354658584e1,-1.7623980392599164e2,8.4784524867597277e1,-1.7094048091489704e2,1.3961529449403635e2,-2.0805120458066778e2,1.9289723940779263e2,-2.5167706303673274e2,2.4500959481543326e2,-2.9762743075871463e2,2.9635966622086512e2,-3.4469692407630849e2,3.472077035719621e2,-3.9239842194661144e2,3.9771358973901652e2,-4.4049441077656942e2,4.4797789770469181e2,-4.8885424311476318e2,4.9806613487027214e2,-5.373997207702252e2,5.4802246470334365e2,-5.8608100982923516e2,5.9787760623817549e2,-6.3486477317825845e2,6.4765352508177819e2,-6.8372782837217016e2,6.9736631289917569e2,-7.326535351384548e2,7.4702801162585456e2,-7.8162962891436972e2,7.966478031100583e2,-8.3064686512004083e2,8.4623280552117058e2,-8.796981398727803e2,8.9578861923201401e2,-9.2877790202759935e2,9.4531970901125739e2,-9.7788174951059847e2},
-                                 {4.5336075734885732e-1,8.1038230417572575,8.9936581040779878e1,6.0455014746631737e1,-3.9348103993746951e2,1.352324646876189e2,-3.1622686895953251e2,2.1275252787284953e2,-3.5357864069079978e2,2.889537289986613e2,-4.0805859176445091e2,3.6358581807129214e2,-4.6854181731984895e2,4.3698135096862549e2,-5.3188738330209113e2,5.0946561392863385e2,-5.9684202615344609e2,5.8128062513079823e2,-6.6279951688376724e2,6.5259732904899887e2,-7.2942791016639479e2,7.235362050215438e2,-7.965289701568235e2,7.9418327035886316e2,-8.6397645650313452e2,8.6460102079243522e2,-9.3168589415556268e2,9.3483569794720456e2,-9.9959848375796128e2,1.0049221224096469e3,-1.0676719615012112e3,1.0748869465935868e3,-1.1358751264740579e3,1.1447508792139492e3,-1.2041844187305271e3,1.214530232602477e3,-1.2725817003412258e3,1.2842380172883521e3,-1.3410527712323582e3,1.3538847288989845e3},
-                                 {3.3642771762748732e-1,8.3747246744953317,2.6173227799794743e1,2.3803023869260145e2,9.9929475284007883e1,-7.3892431031876357e2,1.951514114333561e2,-5.2046677845802094e2,2.9486735825864899e2,-5.4398193264217048e2,3.9397534611998948e2,-6.0309702828224339e2,4.9146997742932529e2,-6.7452488427102454e2,5.8741460893704102e2,-7.5176845085993959e2,6.8208363547692515e2,-8.3226147778720036e2,7.757447468815093e2,-9.1477231471942517e2,8.6861503096497373e2,-9.9863041362060611e2,9.6086162628912236e2,-1.0834369227213764e3,1.0526115676483812e3,-1.1689385161566334e3,1.1439615879194564e3,-1.2549659529492806e3,1.2349859297984621e3,-1.341401533107768e3,1.3257421643978578e3,-1.4281606812443104e3,1.4162754306166256e3,-1.5151809529331735e3,1.5066215114674242e3,-1.6024151763777535e3,1.5968090755312004e3,-1.6898270126809778e3,1.68686132300229e3,-1.777387989878472e3},
-                                 {2.8343997424642188e-1,5.6775927045192148,3.5325259152882831e1,5.4763226258823199e1,4.9465191608911617e2,1.4927778419005004e2,-1.2422850963882646e3,2.6474644941361739e2,-7.9372479069132426e2,3.8623020112554876e2,-7.8548947385623576e2,5.0804550922499879e2,-8.4143767540556422e2,6.284993488350281e2,-9.193776917331186e2,7.4729191898850321e2,-1.0076249828898219e3,8.6455283311032381e2,-1.1015977783971996e3,9.8051249722019214e2,-1.1991111364869285e3,1.0953971474191427e3,-1.2989817871538179e3,1.2094004275407322e3,-1.4005088507749455e3,1.322680261043737e3,-1.5032486037428537e3,1.4353632251913648e3,-1.6069053155005265e3,1.5475503627722689e3,-1.7112736729734438e3,1.659322512025656e3,-1.8162063199756203e3,1.7707446880157323e3,-1.9215945416325775e3,1.8818695316294672e3,-2.0273562468419518e3,1.9927399771326307e3,-2.1334282061253358e3,2.103391303617367e3},
-                                 {2.3502761972646477e-1,5.4464790436585685,2.0657230442113532e1,9.168652076460731e1,9.3534127599181511e1,8.8944671913002063e2,2.084953918992606e2,-1.9331646981731739e3,3.4408393111644714e2,-1.14588934058781e3,4.8698003258743596e2,-1.0840869402078108e3,6.3122272943823981e2,-1.1274216510024459e3,7.7456117683157683e2,-1.2065435579674477e3,9.1631391925039921e2,-1.3023368227096064e3,1.0564086338661489e3,-1.4073438989905733e3,1.1949863569016936e3,-1.5180259310313303e3,1.3322447679233476e3,-1.6324748966344318e3,1.4683791933128579e3,-1.749564922985553e3,1.6035629766620647e3,-1.8685854835760917e3,1.7379433411765395e3,-1.9890642513805619e3,1.8716429768638129e3,-2.1106739835260532e3,2.0047633887885587e3,-2.2331801893134012e3,2.1373884497793783e3,-2.3564100796670627e3,2.269587600488777e3,-2.4802332981253569e3,2.4014185481834453e3,-2.6045495031944638e3},
-                                 {2.0671729650076199e-1,4.3001802317757244,2.3121367618965234e1,4.6332489971313388e1,1.8736807867927353e2,1.4237475620907744e2,1.4520214848051052e3,2.7758262384283887e2,-2.8411738140229183e3,4.3320573759553276e2,-1.5868473327740063e3,5.9723214569892726e2,-1.445742832344728e3,7.6361408588389207e2,-1.465359872753232e3,9.2967554198887961e2,-1.539426967885285e3,1.0943774708916442e3,-1.6387404013879402e3,1.2574206691034435e3,-1.7519479867856657e3,1.4188210653438557e3,-1.873682710726909e3,1.5787160094238613e3,-2.0010611586270643e3,1.7372782557810826e3,-2.1323874244161228e3,1.8946793450957848e3,-2.2665943056229853e3,2.0510754342819005e3,-2.4029741241560622e3,2.2066031580445324e3,-2.5410376021418703e3,2.3613797959420024e3,-2.6804347491394912e3,2.5155051138403674e3,-2.8209080346740808e3,2.6690636904985055e3,-2.9622633940297986e3,2.8221272143842263e3},
-                                 {1.8035316321550667e-1,4.0706567062254861,1.6689909124301415e1,5.9948953835075796e1,8.264450144646435e1,3.323207577062114e2,2.0121171063694863e2,2.2119865333860399e3,3.5653945898588257e2,-3.9959218124190329e3,5.3213729728989592e2,-2.1264782340707481e3,7.1707157249077891e2,-1.8764080671804885e3,9.053244003381748e2,-1.8595355431901002e3,1.0939092066624267e3,-1.9213963428979263e3,1.2814725903710078e3,-2.0196298861428934e3,1.4674861781358162e3,-2.1378116716237194e3,1.6518205399484029e3,-2.2681982996613698e3,1.8345292285341151e3,-2.4066413481665342e3,2.0157416563132838e3,-2.5507074513702824e3,2.1956110806468215e3,-2.6988691415089367e3,2.3742902432291704e3,-2.850115796083105e3,2.5519207934653541e3,-3.0037500645236889e3,2.7286294963904672e3,-3.1592739727104432e3,2.9045276886684275e3,-3.3163216390423396e3,3.0797121985505319e3,-3.4746176929119097e3},
-                                 {1.6280694161628935e-1,3.4444154965248737,1.7432602911438111e1,3.922062690057907e1,1.220569129696071e2,1.2945665927219608e2,5.3644127038974349e2,2.7000357606102004e2,3.1989512570347776e3,4.4536589859934541e2,-5.4270178775359814e3,6.4089496017233892e2,-2.7746579607707986e3,8.4656079016215422e2,-2.3820238817844346e3,1.0564452173875587e3,-2.3142154855351619e3,1.2673433930074311e3,-2.3557977090379867e3,1.4776363185306261e3,-2.4477721768228771e3,1.6865780662029417e3,-2.5673056370101626e3,1.8938858771357841e3,-2.7036559651343234e3,2.0995142618817085e3,-2.8510809634399983e3,2.3035331668931066e3,-3.0062198155449411e3,2.5060632589499923e3,-3.1669673254998907e3,2.7072421744754379e3,-3.3319333633763549e3,2.9072074608878303e3,-3.5001604302139064e3,3.1060884688625423e3,-3.6709658821803708e3,3.3040029977237999e3,-3.8438488692001631e3,3.5010564147941846e3},
-                                 {1.4624750615276684e-1,3.2594715709799341,1.3892176901940602e1,4.5339566823265154e1,7.2362833518004128e1,2.1551978604832756e2,1.8662046605238397e2,8.0961598610114552e2,3.4872489550303417e2,4.442524838527119e3,5.4406194261004093e2,-7.16407105599183e3,7.5948966794263961e2,-3.5412603228814626e3,9.8574598605723253e2,-2.9685255187355101e3,1.2170528497713798e3,-2.83365595109399e3,1.4500589097093739e3,-2.8459621140815979e3,1.6829268500797526e3,-2.9259153727744134e3,1.9147122589248224e3,-3.0427786612585005e3,2.1449798427039739e3,-3.1821146714799474e3,2.3735768448338695e3,-3.3362194346803183e3,2.6005023445033481e3,-3.5005920335623003e3,2.8258329053241533e3,-3.6724181126178101e3,3.049680790914699e3,-3.8498424158955686e3,3.272170862944354e3,-4.0315891085197547e3,3.4934281543011012e3,-4.2167499272231983e3,3.7135715159690824e3,-4.4046593780380039e3},
-                                 {1.3432363608608373e-1,2.8673693975322998,1.4068347449207213e1,3.36778759119151e1,9.2345688678721698e1,1.1620700599319234e2,3.4633401312609629e2,2.540212339904046e2,1.1617244038689583e3,4.3735932064690164e2,5.9723163245603004e3,6.5262759102203435e2,-9.2366903167747113e3,8.8792900214880053e2,-4.4361578365207327e3,1.134661719529467e3,-3.6418443693414346e3,1.3872097548495221e3,-3.4221061457597404e3,1.6421300560693972e3,-3.3952103110529598e3,1.8974096566127496e3,-3.4567943055035373e3,2.1519279189087765e3,-3.5665637056926462e3,2.4051035581792983e3,-3.7056154793511582e3,2.6566738141051337e3,-3.8638766452731317e3,2.9065597314651272e3,-4.0354708302760248e3,3.1547851460994559e3,-4.2167290651333077e3,3.4014284603004842e3,-4.4052362393987301e3,3.6465942351149363e3,-4.5993338329097579e3,3.8903967015079712e3,-4.7978427055082494e3,4.1329504187259992e3},
-                                 {1.2296450258119638e-1,2.7213969289394167,1.1856728680773239e1,3.6733454294623866e1,6.3694522139719796e1,1.6290233277709588e2,1.7068262608536267e2,5.2046741963893294e2,3.3157389511986173e2,1.6026424381411898e3,5.3589590970032681e2,7.8179346841181154e3,7.7106284383510611e2,-1.1674484580927995e4,1.0262183737132007e3,-5.4692221858789635e3,1.2933342085835336e3,-4.4079092572573567e3,1.5669667493993833e3,-4.0838104315584518e3,1.8436226282726573e3,-4.0068557859344956e3,2.1211502383237447e3,-4.0431342240147587e3,2.3982755456538374e3,-4.1409820768247232e3,2.6742812580463388e3,-4.276186021435526e3,2.9487958954745443e3,-4.4358575855465059e3,3.2216588192643575e3,-4.6124868639338943e3,3.4928351915582024e3,-4.8013907681237686e3,3.7623629226205254e3,-4.9994904619541063e3,4.0303198430661938e3,-5.2046741958869663e3,4.296803579915441e3,-5.4154423570030896e3},
-                                 {1.1433911071265333e-1,2.4537495096780479,1.1823217582539053e1,2.9371681098617609e1,7.494722473645583e1,1.0431882120371771e2,2.6136386703695523e2,2.3568335983836667e2,7.4387096216099665e2,4.1921597427782332e2,2.1422438990270588e3,6.44327081120323e2,1.0008988838244166e4,8.993677010492678e2,-1.4507062738684254e4,1.1743617436755966e3,-6.6503245005365302e3,1.4617836226728593e3,-5.2726472408852502e3,1.7563651904046589e3,-4.8230097513240418e3,2.0545937938489249e3,-4.6842067762982698e3,2.3542105444882669e3,-4.6876533165313356e3,2.6538099190721037e3,-4.7683463400680855e3,2.9525503909325742e3,-4.8958436996007364e3,3.2499558207758876e3,-5.0539557375684258e3,3.5457830052861937e3,-5.2332582189307392e3,3.8399348107076775e3,-5.4278803664020046e3,4.132403790361955e3,-5.63396658549248e3,4.4232358605271669e3,-5.8488751376513586e3,4.7125070615615064e3},
-                                 {1.0606585064569539e-1,2.3373299936111222,1.0323314513938408e1,3.0989682192830022e1,5.6576210563051296e1,1.3227669428409531e2,1.5564903557580207e2,3.9204039401450969e2,3.1110434209016837e2,1.0224858755340883e3,5.1690128400860855e2,2.7904013026390815e3,7.6264742398424548e2,1.2575087677171012e4,1.0375421626645188e3,-1.7764033659734873e4,1.3323620761005829e3,-7.9893355287789591e3,1.6400256877967193e3,-6.2419841325655772e3,1.9554388523886707e3,-5.6439425784734467e3,2.2750927538755029e3,-5.4305676524661392e3,2.5966474057163091e3,-5.3930644756900896e3,2.918586009466331e3,-5.4509624009507805e3,3.2399552437455566e3,-5.5665980100803608e3,3.5601801633245422e3,-5.7199555769418585e3,3.878936199705181e3,-5.8993930253604937e3,4.1960622230331336e3,-6.0976642525684827e3,4.5115021460153481e3,-6.3100147023713222e3,4.8252659924384533e3,-6.5331896594885274e3},
-                                 {9.9538613010594958e-2,2.1433987053063401,1.0210092268579863e1,2.5976756222645267e1,6.3364471394323673e1,9.4091905870797545e1,2.1218091711818068e2,2.1766596976630636e2,5.5921516335290581e2,3.9685403067315621e2,1.3622474024582317e3,6.2459526496471181e2,3.5569863331679003e3,8.9085297725235165e2,1.554584007059004e4,1.1855862286808592e3,-2.1475006199649212e4,1.5002216319302257e3,-9.4961257497424986e3,1.8280728210631355e3,-7.3218448447055105e3,2.1642154582419715e3,-6.5508455668532194e3,2.5051616774261289e3,-6.2492398843223299e3,2.8485120505106709e3,-6.1620765593953454e3,3.1926566983924048e3,-6.1911310187258729e3,3.5365428833313413e3,-6.2904522620899977e3,3.8795037587248943e3,-6.4356344491516634e3,4.221136086377523e3,-6.612491449876407e3,4.5612145703410153e3,-6.8122001347445026e3,4.8996325561037339e3,-7.0289756082587748e3,5.2363613028870308e3},
-                                 {9.3245303420872928e-2,2.0490091872090274,9.1320515311461311,2.6854986960148964e1,5.0733503954214375e1,1.1195833062024376e2,1.4220115004075608e2,3.1806342311363551e2,2.9030281058361895e2,7.6715499566407825e2,4.928561127173359e2,1.769086934234728e3,7.422716991411465e2,4.4518701201938756e3,1.0289407768600461e3,1.8950854874070608e4,1.3434998990982889e3,-2.5669589204028136e4,1.6779421650769442e3,-1.1180565448177806e4,2.0259349424735405e3,-8.5181536266034815e3,2.3827178977702181e3,-7.547954005632124e3,2.7448366697753685e3,-7.1435227318938242e3,3.1098501870120802e3,-6.9973953078035882e3,3.4760715986100203e3,-6.9911489251268745e3,3.8423606198857017e3,-7.0694048667893488e3,4.2079659195249552e3,-7.2027639955882117e3,4.5724093069451416e3,-7.3741472271219435e3,4.9354023272379677e3,-7.5729386448090781e3,5.2967869585139437e3,-7.7921824622567438e3},
-                                 {8.8134565220309374e-2,1.902213269786085,8.9914579142757041,2.3251083104516906e1,5.5031178390537227e1,8.5396646569531877e1,1.796693249765629e2,2.0100810689646891e2,4.5329268824302937e2,3.7347833867402119e2,1.0201161423938369e3,5.9904813086971201e2,2.2489332945190595e3,8.6991041708450161e2,5.4849234120025344e3,1.1769085618652627e3,2.2819740933213584e4,1.511283173916808e3,-3.0377391511273046e4,1.8655250565720764e3,-1.305252476560405e4,2.233620063362834e3,-9.8368342302263666e3,2.6109651878786048e3,-8.6395021442244192e3,2.9941486715441491e3,-8.1167137475906432e3,3.3807023604760865e3,-7.9017240210947326e3,3.7688765342220887e3,-7.8533096634343178e3,4.1574544671145398e3,-7.9054503168933982e3,4.5456078927620474e3,-8.0231112504886343e3,4.9327880357461007e3,-8.1859488508437052e3,5.3186451636801117e3,-8.3813246020136312e3,5.7029699956738671e3},
-                                 {8.3186964460112629e-2,1.82440944463305,8.1823667497329803,2.3723139606434099e1,4.5898712480677442e1,9.7365471307066502e1,1.3041129230878277e2,2.6933279058336344e2,2.7052270169274033e2,6.2121473554616563e2,4.6711174520221641e2,1.3223478094279785e3,7.1537926835253076e2,2.8077135417131829e3,1.007495692795501e3,6.666016687730125e3,1.3347545783555824e3,2.7182107086420366e4,1.6889360531364164e3,-3.5628021954480472e4,2.0629714083866187e3,-1.5121873736116786e4,2.4511347185343922e3,-1.1283810028621761e4,2.8489732269760737e3,-9.8297234285977002e3,3.2531242516500883e3,-9.1721091474269256e3,3.6611044267261173e3,-8.8777640678005754e3,4.0711134102581314e3,-8.779904226166352e3,4.4818682525929169e3,-8.8005799402194739e3,4.8924711774594686e3,-8.8984394941133481e3,5.3023075591985452e3,-9.0494805097658721e3,5.7109688929697705e3,-9.2387980151591626e3},
-                                 {7.9077200315529257e-2,1.7095222147086566,8.0366670682073235,2.1023717270352272e1,4.8715695391714816e1,7.8002637280218488e1,1.5637154437375346e2,1.860089747175969e2,3.8374295667029405e2,3.507078967715636e2,8.2516061295857029e2,5.7112873087489226e2,1.6780943587929207e3,8.4180816818211466e2,3.4513534881575611e3,1.1550151091661231e3,8.0050202321273049e3,1.5024774452996671e3,3.2067562166787486e4,1.8764585367571143e3,-4.1451089362768293e4,2.2702821103545292e3,-1.7398482311965002e4,2.6784842876432787e3,-1.2865004102035998e4,3.0967553883398396e3,-1.1122850675935216e4,3.5217862877814803e3,-1.0313004089436736e4,3.9510880552459977e3,-9.9282152711344187e3,4.3828203048947378e3,-9.7732215456099703e3,4.8156431493722425e3,-9.7567824857794058e3,5.2485964359621092e3,-9.8305089230990403e3,5.6810045798934142e3,-9.9663228298354468e3,6.1124032300965973e3},
-                                 {7.5085654090149377e-2,1.6444142677861012,7.4087527684147874,2.1262194805025637e1,4.1854748328260232e1,8.6313174576240427e1,1.2013842615701442e2,2.3449630994816169e2,2.5229238874563444e2,5.2566671971031869e2,4.4150549725471229e2,1.0684510734961425e3,6.854634995064907e2,2.0915967333225618e3,9.7830105583514106e2,4.1857780462593668e3,1.3124587461949349e3,9.5118041867132435e3,1.6800760607265205e3,3.7505715003432822e4,2.0738506247789014e3,-4.7876202562223031e4,2.4874578887628157e3,-1.9892220382152613e4,2.9156732371101322e3,-1.4586339301566599e4,3.3543229883775166e3,-1.2523116205632612e4,3.8001545416779211e3,-1.1542692885270081e4,4.2506812171006206e3,-1.1055776206167703e4,4.7040316819596922e3,-1.0835548875345298e4,5.1588174774951889e3,-1.0776044584280508e4,5.6140228140956397e3,-1.0821077182117932e4,6.0689160429613552e3,-1.0938053468018451e4},
-                                 {7.1709252765419624e-2,1.5521040164794604,7.2675215394072043,1.9174179381843366e1,4.3747474361848545e1,7.1683641901822826e1,1.3874871953073408e2,1.7265264451011193e2,3.3414146733341745e2,3.2928863271998543e2,6.9785217922851111e2,5.4285003155659521e2,1.3543996031417305e3,8.1005888356726138e2,2.5670934064338392e3,1.1248302084210571e3,5.0169114653170316e3,1.4798185925470371e3,1.1196238585583494e4,1.8675495348021843e3,4.3526174422442896e4,2.281112317201778e3,-5.49329703765888e4,2.7144993421990463e3,-2.2612957786187393e4,3.1627053043024097e3,-1.6453738296901603e4,3.6216856578756364e3,-1.4034751938855444e4,4.0882461415819535e3,-1.2864469162959073e4,4.5599086362240119e3,-1.2263144430967392e4,5.0347786614408357e3,-1.1969172090014676e4,5.5114266754109803e3,-1.1860351113350495e4,5.9887875414273363e3,-1.187189978920519e4,6.4660783382346705e3},
-                                 {6.8421218359039329e-2,1.4968860128883013,6.7670461196054153,1.9273916711418327e1,3.8434472935158814e1,7.7618170422574862e1,1.1118487201913688e2,2.0818696785647778e2,2.3574130175075024e2,4.5767769627686674e2,4.1698178083251713e2,9.0303416672166479e2,6.5467599948263727e2,1.6863144394673771e3,9.4486568197990025e2,3.1088210319733056e3,1.2813727361342062e3,5.9506774972974316e3,1.6570881134190533e3,1.3068193380987046e4,2.0648971412396509e3,5.0158549247561823e4,2.4982436140257439e3,-6.2651001627776523e4,2.9514069683839407e3,-2.5570564324392666e4,3.4195836392710033e3,-1.8473123612601472e4,3.8988516379072986e3,-1.5661989475121894e4,4.3860759852664839e3,-1.4281625993513835e4,4.8787921955684971e3,-1.355301666820391e4,5.3750893106721885e3,-1.3176375923070557e4,5.8735033753207797e3,-1.3011685489717416e4,6.3729257220239428e3,-1.2984730478764903e4},
-                                 {6.5598092327883494e-2,1.4211232556032574,6.63418741415502,1.7616452128560015e1,3.9727663531571673e1,6.6246016600788243e1,1.2489282825005915e2,1.6080176646303347e2,2.9674482055336537e2,3.0950330540788051e2,6.0745377528972364e2,5.153326704856237e2,1.1439379311947597e3,7.7692145175733209e2,2.0674999527949402e3,1.0898417256706699e3,3.7210148991097252e3,1.4479096220693938e3,6.9929995152481625e3,1.8442619291559198e3,1.5137538461927814e4,2.272118281451352e3,5.7432448300700525e4,2.7252445152507991e3,-7.1059905136245848e4,3.1981811845227916e3,-2.87749097657442e4,3.6863109149249319e3,-2.0650417656008234e4,4.1858280170339444e3,-1.7409060151867095e4,4.6936570762755734e3,-1.5797455990390719e4,5.2073512966104591e3,-1.4928088949185032e4,5.7249889343972341e3,-1.4459444156973815e4,6.2450775391035849e3,-1.423202990483863e4,6.7664702533286605e3},
-                                 {6.2842733179012223e-2,1.3737383141782609,6.2265277690357153,1.7632064973693337e1,3.5510851506947106e1,7.0579579223147568e1,1.0335530351340295e2,1.8752134972370587e2,2.2081588798274054e2,4.0650554078029006e2,3.9397588947624033e2,7.8580266568571838e2,6.2429080217977859e2,1.4232816608710302e3,9.0952955777068553e2,2.501257613008646e3,1.2449509093650047e3,4.4079092572573567e3,1.624424967817678e3,8.1498005994155578e3,2.041335573336998e3,1.7414143667913573e4,2.4892124577165681e3,6.537748040231865e4,2.9621150208769437e3,-8.0189289721295401e4,3.4548223429284089e3,-3.2235863853898581e4,3.9628894134821299e3,-2.2991542738952601e4,4.4826209225587847e3,-1.9280195091243678e4,5.0110008045505995e3,-1.7415251388380878e4,5.5456031743114961e3,-1.639105672908299e4,6.0845003515404389e3,-1.5820659776579488e4,6.6261766265331296e3,-1.5523365516349356e4},
-                                 {6.0447263360819627e-2,1.3104578223648271,6.1033275789161667,1.6288039779023971e1,3.6402937035781478e1,6.1531837918338388e1,1.1367799771740396e2,1.5028358613873947e2,2.6740459424082729e2,2.9139740428269346e2,5.395280930882959e2,4.8915793244015717e2,9.9504567397749019e2,7.4380139600290796e2,1.7437782483872992e3,1.052449089019898e3,2.9908866801354765e3,1.4101622924419771e3,5.1737375523837953e3,1.8109054001018439e3,9.4270036008971369e3,2.248305308594831e3,1.9907878799267646e4,2.7161792528300064e3,7.4023254371714824e4,3.2088551309041777e3,-9.006876420128606e4,3.721330743147589e3,-3.5963296311881952e4,4.2493210949053724e3,-2.5502421094809564e4,4.7892356756331329e3,-2.1279625237239442e4,5.3381171809847241e3,-1.9138304106721142e4,5.893563171313562e3,-1.7944614979859561e4,6.4536441524491925e3,-1.726230509376269e4,7.0168257775317662e3},
-                                 {5.8104891293176052e-2,1.2693716367641093,5.7652321096951539,1.625216454208548e1,3.2987151166919192e1,6.4753677370500818e1,9.6476377047972551e1,1.7080354947983713e2,2.0738673502127434e2,3.664080554652276e2,3.7264057976921932e2,6.9785353811917503e2,5.9502519981451113e2,1.2374953655783675e3,8.7380948165225503e2,2.1081365516478914e3,1.2056343373642418e3,3.5396847065854531e3,1.5854493059839697e3,6.0227326016722907e3,2.0073396025142774e3,1.0830531189380941e4,2.4651679848785267e3,2.2628613624965802e4,2.9530183144788571e3,8.3399379027249926e4,3.465464845332501e3,-1.0072793739381461e5,3.9977066414699531e3,-3.9967076845774019e4,4.5456076515265764e3,-2.818897489202524e4,5.1056769177710318e3,-2.3411581385371496e4,5.675015033899128e3,-2.0969905799989869e4,6.2512449757564723e3,-1.95914582657677e4,6.8324389339738496e3,-1.8786661849385263e4},
-                                 {5.6046792496352677e-2,1.2157348595630337,5.6517595885657372,1.5142700708290652e1,3.3604053897381377e1,5.7414528591265528e1,1.0439370142416621e2,1.4092656285696451e2,2.4368742262687298e2,2.7490098289203283e2,4.8637116386579214e2,4.645885777393771e2,8.835095085610591e2,7.1154024297185012e2,1.5154576460163988e3,1.0142621775719342e3,2.5190623108092917e3,1.3690447575481672e3,4.1509479083727144e3,1.7707890723026881e3,6.9591267245184863e3,2.2137179442684468e3,1.2366305889427432e4,2.691920929279066e3,2.5586217888664626e4,3.1997293431163236e3,9.3535463186520745e4,3.7319441641619137e3,-1.121964181158502e5,4.2839502584546275e3,-4.425707514762985e4,4.851750551985827e3,-3.105712624493835e4,5.4319487146215774e3,-2.568029420663314e4,6.021702174061063e3,-2.2913347899459835e4,6.6186608271394949e3,-2.1334280805125606e4,7.2209015118977524e3},
-                                 {5.4031065161043039e-2,1.1797833603298326,5.3670674765598012,1.5075416060448059e1,3.0789129218960725e1,5.9844734307618696e1,9.0400869417274112e1,1.5696636465377244e2,1.9530058550543913e2,3.3402442394943301e2,3.5297677252261533e2,6.2911380281609314e2,5.6725067241353961e2,1.0985134062816056e3,8.3865877500462083e2,1.8312332745446487e3,1.1651098710022505e3,2.979258826051415e3,1.542644493748247e3,4.8279714435313253e3,1.9661618296585366e3,7.9871518420879398e3,2.4300321842912525e3,1.4040250108378636e4,2.9285618595785146e3,2.8790561313390261e4,3.4563120824527849e3,1.0446111566649642e5,4.0082930873924157e3,-1.2450381518384255e5,4.5800617849400585e3,-4.8843160897817318e4,5.1677510768331017e3,-3.4112797222507219e4,5.7680546415497957e3,-2.8089994266950715e4,6.3781855336913908e3,-2.4971921646932414e4,6.9958216943894123e3,-2.3175776521189479e4},
-                                 {5.2243784538496078e-2,1.1337493123150018,5.2628431705882445,1.4145614329884265e1,3.1213314124821571e1,5.3793045830916356e1,9.6567612344860012e1,1.3257453970377598e2,2.2406583794782479e2,2.5989337445588451e2,4.4348207032489955e2,4.4170356160443902e2,7.96440962644805e2,6.8061413195794945e2,1.3448747275143876e3,9.7633372906676789e2,2.1871189828966292e3,1.3263067378402926e3,3.4914274659060579e3,1.7264018764806557e3,5.5740496237112918e3,2.1715504498089721e3,9.1110395538988324e3,2.6562752340212534e3,1.5858286158065267e4,3.1750888158140975e3,3.2251513605222412e4,3.7227663119291146e3,1.1620594528362667e5,4.2945116150240071e3,-1.3767973741380849e5,4.8860413868816194e3,-5.373520376690213e4,5.4936103475723176e3,-3.7361909855400465e4,6.1139978545851711e3,-3.0644912043102835e4,6.7444712839299587e3,-2.7148918122601017e4,7.3827374299067342e3},
-                                 {5.0490852292876635e-2,1.1020352279271696,5.019991934143072,1.405955571966205e1,2.8859214550612174e1,5.5647436959981076e1,8.5006090613777137e1,1.4530211715392212e2,1.8440469774079282e2,3.0724945028364521e2,3.3490790412468484e2,5.7370708659393096e2,5.4112785865096035e2,9.901461254198824e2,8.0465238305722656e2,1.6245967814750034e3,1.1245177949625179e3,2.5854083143528727e3,1.4978108730565391e3,4.0582680535865226e3,1.9202889346805007e3,6.3924760769447261e3,2.3869400349810884e3,1.0335021197386297e4,2.8924409661552384e3,1.7826336271862315e4,3.4315001056538976e3,3.5978944456216151e4,3.9990918407068664e3,1.2879956085392834e5,4.5905997470566879e3,-1.5175379362140185e5,5.2018892092750777e3,-5.8943073417179415e4,5.8293293505082914e3,-4.0810386141798465e4,6.4697811495362795e3,-3.3349277935830352e4,7.1205649344195393e3,-2.9447628268137943e4},
-                                 {4.8924255380876841e-2,1.0620993858787572,4.9243137622410251,1.3270128229980403e1,2.9146142330316832e1,5.0586551398084167e1,8.9872487606574917e1,1.2509088197407126e2,2.0752921770429057e2,2.4623694255117631e2,4.0804645695753469e2,4.2047904819516557e2,7.2633013100495942e2,6.5126626627705599e2,1.212013766744294e3,9.39330590106985e2,1.9396779793231546e3,1.283164958985969e3,3.0283922614315283e3,1.6795841984744006e3,4.6824791641642504e3,2.1242809444137561e3,7.286543874241753e3,2.6123175816308243e3,1.1663327894702966e4,3.1385240595418943e3,1.9950322618215898e4,3.6977942604578298e3,3.9982723546739347e4,4.285288502830667e3,1.4227157119305525e5,4.896557483490458e3,-1.6675559262197011e5,5.5276053793611031e3,-6.4476639503926843e4,6.1749089564454074e3,-4.4464148052171043e4,6.8354070114838208e3,-3.6207322280698886e4,7.506471418008028e3},
-                                 {4.7385886824458136e-2,1.033920961250879,4.714823634201465,1.3173382608472735e1,2.7152268262891602e1,5.2014429141602651e1,8.0190535572807751e1,1.3532152910680295e2,1.7455742232231162e2,2.8469300453937195e2,3.1832171095701373e2,5.2796442022615852e2,5.1669159638434946e2,9.0296928795278317e2,7.7211487430817922e2,1.463821232102899e3,1.0846094405592133e3,2.2921128137738255e3,1.4522313935620599e3,3.5183597564195893e3,1.8715922502660929e3,5.3667583557062033e3,2.3383560227280962e3,8.2595456290587216e3,2.8476716998168022e3,1.3100190589836636e4,3.3945198726671783e3,2.2236167311464735e4,3.9739699996759166e3,4.4272720547357708e4,4.5813561533047489e3,1.5665158511635488e5,5.2123848243253175e3,-1.8271474323060087e5,5.8631900092598254e3,-7.0345771676436603e4,6.5303499370527432e3,-4.8329117533236117e4,7.2108776564103882e3,-3.9223275357150949e4},
-                                 {4.6001490447512154e-2,9.9895024612291211e-1,4.6269267836499945,1.2495533693654046e1,2.7340094088132666e1,4.7730030228562882e1,8.4073836510146571e1,1.1835831010952855e2,1.9338021132717194e2,2.3379413975952135e2,3.7820906781241852e2,4.0083663521919271e2,6.6849392516759977e2,6.2359377968498484e2,1.1052326875313377e3,9.0365599888812644e2,1.7473401628860687e3,1.240447687376589e3,2.6838926126443439e3,1.6316759256393809e3,4.0575980528971811e3,2.0738039084437748e3,6.1138023508828067e3,2.5624947681471384e3,9.3147735761867876e3,3.0929923786458604e3,1.4649840078304418e4,3.6604243398819941e3,2.4689792420567154e4,4.2600262018042409e3,4.8858805120366363e4,4.8872946648884425e3,1.7196921143891483e5,5.5380817695612663e3,-1.9966085426216001e5,6.2086431981502009e3,-7.6560339578870474e4,6.8956529785332559e3,-5.2411216511258574e4,7.5961950663719163e3},
-                                 {4.4640573363858096e-2,9.7375130997679696e-1,4.4444444073513275,1.2393336780905885e1,2.5632507343140229e1,4.8836995978004937e1,7.5870331465764553e1,1.2667461007149668e2,1.65631994214901e2,2.6539758775618603e2,3.0309333135023334e2,4.8947069326652556e2,4.9390397534926033e2,8.3111211659463587e2,7.4120737861181798e2,1.3347204963938725e3,1.0458629983749756e3,2.064337593330934e3,1.4068038315358144e3,3.1170061249465398e3,1.8214602351752599e3,4.6483930255066451e3,2.2861911056734261e3,6.9263071810018351e3,2.7966799457092842e3,1.0455519634862779e4,3.348270789796818e3,1.6316507031099611e4,3.9362338858213161e3,2.731711997619177e4,4.5559618805379862e3,5.3750846921042982e4,5.2031039254616178e3,1.8825405897560098e5,5.8736483191983045e3,-2.1762353453132343e5,6.5639650340832991e3,-8.313021285097238e4,7.2708186930994958e3,-5.6716366894814196e4},
-                                 {4.3408347815644168e-2,9.4287634666199946e-1,4.3635783521273175,1.1805518389162232e1,2.5747997601665414e1,4.5170841435382883e1,7.8998869980031634e1,1.1227705824409073e2,1.8112084469622373e2,2.2243561540554678e2,3.5269406801372998e2,3.8267176162979592e2,6.1985350897070352e2,5.9760411886012006e2,1.0172853871077353e3,8.6953525135840423e2,1.5930264491838517e3,1.1987036984306632e3,2.4165768036979118e3,1.5836372106919992e3,3.5934399813877275e3,2.0215488837204726e3,5.2930294077004322e3,2.5087285372115632e3,7.8069683012355207e3,3.0408962127725798e3,1.1685075459665055e4,3.6134991225024232e3,1.8104422014148556e4,4.2219453544556597e3,3.0124071976518962e4,4.8617761650727677e3,5.8958715598679755e4,5.5287838358453187e3,2.0553573654108924e5,6.219084473236432e3,-2.3663239285260339e5,6.9291555954992428e3,-9.0065261128665399e4,7.655847628654437e3},
-                                 {4.2195860271272267e-2,9.2021075469179613e-1,4.2032538807700426,1.1701280307568607e1,2.4271263210411286e1,4.6033046366824269e1,7.1976037640142261e1,1.1910382957315902e2,1.5751707675464317e2,2.4868055610191301e2,2.8909773241636077e2,4.56567385552498e2,4.7268716493082589e2,7.7071901685569862e2,7.1198598326119492e2,1.2284714448281979e3,1.0085669233180984e3,1.8817390396478774e3,1.3621428126370441e3,2.8058179906236893e3,1.7709086790194727e3,4.1151790595956213e3,2.231909239073856e3,5.9937909819394178e3,2.74139338413372e3,8.7584806835456405e3,3.2951298811972097e3,1.3006732481866392e4,3.8886704445418144e3,2.0017815504229868e4,4.5175559499764489e3,3.3116570392018553e4,5.1774682837395084e3,6.4492280797438461e4,5.8643343079884757e3,2.2384385294989185e5,6.574390231675649e3,-2.5671703804037064e5,7.3042149525027659e3,-9.7375354044554503e4},
-                                 {4.1092029605285606e-2,8.9275351603721281e-1,4.1287173226842354,1.1187071787323164e1,2.4333513973842545e1,4.286605075277432e1,7.4517231554549422e1,1.0676254761887988e2,1.7038523621041761e2,2.1204357016502654e2,3.3059319429429893e2,3.6587019646181631e2,5.7829713287632959e2,5.7325136752432083e2,9.4341730927898346e2,8.370750020294557e2,1.4661209216350375e3,1.1582827245347798e3,2.2024424565101295e3,1.5361436384031792e3,3.2338187987804878e3,1.968581006950959e3,4.6842067762982698e3,2.4525113393564123e3,6.7529607330786403e3,2.9841650560925066e3,9.7835388921851503e3,3.5593687114839061e3,1.4423781943268162e4,4.1737785847751442e3,2.2060917902084398e4,4.823063187302984e3,3.6300537169408461e4,5.5030375503352508e3,7.0361412157063023e4,6.2097552634509658e3,2.4320801701637958e5,6.9395655945159552e3,-2.7790707890887303e5,7.6891431679410125e3},
-                                 {4.000494979261024e-2,8.7225942821342938e-1,3.9867872857888023,1.108301311466492e1,2.3045335670368869e1,4.3539350829653309e1,6.8449946829250337e1,1.1241512289594958e2,1.5011584169024131e2,2.3404105950096788e2,2.7621606317125422e2,4.280753569259342e2,4.5294353810881272e2,7.1914825018516452e2,6.844406644696811e2,1.1392891819087e3,9.728792372780713e2,1.7316786367796758e3,1.3186568417061251e3,2.5567173257176108e3,1.720669230598421e3,3.702334746203474e3,2.176619090419714e3,5.3025053229530333e3,2.6833277247944078e3,7.5728209729932126e3,3.2370249562375684e3,1.0884837145472248e4,3.8336017347058864e3,1.5939514924063778e4,4.46881803355964e3,2.4237959543277767e4,5.1384648504526716e3,3.9681894234953573e4,5.8384833526474447e3,7.6575979313476518e4,6.5650466321280552e3,2.6365783755480027e5,7.3146105617573509e3,-3.0023212427225129e5},
-                                 {3.9010444834637843e-2,8.4768342728448035e-1,3.9179416214212156,1.0629698260726715e1,2.3068171240289545e1,4.0780379088592947e1,7.0528579739879984e1,1.0174308976608628e2,1.6089801526228524e2,2.0251263671537929e2,3.112409526862299e2,3.503173804688437e2,5.4232518396521887e2,5.5045948531939403e2,8.8037373876459726e2,8.0630399167992896e2,1.3596677938467543e3,1.1193940465791519e3,2.0265845990631138e3,1.4896595598424811e3,2.9461413042363429e3,1.9156831993904672e3,4.213119567296736e3,2.3949900319825366e3,5.9720558571951298e3,2.9243332554654901e3,8.4556534425449777e3,3.4999562687855633e3,1.2065069366663133e4,4.1178190984626408e3,1.7557222365925538e4,4.7737838580474064e3,2.6553170707252485e4,5.4637589573695774e3,4.3266563497229673e4,6.183805142773116e3,8.314585189928392e4,6.9302083511725998e3,2.8522292337929465e5,7.6995251333998358e3}};
-
-        IdX2dX2_ =new double[][]{{3.0905908420815475,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,1.2137970462834275e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,9.5163656659786276e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,3.6543183262796951e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,9.9859579446273666e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,2.2283851267855809e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,4.3470328914026432e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,7.7052113023412808e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,1.2712038581651686e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,1.9835078363502906e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,2.9600339739662265e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,4.2592277256322304e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,5.9453790914308128e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,8.0886226169064514e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.0764937393065668e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.4056147056377025e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.8049919788771125e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.283976831764061e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.8525049915840162e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.5210966401686505e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.30085641389584e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.2034734036896651e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,6.24122115502041e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,7.4269576679045632e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,8.7741253969048169e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.0296751251130067e7,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.2009446594235415e7,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.3927407244422164e7,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.6066413474437824e7,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.8442830011576106e7,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.1073606037676927e7,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.3976275189126407e7,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.7168955556856871e7,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.0670349686346847e7,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.4499744577621068e7,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.867701168525047e7,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3222606918352193e7,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.8157570640589583e7,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.3503527670172188e7,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.928268727985576e7}};
+    protected int getBoundaryType() {
+        return BoundaryTables.CF;
     }
-}
\ No newline at end of file
+}
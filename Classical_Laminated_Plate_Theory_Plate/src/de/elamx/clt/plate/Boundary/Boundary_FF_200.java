@@ -47,264 +47,7 @@ public class Boundary_FF_200 extends Boundary{
     }
     
     @Override
-    protected void initArrays() {
-        c1_ = new double[]{0,-5.0813733833137493e-1,-4.9155730363562483e-1,-5.0000015093612584e-1,-4.9998322618829846e-1,-5.0000000000052555e-1,-4.9999996867219559e-1,-5e-1,-4.999999999414971e-1,-5e-1,-4.9999999999989074e-1,-5e-1,-4.9999999999999979e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
-        c2_ = new double[]{0,3.2948052946113072e-1,4.9999999999999999e-1,4.9961119346239487e-1,4.9999999999999999e-1,4.999992750506462e-1,4.9999999999999999e-1,4.9999999864620251e-1,4.9999999999999999e-1,4.9999999999747186e-1,4.9999999999999999e-1,4.9999999999999527e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
-        c3_ = new double[]{0,-5.0813733833137493e-1,-4.9155730363562483e-1,-5.0000015093612584e-1,-4.9998322618829846e-1,-5.0000000000052555e-1,-4.9999996867219559e-1,-5e-1,-4.999999999414971e-1,-5e-1,-4.9999999999989074e-1,-5e-1,-4.9999999999999979e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
-        c4_ = new double[]{0,3.2948052946113072e-1,4.9999999999999999e-1,4.9961119346239487e-1,4.9999999999999999e-1,4.999992750506462e-1,4.9999999999999999e-1,4.9999999864620251e-1,4.9999999999999999e-1,4.9999999999747186e-1,4.9999999999999999e-1,4.9999999999999527e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
-        c5_ = new double[]{1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-
-        cv_ = new double[]{1,1.75,4.730040744862704,7.8532046240958375,1.099560783800167e1,1.4137165491257464e1,1.7278759657399481e1,2.0420352245626061e1,2.3561944902040455e1,2.6703537555508186e1,2.9845130209103254e1,3.2986722862692819e1,3.6128315516282622e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2};
-
-        IX_ = new double[]{1,-2.0182675470203813e-1,-3.6663525770202122e-3,-9.8941659358166504e-5,-3.0511557223205011e-6,-1.02559215727334e-7,-3.6261639112497487e-9,-1.3259296051813818e-10,-4.9658798284673188e-12,-1.8934863976545102e-13,-7.3211812061199827e-15,-2.8624579040370877e-16,-1.1294167216823786e-17,-4.4902000144798367e-19,-1.7966586704974132e-20,-7.2286132594443768e-22,-2.9222336690540124e-23,-1.186277628662559e-24,-4.8334349941270229e-26,-1.9758130451165293e-27,-8.1004027362511387e-29,-3.3297452507735994e-30,-1.3719871868257396e-31,-5.6653878054855659e-33,-2.3440557979036463e-34,-9.7161311751989631e-36,-4.034065259570928e-37,-1.677493601186582e-38,-6.985503241078054e-40,-2.912790023687627e-41,-1.2160618627424738e-42,-5.0827820958596554e-44,-2.1267401162897926e-45,-8.907693436736697e-47,-3.7344569919555537e-48,-1.567028230009563e-49,-6.5809896613483524e-51,-2.7659883290050537e-52,-1.1634174840635444e-53,-4.8969962398992434e-55};
-
-        IXX_ =   new double[][] {{1,-2.0182675470203813e-1,-3.6663525770202122e-3,-9.8941659358166504e-5,-3.0511557223205011e-6,-1.02559215727334e-7,-3.6261639112497487e-9,-1.3259296051813818e-10,-4.9658798284673188e-12,-1.8934863976545102e-13,-7.3211812061199827e-15,-2.8624579040370877e-16,-1.1294167216823786e-17,-4.4902000144798367e-19,-1.7966586704974132e-20,-7.2286132594443768e-22,-2.9222336690540124e-23,-1.186277628662559e-24,-4.8334349941270229e-26,-1.9758130451165293e-27,-8.1004027362511387e-29,-3.3297452507735994e-30,-1.3719871868257396e-31,-5.6653878054855659e-33,-2.3440557979036463e-34,-9.7161311751989631e-36,-4.034065259570928e-37,-1.677493601186582e-38,-6.985503241078054e-40,-2.912790023687627e-41,-1.2160618627424738e-42,-5.0827820958596554e-44,-2.1267401162897926e-45,-8.907693436736697e-47,-3.7344569919555537e-48,-1.567028230009563e-49,-6.5809896613483524e-51,-2.7659883290050537e-52,-1.1634174840635444e-53,-4.8969962398992434e-55},
-                                 {-2.0182675470203813e-1,2.7369444836072131e-1,9.7133576574272963e-3,-1.1629527058863613e-3,4.0296552864193849e-4,-1.7465031550244098e-4,9.0979023215248821e-5,-5.3133088115923896e-5,3.3642043302280508e-5,-2.2613855065192156e-5,1.5917174323283692e-5,-1.1620446426474789e-5,8.7391489792145911e-6,-6.7358456065079212e-6,5.3003213250033682e-6,-4.2450271197432596e-6,3.4520561973105083e-6,-2.844764569106922e-6,2.3718689884319199e-6,-1.9981772706821162e-6,1.6989955817406555e-6,-1.4566505274138727e-6,1.258267600863224e-6,-1.0943177847883136e-6,9.576460515388845e-7,-8.4280925780935495e-7,7.4561688399499961e-7,-6.6280731787686443e-7,5.9181629951219684e-7,-5.3060903633407095e-7,4.7755695511114656e-7,-4.3134617382020462e-7,3.9090879886628494e-7,-3.5537083968038581e-7,3.2401235313313753e-7,-2.9623668031819939e-7,2.7154650753307653e-7,-2.4952509484265805e-7,2.2982145059572292e-7,-2.1213854285704482e-7},
-                                 {-3.6663525770202122e-3,9.7133576574272963e-3,2.4819748706979564e-1,3.3822009580799955e-4,-1.7936422419037251e-4,9.4944861361744015e-5,-5.6281464987302157e-5,3.5926064898991672e-5,-2.4274792678057141e-5,1.7146670104156063e-5,-1.254986563122965e-5,9.4561351139179719e-6,-7.2992993166678563e-6,5.750522424077209e-6,-4.6100808881278977e-6,3.7519704134930904e-6,-3.0940555060037546e-6,2.5812554253659449e-6,-2.1757025329887513e-6,1.8507848801118745e-6,-1.5874315064309718e-6,1.3717343186340161e-6,-1.1933893254861663e-6,1.0446530305030876e-6,-9.1963019647887011e-7,8.1377921574061539e-7,-7.2356309325958018e-7,6.4619955921963604e-7,-5.7947974061995066e-7,5.2163494381049504e-7,-4.7123765544530346e-7,4.2712718599436958e-7,-3.8835326635165774e-7,3.5413286584966209e-7,-3.2381684566704772e-7,2.9686399811489334e-7,-2.7282068163755723e-7,2.5130473066763097e-7,-2.3199265694361721e-7,2.1460940391650238e-7},
-                                 {-9.8941659358166504e-5,-1.1629527058863613e-3,3.3822009580799955e-4,2.4966081549244215e-1,-1.2708655125747716e-5,8.3680505484143849e-6,-5.283564516729893e-6,3.5364771596872144e-6,-2.4700331968387542e-6,1.7879134694665591e-6,-1.3332704418765364e-6,1.0194618132865164e-6,-7.9629287762343281e-7,6.3345287202332659e-7,-5.1195803787479637e-7,4.195314387591376e-7,-3.480059440871953e-7,2.9181080115829598e-7,-2.4706070275657933e-7,2.1099137179820372e-7,-1.8160061402212884e-7,1.5741460920818973e-7,-1.3733246973383307e-7,1.2052083510269931e-7,-1.0634112318578903e-7,9.4298502648630233e-8,-8.4005566061685691e-8,7.5156112600084548e-8,-6.7505986396177737e-8,6.0858906861068072e-8,-5.5055875938978347e-8,4.9967178768355966e-8,-4.5486285447780323e-8,4.1525160809168327e-8,-3.8010627083895317e-8,3.4881521055750311e-8,-3.2086455827496116e-8,2.9582046401081797e-8,-2.7331493756238891e-8,2.5303448009026456e-8},
-                                 {-3.0511557223205011e-6,4.0296552864193849e-4,-1.7936422419037251e-4,-1.2708655125747716e-5,2.4999847447331749e-1,4.6728133774081228e-7,-3.436195255605288e-7,2.3998582947640144e-7,-1.7362913582656876e-7,1.2902032757368532e-7,-9.8181052106330219e-8,7.6283325257087892e-8,-6.0357853587560219e-8,4.8525760286852212e-8,-3.9566094644084435e-8,3.2665458971183728e-8,-2.7269422846978633e-8,2.2992085354529211e-8,-1.9559675301914846e-8,1.6774563565440271e-8,-1.4491804228261772e-8,1.2603536707921085e-8,-1.1028422773927783e-8,9.7043709024628549e-9,-8.5834456737885684e-9,7.6282538697752365e-9,-6.809344101041553e-9,6.1033121465759266e-9,-5.4914043065145449e-9,4.9584766208944125e-9,-4.4922113703995999e-9,4.0825216321419618e-9,-3.7210947079974693e-9,3.4010390986770609e-9,-3.1166093860523126e-9,2.8629902364925094e-9,-2.6361256311677108e-9,2.4325829587320224e-9,-2.2494441751484867e-9,2.0842181222114285e-9},
-                                 {-1.02559215727334e-7,-1.7465031550244098e-4,9.4944861361744015e-5,8.3680505484143849e-6,4.6728133774081228e-7,2.4999932633077961e-1,-1.7311543507205417e-8,1.3646655918895988e-8,-1.0178189181591264e-8,7.7719699778895281e-9,-6.0411598542436291e-9,4.7742952035975105e-9,-3.8301983210792015e-9,3.1147092017597276e-9,-2.5639741463698848e-9,2.1339619603108338e-9,-1.7937978750026917e-9,1.5214794243604243e-9,-1.301084189315301e-9,1.1209221045343504e-9,-9.7229383259929192e-10,8.4864368281701405e-10,-7.4497319783925542e-10,6.5742949268719531e-10,-5.8301242170672323e-10,5.1936365388678503e-10,-4.6461294583269197e-10,4.1726485226490945e-10,-3.7611436095563016e-10,3.4018344686659698e-10,-3.0867291471376166e-10,2.8092552569991848e-10,-2.5639753106060088e-10,2.3463652432929382e-10,-2.1526408274193517e-10,1.9796206732775828e-10,-1.824617391362326e-10,1.685350585777393e-10,-1.5598768864071529e-10,1.4465333653387841e-10},
-                                 {-3.6261639112497487e-9,9.0979023215248821e-5,-5.6281464987302157e-5,-5.283564516729893e-6,-3.436195255605288e-7,-1.7311543507205417e-8,2.4999999818691815e-1,6.5159761897818268e-10,-5.3837096222764716e-10,4.203392672594008e-10,-3.33781129831183e-10,2.683731199370901e-10,-2.183902680190328e-10,1.7971495160639324e-10,-1.4942491390051753e-10,1.2542683722319838e-10,-1.0620598271728893e-10,9.0654107139479077e-11,-7.7951170166834158e-11,6.7483566021624068e-11,-5.8787145348983849e-11,5.1507135507647681e-11,-4.5369661769281014e-11,4.0161301867302974e-11,-3.5714256386296138e-11,3.1895483765727506e-11,-2.8598662032660407e-11,2.5738185769663814e-11,-2.3244642509573134e-11,2.106137453746735e-11,-1.9141844158621341e-11,1.7447598847289487e-11,-1.5946687970372447e-11,1.4612422127040999e-11,-1.3422394395666819e-11,1.2357703233455735e-11,-1.140233170413359e-11,1.0542648692362028e-11,-9.7670059045727285e-12,9.0654105339837364e-12},
-                                 {-1.3259296051813818e-10,-5.3133088115923896e-5,3.5926064898991672e-5,3.5364771596872144e-6,2.3998582947640144e-7,1.3646655918895988e-8,6.5159761897818268e-10,2.4999999871249899e-1,-2.4886410793095115e-11,2.1269068464415634e-11,-1.7173143614578119e-11,1.4045775459520798e-11,-1.1592908108281195e-11,9.6548700631333068e-12,-8.1098756206789073e-12,6.8672025637763523e-12,-5.8589447467051907e-12,5.0339865359505799e-12,-4.353579819875113e-12,3.7881239654750316e-12,-3.3148239983698715e-12,2.9159833133522309e-12,-2.5777531947064073e-12,2.2892114312381356e-12,-2.0416788131904599e-12,1.8282084415845927e-12,-1.643201337412341e-12,1.4821149699278776e-12,-1.341240621758955e-12,1.2175321120608923e-12,-1.1084731093659783e-12,1.0119736439597639e-12,-9.262888668515894e-13,8.4995487192896149e-13,-7.8173769099648628e-13,7.2059252258300209e-13,-6.6563095965960634e-13,6.1609450622859207e-13,-5.7133306633098391e-13,5.3078738603046619e-13},
-                                 {-4.9658798284673188e-12,3.3642043302280508e-5,-2.4274792678057141e-5,-2.4700331968387542e-6,-1.7362913582656876e-7,-1.0178189181591264e-8,-5.3837096222764716e-10,-2.4886410793095115e-11,2.4999999999751706e-1,9.6240117769364442e-13,-8.437091152594014e-13,6.9891531138783155e-13,-5.8494980605244812e-13,4.9293639441813488e-13,-4.1828503492329225e-13,3.5732228397781811e-13,-3.0720442162068631e-13,2.6572559019572718e-13,-2.3117026792703318e-13,2.0219868285611092e-13,-1.7775915769874996e-13,1.5702147751815024e-13,-1.3932634276842046e-13,1.2414699573504391e-13,-1.1106001288315779e-13,9.972298900489849e-14,-8.9857408608767058e-14,8.1235431889716822e-14,-7.3669645819753398e-14,6.7005071099437563e-14,-6.1112893714828502e-14,5.5885521727203498e-14,-5.1232665785908314e-14,4.7078214673742022e-14,-4.3357731572354235e-14,4.0016437510291268e-14,-3.7007579169113666e-14,3.429110146613028e-14,-3.18325630080871e-14,2.9602246018395002e-14},
-                                 {-1.8934863976545102e-13,-2.2613855065192156e-5,1.7146670104156063e-5,1.7879134694665591e-6,1.2902032757368532e-7,7.7719699778895281e-9,4.203392672594008e-10,2.1269068464415634e-11,9.6240117769364442e-13,2.4999999999756653e-1,-3.7609140394444558e-14,3.3630886424209637e-14,-2.8427030899045656e-14,2.4233533476350386e-14,-2.0768653186244739e-14,1.7896688818502986e-14,-1.5504497771438304e-14,1.3501739727143629e-14,-1.1816251742150681e-14,1.0390361738357766e-14,-9.1778795102495951e-15,8.141693218617193e-15,-7.2518698718385621e-15,6.4841627900274988e-15,-5.8188417431435826e-15,5.2397762034471843e-15,-4.7337159940980874e-15,4.2897254780055481e-15,-3.8987371218081403e-15,3.5531979709123298e-15,-3.2467885912347872e-15,2.9741986928853352e-15,-2.7309472380247526e-15,2.5132375891827644e-15,-2.3178403674602005e-15,2.1419983125971585e-15,-1.9833486848904167e-15,1.8398597111685697e-15,-1.7097783210824348e-15,1.5915869971892587e-15},
-                                 {-7.3211812061199827e-15,1.5917174323283692e-5,-1.254986563122965e-5,-1.3332704418765364e-6,-9.8181052106330219e-8,-6.0411598542436291e-9,-3.33781129831183e-10,-1.7173143614578119e-11,-8.437091152594014e-13,-3.7609140394444558e-14,2.4999999999999633e-1,1.4827013599739366e-15,-1.3470678979499132e-15,1.15731527649135e-15,-1.0015224477291746e-15,8.7035434454632278e-16,-7.5969716737320274e-16,6.6599445424631765e-16,-5.8633391591791725e-16,5.183317701558656e-16,-4.6003867760639822e-16,4.0985946696700977e-16,-3.6648651213543644e-16,3.2884522928539418e-16,-2.9604988735288452e-16,2.6736796594963042e-16,-2.4219148207193673e-16,2.2001394099542143e-16,-2.004117985536416e-16,1.8302953015306297e-16,-1.6756757929495218e-16,1.5377260501223005e-16,-1.4142956653183582e-16,1.303552787282034e-16,-1.2039314766912789e-16,1.1140885550032186e-16,-1.0328681124849421e-16,9.5927221465562724e-17,-8.9243664104173285e-17,8.3161072291985486e-17},
-                                 {-2.8624579040370877e-16,-1.1620446426474789e-5,9.4561351139179719e-6,1.0194618132865164e-6,7.6283325257087892e-8,4.7742952035975105e-9,2.683731199370901e-10,1.4045775459520798e-11,6.9891531138783155e-13,3.3630886424209637e-14,1.4827013599739366e-15,2.4999999999999542e-1,-5.8891896260575526e-17,5.4203813574745369e-17,-4.7196734839788443e-17,4.1356316611443576e-17,-3.636180997429545e-17,3.2085721466472231e-17,-2.8414104172272632e-17,2.5251688559999698e-17,-2.2518877547773411e-17,2.0149298173732354e-17,-1.8087624624240484e-17,1.6287708378976497e-17,-1.4711000360314649e-17,1.3325235070517248e-17,-1.2103341482799613e-17,1.1022545800119349e-17,-1.0063634194311297e-17,9.210347664959716e-18,-8.448885342072623e-18,7.7674964690073571e-18,-7.1561447600926128e-18,6.60623178293421e-18,-6.1103684882184873e-18,5.6621860500848157e-18,-5.256178848025771e-18,4.8875737765564914e-18,-4.5522211660084731e-18,4.2465034840110059e-18},
-                                 {-1.1294167216823786e-17,8.7391489792145911e-6,-7.2992993166678563e-6,-7.9629287762343281e-7,-6.0357853587560219e-8,-3.8301983210792015e-9,-2.183902680190328e-10,-1.1592908108281195e-11,-5.8494980605244812e-13,-2.8427030899045656e-14,-1.3470678979499132e-15,-5.8891896260575526e-17,2.4999999999999999e-1,2.354134080814395e-18,-2.1902983919429157e-18,1.9286707279929369e-18,-1.7078921587090179e-18,1.5165999679480405e-18,-1.3507660775314594e-18,1.2066748544697427e-18,-1.0811654801880427e-18,9.7155071073858635e-19,-8.7555198235788952e-19,7.9123941986672932e-19,-7.1697867331261165e-19,6.5138477686336329e-19,-5.9328267216602676e-19,5.41673758818293e-19,-4.957077346113989e-19,4.5465898798006587e-19,-4.1790685641717386e-19,3.8491913873135884e-19,-3.5523832950845105e-19,3.284701221150971e-19,-3.0427379772174638e-19,2.8235418042059484e-19,-2.6245489233182149e-19,2.4435268814565391e-19,-2.2785268669969937e-19,2.1278434891157494e-19},
-                                 {-4.4902000144798367e-19,-6.7358456065079212e-6,5.750522424077209e-6,6.3345287202332659e-7,4.8525760286852212e-8,3.1147092017597276e-9,1.7971495160639324e-10,9.6548700631333068e-12,4.9293639441813488e-13,2.4233533476350386e-14,1.15731527649135e-15,5.4203813574745369e-17,2.354134080814395e-18,2.4999999999999999e-1,-9.4624207426865376e-20,8.8848054513455648e-20,-7.8984270401643807e-20,7.0574781252604169e-20,-6.32066256782837e-20,5.6750393298489037e-20,-5.10829560652061e-20,4.6098041491591329e-20,-4.1703941715094847e-20,3.7821765620621352e-20,-3.4383760304559321e-20,3.1331780079959029e-20,-2.8615922939540349e-20,2.619333632985658e-20,-2.4027183296660084e-20,2.2085754695546119e-20,-2.0341711092433676e-20,1.8771437843472063e-20,-1.7354497770374264e-20,1.6073167291236528e-20,-1.4912043500843262e-20,1.3857711329263308e-20,-1.289846144146507e-20,1.2024050925504967e-20,-1.1225500036199591e-20,1.0494919316784159e-20},
-                                 {-1.7966586704974132e-20,5.3003213250033682e-6,-4.6100808881278977e-6,-5.1195803787479637e-7,-3.9566094644084435e-8,-2.5639741463698848e-9,-1.4942491390051753e-10,-8.1098756206789073e-12,-4.1828503492329225e-13,-2.0768653186244739e-14,-1.0015224477291746e-15,-4.7196734839788443e-17,-2.1902983919429157e-18,-9.4624207426865376e-20,2.4999999999999999e-1,3.8217295408956661e-21,-3.6166791343231354e-21,3.2415996961392061e-21,-2.9190609704597648e-21,2.6337302343984425e-21,-2.3813894337985438e-21,2.1578980100348821e-21,-1.9596382917262225e-21,1.7834479449764463e-21,-1.6265722504462964e-21,1.4866164709685753e-21,-1.3615012170401397e-21,1.249421728780405e-21,-1.1488114340281126e-21,1.0583097695480076e-21,-9.7673403887202634e-22,9.0305496964761454e-22,-8.3637558799017515e-22,7.7591302178741345e-22,-7.209828623382356e-22,6.7098574323392125e-22,-6.2539583014537873e-22,5.8375095099703839e-22,-5.4564413047517675e-22,5.1071632465571472e-22},
-                                 {-7.2286132594443768e-22,-4.2450271197432596e-6,3.7519704134930904e-6,4.195314387591376e-7,3.2665458971183728e-8,2.1339619603108338e-9,1.2542683722319838e-10,6.8672025637763523e-12,3.5732228397781811e-13,1.7896688818502986e-14,8.7035434454632278e-16,4.1356316611443576e-17,1.9286707279929369e-18,8.8848054513455648e-20,3.8217295408956661e-21,2.4999999999999999e-1,-1.5500649506207001e-22,1.4768925403309491e-22,-1.333176468962152e-22,1.2086908651663968e-22,-1.0976403392800836e-22,9.9863289384548901e-23,-9.1025737647411359e-23,8.3126802960030691e-23,-7.6056362719734918e-23,6.9717430196855509e-23,-6.4024785293647723e-23,5.8903658130500812e-23,-5.4288500721980669e-23,5.0121865236990079e-23,-4.6353395099225134e-23,4.2938927562128916e-23,-3.9839701885697574e-23,3.7021664829482513e-23,-3.4454864130821784e-23,3.2112920455629714e-23,-2.9972568647498964e-23,2.8013259729969318e-23,-2.6216815886737268e-23,2.4567131460186297e-23},
-                                 {-2.9222336690540124e-23,3.4520561973105083e-6,-3.0940555060037546e-6,-3.480059440871953e-7,-2.7269422846978633e-8,-1.7937978750026917e-9,-1.0620598271728893e-10,-5.8589447467051907e-12,-3.0720442162068631e-13,-1.5504497771438304e-14,-7.5969716737320274e-16,-3.636180997429545e-17,-1.7078921587090179e-18,-7.8984270401643807e-20,-3.6166791343231354e-21,-1.5500649506207001e-22,2.4999999999999999e-1,6.3104525396847139e-24,-6.0483723391389615e-24,5.4939570278320283e-24,-5.0107484599158511e-24,4.5765119167849925e-24,-4.1866049978654389e-24,3.83615923357961e-24,-3.520838924096973e-24,3.2367736181838851e-24,-2.9805214676186794e-24,2.7490294061761979e-24,-2.539593905261091e-24,2.3498235595656468e-24,-2.17760426321447e-24,2.0210673447520588e-24,-1.8785607706786087e-24,1.7486233616706052e-24,-1.6299618654706625e-24,1.5214306751972751e-24,-1.4220139567005129e-24,1.330809943053505e-24,-1.2470171609702124e-24,1.1699223678276095e-24},
-                                 {-1.186277628662559e-24,-2.844764569106922e-6,2.5812554253659449e-6,2.9181080115829598e-7,2.2992085354529211e-8,1.5214794243604243e-9,9.0654107139479077e-11,5.0339865359505799e-12,2.6572559019572718e-13,1.3501739727143629e-14,6.6599445424631765e-16,3.2085721466472231e-17,1.5165999679480405e-18,7.0574781252604169e-20,3.2415996961392061e-21,1.4768925403309491e-22,6.3104525396847139e-24,2.4999999999999999e-1,-2.5775918887281015e-25,2.4835138904696426e-25,-2.2683298245714808e-25,2.0797877173684658e-25,-1.9092494103125944e-25,1.7551528933643285e-25,-1.6157996936366621e-25,1.4896659145429267e-25,-1.375379376087007e-25,1.2717093781321632e-25,-1.177554999040037e-25,1.0919332806015672e-25,-1.0139677276483299e-25,9.4287740835242146e-26,-8.7796681703173158e-26,8.1861657579989677e-26,-7.642749935684185e-26,7.1445046323523352e-26,-6.6870465461862191e-26,6.2664644750975123e-26,-5.8792654295124593e-26,5.5223268920498438e-26},
-                                 {-4.8334349941270229e-26,2.3718689884319199e-6,-2.1757025329887513e-6,-2.4706070275657933e-7,-1.9559675301914846e-8,-1.301084189315301e-9,-7.7951170166834158e-11,-4.353579819875113e-12,-2.3117026792703318e-13,-1.1816251742150681e-14,-5.8633391591791725e-16,-2.8414104172272632e-17,-1.3507660775314594e-18,-6.32066256782837e-20,-2.9190609704597648e-21,-1.333176468962152e-22,-6.0483723391389615e-24,-2.5775918887281015e-25,2.4999999999999999e-1,1.0559916021789993e-26,-1.0221946081922983e-26,9.3821574435810325e-27,-8.6429865121469036e-27,7.9705182210519127e-27,-7.3594587768962157e-27,6.8038217785204343e-27,-6.2982021839114059e-27,5.8376956487173336e-27,-5.4178699443975877e-27,5.0347302621230775e-27,-4.6846833235343774e-27,4.3645017306324156e-27,-4.0712895840018724e-27,3.802450006847635e-27,-3.5556549337574054e-27,3.3288173265374995e-27,-3.1200658446180963e-27,2.9277219082098027e-27,-2.7502790361406252e-27,2.5863843076450251e-27},
-                                 {-1.9758130451165293e-27,-1.9981772706821162e-6,1.8507848801118745e-6,2.1099137179820372e-7,1.6774563565440271e-8,1.1209221045343504e-9,6.7483566021624068e-11,3.7881239654750316e-12,2.0219868285611092e-13,1.0390361738357766e-14,5.183317701558656e-16,2.5251688559999698e-17,1.2066748544697427e-18,5.6750393298489037e-20,2.6337302343984425e-21,1.2086908651663968e-22,5.4939570278320283e-24,2.4835138904696426e-25,1.0559916021789993e-26,2.4999999999999999e-1,-4.337815528827661e-28,4.2164921205008881e-28,-3.8871173833033431e-28,3.5960653101151003e-28,-3.3299007771566002e-28,3.0868194225334858e-28,-2.8646913819777674e-28,2.6615833779263061e-28,-2.4757292101425694e-28,2.3055218288817337e-28,-2.1495029676608099e-28,2.0063521545705379e-28,-1.8748755746400816e-28,1.7539951449081922e-28,-1.6427380402586791e-28,1.540226817912025e-28,-1.4456702226597267e-28,1.358354707976432e-28,-1.2776366754959296e-28,1.2029354133827527e-28},
-                                 {-8.1004027362511387e-29,1.6989955817406555e-6,-1.5874315064309718e-6,-1.8160061402212884e-7,-1.4491804228261772e-8,-9.7229383259929192e-10,-5.8787145348983849e-11,-3.3148239983698715e-12,-1.7775915769874996e-13,-9.1778795102495951e-15,-4.6003867760639822e-16,-2.2518877547773411e-17,-1.0811654801880427e-18,-5.10829560652061e-20,-2.3813894337985438e-21,-1.0976403392800836e-22,-5.0107484599158511e-24,-2.2683298245714808e-25,-1.0221946081922983e-26,-4.337815528827661e-28,2.4999999999999999e-1,1.7862228789382595e-29,-1.7427756233781241e-29,1.6130051435061095e-29,-1.4979432121102698e-29,1.3922270513721247e-29,-1.2952390836781206e-29,1.206214955472289e-29,-1.1244577648887107e-29,1.0493269346417319e-29,-9.8023604825764852e-30,9.1664973275787895e-30,-8.5808027056623692e-30,8.0408409514257627e-30,-7.5425829578325636e-30,7.0823721790607099e-30,-6.6568921602571458e-30,6.2631359477539272e-30,-5.8983775724326368e-30,5.560145682847504e-30},
-                                 {-3.3297452507735994e-30,-1.4566505274138727e-6,1.3717343186340161e-6,1.5741460920818973e-7,1.2603536707921085e-8,8.4864368281701405e-10,5.1507135507647681e-11,2.9159833133522309e-12,1.5702147751815024e-13,8.141693218617193e-15,4.0985946696700977e-16,2.0149298173732354e-17,9.7155071073858635e-19,4.6098041491591329e-20,2.1578980100348821e-21,9.9863289384548901e-23,4.5765119167849925e-24,2.0797877173684658e-25,9.3821574435810325e-27,4.2164921205008881e-28,1.7862228789382595e-29,2.4999999999999999e-1,-7.3715470761591744e-31,7.2166327041109364e-31,-6.7032319390645207e-31,6.2466796102586934e-31,-5.8254299828475157e-31,5.4373637616919252e-31,-5.0797158838084789e-31,4.7499559637778187e-31,-4.4457453008197887e-31,4.1649311516536864e-31,-3.9055373115821429e-31,3.6657536056803007e-31,-3.4439247918327517e-31,3.2385393077893264e-31,-3.0482181699293265e-31,2.8717042374123088e-31,-2.7078519831192979e-31,2.5556178581768775e-31},
-                                 {-1.3719871868257396e-31,1.258267600863224e-6,-1.1933893254861663e-6,-1.3733246973383307e-7,-1.1028422773927783e-8,-7.4497319783925542e-10,-4.5369661769281014e-11,-2.5777531947064073e-12,-1.3932634276842046e-13,-7.2518698718385621e-15,-3.6648651213543644e-16,-1.8087624624240484e-17,-8.7555198235788952e-19,-4.1703941715094847e-20,-1.9596382917262225e-21,-9.1025737647411359e-23,-4.1866049978654389e-24,-1.9092494103125944e-25,-8.6429865121469036e-27,-3.8871173833033431e-28,-1.7427756233781241e-29,-7.3715470761591744e-31,2.4999999999999999e-1,3.0482940062305041e-32,-2.9934273086922905e-32,2.7895435890482806e-32,-2.6077724213661207e-32,2.4394089087084182e-32,-2.2837251058336861e-32,2.1397133230484749e-32,-2.0064486124683004e-32,1.8830718350856013e-32,-1.768788231431397e-32,1.6628645663812034e-32,-1.5646258536239435e-32,1.4734518216845969e-32,-1.3887732699686054e-32,1.3100684234268752e-32,-1.2368593640207417e-32,1.1687085932861284e-32},
-                                 {-5.6653878054855659e-33,-1.0943177847883136e-6,1.0446530305030876e-6,1.2052083510269931e-7,9.7043709024628549e-9,6.5742949268719531e-10,4.0161301867302974e-11,2.2892114312381356e-12,1.2414699573504391e-13,6.4841627900274988e-15,3.2884522928539418e-16,1.6287708378976497e-17,7.9123941986672932e-19,3.7821765620621352e-20,1.7834479449764463e-21,8.3126802960030691e-23,3.83615923357961e-24,1.7551528933643285e-25,7.9705182210519127e-27,3.5960653101151003e-28,1.6130051435061095e-29,7.2166327041109364e-31,3.0482940062305041e-32,2.4999999999999999e-1,-1.2628662721660501e-33,1.2436222055636018e-33,-1.1623724408591778e-33,1.0897743052549138e-33,-1.0222937575318059e-33,9.5968098992682457e-34,-9.015662346061615e-34,8.4760927008519322e-34,-7.9749265279838544e-34,7.5092140185439514e-34,-7.0762213224109483e-34,6.6734202999838709e-34,-6.2984772120849746e-34,5.9492408579082085e-34,-5.6237305422099367e-34,5.3201241542029806e-34},
-                                 {-2.3440557979036463e-34,9.576460515388845e-7,-9.1963019647887011e-7,-1.0634112318578903e-7,-8.5834456737885684e-9,-5.8301242170672323e-10,-3.5714256386296138e-11,-2.0416788131904599e-12,-1.1106001288315779e-13,-5.8188417431435826e-15,-2.9604988735288452e-16,-1.4711000360314649e-17,-7.1697867331261165e-19,-3.4383760304559321e-20,-1.6265722504462964e-21,-7.6056362719734918e-23,-3.520838924096973e-24,-1.6157996936366621e-25,-7.3594587768962157e-27,-3.3299007771566002e-28,-1.4979432121102698e-29,-6.7032319390645207e-31,-2.9934273086922905e-32,-1.2628662721660501e-33,2.4999999999999999e-1,5.240780322203553e-35,-5.1742124803024654e-35,4.8493808506230348e-35,-4.5585812844907731e-35,4.2874054169412222e-35,-4.034998633870842e-35,3.799995393641571e-35,-3.5811369538695683e-35,3.3772440093019456e-35,-3.1872162036554706e-35,3.0100294996505931e-35,-2.8447329644155499e-35,2.6904451347146709e-35,-2.5463501373348442e-35,2.4116936980805923e-35},
-                                 {-9.7161311751989631e-36,-8.4280925780935495e-7,8.1377921574061539e-7,9.4298502648630233e-8,7.6282538697752365e-9,5.1936365388678503e-10,3.1895483765727506e-11,1.8282084415845927e-12,9.972298900489849e-14,5.2397762034471843e-15,2.6736796594963042e-16,1.3325235070517248e-17,6.5138477686336329e-19,3.1331780079959029e-20,1.4866164709685753e-21,6.9717430196855509e-23,3.2367736181838851e-24,1.4896659145429267e-25,6.8038217785204343e-27,3.0868194225334858e-28,1.3922270513721247e-29,6.2466796102586934e-31,2.7895435890482806e-32,1.2436222055636018e-33,5.240780322203553e-35,2.4999999999999999e-1,-2.1782903589689094e-36,2.1557158533356316e-36,-2.0254630399940623e-36,1.9086634010923549e-36,-1.799420811259419e-36,1.6974445786699718e-36,-1.6022273997802167e-36,1.5133010265983626e-36,-1.4302251096414839e-36,1.3525872384749955e-36,-1.2800021461871589e-36,1.2121106998822799e-36,-1.1485787286389625e-36,1.0890957493768772e-36},
-                                 {-4.034065259570928e-37,7.4561688399499961e-7,-7.2356309325958018e-7,-8.4005566061685691e-8,-6.809344101041553e-9,-4.6461294583269197e-10,-2.8598662032660407e-11,-1.643201337412341e-12,-8.9857408608767058e-14,-4.7337159940980874e-15,-2.4219148207193673e-16,-1.2103341482799613e-17,-5.9328267216602676e-19,-2.8615922939540349e-20,-1.3615012170401397e-21,-6.4024785293647723e-23,-2.9805214676186794e-24,-1.375379376087007e-25,-6.2982021839114059e-27,-2.8646913819777674e-28,-1.2952390836781206e-29,-5.8254299828475157e-31,-2.6077724213661207e-32,-1.1623724408591778e-33,-5.1742124803024654e-35,-2.1782903589689094e-36,2.4999999999999999e-1,9.0670547643423449e-38,-8.9926990564206201e-38,8.468959289570394e-38,-7.998644110535354e-38,7.5575467101539816e-38,-7.144687389051684e-38,6.7581709703102191e-38,-6.3962466921490645e-38,6.0572624145027211e-38,-5.739665510566785e-38,5.4420004754031454e-38,-5.1629057570782461e-38,4.9011099680112761e-38},
-                                 {-1.677493601186582e-38,-6.6280731787686443e-7,6.4619955921963604e-7,7.5156112600084548e-8,6.1033121465759266e-9,4.1726485226490945e-10,2.5738185769663814e-11,1.4821149699278776e-12,8.1235431889716822e-14,4.2897254780055481e-15,2.2001394099542143e-16,1.1022545800119349e-17,5.41673758818293e-19,2.619333632985658e-20,1.249421728780405e-21,5.8903658130500812e-23,2.7490294061761979e-24,1.2717093781321632e-25,5.8376956487173336e-27,2.6615833779263061e-28,1.206214955472289e-29,5.4373637616919252e-31,2.4394089087084182e-32,1.0897743052549138e-33,4.8493808506230348e-35,2.1557158533356316e-36,9.0670547643423449e-38,2.4999999999999999e-1,-3.7792202136662343e-39,3.7558096459484311e-39,-3.5446746466460929e-39,3.3548449606246161e-39,-3.1763535383919092e-39,3.0088747790409064e-39,-2.8516969803546191e-39,2.7041624062737141e-39,-2.5656483959689668e-39,2.4355679495358394e-39,-2.3133690166277704e-39,2.1985335040922477e-39},
-                                 {-6.985503241078054e-40,5.9181629951219684e-7,-5.7947974061995066e-7,-6.7505986396177737e-8,-5.4914043065145449e-9,-3.7611436095563016e-10,-2.3244642509573134e-11,-1.341240621758955e-12,-7.3669645819753398e-14,-3.8987371218081403e-15,-2.004117985536416e-16,-1.0063634194311297e-17,-4.957077346113989e-19,-2.4027183296660084e-20,-1.1488114340281126e-21,-5.4288500721980669e-23,-2.539593905261091e-24,-1.177554999040037e-25,-5.4178699443975877e-27,-2.4757292101425694e-28,-1.1244577648887107e-29,-5.0797158838084789e-31,-2.2837251058336861e-32,-1.0222937575318059e-33,-4.5585812844907731e-35,-2.0254630399940623e-36,-8.9926990564206201e-38,-3.7792202136662343e-39,2.4999999999999999e-1,1.5771868445863355e-40,-1.5703596645302353e-40,1.485040601631198e-40,-1.4082511639325472e-40,1.3358768472492301e-40,-1.2678116837272349e-40,1.203787092237078e-40,-1.143554860651525e-40,1.0868793221560079e-40,-1.0335376627251314e-40,9.8331971298958904e-41},
-                                 {-2.912790023687627e-41,-5.3060903633407095e-7,5.2163494381049504e-7,6.0858906861068072e-8,4.9584766208944125e-9,3.4018344686659698e-10,2.106137453746735e-11,1.2175321120608923e-12,6.7005071099437563e-14,3.5531979709123298e-15,1.8302953015306297e-16,9.210347664959716e-18,4.5465898798006587e-19,2.2085754695546119e-20,1.0583097695480076e-21,5.0121865236990079e-23,2.3498235595656468e-24,1.0919332806015672e-25,5.0347302621230775e-27,2.3055218288817337e-28,1.0493269346417319e-29,4.7499559637778187e-31,2.1397133230484749e-32,9.5968098992682457e-34,4.2874054169412222e-35,1.9086634010923549e-36,8.468959289570394e-38,3.7558096459484311e-39,1.5771868445863355e-40,2.4999999999999999e-1,-6.5898058862269311e-42,6.5727453957600738e-42,-6.2271998748290953e-42,5.9159267880794708e-42,-5.6219016597826174e-42,5.3447905198324661e-42,-5.0835751151730421e-42,4.8373148023346205e-42,-4.6051140449140824e-42,4.3861238820346274e-42},
-                                 {-1.2160618627424738e-42,4.7755695511114656e-7,-4.7123765544530346e-7,-5.5055875938978347e-8,-4.4922113703995999e-9,-3.0867291471376166e-10,-1.9141844158621341e-11,-1.1084731093659783e-12,-6.1112893714828502e-14,-3.2467885912347872e-15,-1.6756757929495218e-16,-8.448885342072623e-18,-4.1790685641717386e-19,-2.0341711092433676e-20,-9.7673403887202634e-22,-4.6353395099225134e-23,-2.17760426321447e-24,-1.0139677276483299e-25,-4.6846833235343774e-27,-2.1495029676608099e-28,-9.8023604825764852e-30,-4.4457453008197887e-31,-2.0064486124683004e-32,-9.015662346061615e-34,-4.034998633870842e-35,-1.799420811259419e-36,-7.998644110535354e-38,-3.5446746466460929e-39,-1.5703596645302353e-40,-6.5898058862269311e-42,2.4999999999999999e-1,2.7563711431915132e-43,-2.7537171778418358e-43,2.6134757431901189e-43,-2.4870515673326045e-43,2.3673857777797681e-43,-2.2543784563355941e-43,2.1476418773482689e-43,-2.0468181493676033e-43,1.951565678783232e-43},
-                                 {-5.0827820958596554e-44,-4.3134617382020462e-7,4.2712718599436958e-7,4.9967178768355966e-8,4.0825216321419618e-9,2.8092552569991848e-10,1.7447598847289487e-11,1.0119736439597639e-12,5.5885521727203498e-14,2.9741986928853352e-15,1.5377260501223005e-16,7.7674964690073571e-18,3.8491913873135884e-19,1.8771437843472063e-20,9.0305496964761454e-22,4.2938927562128916e-23,2.0210673447520588e-24,9.4287740835242146e-26,4.3645017306324156e-27,2.0063521545705379e-28,9.1664973275787895e-30,4.1649311516536864e-31,1.8830718350856013e-32,8.4760927008519322e-34,3.799995393641571e-35,1.6974445786699718e-36,7.5575467101539816e-38,3.3548449606246161e-39,1.485040601631198e-40,6.5727453957600738e-42,2.7563711431915132e-43,2.4999999999999999e-1,-1.1541134950234165e-44,1.1547601450768723e-44,-1.0977301349835312e-44,1.0462881674578642e-44,-9.975018912240368e-45,9.5134408646861158e-45,-9.0766650911486488e-45,8.663324794793e-45},
-                                 {-2.1267401162897926e-45,3.9090879886628494e-7,-3.8835326635165774e-7,-4.5486285447780323e-8,-3.7210947079974693e-9,-2.5639753106060088e-10,-1.5946687970372447e-11,-9.262888668515894e-13,-5.1232665785908314e-14,-2.7309472380247526e-15,-1.4142956653183582e-16,-7.1561447600926128e-18,-3.5523832950845105e-19,-1.7354497770374264e-20,-8.3637558799017515e-22,-3.9839701885697574e-23,-1.8785607706786087e-24,-8.7796681703173158e-26,-4.0712895840018724e-27,-1.8748755746400816e-28,-8.5808027056623692e-30,-3.9055373115821429e-31,-1.768788231431397e-32,-7.9749265279838544e-34,-3.5811369538695683e-35,-1.6022273997802167e-36,-7.144687389051684e-38,-3.1763535383919092e-39,-1.4082511639325472e-40,-6.2271998748290953e-42,-2.7537171778418358e-43,-1.1541134950234165e-44,2.4999999999999999e-1,4.8370209219138587e-46,-4.8466465280588728e-46,4.6143002843749571e-46,-4.4046195874112053e-46,4.2054021599859e-46,-4.016587894351854e-46,3.8376077824e-46},
-                                 {-8.907693436736697e-47,-3.5537083968038581e-7,3.5413286584966209e-7,4.1525160809168327e-8,3.4010390986770609e-9,2.3463652432929382e-10,1.4612422127040999e-11,8.4995487192896149e-13,4.7078214673742022e-14,2.5132375891827644e-15,1.303552787282034e-16,6.60623178293421e-18,3.284701221150971e-19,1.6073167291236528e-20,7.7591302178741345e-22,3.7021664829482513e-23,1.7486233616706052e-24,8.1861657579989677e-26,3.802450006847635e-27,1.7539951449081922e-28,8.0408409514257627e-30,3.6657536056803007e-31,1.6628645663812034e-32,7.5092140185439514e-34,3.3772440093019456e-35,1.5133010265983626e-36,6.7581709703102191e-38,3.0088747790409064e-39,1.3358768472492301e-40,5.9159267880794708e-42,2.6134757431901189e-43,1.1547601450768723e-44,4.8370209219138587e-46,2.4999999999999999e-1,-2.0290899538505284e-47,2.035856057043907e-47,-1.9410302760921864e-47,1.85542292797e-47,-1.7739483823401481e-47,1.6966015e-47},
-                                 {-3.7344569919555537e-48,3.2401235313313753e-7,-3.2381684566704772e-7,-3.8010627083895317e-8,-3.1166093860523126e-9,-2.1526408274193517e-10,-1.3422394395666819e-11,-7.8173769099648628e-13,-4.3357731572354235e-14,-2.3178403674602005e-15,-1.2039314766912789e-16,-6.1103684882184873e-18,-3.0427379772174638e-19,-1.4912043500843262e-20,-7.209828623382356e-22,-3.4454864130821784e-23,-1.6299618654706625e-24,-7.642749935684185e-26,-3.5556549337574054e-27,-1.6427380402586791e-28,-7.5425829578325636e-30,-3.4439247918327517e-31,-1.5646258536239435e-32,-7.0762213224109483e-34,-3.1872162036554706e-35,-1.4302251096414839e-36,-6.3962466921490645e-38,-2.8516969803546191e-39,-1.2678116837272349e-40,-5.6219016597826174e-42,-2.4870515673326045e-43,-1.0977301349835312e-44,-4.8466465280588728e-46,-2.0290899538505284e-47,2.4999999999999999e-1,8.51914308895315e-49,-8.5583428141658762e-49,8.170698764e-49,-7.820643233608964e-49,7.4869e-49},
-                                 {-1.567028230009563e-49,-2.9623668031819939e-7,2.9686399811489334e-7,3.4881521055750311e-8,2.8629902364925094e-9,1.9796206732775828e-10,1.2357703233455735e-11,7.2059252258300209e-13,4.0016437510291268e-14,2.1419983125971585e-15,1.1140885550032186e-16,5.6621860500848157e-18,2.8235418042059484e-19,1.3857711329263308e-20,6.7098574323392125e-22,3.2112920455629714e-23,1.5214306751972751e-24,7.1445046323523352e-26,3.3288173265374995e-27,1.540226817912025e-28,7.0823721790607099e-30,3.2385393077893264e-31,1.4734518216845969e-32,6.6734202999838709e-34,3.0100294996505931e-35,1.3525872384749955e-36,6.0572624145027211e-38,2.7041624062737141e-39,1.203787092237078e-40,5.3447905198324661e-42,2.3673857777797681e-43,1.0462881674578642e-44,4.6143002843749571e-46,2.035856057043907e-47,8.51914308895315e-49,2.4999999999999999e-1,-3.57965423168e-50,3.600405e-50,-3.44169097e-50,3.2e-50},
-                                 {-6.5809896613483524e-51,2.7154650753307653e-7,-2.7282068163755723e-7,-3.2086455827496116e-8,-2.6361256311677108e-9,-1.824617391362326e-10,-1.140233170413359e-11,-6.6563095965960634e-13,-3.7007579169113666e-14,-1.9833486848904167e-15,-1.0328681124849421e-16,-5.256178848025771e-18,-2.6245489233182149e-19,-1.289846144146507e-20,-6.2539583014537873e-22,-2.9972568647498964e-23,-1.4220139567005129e-24,-6.6870465461862191e-26,-3.1200658446180963e-27,-1.4456702226597267e-28,-6.6568921602571458e-30,-3.0482181699293265e-31,-1.3887732699686054e-32,-6.2984772120849746e-34,-2.8447329644155499e-35,-1.2800021461871589e-36,-5.739665510566785e-38,-2.5656483959689668e-39,-1.143554860651525e-40,-5.0835751151730421e-42,-2.2543784563355941e-43,-9.975018912240368e-45,-4.4046195874112053e-46,-1.9410302760921864e-47,-8.5583428141658762e-49,-3.57965423168e-50,2.4999999999999999e-1,1.5051e-51,-1.5157090885349062e-51,9.3405608986282886e-51},
-                                 {-2.7659883290050537e-52,-2.4952509484265805e-7,2.5130473066763097e-7,2.9582046401081797e-8,2.4325829587320224e-9,1.685350585777393e-10,1.0542648692362028e-11,6.1609450622859207e-13,3.429110146613028e-14,1.8398597111685697e-15,9.5927221465562724e-17,4.8875737765564914e-18,2.4435268814565391e-19,1.2024050925504967e-20,5.8375095099703839e-22,2.8013259729969318e-23,1.330809943053505e-24,6.2664644750975123e-26,2.9277219082098027e-27,1.358354707976432e-28,6.2631359477539272e-30,2.8717042374123088e-31,1.3100684234268752e-32,5.9492408579082085e-34,2.6904451347146709e-35,1.2121106998822799e-36,5.4420004754031454e-38,2.4355679495358394e-39,1.0868793221560079e-40,4.8373148023346205e-42,2.1476418773482689e-43,9.5134408646861158e-45,4.2054021599859e-46,1.85542292797e-47,8.170698764e-49,3.600405e-50,1.5052e-51,2.4999999999999999e-1,0,6.1295489644006537e-52},
-                                 {-1.1634174840635444e-53,2.2982145059572292e-7,-2.3199265694361721e-7,-2.7331493756238891e-8,-2.2494441751484867e-9,-1.5598768864071529e-10,-9.7670059045727285e-12,-5.7133306633098391e-13,-3.18325630080871e-14,-1.7097783210824348e-15,-8.9243664104173285e-17,-4.5522211660084731e-18,-2.2785268669969937e-19,-1.1225500036199591e-20,-5.4564413047517675e-22,-2.6216815886737268e-23,-1.2470171609702124e-24,-5.8792654295124593e-26,-2.7502790361406252e-27,-1.2776366754959296e-28,-5.8983775724326368e-30,-2.7078519831192979e-31,-1.2368593640207417e-32,-5.6237305422099367e-34,-2.5463501373348442e-35,-1.1485787286389625e-36,-5.1629057570782461e-38,-2.3133690166277704e-39,-1.0335376627251314e-40,-4.6051140449140824e-42,-2.0468181493676033e-43,-9.0766650911486488e-45,-4.016587894351854e-46,-1.7739483823401481e-47,-7.820643233608964e-49,-3.44169097e-50,-1.5157090885349062e-51,0,2.4999999999999999e-1,5.6205314596390328e-53},
-                                 {-4.8969962398992434e-55,-2.1213854285704482e-7,2.1460940391650238e-7,2.5303448009026456e-8,2.0842181222114285e-9,1.4465333653387841e-10,9.0654105339837364e-12,5.3078738603046619e-13,2.9602246018395002e-14,1.5915869971892587e-15,8.3161072291985486e-17,4.2465034840110059e-18,2.1278434891157494e-19,1.0494919316784159e-20,5.1071632465571472e-22,2.4567131460186297e-23,1.1699223678276095e-24,5.5223268920498438e-26,2.5863843076450251e-27,1.2029354133827527e-28,5.560145682847504e-30,2.5556178581768775e-31,1.1687085932861284e-32,5.3201241542029806e-34,2.4116936980805923e-35,1.0890957493768772e-36,4.9011099680112761e-38,2.1985335040922477e-39,9.8331971298958904e-41,4.3861238820346274e-42,1.951565678783232e-43,8.663324794793e-45,3.8376077824e-46,1.6966015e-47,7.4869e-49,3.2e-50,9.3405608986282886e-51,6.1295489644006537e-52,5.6205314596390328e-53,2.5e-1}};
-
-        IXdX_ =  new double[][] {{0,-1.6589610589222614,-1.7038550530711705e-2,-1.9992223869247897,-3.3548186200108267e-5,-1.9999985501012924,-6.2655610775093895e-8,-1.999999997292405,-1.1700578689481071e-10,-1.9999999999949437,-2.1850160638104275e-13,-1.9999999999999905,-4.0803923670306517e-16,-1.9999999999999999,-7.619899068328156e-19,-1.9999999999999999,-1.422972513149789e-21,-1.9999999999999999,-2.6573196771018241e-24,-1.9999999999999999,-4.9623923168284212e-27,-1.9999999999999999,-9.2669834639448024e-30,-1.9999999999999999,-1.7305560914601842e-32,-1.9999999999999999,-3.2317143948103066e-35,-1.9999999999999999,-6.0350415575445888e-38,-1.9999999999999999,-1.1270094492192302e-40,-1.9999999999999999,-2.1046256045106752e-43,-1.9999999999999999,-3.9302677881099927e-46,-1.9999999999999999,-7.3395500145720397e-49,-1.9999999999999999,-1.3706189328719819e-51,-1.9999999999999999},
-                                 {0,2.8288516141202593e-1,-1.6613347722430728,3.3832767601113977e-1,-1.6585723742298465,3.4044973180108824e-1,-1.6587686002249703,3.40835025904419e-1,-1.6588668291323034,3.4094582106993131e-1,-1.6589094640732537,3.4098890539062956e-1,-1.6589300504532097,3.4100902865565456e-1,-1.6589410548118397,3.41019658637079e-1,-1.6589474321882364,3.410257937644924e-1,-1.6589513708593694,3.4102957942233557e-1,-1.658953930265924,3.4103204069724937e-1,-1.6589556636671451,3.4103370958158565e-1,-1.6589568785501988,3.4103488092327373e-1,-1.6589577548872167,3.4103572713404781e-1,-1.658958402705817,3.4103635362619576e-1,-1.6589588918150621,3.4103682732236934e-1,-1.6589592679446737,3.4103719210252875e-1,-1.6589595618948727,3.4103747755351877e-1,-1.6589597949224456,3.4103770411870863e-1,-1.6589599820174839,3.4103788623184998e-1},
-                                 {0,1.941226385152307e-2,-1.6893394428617897e-2,-2.2864238133339482,-1.6232961300501356e-2,-2.0087825406907903,-1.677705244857097e-2,-1.9889025626452158,-1.6925738991919674e-2,-1.985011932577675,-1.6980227847758898e-2,-1.9838512897788433,-1.7004628675780484e-2,-1.9834092312258126,-1.701712621471565e-2,-1.9832114102986833,-1.7024171602341778e-2,-1.9831121158652828,-1.7028439441619926e-2,-1.9830577955347679,-1.7031173299153045e-2,-1.9830260195045637,-1.7033004521729221e-2,-1.9830064065030391,-1.7034276755824237e-2,-1.9829937567350758,-1.703518793367073e-2,-1.9829852931771569,-1.7035857528706399e-2,-1.9829794517321987,-1.7036360559497643e-2,-1.9829753110777311,-1.7036745746088979e-2,-1.9829723073211113,-1.7037045664616127e-2,-1.9829700837074007,-1.7037282657840165e-2,-1.9829684079018164,-1.7037472396919319e-2,-1.9829671246881143},
-                                 {0,3.223681802071113e-3,3.0423997693987024e-1,7.7731073416288852e-4,-2.7019941039436946,7.1295234508662015e-4,-2.0882584164776062,7.4982116466148603e-4,-2.0241735261999059,7.6356131541369259e-4,-2.0088385074736167,7.6960080980104225e-4,-2.0036876942683143,7.7263457334351581e-4,-2.0015704649585206,7.7431584799214589e-4,-2.0005724948969674,7.7531964395045983e-4,-2.0000528009156927,7.7595482882010041e-4,-1.999760792344552,7.7637590515324149e-4,-1.9995865707243201,7.7666586472461303e-4,-1.9994774477318138,7.7687195413842587e-4,-1.9994062960994693,7.770224000970755e-4,-1.9993583081501265,7.7713476625500887e-4,-1.9993249963099258,7.7722036771178118e-4,-1.9993012896632423,7.7728671613962046e-4,-1.999284048635868,7.7733893055741734e-4,-1.9992712682336319,7.7738058076633791e-4,-1.9992616327303988,7.77414207593246e-4},
-                                 {0,-3.5513650621475257e-4,-8.3856580394467288e-4,7.0280526520510497e-1,-3.3547623459709609e-5,-3.1543178099948029,-2.9814603317987932e-5,-2.1835342239758449,-3.1639188444474986e-5,-2.0591648667651053,-3.2468662265521434e-5,-2.024967599509463,-3.2884537178577851e-5,-2.0123362849753459,-3.3113147535703697e-5,-2.006779401502461,-3.3248352380238806e-5,-2.0040241423689903,-3.3333122896638707e-5,-2.0025321674569563,-3.3388845349994104e-5,-2.0016674215509112,-3.3426926056613572e-5,-2.0011382998951986,-3.3453809164024455e-5,-2.000799879196783,-3.347331583471485e-5,-2.0005752929988788,-3.348780689765991e-5,-2.0004215225006525,-3.3498793262736394e-5,-2.0003133800359525,-3.3507271874687605e-5,-2.0002355388700511,-3.3513918335236143e-5,-2.0001783570164176,-3.351920136892632e-5,-2.0001355899027839,-3.3523453023927657e-5,-2.0001030884196148},
-                                 {0,5.9016470343798274e-4,2.5822541120209678e-2,6.6109501371037184e-5,1.1543528080797106,1.4498976564894552e-6,-3.6240045642836468,1.2588037215320561e-6,-2.2977919516372086,1.3400288718700435e-6,-2.1060260608978736,1.3824036163114751e-6,-2.0480150923453029,1.4058654843222018e-6,-2.0249984672223425,1.41973049046689e-6,-2.0143088278662673,1.4283892699924219e-6,-2.0087812716489315,1.4340520233219385e-6,-2.0056867280155245,1.4379012740104663e-6,-2.0038441001340703,1.4406045045800103e-6,-2.0026912675839425,1.4425563670218177e-6,-2.001940054781698,1.4439997567695696e-6,-2.0014335714404521,1.445089470933956e-6,-2.0010820394446629,1.4459272111867931e-6,-2.0008318782596313,1.4465816074084008e-6,-2.0006499375868001,1.4471000810280661e-6,-2.0005150566187788,1.4475160961238562e-6,-2.0004133531386101,1.4478537164701208e-6},
-                                 {0,-1.9239604168032466e-4,-2.6155967019072034e-4,8.903609220842725e-2,-3.7962363909133324e-6,1.6240060768379652,-6.2655608812231114e-8,-4.1035919579864971,-5.3429316476817714e-8,-2.425116096094437,-5.6888450865460587e-8,-2.1628224534322802,-5.8882098390990902e-8,-2.0778809152817194,-6.0073733763401866e-8,-2.0422758699136986,-6.0820503240525002e-8,-2.0249999392779287,-6.1308711325158942e-8,-2.0157470132544787,-6.1639841883307823e-8,-2.0104164271878595,-6.1871679342762693e-8,-2.0071663881336396,-6.2038512761316998e-8,-2.0050923180076755,-6.2161461398269596e-8,-2.0037178904678769,-6.2253972209013723e-8,-2.002777757688393,-6.2324863471200858e-8,-2.002117035253096,-6.2380071803586351e-8,-2.0016416749086516,-6.2423688462835579e-8,-2.0012925995721845,-6.2458592638388518e-8,-2.0010315896223036,-6.2486849038070252e-8,-2.0008332708464538},
-                                 {0,2.0391695751918118e-4,5.9411158835224982e-3,2.7794616038276624e-5,1.8356777486964006e-1,1.9380257710119358e-7,2.1035920233497029,2.7075949627363059e-9,-4.5889231191440014,2.276463629035132e-9,-2.5613404038454224,2.4207821095049817e-9,-2.2273240969108046,2.510439132172951e-9,-2.1135897199499774,2.5673642707551925e-9,-2.06382631322496,2.6047991878597153e-9,-2.0388040164679192,2.6302401404672978e-9,-2.0249999971436002,2.648049559839596e-9,-2.0168489518314134,2.6608484624846741e-9,-2.0117750099931031,2.670262305945175e-9,-2.0084792984854131,2.6773296565654523e-9,-2.0062619572572885,2.6827325317358793e-9,-2.0047251974397591,2.686930108072941e-9,-2.0036326954886832,2.6902385884771718e-9,-2.0028387016865663,2.6928802132252904e-9,-2.0022503904462012,2.6950140995339944e-9,-2.0018069656525285,2.6967561009822167e-9},
-                                 {0,-9.4229672952194472e-5,-1.128116538042092e-4,2.4951139392121989e-2,-1.909114757494844e-6,2.9779340165292205e-1,-9.3433000778399224e-9,2.5889231219686022,-1.1700578688796554e-10,-5.0778818093825027,-9.726096514847332e-11,-2.7038288287471731,-1.0322351807262133e-10,-2.2977941175484635,-1.071501785320285e-10,-2.154190321767961,-1.0976745324092084e-10,-2.0891837898454436,-1.1155896577956358e-10,-2.0555239928344658,-1.1281743541576971e-10,-2.0364846982950054,-1.1372298728348249e-10,-2.0249999998864221,-1.1438899699074403e-10,-2.0177190900922309,-1.1488857158437853e-10,-2.0129147779117016,-1.1526998675925595e-10,-2.0096379224112889,-1.1556584826046615e-10,-2.0073395007665022,-1.1579864564651973e-10,-2.0056882021314077,-1.1598419441254497e-10,-2.004476820696587,-1.1613381635357218e-10,-2.0035717288080974,-1.1625574979921119e-10,-2.0028844167284471},
-                                 {0,9.3120011139122181e-5,2.0504831134430286e-3,1.4051764848911595e-5,5.9198414956361782e-2,1.0987489199372475e-7,4.2511615875510407e-1,4.3618761586610548e-10,3.0778818095045648,5.056278513073895e-12,-5.5692735042414561,4.1639190647792775e-12,-2.8508659331592976,4.4091694993539786e-12,-2.3729282014567156,4.5783736356071387e-12,-2.1988595238028824,4.6957342992649741e-12,-2.1178756110994034,4.778819098189818e-12,-2.0749094137848902,4.8388665024568084e-12,-2.0500833513172854,4.8831284285062745e-12,-2.0348282792846841,4.9163579524547606e-12,-2.0249999999946717,4.9417276676813574e-12,-2.0184228613625958,4.9613955576277854e-12,-2.0138810221788837,4.9768568865932695e-12,-2.0106603682019687,4.9891661787376819e-12,-2.0083239649931391,4.9990795807021154e-12,-2.0065951099436208,5.0071477501923733e-12,-2.0052933247562268,5.0137775099341612e-12},
-                                 {0,-5.1594848789218899e-5,-5.8322683167586301e-5,9.6161205490455456e-3,-1.0795241530811096e-6,1.0602751079679969e-1,-5.7673784112259984e-9,5.6134040655323591e-1,-1.9963323352692873e-11,3.5692735042467309,-2.1850160638101888e-13,-6.0623753117208466,-1.7854072075299296e-13,-3.0012984817750152,-1.8861154814567453e-13,-2.4517505546309939,-1.958283465357074e-13,-2.246913603637551,-2.010023943165154e-13,-2.1494644004035084,-2.0477169214666313e-13,-2.0966973852133425,-2.0756376870648295e-13,-2.0656478697850792,-2.0966595894460749e-13,-2.046258394740743,-2.1127337006307168e-13,-2.0335871940782616,-2.1252029015777005e-13,-2.0249999999997877,-2.1350053015816176e-13,-2.0190034355239228,-2.14280622552484e-13,-2.0147086641400849,-2.1490845721257462e-13,-2.01156517340506,-2.1541899805044904e-13,-2.0092204166416882,-2.158381176055168e-13,-2.0074420833102752},
-                                 {0,5.0035687115198068e-5,8.8984030956454531e-4,8.0122654186502207e-6,2.5001147695672562e-2,6.7495100723408053e-8,1.6282251608790043e-1,2.8682229920739255e-10,7.0382882886418834e-1,9.0180175886601243e-13,4.0623753117210746,9.4423105586596417e-15,-6.5567244611058319,7.664642664428853e-15,-3.154326923076899,8.0781228053233132e-15,-2.533526281136821,8.3839078005635934e-15,-2.2977941176470452,8.6093401064027922e-15,-2.1835626911314863,8.7776512439251782e-15,-2.1206338080587421,8.9050324362940242e-15,-2.083019294800638,9.0027547223082947e-15,-2.0591962524654727,9.0787128951098072e-15,-2.0434296277505038,9.1384913727666074e-15,-2.0326231581631183,9.1860863052995932e-15,-2.02499999999999,9.2243926216693204e-15,-2.0194903550898249,9.2555335966285314e-15,-2.0154244721856412,9.2810855170214509e-15,-2.0123691477085296,9.3022323250971544e-15},
-                                 {0,-3.1008469051284846e-5,-3.3921854931622217e-5,4.4653073435250189e-3,-6.6364902193844167e-7,4.8016542244010976e-2,-3.7735127921422044e-9,2.2732409961840001e-1,-1.378267686142604e-11,8.5086593316435431e-1,-4.0368924864752768e-14,4.5567244611058418,-4.0803923670306508e-16,-7.0520111207394573,-3.2934901181228588e-16,-3.3093814336515064,-3.4633688769496098e-16,-2.6176960091824118,-3.592383355211989e-16,-2.3510474685132215,-3.6897854911320022e-16,-2.2198348730517844,-3.7640701843353984e-16,-2.1464835489260839,-3.8213600497518143e-16,-2.1020393950001454,-3.8660493313270769e-16,-2.0735394132425127,-3.9013015126316286e-16,-2.0544641188926599,-3.929409659380077e-16,-2.041256228807312,-3.9520507425110668e-16,-2.0318529895990977,-3.9704633693563636e-16,-2.0249999999999996,-3.9855718354410914e-16,-2.0199044753613288,-3.9980730294674574e-16,-2.016049057729144},
-                                 {0,2.991242208398551e-5,4.4778175652441806e-4,4.9785018667593113e-6,1.2369833161546119e-2,4.4033223288017437e-8,7.78809779373302e-2,1.9715585186186441e-10,2.9779411766546935e-1,6.4712664670692267e-13,1.0012984817752337,1.7953008684541314e-15,5.0520111207394577,1.7632974223298298e-17,-7.5480201113509826,1.4162809409036264e-17,-3.4660459076442682,1.4861548113842678e-17,-2.7038288288288287,1.5404391568702332e-17,-2.4063051274796964,1.5822708367268861e-17,-2.2579935908612973,1.6147716960554366e-17,-2.1740343626811516,1.6402578096759669e-17,-2.1225571708612462,1.6604364310962247e-17,-2.0891837899543378,1.6765668664541873e-17,-2.0666212661391882,1.6895821582968682e-17,-2.0508548960262293,1.7001782419772442e-17,-2.0395359509194505,1.7088783171953527e-17,-2.0312237021491019,1.7160790847623848e-17,-2.0249999999999999,1.7220839705477964e-17},
-                                 {0,-2.0004110421668923e-5,-2.1424315996056067e-5,2.3480780337308642e-3,-4.3503866440533222e-7,2.4999917121050112e-2,-2.5818770124540184e-9,1.1358972265757238e-1,-9.855609124772117e-12,3.7292820146177189e-1,-2.9890820225275049e-14,1.1543269230769085,-7.9452214797612105e-17,5.5480201113509827,-7.619899068328156e-19,-8.0445973612374886,-6.0941027449195594e-19,-3.624009900990099,-6.3818981600499216e-19,-2.7915887154432793,-6.6099161025486166e-19,-2.4632666759649918,-6.7887870581622733e-19,-2.2977941176470588,-6.9300453649360473e-19,-2.2030974364461837,-7.0424659684517294e-19,-2.1444321541940253,-7.132670897525295e-19,-2.106027795733678,-7.2056515033889109e-19,-2.0798295079012197,-7.265179628940466e-19,-2.0613702123610442,-7.3141194157305538e-19,-2.0480166861826697,-7.3546593106761504e-19,-2.0381415160693011,-7.3884832034385032e-19,-2.030699967650253},
-                                 {0,1.9282440659534534e-5,2.4996082939507807e-4,3.2972272181116404e-6,6.812949688661133e-3,3.0168217125729235e-8,4.2275932569309417e-2,1.4023069567957723e-10,1.5419032188496679e-1,4.7790491040810885e-13,4.5175055463121246e-1,1.3642206819059248e-15,1.3093814336515068,3.5030933838137265e-18,6.0445973612374886,3.2928569551692725e-20,-8.541629670736219,2.6235564061449825e-20,-3.7830373709261051,2.7422679889342588e-20,-2.8807105145191014,2.8379487938367075e-20,-2.5216859916209358,2.9141886526288915e-20,-2.3390283769533122,2.9752724936956072e-20,-2.2335062199566848,3.0245325706733708e-20,-2.1675357536066278,3.0645363539307913e-20,-2.1239747661716657,3.0972568570650702e-20,-2.0940178177390453,3.1242118193039219e-20,-2.0727511643790526,3.1465726684356289e-20,-2.0572595165233723,3.1652478912616496e-20,-2.0457293592312554,3.1809460715823833e-20},
-                                 {0,-1.3626734024960516e-5,-1.4378928369927232e-5,1.3501079721776649e-3,-2.9983381986946284e-7,1.4310277764974943e-2,-1.8351075345703162e-9,6.3826315932555055e-2,-7.2383336553128464e-12,1.988595238079387e-1,-2.2673261268307865e-14,5.3352628113683047e-1,-6.1703771980617333e-17,1.4660459076442682,-1.5400260485400945e-19,6.541629670736219,-1.422972513149789e-21,-9.0390320121951219,-1.1299380406242849e-21,-3.9429458049314146,-1.1789787306293819e-21,-2.9709826310034485,-1.2191071029234963e-21,-2.5813602576434388,-1.2515263668363997e-21,-2.3815193502544781,-1.2778369557784812e-21,-2.2651144832179314,-1.2993077850338094e-21,-2.1917514492633257,-1.3169347570358129e-21,-2.1429342409103009,-1.3314965860442576e-21,-2.1091174249298639,-1.3436020317057797e-21,-2.0849464670063834,-1.3537279898548655e-21,-2.0672269635504929,-1.3622494038968205e-21,-2.0539604995921648},
-                                 {0,1.3147313246138347e-5,1.5066639599452658e-4,2.2934312597976677e-6,4.0576905551904947e-3,2.1509437600164417e-8,2.5000001933539553e-2,1.0279577854218737e-10,8.9183789962449409e-2,3.6054421388319618e-13,2.4691360363776956e-1,1.0584028195883108e-15,6.1769600918241224e-1,2.7714876016734951e-18,1.624009900990099,6.7544977081177495e-21,7.0390320121951219,6.1492217874849567e-23,-9.5367392851695561,4.8682563173433952e-23,-4.1035919540229885,5.0711502419464282e-23,-3.062234423703916,5.2394158666327638e-23,-2.6421213072858009,5.377034411120261e-23,-2.425116144018583,5.4900149689112514e-23,-2.2977941176470588,5.5832042080145227e-23,-2.2169743418982311,5.6604692254978578e-23,-2.1628225088967971,5.7248814170793917e-23,-2.1250628519604327,5.7788772535871071e-23,-2.0979057829351896,5.8243915879623186e-23,-2.0778809736584535,5.8629649111710018e-23},
-                                 {0,-9.6880628919613034e-6,-1.0111089091779381e-5,8.3041399090295978e-4,-2.150633034695599e-7,8.7827215476391849e-3,-1.3468994499349553e-9,3.8804019175514219e-2,-5.4468211152497884e-12,1.178756111044597e-1,-1.7499212067184666e-14,2.9779411764705468e-1,-4.8800903839185941e-17,7.0382882882882881e-1,-1.2380274814750053e-19,1.7830373709261051,-2.9569179220260589e-22,7.5367392851695561,-2.6573196771018241e-24,-1.0034700805277135e1,-2.0980874916827439e-24,-4.264861870781565,-2.18215224985558e-24,-3.154326923076923,-2.2527123097458804e-24,-2.7038288288288288,-2.3110579271673069e-24,-2.4696897707866969,-2.35945671983194e-24,-2.3314329520938721,-2.3997657596136454e-24,-2.2431103676112268,-2.4334888417664278e-24,-2.1835626911314984,-2.4618373372764541e-24,-2.1417924818543418,-2.4857850982188728e-24,-2.1115805207420613,-2.5061151898347495e-24,-2.0891837899543378},
-                                 {0,9.3616554029672154e-6,9.6346065479695692e-5,1.6582463901570893e-6,2.5657156431564781e-3,1.5846684270647785e-8,1.5747075910089554e-2,7.7354825934543511e-11,5.5523992951471588e-2,2.7745941489697486e-13,1.4946440040372693e-1,8.3297045237172733e-16,3.51047468513222e-1,2.228582769429161e-18,7.9158871544327931e-1,5.5060044955454639e-21,1.9429458049314146,1.2924487896742607e-23,8.0347008052771352,1.1483319532699189e-25,-1.0532876525223092e1,9.0445359600615683e-26,-4.4266638181064843,9.3933295393329605e-26,-3.2471459181772205,9.6892766744808922e-26,-2.7663650266609964,9.9364215371962359e-26,-2.5151296014107951,1.0143362601242807e-25,-2.3659327163386441,1.0317238412676311e-25,-2.2700753667464045,1.0463906954289177e-25,-2.2050845436002486,1.0588147960336525e-25,-2.1592488078608111,1.0693851055962833e-25,-2.1259243288017011,1.0784179917075331e-25},
-                                 {0,-7.12865633739703e-6,-7.3772315586599971e-6,5.3840541976229052e-4,-1.5934085011416317e-7,5.6881779142321884e-3,-1.0157688917860714e-9,2.4999999851195214e-2,-4.1883514790410063e-12,7.4909413789946554e-2,-1.372991423438458e-14,1.8356269113149576e-1,-3.9060687594827339e-17,4.0630512747969643e-1,-1.0099830154034625e-19,8.8071051451910145e-1,-2.4399874491272389e-22,2.1035919540229885,-5.6419457773590857e-25,8.5328765252230923,-4.9623923168284212e-27,-1.1031234384759525e1,-3.8998340198476104e-27,-4.5889231327048585,-4.0447467244389509e-27,-3.3405967502665615,-4.1689151871851961e-27,-2.8296304132658184,-4.2735376074465369e-27,-2.5613404088050314,-4.3618893550704265e-27,-2.4012072075196836,-4.4367232753591811e-27,-2.2977941176470588,-4.5003257142447633e-27,-2.2273241006049028,-4.5545840684535561e-27,-2.177378473287125,-4.6010514736601844e-27,-2.1408933726354766},
-                                 {0,6.9003804891676072e-6,6.4570035275453086e-5,1.2371700570160084e-6,1.700969737111357e-3,1.1997433582119949e-8,1.0416489843470291e-2,5.9545406562245193e-11,3.6484698412011205e-2,2.1741201062986986e-13,9.6697385213561041e-2,6.6465931473472256e-16,2.1983487305178486e-1,1.8102658562438812e-18,4.632666759649918e-1,4.5490818277700661e-21,9.7098263100344856e-1,1.0780929899801257e-23,2.264861870781565,2.4602280142348406e-26,9.0312343847595252,2.144444159721948e-28,-1.1529748414946715e1,1.6818620667996035e-28,-4.7515784451195762,1.7421458416190935e-28,-3.4346003492882237,1.7942635364620939e-28,-2.8935404777082953,1.8385344111452071e-28,-2.6082399156227129,1.8762115589927603e-28,-2.4371806733089918,1.9083599154736997e-28,-2.3261993978768695,1.9358736481188372e-28,-2.2502232364234,1.9594987985434356e-28,-2.1961321767820941,1.9798555988050051e-28},
-                                 {0,-5.3952551163206671e-6,-5.5460089824841488e-6,3.6418379953037198e-4,-1.2126014349469502e-7,3.8455500327779699e-3,-7.8393143233120198e-10,1.6848954539008462e-2,-3.282799611328219e-12,5.00833513223417e-2,-1.0937837674559812e-14,1.2063380805875159e-1,-3.1632218269534597e-17,2.5799359086129735e-1,-8.3111201025855255e-20,5.2168599162093585e-1,-2.038654194932762e-22,1.062234423703916,-4.7517669422970805e-25,2.4266638181064843,-1.0718252804447556e-27,9.5297484149467152,-9.2669834639448024e-30,-1.2028397357675881e1,-7.2545160771176223e-30,-4.9145788576300085,-7.5056022366763407e-30,-3.5290901853442106,-7.7244586881099707e-30,-2.9580230342431205,-7.9117429565601999e-30,-2.6557567631849498,-8.0722688595164396e-30,-2.4737864042687882,-8.21016879016205e-30,-2.3552311058835264,-8.3289470849212246e-30,-2.2737291948898774,-8.4315561812655716e-30,-2.2154644951320718},
-                                 {0,5.2314961528863557e-6,4.4957033750852447e-5,9.4721048564446745e-7,1.171848081398717e-3,9.2942030125759477e-9,7.1664507892504024e-3,4.6746503917167111e-11,2.500000000342794e-2,1.7315008458040355e-13,6.5647869785297763e-2,5.3727812236566257e-16,1.4648354892608431e-1,1.4852572627443325e-18,2.9779411764705882e-1,3.786683025804273e-21,5.813602576434388e-1,9.0980596089845953e-24,1.154326923076923,2.0900300396328252e-26,2.5889231327048585,4.6658671958197081e-29,1.0028397357675881e1,4.0046266596263972e-31,-1.2527163644205294e1,3.1296187835634109e-31,-5.0778818093385214,3.2343187107943762e-31,-3.624009900990099,3.3262681574502336e-31,-3.0230161003181344,3.4054869720547298e-31,-2.7038288288288288,3.4738315987414074e-31,-2.5109655178257419,3.5329103753796051e-31,-2.3848354581772015,3.5840996037194822e-31,-2.2977941176470588,3.628569243048229e-31},
-                                 {0,-4.1803720626036298e-6,-4.2737748874682709e-6,2.5506080702407724e-4,-9.4377036083812414e-8,2.6927174826501341e-3,-6.1709801377689649e-10,1.1775012700698099e-2,-2.6167899040666876e-12,3.4828279289740422e-2,-8.8356474364352588e-15,8.3019294800647483e-2,-2.590323172788375e-17,1.7403436268115166e-1,-6.8985370339228171e-20,3.3902837695331224e-1,-1.7144614633069491e-22,6.4212130728580091e-1,-4.0460738466150455e-25,1.2471459181772205,-9.176628979503849e-28,2.7515784451195762,-2.0297729477417819e-30,1.0527163644205294e1,-1.7305560914601842e-32,-1.3026032628344179e1,-1.3503048399486972e-32,-5.2414514414773482,-1.3940112507811557e-32,-3.7193114553090734,-1.4326625298177298e-32,-3.0884661884240299,-1.4661699631479794e-32,-2.7524018298128493,-1.4952521187062607e-32,-2.5486659125765146,-1.520536775173018e-32,-2.4149642665197188,-1.5425656116645993e-32,-2.3223745894079811},
-                                 {0,4.0601544648102012e-6,3.2307265787596065e-5,7.4112107183162578e-7,8.3342738298313681e-4,7.3423405707685946e-9,5.0923806632863359e-3,3.7332660456666182e-11,1.7719090209236714e-2,1.3992056063191746e-13,4.6258394740961503e-2,4.3955583635139162e-16,1.0203939500014588e-1,1.230396126538629e-18,2.0309743644618371e-1,3.1758446147374009e-21,3.8151935025447815e-1,7.7218737643947981e-24,7.0382882882882882e-1,1.7940429330024067e-26,1.3405967502665615,4.0230579651380318e-29,2.9145788576300085,8.8248628701170971e-32,1.1026032628344179e1,7.4784109487233576e-34,-1.352499200319872e1,5.8267071601156642e-34,-5.4052573317455366,6.0093464305837783e-34,-3.8149536564786479,6.1719045208598943e-34,-3.154326923076923,6.3136379787626798e-34,-2.8014281623097498,6.4373378064490443e-34,-2.5868413712508041,6.5454612215518582e-34,-2.4455742935954426,6.6401446234252819e-34},
-                                 {0,-3.3040350446714934e-6,-3.3625970409755979e-6,1.8390917467964637e-4,-7.4870365393416925e-8,1.9415046804056375e-3,-4.9414937682429902e-10,8.4793011930081084e-3,-2.1172153104321786e-12,2.4999999999728014e-2,-7.2282363179710688e-15,5.9196252465482206e-2,-2.1434303570357472e-17,1.2255717086124629e-1,-5.7743309987642695e-20,2.335062199566848e-1,-1.4513555737134015e-22,4.2511614401858304e-1,-3.4626174996683436e-25,7.6636502666099643e-1,-7.9347716196036907e-28,1.4346003492882237,-1.7614135444124098e-30,3.0778818093385214,-3.8348296590629727e-33,1.152499200319872e1,-3.2317143948103066e-35,-1.4024031352196786e1,-2.5145486982350302e-35,-5.5692735042735042,-2.5909445649916984e-35,-3.910900992000723,-2.6593491234767212e-35,-3.2205579146093103,-2.7193071535608012e-35,-2.8508659331703341,-2.7719062742578423e-35,-2.6254507919367781,-2.8181108514711632e-35,-2.4766266824104968},
-                                 {0,3.2139436907245393e-6,2.3843707868610031e-5,5.906751131820024e-7,6.0884118507897274e-4,5.8989508230166952e-9,3.7179531234876758e-3,3.0265309836388938e-11,1.2914778028707435e-2,1.1455084540532066e-13,3.3587194078480175e-2,3.6359766354987911e-16,7.3539413242513136e-2,1.0286099123360508e-18,1.444321541940253e-1,2.683243844959018e-21,2.6511448321793149e-1,6.5920681857384501e-24,4.6968977078669691e-1,1.5468979956426086e-26,8.2963041326581842e-1,3.5018063722535825e-29,1.5290901853442106,7.7032191433619197e-32,3.2414514414773482,1.6656692927786122e-34,1.2024031352196786e1,1.3965504170918879e-36,-1.4523141799667339e1,1.0852696805911453e-36,-5.7334776478158831,1.1172549508345265e-36,-4.0071226890243282,1.1460549616675099e-36,-3.2871238369285779,1.171422933236495e-36,-2.9006781498984087,1.1937840140860241e-36,-2.664457529183823,1.2135176544060163e-36},
-                                 {0,-2.6562164444195939e-6,-2.693002005306679e-6,1.3592122533678678e-4,-6.0379302448357546e-8,1.435021339159786e-3,-4.016385660801717e-10,6.2619599648835381e-3,-1.7358001355547658e-12,1.8422861367652089e-2,-5.981316223272698e-15,4.3429627750513267e-2,-1.7909085439902304e-17,8.9183789954337896e-2,-4.8722817080286099e-20,1.6753575360662789e-1,-1.2366472811597969e-22,2.9779411764705882e-1,-2.9786295726994445e-25,5.1512960141079513e-1,-6.8885470944223469e-28,8.9354047770829538e-1,-1.5425248361852472e-30,1.624009900990099,-3.3655087572058601e-33,3.4052573317455366,-7.2320073813282093e-36,1.2523141799667339e1,-6.0350415575445888e-38,-1.5022315736144633e1,-4.6843782044187711e-38,-5.8978504929272689,-4.8184118354785859e-38,-4.1035919540229885,-4.9397309162982054e-38,-3.3539936681814576,-5.0470810815605328e-38,-2.9508320407057164,-5.1421291172276274e-38,-2.7038288288288288},
-                                 {0,2.5874515427818261e-6,1.8002262910493106e-5,4.783089552486232e-7,4.5507068685270221e-4,4.8092366586303229e-9,2.777820344003812e-3,2.4862434665961887e-11,9.6379225282946982e-3,9.4882955458892638e-14,2.5000000000006203e-2,3.0381918589307895e-16,5.4464118892660312e-2,8.6730555875642463e-19,1.0602779573367808e-1,2.2832060123848123e-21,1.9175144926332574e-1,5.6601757947043426e-24,3.3143295209387219e-1,1.3399569314566427e-26,5.6134040880503144e-1,3.0590974860282065e-29,9.5802303424312055e-1,6.7835852825594292e-32,1.7193114553090734,1.4690905979188379e-34,3.5692735042735042,3.1388871442660457e-37,1.3022315736144633e1,2.6079779258620063e-39,-1.5521546600399651e1,2.0220846277805391e-39,-6.0623753117206982,2.0782982512589165e-39,-4.2002853533879722,2.1294300289427872e-39,-3.4211400622522833,2.1748670554674154e-39,-3.0012984817751552,2.2152646107443047e-39},
-                                 {0,-2.1671071993056414e-6,-2.1899712140627142e-6,1.026093851360756e-4,-4.9392937371873285e-8,1.0834893433705254e-3,-3.3074730389303676e-10,4.7252001473541064e-3,-1.4399386343445624e-12,1.388102218394001e-2,-5.0010762228809896e-15,3.2623158163127746e-2,-1.509827076505747e-17,6.6621266139188259e-2,-4.1424756493924514e-20,1.2397476617166575e-1,-1.060377561139761e-22,2.1697434189823115e-1,-2.5755391748817882e-25,3.6593271633864417e-1,-6.005029617581074e-28,6.0823991562271298e-1,-1.3552405074973034e-30,1.0230161003181344,-2.9789357291254893e-33,1.8149536564786479,-6.4078109991310041e-36,3.7334776478158831,-1.36193344761801e-38,1.3521546600399651e1,-1.1270094492192302e-40,-1.6020828704989354e1,-8.7292449119011241e-41,-6.2270375130117852,-8.965192263675986e-41,-4.2971823055690366,-9.1808045905414567e-41,-3.4885388259111301,-9.373165178197151e-41,-3.0520515131309342},
-                                 {0,2.1137553691949298e-6,1.3861608442842326e-5,3.9270749847632227e-7,3.4692822215263836e-4,3.9714964057932321e-9,2.1170979087068517e-3,2.066485832890022e-11,7.3395008835080009e-3,7.9421626493408486e-14,1.9003435524141312e-2,2.5622425336009315e-16,4.1256228807312414e-2,7.3715264032961585e-19,7.9829507901219732e-2,1.9560009810420231e-21,1.4293424091030093e-1,4.8875256198709888e-24,2.4311036761122689e-1,1.1660811200228783e-26,4.0120720751968367e-1,2.6823260072923637e-29,6.5575676318494989e-1,5.9913968762036992e-32,1.0884661884240299,1.3065064765659575e-34,1.910900992000723,2.7930033650678343e-37,3.8978504929272689,5.9076354750357309e-40,1.4020828704989354e1,4.8702494221058798e-42,-1.6520157095515751e1,3.7686105882485537e-42,-6.391824312322371,3.8677205332302917e-42,-4.3942646621430004,3.9586850848909588e-42,-3.5561684817303767,4.0401419774471e-42},
-                                 {0,-1.79097758775022e-6,-1.8047846227264748e-6,7.89027384525956e-5,-4.0914325420662196e-8,8.3332815833891453e-4,-2.7553897150754381e-10,3.6326981962781744e-3,-1.2071412482909823e-12,1.0660368207024979e-2,-4.2209838285587496e-15,2.4999999999999498e-2,-1.2834162451958486e-17,5.0854896026229342e-2,-3.5471943938769002e-20,9.401781773904536e-2,-9.147592710553141e-23,1.6282250889679715e-1,-2.2383083533539623e-25,2.7007536674640458e-1,-5.256690414692403e-28,4.3718067330899189e-1,-1.1947146044285732e-30,7.0382882882882882e-1,-2.6438612833325108e-33,1.154326923076923,-5.7236529237984145e-36,2.0071226890243282,-1.216650768322048e-38,4.0623753117206982,-2.5618958363362852e-41,1.4520157095515751e1,-2.1046256045106752e-43,-1.7019527436233829e1,-1.6270865978348603e-43,-6.5567244611059044,-1.6687478139749557e-43,-4.4915163602545772,-1.7071433973727734e-43,-3.624009900990099},
-                                 {0,1.7489752097907752e-6,1.0857851823035099e-5,3.2635907063704036e-7,2.6908705625123969e-4,3.3171001841854953e-9,1.6417375642624345e-3,1.7356377924669421e-11,5.6882022484135745e-3,6.7112334348996144e-14,1.4708664140303497e-2,2.1791793699036591e-16,3.1852989599098152e-2,6.3119180352585544e-19,6.1370212361044261e-2,1.6864513586535053e-21,1.0911742492986396e-1,4.2434037040556499e-24,1.8356269113149847e-1,1.0194125784100122e-26,2.9779411764705882e-1,2.3608424424824836e-29,4.737864042687882e-1,5.3079506088508072e-32,7.5240182981284939e-1,1.1647729700516268e-34,1.2205579146093103,2.5049546451928987e-37,2.1035919540229885,5.2968876951497469e-40,4.2270375130117852,1.1107337457422427e-42,1.5019527436233829e1,9.0949118849166581e-45,-1.7518935916428457e1,7.0252656483691913e-45,-6.7217280231755987,7.200510088025e-45,-4.5889231327048585,7.3626521e-45},
-                                 {0,-1.497027388715584e-6,-1.5048660955782512e-6,6.1661711078266059e-5,-3.4267864872124415e-8,6.5138748550776925e-4,-2.3192231225831632e-10,2.83870439416129e-3,-1.0215924822657381e-12,8.323964998195413e-3,-3.5931491684681328e-15,1.9490355089834353e-2,-1.0992899767428805e-17,3.9535950919450603e-2,-3.0577965259760219e-20,7.2751164379052697e-2,-7.9370481444009298e-23,1.2506285196043279e-1,-1.9548233982536993e-25,2.0508454360024861e-1,-4.6206660258365792e-28,3.2619939787686951e-1,-1.0568146737827527e-30,5.1096551782574195e-1,-2.3530397275396282e-33,8.0142816230974981e-1,-5.1240724128880805e-36,1.2871238369285779,-1.0953106805490613e-38,2.2002853533879722,-2.3049415311941976e-41,4.391824312322371,-4.8146927446392487e-44,1.5518935916428457e1,-3.9302677881099927e-46,-1.8018379173290937e1,-3.0334414235632066e-46,-6.886826189021137,-3.1072046874179505e-46,-4.6864722648834282},
-                                 {0,1.4635242197711519e-6,8.6342381124186665e-6,2.7414465284015417e-7,2.1190520261773116e-4,2.7986265645201851e-9,1.2926622277952842e-3,1.4714753176550746e-11,4.4768208135928743e-3,5.71989323845626e-14,1.1565173405278593e-2,1.867769620311549e-16,2.5000000000000011e-2,5.4419105134477072e-19,4.8016686182669789e-2,1.4628428673364357e-21,8.4946467006383487e-2,3.7034453389784965e-24,1.4179248185434188e-1,8.9517157236266435e-27,2.2732410060490289e-1,2.085705116031108e-29,3.5523110588352645e-1,4.7171628424679232e-32,5.4866591257651466e-1,1.041073142274483e-34,8.5086593317033414e-1,2.2512748387237709e-37,1.3539936681814576,4.785479139034462e-40,2.2971823055690366,1.002545873102683e-42,4.5567244611059044,2.0866304636424789e-45,1.6018379173290937e1,1.6984227095012e-47,-1.8517854228000116e1,1.309868e-47,-7.0520111207394569,1.33e-47},
-                                 {0,-1.2639998157852651e-6,-1.2678728715400094e-6,4.8881308842222988e-5,-2.8984831181947331e-8,5.1650651748648415e-4,-1.9701813670537694e-10,2.2503931537962542e-3,-8.7197054123853069e-13,6.5951099486771646e-3,-3.082608330593707e-15,1.5424472185650726e-2,-9.4820531589560278e-18,3.1223702149101939e-2,-2.6523975765200561e-20,5.7259516523372354e-2,-6.9244523294923532e-23,9.7905782935189649e-2,-1.7153457888295128e-25,1.5924880786081116e-1,-4.0780824837486508e-28,2.5022323642340006e-1,-9.3803637902357778e-31,3.8483545817720154e-1,-2.1001931628716627e-33,5.8684137125080419e-1,-4.5980812055253768e-36,9.0067814989840878e-1,-9.8796047605745155e-39,1.4211400622522833,-2.0892899750463459e-41,2.3942646621430004,-4.3588513008573404e-44,4.7217280231755987,-9.0416591456135811e-47,1.6517854228000116e1,-7.3395500145720397e-49,-1.9017358432444015e1,-5.6563604488013796e-49,-7.2172758218564964},
-                                 {0,1.2369590299065001e-6,6.9584325281447315e-6,2.324944439195832e-7,1.6913808898408985e-4,2.3826114687300474e-9,1.0316522779144008e-3,1.2580866867846801e-11,3.5717289251032134e-3,4.9130762894304764e-14,9.2204166419067479e-3,1.6122504163823542e-16,1.9904475361329246e-2,4.7218337567444952e-19,3.8141516069301103e-2,1.2760906390762288e-21,6.7226963550492962e-2,3.2483019952263811e-24,1.115805207420613e-1,7.8946847673635555e-27,1.7737847328712506e-1,1.8494536117851237e-29,2.7372919488987743e-1,4.20527055906915e-32,4.1496426651971889e-1,9.3294972717149966e-35,6.2545079193677818e-1,2.027664030058955e-37,9.5083204070571648e-1,4.3311087042630793e-40,1.4885388259111301,9.1156436893199247e-43,2.4915163602545772,1.894433513962e-45,4.886826189021137,3.917263e-48,1.7017358432444015e1,3.1e-50,-1.9516889424571549e1,0},
-                                 {0,-1.0769047775139376e-6,-1.078133792386246e-6,3.9245805609120698e-5,-2.4733176180610351e-8,4.1480303731770819e-4,-1.6876173702364242e-10,1.8069683601235638e-3,-7.5003709559952074e-13,5.2933247612831561e-3,-2.6634887755259438e-15,1.2369147708539118e-2,-8.2319337563194288e-18,2.4999999999999999e-2,-2.3141586488965279e-20,4.5729359231255437e-2,-6.0723109252968512e-23,7.7880973658453551e-2,-1.5120448726707459e-25,1.2592432880170113e-1,-3.6134084316823682e-28,1.9613217678209413e-1,-8.3542728267923083e-31,2.9779411764705882e-1,-1.8799047979558493e-33,4.455742935954426e-1,-4.1360354333914347e-36,6.6445752918382305e-1,-8.9291244031709851e-39,1.0012984817751552,-1.8969293141322134e-41,1.5561684817303767,-3.9748222084409118e-44,2.5889231327048585,-8.230768068813709e-47,5.0520111207394569,-1.6968957550993799e-49,1.7516889424571549e1,-1.3706189328719819e-51,-2.0016445090786512e1},
-                                 {0,1.054845888562495e-6,5.6752188260206293e-6,1.9886761701149776e-7,1.3663660581493371e-4,2.0449911224655356e-9,8.3333350206462357e-4,1.0838865419624474e-11,2.8844168454529609e-3,4.250100315251677e-14,7.4420833104937191e-3,1.4007823356253188e-16,1.6049057729144451e-2,4.1213451782033409e-19,3.0699967650253021e-2,1.1191088358688914e-21,5.3960499592164891e-2,2.8625687631395488e-24,8.9183789954337899e-2,6.9913961562385759e-27,1.4089337263547668e-1,1.6458856091694289e-29,2.1546449513207185e-1,3.7605741657816816e-32,3.2237458940798114e-1,8.382663252980757e-35,4.7662668241049688e-1,1.8303276268587164e-37,7.0382882882882882e-1,3.9271331511776079e-40,1.0520515131309342,8.301074447179e-43,1.624009900990099,1.7322603e-45,2.6864722648834282,3.5e-48,5.2172758218564964,0,1.8016445090786512e1,0}};
-
-        IXdX2_ = new double[][] {{0,3.4267867723093841e-1,9.215368175173059,-6.0925361488719104e-3,2.1990109003152138e1,-2.0497368817406401e-5,3.4557516066965107e1,-5.5290042503300535e-8,4.7123889795810258e1,-1.3502052316327109e-10,5.9690260418186944e1,-3.1147088158197646e-13,7.2256631032565201e1,-6.9244527851065151e-16,8.4823001646924417e1,-1.499998206853867e-18,9.738937226128359e1,-3.187527748821411e-21,1.0995574287564276e2,-6.6740437723091109e-24,1.2252211349000193e2,-1.3810788537342818e-26,1.350884841043611e2,-2.8307037812067276e-29,1.4765485471872028e2,-5.7560596197735201e-32,1.6022122533307945e2,-1.1626590206364637e-34,1.7278759594743862e2,-2.3350632233945412e-37,1.853539665617978e2,-4.6666036407195192e-40,1.9792033717615697e2,-9.2860652178777184e-43,2.1048670779051614e2,-1.8408345458663928e-45,2.2305307840487531e2,-3.6369373302279353e-48,2.3561944901923449e2,-7.163924083450608e-51},
-                                 {0,-1.5696041745885507e-1,-1.9065917271700234,9.8455755805447771,-4.0947914850760288,2.0243500593589547e1,-6.2360633778574104,3.066394052245427e1,-8.3784743731482149,4.1086604088629912e1,-1.05211546517957e1,5.1509814023373448e1,-1.2663910859300846e1,6.1933210001121842e1,-1.4806694929167849e1,7.2356683101922851e1,-1.6949491145033308e1,8.27801927847855e1,-1.9092293335208047e1,9.3203721614389071e1,-2.1235098739472302e1,1.0362726124776142e2,-2.3377905996875704e1,1.1405080735025685e2,-2.552071438337411e1,1.2447435751732766e2,-2.766352348952074e1,1.3489791034189974e2,-2.9806333071870188e1,1.453214649631723e2,-3.1949142979477713e1,1.5574502083437502e2,-3.4091953115358958e1,1.6616857759684497e2,-3.6234763415261502e1,1.7659213500865648e2,-3.8377573835468836e1,1.8701569290259337e2,-4.0520384345533262e1,1.9743925116056089e2},
-                                 {0,-3.8535402630539025e-2,-3.1212673239509786,5.3517590151384751e-2,1.3033888524046871e1,1.5786563208970633e-1,2.5189199936416713e1,2.637162162286474e-1,3.7568074854216242e1,3.7037806137643511e-1,4.99979185402006e1,4.7727159648467542e-1,6.2444035498738803e1,5.8424916669172639e-1,7.4896590398849003e1,6.9126292008811791e-1,8.7352094116792707e1,7.9829427816901936e-1,9.980910008286514e1,9.0533501993629036e-1,1.1226693570909727e2,1.0123811297453138,1.2472525952905463e2,1.1194304884743023,1.3718388568016688e2,1.2264819061375124,1.4964270710999466e2,1.3335346795014756,1.6210165920085152e2,1.4405883748523017,1.7456070137864591e2,1.5476427148242085,1.8701980729294697e2,1.6546975164218946,1.9947895932482145e2,1.7617526555967372,2.1193814539009769e2,1.868808046236628,2.2439735701296711e2,1.9758636272946732},
-                                 {0,2.4218173687155316e-2,7.0591427939688433e-3,-1.1491613898922423e1,-3.179529120296779e-3,1.3871763131490424e1,-7.6703678841386668e-3,2.567391864937598e1,-1.2382346433884202e-2,3.7957734521676432e1,-1.7197873118137683e-2,5.0397184712220318e1,-2.2050542823460315e-2,6.2897368991928364e1,-2.69188467542557e-2,7.5424881761036842e1,-3.1794597206138988e-2,8.796608371398516e1,-3.6674244055348661e-2,1.0051473384948191e2,-4.155608494104618e-2,1.1306771027768669e2,-4.6439235945793899e-2,1.2562333606074493e2,-5.1323207660363205e-2,1.3818065653032526e2,-5.6207714393118063e-2,1.5073910133561988e2,-6.109258182709587e-2,1.6329831558414575e2,-6.5977699531255691e-2,1.758580706421758e2,-7.0862995252867512e-2,1.8841821472831301e2,-7.5748420375539754e-2,2.0097864440728823e2,-8.06339413740601e-2,2.1353928754743868e2,-8.5519534623088863e-2,2.261000928086314e2},
-                                 {0,-2.6289067980167875e-3,4.4633119080492881e-1,-8.2727827311574305e-4,-2.4726384915676176e1,1.589821124445222e-4,1.5031974667138245e1,3.4513477789541225e-4,2.6384339930505316e1,5.4253183589755864e-4,3.8406754801052983e1,7.4694656608701325e-4,5.0700317541260589e1,9.5438059097705247e-4,6.3116628231273631e1,1.1632527635818333e-3,7.5594164210707195e1,1.3728728371907524e-3,8.8104758799228926e1,1.5829106757021362e-3,1.0063439376355127e2,1.793195910264452e-3,1.1317559251052985e2,2.0036348985164348e-3,1.2572413104111706e2,2.2141733847594279e-3,1.3827750466611356e2,2.4247785026777754e-3,1.5083416591328967e2,2.635429571888216e-3,1.6339312441396537e2,2.8461131463568945e-3,1.7595372669246706e2,3.0568202308773659e-3,1.885155299065071e2,3.2675446553402397e-3,2.0107822681730482e2,3.4782820928057427e-3,2.136415997744812e2,3.6890294485610071e-3},
-                                 {0,4.7531751321843412e-3,1.9783527027567281e-3,1.3209000356243849,5.8180380138443416e-5,-4.2896279286283958e1,-7.8971557067366205e-6,1.6313941888992388e1,-1.5698484666643243e-5,2.7275297599785833e1,-2.3982436775258179e-5,3.9015262566090881e1,-3.2650535545863758e-5,5.1124096067583176e1,-4.1507448843392954e-5,6.3420077265199993e1,-5.0463503013567872e-5,7.5817584645898769e1,-5.9475011170603514e-5,8.8273517278834968e1,-6.8519281193319072e-5,1.0076481487265606e2,-7.7583831031885283e-5,1.1327846090742514e2,-8.6661443734606269e-5,1.2580675930819964e2,-9.5747762623874324e-5,1.3834497339176935e2,-1.0484005752059101e-4,1.5089008447283382e2,-1.1393656090682825e-4,1.6344010927573391e2,-1.2303609538877958e-4,1.7599370945500585e2,-1.3213785670229019e-4,1.8854996024938716e2,-1.4124128307341649e-4,2.0110820907873531e2,-1.5034597421935097e-4,2.1366798667743174e2},
-                                 {0,-6.5616579317528525e-4,1.4145674122788765e-1,-3.2730562408475218e-4,2.4651465854086325,-3.5389122182592381e-6,-6.5999495725366322e1,3.8641892814989967e-7,1.7679318562064765e1,7.1597596320570964e-7,2.8313659568751164e1,1.0643159571323337e-6,3.978038237585451e1,1.4315235141636423e-6,5.1689509521803567e1,1.8089923173334784e-6,6.3844001254657436e1,2.1922875429694402e-6,7.6141101755994912e1,2.5790466648194331e-6,8.8524837900623514e1,2.9679536274104929e-6,1.0096333885898562e2,3.3582430798744143e-6,1.1343769260307672e2,3.7494520877514732e-6,1.2593625086814425e2,4.1412906058035194e-6,1.3845159702587184e2,4.5335711312595475e-6,1.5097886738140672e2,4.9261690317831876e-6,1.6351478761030318e2,5.3189993872848015e-6,1.7605710119209644e2,5.7120030416447242e-6,1.8860422011840064e2,6.1051379602023605e-6,2.01155005605746e2,6.4983737356898275e-6},
-                                 {0,1.6539684681188784e-3,7.5917774616701553e-4,5.6159974014678309e-1,2.9014345550252999e-5,3.7476183915282996,1.9808688851940503e-7,-9.4037520336048299e1,-1.8673650714992257e-8,1.9096721790533517e1,-3.2678122005304494e-8,2.9459020126485678e1,-4.736493383199069e-8,4.0672962520630864e1,-6.2924867090666713e-8,5.2380688022562651e1,-7.8998570560943554e-8,6.438239942644325e1,-9.5383168156968084e-8,7.6565024876630522e1,-1.119623374548784e-7,8.8862762519730128e1,-1.2866730662782702e-7,1.0123607757962256e2,-1.4545608945817222e-7,1.1366045204970941e2,-1.6230224893121268e-7,1.2612022044761684e2,-1.7918865500444466e-7,1.3860509538875389e2,-1.9610391400623868e-7,1.5110815076461423e2,-2.1304026576573673e-7,1.6362461704748129e2,-2.299923101674488e-7,1.7615114201902389e2,-2.4695621564055898e-7,1.8868532559380971e2,-2.6392921519826101e-7,2.0122542026460576e2},
-                                 {0,-2.5496032247128072e-4,6.1014621766203701e-2,-1.5280798898995282e-4,1.2513495970753585,-2.0345227775445869e-6,5.1129463074859484,-1.0535074325720241e-8,-1.2701033941095543e2,8.9294488687066471e-10,2.0548860487916188e1,1.4907081250337244e-9,3.0683597302468621e1,2.1115835532250359e-9,4.1668442187183128e1,2.7714645563006934e-9,5.3180709531018653e1,3.4557822968170111e-9,6.5025551391955812e1,4.1556834066805271e-9,7.7085075412587455e1,4.8657716333853186e-9,8.9286736488751991e1,5.5826899046517111e-9,1.0158487277926386e2,6.3042995859891277e-9,1.1395004054027696e2,7.0292049778443345e-9,1.2636279681443644e2,7.7564738171496577e-9,1.3881000969109837e2,8.4854696708449781e-9,1.5128262153726069e2,9.2157492011189165e-9,1.6377426268806092e2,9.9469977889258673e-9,1.7628037330902029e2,1.0678988322397295e-8,1.8879763542632793e2,1.1411554273875362e-8},
-                                 {0,7.5783951834730748e-4,3.6461084971243551e-4,2.8393095611253565e-1,1.5596494733735709e-5,2.1426126859010133,1.2550860537414205e-7,6.5303512981234026,5.4124513474312367e-10,-1.6491796071685493e2,-4.2321812672454602e-11,2.2025237233175661e1,-6.7922531734001341e-11,3.1967923056488119e1,-9.4233517329392147e-11,4.2746994874999605e1,-1.2224930249157461e-10,5.4073740222191036e1,-1.5138882689006593e-10,6.5762525456876309e1,-1.8127699413613457e-10,7.7694643780389424e1,-2.1167313212954681e-10,8.9793496633784589e1,-2.4242080484450723e-10,1.0200887952525785e2,-2.7341655941192014e-10,1.1430728185359219e2,-3.0459068844355183e-10,1.2666590986178584e2,-3.3589533255321612e-10,1.3906896978125325e2,-3.6729703182164652e-10,1.515053231727516e2,-3.9877198888380278e-10,1.6396698321744737e2,-4.3030300477915242e-10,1.7644813357880404e2,-4.6187746238256757e-10,1.8894447718105485e2},
-                                 {0,-1.2437173339451436e-4,3.1544056348970938e-2,-8.2445789867267031e-5,7.0760463600119604e-1,-1.2073933067738162e-6,3.180917087490414,-7.1616995119599111e-9,7.9824898690264063,-2.7123488280575947e-11,-2.0776038419493949e2,1.9908208457894359e-12,2.3519166125575906e1,3.0900812987855411e-12,3.3298187902215479e1,4.207467134636027e-12,4.3892992269842156e1,5.3983237259638125e-12,5.5045916535821117e1,6.6396819618066786e-12,6.6582590513706087e1,7.9159483150522882e-12,7.838622176095514e1,9.2166724403321215e-12,9.0378316127002889e1,1.0534798769882806e-11,1.0250557423390893e2,1.1865505116939328e-11,1.147313112648073e2,1.3205448009009937e-11,1.2702989995360036e2,1.455227401830728e-11,1.3938316495771317e2,1.5904301543989256e-11,1.5177802372380099e2,1.7260311445185526e-11,1.6420492481172565e2,1.8619407544286696e-11,1.7665680036216744e2,1.9980922412098529e-11},
-                                 {0,4.0802379375454322e-4,2.0177549871687373e-4,1.6189641951033375e-1,9.2216750946127924e-6,1.3162161480251082,8.0124280286485566e-8,4.3262790369563847,3.8804355608687976e-10,9.4588666191076414,1.3340416978734889e-12,-2.5553760987367888e2,-9.3046478190056528e-14,2.5026197697782179e1,-1.4034310025527754e-13,3.4664411756998091e1,-1.8788560604170719e-13,4.5094174550203135e1,-2.3856531977201472e-13,5.6085448935458193e1,-2.9147836988396805e-13,6.7475829242045086e1,-3.4598440470452574e-13,7.9152187170528159e1,-4.0163800615953148e-13,9.103577194635007e1,-4.5812833721839815e-13,1.0307142263155749e2,-5.1523666996693356e-13,1.1522012088418517e2,-5.7280741014017803e-13,1.2745394559478891e2,-6.3072853520352939e-13,1.3975266988802169e2,-6.8891838803150389e-13,1.5210145843827225e2,-7.473167108494998e-13,1.6448929772571206e2,-8.0587850464950979e-13,1.7690791554310687e2},
-                                 {0,-6.9715474470267374e-5,1.8346770860336555e-2,-4.9228441560780371e-5,4.3500755130355901e-1,-7.6550639768806625e-7,2.0812696738960853,-4.8341375082922189e-9,5.5508560699408916,-2.0272075117481806e-11,1.0952795511205532e1,-6.4664477774451775e-14,-3.0824963775287536e2,4.3246368148049715e-15,2.6543261389768153e1,6.3628961566564958e-15,3.6059244208748473e1,8.3890146591518832e-15,4.6340900363633725e1,1.054827008383656e-14,5.7182448860058438e1,1.2805159215430129e-14,6.8433367138704803e1,1.5133593105448657e-14,7.9985234172293115e1,1.7514833244741074e-14,9.1760235565401629e1,1.9935418506715889e-14,1.0370235154233981e2,2.2385628162970389e-14,1.1577097590929831e2,2.4858386000149015e-14,1.2793641243624175e2,2.734849176549482e-14,1.4017672754793633e2,2.9852084830428702e-14,1.5247555358296216e2,3.23662693225169e-14,1.6482054985804744e2,3.4888850720948566e-14},
-                                 {0,2.4425093901888296e-4,1.2297535530128215e-4,1.0059597190840468e-1,5.866229162465031e-6,8.5868814514091278e-1,5.3654876351672468e-8,2.9738508337552028,2.7366122850340055e-10,6.8351818280932403,1.0309183614439483e-12,1.2459827083423668e1,3.0981393686831055e-15,-3.6589646783261686e2,-2.0002917667068872e-16,2.8068172321050506e1,-2.8798241294452791e-16,3.7477172789380164e1,-3.7445064485433392e-16,4.7625541376100076e1,-4.66545694638902e-16,5.8328668285635282e1,-5.6287332032342243e-16,6.9447403639496741e1,-6.6237592509372923e-16,8.0878585908643527e1,-7.6427243949253412e-16,9.2546171553282576e1,-8.6798727077692207e-16,1.0439406925748426e2,-9.7309505398129422e-16,1.163807199573314e2,-1.0792796401444999e-15,1.2847512568610836e2,-1.1863043132362006e-15,1.4065398237280049e2,-1.2939903611799059e-15,1.528996203897782e2,-1.4022016889840694e-15,1.6519852471016172e2},
-                                 {0,-4.2921585722999052e-5,1.158742696152679e-2,-3.1645323512821312e-5,2.8515841642800399e-1,-5.1243742982113233e-7,1.4240265991627456,-3.3817434635704607e-9,3.9693303410313605,-1.4809692140542789e-11,8.1654466734872744,-5.1358601388953054e-14,1.3976890775408954e1,-1.470274162832521e-16,-4.2847810011290279e2,9.2127281693751236e-18,2.9599334717770857e1,1.3012018656636583e-17,3.8913993427817079e1,1.6706692102243549e-17,4.8942015152278955e1,2.063852079538716e-17,5.9517234321652658e1,2.475270799716059e-17,7.0511149253314885e1,2.9006510503244936e-17,8.1826079008463551e1,3.3367583710110547e-17,9.3388308652088509e1,3.7811547650105911e-17,1.0514227558552579e2,4.2320009132010439e-17,1.1704599250245145e2,4.6879038196133618e-17,1.2906757642367053e2,5.1478025572384686e-17,1.4118266605059125e2,5.6108837050124583e-17,1.5337251670244704e2,6.0765190868976495e-17},
-                                 {0,1.57601136586971e-4,8.0358401487473091e-5,6.6624013706542325e-2,3.9489311517033118e-6,5.8830783838081389e-1,3.7446866100237262e-8,2.1152057383401389,1.9837291425262316e-10,5.0478830322773239,7.752524448598474e-13,9.5316705282804687,2.5175272959048956e-15,1.5501801706691334e1,6.9223144281563976e-18,-4.9599453459373341e2,-4.2271565248101516e-19,3.1135556588148597e1,-5.8697496615119766e-19,4.0366450221064722e1,-7.4501033707800599e-19,5.0285431054721579e1,-9.1302314663130718e-19,6.0742410437027997e1,-1.088856735892273e-18,7.1618724082186896e1,-1.2707865025604072e-18,8.2822175552588858e1,-1.4574791954524356e-18,9.4281728529273073e1,-1.6479094865484621e-18,1.0594279401912503e2,-1.8412893282547058e-18,1.1776337948019399e2,-2.0370116402287599e-18,1.297110740545121e2,-2.2346068035234604e-18,1.4176074188907818e2,-2.4337096042334294e-18,1.538927780119573e2},
-                                 {0,-2.8273695450979171e-5,7.7769008962633622e-3,-2.1508726564257668e-5,1.9653457097301093e-1,-3.5850934353014463e-7,1.0121481113342551,-2.4431260064410473e-9,2.9152270712428817,-1.1055930502274522e-11,6.1938804267561508,-3.9566160973705216e-14,1.0926502980030104e1,-1.2180895730195222e-16,1.7032964103411684e1,-3.2373790027776833e-19,-5.684457712751087e2,1.9330948404564081e-20,3.2675929993853333e1,2.6437683671022827e-20,4.1831986014236358e1,3.3203696832492524e-20,5.1651823149396165e1,4.038899506574654e-20,6.1999393276153424e1,4.7908548396281807e-20,7.2765046225258222e1,5.5692822741689815e-20,8.3861936182904998e1,6.3687036820532311e-20,9.5221902792774702e1,7.1848299125923004e-20,1.0679165023064719e2,8.0143087444209505e-20,1.1852951450140237e2,8.8545174390673094e-20,1.3040285647425912e2,9.7033979747954826e-20,1.4238601472389911e2,1.0559328754799063e-19},
-                                 {0,1.0753339579498037e-4,5.5346132184190713e-5,4.6341239344518584e-2,2.7795341455760065e-6,4.1945371470267276e-1,2.7065278700837264e-8,1.5505465448738864,1.4752161297408199e-10,3.8082577651413517,5.9322243749065124e-13,7.3950627071263987,1.9795502830557197e-15,1.234443156066182e1,5.8310125268897361e-18,1.8569185973789424e1,1.5053731910921068e-20,-6.4583181015702867e2,-8.813629568788194e-22,3.421975141953098e1,-1.1890234225747058e-21,4.3308566681630147e1,-1.4789326860544336e-21,5.3037948450861477e1,-1.7864498443178677e-21,6.3284144493001235e1,-2.1082159099554415e-21,7.3945723933829648e1,-2.4414275036928676e-21,8.4940974317111088e1,-2.7838386070283053e-21,9.6204698474747548e1,-3.133662164947311e-21,1.0768511433407768e2,-3.4894801741341994e-21,1.1934114431310696e2,-3.8501674258441719e-21,1.3114016783643947e2,-4.2148293487264187e-21,1.4305621305855177e2},
-                                 {0,-1.9600114458047381e-5,5.4686229597272632e-3,-1.5268526942106569e-5,1.4096933460618349e-1,-2.6003524412132832e-7,7.4287839198937098e-1,-1.8154026917359806e-9,2.1936983185560363,-8.4259200071141158e-12,4.780434078377312,-3.0918065442453072e-14,8.6417885205561855,-9.7472575191153145e-17,1.3781252199098733e1,-2.7665555420866987e-19,2.010955937949416e1,-6.9652767292607173e-22,-7.2815265123949332e2,4.0075869857433516e-23,3.5766467442143977e1,5.340167216952028e-23,4.4794555267860462e1,6.5832496109423626e-23,5.444113378930102e1,7.900251456428233e-23,6.4593253509215778e1,9.2778766199084477e-23,7.5156957583673468e1,1.0704818199476228e-22,8.6055403013119219e1,1.2171880374176611e-22,9.722636509529544e1,1.3671639706735774e-22,1.0861971918850674e2,1.5198124281826347e-22,1.2019516881307224e2,1.6746533725620132e-22,1.3192031195088195e2,1.8313005366312933e-22},
-                                 {0,7.6612395924943905e-5,3.9717549250449239e-5,3.3506647530928437e-2,2.0279020419145572e-6,3.0902484326195604e-1,2.0147587516395111e-8,1.1668013977143058,1.1225368176340271e-10,2.9306723854992213,4.6169458917597447e-13,5.819966478022343,1.5750186075427389e-15,9.926429533022559,4.7373844389614416e-18,1.5233708992346377e1,1.3027565967676561e-20,2.1653380805171807e1,3.2088413004438343e-23,-8.1540829452250265e2,-1.8178128485223475e-24,3.7315636815470986e1,-2.3952457233341988e-24,4.6288620431775751e1,-2.928593341492294e-24,5.5859158815024038e1,-3.4929699705533049e-24,6.5923826240332549e1,-4.0831017696090466e-24,7.6395453481949704e1,-4.6944249627839243e-24,8.7201780939762552e1,-5.3231775873886517e-24,9.8283511679156068e1,-5.9662827428231017e-24,1.0959226324545373e2,-6.6212340000669843e-24,1.2108866323797125e2,-7.2859926625337563e-24,1.3274068761561783e2},
-                                 {0,-1.4140622981982724e-5,3.9900051828949777e-3,-1.1222363807800622e-5,1.044444740399726e-1,-1.9432301039247562e-7,5.6024431593561303e-1,-1.3822510789567497e-9,1.6868517255636759,-6.5445523906737315e-12,3.7507374419044812,-2.4503328528111988e-14,6.9169664026217285,-7.8776338782065803e-17,1.1242903309201436e1,-2.2776965404299014e-19,1.6699244785518012e1,-6.0951969223473506e-22,2.3200096827784804e1,-1.4726435409416066e-24,-9.0759874000605666e2,8.2271598235454286e-26,3.8866903472843014e1,1.0730203580943023e-25,4.7789668874186968e1,1.3019819575551574e-25,5.7290165943334742e1,1.5439695371472817e-25,6.7273395072018191e1,1.7968870690811023e-25,7.7658349514266682e1,2.0588907203955748e-25,8.8377060876971539e1,2.3284420750013996e-25,9.9373078980314268e1,2.6042678417345813e-25,1.1059980375296795e2,2.8853188902730266e-25,1.2201888807256857e2,3.1707325535317826e-25},
-                                 {0,5.6495164837799592e-5,2.9457008069159314e-5,2.4998348425367028e-2,1.5236659891851152e-6,2.3396093270613189e-1,1.5377737073021961e-8,8.981684434670602e-1,8.7172867395729762e-11,2.2964200946849327,3.6507485960983942e-13,4.6439761702501221,1.2681215998115845e-15,8.0631858281985921,3.881487546194228e-18,1.2586319211644061e1,1.0851700233119619e-20,1.8175825452911802e1,2.8359045333057668e-23,2.4749266201111813e1,6.7355479990497285e-26,-1.0047239876901553e3,-3.7159451841199175e-27,4.0419976954801911e1,-4.8012987348336324e-27,4.929679479287684e1,-5.7846990226629814e-27,5.87325904916122e1,-6.8227934037652077e-27,6.8639845992645011e1,-7.9072353503348561e-27,7.8943151716452795e1,-9.0305672187819925e-27,8.9578542387316868e1,-1.0186498139927591e-26,1.0049231014031628e2,-1.136976485855808e-26,1.1163964424315196e2,-1.2575985136367364e-26,1.2298329067121851e2},
-                                 {0,-1.0534270652298246e-5,2.9995811312873176e-3,-8.4863197236950317e-6,7.9483396130000249e-2,-1.4889059251427674e-7,4.323750536153621e-1,-1.074899341215918e-9,1.3221421881042083,-5.1711555216517396e-12,2.9879980747957351,-1.9681576380532471e-14,5.6015140669089226,-6.4312719796015295e-17,9.2517518642159664,-1.8888608145736987e-19,1.3952711306318646e1,-5.1301533197701768e-22,1.9661814039142116e1,-1.3130556941131541e-24,2.6300532858483841e1,-3.0713612694695837e-27,-1.1067840375747987e3,1.6752548376183272e-28,4.1974617987683302e1,2.146005244818971e-28,5.0809241600904429e1,2.56856736794213e-28,6.0185106051592167e1,3.0141013849205086e-28,7.002135948661934e1,3.4792775168510219e-28,8.0247680506636078e1,3.9610757576814886e-28,9.0803829276799403e1,4.4569231521143475e-28,1.0163872169807161e2,4.9646457191012948e-28,1.1270931892140159e2,5.4824159325883147e-28},
-                                 {0,4.284705682214252e-5,2.2445386852986092e-5,1.9139404173273747e-2,1.1731836261226957e-6,1.8124546309829859e-1,1.1990376502510421e-8,7.0511290601263975e-1,6.8922097589661765e-11,1.8289023337526944,2.9291290208116021e-13,3.7539634843740818,1.0327693530185905e-15,6.6155505677008784,3.2079509564320124e-18,1.0476927979591306e1,9.0961951195520954e-21,1.5338836607783958e1,2.4091422520763012e-23,2.1155879203057405e1,6.0536364340802704e-26,2.7853606340442738e1,1.3967048715999084e-28,-1.2137788896599867e3,-7.539620924003135e-30,4.3530627700452581e1,-9.5818795100168819e-30,5.2326372596509936e1,-1.1398329982099824e-29,6.1646581440746152e1,-1.3311298160861736e-29,7.1416362438139667e1,-1.5307476978995002e-29,8.1570025253798258e1,-1.7374621209706517e-29,9.2050791893049839e1,-1.9502203497163351e-29,1.0281007603434135e2,-2.1681248324193686e-29,1.1380657567585419e2},
-                                 {0,-8.0570133269059076e-6,2.3114882345677925e-3,-6.5709854611760542e-6,6.1862101828645507e-2,-1.1652103879085218e-7,3.4035857702410847e-1,-8.5136126087166256e-10,1.0539078649920734,-4.1492933741780976e-12,2.4137218264856839,-1.6007390867540675e-14,4.5870104861380649,-5.3024080004356428e-17,7.6792961815190206,-1.5782336612139662e-19,1.1733910818716733e1,-4.3416534519844433e-22,1.6742021946223501e1,-1.1247979991898116e-24,2.2656927645468622e1,-2.7803708304379364e-27,2.9408247373324129e1,-6.3358973776134865e-30,-1.3257085439457195e3,3.3879154871464502e-31,4.5087839453643181e1,4.2740867243052563e-31,5.3847648249670521e1,5.0551965273536545e-31,6.3116046520700783e1,5.8768749327174115e-31,7.2823488845884992e1,6.7337952158018036e-31,8.2908505936832424e1,7.6209858108451925e-31,9.3317534009313069e1,8.5341371640161664e-31,1.0400435580821466e2,9.469544459966382e-31},
-                                 {0,3.3263524193984784e-5,1.7492699858347382e-5,1.4975146443257896e-2,9.2219925407055556e-7,1.4318235949588427e-1,9.5225713451362861e-9,5.631167787526452e-1,5.5362737854617902e-11,1.4779146108985563,2.3815314882333967e-13,3.0711776458368793,8.5022335550552176e-16,5.4803622224884914,2.6740296756739724e-18,8.7868710103910317,7.6749484541587075e-21,1.3018662035564543e1,2.0565002749969369e-23,1.8160046971946519e1,5.2249131268683187e-26,2.4164053564158494e1,1.2726831120436495e-28,3.0964257086093408e1,2.8677393776878468e-31,-1.4425730004319969e3,-1.5201311888817179e-32,4.6646112571769683e1,-1.9047228158565128e-32,5.5372608436945251e1,-2.2407242228662936e-32,6.4592664857551537e1,-2.5937848320539724e-32,7.4241547600873622e1,-2.9617691368332885e-32,8.4261640782603722e1,-3.3426560154689655e-32,9.4602363900995126e1,-3.7346801775667636e-32,1.0521974061714285e2},
-                                 {0,-6.2994042252990446e-6,1.8186740533757869e-3,-5.1906693842097757e-6,4.907590193659276e-2,-9.2857671614497344e-8,2.7254662140927662e-1,-6.8519982322266834e-10,8.5270501238117068e-1,-3.3755130791569514e-12,1.9746093190339262,-1.3169934958410132e-14,3.7956412648874081,-4.4129349841456468e-17,6.4278553223085135,-1.3285682839540575e-19,9.9331931534623582,-3.6956441059922199e-22,1.4327771051779086e1,-9.6765611147135946e-25,1.9591054100257223e1,-2.416214521191487e-27,2.5676500372186083e1,-5.807912383647282e-30,3.2521468839284008e1,-1.2953427101126066e-32,-1.5643722591188189e3,6.8114656806018449e-34,4.8205327481831492e1,8.4808152429338003e-34,5.6900858417529327e1,9.9265791579299742e-34,6.607571170109552e1,1.1444109458349072e-33,7.5669495942242604e1,1.302483269671171e-33,8.5628118921069639e1,1.4660521450936152e-33,9.5903769170718426e1,1.6343939635203095e-33},
-                                 {0,2.6337492833035328e-5,1.3895713616767486e-5,1.1935224427538612e-2,7.3784655737288271e-7,1.1503493868867262e-1,7.6842763627496085e-9,4.5651457931321572e-1,4.5099088637364178e-11,1.209946324905496,1.9597341307135719e-13,2.5404577166851946,7.0702248067486399e-16,4.5815772527683681,2.2473790957084694e-18,7.4239518664338207,6.518422812402453e-21,1.1113870862033783e1,1.7644822416719734e-23,1.5658343782895857e1,4.5268247017989709e-26,2.1033478648534681e1,1.1129132287484023e-28,2.719363136779159e1,2.643207655014263e-31,3.407974195741051e1,5.8400665857852369e-34,-1.6911063200061857e3,-3.048259406485127e-35,4.9765381903548292e1,-3.7729480513870088e-35,5.8432057666871331e1,-4.39520437649461e-35,6.7564556129292471e1,-5.047665897952864e-35,7.710641749315777e1,-5.7268861419747754e-35,8.7006777239905736e1,-6.4295115840549885e-35,9.7220394877318167e1},
-                                 {0,-5.0179979416000647e-6,1.4565209012731545e-3,-4.1710545301920975e-6,3.9577324224145038e-2,-7.5170311886777064e-8,2.2152255845450356e-1,-5.5928498576519124e-10,6.9909067291664932e-1,-2.7801072483545796e-12,1.6339757355744979,-1.0950480738948333e-14,3.1713866274664207,-3.7052936564140174e-17,5.4237143515742989,-1.1265321689379623e-19,8.4637124967499604,-3.1640900447859564e-22,1.2325104511877603e1,-8.3626966416307744e-25,1.7007912614581499e1,-2.1069143923411764e-27,2.2485994208514648e1,-5.1078780829558736e-30,2.8714907020952175e1,-1.1999560678721334e-32,3.5638956867472319e1,-2.6284797956360545e-35,-1.8227751830940972e3,1.3625482075756939e-36,5.1326187835379313e1,1.677181669633506e-36,5.9965910913817803e1,1.9450655886363375e-36,6.905864647761229e1,2.2256681980155132e-36,7.8551504005611769e1,2.5176023886093086e-36,8.8396580751435795e1,2.8194994972214018e-36},
-                                 {0,2.120816195491856e-5,1.1220714238203824e-5,9.6647456430669588e-3,5.9944515276817274e-7,9.3784515376233753e-2,6.2879887843447859e-9,3.7501892310341927e-1,3.7198886870226827e-11,1.0022037187717396,1.6303022233346079e-13,2.1227853549537548,5.9344600012389133e-16,3.8631043426108797,1.9036192488727441e-18,6.3171342287588632,5.5718369041017351e-21,9.5427506309560503,1.5217806260712759e-23,1.3563600410153839e1,3.938036968717656e-26,1.837436353520832e1,9.7618528350533689e-29,2.3947469597668633e1,2.3368457852356785e-31,3.0239867208226905e1,5.4352419786916455e-34,3.7199011289189119e1,1.1811449896553945e-36,-1.9593788483825533e3,-6.0837818147758077e-38,5.2887669149104341e1,-7.4499406589745362e-38,6.1502160892170785e1,-8.6034477003392315e-38,7.0557498376663028e1,-9.810534802524864e-38,8.0004040120946664e1,-1.1065613221925295e-37,8.9796605898059928e1},
-                                 {0,-4.0618497348872913e-6,1.1844546866966189e-3,-3.4017098581882972e-6,3.2376000011286905e-2,-6.1691441679605535e-8,1.824226933070206e-1,-4.6222307686975825e-10,5.7993293595457304e-1,-2.3152164955847989e-12,1.3661938100097568,-9.1934339441955915e-15,2.6736403800657545,-3.1369475206808071e-17,4.6113106706524148,-9.6187203596185908e-20,7.2573084922604918,-2.7245310795689052e-22,1.0657179326964182e1,-7.2607461168121363e-25,1.4826496442470817e1,-1.8439623339436345e-27,1.9755877029182648e1,-4.5046641773636732e-30,2.5416934677623264e1,-1.0660183550447851e-32,3.1768117188810981e1,-2.4568365103141035e-35,3.875981722102014e1,-5.2998674315764992e-38,-2.1009173158715541e3,2.7136089338189216e-39,5.4449759654402599e1,3.3068547721041821e-39,6.3040582437313544e1,3.8036552929701302e-39,7.206068487441313e1,4.3230378213503088e-39,8.1463390592875905e1,4.862748440576377e-39},
-                                 {0,1.7328761232158395e-5,9.1903359402219416e-6,7.9350763627787733e-3,4.9354900640151852e-7,7.7447813899399776e-2,5.2090762735518991e-9,3.1170370161690925e-1,3.1025699493086763e-11,8.3889302391174764e-1,1.3697014882229823e-13,1.7902394511983862,5.0241770049704463e-16,3.2833844280988477,1.6243569439461828e-18,5.4118291042516502,4.7922992223492628e-21,8.2401041742333374,1.3191996056071117e-23,1.1803557253607514e1,3.4401104324993037e-26,1.6111298644656931e1,8.590996714383612e-29,2.1150879980702976e1,2.0711833212989685e-31,2.6893553014474018e1,4.8502148223287426e-34,3.3299316438152985e1,1.1084383040141874e-36,4.0321298534745168e1,2.374848813005218e-39,-2.2473905855610996e3,-1.2092054681221821e-40,5.6012401529756713e1,-1.4668378766846123e-40,6.4580977646446708e1,-1.68084330986132e-40,7.3567828234907614e1,-1.9043705156441388e-40,8.2928989529879701e1},
-                                 {0,-3.333975248721664e-6,9.7612497878483321e-4,-2.8103826381845759e-6,2.6818453624413728e-2,-5.124366718652675e-8,1.5197270152112273e-1,-3.8625392567835873e-10,4.8617416849289165e-1,-1.9473809015811379e-12,1.1530881997647725,-7.7867720395497367e-15,2.2727062926500185,-2.676281680830958e-17,3.9486569732188952,-8.267074090879274e-20,6.2606853157738108,-2.3590966601875545e-22,9.26177079478123,-6.3330899063089808e-25,1.2978837190816502e1,-1.6199001987443898e-27,1.7415827434840214e1,-3.9846618541740428e-30,2.25580063884483e1,-9.4919636972436942e-33,2.8376599858018001e1,-2.2015084417366085e-35,3.4833169685099457e1,-4.9921777274809391e-38,4.1883389040043426e1,-1.0628139464034921e-40,-2.3987986574511897e3,5.3834052417125636e-42,5.757554404132547e1,6.5023129217036228e-42,6.612317188610278e1,7.4243365668156e-42,7.5078593093350578e1,8.3865268568e-42},
-                                 {0,1.4340627740687403e-5,7.6215834216279458e-6,6.5944351896468008e-3,4.1116291182768872e-7,6.4686488794430008e-2,4.3626187407328166e-9,2.6179938713711905e-1,2.6136188694564611e-11,7.0887580108269615e-1,1.1611159169576889e-13,1.5225931300720459,4.2873732903737748e-16,2.811419542516639,1.3956622212382729e-18,4.666043950961442,4.1462875534925979e-21,7.1541494192042989,1.1493157430017364e-23,1.0318917378641858e1,3.0176609292018139e-26,1.418031870116183e1,7.586361688421123e-29,1.8738172182002394e1,1.8407631426036321e-31,2.397606514343693e1,4.3371983194836373e-34,2.9865444286214952e1,9.9708362043432014e-37,3.6369419663452439e1,2.2447591077712463e-39,4.344603091539754e1,4.7507901163064928e-42,-2.5551415315418246e3,-2.3946439325790471e-43,5.91391424900018e1,-2.8806169691487697e-43,6.766701047931397e1,-3.2779256206358752e-43,7.6592680714837141e1},
-                                 {0,-2.7701220603783256e-6,8.1391284429342177e-4,-2.3484564786015539e-6,2.2461842775895649e-2,-4.3022724252725761e-8,1.2791606263202139e-1,-3.2597741670096632e-10,4.1144470566911757e-1,-1.6528031013033402e-12,9.8157635149479023e-1,-6.6488378995270166e-15,1.9466507899854332,-2.2996245338306037e-17,3.4038702800788051,-7.1496748489209981e-20,5.4321789721698173,-2.0536067534850313e-22,8.0887542736333592,-5.5489590041030904e-25,1.1408484679800057e1,-1.4284371162467801e-27,1.5405605590644365e1,-3.5356249460291954e-30,2.0076652865036559e1,-8.4729825610126992e-33,2.5404013484805912e1,-1.9764911273246293e-35,3.1359534634534771e1,-4.5068461713980392e-38,3.7907841208595198e1,-1.0078647244167086e-40,4.5009173426966297e1,-2.1212661493618074e-43,-2.7164192078330041e3,1.06432089862868e-44,6.070315734063851e1,1.275402744e-44,6.9212355941554693e1,1.4466e-44},
-                                 {0,1.2001835803502478e-5,6.3904080594201948e-6,5.5393868545274548e-3,3.4611675965618707e-7,5.4575778798818925e-2,3.6894600662226435e-9,2.2195376133285795e-1,2.2215735429054913e-11,6.0416523145105412e-1,9.9235410083534159e-14,1.3050110659634981,3.6854425716578646e-16,2.4239056148495961,1.2069258106582521e-18,4.0473679109203756,3.6075745128130214e-21,6.2438087838744112,1.0061571229277711e-23,9.061298330580351,2.6579555471779109e-26,1.2527715839802076e1,6.722218198496264e-29,1.6652568206894801e1,1.6406132769331791e-31,2.1429787710807857e1,3.8873755156037135e-34,2.6840935035721079e1,8.9849324289863304e-37,3.2858386533585509e1,2.0333532566610391e-39,3.9448236417728362e1,4.518910092966514e-42,4.6572771875642627e1,9.46183646837874e-45,-2.8826316863247283e3,-4.7268429737e-46,6.2267553497726422e1,-5.6437122e-46,7.0759085662532387e1},
-                                 {0,-2.3265736636691777e-6,6.8573411156629896e-4,-1.9824061671230853e-6,1.8998928685060412e-2,-3.6466838934615231e-8,1.0866476825385936e-1,-2.7756197912169307e-10,3.5118471300448082e-1,-1.4142841342189196e-12,8.421068250616528e-1,-5.7193737495257163e-15,1.6791062106520901,-1.9891048720307041e-17,2.9525892926403517,-6.2195607390273654e-20,4.739150330667391,-1.7968092720133493e-22,7.097833283839685,-4.8832891199915265e-25,1.0068838838094573e1,-1.2643098312340667e-27,1.3674127397557404e1,-3.1470260946355917e-30,1.7919310323158031e1,-7.5830271679514267e-33,2.2796265849273774e1,-1.7782328643435775e-35,2.8286021548175077e1,-4.0752917993102175e-38,3.4361573031335611e1,-9.1582643486881362e-41,4.0990430657384434e1,-2.0235108918969688e-43,4.8136786726279337e1,-4.21632561942e-46,-3.0537789670169972e3,2.0974e-47,6.3832299699589241e1,0},
-                                 {0,1.0145169253242503e-5,5.4106977454830968e-6,4.69779969463688e-3,2.9408361011394819e-7,4.6463103770057236e-2,3.1475655894259863e-9,1.8976673877183461e-1,1.9037227828022932e-11,5.1894497848032668e-1,8.5445426376199063e-14,1.1264797390441954,3.189426124485123e-16,2.103173017468128,1.0500135015670604e-18,3.5306651311272802,3.155579882951588e-21,5.4764616928477412,8.8492337155701688e-24,7.9913277087387014,2.3505029832066433e-26,1.1108679328278584e1,5.976826434112319e-29,1.4845481733827141e1,1.4664241693928708e-31,1.9204140214840088e1,3.4925182295760751e-34,2.4174924168109871e1,8.1123458869399885e-37,2.9738557663509972e1,1.8446145977124146e-39,3.5868716391830095e1,4.11839889618234e-42,4.2534269250595624e1,9.05013625e-45,4.9701182883367249e1,1.8771e-47,-3.2298610499098107e3,0,6.5397368009084383e1},
-                                 {0,-1.9728823575166506e-6,5.8311297202343921e-4,-1.6886063640618963e-6,1.6212060972883013e-2,-3.1175728424689623e-8,9.3080034916868522e-2,-2.3824062613426713e-10,3.02076216688125e-1,-1.2192068752000066e-12,7.2761176114563785e-1,-4.9533805815384852e-15,1.4577318713781999,-1.7311131962766289e-17,2.576069330136973,-5.4402103706605801e-20,4.1559379659482083,-1.5797585022644095e-22,6.2566058072902235,-4.315693288108856e-25,8.9215525433360153,-1.1231361054001486e-27,1.2178354006528211e1,-2.8098897828155017e-30,1.6039761507700456e1,-6.8044446095224278e-33,2.0505545484563388e1,-1.6033798002809928e-35,2.556472767963993e1,-3.6917293585779875e-38,3.1197908135439213e1,-8.333467295509099e-41,3.7379481250273059e1,-1.8493004177971601e-43,4.4079614712836347e1,-4.04311569e-46,5.1265929085230068e1,0,-3.410877935003169e3,0},
-                                 {0,8.6525333344395946e-6,4.6214055860143368e-6,4.0183335770076282e-3,2.5196875033319403e-7,3.9879198089567953e-2,2.7065280424600198e-9,1.6349081222103239e-1,1.6434138233628651e-11,4.4891796640372962e-1,7.4074211379526702e-14,9.7872694207988801e-1,2.7773787407470575e-16,1.8357067234924832,9.1864353358788327e-19,3.0963306396472263,2.7740876958442332e-21,4.826136300600872,7.8175181708527993e-24,7.0769814720261024,2.0866765664384827e-26,9.8859551419859548,5.3319111347291015e-29,1.3275610760980809e1,1.3144910046318102e-31,1.7255146316628645e1,3.1453903735957187e-34,2.1822171191163129e1,7.3393885287937365e-37,2.6964752826264063e1,1.67620429500398e-39,3.2663507072443009e1,3.7582134217e-42,3.8893568871759622e1,8.2925e-45,4.5626344433814041e1,0,5.283099739472521e1,0,-3.5968296222970719e3}};
-
-        IdXdX_ = new double[][] {{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,2.7647119392944668,4.0567806490863233e-1,3.1886815475675192,3.4535575258203014e-1,3.2095269373396563,3.4333493298516539e-1,3.2126287178051619,3.4293363772140684e-1,3.2135248515613463,3.4280304896464665e-1,3.2138746672949148,3.4274839270540926e-1,3.2140384401496672,3.4272159881666141e-1,3.2141250899520991,3.4270695092638939e-1,3.2141751576928911,3.4269827734539646e-1,3.2142060786927612,3.4269281785392039e-1,3.2142261959238483,3.4268921150159071e-1,3.214239844031864,3.4268673424426532e-1,3.2142494275644921,3.4268497663516371e-1,3.2142563535958531,3.4268369522888001e-1,3.2142614829267312,3.426827390806733e-1,3.2142653623274539,3.4268201120618713e-1,3.2142683504609454,3.4268144735299879e-1,3.2142706892528826,3.4268100380460208e-1,3.2142725459194329,3.4268065011329593e-1,3.2142740385553517},
-                                 {0,4.0567806490863233e-1,1.2258851175953959e1,7.4300945893139781e-2,8.768883830321813,8.2991028371007863e-2,9.0739111479100261,8.421693301540417e-2,9.154353552872701,8.4611512479128889e-2,9.1838241188230906,8.4774347853593108e-2,9.1970214043127206,8.4853147997052526e-2,9.2037807482115322,8.4895764950866416e-2,9.2075912742767957,8.4920777220169699e-2,9.2098995522133318,8.493640580310344e-2,9.211378169990164,8.494666634428473e-2,9.2123685940417717,8.4953677965500904e-2,9.2130566869384912,8.4958630652495542e-2,9.2135495011196832,8.4962227638737122e-2,9.2139116542717859,8.4964902638115686e-2,9.2141837204863624,8.4966933016413668e-2,9.2143920501942742,8.4968501768932262e-2,9.2145542623287656,8.4969732944294469e-2,9.2146824410614927,8.4970712654608407e-2,9.2147850622010356,8.4971501946767875e-2},
-                                 {0,3.1886815475675192,7.4300945893139781e-2,2.7198013668150638e1,-5.0015926316907995e-3,1.4391595103690615e1,-5.7647380955747847e-3,1.5150906764259586e1,-5.9397272402984316e-3,1.5428575569517429e1,-6.0100903572873738e-3,1.5550610106159264e1,-6.0433077073079232e-3,1.5611910553761268e1,-6.0608908253590831e-3,1.564588251196313e1,-6.0710274223076528e-3,1.5666165286325154e1,-6.0772676219298039e-3,1.5678999878138744e1,-6.0813137850641098e-3,1.5687508177244305e1,-6.0840498291482154e-3,1.5693367121496399e1,-6.0859651634107344e-3,1.5697531379226414e1,-6.0873454794877007e-3,1.5700571301242134e1,-6.0883650943417183e-3,1.5702841780026605e1,-6.0891344390137221e-3,1.5704571449306894e1,-6.0897257662337259e-3,1.5705912090480026e1,-6.0901876923933089e-3,1.5706967138815145e1,-6.0905537427047873e-3,1.5707808725975035e1,-6.0908475425078485e-3,1.5708488192092665e1},
-                                 {0,3.4535575258203014e-1,8.768883830321813,-5.0015926316907995e-3,4.6716125060880911e1,2.9479746663056608e-4,1.9524961728853208e1,3.3987571332502719e-4,2.0738759404790316e1,3.5332327920022049e-4,2.128250436714854e1,3.5969815433051345e-4,2.1555101451848575e1,3.6305360036628779e-4,2.1704950586724134e1,3.6497089837724303e-4,2.1793574432179127e1,3.661402953833707e-4,2.1849139668545955e1,3.6689192748703215e-4,2.1885664529112166e1,3.6739616353976159e-4,2.1910625607022138e1,3.6774664590282401e-4,2.1928246901323493e1,3.6799763027487615e-4,2.1941033101215545e1,3.6818198297157382e-4,2.1950531678927993e1,3.6832038437617853e-4,2.1957733003140851e1,3.6842628052254519e-4,2.1963290549527725e1,3.6850866661711902e-4,2.1967647160376243e1,3.6857371276929052e-4,2.1971110074467078e1,3.6862574591883276e-4,2.1973896942179255e1,3.6866786077861351e-4},
-                                 {0,3.2095269373396563,8.2991028371007863e-2,1.4391595103690615e1,2.9479746663056608e-4,7.1170610268739448e1,-1.6072682576387752e-5,2.4526733050107447e1,-1.8461191907290734e-5,2.613173879394097e1,-1.9289972421634736e-5,2.6958135331888223e1,-1.9731862413949808e-5,2.7415663334772551e1,-1.9984931387574496e-5,2.7686043641532651e1,-2.0138859473876236e-5,2.7854897765210792e1,-2.0237333573285072e-5,2.7965326636651508e1,-2.0303045807013925e-5,2.8040390547207333e1,-2.0348478224892124e-5,2.8093106016815166e1,-2.0380847778615549e-5,2.813116912041758e1,-2.0404511145791903e-5,2.8159316541224792e1,-2.0422198505519624e-5,2.8180566964537231e1,-2.0435677375726795e-5,2.8196903666014065e1,-2.0446125150219874e-5,2.8209664991119034e1,-2.0454346093153675e-5,2.8219775701114645e1,-2.0460901978471785e-5,2.8227888376143407e1,-2.0466193088981711e-5,2.8234472281823896e1},
-                                 {0,3.4333493298516539e-1,9.0739111479100261,-5.7647380955747847e-3,1.9524961728853208e1,-1.6072682576387752e-5,1.0055701070972032e2,8.3774067500329223e-7,2.9444569757457444e1,9.5701547167561008e-7,3.1376598979470918e1,1.0024869998275765e-6,3.2476246393069015e1,1.0289565666091182e-6,3.3133489467802362e1,1.0451645771646604e-6,3.3545367955630852e1,1.0555461645646283e-6,3.3814637674975736e1,1.0624638557490715e-6,3.3997271751029494e1,1.0672337061924446e-6,3.4125141013349745e1,1.0706210667629562e-6,3.4217157489940999e1,1.0730888719203303e-6,3.4284969445555831e1,1.074927166902717e-6,3.4335993508510604e1,1.0763234544811218e-6,3.4375093373658087e1,1.0774023669919147e-6,3.4405543365443985e1,1.0782488245247338e-6,3.4429600004333086e1,1.078921983199244e-6,3.4448851298711248e1,1.0794638776760406e-6,3.4464436032048239e1,1.0799049152230066e-6},
-                                 {0,3.2126287178051619,8.421693301540417e-2,1.5150906764259586e1,3.3987571332502719e-4,2.4526733050107447e1,8.3774067500329223e-7,1.3487822482730042e2,-4.2365668787942346e-8,3.4310353248315511e1,-4.8123881111560007e-8,3.6514425509585587e1,-5.045589666270335e-8,3.7866853712786961e1,-5.1908299024169972e-8,3.8725498808202025e1,-5.284691649683043e-8,3.9290158001668278e1,-5.34746398115645e-8,3.9673903148827858e1,-5.3907791424343785e-8,3.9942536103075104e1,-5.4215143162084617e-8,4.0135591640529525e1,-5.4438681242428872e-8,4.0277587767789519e1,-5.4604842680077866e-8,4.0384189967228949e1,-5.4730757517535344e-8,4.0465685623438745e1,-5.4827819426430777e-8,4.0529000844925255e1,-5.4903788577622176e-8,4.0578905159405045e1,-5.4964065086599568e-8,4.0618750785209306e1,-5.5012480524178842e-8,4.065093780777033e1,-5.5051801877166268e-8,4.0677213734321132e1},
-                                 {0,3.4293363772140684e-1,9.154353552872701,-5.9397272402984316e-3,2.0738759404790316e1,-1.8461191907290734e-5,2.9444569757457444e1,-4.2365668787942346e-8,1.741342292040088e2,2.0965030145392279e-9,3.9141399926778703e1,2.3686178697151465e-9,4.1573033725869357e1,2.4832222610325637e-9,4.3154559454778897e1,2.558510989974647e-9,4.4208662724567376e1,2.6093622920276005e-9,4.4930191477254222e1,2.6446302232397259e-9,4.5437038070246582e1,2.6697110376074016e-9,4.580174760770605e1,2.6879618074134696e-9,4.6069981930818185e1,2.7015211671485134e-9,4.6271184783429087e1,2.7117848163657672e-9,4.6424799122893609e1,2.7196850181329045e-9,4.6543956859855685e1,2.7258582055100446e-9,4.6637715627317366e1,2.7307477163085667e-9,4.671244509014114e1,2.7346681695740764e-9,4.6772705082805777e1,2.7378466771751084e-9,4.6821813579122133e1,2.7404497667695027e-9},
-                                 {0,3.2135248515613463,8.4611512479128889e-2,1.5428575569517429e1,3.5332327920022049e-4,2.613173879394097e1,9.5701547167561008e-7,3.4310353248315511e1,2.0965030145392279e-9,2.183250358278713e2,-1.020622690307306e-10,4.3948208492043499e1,-1.1473755195470781e-10,4.6571893283058152e1,-1.2021081067490221e-10,4.8359192078874069e1,-1.2396459262299817e-10,4.9598817346010041e1,-1.2659460315608601e-10,5.0476402725652171e1,-1.2847597077259722e-10,5.111065501646646e1,-1.2984936764161935e-10,5.1578172777398698e1,-1.3087122978909299e-10,5.1929160500252836e1,-1.3164501008411414e-10,5.2197128786245897e1,-1.3224041591491651e-10,5.2404871392379653e1,-1.3270530666768629e-10,5.2568182087239645e1,-1.3307314226168995e-10,5.2698199310068696e1,-1.3336772006196775e-10,5.2802909879700338e1,-1.3360623902905217e-10,5.2888130132671066e1,-1.3380131628807108e-10,5.2958157144747663e1},
-                                 {0,3.4280304896464665e-1,9.1838241188230906,-6.0100903572873738e-3,2.128250436714854e1,-1.9289972421634736e-5,3.1376598979470918e1,-4.8123881111560007e-8,3.9141399926778703e1,-1.020622690307306e-10,2.6745064461311991e2,4.9053602073733059e-12,4.87374649069814e1,5.4897642734891058e-12,5.152481374469967e1,5.7459554657274288e-12,5.3496379991430794e1,5.9279864540188276e-12,5.4909826339809632e1,6.0595143041653204e-12,5.5939522976282463e1,6.1561340337348763e-12,5.6702262343391209e1,6.2282959912635619e-12,5.7276538591701261e1,6.2830557445213824e-12,5.7715651099153018e1,6.3252354802733649e-12,5.8056284682612446e1,6.3581786710112613e-12,5.8324066608177188e1,6.3842387445224239e-12,5.8537172218422172e1,6.4050973016489532e-12,5.8708684066692154e1,6.4219734832611879e-12,5.8848153593125292e1,6.435763466968523e-12,5.8962648657041307e1,6.4471346819651954e-12},
-                                 {0,3.2138746672949148,8.4774347853593108e-2,1.5550610106159264e1,3.5969815433051345e-4,2.6958135331888223e1,1.0024869998275765e-6,3.6514425509585587e1,2.3686178697151465e-9,4.3948208492043499e1,4.9053602073733059e-12,3.2151105559906452e2,-2.3334652658929583e-13,5.3513618641962281e1,-2.6008714464314254e-13,5.6441775197105481e1,-2.7190467366907131e-13,5.8578383018259551e1,-2.8055281605186712e-13,6.0153479247363607e1,-2.8696755305370078e-13,6.1329469555135828e1,-2.9178930520144368e-13,6.2219482241011868e1,-2.9546349071443578e-13,6.2902268079549071e1,-2.9830094662356633e-13,6.3432988008700755e1,-3.0052040084302812e-13,6.3850660370432195e1,-3.0227744763778087e-13,6.4183206274187564e1,-3.0368410954242672e-13,6.4450852595313904e1,-3.0482204368244944e-13,6.4668434659422452e1,-3.0575150783245074e-13,6.4846965986341755e1,-3.0651750100043797e-13,6.4994718783306062e1},
-                                 {0,3.4274839270540926e-1,9.1970214043127206,-6.0433077073079232e-3,2.1555101451848575e1,-1.9731862413949808e-5,3.2476246393069015e1,-5.045589666270335e-8,4.1573033725869357e1,-1.1473755195470781e-10,4.87374649069814e1,-2.3334652658929583e-13,3.8050626878544055e2,1.100658126171858e-14,5.8279740257156246e1,1.2223053336976326e-14,6.1330128052535096e1,1.2762217781965516e-14,6.3614842512009015e1,1.3166751674940016e-14,6.5339664629943472e1,1.3473648686812153e-14,6.6655116965656278e1,1.370900093361288e-14,6.7669620546427136e1,1.3891546931125963e-14,6.8460989767677792e1,1.4034747805956621e-14,6.908524440509878e1,1.4148324286507593e-14,6.9582990652499446e1,1.423935258613444e-14,6.9983924739915182e1,1.4313032957594107e-14,7.0309980242579767e1,1.4373226029465698e-14,7.057752482191311e1,1.4422827674182972e-14,7.0798899161187001e1,1.4464032412556779e-14},
-                                 {0,3.2140384401496672,8.4853147997052526e-2,1.5611910553761268e1,3.6305360036628779e-4,2.7415663334772551e1,1.0289565666091182e-6,3.7866853712786961e1,2.4832222610325637e-9,4.6571893283058152e1,5.4897642734891058e-12,5.3513618641962281e1,1.100658126171858e-14,4.4443628417236169e2,-5.154945885597051e-16,6.3038014633053496e1,-5.7058044120877965e-16,6.6195384779083011e1,-5.9497259896679867e-16,6.8613386806722272e1,-6.1366893953371302e-16,7.0476630511546239e1,-6.281325587142723e-16,7.1924265772043953e1,-6.394211985062944e-16,7.305945411725634e1,-6.4831592866919504e-16,7.3958239086976463e1,-6.5539234194651134e-16,7.4676711997133951e1,-6.6107580330384344e-16,7.5256431911645983e1,-6.6568246170234193e-16,7.5728396797228192e1,-6.6944903317234548e-16,7.6115910724895235e1,-6.7255422979034447e-16,7.6436643322276703e1,-6.7513414654788522e-16,7.6704109616252348e1},
-                                 {0,3.4272159881666141e-1,9.2037807482115322,-6.0608908253590831e-3,2.1704950586724134e1,-1.9984931387574496e-5,3.3133489467802362e1,-5.1908299024169972e-8,4.3154559454778897e1,-1.2021081067490221e-10,5.152481374469967e1,-2.6008714464314254e-13,5.8279740257156246e1,-5.154945885597051e-16,5.1330110175982721e2,2.3998271078296404e-17,6.7790037543512732e1,2.6483515056971078e-17,7.1041749447825684e1,2.7579746251900251e-17,7.358009833772298e1,2.8435648005820713e-17,7.557124978270845e1,2.9109184604660854e-17,7.7143705465405396e1,2.9643105885435846e-17,7.8395146324615903e1,3.0069756465401381e-17,7.9399287295350118e1,3.0413516312237106e-17,8.0211690976272002e1,3.0692778617163668e-17,8.0874344673705522e1,3.0921473339871577e-17,8.1419131366845612e1,3.1110209750451598e-17,8.1870412354284065e1,3.126712205954279e-17,8.2246932316787444e1,3.1398492027521967e-17},
-                                 {0,3.2141250899520991,8.4895764950866416e-2,1.564588251196313e1,3.6497089837724303e-4,2.7686043641532651e1,1.0451645771646604e-6,3.8725498808202025e1,2.558510989974647e-9,4.8359192078874069e1,5.7459554657274288e-12,5.6441775197105481e1,1.2223053336976326e-14,6.3038014633053496e1,2.3998271078296404e-17,5.8710072154783741e2,-1.1114395066693107e-18,7.2537000980314579e1,-1.2232216035135477e-18,7.5872477961757626e1,-1.2722283267585558e-18,7.8519867742459942e1,-1.3111121249743574e-18,8.0629258974512697e1,-1.3421748407316821e-18,8.2319315943712972e1,-1.3671413784584598e-18,8.3682235087670183e1,-1.3873449899600708e-18,8.478905272534514e1,-1.4038110032576811e-18,8.5694357849852353e1,-1.4173274659450743e-18,8.6440143003142561e1,-1.428501458364657e-18,8.7058819043183628e1,-1.4378025994635933e-18,8.7575521822976723e1,-1.4455961031472612e-18,8.8009856314456777e1},
-                                 {0,3.4270695092638939e-1,9.2075912742767957,-6.0710274223076528e-3,2.1793574432179127e1,-2.0138859473876236e-5,3.3545367955630852e1,-5.284691649683043e-8,4.4208662724567376e1,-1.2396459262299817e-10,5.3496379991430794e1,-2.7190467366907131e-13,6.1330128052535096e1,-5.7058044120877965e-16,6.7790037543512732e1,-1.1114395066693107e-18,6.6583514353639229e2,5.1243123740545623e-20,7.727981288178943e1,5.6258042166279144e-20,8.0690127475765578e1,5.8439489224936385e-20,8.3436660954964943e1,6.0195004761307034e-20,8.5655461442566857e1,6.1616251446164409e-20,8.7456179107821232e1,6.2772777087957012e-20,8.8925659764533629e1,6.3719362996257797e-20,9.0132063769023098e1,6.449890067801027e-20,9.1128686945509779e1,6.5144912346866935e-20,9.1957193289113773e1,6.5683625387546511e-20,9.2650221930616199e1,6.6135620017407945e-20,9.3233434295335382e1,6.65171122045153e-20},
-                                 {0,3.2141751576928911,8.4920777220169699e-2,1.5666165286325154e1,3.661402953833707e-4,2.7854897765210792e1,1.0555461645646283e-6,3.9290158001668278e1,2.6093622920276005e-9,4.9598817346010041e1,5.9279864540188276e-12,5.8578383018259551e1,1.2762217781965516e-14,6.6195384779083011e1,2.6483515056971078e-17,7.2537000980314579e1,5.1243123740545623e-20,7.4950436772549185e2,-2.3532545122942649e-21,8.2019176763291369e1,-2.5777508246351041e-21,8.5496732115551374e1,-2.674511936478455e-21,8.8333720960679218e1,-2.7533624027259108e-21,9.0653895532898632e1,-2.8179633382205139e-21,9.2558686706429393e1,-2.8711187443428123e-21,9.4129806937507126e1,-2.9150746408645205e-21,9.5432453394229839e1,-2.9516180828026556e-21,9.6518408149258877e1,-2.9821670734729079e-21,9.7428748784588765e1,-3.0078468216200761e-21,9.8196095875615435e1,-3.0295518985949701e-21,9.8846421267862304e1},
-                                 {0,3.4269827734539646e-1,9.2098995522133318,-6.0772676219298039e-3,2.1849139668545955e1,-2.0237333573285072e-5,3.3814637674975736e1,-5.34746398115645e-8,4.4930191477254222e1,-1.2659460315608601e-10,5.4909826339809632e1,-2.8055281605186712e-13,6.3614842512009015e1,-5.9497259896679867e-16,7.1041749447825684e1,-1.2232216035135477e-18,7.727981288178943e1,-2.3532545122942649e-21,8.3810839411513609e2,1.0769208192297717e-22,8.6755646047857958e1,1.1772294454630756e-22,9.0293928836500647e1,1.2200233503954913e-22,9.3213720929419261e1,1.2552877678581303e-22,9.5627971823863676e1,1.284489571601006e-22,9.7630638363765159e1,1.3087597331618421e-22,9.9298563548678581e1,1.3290178352082599e-22,1.0069397208086153e2,1.3460062214687974e-22,1.018669886020094e2,1.360322083476194e-22,1.0285790959180307e2,1.3724454586132694e-22,1.0369913706835253e2,1.3827626140604431e-22},
-                                 {0,3.2142060786927612,8.493640580310344e-2,1.5678999878138744e1,3.6689192748703215e-4,2.7965326636651508e1,1.0624638557490715e-6,3.9673903148827858e1,2.6446302232397259e-9,5.0476402725652171e1,6.0595143041653204e-12,6.0153479247363607e1,1.3166751674940016e-14,6.8613386806722272e1,2.7579746251900251e-17,7.5872477961757626e1,5.6258042166279144e-20,8.2019176763291369e1,1.0769208192297717e-22,9.31647222705325e2,-4.9129886493021002e-24,9.1489661981710536e1,-5.3604494860832883e-24,9.5083048979764944e1,-5.5492447673293731e-24,9.807888121087583e1,-5.7063876589594964e-24,1.0058058439992649e2,-5.837774108142526e-24,1.0267532777266851e2,-5.9479691606278908e-24,1.0443537092921483e2,-6.0407347816782128e-24,1.0592001080418049e2,-6.1191478718988019e-24,1.0717762985224199e2,-6.1857148603099583e-24,1.0824760047408364e2,-6.2424744434982253e-24,1.0916194671079624e2},
-                                 {0,3.4269281785392039e-1,9.211378169990164,-6.0813137850641098e-3,2.1885664529112166e1,-2.0303045807013925e-5,3.3997271751029494e1,-5.3907791424343785e-8,4.5437038070246582e1,-1.2847597077259722e-10,5.5939522976282463e1,-2.8696755305370078e-13,6.5339664629943472e1,-6.1366893953371302e-16,7.358009833772298e1,-1.2722283267585558e-18,8.0690127475765578e1,-2.5777508246351041e-21,8.6755646047857958e1,-4.9129886493021002e-24,1.0301208534960586e3,2.2350882578616423e-25,9.6221580631518094e1,2.4344050020527623e-25,9.9865185844533313e1,2.5175222022996379e-25,1.0293105938974471e2,2.5873315020863887e-25,1.0551420087542043e2,2.646210276248464e-25,1.0769561704753111e2,2.696002929871894e-25,1.0954327629918543e2,2.7382478802016459e-25,1.1111362881020187e2,2.7742184184040362e-25,1.1245327465190736e2,2.804963674801163e-25,1.1360056094666592e2,2.831346316477979e-25},
-                                 {0,3.2142261959238483,8.494666634428473e-2,1.5687508177244305e1,3.6739616353976159e-4,2.8040390547207333e1,1.0672337061924446e-6,3.9942536103075104e1,2.6697110376074016e-9,5.111065501646646e1,6.1561340337348763e-12,6.1329469555135828e1,1.3473648686812153e-14,7.0476630511546239e1,2.8435648005820713e-17,7.8519867742459942e1,5.8439489224936385e-20,8.5496732115551374e1,1.1772294454630756e-22,9.1489661981710536e1,2.2350882578616423e-25,1.1335292864873368e3,-1.0142608980862259e-26,1.0095169245673878e2,-1.1029303182932653e-26,1.0464124523302302e2,-1.139457193484164e-26,1.0777182014864684e2,-1.1703874141114915e-26,1.104309352619732e2,-1.1966826203391925e-26,1.1269400015252459e2,-1.2190888338598415e-26,1.1462498009601969e2,-1.2382351421096038e-26,1.1627758295737944e2,-1.2546478706108751e-26,1.1769661946890293e2,-1.2687652431942669e-26,1.1891934365519556e2},
-                                 {0,3.4268921150159071e-1,9.2123685940417717,-6.0840498291482154e-3,2.1910625607022138e1,-2.0348478224892124e-5,3.4125141013349745e1,-5.4215143162084617e-8,4.580174760770605e1,-1.2984936764161935e-10,5.6702262343391209e1,-2.9178930520144368e-13,6.6655116965656278e1,-6.281325587142723e-16,7.557124978270845e1,-1.3111121249743574e-18,8.3436660954964943e1,-2.674511936478455e-21,9.0293928836500647e1,-5.3604494860832883e-24,9.6221580631518094e1,-1.0142608980862259e-26,1.2418725216791598e3,4.5921193977960943e-28,1.0568023673103697e2,4.9861255061794876e-28,1.0941198373217502e2,5.146399569784627e-28,1.1260248989584646e2,5.2831284565555476e-28,1.1533260707517846e2,5.4002140703807727e-28,1.1767265666952089e2,5.500677572980305e-28,1.1968287851371674e2,5.587091921972797e-28,1.214143567068037e2,5.6616310984111915e-28,1.2291013009783289e2,5.7261226283495133e-28},
-                                 {0,3.214239844031864,8.4953677965500904e-2,1.5693367121496399e1,3.6774664590282401e-4,2.8093106016815166e1,1.0706210667629562e-6,4.0135591640529525e1,2.6879618074134696e-9,5.1578172777398698e1,6.2282959912635619e-12,6.2219482241011868e1,1.370900093361288e-14,7.1924265772043953e1,2.9109184604660854e-17,8.0629258974512697e1,6.0195004761307034e-20,8.8333720960679218e1,1.2200233503954913e-22,9.5083048979764944e1,2.4344050020527623e-25,1.0095169245673878e2,4.5921193977960943e-28,1.3551505590715274e3,-2.0747882416153604e-29,1.1040741232544728e2,-2.2496841064124716e-29,1.141780380437491e2,-2.3199155463191903e-29,1.1742419981387206e2,-2.3802373626737243e-29,1.2022078943083771e2,-2.4322375957878357e-29,1.226334972295383e2,-2.4771412866038053e-29,1.2471910120464589e2,-2.5160011717431685e-29,1.2652618767771355e2,-2.5497148029251775e-29,1.2809605865055988e2},
-                                 {0,3.4268673424426532e-1,9.2130566869384912,-6.0859651634107344e-3,2.1928246901323493e1,-2.0380847778615549e-5,3.4217157489940999e1,-5.4438681242428872e-8,4.6069981930818185e1,-1.3087122978909299e-10,5.7276538591701261e1,-2.9546349071443578e-13,6.7669620546427136e1,-6.394211985062944e-16,7.7143705465405396e1,-1.3421748407316821e-18,8.5655461442566857e1,-2.7533624027259108e-21,9.3213720929419261e1,-5.5492447673293731e-24,9.9865185844533313e1,-1.1029303182932653e-26,1.0568023673103697e2,-2.0747882416153604e-29,1.4733633986644397e3,9.3563991945893316e-31,1.1513338587943627e2,1.0132011721098517e-30,1.189399476977681e2,1.0439402702718808e-30,1.2223792004109701e2,1.0705067088462947e-30,1.2509684833027198e2,1.0935487270747149e-30,1.2757820185368372e2,1.1135637136424304e-30,1.2973554439556225e2,1.1309826243964624e-30,1.3161509321101982e2,1.1461759408725685e-30},
-                                 {0,3.2142494275644921,8.4958630652495542e-2,1.5697531379226414e1,3.6799763027487615e-4,2.813116912041758e1,1.0730888719203303e-6,4.0277587767789519e1,2.7015211671485134e-9,5.1929160500252836e1,6.2830557445213824e-12,6.2902268079549071e1,1.3891546931125963e-14,7.305945411725634e1,2.9643105885435846e-17,8.2319315943712972e1,6.1616251446164409e-20,9.0653895532898632e1,1.2552877678581303e-22,9.807888121087583e1,2.5175222022996379e-25,1.0464124523302302e2,4.9861255061794876e-28,1.1040741232544728e2,9.3563991945893316e-31,1.5965110404578967e3,-4.2119750197306206e-32,1.1985829806848935e2,-4.555639040666965e-32,1.2369817281767296e2,-4.6900403972806065e-32,1.2704448701142585e2,-4.806863248429241e-32,1.2996197488246293e2,-4.9087613636692251e-32,1.3250825231509201e2,-4.9977569029783718e-32,1.3473389981105978e2,-5.0756151588212773e-32,1.3668289370927122e2},
-                                 {0,3.4268497663516371e-1,9.2135495011196832,-6.0873454794877007e-3,2.1941033101215545e1,-2.0404511145791903e-5,3.4284969445555831e1,-5.4604842680077866e-8,4.6271184783429087e1,-1.3164501008411414e-10,5.7715651099153018e1,-2.9830094662356633e-13,6.8460989767677792e1,-6.4831592866919504e-16,7.8395146324615903e1,-1.3671413784584598e-18,8.7456179107821232e1,-2.8179633382205139e-21,9.5627971823863676e1,-5.7063876589594964e-24,1.0293105938974471e2,-1.139457193484164e-26,1.0941198373217502e2,-2.2496841064124716e-29,1.1513338587943627e2,-4.2119750197306206e-32,1.7245934844518984e3,1.8930610332038267e-33,1.2458226846560713e2,2.045213076736667e-33,1.2845310814426847e2,2.1039243289237538e-33,1.3184462547506145e2,2.1552263686383305e-33,1.3481721184827354e2,2.2002086497535612e-33,1.3742495948380568e2,2.2396943783576831e-33,1.3971567984851606e2,2.2744071639557213e-33},
-                                 {0,3.2142563535958531,8.4962227638737122e-2,1.5700571301242134e1,3.6818198297157382e-4,2.8159316541224792e1,1.074927166902717e-6,4.0384189967228949e1,2.7117848163657672e-9,5.2197128786245897e1,6.3252354802733649e-12,6.3432988008700755e1,1.4034747805956621e-14,7.3958239086976463e1,3.0069756465401381e-17,8.3682235087670183e1,6.2772777087957012e-20,9.2558686706429393e1,1.284489571601006e-22,1.0058058439992649e2,2.5873315020863887e-25,1.0777182014864684e2,5.146399569784627e-28,1.141780380437491e2,1.0132011721098517e-30,1.1985829806848935e2,1.8930610332038267e-33,1.8576107306464448e3,-8.4956798918643663e-35,1.2930539935106992e2,-9.1688154358298924e-35,1.3320509420210605e2,-9.4250800124807992e-35,1.3663896635404408e2,-9.6500990757679733e-35,1.3966347560453796e2,-9.8483573420149493e-35,1.4232948647214916e2,-1.0023210406083633e-34,1.4468223944909591e2},
-                                 {0,3.4268369522888001e-1,9.2139116542717859,-6.0883650943417183e-3,2.1950531678927993e1,-2.0422198505519624e-5,3.4335993508510604e1,-5.4730757517535344e-8,4.6424799122893609e1,-1.3224041591491651e-10,5.8056284682612446e1,-3.0052040084302812e-13,6.908524440509878e1,-6.5539234194651134e-16,7.9399287295350118e1,-1.3873449899600708e-18,8.8925659764533629e1,-2.8711187443428123e-21,9.7630638363765159e1,-5.837774108142526e-24,1.0551420087542043e2,-1.1703874141114915e-26,1.1260248989584646e2,-2.3199155463191903e-29,1.189399476977681e2,-4.555639040666965e-32,1.2458226846560713e2,-8.4956798918643663e-35,1.9955627790415358e3,3.8074435031528392e-36,1.3402777872641848e2,4.105042547496233e-36,1.3795442626233917e2,4.2168172046767754e-36,1.4142806131290385e2,4.3154083664891106e-36,1.4450157439926355e2,4.4026670221583365e-36,1.4722286826779869e2,4.4799627579756967e-36},
-                                 {0,3.2142614829267312,8.4964902638115686e-2,1.5702841780026605e1,3.6832038437617853e-4,2.8180566964537231e1,1.0763234544811218e-6,4.0465685623438745e1,2.7196850181329045e-9,5.2404871392379653e1,6.3581786710112613e-12,6.3850660370432195e1,1.4148324286507593e-14,7.4676711997133951e1,3.0413516312237106e-17,8.478905272534514e1,6.3719362996257797e-20,9.4129806937507126e1,1.3087597331618421e-22,1.0267532777266851e2,2.646210276248464e-25,1.104309352619732e2,5.2831284565555476e-28,1.1742419981387206e2,1.0439402702718808e-30,1.2369817281767296e2,2.045213076736667e-33,1.2930539935106992e2,3.8074435031528392e-36,2.1384496296371715e3,-1.704169248960379e-37,1.3874948271987304e2,-1.8356570121708232e-37,1.4270136159116577e2,-1.8843782543566756e-37,1.462123947210327e2,-1.92753404280637e-37,1.4933222359110824e2,-1.9658902875355153e-37,1.5210602842835415e2},
-                                 {0,3.426827390806733e-1,9.2141837204863624,-6.0891344390137221e-3,2.1957733003140851e1,-2.0435677375726795e-5,3.4375093373658087e1,-5.4827819426430777e-8,4.6543956859855685e1,-1.3270530666768629e-10,5.8324066608177188e1,-3.0227744763778087e-13,6.9582990652499446e1,-6.6107580330384344e-16,8.0211690976272002e1,-1.4038110032576811e-18,9.0132063769023098e1,-2.9150746408645205e-21,9.9298563548678581e1,-5.9479691606278908e-24,1.0769561704753111e2,-1.1966826203391925e-26,1.1533260707517846e2,-2.3802373626737243e-29,1.2223792004109701e2,-4.6900403972806065e-32,1.2845310814426847e2,-9.1688154358298924e-35,1.3402777872641848e2,-1.704169248960379e-37,2.2862712824333519e3,7.6185747509990358e-39,1.4347057752175437e2,8.1991815915026221e-39,1.474461253532026e2,8.4114287575625984e-39,1.5099239353046218e2,8.6001689876187109e-39,1.5415605842635858e2,8.768579293261098e-39},
-                                 {0,3.2142653623274539,8.4966933016413668e-2,1.5704571449306894e1,3.6842628052254519e-4,2.8196903666014065e1,1.0774023669919147e-6,4.0529000844925255e1,2.7258582055100446e-9,5.2568182087239645e1,6.3842387445224239e-12,6.4183206274187564e1,1.423935258613444e-14,7.5256431911645983e1,3.0692778617163668e-17,8.5694357849852353e1,6.449890067801027e-20,9.5432453394229839e1,1.3290178352082599e-22,1.0443537092921483e2,2.696002929871894e-25,1.1269400015252459e2,5.4002140703807727e-28,1.2022078943083771e2,1.0705067088462947e-30,1.2704448701142585e2,2.1039243289237538e-33,1.3320509420210605e2,4.105042547496233e-36,1.3874948271987304e2,7.6185747509990358e-39,2.439027737430077e3,-3.4021274660165517e-40,1.4819112095357984e2,-3.6583623236403127e-40,1.5218891545124902e2,-3.7507765025854752e-40,1.5576843547714729e2,-3.8332569098553018e-40,1.5897364479653437e2},
-                                 {0,3.4268201120618713e-1,9.2143920501942742,-6.0897257662337259e-3,2.1963290549527725e1,-2.0446125150219874e-5,3.4405543365443985e1,-5.4903788577622176e-8,4.6637715627317366e1,-1.3307314226168995e-10,5.8537172218422172e1,-3.0368410954242672e-13,6.9983924739915182e1,-6.6568246170234193e-16,8.0874344673705522e1,-1.4173274659450743e-18,9.1128686945509779e1,-2.9516180828026556e-21,1.0069397208086153e2,-6.0407347816782128e-24,1.0954327629918543e2,-1.2190888338598415e-26,1.1767265666952089e2,-2.4322375957878357e-29,1.2509684833027198e2,-4.806863248429241e-32,1.3184462547506145e2,-9.4250800124807992e-35,1.3795442626233917e2,-1.8356570121708232e-37,1.4347057752175437e2,-3.4021274660165517e-40,2.5967189946273467e3,1.5176586333984738e-41,1.5291116374919067e2,1.6306819608773127e-41,1.5692990651877253e2,1.670900842880722e-41,1.6054085592588391e2,1.70691970361e-41},
-                                 {0,3.2142683504609454,8.4968501768932262e-2,1.5705912090480026e1,3.6850866661711902e-4,2.8209664991119034e1,1.0782488245247338e-6,4.0578905159405045e1,2.7307477163085667e-9,5.2698199310068696e1,6.4050973016489532e-12,6.4450852595313904e1,1.4313032957594107e-14,7.5728396797228192e1,3.0921473339871577e-17,8.6440143003142561e1,6.5144912346866935e-20,9.6518408149258877e1,1.3460062214687974e-22,1.0592001080418049e2,2.7382478802016459e-25,1.1462498009601969e2,5.500677572980305e-28,1.226334972295383e2,1.0935487270747149e-30,1.2996197488246293e2,2.1552263686383305e-33,1.3663896635404408e2,4.2168172046767754e-36,1.4270136159116577e2,8.1991815915026221e-39,1.4819112095357984e2,1.5176586333984738e-41,2.7593450540251611e3,-6.7635118051984848e-43,1.5763075060769393e2,-7.2618049449975405e-43,1.6166925323274093e2,-7.4367634006544879e-43,1.6530995361157693e2},
-                                 {0,3.4268144735299879e-1,9.2145542623287656,-6.0901876923933089e-3,2.1967647160376243e1,-2.0454346093153675e-5,3.4429600004333086e1,-5.4964065086599568e-8,4.671244509014114e1,-1.3336772006196775e-10,5.8708684066692154e1,-3.0482204368244944e-13,7.0309980242579767e1,-6.6944903317234548e-16,8.1419131366845612e1,-1.428501458364657e-18,9.1957193289113773e1,-2.9821670734729079e-21,1.018669886020094e2,-6.1191478718988019e-24,1.1111362881020187e2,-1.2382351421096038e-26,1.1968287851371674e2,-2.4771412866038053e-29,1.2757820185368372e2,-4.9087613636692251e-32,1.3481721184827354e2,-9.6500990757679733e-35,1.4142806131290385e2,-1.8843782543566756e-37,1.474461253532026e2,-3.6583623236403127e-40,1.5291116374919067e2,-6.7635118051984848e-43,2.9269059156235202e3,3.011414288154276e-44,1.623499210642368e2,3.2309982111e-44,1.6640709307767979e2,3.30707e-44},
-                                 {0,3.2142706892528826,8.4969732944294469e-2,1.5706967138815145e1,3.6857371276929052e-4,2.8219775701114645e1,1.078921983199244e-6,4.0618750785209306e1,2.7346681695740764e-9,5.2802909879700338e1,6.4219734832611879e-12,6.4668434659422452e1,1.4373226029465698e-14,7.6115910724895235e1,3.1110209750451598e-17,8.7058819043183628e1,6.5683625387546511e-20,9.7428748784588765e1,1.360322083476194e-22,1.0717762985224199e2,2.7742184184040362e-25,1.1627758295737944e2,5.587091921972797e-28,1.2471910120464589e2,1.1135637136424304e-30,1.3250825231509201e2,2.2002086497535612e-33,1.3966347560453796e2,4.3154083664891106e-36,1.462123947210327e2,8.4114287575625984e-39,1.5218891545124902e2,1.6306819608773127e-41,1.5763075060769393e2,3.011414288154277e-44,3.099401579422424e3,-1.339652310321e-45,1.6706871021432848e2,-1.436374421e-45,1.7114354866388169e2},
-                                 {0,3.4268100380460208e-1,9.2146824410614927,-6.0905537427047873e-3,2.1971110074467078e1,-2.0460901978471785e-5,3.4448851298711248e1,-5.5012480524178842e-8,4.6772705082805777e1,-1.3360623902905217e-10,5.8848153593125292e1,-3.0575150783245074e-13,7.057752482191311e1,-6.7255422979034447e-16,8.1870412354284065e1,-1.4378025994635933e-18,9.2650221930616199e1,-3.0078468216200761e-21,1.0285790959180307e2,-6.1857148603099583e-24,1.1245327465190736e2,-1.2546478706108751e-26,1.214143567068037e2,-2.5160011717431685e-29,1.2973554439556225e2,-4.9977569029783718e-32,1.3742495948380568e2,-9.8483573420149493e-35,1.4450157439926355e2,-1.92753404280637e-37,1.5099239353046218e2,-3.7507765025854752e-40,1.5692990651877253e2,-7.2618049449975405e-43,1.623499210642368e2,-1.339652310321e-45,3.2768320454218725e3,5.9542e-47,1.7178714931964525e2,0},
-                                 {0,3.2142725459194329,8.4970712654608407e-2,1.5707808725975035e1,3.6862574591883276e-4,2.8227888376143407e1,1.0794638776760406e-6,4.065093780777033e1,2.7378466771751084e-9,5.2888130132671066e1,6.435763466968523e-12,6.4846965986341755e1,1.4422827674182972e-14,7.6436643322276703e1,3.126712205954279e-17,8.7575521822976723e1,6.6135620017407945e-20,9.8196095875615435e1,1.3724454586132694e-22,1.0824760047408364e2,2.804963674801163e-25,1.1769661946890293e2,5.6616310984111915e-28,1.2652618767771355e2,1.1309826243964624e-30,1.3473389981105978e2,2.2396943783576831e-33,1.4232948647214916e2,4.4026670221583365e-36,1.4933222359110824e2,8.6001689876187109e-39,1.5576843547714729e2,1.670900842880722e-41,1.6166925323274093e2,3.2309982111e-44,1.6706871021432848e2,5.9544e-47,3.4591973136218656e3,-2e-48,1.7650526631732969e2},
-                                 {0,3.4268065011329593e-1,9.2147850622010356,-6.0908475425078485e-3,2.1973896942179255e1,-2.0466193088981711e-5,3.4464436032048239e1,-5.5051801877166268e-8,4.6821813579122133e1,-1.3380131628807108e-10,5.8962648657041307e1,-3.0651750100043797e-13,7.0798899161187001e1,-6.7513414654788522e-16,8.2246932316787444e1,-1.4455961031472612e-18,9.3233434295335382e1,-3.0295518985949701e-21,1.0369913706835253e2,-6.2424744434982253e-24,1.1360056094666592e2,-1.2687652431942669e-26,1.2291013009783289e2,-2.5497148029251775e-29,1.3161509321101982e2,-5.0756151588212773e-32,1.3971567984851606e2,-1.0023210406083633e-34,1.4722286826779869e2,-1.9658902875355153e-37,1.5415605842635858e2,-3.8332569098553018e-40,1.6054085592588391e2,-7.4367634006544879e-43,1.6640709307767979e2,-1.436374421e-45,1.7178714931964525e2,-2e-48,3.6464973840224035e3,0},
-                                 {0,3.2142740385553517,8.4971501946767875e-2,1.5708488192092665e1,3.6866786077861351e-4,2.8234472281823896e1,1.0799049152230066e-6,4.0677213734321132e1,2.7404497667695027e-9,5.2958157144747663e1,6.4471346819651954e-12,6.4994718783306062e1,1.4464032412556779e-14,7.6704109616252348e1,3.1398492027521967e-17,8.8009856314456777e1,6.65171122045153e-20,9.8846421267862304e1,1.3827626140604431e-22,1.0916194671079624e2,2.831346316477979e-25,1.1891934365519556e2,5.7261226283495133e-28,1.2809605865055988e2,1.1461759408725685e-30,1.3668289370927122e2,2.2744071639557213e-33,1.4468223944909591e2,4.4799627579756967e-36,1.5210602842835415e2,8.768579293261098e-39,1.5897364479653437e2,1.70691970361e-41,1.6530995361157693e2,3.30707e-44,1.7114354866388169e2,0,1.7650526631732969e2,0,3.838732256623486e3}};
-
-        IdXdX2_ = new double[][]{{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,-5.50733070414286e-1,-1.5468836505203105e1,-2.3283382940037666,-3.5723895070951693e1,-4.4858161908715742,-5.5904408044076439e1,-6.6382645705819878,-7.6096780013879433e1,-8.7911823751165324,-9.6291536421622965e1,-1.094422054469726e1,-1.1648697319323731e2,-1.309729913515808e1,-1.3668266191941768e2,-1.5250394329260398e1,-1.5687846117332372e2,-1.7403497349565242e1,-1.7707431504400316e2,-1.9556604447184328e1,-1.9727019840140683e2,-2.1709713837369156e1,-2.1746609880732203e2,-2.3862824596480902e1,-2.3766200962418513e2,-2.6015936213751211e1,-2.5785792708907016e2,-2.8169048391053432e1,-2.7805384895999087e2,-3.0322160946389594e1,-2.9824977384438857e2,-3.2475273764363435e1,-3.1844570084617165e2,-3.4628386769394769e1,-3.386416293708996e2,-3.6781499910570765e1,-3.588375590136593e2,-3.893461315274189e1,-3.7903348949215116e2,-4.1087726471109534e1},
-                                 {0,6.4387754369565923e-1,-3.9154313139543112e-1,-8.3817301920063815e1,-5.6016275517010611e-1,-1.3233253450000812e2,-1.0794412134852788,-1.891204056169613e2,-1.6099099600887793,-2.4672071660263728e2,-2.1425677712643127,-3.0450844017026263e2,-2.6759229558294599,-3.6235784013230393e2,-3.2095540264318628,-4.2023228681416018e2,-3.7433114631359187,-4.781184494699397e2,-4.2771332758883979,-5.3601068228862865e2,-4.8109906421833278,-5.939063138692234e2,-5.3448689291120025,-6.5180396817843293e2,-5.8787601718797924,-7.0970288709671545e2,-6.4126597829535942,-7.6760262945868839e2,-6.9465649932626852,-8.2550292662121514e2,-7.4804740640798652,-8.8340360861188593e2,-8.014385866206448,-9.4130456430767873e2,-8.5482996446158318,-9.9920571897121773e2,-9.0822148814633246,-1.0571070210760864e3,-9.6161312135339199,-1.1150084343138456e3},
-                                 {0,-3.5404061535164353e-1,1.1419294485687815e1,4.7864506998514135e-2,-2.3345973500552323e2,4.242103283268955e-2,-2.83543947368131e2,7.8240477795701637e-2,-3.7479459278199365e2,1.1567441085959563e-1,-4.7115260332941849e2,1.5358304892619709e-1,-5.6888856951925248e2,1.916767723083153e-1,-6.6712736354074099e2,2.2985377797832452e-1,-7.6558560146037448e2,2.6807250079193367e-1,-8.6415205159421537e2,3.0631392159137798e-1,-9.6277687195990276e2,3.4456852656427225e-1,-1.0614354279163325e3,3.828312053214146e-1,-1.1601145822025147e3,4.2109904855598791e-1,-1.2588068894587709e3,4.5937031815074387e-1,-1.3575079142460082e3,4.9764393258754019e-1,-1.4562149016821559e3,5.3591919511585221e-1,-1.554926079005506e3,5.741956431890147e-1,-1.6536402701632933e3,6.124729615929122e-1,-1.752356674018475e3,6.507509305096966e-1,-1.8510747319921666e3,6.8902939348272853e-1},
-                                 {0,3.8261848847939892e-1,-3.7585421844979154e-1,6.0699870523244233e1,-4.0562936323829216e-3,-4.9031527895141342e2,-2.7834122717022246e-3,-4.9026477535713452e2,-4.8669633203610936e-3,-6.0459852171573129e2,-7.0846256245449107e-3,-7.344531209173328e2,-9.3523331292581523e-3,-8.6889439427306063e2,-1.1642683159213284e-2,-1.0051337067134851e3,-1.3944326990437807e-2,-1.1422019924433861e3,-1.6252068912167252e-2,-1.2796968550148392e3,-1.8563323078908688e-2,-1.4174297168183553e3,-2.0876710335793902e-2,-1.5553039399755746e3,-2.3191451511248707e-2,-1.6932664387550923e3,-2.5507084582766877e-2,-1.8312863763217593e3,-2.7823324098964635e-2,-1.9693449958920175e3,-3.013998737345528e-2,-2.1074304385513297e3,-3.2456953864149775e-2,-2.2455349550571772e3,-3.4774141883027247e-2,-2.3836533352773257e3,-3.7091494755897743e-2,-2.5217819880034813e3,-3.9408972334317446e-2,-2.659918383077383e3},
-                                 {0,-3.5865954930921053e-1,2.0532559700756763,4.3871253926603119e-2,1.7943724343682782e2,2.8977490517838339e-4,-8.8524637147242047e2,1.6787460510035153e-4,-7.6539336067512578e2,2.7953788406353988e-4,-8.8858724495111119e2,3.998554072358099e-4,-1.0460290193477689e3,5.2395510612729183e-4,-1.2141468524632249e3,6.4997282826401009e-4,-1.3866616823190753e3,7.7703106097412346e-4,-1.5612896045400331e3,9.0468807609002467e-4,-1.7370426727248252e3,1.0327075357919152e-3,-1.9134414226275156e3,1.1609560377781524e-3,-2.0902327722331049e3,1.2893547073482838e-3,-2.2672741678341602e3,1.4178549996957515e-3,-2.4444810124862777e3,1.5464259772451538e-3,-2.6218008949949682e3,1.6750473140154293e-3,-2.799200146541983e3,1.8037052937163467e-3,-2.9766564578478553e3,1.9323904387547023e-3,-3.1541546446236874e3,2.0610960610377156e-3,-3.3316841264986341e3,2.1898173512066716e-3},
-                                 {0,3.655949880499524e-1,-3.8884564887493056e-1,1.2051349014867018e1,-3.6029675683048113e-3,3.9670069369736744e2,-1.8706181172463324e-5,-1.447904575276872e3,-9.6105042223568274e-6,-1.1189582282896175e3,-1.5326448711745753e-5,-1.2327431077091282e3,-2.153334950275925e-5,-1.4099154880108039e3,-2.797982812962392e-5,-1.6074772008514438e3,-3.4559124253736156e-5,-1.8137247191683399e3,-4.1215615323134983e-5,-2.0242780518335945e3,-4.7919002763414946e-5,-2.2371870560966307e3,-5.4652034711641707e-5,-2.451479727424686e3,-6.1404473978528035e-5,-2.6666306688712109e3,-6.8170015291518738e-5,-2.8823376969675458e3,-7.4944643987145176e-5,-3.0984181740482581e3,-8.1725727319472789e-5,-3.3147571179149116e3,-8.8511492877889111e-5,-3.5312796125155675e3,-9.5300719194917304e-5,-3.7479353926767992e3,-1.0209254667250517e-4,-3.9646898636261505e3,-1.0888635888062552e-4,-4.181518678713279e3},
-                                 {0,-3.593546461534196e-1,9.3934115438530754e-1,4.6171690974477944e-2,4.1219002985148049e1,2.514705318737879e-4,7.4222792350021914e2,1.1290421451215278e-6,-2.2079292256474376e3,5.3024558137337899e-7,-1.5610039735133577e3,8.1440092514216682e-7,-1.6432148796624663e3,1.1244049278829936e-6,-1.8304908375825936e3,1.4480652355492382e-6,-2.0521917926811885e3,1.7798528027858825e-6,-2.2888990143317927e3,2.1166417427130866e-6,-2.5332190265557333e3,2.4566129616640467e-6,-2.7817938115916925e3,2.798673519911218e-6,-3.0329159452601204e3,3.1421456166402219e-6,-3.2856450399249582e3,3.4865961792573293e-6,-3.5394308749961265e3,3.831740812796515e-6,-3.7939357168069461e3,4.1773880448406706e-6,-4.0489439680858541e3,4.5234060216945328e-6,-4.3043133985139748e3,4.8697020712109703e-6,-4.5599475061937426e3,5.2162098429771116e-6,-4.8157792031488165e3,5.5628810271182972e-6},
-                                 {0,3.6202835968523373e-1,-3.9229278867982242e-1,4.5773798161984598,-3.8255356868332923e-3,9.9194649081402407e1,-1.5945562479626594e-5,1.2456427955301877e3,-6.49575466596053e-8,-3.194938646394128e3,-2.8453035996953349e-8,-2.1015005213122198e3,-4.2295864207917688e-8,-2.1260923999989515e3,-5.7437529506875457e-8,-2.3121344327971328e3,-7.3306521087176256e-8,-2.5516529187271608e3,-8.96339480284656e-8,-2.8148501994039672e3,-1.0625730186667385e-7,-3.0902671196464974e3,-1.2307658338524842e-7,-3.3726288784261836e3,-1.4002885038666372e-7,-3.6592138923059587e3,-1.5707351637916119e-7,-3.9485011691479095e3,-1.7418378037464065e-7,-4.2395883114609185e3,-1.9134154079655293e-7,-4.5319141984759262e3,-2.085343122235769e-7,-4.8251163443447967e3,-2.2575331444244224e-7,-5.1189530032956601e3,-2.4299226198600656e-7,-5.4132585209643654e3,-2.6024658121997143e-7,-5.7079166910780464e3},
-                                 {0,-3.5955055159783679e-1,6.3778644845216768e-1,4.7017858061263378e-2,1.7384820098854941e1,2.6781628275142261e-4,1.9615030016800425e2,9.489513117099987e-7,1.9365640854668984e3,3.6055256110638878e-9,-4.4385469978013711e3,1.4937738206345084e-9,-2.7503838284316698e3,2.1581789720143748e-9,-2.6874292357204755e3,2.885860842116704e-9,-2.8592218512250558e3,3.6505323471858022e-9,-3.1092609247868552e3,4.4396452958740788e-9,-3.3943171898803654e3,5.2451857251193442e-9,-3.6976742571154695e3,6.0619824460918341e-9,-4.0115692906190043e3,6.8866461404171147e-9,-4.3319544267270798e3,7.7169144986412609e-9,-4.6565419676791256e3,8.5512487082666508e-9,-4.9839594067125145e3,9.3885825278447122e-9,-5.3133441027370862e3,1.0228163998428548e-8,-5.6441331267203671e3,1.1069453927789502e-8,-5.9759475033913902e3,1.1912059653526547e-8,-6.3085252687644465e3,1.2755691078930629e-8},
-                                 {0,3.6085097724463861e-1,-3.9355569488072533e-1,2.2108001595762424,-3.9258347961641179e-3,4.4735543455419118e1,-1.6984343456757262e-5,3.4210782849069108e2,-5.3980175483831903e-8,2.8446058870222225e3,-1.9462632854257157e-10,-5.968366294246056e3,-7.7045935907092888e-11,-3.5175684086836337e3,-1.0857305210730274e-10,-3.3332480608649305e3,-1.4311768762623272e-10,-3.4761112603401896e3,-1.7948296023188458e-10,-3.7284243510653112e3,-2.1709949069998725e-10,-4.0300734860306559e3,-2.5558646323164406e-10,-4.3577484618131407e3,-2.9468793944649817e-10,-4.7005633398148846e3,-3.3423013115582378e-10,-5.0527990071287272e3,-3.7409342368262231e-10,-5.4111956679782264e3,-4.1419425664909974e-10,-5.7737802146885114e3,-4.5447336745243645e-10,-6.1393015526637975e3,-4.948880990610227e-10,-6.506936278110142e3,-5.3540730800667188e-10,-6.876125548727373e3,-5.7600794879585766e-10,-7.2464801098493768e3},
-                                 {0,-3.5962601207342231e-1,5.2364409814825586e-1,4.7389752550026363e-2,9.0714895099435155,2.7628562176169849e-4,9.2803902385090468e1,1.009442744325848e-6,5.4703782840574137e2,2.9684281321119252e-9,3.9993802162293512e3,1.0274403650543319e-11,-7.8140073992158525e3,3.9159935560688641e-12,-4.4129551715907827e3,5.3985197760172318e-12,-4.0695478224034988e3,7.0227612440417926e-12,-4.1671411045500281e3,8.7344921121248181e-12,-4.4125467640348184e3,1.0508378009747817e-11,-4.7249061347248472e3,1.2326800758573065e-11,-5.0728287265812103e3,1.4177496071812775e-11,-5.441604379039736e3,1.6051873436479923e-11,-5.8234643911760419e3,1.7943856313889611e-11,-6.2139525083276448e3,1.9849096397755178e-11,-6.6103526027121371e3,2.1764443646728628e-11,-7.0109300628622375e3,2.3687587674836618e-11,-7.4145350952383546e3,2.5616813286713987e-11,-7.820381912506027e3,2.7550832206520797e-11},
-                                 {0,3.603539710593407e-1,-3.9412123999499922e-1,1.2221762082092328,-3.9761188723389114e-3,2.4524328063183373e1,-1.757957855579309e-5,1.6770901989771367e2,-5.7306054698575901e-8,8.2087616801418867e2,-1.5899432659297038e-10,5.4304979363527633e3,-5.3259532818398208e-13,-1.0005080499106051e4,-1.9658904816616688e-13,-5.4464361175385888e3,-2.6579067223653981e-13,-4.9023096640455117e3,-3.4157345866504938e-13,-4.9366315211223189e3,-4.2148526277094873e-13,-5.1650212967240004e3,-5.0441448914977195e-13,-5.4816041257984784e3,-5.8956197424518614e-13,-5.8452692541761338e3,-6.7635415707617183e-13,-6.236712930795323e3,-7.6437812231033906e-13,-6.6457041929552109e3,-8.5333456635701188e-13,-7.0663468044503881e3,-9.4300460171540993e-13,-7.4950274716820399e3,-1.0332265585217027e-12,-7.9294252309177069e3,-1.1238797926234994e-12,-8.367992487393676e3,-1.2148733422618137e-12,-8.8096653456049503e3},
-                                 {0,-3.5966105147421934e-1,4.7117814169316553e-1,4.7576562779518198e-2,5.3448330737915002,2.8097468506605311e-4,5.2845005482193558e1,1.0468299780699376e-6,2.7554157511029488e2,3.1440830643939123e-9,1.1735373634256621e3,8.3382808617443682e-12,7.167569233792862e3,2.7192262499775014e-14,-1.2571195361146984e4,9.7651151545239931e-15,-6.6278972517398285e3,1.2975551174779993e-14,-5.8375014488002833e3,1.6489040860161461e-14,-5.7888869211560161e3,2.0194705478587733e-14,-5.9892290607864854e3,2.4044263377497495e-14,-6.3029523647484843e3,2.8001997472529163e-14,-6.677429870936829e3,3.2041579768153644e-14,-7.0879247752561461e3,3.6143590180929466e-14,-7.521295789229122e3,4.0293640022062241e-14,-7.969943562452602e3,4.4480997093704133e-14,-8.4291916926506053e3,4.8697592998883054e-14,-8.8960223857079599e3,5.2937310112486429e-14,-9.3684135525965396e3,5.7195469226238343e-14},
-                                 {0,3.6010891946954524e-1,-3.9441089910112051e-1,7.3638008864633371e-1,-4.0037604946455319e-3,1.4989171390015079e1,-1.7935347988477428e-5,9.8375263076143893e1,-5.9486055261809126e-8,4.2235502566517018e2,-1.6800216875187481e-10,1.6149223238819371e3,-4.2979911815472932e-13,9.2402038757793262e3,-1.3706182214619502e-15,-1.554196148182606e4,-4.806314828177732e-16,-7.9672204412368332e3,-6.2879958979429346e-16,-6.881081098924602e3,-7.9083288033927204e-16,-6.7281986655400119e3,-9.6171326492124563e-16,-6.8885393769092203e3,-1.1393591844945626e-15,-7.191728826192803e3,-1.3221922438753009e-15,-7.5716703613630595e3,-1.5090213152661561e-15,-7.9972831473116101e3,-1.6989485866505039e-15,-8.4520311458391516e3,-1.8912956032931853e-15,-8.9263286132347086e3,-2.0855471819138332e-15,-9.4142580781201982e3,-2.2813096788179295e-15,-9.9119867725617122e3,-2.478280206810783e-15,-1.0416936224432233e4},
-                                 {0,-3.5967948723307022e-1,4.4375890505169387e-1,4.7680090723556036e-2,3.4162157223329117,2.8374572950893575e-4,3.3275441118255818e1,1.0705672389844197e-6,1.6549547592629117e2,3.2647417109155075e-9,6.1417204836568349e2,8.7899918880914807e-12,2.1549230497752897e3,2.1836814137053147e-14,1.1678011358799577e4,6.832955853222459e-17,-1.8946988176476374e4,2.346724637753052e-17,-9.4742846299653678e3,3.0275054662445999e-17,-8.0389990394853878e3,3.7714028748688709e-17,-7.7588474554627532e3,4.5556753368902995e-17,-7.8663107831460338e3,5.3713978850223474e-17,-8.1507034870830465e3,6.2116557408309741e-17,-8.5303472648091625e3,7.0711211866496345e-17,-8.96683372192954e3,7.945700052888807e-17,-9.4397104718845059e3,8.832242902667124e-17,-9.9371014224552556e3,9.7283189245428658e-17,-1.0451657768513336e4,1.0632042931794557e-16,-1.0978605846222916e4,1.1541944553284808e-16},
-                                 {0,3.5997439560549177e-1,-3.9457419210565463e-1,4.7002786722876518e-1,-4.0201083158441299e-3,9.8510114572418547,-1.8158300177518056e-5,6.3466503433042446e1,-6.0939075367201953e-8,2.5858109153192752e2,-1.7443053469554333e-10,8.5699158984889836e2,-4.5205770825533419e-13,2.803425546317702e3,-1.0959800337535061e-15,1.4510600998186708e4,-3.3741132307635655e-18,-2.2815884635529748e4,-1.1377222485415705e-18,-1.1158966653560069e4,-1.4493065175264988e-18,-9.3171999878500856e3,-1.7895084276442258e-18,-8.8851053401726519e3,-2.1480061766541946e-18,-8.9258923035442678e3,-2.5209886818767479e-18,-9.1826382256453715e3,-2.9054470920404324e-18,-9.5558121994491027e3,-3.2990199506533778e-18,-9.9986214725488601e3,-3.6998607919105255e-18,-1.0486137889574152e4,-4.106526141704618e-18,-1.1003869903132322e4,-4.517885197767891e-18,-1.1542834504945454e4,-4.9330489046246145e-18,-1.2097183274707191e4},
-                                 {0,-3.5969009678939459e-1,4.2805564233349581e-1,4.7741901523999364e-2,2.3165716603508991,2.8547626338817013e-4,2.239168223057428e1,1.0861772544072828e-6,1.0892582987413407e2,3.3484291331834352e-9,3.8199028059966721e2,9.1227303119580177e-12,1.1567947938321024e3,2.291836049884501e-14,3.570311680551524e3,5.4432280598296772e-17,1.7767581984372541e4,1.6522957702038078e-19,-2.7178259961049669e4,5.4811903391706418e-20,-1.3031141798221029e4,6.9024219418333198e-20,-1.0721624272014865e4,8.4529967464073255e-20,-1.0111237355028115e4,1.0085998331854161e-19,-1.0070624729352757e4,1.1785202347289015e-19,-1.0290287217358217e4,1.3537585632385921e-19,-1.0650411119635295e4,1.5332757297762734e-19,-1.1094688776704992e4,1.7162464503743945e-19,-1.159311852857493e4,1.902016045370645e-19,-1.2128246711883105e4,2.0900646198187396e-19,-1.2689240356583576e4,2.2799782438272084e-19},
-                                 {0,3.5989448851483627e-1,-3.9467310906176546e-1,3.1188786001859634e-1,-4.0303580465381596e-3,6.8259438895759626,-1.8304057421828101e-5,4.3564010341950409e1,-6.1933660869798974e-8,1.7305361545590384e2,-1.7903922392995918e-10,5.4006148714967275e2,-4.6889769819739383e-13,1.5195495233236888e3,-1.1479339303795022e-15,4.4654603964125183e3,-2.6788744220949137e-18,2.1478563419420564e4,-8.0319250314440645e-21,-3.2063723191158674e4,-2.6258161241800596e-21,-1.5100684192003034e4,-3.2721312006754493e-21,-1.2258208809974395e4,-3.9767555594113464e-21,-1.1441502839648555e4,-4.7183362702887907e-21,-1.1303841803164163e4,-5.4899819974499533e-21,-1.147639756125918e4,-6.286079539599844e-21,-1.1816484131677758e4,-7.1020835756475077e-21,-1.225707434454114e4,-7.9343326564150829e-21,-1.2762456619972064e4,-8.7798832493924571e-21,-1.3311846635992098e4,-9.636368487933827e-21,-1.3892332559502046e4},
-                                 {0,-3.5969662903147676e-1,4.1842254252472655e-1,4.7781014338607544e-2,1.6435044399209831,2.866080148616378e-4,1.5813737691251219e1,1.0967858971700866e-6,7.6034978568755475e1,3.4076751517173844e-9,2.5925840408351332e2,9.3680286057192e-12,7.3711484845879938e2,2.3755507901594646e-14,1.9512137005804674e3,5.6904341281318307e-17,5.498748529535322e3,1.3079145873989586e-19,2.5673154341453314e4,3.8789184736922575e-22,-3.7501883316792248e4,1.2515486893651255e-22,-1.7377467083952727e4,1.5446748522046799e-22,-1.3932887844172985e4,1.8640323833065781e-22,-1.2880156492585701e4,2.1998925098888675e-22,-1.2628871265801752e4,2.5493330027198039e-22,-1.2743709987634557e4,2.9099425150764282e-22,-1.3056365632691739e4,3.2797422952147066e-22,-1.3487812684071429e4,3.6571178100329058e-22,-1.3995954286997e4,4.0407551939030863e-22,-1.455628477764742e4,4.4295857975652166e-22},
-                                 {0,3.5984406814841485e-1,-3.9473647247542572e-1,2.1211808465492865e-1,-4.0370955322201993e-3,4.9260222857443748,-1.8402918295258203e-5,3.1274307824194708e1,-6.2632319477102844e-8,1.2254333091159105e2,-1.823966573612178e-10,3.7094376178870814e2,-4.8161116329113493e-13,9.774547756249538e2,-1.1889490079989227e-15,2.4577377506693555e3,-2.7955604147512573e-18,6.6800513661200268e3,-6.3407565463102451e-21,3.0380963741406276e4,-1.8623446851301211e-23,-4.3522349293450031e4,-5.9379105355663389e-24,-1.9871363046660535e4,-7.2641268525507789e-24,-1.5751593497699354e4,-8.7081453827517802e-24,-1.4431449214181073e4,-1.0225603052189089e-23,-1.4049035759572308e4,-1.1804123382648031e-23,-1.409495956653612e4,-1.3433374998471594e-23,-1.4372384625897015e4,-1.5104777432614716e-23,-1.4788933911109758e4,-1.6811247441677725e-23,-1.529541081786709e4,-1.8546956236269836e-23,-1.5863175317609225e4},
-                                 {0,-3.5970086870781716e-1,4.1218820462174843e-1,4.7806942979765762e-2,1.2084364515539862,2.8737732174911609e-4,1.1591464749709787e1,1.1042122609091991e-6,5.5363766829100542e1,3.4504936897791071e-9,1.8586257180758261e2,9.5511719746466483e-12,5.1150282161037064e2,2.4400605021585637e-14,1.2653726295370519e3,5.8889830494959852e-17,3.0450663909577982e3,1.3626172853717626e-19,8.01924303422142e3,3.054739078308294e-22,3.5631600574779089e4,8.8945137208856565e-25,-5.0154730049603617e4,2.805446988913021e-25,-2.2592244125539909e4,3.4041681583283354e-25,-1.7720256199614537e4,4.0557170003009774e-25,-1.6099628781146898e4,4.7398519913299222e-25,-1.5567653596910171e4,5.4513358741367695e-25,-1.5532876376028182e4,6.1857515319731685e-25,-1.5766865122017842e4,6.9393902248848983e-25,-1.6162463775471003e4,7.7091575951317668e-25,-1.6662622269207054e4,8.492481105433823e-25},
-                                 {0,3.5981069629352341e-1,-3.9477891525534113e-1,1.4608390003368671e-1,-4.0416999277584616e-3,3.6717823998110732,-1.8472134660741508e-5,2.3239378118457739e1,-6.3135050404043826e-8,9.0333848508872159e1,-1.8488364873326435e-10,2.687797476329821e2,-4.9130721136813081e-13,6.8431669520095518e2,-1.2211231618780366e-15,1.6051491113835381e3,-2.8907131809912194e-18,3.7191399494419655e3,-6.59569682175902e-21,9.5261967828861427e3,-1.4633978646121097e-23,4.1454673770043347e4,-4.2278060245819375e-26,-5.742863449281999e4,-1.320412501731357e-26,-2.5549981950416908e4,-1.5901690839075663e-26,-1.9844805013308976e4,-1.8835873361637689e-26,-1.7888940388129203e4,-2.1914282883386529e-26,-1.7188039409468837e4,-2.5114770467229356e-26,-1.7060186111569718e4,-2.8418482820118392e-26,-1.7242126572030219e4,-3.1809432371300229e-26,-1.7610423818067648e4,-3.5274149437808754e-26,-1.809938129344242e4},
-                                 {0,-3.5970373945723935e-1,4.0797659533355257e-1,4.7824797836675908e-2,9.1472981689024063e-1,2.8791758635224784e-4,8.7528588731874295,1.1095492853521005e-6,4.1637393626601693e1,3.4820559361137829e-9,1.3849258034879196e2,9.6897784925910934e-12,3.7408384823473842e2,2.4901809122098641e-14,8.9275470324743495e2,6.0471871941010842e-17,2.0010562704128243e3,1.4078309357650477e-19,4.4858953441165253e3,3.1729451487791747e-22,1.1210785184704623e4,6.9750546504738341e-25,4.7879792234766035e4,2.0009065957937786e-27,-6.5373671514293028e4,6.1928912038891817e-28,-2.8754447820036889e4,7.4060894133515838e-28,-2.2131167892324536e4,8.725160696235896e-28,-1.980362708423513e4,1.0107928359964115e-27,-1.8913504694112917e4,1.1545028945953319e-27,-1.8679610630508859e4,1.3028426233736489e-27,-1.8800484298952357e4,1.4551243548828062e-27,-1.9134831602525611e4,1.6107635204591503e-27},
-                                 {0,3.5978773538652709e-1,-3.9480840219614129e-1,1.006480451647668e-1,-4.0449504047271325e-3,2.810142216776728,-1.8521943707565246e-5,1.7751797045189291e1,-6.3504795848144084e-8,6.866233237458397e1,-1.8675613642212262e-10,2.0217895464359024e2,-4.987850007394736e-13,5.0455977910848609e2,-1.2465317936059234e-15,1.1401753838036359e3,-2.967584850694715e-18,2.4573591419833176e3,-6.8089724101975025e-21,5.3512668174257879e3,-1.5179592493318529e-23,1.3082880285090312e4,-3.3093074257114307e-26,5.4936564860141031e4,-9.4323769931714549e-29,-7.4019449992245675e4,-2.8951713443858822e-29,-3.2215512766829596e4,-3.4398861981001549e-29,-2.4585271881411049e4,-4.0319321410854026e-29,-2.1847930126508419e4,-4.6520556474771377e-29,-2.0747358271495427e4,-5.2962991662318021e-29,-2.0393868432444746e4,-5.9612409122999418e-29,-2.0444249910457272e4,-6.6439284694284135e-29,-2.0737700984465038e4},
-                                 {0,-3.5970575204809847e-1,4.0502959511835496e-1,4.7837488216155085e-2,7.0929880452483081e-1,2.8830768337148534e-4,6.7725231151346835,1.1134747713131694e-6,3.2134275524191756e1,3.5057512090956682e-9,1.062624911092604e2,9.7961124461215296e-12,2.8374717416228359e2,2.5294837027029866e-14,6.6298551487219237e2,6.1739413152503456e-17,1.4299277609168999e3,1.4448090377531055e-19,2.9783170657144302e3,3.2729137369289702e-22,6.3211864924584719e3,7.2258975054742149e-25,1.5152353713869269e4,1.5635445582638172e-27,6.2654600524391279e4,4.4303826807008106e-30,-8.3395578794517928e4,1.3494567415412402e-30,-3.5943047607092963e4,1.5936546194798628e-30,-2.7213043275856513e4,1.8589961792438958e-30,-2.4026089267549814e4,2.1366938713347533e-30,-2.2692906671245795e4,2.4250751400231565e-30,-2.2205675079631108e4,2.7226842339281912e-30,-2.2175731682845657e4,3.0282555008468986e-30},
-                                 {0,3.5977142250146582e-1,-3.9482952083092966e-1,6.8365160369923762e-2,-4.0473089856324377e-3,2.1985480292083505,-1.8558650708284609e-5,1.3871176968330857e1,-6.3782142301162167e-8,5.3480918844836435e1,-1.8818790861650943e-10,1.5643122225636107e2,-5.0461809237526742e-13,3.8555706524236288e2,-1.2667532855528274e-15,8.5213103247746581e2,-3.0299717945408568e-18,1.7653526258360617e3,-6.9853259185291808e-21,3.568184740157892e3,-1.5645592966012922e-23,7.4015847982756128e3,-3.424222990228178e-26,1.742907676978685e4,-7.3590746613276117e-29,7.1063508095356774e4,-2.0740206634807883e-31,-9.3531666780559166e4,-6.272527957874208e-32,-3.994692298027503e4,-7.3657301458278842e-32,-3.0020407748746089e4,-8.5533232776868924e-32,-2.634234299072272e4,-9.7952127040344244e-32,-2.4753454455881379e4,-1.1084329660324433e-31,-2.4117743563094981e4,-1.241448494431751e-31,-2.3997234912290502e4},
-                                 {0,-3.5970720460704578e-1,4.0290603859357023e-1,4.7846752235451612e-2,5.6130657930876368e-1,2.8859615761338663e-4,5.348274006891917,1.1164217913861348e-6,2.5333420383957554e1,3.523841818178688e-9,8.3453191181827552e1,9.8787643482245297e-12,2.2118904833136259e2,2.5606016731369385e-14,5.0996841238362347e2,6.2761601288514515e-17,1.0747582101504634e3,1.4751669113560622e-19,2.1497837211537829e3,3.3563961146568042e-22,4.2312130656552213e3,7.4420691040148998e-25,8.5983907982676519e3,1.6160226009520716e-27,1.99229204852728e4,3.4515387040044378e-30,8.0192896432486898e4,9.6793927503327584e-33,-1.0445732280297881e5,2.908105323409504e-33,-4.4237009380012515e4,3.3968590278057779e-33,-3.3013290453363286e4,3.927727096392946e-33,-2.8800928703461947e4,4.4824235924976041e-33,-2.6932304493693995e4,5.0579607207244471e-33,-2.6132784620569911e4,5.6517084546976513e-33},
-                                 {0,3.597595156520788e-1,-3.9484504023042871e-1,4.4799806556137294e-2,-4.0490611218581557e-3,1.752402892702185,-1.8586270326368239e-5,1.1047297297802932e1,-6.3993890751198268e-8,4.2501910159059175e1,-1.8929857999342331e-10,1.2376784954691209e2,-5.0921940160787973e-13,3.02571749507212e2,-1.2829787654896684e-15,6.5933775494039907e2,-3.0808828335078292e-18,1.333621223369625e3,-7.1316144805338632e-21,2.58654878769333e3,-1.6038232251247412e-23,4.9716498189186466e3,-3.5240715677044497e-26,9.9175324459764556e3,-7.5980402655266421e-29,2.2643755676625052e4,-1.6136130435494807e-31,9.0072374388391078e4,-4.5044876242306309e-34,-1.1620215570876548e5,-1.3450479228877421e-34,-4.8823177178870641e4,-1.5632961637170382e-34,-3.6197616106169525e4,-1.8003249698152367e-34,-3.1406082896938191e4,-2.0477990664088818e-34,-2.9232758189183975e4,-2.3044553738700781e-34,-2.8253507012193371e4},
-                                 {0,-3.5970827913205155e-1,4.0133728262259687e-1,4.7853671412707784e-2,4.5199635768397531e-1,2.8881394665335319e-4,4.2974738830265627,1.1186747405370218e-6,2.0332430714781499e1,3.537866575860464e-9,6.6804884790051229e1,9.9438107375849888e-12,1.7617850804114028e2,2.5854768318557565e-14,4.0262256067334868e2,6.359171352442785e-17,8.3601671108665438e2,1.5002068580225306e-19,1.6314671711725451e3,3.4262981594548907e-22,3.0789704677614867e3,7.6256914744419845e-25,5.7937401945941941e3,1.6619656348874526e-27,1.1364936786151853e4,3.560073818577959e-30,2.5601452983291647e4,7.5212475507864906e-33,1.0073155081005791e5,2.090707978460938e-35,-1.2879577434025436e5,6.2071770021170064e-36,-5.3715296648223036e4,7.1806379596376213e-36,-3.9579309054493385e4,8.2378111142797078e-36,-3.4162041278576249e4,9.3407245907417522e-36,-3.1658115678159755e4,1.0484037600911199e-35},
-                                 {0,3.5975062227968597e-1,-3.9485669912183885e-1,2.7197101652825679e-2,-4.050389499790986e-3,1.4192956127690206,-1.8607435307750692e-5,8.9424243669262279,-6.415814277480155e-8,3.4352799554625069e1,-1.9017171093065828e-10,9.9732581852760086e1,-5.1288823202798646e-13,2.4246254342571996e2,-1.296106045433017e-15,5.2338715679759371e2,-3.1226794240256662e-18,1.0423512351748049e3,-7.2534512276915795e-21,1.971036783845523e3,-1.6369809033423671e-23,3.6303670737925926e3,-3.6095148617396703e-26,6.7017272417890068e3,-7.8087113955388505e-29,1.2946530114081845e4,-1.6627925909417772e-31,2.8805882898909303e4,-3.4960624465189772e-34,1.122000345398226e5,-9.6799103398275866e-37,-1.4226778753590153e5,-2.858520383155466e-37,-5.8923237974347651e4,-3.2922566985882184e-37,-4.3164293332094543e4,-3.7632913554767972e-37,-3.7073038882564134e4,-4.2543374256711858e-37,-3.4211675993390314e4},
-                                 {0,-3.5970909101937846e-1,4.0015335479566983e-1,4.7858942498448255e-2,3.6950922511310679e-1,2.889813764724466e-4,3.5051405451024078,1.120425091182939e-6,1.6570185747604127e1,3.5488917235895686e-9,5.4344464259060774e1,9.9955999204895689e-12,1.4281931708620722e2,2.6055480477388793e-14,3.2441192154206484e2,6.4270691556136068e-17,6.6691051131887155e2,1.5209679666610683e-19,1.2806814335148682e3,3.4850311847945912e-22,2.3550651314403284e3,7.7819650276690199e-25,4.2440532374401431e3,1.7015472161125858e-27,7.6998522175468235e3,3.6563782142816266e-30,1.4668238102851592e4,7.7436129881759922e-33,3.2266915796043242e4,1.6208848894136637e-35,1.2450743441614123e5,4.4714731530444465e-38,-1.566478041309087e5,1.3138189465904579e-38,-6.4456871271551375e4,1.5068831347613235e-38,-4.6958492705045895e4,1.7165595037302424e-38,-4.0143310162432213e4,1.9349836223635e-38},
-                                 {0,3.5974384629267318e-1,-3.9486562670384616e-1,1.3784283951802898e-2,-4.0514146615199665e-3,1.1655573711601307,-1.8623918063044437e-5,7.340960904137957,-6.4287383793293131e-8,2.8170945941373838e1,-1.9086656403103398e-10,8.1609291391497498e1,-5.1584347113636797e-13,1.9763009659473207e2,-1.3068135801180318e-15,4.2382685148937683e2,-3.1572080318993011e-18,8.3523500177260396e2,-7.3553814809518084e-21,1.5533417032220915e3,-1.665065453055344e-23,2.7862822920212761e3,-3.682750384641439e-26,4.923340455568752e3,-7.991343300970278e-29,8.7923548744683897e3,-1.7066932143925448e-31,1.6535985905744602e4,-3.5964076539926036e-34,3.5994421946067093e4,-7.4969572801703443e-37,1.376833592742155e5,-2.0610840507424752e-39,-1.7196543295773096e5,-6.0273721133555114e-40,-7.0326066592942886e4,-6.8859364380230477e-40,-5.0967830709834263e4,-7.8184635065821988e-40,-4.3377089068956092e4},
-                                 {0,-3.5970971584921321e-1,3.9924313209074831e-1,4.7863028039338249e-2,3.0609593907750713e-1,2.8911216336089816e-4,2.8963579411806687,1.1218046970191495e-6,1.3684199634289568e1,3.5576692203128979e-9,4.4820834993071469e1,1.0037281938286266e-11,1.1749818186774879e2,2.6218885405710903e-14,2.657507512787965e2,6.4830029752452842e-17,5.4251145547662399e2,1.5382755212391664e-19,1.0303993383019949e3,3.5345739423527728e-22,1.8626610475162531e3,7.9153068060162875e-25,3.2674139610473394e3,1.7356955215513028e-27,5.6715375488314317e3,3.7403443786459591e-30,9.9834736959171088e3,7.9432263539652041e-33,1.8555698239222296e4,1.6660851955433023e-35,3.9998271535258806e4,3.4597633362041033e-38,1.517574179465005e5,9.4812361375031115e-41,-1.8825028284649238e5,2.7603582770180746e-41,-7.6540693939330221e4,3.141830761095e-41,-5.5198230685168154e4,3.5562228e-41},
-                                 {0,3.5973859325052444e-1,-3.9487257800305245e-1,3.3853006881380361e-3,-4.05221829506597e-3,9.6887888840874384e-1,-1.8636940059726311e-5,6.1006765905624407,-6.4390394019943354e-8,2.3393420286831653e1,-1.9142579632616014e-10,6.7663366695842986e1,-5.1824678879685471e-13,1.6339800673826742e2,-1.3156165528250804e-15,3.4878074679694373e2,-3.1859121312359913e-18,6.8227086317064498e2,-7.4410666894921262e-21,1.2544380289211699e3,-1.6889349209364287e-23,2.2109634771216082e3,-3.7456634307088544e-26,3.8011819958666513e3,-8.149855270842705e-29,6.4919510468576131e3,-1.7451725424377886e-31,1.1277446089327791e4,-3.6869599899829927e-34,2.0733299450613255e4,-7.7002221912127574e-37,4.4288334677925271e4,-1.5933026534351746e-39,1.667592192631203e5,-4.3532288773651665e-42,-2.0553196262532839e5,-1.2620908140086346e-42,-8.3110623266612499e4,-1.4314445677837521e-42,-5.9655615798666171e4},
-                                 {0,-3.597102045343852e-1,3.9853187713202078e-1,4.7866243249493238e-2,2.5654636734295189e-1,2.8921578491191148e-4,2.4208608978347089,1.1229062301927849e-6,1.1432726602967837e1,3.56473825825911e-9,3.7410593198140525e1,1.0071167176948424e-11,9.789413865330556e1,2.6353051500495984e-14,2.2072157850546067e2,6.5294036227795368e-17,4.4832799616725323e2,1.5527842014191351e-19,8.4490930565666362e2,3.5765409652310338e-22,1.5093811894440264e3,8.0294255492885236e-25,2.6005684430141564e3,1.7652141568434784e-27,4.3903048960783511e3,3.8136270021883307e-30,7.3878855121646531e3,8.1190499882775424e-33,1.2678508545871133e4,1.7070759316119908e-35,2.3074713573677154e4,3.5510303654935875e-38,4.8874481427175165e4,7.3231337907985902e-41,1.8271837205221034e5,1.99518753859e-43,-2.2384008112066954e5,5.76159e-44,-9.0045724491954485e4,6.5e-44},
-                                 {0,3.5973445824012517e-1,-3.9487807086414982e-1,-4.8009851812466466e-3,-4.0528570746189499e-3,8.1407587561713955e-1,-1.8647360895848508e-5,5.125069528633968,-6.4473458921894585e-8,1.9641247320031752e1,-1.9188055128422337e-10,5.6745014226205173e1,-5.2021882916183751e-13,1.3674847974115412e2,-1.3229086072486804e-15,2.9090003759184135e2,-3.2099225243035009e-18,5.6600515600692153e2,-7.5134503858226451e-21,1.0322289061661283e3,-1.7092976313255249e-23,1.7972545696854418e3,-3.7998527569471297e-26,3.0337912682121073e3,-8.2876690135548098e-29,5.037498223936169e3,-1.7789291341075432e-31,8.3626438130443667e3,-3.7670849576686506e-34,1.4190896772971932e4,-7.8854143835667249e-37,2.5585864374486888e4,-1.6342234661948561e-39,5.3766581783816526e4,-3.3596470679676057e-42,1.9966448514020115e5,-9.1290563072334402e-45,-2.4320424715747801e5,-2.6263805948571306e-45,-9.7355867498971222e4},
-                                 {0,-3.5971059222442823e-1,3.9796806350298055e-1,4.7868807946761333e-2,2.1726930161550087e-1,2.8929892921826704e-4,2.044054642608336,1.1237960411167163e-6,9.6501122894880914,3.5704914998292315e-9,3.1554896574096024e1,1.0098970831841201e-11,8.2459592679164492e1,2.6464096386856611e-14,1.8549163528814932e2,6.5681562849378393e-17,3.7537712511284523e2,1.5650139021472596e-19,7.0342701360044244e2,3.6122461190573137e-22,1.2460289529163887e3,8.1274156152256215e-25,2.1200797105579002e3,1.7907907894048791e-27,3.5129435603884781e3,3.8776818005852616e-30,5.7454749704671402e3,8.2740330674700323e-33,9.4195273539970878e3,1.7435009168820457e-35,1.58188458048182e4,3.634547747056809e-38,2.8272675389529283e4,7.506363880947e-41,5.8974505703748472e4,1.538633e-43,2.1762716735205493e5,4.1e-46,-2.6365406955944584e5,0},
-                                 {0,3.5973115896189979e-1,-3.9488246850214459e-1,-1.1333152540745097e-2,-4.0533711486227232e-3,6.9056796194015174e-1,-1.8655797001438226e-5,4.3470517420115751,-6.4541152133445279e-8,1.6652463055265033e1,-1.9225387439875e-10,4.8068446648122716e1,-5.2185055399030276e-13,1.1565942657526589e2,-1.3289926305835232e-15,2.454110600382385e2,-3.23012826657756e-18,4.7560491023549475e2,-7.5748994365891683e-21,8.6220867113593577e2,-1.7267364631617108e-23,1.4881055025321653e3,-3.8466653316527365e-26,2.4798741756873193e3,-8.4077369452068869e-29,4.040333595843961e3,-1.8085818930399966e-31,6.5169458734048108e3,-3.8380277500809217e-34,1.0561836270831251e4,-8.0506333454457329e-37,1.7566590094940305e4,-1.6718251543002372e-39,3.1141069957512842e4,-3.4415898261318637e-42,6.4508123104135769e4,-7.0349971837503373e-45,2.3663602751146372e5,-1.9022999979501158e-47,-2.8521915714916188e5},
-                                 {0,-3.5971090371795272e-1,3.9751538276445158e-1,4.7870878587781893e-2,1.8573458363407782e-1,2.8936640563868003e-4,1.7415925251591728,1.1245224396656034e-6,8.2201504209840972,3.5752190417323148e-9,2.6864490454824377e1,1.0121981178804539e-11,7.0130648440328497e1,2.65566992730687e-14,1.5748244949984528e2,6.6007313328575827e-17,3.178104220070423e2,1.5753785533150099e-19,5.9304062903413557e2,3.6427580530916436e-22,1.0439643093735533e3,8.2118495411075319e-25,1.7602512074389877e3,1.8130099878990931e-27,2.8786518206938438e3,3.9337744259686609e-30,4.6182666707515465e3,8.4108055410688096e-33,7.3546196928866543e3,1.7758859651982815e-35,1.1792869596315836e4,3.7093349479414e-38,1.9438363594113853e4,7.6753949e-41,3.419697124605617e4,1.57e-43,7.037730386859346e4,0,2.5672067444101636e5,0}};
-        initArrays2();
-    }
-    
-    protected void initArrays2() {
-        IdX2dX2_ =new double[][]{{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,1.5756413842329285e-1,3.5939213758077122,-4.7309113239535995,5.8516245196913095,-6.9798776437203797,8.109155961318126,-9.238872691026007,1.0368760654615423e1,-1.1498728013830134e1,1.2628735995586271e1,-1.3758766486332058e1,1.488881025226208e1,-1.6018862252816347e1,1.7148919578517469e1,-1.827898047036083e1,1.9409043822509668e1,-2.0539108916127198e1,2.1669175270232659e1,-2.279924255476185e1,2.3929310538113616e1,-2.505937905453085e1,2.6189447983264758e1,-2.7319517234943582e1,2.8449586742460987e1,-2.9579656454766242e1,3.0709726332556858e1,-3.1839796345242479e1,3.2969866468773152e1,-3.4099936684064747e1,3.5230006975843029e1,-3.6360077331785221e1,3.7490147741875651e1,-3.8620218197917241e1,3.9750288693157714e1,-4.0880359222001061e1,4.2010429779783023e1,-4.3140500362595036e1,4.4270570967145182e1,-4.5400641590647626e1},
-                                 {0,3.5939213758077122,1.242398464355104e2,1.4377530090757196,-2.5965572390421157,3.7951623831469127,-5.0164390101681226,6.2468889326654059,-7.4816950685912612,8.7187653546020909,-9.9571027250542922,1.119619248013109e1,-1.2435751210879569e1,1.3675614313965994e1,-1.4915681814991746e1,1.6155890640755133e1,-1.7396199677192721e1,1.8636581352874239e1,-1.9877016712626763e1,2.1117492435469389e1,-2.2357998975167817e1,2.3598529369832593e1,-2.4839078461657662e1,2.6079642374528209e1,-2.7320218157501297e1,2.856080353721207e1,-2.9801396743168496e1,3.1041996382666739e1,-3.2282601350024711e1,3.3523210759898219e1,-3.4763823897725612e1,3.6004440182507611e1,-3.7245059138573803e1,3.8485680373967303e1,-3.972630356375265e1,4.096692843702081e1,-4.2207554766695198e1,4.3448182361477525e1,-4.4688811059441245e1,4.592944072290298e1},
-                                 {0,-4.7309113239535995,1.4377530090757196,9.4959416881878097e2,-1.9849092451049796e-1,3.3243255390364265e-1,-4.7112887919467338e-1,6.1491311870391688e-1,-7.6128612825316824e-1,9.0912093223578502e-1,-1.0578209520536133,1.2070566407375489,-1.3566370808539351,1.5064469842928596,-1.6564141456244984,1.8064918690659493,-1.9566490906331753,2.1068646217617131,-2.2571236845414979,2.4074157649421406,-2.5577332475435271,2.7080705266157999,-2.8584234148920651,3.0087887426547735,-3.1591640810331184,3.3095475479177707,-3.4599376697902067,3.610333282004235,-3.7607334559039597,3.9111374449288825,-4.0615446443240028,4.2119545607140346,-4.3623667889085477,4.5127809940625159,-4.6631968978415829,4.8136142676091877,-4.9640329079133613,5.1144526537376549,-5.2648733651156303,5.4152949228068415},
-                                 {0,5.8516245196913095,-2.5965572390421157,-1.9849092451049796e-1,3.654385233195886e3,1.9575419365888047e-2,-3.0511129772185159e-2,4.1739692717169755e-2,-5.3513150918585923e-2,6.5604511912034704e-2,-7.7897150825051381e-2,9.0320493989180032e-2,-1.028311373705296e-1,1.1540161624286275e-1,-1.2801408320027797e-1,1.406566482962216e-1,-1.5332120707186352e-1,1.6600211857033264e-1,-1.786953809056049e-1,1.9139810520824699e-1,-2.0410817271245747e-1,2.1682400675213625e-1,-2.2954441835511448e-1,2.4226849989046271e-1,-2.5499555065594503e-1,2.6772502405132941e-1,-2.8045648956709902e-1,2.9318960508900761e-1,-3.0592409648240699e-1,3.1865974237849168e-1,-3.3139636272139668e-1,3.4413381006421404e-1,-3.5687196289499719e-1,3.6961072047635847e-1,-3.8234999882390075e-1,3.9508972754885804e-1,-4.0782984736184728e-1,4.2057030808622544e-1,-4.3331106706710408e-1,4.4605208788965394e-1},
-                                 {0,-6.9798776437203797,3.7951623831469127,3.3243255390364265e-1,1.9575419365888047e-2,9.9859228425193914e3,-1.6018383154937137e-3,2.3658045233858098e-3,-3.1376161421159436e-3,3.9518579802664126e-3,-4.7930782217946004e-3,5.6528302080892899e-3,-6.5254747652365954e-3,7.4072507849283611e-3,-8.2956077078350986e-3,9.1887867607697779e-3,-1.0085554688181896e-2,1.0985032627988523e-2,-1.1886584578282692e-2,1.278974359344438e-2,-1.3694162188888268e-2,1.4599578505422967e-2,-1.5505792885672818e-2,1.6412651430774637e-2,-1.7320034303513427e-2,1.8227847303189294e-2,-1.9136015725175989e-2,2.0044479835707842e-2,-2.0953191502018626e-2,2.186211165807279e-2,-2.2771208380974542e-2,2.3680455418109467e-2,-2.4589831050086209e-2,2.54993172060718e-2,-2.6408898770423412e-2,2.7318563035461942e-2,-2.8228299266732765e-2,2.9138098355468348e-2,-3.0047952539110161e-2,3.0957855175292373e-2},
-                                 {0,8.109155961318126,-5.0164390101681226,-4.7112887919467338e-1,-3.0511129772185159e-2,-1.6018383154937137e-3,2.2283851752685291e4,1.1684764264834032e-4,-1.6552234058364862e-4,2.137687405909294e-4,-2.6482054891179656e-4,3.177575824751946e-4,-3.7206954378278201e-4,4.2738940687724936e-4,-4.8345669520756275e-4,5.4008482004911962e-4,-5.9713876453639402e-4,6.5451974495611018e-4,-7.12154666679788e-4,7.6998883570628869e-4,-8.2798087989365257e-4,8.8609917643787477e-4,-9.4431931340339821e-4,1.002622267309488e-3,-1.0609930812868465e-3,1.11941989662174e-3,-1.177893236261768e-3,1.2364054697331501e-3,-1.2949504099273291e-3,1.3535230066357885e-3,-1.4121191117021378e-3,1.4707352976448189e-3,-1.5293687165311258e-3,1.5880169893904354e-3,-1.646678118972654e-3,1.7053504204810593e-3,-1.7640324662395071e-3,1.8227230412329749e-3,-1.8814211071860669e-3,1.9401257733858771e-3},
-                                 {0,-9.238872691026007,6.2468889326654059,6.1491311870391688e-1,4.1739692717169755e-2,2.3658045233858098e-3,1.1684764264834032e-4,4.3470328644043187e4,-7.8742722968171594e-6,1.0792274571246292e-5,-1.3627060283636258e-5,1.6630259908389448e-5,-1.9750742620187009e-5,2.296074452897155e-5,-2.6239089376430131e-5,2.9570002264103683e-5,-3.2941675582045723e-5,3.6345221276659522e-5,-3.9773901775321526e-5,4.3222570081026247e-5,-4.6687262573642267e-5,5.0164902144176741e-5,-5.3653080759723429e-5,5.7149899251832013e-5,-6.0653848468092698e-5,6.4163720472572605e-5,-6.7678541707436491e-5,7.1197522311462701e-5,-7.4720017407995836e-5,7.8245497323103458e-5,-8.1773524513759799e-5,8.5303735573281614e-5,-8.8835827105031108e-5,9.2369544563087714e-5,-9.5904673383438367e-5,9.9441031894628854e-5,-1.0297846561927631e-4,1.0651684266909889e-4,-1.1005605000455604e-4,1.1359599038183766e-4},
-                                 {0,1.0368760654615423e1,-7.4816950685912612,-7.6128612825316824e-1,-5.3513150918585923e-2,-3.1376161421159436e-3,-1.6552234058364862e-4,-7.8742722968171594e-6,7.7052113025708597e4,5.0069032885474206e-7,-6.6817858339865789e-7,8.2762206062636586e-7,-9.965670800264312e-7,1.1722779202466091e-6,-1.3533398916820738e-6,1.5386208079700229e-6,-1.7272442105830459e-6,1.9185302355473688e-6,-2.1119501445518852e-6,2.3070910085550929e-6,-2.5036286917291105e-6,2.7013073148133517e-6,-2.8999236761153031e-6,3.0993154244551389e-6,-3.2993520571205936e-6,3.4999280419325586e-6,-3.7009575380625116e-6,3.902370323356811e-6,-4.1041086355361941e-6,4.3061247086706724e-6,-4.5083788411923996e-6,4.7108378723564829e-6,-4.9134739742219155e-6,5.116263688668256e-6,-5.3191871557234621e-6,5.522227492045534e-6,-5.7253702878665646e-6,5.9286031978715189e-6,-6.1319156069318935e-6,6.3352983557777659e-6},
-                                 {0,-1.1498728013830134e1,8.7187653546020909,9.0912093223578502e-1,6.5604511912034704e-2,3.9518579802664126e-3,2.137687405909294e-4,1.0792274571246292e-5,5.0069032885474206e-7,1.2712038581508693e5,-3.0450646520231406e-8,3.9754870574048143e-8,-4.843589885775876e-8,5.7630675588664488e-8,-6.7195940683598852e-8,7.7062692581763378e-8,-8.7173400358443299e-8,9.7482127629370151e-8,-1.0795218086968261e-7,1.1855423489210423e-7,-1.2926480282965084e-7,1.4006501399704804e-7,-1.5093964802052135e-7,1.6187637591086316e-7,-1.7286516521025354e-7,1.8389781384305376e-7,-1.9496758433889557e-7,2.0606891612815447e-7,-2.1719719853747325e-7,2.2834859102884397e-7,-2.3951988028667136e-7,2.507083661265569e-7,-2.6191177002346466e-7,2.7312816145731454e-7,-2.8435589834854009e-7,2.9559357868118919e-7,-3.068400010457312e-7,3.1809413232300835e-7,-3.2935508110910406e-7,3.4062207577440708e-7},
-                                 {0,1.2628735995586271e1,-9.9571027250542922,-1.0578209520536133,-7.7897150825051381e-2,-4.7930782217946004e-3,-2.6482054891179656e-4,-1.3627060283636258e-5,-6.6817858339865789e-7,-3.0450646520231406e-8,1.9835078363503777e5,1.7878165505361321e-9,-2.2916411805622389e-9,2.7525274998543684e-9,-3.2403576251201427e-9,3.7477250848477437e-9,-4.2713659775637873e-9,4.8084585951985622e-9,-5.3566923183342157e-9,5.91417584667571e-9,-6.479362568269486e-9,7.0509868692040072e-9,-7.6280112748309312e-9,8.209583206974158e-9,-8.7949999238311516e-9,9.3836802414297383e-9,-9.9751417841490395e-9,1.0568982697487102e-8,-1.1164866940174654e-8,1.176251243788478e-8,-1.2361681521552412e-8,1.2962173189660162e-8,-1.3563816828184631e-8,1.4166467097472992e-8,-1.4769999755408585e-8,1.5374308233784793e-8,-1.5979300822361082e-8,1.6584898344702937e-8,-1.7191032233287095e-8,1.779764292982174e-8},
-                                 {0,-1.3758766486332058e1,1.119619248013109e1,1.2070566407375489,9.0320493989180032e-2,5.6528302080892899e-3,3.177575824751946e-4,1.6630259908389448e-5,8.2762206062636586e-7,3.9754870574048143e-8,1.7878165505361321e-9,2.9600339739661655e5,-1.0200679651759902e-10,1.2873403393703436e-10,-1.5271554852010605e-10,1.7807840499744029e-10,-2.044428322943402e-10,2.316578764193661e-10,-2.595886226758362e-10,2.8812227064354777e-10,-3.1716457629586344e-10,3.4663695314395818e-10,-3.7647389467263199e-10,4.0662076040668514e-10,-4.3703190771434273e-10,4.6766913380780854e-10,-4.9850038622348547e-10,5.2949870047618883e-10,-5.6064132713226309e-10,5.9190901531426293e-10,-6.2328542460456972e-10,6.5475664194763062e-10,-6.8631078424482183e-10,7.1793767083533952e-10,-7.4962855298438217e-10,7.813758899155811e-10,-8.131731628994364e-10,8.4501472051418947e-10,-8.7689564949456051e-10,9.0881166663306183e-10},
-                                 {0,1.488881025226208e1,-1.2435751210879569e1,-1.3566370808539351,-1.028311373705296e-1,-6.5254747652365954e-3,-3.7206954378278201e-4,-1.9750742620187009e-5,-9.965670800264312e-7,-4.843589885775876e-8,-2.2916411805622389e-9,-1.0200679651759902e-10,4.2592277256322307e5,5.6839148291032186e-12,-7.0779869960664774e-12,8.3054518463902642e-12,-9.6025109353415138e-12,1.0949805704666123e-11,-1.2340473553460463e-11,1.3768184190905617e-11,-1.5227552558557713e-11,1.6714000422845593e-11,-1.8223645814986835e-11,1.9753200823833299e-11,-2.1299881021932564e-11,2.2861326855336052e-11,-2.4435536387597303e-11,2.6020808312108178e-11,-2.7615693976571588e-11,2.9218957163028781e-11,-3.0829540454296323e-11,3.2446537143946265e-11,-3.4069167784080745e-11,3.569676059800169e-11,-3.7328735106074913e-11,3.8964588419736231e-11,-4.0603883750276056e-11,4.2246240756649187e-11,-4.3891327421555598e-11,4.5538853199080093e-11},
-                                 {0,-1.6018862252816347e1,1.3675614313965994e1,1.5064469842928596,1.1540161624286275e-1,7.4072507849283611e-3,4.2738940687724936e-4,2.296074452897155e-5,1.1722779202466091e-6,5.7630675588664488e-8,2.7525274998543684e-9,1.2873403393703436e-10,5.6839148291032186e-12,5.9453790914308126e5,-3.1045772585533744e-13,3.8214817045499851e-13,-4.441176082304755e-13,5.0954557995172808e-13,-5.7745000081791677e-13,6.4752311332159527e-13,-7.1947210029387094e-13,7.9304422964623415e-13,-8.6802140617527536e-13,9.4421601484651968e-13,-1.0214669289813608e-12,1.0996358693192196e-12,-1.1786041613198147e-12,1.2582698951130355e-12,-1.3385454668358515e-12,1.4193554673346025e-12,-1.5006348792893855e-12,1.5823275434962801e-12,-1.6643848572462961e-12,1.7467646711741231e-12,-1.8294303548355147e-12,1.9123500051599594e-12,-1.9954957755731886e-12,2.0788433068774005e-12,-2.162371243876891e-12,2.2460608242471434e-12},
-                                 {0,1.7148919578517469e1,-1.4915681814991746e1,-1.6564141456244984,-1.2801408320027797e-1,-8.2956077078350986e-3,-4.8345669520756275e-4,-2.6239089376430131e-5,-1.3533398916820738e-6,-6.7195940683598852e-8,-3.2403576251201427e-9,-1.5271554852010605e-10,-7.0779869960664774e-12,-3.1045772585533744e-13,8.0886226169064514e5,1.6670935335496449e-14,-2.0313429328434246e-14,2.3405803053122979e-14,-2.6668169576000584e-14,3.0050920653420085e-14,-3.3540408986081007e-14,3.7123238007526427e-14,-4.0787702926334428e-14,4.4523572172315267e-14,-4.8321932991408647e-14,5.2175037333529712e-14,-5.6076157439892668e-14,6.0019454101862243e-14,-6.3999858755032607e-14,6.8012969366381196e-14,-7.2054959381747802e-14,7.6122498642880496e-14,-8.0212685036479387e-14,8.4322985619715013e-14,-8.8451186023107825e-14,9.2595347027182068e-14,-9.6753767321758925e-14,1.0092495157263705e-13,-1.0510758303192561e-13,1.093005000313027e-13},
-                                 {0,-1.827898047036083e1,1.6155890640755133e1,1.8064918690659493,1.406566482962216e-1,9.1887867607697779e-3,5.4008482004911962e-4,2.9570002264103683e-5,1.5386208079700229e-6,7.7062692581763378e-8,3.7477250848477437e-9,1.7807840499744029e-10,8.3054518463902642e-12,3.8214817045499851e-13,1.6670935335496449e-14,1.0764937393065668e6,-8.8211772505256109e-16,1.0652735075336762e-15,-1.2180533662150485e-15,1.3791138160749477e-15,-1.5459593768374911e-15,1.7179906578833306e-15,-1.8946000205278954e-15,2.0752510446831389e-15,-2.2594695451797309e-15,2.4468378995885356e-15,-2.6369891523028117e-15,2.8296013460934005e-15,-3.024392232976526e-15,3.2211144440301367e-15,-3.4195511450977364e-15,3.6195121724986086e-15,-3.8208306234569732e-15,4.023359865572246e-15,-4.2269709251514926e-15,4.4315502134427516e-15,-4.6369975512651572e-15,4.843224455240675e-15,-5.050152652147525e-15,5.2577127914273409e-15},
-                                 {0,1.9409043822509668e1,-1.7396199677192721e1,-1.9566490906331753,-1.5332120707186352e-1,-1.0085554688181896e-2,-5.9713876453639402e-4,-3.2941675582045723e-5,-1.7272442105830459e-6,-8.7173400358443299e-8,-4.2713659775637873e-9,-2.044428322943402e-10,-9.6025109353415138e-12,-4.441176082304755e-13,-2.0313429328434246e-14,-8.8211772505256109e-16,1.4056147056377025e6,4.6080348894185427e-17,-5.5206903096558016e-17,6.2689815176290035e-17,-7.0573084238624522e-17,7.8731696493771401e-17,-8.7139550235665494e-17,9.5769272694578014e-17,-1.0459648657674484e-16,1.1359943042948015e-16,-1.2275875260288413e-16,1.3205728735782332e-16,-1.4147983421609476e-16,1.5101294759982784e-16,-1.6064474103579161e-16,1.7036470799567465e-16,-1.8016355998915083e-16,1.9003308159564133e-16,-1.9996600155758182e-16,2.0995587874745421e-16,-2.1999700167957998e-16,2.3008430020654526e-16,-2.4021326807780191e-16,2.503798951160715e-16},
-                                 {0,-2.0539108916127198e1,1.8636581352874239e1,2.1068646217617131,1.6600211857033264e-1,1.0985032627988523e-2,6.5451974495611018e-4,3.6345221276659522e-5,1.9185302355473688e-6,9.7482127629370151e-8,4.8084585951985622e-9,2.316578764193661e-10,1.0949805704666123e-11,5.0954557995172808e-13,2.3405803053122979e-14,1.0652735075336762e-15,4.6080348894185427e-17,1.8049919788771125e6,-2.3800970989121492e-18,2.8312571113369931e-18,-3.1949789314886319e-18,3.5779361603387968e-18,-3.973892075130922e-18,4.3817189096280908e-18,-4.8001903718553488e-18,5.228206213366466e-18,-5.6647757246068169e-18,6.1090103440263142e-18,-6.5601152097343143e-18,7.0173806290576465e-18,-7.4801737752968988e-18,7.947930818177905e-18,-8.420149604829676e-18,8.8963829464054998e-18,-9.3762325237095532e-18,9.8593433979914431e-18,-1.0345399096266327e-17,1.0834117230998319e-17,-1.13252456094609e-17,1.1818558786900992e-17},
-                                 {0,2.1669175270232659e1,-1.9877016712626763e1,-2.2571236845414979,-1.786953809056049e-1,-1.1886584578282692e-2,-7.12154666679788e-4,-3.9773901775321526e-5,-2.1119501445518852e-6,-1.0795218086968261e-7,-5.3566923183342157e-9,-2.595886226758362e-10,-1.2340473553460463e-11,-5.7745000081791677e-13,-2.6668169576000584e-14,-1.2180533662150485e-15,-5.5206903096558016e-17,-2.3800970989121492e-18,2.283976831764061e6,1.2170745082953847e-19,-1.4385282545255133e-19,1.6141363095131316e-19,-1.7989367049584575e-19,1.9898309918098668e-19,-2.1863355340082637e-19,2.3879034194915017e-19,-2.5940408486302698e-19,2.8042997650695882e-19,-3.0182752445174614e-19,3.2356023249413709e-19,-3.4559527277603962e-19,3.6790316008842669e-19,-3.9045743776261146e-19,4.13234380972854e-19,-4.3621272072929623e-19,4.5937339004441263e-19,-4.8269929252417995e-19,5.0617509281920122e-19,-5.2978702785709916e-19,5.5352273747913896e-19},
-                                 {0,-2.279924255476185e1,2.1117492435469389e1,2.4074157649421406,1.9139810520824699e-1,1.278974359344438e-2,7.6998883570628869e-4,4.3222570081026247e-5,2.3070910085550929e-6,1.1855423489210423e-7,5.91417584667571e-9,2.8812227064354777e-10,1.3768184190905617e-11,6.4752311332159527e-13,3.0050920653420085e-14,1.3791138160749477e-15,6.2689815176290035e-17,2.8312571113369931e-18,1.2170745082953847e-19,2.8525049915840162e6,-6.168054357503158e-21,7.2482222844464487e-21,-8.0910032297459134e-21,8.9775104111963109e-21,-9.8924143257401438e-21,1.0833656192853301e-20,-1.1798805833153449e-20,1.2785657373080998e-20,-1.379219557463961e-20,1.4816586790861752e-20,-1.5857167136778709e-20,1.6912429951305518e-20,-1.7981013089176842e-20,1.9061686455581361e-20,-2.0153340055119125e-20,2.1254972723826774e-20,-2.2365681637931559e-20,2.3484652639423362e-20,-2.4611151381281306e-20,2.5744515270141653e-20},
-                                 {0,2.3929310538113616e1,-2.2357998975167817e1,-2.5577332475435271,-2.0410817271245747e-1,-1.3694162188888268e-2,-8.2798087989365257e-4,-4.6687262573642267e-5,-2.5036286917291105e-6,-1.2926480282965084e-7,-6.479362568269486e-9,-3.1716457629586344e-10,-1.5227552558557713e-11,-7.1947210029387094e-13,-3.3540408986081007e-14,-1.5459593768374911e-15,-7.0573084238624522e-17,-3.1949789314886319e-18,-1.4385282545255133e-19,-6.168054357503158e-21,3.5210966401686505e6,3.1008581891744305e-22,-3.6247382330691724e-22,4.0270373109266812e-22,-4.450052477032677e-22,4.8862305878037108e-22,-5.334701823055732e-22,5.7943896376936118e-22,-6.264312488189904e-22,6.7435681607332952e-22,-7.2313307236936657e-22,7.7268461370725673e-22,-8.2294274805824556e-22,8.7384500179616507e-22,-9.2533462742002017e-22,9.7736012472497614e-22,-1.0298747834788714e-21,1.0828362525838768e-21,-1.136206138437176e-21,1.1899496335696794e-21},
-                                 {0,-2.505937905453085e1,2.3598529369832593e1,2.7080705266157999,2.1682400675213625e-1,1.4599578505422967e-2,8.8609917643787477e-4,5.0164902144176741e-5,2.7013073148133517e-6,1.4006501399704804e-7,7.0509868692040072e-9,3.4663695314395818e-10,1.6714000422845593e-11,7.9304422964623415e-13,3.7123238007526427e-14,1.7179906578833306e-15,7.8731696493771401e-17,3.5779361603387968e-18,1.6141363095131316e-19,7.2482222844464487e-21,3.1008581891744305e-22,4.30085641389584e6,-1.5475880105412524e-23,1.8003668213439999e-23,-1.9914736920419235e-23,2.1923604412048585e-23,-2.3993204643566346e-23,2.6119891701335808e-23,-2.8298908729810105e-23,3.0525902599245047e-23,-3.2796849943140427e-23,3.5108047305597733e-23,-3.7456094937557824e-23,3.9837878718046363e-23,-4.2250551063595908e-23,4.4691511569327e-23,-4.7158387911019746e-23,4.9649017375775428e-23,-5.2161429264531272e-23,5.46938283157411e-23},
-                                 {0,2.6189447983264758e1,-2.4839078461657662e1,-2.8584234148920651,-2.2954441835511448e-1,-1.5505792885672818e-2,-9.4431931340339821e-4,-5.3653080759723429e-5,-2.8999236761153031e-6,-1.5093964802052135e-7,-7.6280112748309312e-9,-3.7647389467263199e-10,-1.8223645814986835e-11,-8.6802140617527536e-13,-4.0787702926334428e-14,-1.8946000205278954e-15,-8.7139550235665494e-17,-3.973892075130922e-18,-1.7989367049584575e-19,-8.0910032297459134e-21,-3.6247382330691724e-22,-1.5475880105412524e-23,5.2034734036896651e6,7.6728911499817469e-25,-8.8868966241893234e-25,9.7907396539070817e-25,-1.0740607514033316e-24,1.1718381924689795e-24,-1.272254774839515e-24,1.3751007590541767e-24,-1.480183627444296e-24,1.5873245597308362e-24,-1.6963581355234305e-24,1.8071317400433228e-24,-1.9195048823578112e-24,2.0333484598219623e-24,-2.1485439996295703e-24,2.2649829000770084e-24,-2.3825656878121431e-24,2.5012013023700954e-24},
-                                 {0,-2.7319517234943582e1,2.6079642374528209e1,3.0087887426547735,2.4226849989046271e-1,1.6412651430774637e-2,1.002622267309488e-3,5.7149899251832013e-5,3.0993154244551389e-6,1.6187637591086316e-7,8.209583206974158e-9,4.0662076040668514e-10,1.9753200823833299e-11,9.4421601484651968e-13,4.4523572172315267e-14,2.0752510446831389e-15,9.5769272694578014e-17,4.3817189096280908e-18,1.9898309918098668e-19,8.9775104111963109e-21,4.0270373109266812e-22,1.8003668213439999e-23,7.6728911499817469e-25,6.24122115502041e6,-3.7813344237083156e-26,4.3618951796596966e-26,-4.7876594257207336e-26,5.235022364007894e-26,-5.6951613013936737e-26,6.1674525956799487e-26,-6.6509731257359955e-26,7.144873532550924e-26,-7.6483613219260392e-26,8.1607000774695903e-26,-8.6812072966531151e-26,9.2092518323421957e-26,-9.7442510692437747e-26,1.0285667962558675e-25,-1.0833008034004647e-25,1.1385816395726023e-25},
-                                 {0,2.8449586742460987e1,-2.7320218157501297e1,-3.1591640810331184,-2.5499555065594503e-1,-1.7320034303513427e-2,-1.0609930812868465e-3,-6.0653848468092698e-5,-3.2993520571205936e-6,-1.7286516521025354e-7,-8.7949999238311516e-9,-4.3703190771434273e-10,-2.1299881021932564e-11,-1.0214669289813608e-12,-4.8321932991408647e-14,-2.2594695451797309e-15,-1.0459648657674484e-16,-4.8001903718553488e-18,-2.1863355340082637e-19,-9.8924143257401438e-21,-4.450052477032677e-22,-1.9914736920419235e-23,-8.8868966241893234e-25,-3.7813344237083156e-26,7.4269576679045632e6,1.8532490066680893e-27,-2.1298000075907319e-27,2.3296264397540768e-27,-2.5395630597300722e-27,2.7553294548525281e-27,-2.976671737810669e-27,3.2031842358069092e-27,-3.4344930037852653e-27,3.6702476957381077e-27,-3.9101214196840294e-27,4.1538099563620072e-27,-4.401030804244697e-27,4.6515220997266134e-27,-4.90504146457511e-27,5.1613648202893946e-27},
-                                 {0,-2.9579656454766242e1,2.856080353721207e1,3.3095475479177707,2.6772502405132941e-1,1.8227847303189294e-2,1.11941989662174e-3,6.4163720472572605e-5,3.4999280419325586e-6,1.8389781384305376e-7,9.3836802414297383e-9,4.6766913380780854e-10,2.2861326855336052e-11,1.0996358693192196e-12,5.2175037333529712e-14,2.4468378995885356e-15,1.1359943042948015e-16,5.228206213366466e-18,2.3879034194915017e-19,1.0833656192853301e-20,4.8862305878037108e-22,2.1923604412048585e-23,9.7907396539070817e-25,4.3618951796596966e-26,1.8532490066680893e-27,8.7741253969048169e6,-9.0368828724129196e-29,1.0349500023361226e-28,-1.1284203984565912e-28,1.2266123881579311e-28,-1.3274566377056695e-28,1.4308511244387311e-28,-1.5366178025608131e-28,1.6445923334080427e-28,-1.7546201697171537e-28,1.8665565698534245e-28,-1.9802663186090603e-28,2.0956233729016219e-28,-2.2125104504283764e-28,2.3308185824901066e-28},
-                                 {0,3.0709726332556858e1,-2.9801396743168496e1,-3.4599376697902067,-2.8045648956709902e-1,-1.9136015725175989e-2,-1.177893236261768e-3,-6.7678541707436491e-5,-3.7009575380625116e-6,-1.9496758433889557e-7,-9.9751417841490395e-9,-4.9850038622348547e-10,-2.4435536387597303e-11,-1.1786041613198147e-12,-5.6076157439892668e-14,-2.6369891523028117e-15,-1.2275875260288413e-16,-5.6647757246068169e-18,-2.5940408486302698e-19,-1.1798805833153449e-20,-5.334701823055732e-22,-2.3993204643566346e-23,-1.0740607514033316e-24,-4.7876594257207336e-26,-2.1298000075907319e-27,-9.0368828724129196e-29,1.0296751251130067e7,4.3860211075307425e-30,-5.0069690263663426e-30,5.4428291103615445e-30,-5.9006931820138315e-30,6.3705911816224142e-30,-6.8521196003568498e-30,7.3444978716049775e-30,-7.8470049090246363e-30,8.3589602456043672e-30,-8.8797244008645392e-30,9.4086978959134513e-30,-9.9453199482880906e-30,1.0489066911521921e-29},
-                                 {0,-3.1839796345242479e1,3.1041996382666739e1,3.610333282004235,2.9318960508900761e-1,2.0044479835707842e-2,1.2364054697331501e-3,7.1197522311462701e-5,3.902370323356811e-6,2.0606891612815447e-7,1.0568982697487102e-8,5.2949870047618883e-10,2.6020808312108178e-11,1.2582698951130355e-12,6.0019454101862243e-14,2.8296013460934005e-15,1.3205728735782332e-16,6.1090103440263142e-18,2.8042997650695882e-19,1.2785657373080998e-20,5.7943896376936118e-22,2.6119891701335808e-23,1.1718381924689795e-24,5.235022364007894e-26,2.3296264397540768e-27,1.0349500023361226e-28,4.3860211075307425e-30,1.2009446594235415e7,-2.1195408245117408e-31,2.4123819975583902e-31,-2.6150445091831327e-31,2.8279416216886735e-31,-3.0462853851319178e-31,3.2699193880446879e-31,-3.4985017444363467e-31,3.7317164924637879e-31,-3.9692645196480153e-31,4.2108638442288545e-31,-4.4562492734401311e-31,4.7051719268000076e-31},
-                                 {0,3.2969866468773152e1,-3.2282601350024711e1,-3.7607334559039597,-3.0592409648240699e-1,-2.0953191502018626e-2,-1.2949504099273291e-3,-7.4720017407995836e-5,-4.1041086355361941e-6,-2.1719719853747325e-7,-1.1164866940174654e-8,-5.6064132713226309e-10,-2.7615693976571588e-11,-1.3385454668358515e-12,-6.3999858755032607e-14,-3.024392232976526e-15,-1.4147983421609476e-16,-6.5601152097343143e-18,-3.0182752445174614e-19,-1.379219557463961e-20,-6.264312488189904e-22,-2.8298908729810105e-23,-1.272254774839515e-24,-5.6951613013936737e-26,-2.5395630597300722e-27,-1.1284203984565912e-28,-5.0069690263663426e-30,-2.1195408245117408e-31,1.3927407244422164e7,1.0201575916886535e-32,-1.1578668472944522e-32,1.2518485661908486e-32,-1.3505821076395678e-32,1.4517752966248453e-32,-1.5553690988483756e-32,1.6612138887594193e-32,-1.7691713883028164e-32,1.8791103083705477e-32,-1.990906520095755e-32,2.104442938902573e-32},
-                                 {0,-3.4099936684064747e1,3.3523210759898219e1,3.9111374449288825,3.1865974237849168e-1,2.186211165807279e-2,1.3535230066357885e-3,7.8245497323103458e-5,4.3061247086706724e-6,2.2834859102884397e-7,1.176251243788478e-8,5.9190901531426293e-10,2.9218957163028781e-11,1.4193554673346025e-12,6.8012969366381196e-14,3.2211144440301367e-15,1.5101294759982784e-16,7.0173806290576465e-18,3.2356023249413709e-19,1.4816586790861752e-20,6.7435681607332952e-22,3.0525902599245047e-23,1.3751007590541767e-24,6.1674525956799487e-26,2.7553294548525281e-27,1.2266123881579311e-28,5.4428291103615445e-30,2.4123819975583902e-31,1.0201575916886535e-32,1.6066413474437824e7,-4.8917971259696872e-34,5.5376483728064429e-34,-5.9723965668592036e-34,6.4291701648452878e-34,-6.8970282761150579e-34,7.3757562725960255e-34,-7.8646997673034346e-34,8.36325424956062e-34,-8.870844197042225e-34,9.3869240194894377e-34},
-                                 {0,3.5230006975843029e1,-3.4763823897725612e1,-4.0615446443240028,-3.3139636272139668e-1,-2.2771208380974542e-2,-1.4121191117021378e-3,-8.1773524513759799e-5,-4.5083788411923996e-6,-2.3951988028667136e-7,-1.2361681521552412e-8,-6.2328542460456972e-10,-3.0829540454296323e-11,-1.5006348792893855e-12,-7.2054959381747802e-14,-3.4195511450977364e-15,-1.6064474103579161e-16,-7.4801737752968988e-18,-3.4559527277603962e-19,-1.5857167136778709e-20,-7.2313307236936657e-22,-3.2796849943140427e-23,-1.480183627444296e-24,-6.6509731257359955e-26,-2.976671737810669e-27,-1.3274566377056695e-28,-5.9006931820138315e-30,-2.6150445091831327e-31,-1.1578668472944522e-32,-4.8917971259696872e-34,1.8442830011576106e7,2.3375147298178935e-35,-2.6396602166559672e-35,2.8403056111716225e-35,-3.0511441798939751e-35,3.2669684994071172e-35,-3.4877048587388819e-35,3.713067227557768e-35,-3.942791584616638e-35,4.176625931799932e-35},
-                                 {0,-3.6360077331785221e1,3.6004440182507611e1,4.2119545607140346,3.4413381006421404e-1,2.3680455418109467e-2,1.4707352976448189e-3,8.5303735573281614e-5,4.7108378723564829e-6,2.507083661265569e-7,1.2962173189660162e-8,6.5475664194763062e-10,3.2446537143946265e-11,1.5823275434962801e-12,7.6122498642880496e-14,3.6195121724986086e-15,1.7036470799567465e-16,7.947930818177905e-18,3.6790316008842669e-19,1.6912429951305518e-20,7.7268461370725673e-22,3.5108047305597733e-23,1.5873245597308362e-24,7.144873532550924e-26,3.2031842358069092e-27,1.4308511244387311e-28,6.3705911816224142e-30,2.8279416216886735e-31,1.2518485661908486e-32,5.5376483728064429e-34,2.3375147298178935e-35,2.1073606037676927e7,-1.1133287967588798e-36,1.2543493587809948e-36,-1.3467517122630067e-36,1.4438644740487359e-36,-1.5432158355161417e-36,1.6447828518802322e-36,-1.7484405616501958e-36,1.8540737514739e-36},
-                                 {0,3.7490147741875651e1,-3.7245059138573803e1,-4.3623667889085477,-3.5687196289499719e-1,-2.4589831050086209e-2,-1.5293687165311258e-3,-8.8835827105031108e-5,-4.9134739742219155e-6,-2.6191177002346466e-7,-1.3563816828184631e-8,-6.8631078424482183e-10,-3.4069167784080745e-11,-1.6643848572462961e-12,-8.0212685036479387e-14,-3.8208306234569732e-15,-1.8016355998915083e-16,-8.420149604829676e-18,-3.9045743776261146e-19,-1.7981013089176842e-20,-8.2294274805824556e-22,-3.7456094937557824e-23,-1.6963581355234305e-24,-7.6483613219260392e-26,-3.4344930037852653e-27,-1.5366178025608131e-28,-6.8521196003568498e-30,-3.0462853851319178e-31,-1.3505821076395678e-32,-5.9723965668592036e-34,-2.6396602166559672e-35,-1.1133287967588798e-36,2.3976275189126407e7,5.2864584399991089e-38,-5.9431985384952744e-38,6.3678752906106242e-38,-6.81428945814496e-38,7.27073843487257e-38,-7.7371645743979451e-38,8.213022169e-38},
-                                 {0,-3.8620218197917241e1,3.8485680373967303e1,4.5127809940625159,3.6961072047635847e-1,2.54993172060718e-2,1.5880169893904354e-3,9.2369544563087714e-5,5.116263688668256e-6,2.7312816145731454e-7,1.4166467097472992e-8,7.1793767083533952e-10,3.569676059800169e-11,1.7467646711741231e-12,8.4322985619715013e-14,4.023359865572246e-15,1.9003308159564133e-16,8.8963829464054998e-18,4.13234380972854e-19,1.9061686455581361e-20,8.7384500179616507e-22,3.9837878718046363e-23,1.8071317400433228e-24,8.1607000774695903e-26,3.6702476957381077e-27,1.6445923334080427e-28,7.3444978716049775e-30,3.2699193880446879e-31,1.4517752966248453e-32,6.4291701648452878e-34,2.8403056111716225e-35,1.2543493587809948e-36,5.2864584399991089e-38,2.7168955556856871e7,-2.502992009046489e-39,2.8082069452899479e-39,-3.0030160661223846e-39,3.207843394629e-39,-3.4171620802247971e-39,3.6309666e-39},
-                                 {0,3.9750288693157714e1,-3.972630356375265e1,-4.6631968978415829,-3.8234999882390075e-1,-2.6408898770423412e-2,-1.646678118972654e-3,-9.5904673383438367e-5,-5.3191871557234621e-6,-2.8435589834854009e-7,-1.4769999755408585e-8,-7.4962855298438217e-10,-3.7328735106074913e-11,-1.8294303548355147e-12,-8.8451186023107825e-14,-4.2269709251514926e-15,-1.9996600155758182e-16,-9.3762325237095532e-18,-4.3621272072929623e-19,-2.0153340055119125e-20,-9.2533462742002017e-22,-4.2250551063595908e-23,-1.9195048823578112e-24,-8.6812072966531151e-26,-3.9101214196840294e-27,-1.7546201697171537e-28,-7.8470049090246363e-30,-3.4985017444363467e-31,-1.5553690988483756e-32,-6.8970282761150579e-34,-3.0511441798939751e-35,-1.3467517122630067e-36,-5.9431985384952744e-38,-2.502992009046489e-39,3.0670349686346847e7,1.18190110887012e-40,-1.3234709045949117e-40,1.412674909e-40,-1.5064903254088111e-40,1.6023e-40},
-                                 {0,-4.0880359222001061e1,4.096692843702081e1,4.8136142676091877,3.9508972754885804e-1,2.7318563035461942e-2,1.7053504204810593e-3,9.9441031894628854e-5,5.522227492045534e-6,2.9559357868118919e-7,1.5374308233784793e-8,7.813758899155811e-10,3.8964588419736231e-11,1.9123500051599594e-12,9.2595347027182068e-14,4.4315502134427516e-15,2.0995587874745421e-16,9.8593433979914431e-18,4.5937339004441263e-19,2.1254972723826774e-20,9.7736012472497614e-22,4.4691511569327e-23,2.0333484598219623e-24,9.2092518323421957e-26,4.1538099563620072e-27,1.8665565698534245e-28,8.3589602456043672e-30,3.7317164924637879e-31,1.6612138887594193e-32,7.3757562725960255e-34,3.2669684994071172e-35,1.4438644740487359e-36,6.3678752906106242e-38,2.8082069452899479e-39,1.18190110887012e-40,3.4499744577621068e7,-5.56669291814e-42,6.222136e-42,-6.62991832e-42,7e-42},
-                                 {0,4.2010429779783023e1,-4.2207554766695198e1,-4.9640329079133613,-4.0782984736184728e-1,-2.8228299266732765e-2,-1.7640324662395071e-3,-1.0297846561927631e-4,-5.7253702878665646e-6,-3.068400010457312e-7,-1.5979300822361082e-8,-8.131731628994364e-10,-4.0603883750276056e-11,-1.9954957755731886e-12,-9.6753767321758925e-14,-4.6369975512651572e-15,-2.1999700167957998e-16,-1.0345399096266327e-17,-4.8269929252417995e-19,-2.2365681637931559e-20,-1.0298747834788714e-21,-4.7158387911019746e-23,-2.1485439996295703e-24,-9.7442510692437747e-26,-4.401030804244697e-27,-1.9802663186090603e-28,-8.8797244008645392e-30,-3.9692645196480153e-31,-1.7691713883028164e-32,-7.8646997673034346e-34,-3.4877048587388819e-35,-1.5432158355161417e-36,-6.81428945814496e-38,-3.0030160661223846e-39,-1.3234709045949117e-40,-5.56669291814e-42,3.867701168525047e7,2.6153e-43,-2.9185194497284391e-43,0},
-                                 {0,-4.3140500362595036e1,4.3448182361477525e1,5.1144526537376549,4.2057030808622544e-1,2.9138098355468348e-2,1.8227230412329749e-3,1.0651684266909889e-4,5.9286031978715189e-6,3.1809413232300835e-7,1.6584898344702937e-8,8.4501472051418947e-10,4.2246240756649187e-11,2.0788433068774005e-12,1.0092495157263705e-13,4.843224455240675e-15,2.3008430020654526e-16,1.0834117230998319e-17,5.0617509281920122e-19,2.3484652639423362e-20,1.0828362525838768e-21,4.9649017375775428e-23,2.2649829000770084e-24,1.0285667962558675e-25,4.6515220997266134e-27,2.0956233729016219e-28,9.4086978959134513e-30,4.2108638442288545e-31,1.8791103083705477e-32,8.36325424956062e-34,3.713067227557768e-35,1.6447828518802322e-36,7.27073843487257e-38,3.207843394629e-39,1.412674909e-40,6.222136e-42,2.6155e-43,4.3222606918352193e7,0,0},
-                                 {0,4.4270570967145182e1,-4.4688811059441245e1,-5.2648733651156303,-4.3331106706710408e-1,-3.0047952539110161e-2,-1.8814211071860669e-3,-1.1005605000455604e-4,-6.1319156069318935e-6,-3.2935508110910406e-7,-1.7191032233287095e-8,-8.7689564949456051e-10,-4.3891327421555598e-11,-2.162371243876891e-12,-1.0510758303192561e-13,-5.050152652147525e-15,-2.4021326807780191e-16,-1.13252456094609e-17,-5.2978702785709916e-19,-2.4611151381281306e-20,-1.136206138437176e-21,-5.2161429264531272e-23,-2.3825656878121431e-24,-1.0833008034004647e-25,-4.90504146457511e-27,-2.2125104504283764e-28,-9.9453199482880906e-30,-4.4562492734401311e-31,-1.990906520095755e-32,-8.870844197042225e-34,-3.942791584616638e-35,-1.7484405616501958e-36,-7.7371645743979451e-38,-3.4171620802247971e-39,-1.5064903254088111e-40,-6.62991832e-42,-2.9185194497284391e-43,0,4.8157570640589583e7,0},
-                                 {0,-4.5400641590647626e1,4.592944072290298e1,5.4152949228068415,4.4605208788965394e-1,3.0957855175292373e-2,1.9401257733858771e-3,1.1359599038183766e-4,6.3352983557777659e-6,3.4062207577440708e-7,1.779764292982174e-8,9.0881166663306183e-10,4.5538853199080093e-11,2.2460608242471434e-12,1.093005000313027e-13,5.2577127914273409e-15,2.503798951160715e-16,1.1818558786900992e-17,5.5352273747913896e-19,2.5744515270141653e-20,1.1899496335696794e-21,5.46938283157411e-23,2.5012013023700954e-24,1.1385816395726023e-25,5.1613648202893946e-27,2.3308185824901066e-28,1.0489066911521921e-29,4.7051719268000076e-31,2.104442938902573e-32,9.3869240194894377e-34,4.176625931799932e-35,1.8540737514739e-36,8.213022169e-38,3.6309663e-39,1.6023e-40,7e-42,0,0,0,5.3503527670172188e7}};
+    protected int getBoundaryType() {
+        return BoundaryTables.FF;
     }
 }
@@ -47,141 +47,7 @@ public class Boundary_SC_200 extends Boundary{
     }
 
     @Override
-    protected void initArrays() {
-        c1_ = new double[]{-9.3756820585695864e-1,9.3508015351189237e-1,-9.3516869640802995e-1,9.3510571602641999e-1,-9.3602219657032599e-1,9.388258275459855e-1,-9.3518663706332111e-1,9.3718978458018309e-1,-9.3674877920067952e-1,9.3509680572491018e-1,-9.4323997213085688e-1,9.3602219657029572e-1,-9.4846326646359423e-1,9.3529139910895097e-1,-9.4260917124830378e-1,9.5500793298078076e-1,-9.3868199529832822e-1,9.3550182870066623e-1,-9.4552473607020736e-1,9.6970228144386236e-1};
-        c2_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c3_ = new double[]{-2.6134615784647017e-2,-1.1259454648946456e-3,-4.8661087372097918e-5,-2.102694630724461e-6,-9.0954729742590813e-8,-3.9422831617015047e-9,-1.6970112641489953e-10,-7.3491586828079045e-12,-3.1743649892620025e-13,-1.3693483549815921e-14,-5.9690224717136532e-16,-2.5597102697368688e-17,-1.1208534294512742e-18,-4.7763802753329038e-20,-2.0802103972170285e-21,-9.1076477854917856e-23,-3.8684891388862246e-24,-1.6660620844586603e-25,-7.2768442798208676e-27,-3.2250187944821747e-28};
-        c4_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-
-        cv_ = new double[]{3.9266023120479187,7.068582745628732,1.021017612281303e1,1.3351768777754093e1,1.6493361431346409e1,1.9634954084936207e1,2.2776546738526e1,2.5918139392115794e1,2.9059732045705587e1,3.220132469929538e1,3.5342917352885173e1,3.8484510006474967e1,4.162610266006476e1,4.4767695313654553e1,4.7909287967244346e1,5.105088062083414e1,5.4192473274423933e1,5.7334065928013726e1,6.0475658581603519e1,6.3617251235193313e1};
-
-        IX_ = new double[]{-5.6992537355255392e-1,-5.4635831339452445e-2,-2.2111746785971078e-1,-2.9009741974022784e-2,-1.3701011768242932e-1,-1.9805209874758508e-2,-9.9125661510387733e-2,-1.4977800428119083e-2,-7.7822865115392776e-2,-1.2028380281867061e-2,-6.4431091258085953e-2,-1.0074523189627187e-2,-5.5008581995015277e-2,-8.6537933116175206e-3,-4.7499345989044762e-2,-7.7486858836495369e-3,-4.1817224180358307e-2,-6.7585917517026217e-3,-3.7745742583352777e-2,-6.313756546211444e-3};
-
-        IXX_ =   new double[][] {{4.3917556124581262e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,4.3718681286931714e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,4.3727024418679633e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,4.3721135007043115e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,4.3806877623616486e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,4.4069696723370224e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,4.3728702307090194e-1,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,4.3916234616072499e-1,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,4.3874913766698172e-1,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,4.3720301803846521e-1,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,4.4485082251270983e-1,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,4.3806877623614066e-1,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,4.4979128391539547e-1,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,4.3738500062358951e-1,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4425602486070704e-1,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5602007602811172e-1,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4056194414862534e-1,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.3758183575114533e-1,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4700851326031764e-1,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7016125731871582e-1}};
-
-        IXdX_ =  new double[][] {{0,1.3129841215279704,-1.388409445161085e-1,4.4159749424586682e-1,-1.2723111581273867e-1,2.585646163332598e-1,-1.0773569044471613e-1,1.8021570068047177e-1,-9.2059731243004804e-2,1.3752378694792932e-1,-8.0358480772810667e-2,1.1121942406583561e-1,-7.1133296348267243e-2,9.3125074873501733e-2,-6.3058736850450519e-2,8.1777669018270369e-2,-5.6634845478920405e-2,7.024368241805934e-2,-5.1928573374127991e-2,6.4813007613945464e-2},
-                                 {-1.3129841215279704,3e-200,2.2503386026510695,-1.1081989527451634e-1,7.9187538502325132e-1,-1.3132295244756799e-1,4.7004000103096418e-1,-1.2685077507951879e-1,3.302398028620899e-1,-1.1697369029402618e-1,2.5422018885275774e-1,-1.070643830894624e-1,2.0609027097266602e-1,-9.7824285836298951e-2,1.7117749143821968e-1,-9.1664774445846098e-2,1.4620927600969691e-1,-8.2786064915384295e-2,1.2881197448193014e-1,-7.9497191726138127e-2},
-                                 {1.388409445161085e-1,-2.2503386026510695,0,3.164767970116105,-9.2196800183238705e-2,1.1380132935632173,-1.2437647388245483e-1,6.8743528344347777e-1,-1.3151950125155532e-1,4.8590286601788339e-1,-1.2977598788169172e-1,3.7366698460615313e-1,-1.2438223229563255e-1,3.0167729051594009e-1,-1.1657074273532335e-1,2.5763206857695296e-1,-1.0908404568474759e-1,2.1645072522152794e-1,-1.0322354166514097e-1,1.9614487874510267e-1},
-                                 {-4.4159749424586682e-1,1.1081989527451634e-1,-3.164767970116105,0,4.0664525904764051,-7.7754235204031813e-2,1.4625267254893408,-1.1416916587449864e-1,8.9724979793323599e-1,-1.2801613917956472e-1,6.4567534931492847e-1,-1.314145975347594e-1,5.0155624445724765e-1,-1.2947921739863779e-1,4.0408072227316797e-1,-1.2796586328209133e-1,3.3719439786524841e-1,-1.2023733651242653e-1,2.9160738304062809e-1,-1.1904054343086162e-1},
-                                 {1.2723111581273867e-1,-7.9187538502325132e-1,9.2196800183238705e-2,-4.0664525904764051,0,4.9770398635509001,-6.653251698497514e-2,1.7880020840563202,-1.0383502442148045e-1,1.1009363225675024,-1.2303098551586043e-1,7.9305557401111565e-1,-1.3147307559808681e-1,6.1530861234820737e-1,-1.3246803309667029e-1,5.1112466630448506e-1,-1.3052733772152185e-1,4.2055389868460927e-1,-1.2837831032369893e-1,3.7484844913340144e-1},
-                                 {-2.585646163332598e-1,1.3132295244756799e-1,-1.1380132935632173,7.7754235204031813e-2,-4.9770398635509001,0,5.8616667741643659,-5.8414099495461234e-2,2.1078280828897763,-9.4598054371518722e-2,1.3157758707525825,-1.1537663214489429e-1,9.5710085106612776e-1,-1.2604433711183161e-1,7.4181013249078376e-1,-1.3351224924162596e-1,6.0297796696197265e-1,-1.3185568703094288e-1,5.1142157778542163e-1,-1.3553249057679036e-1},
-                                 {1.0773569044471613e-1,-4.7004000103096418e-1,1.2437647388245483e-1,-1.4625267254893408,6.653251698497514e-2,-5.8616667741643659,0,6.7361564550286318,-5.1555491164777019e-2,2.4049631835837188,-8.6844651800494143e-2,1.496339410808089,-1.0931939026068099e-1,1.0857634017779388,-1.2153740927910641e-1,8.6771437778317978e-1,-1.2798370556792808e-1,6.9586680952410186e-1,-1.3207074090732399e-1,6.0877945500300744e-1},
-                                 {-1.8021570068047177e-1,1.2685077507951879e-1,-6.8743528344347777e-1,1.1416916587449864e-1,-1.7880020840563202,5.8414099495461234e-2,-6.7361564550286318,0,7.6317215430604877,-4.6276490359117472e-2,2.7401285956460263,-7.9305702573853737e-2,1.7150014514055166,-1.0135436728541716e-1,1.2411598774831739,-1.1796798853220207e-1,9.7017676515567145e-1,-1.241833582628084e-1,8.0210597404792863e-1,-1.3370260629310163e-1},
-                                 {9.2059731243004804e-2,-3.302398028620899e-1,1.3151950125155532e-1,-8.9724979793323599e-1,1.0383502442148045e-1,-2.1078280828897763,5.1555491164777019e-2,-7.6317215430604877,0,8.4957174851810993,-4.2288654464240412e-2,3.0219198572868579,-7.4136193329468028e-2,1.8805746843503896,-9.58856771294053e-2,1.4010862597663442,-1.1055441145904475e-1,1.0797852780525936,-1.2132205584711898e-1,9.2067094909853916e-1},
-                                 {-1.3752378694792932e-1,1.1697369029402618e-1,-4.8590286601788339e-1,1.2801613917956472e-1,-1.1009363225675024,9.4598054371518722e-2,-2.4049631835837188,4.6276490359117472e-2,-8.4957174851810993,0,9.4407867029443107,-3.8291037606742019e-2,3.3623048097462545,-6.7687615361706631e-2,2.0812177558301327,-9.1237357803575442e-2,1.5143349371842931,-1.0484193795934245e-1,1.2022613897923577,-1.1979299330637672e-1},
-                                 {8.0358480772810667e-2,-2.5422018885275774e-1,1.2977598788169172e-1,-6.4567534931492847e-1,1.2303098551586043e-1,-1.3157758707525825,8.6844651800494143e-2,-2.7401285956460263,4.2288654464240412e-2,-9.4407867029443107,0,1.033649718901251e1,-3.6031999342879968e-2,3.6469961689404208,-6.411279380330607e-2,2.3186634627744733,-8.5289353841770918e-2,1.6611259465249293,-1.0190673601240426e-1,1.3590495998639916},
-                                 {-1.1121942406583561e-1,1.070643830894624e-1,-3.7366698460615313e-1,1.314145975347594e-1,-7.9305557401111565e-1,1.1537663214489429e-1,-1.496339410808089,7.9305702573853737e-2,-3.0219198572868579,3.8291037606742019e-2,-1.033649718901251e1,0,1.1284467495104163e1,-3.2661768615095026e-2,3.9487699899770301,-6.0306797036634389e-2,2.447188939704276,-7.9711621863727712e-2,1.8039037449265098,-9.89480751711564e-2},
-                                 {7.1133296348267243e-2,-2.0609027097266602e-1,1.2438223229563255e-1,-5.0155624445724765e-1,1.3147307559808681e-1,-9.5710085106612776e-1,1.0931939026068099e-1,-1.7150014514055166,7.4136193329468028e-2,-3.3623048097462545,3.6031999342879968e-2,-1.1284467495104163e1,0,1.2165265910369397e1,-3.1062030048862394e-2,4.3622958721728172,-5.6406380950931573e-2,2.657582467304173,-7.7324274577243676e-2,2.0166335937324293},
-                                 {-9.3125074873501733e-2,9.7824285836298951e-2,-3.0167729051594009e-1,1.2947921739863779e-1,-6.1530861234820737e-1,1.2604433711183161e-1,-1.0857634017779388,1.0135436728541716e-1,-1.8805746843503896,6.7687615361706631e-2,-3.6469961689404208,3.2661768615095026e-2,-1.2165265910369397e1,0,1.297395926891923e1,-2.9034823804319525e-2,4.5263294169239693,-5.2237199476721577e-2,2.8334278988916729,-7.4234943184888061e-2},
-                                 {6.3058736850450519e-2,-1.7117749143821968e-1,1.1657074273532335e-1,-4.0408072227316797e-1,1.3246803309667029e-1,-7.4181013249078376e-1,1.2153740927910641e-1,-1.2411598774831739,9.58856771294053e-2,-2.0812177558301327,6.411279380330607e-2,-3.9487699899770301,3.1062030048862394e-2,-1.297395926891923e1,0,1.4149588989253248e1,-2.7019508276096729e-2,4.8451136657964754,-5.0296608210106037e-2,3.1186431347819885},
-                                 {-8.1777669018270369e-2,9.1664774445846098e-2,-2.5763206857695296e-1,1.2796586328209133e-1,-5.1112466630448506e-1,1.3351224924162596e-1,-8.6771437778317978e-1,1.1796798853220207e-1,-1.4010862597663442,9.1237357803575442e-2,-2.3186634627744733,6.0306797036634389e-2,-4.3622958721728172,2.9034823804319525e-2,-1.4149588989253248e1,1e-199,1.4988780756126597e1,-2.5722519217175243e-2,5.266885720358745,-4.9539370421479806e-2},
-                                 {5.6634845478920405e-2,-1.4620927600969691e-1,1.0908404568474759e-1,-3.3719439786524841e-1,1.3052733772152185e-1,-6.0297796696197265e-1,1.2798370556792808e-1,-9.7017676515567145e-1,1.1055441145904475e-1,-1.5143349371842931,8.5289353841770918e-2,-2.447188939704276,5.6406380950931573e-2,-4.5263294169239693,2.7019508276096729e-2,-1.4988780756126597e1,0,1.5562245646734841e1,-2.4170777731820481e-2,5.6166566668804833},
-                                 {-7.024368241805934e-2,8.2786064915384295e-2,-2.1645072522152794e-1,1.2023733651242653e-1,-4.2055389868460927e-1,1.3185568703094288e-1,-6.9586680952410186e-1,1.241833582628084e-1,-1.0797852780525936,1.0484193795934245e-1,-1.6611259465249293,7.9711621863727712e-2,-2.657582467304173,5.2237199476721577e-2,-4.8451136657964754,2.5722519217175243e-2,-1.5562245646734841e1,0,1.6561556268971137e1,-2.3435722596116659e-2},
-                                 {5.1928573374127991e-2,-1.2881197448193014e-1,1.0322354166514097e-1,-2.9160738304062809e-1,1.2837831032369893e-1,-5.1142157778542163e-1,1.3207074090732399e-1,-8.0210597404792863e-1,1.2132205584711898e-1,-1.2022613897923577,1.0190673601240426e-1,-1.8039037449265098,7.7324274577243676e-2,-2.8334278988916729,5.0296608210106037e-2,-5.266885720358745,2.4170777731820481e-2,-1.6561556268971137e1,1e-199,1.8085133280327375e1},
-                                 {-6.4813007613945464e-2,7.9497191726138127e-2,-1.9614487874510267e-1,1.1904054343086162e-1,-3.7484844913340144e-1,1.3553249057679036e-1,-6.0877945500300744e-1,1.3370260629310163e-1,-9.2067094909853916e-1,1.1979299330637672e-1,-1.3590495998639916,9.89480751711564e-2,-2.0166335937324293,7.4234943184888061e-2,-3.1186431347819885,4.9539370421479806e-2,-5.6166566668804833,2.3435722596116659e-2,-1.8085133280327375e1,0}};
-
-        IXdX2_ = new double[][] {{-5.0560218398658317,1.8763878885615311,1.66464819586987,1.4390974385535679,1.2533745785652609,1.1070431215103748,9.8275210335398138e-1,8.8703748113650604e-1,8.0589128986692298e-1,7.3697796775902482e-1,6.8563746231026047e-1,6.3120188412441273e-1,5.9637818006167412e-1,5.508152827179472e-1,5.2198898945991329e-1,4.9903407100888294e-1,4.6429848457203635e-1,4.3924189565977438e-1,4.224927224335579e-1,4.1331096267193607e-1},
-                                 {1.8763878885615311,-1.8753746487580732e1,3.4187389584781461,3.3422285168940214,3.1360708502333193,2.9082680169087647,2.6707475405872153,2.471003637763272,2.2874620240941528,2.1227631746408632,1.998242918396712,1.8573841557747313,1.7690329986373076,1.6449841000505952,1.5679579394915688,1.506541795176621,1.4078310036399073,1.3370033414752223,1.2904306687472019,1.2662525493217591},
-                                 {1.66464819586987,3.4187389584781461,-4.1119809714824589e1,4.8827935238130971,4.9409735045234343,4.827891347746004,4.602779446625648,4.3783804325224461,4.1399661043368396,3.9062077742191649,3.7263114326085538,3.501466989173284,3.3651169899697569,3.1529936428117051,3.024868863452045,2.9226417154320641,2.7444317769457809,2.6174820730731802,2.5358348001702108,2.4966753818739387},
-                                 {1.4390974385535679,3.3422285168940214,4.8827935238130971,-7.2104004256637149e1,6.3167939663325192,6.488555017691142,6.422978150899023,6.2880304405232921,6.0803241035974995,5.8399415264247295,5.6515895277594642,5.3735404646443852,5.2152031794144744,4.9270337269923267,4.7602612402024699,4.6273965326425891,4.3682277295334823,4.1854730340833714,4.0714978101150969,4.0231871868581391},
-                                 {1.2533745785652609,3.1360708502333193,4.9409735045234343,6.3167939663325192,-1.119430480396792e2,7.7588011913200259,7.9557453367065203,8.0096741661820543,7.9207194249104177,7.7469692464597573,7.6094773842111573,7.3248849569849193,7.182932547146761,6.8457383688482839,6.6637702738526084,6.5198127189705415,6.1893982257355891,5.9597948197849511,5.8228211581422956,5.7760479655344596},
-                                 {1.1070431215103748,2.9082680169087647,4.827891347746004,6.488555017691142,7.7588011913200259,-1.6124946369535814e2,9.1569634630138469,9.4624051199616708,9.56080946987154,9.5193209921977924,9.4904812062697901,9.2504441912143215,9.1677399210382441,8.8167414696119667,8.6494418024047018,8.5198974523136209,8.1359334916862579,7.8748153312793675,7.7291664425825433,7.6983969393643008},
-                                 {9.8275210335398138e-1,2.6707475405872153,4.602779446625648,6.422978150899023,7.9557453367065203,9.1569634630138469,-2.1689197349193117e2,1.053708765249867e1,1.0861868484584878e1,1.1000066990197293e1,1.1126369638490042e1,1.097955806537655e1,1.0997138717354893e1,1.0673062634483443e1,1.0553771960765046e1,1.0467785596866659e1,1.0056842633678844e1,9.7863149992066395,9.6510369143071953,9.6534122814713446},
-                                 {8.8703748113650604e-1,2.471003637763272,4.3783804325224461,6.2880304405232921,8.0096741661820543,9.4624051199616708,1.053708765249867e1,-2.8362501297378865e2,1.1948736068462118e1,1.2293855409871548e1,1.2606929271188501e1,1.2589669555636217e1,1.2741110188157801e1,1.2477853942056856e1,1.2436371989383401e1,1.242113750580039e1,1.2007039361738913e1,1.1747895802417435e1,1.1641892887905412e1,1.1695464406321846e1},
-                                 {8.0589128986692298e-1,2.2874620240941528,4.1399661043368396,6.0803241035974995,7.9207194249104177,9.56080946987154,1.0861868484584878e1,1.1948736068462118e1,-3.5775968606825229e2,1.3309946377212799e1,1.3825090882124969e1,1.3963200274205813e1,1.4272753673882449e1,1.4101370737400984e1,1.4164261429021656e1,1.4244838164694612e1,1.3854689285576082e1,1.3630098477055473e1,1.3573507771469806e1,1.3696188402764414e1},
-                                 {7.3697796775902482e-1,2.1227631746408632,3.9062077742191649,5.8399415264247295,7.7469692464597573,9.5193209921977924,1.1000066990197293e1,1.2293855409871548e1,1.3309946377212799e1,-4.3926835971377769e2,1.4797471835287735e1,1.5104521154335951e1,1.5586271034627493e1,1.5529870022732613e1,1.5717401354290404e1,1.5913970493085784e1,1.5572108734288556e1,1.540322486889132e1,1.5414585294218959e1,1.5622846950345275e1},
-                                 {6.8563746231026047e-1,1.998242918396712,3.7263114326085538,5.6515895277594642,7.6094773842111573,9.4904812062697901,1.1126369638490042e1,1.2606929271188501e1,1.3825090882124969e1,1.4797471835287735e1,-5.3995053741380879e2,1.6207131125043327e1,1.6873556666558579e1,1.6948195152372682e1,1.7277740441477643e1,1.7608732309783566e1,1.733265385748641e1,1.7236608978931493e1,1.7333091490083034e1,1.7644693844007445e1},
-                                 {6.3120188412441273e-1,1.8573841557747313,3.501466989173284,5.3735404646443852,7.3248849569849193,9.2504441912143215,1.097955806537655e1,1.2589669555636217e1,1.3963200274205813e1,1.5104521154335951e1,1.6207131125043327e1,-6.319461889305425e2,1.7698340421647917e1,1.7911853295629329e1,1.8386687939989851e1,1.8857129963870343e1,1.8668031713321175e1,1.8661614814585784e1,1.8855453554216327e1,1.9277838957044393e1},
-                                 {5.9637818006167412e-1,1.7690329986373076,3.3651169899697569,5.2152031794144744,7.182932547146761,9.1677399210382441,1.0997138717354893e1,1.2741110188157801e1,1.4272753673882449e1,1.5586271034627493e1,1.6873556666558579e1,1.7698340421647917e1,-7.6064488291302193e2,1.9083886702350607e1,1.9718116587570427e1,2.0344239174194354e1,2.0251308560760966e1,2.0346713138438383e1,2.0653377563199027e1,2.1205875027511825e1},
-                                 {5.508152827179472e-1,1.6449841000505952,3.1529936428117051,4.9270337269923267,6.8457383688482839,8.8167414696119667,1.0673062634483443e1,1.2477853942056856e1,1.4101370737400984e1,1.5529870022732613e1,1.6948195152372682e1,1.7911853295629329e1,1.9083886702350607e1,-8.5700291882165118e2,2.0356029640521212e1,2.112210986530809e1,2.113635706666635e1,2.1339168650688758e1,2.1757952414905085e1,2.2432459397360795e1},
-                                 {5.2198898945991329e-1,1.5679579394915688,3.024868863452045,4.7602612402024699,6.6637702738526084,8.6494418024047018,1.0553771960765046e1,1.2436371989383401e1,1.4164261429021656e1,1.5717401354290404e1,1.7277740441477643e1,1.8386687939989851e1,1.9718116587570427e1,2.0356029640521212e1,-9.9841680785075084e2,2.2203722689734665e1,2.2329873197141836e1,2.2648956177705349e1,2.319311885769375e1,2.4007874891724921e1},
-                                 {4.9903407100888294e-1,1.506541795176621,2.9226417154320641,4.6273965326425891,6.5198127189705415,8.5198974523136209,1.0467785596866659e1,1.242113750580039e1,1.4244838164694612e1,1.5913970493085784e1,1.7608732309783566e1,1.8857129963870343e1,2.0344239174194354e1,2.112210986530809e1,2.2203722689734665e1,-1.1651958354762886e3,2.3523342185461516e1,2.3965119955272038e1,2.4642366438993844e1,2.5606413414859755e1},
-                                 {4.6429848457203635e-1,1.4078310036399073,2.7444317769457809,4.3682277295334823,6.1893982257355891,8.1359334916862579,1.0056842633678844e1,1.2007039361738913e1,1.3854689285576082e1,1.5572108734288556e1,1.733265385748641e1,1.8668031713321175e1,2.0251308560760966e1,2.113635706666635e1,2.2329873197141836e1,2.3523342185461516e1,-1.2699778199916526e3,2.4425721259651243e1,2.521507885538416e1,2.6298476609316675e1},
-                                 {4.3924189565977438e-1,1.3370033414752223,2.6174820730731802,4.1854730340833714,5.9597948197849511,7.8748153312793675,9.7863149992066395,1.1747895802417435e1,1.3630098477055473e1,1.540322486889132e1,1.7236608978931493e1,1.8661614814585784e1,2.0346713138438383e1,2.1339168650688758e1,2.2648956177705349e1,2.3965119955272038e1,2.4425721259651243e1,-1.4133285274406566e3,2.5996332317393393e1,2.7209221604026969e1},
-                                 {4.224927224335579e-1,1.2904306687472019,2.5358348001702108,4.0714978101150969,5.8228211581422956,7.7291664425825433,9.6510369143071953,1.1641892887905412e1,1.3573507771469806e1,1.5414585294218959e1,1.7333091490083034e1,1.8855453554216327e1,2.0653377563199027e1,2.1757952414905085e1,2.319311885769375e1,2.4642366438993844e1,2.521507885538416e1,2.5996332317393393e1,-1.607813461913684e3,2.8389853548717759e1},
-                                 {4.1331096267193607e-1,1.2662525493217591,2.4966753818739387,4.0231871868581391,5.7760479655344596,7.6983969393643008,9.6534122814713446,1.1695464406321846e1,1.3696188402764414e1,1.5622846950345275e1,1.7644693844007445e1,1.9277838957044393e1,2.1205875027511825e1,2.2432459397360795e1,2.4007874891724921e1,2.5606413414859755e1,2.6298476609316675e1,2.7209221604026969e1,2.8389853548717759e1,-1.8729049541993509e3}};
-
-        IdXdX_ = new double[][] {{5.0560218398658317,-1.8763878885615311,-1.66464819586987,-1.4390974385535679,-1.2533745785652609,-1.1070431215103748,-9.8275210335398138e-1,-8.8703748113650604e-1,-8.0589128986692298e-1,-7.3697796775902482e-1,-6.8563746231026047e-1,-6.3120188412441273e-1,-5.9637818006167412e-1,-5.508152827179472e-1,-5.2198898945991329e-1,-4.9903407100888294e-1,-4.6429848457203635e-1,-4.3924189565977438e-1,-4.224927224335579e-1,-4.1331096267193607e-1},
-                                 {-1.8763878885615311,1.8753746487580732e1,-3.4187389584781461,-3.3422285168940214,-3.1360708502333193,-2.9082680169087647,-2.6707475405872153,-2.471003637763272,-2.2874620240941528,-2.1227631746408632,-1.998242918396712,-1.8573841557747313,-1.7690329986373076,-1.6449841000505952,-1.5679579394915688,-1.506541795176621,-1.4078310036399073,-1.3370033414752223,-1.2904306687472019,-1.2662525493217591},
-                                 {-1.66464819586987,-3.4187389584781461,4.1119809714824589e1,-4.8827935238130971,-4.9409735045234343,-4.827891347746004,-4.602779446625648,-4.3783804325224461,-4.1399661043368396,-3.9062077742191649,-3.7263114326085538,-3.501466989173284,-3.3651169899697569,-3.1529936428117051,-3.024868863452045,-2.9226417154320641,-2.7444317769457809,-2.6174820730731802,-2.5358348001702108,-2.4966753818739387},
-                                 {-1.4390974385535679,-3.3422285168940214,-4.8827935238130971,7.2104004256637149e1,-6.3167939663325192,-6.488555017691142,-6.422978150899023,-6.2880304405232921,-6.0803241035974995,-5.8399415264247295,-5.6515895277594642,-5.3735404646443852,-5.2152031794144744,-4.9270337269923267,-4.7602612402024699,-4.6273965326425891,-4.3682277295334823,-4.1854730340833714,-4.0714978101150969,-4.0231871868581391},
-                                 {-1.2533745785652609,-3.1360708502333193,-4.9409735045234343,-6.3167939663325192,1.119430480396792e2,-7.7588011913200259,-7.9557453367065203,-8.0096741661820543,-7.9207194249104177,-7.7469692464597573,-7.6094773842111573,-7.3248849569849193,-7.182932547146761,-6.8457383688482839,-6.6637702738526084,-6.5198127189705415,-6.1893982257355891,-5.9597948197849511,-5.8228211581422956,-5.7760479655344596},
-                                 {-1.1070431215103748,-2.9082680169087647,-4.827891347746004,-6.488555017691142,-7.7588011913200259,1.6124946369535814e2,-9.1569634630138469,-9.4624051199616708,-9.56080946987154,-9.5193209921977924,-9.4904812062697901,-9.2504441912143215,-9.1677399210382441,-8.8167414696119667,-8.6494418024047018,-8.5198974523136209,-8.1359334916862579,-7.8748153312793675,-7.7291664425825433,-7.6983969393643008},
-                                 {-9.8275210335398138e-1,-2.6707475405872153,-4.602779446625648,-6.422978150899023,-7.9557453367065203,-9.1569634630138469,2.1689197349193117e2,-1.053708765249867e1,-1.0861868484584878e1,-1.1000066990197293e1,-1.1126369638490042e1,-1.097955806537655e1,-1.0997138717354893e1,-1.0673062634483443e1,-1.0553771960765046e1,-1.0467785596866659e1,-1.0056842633678844e1,-9.7863149992066395,-9.6510369143071953,-9.6534122814713446},
-                                 {-8.8703748113650604e-1,-2.471003637763272,-4.3783804325224461,-6.2880304405232921,-8.0096741661820543,-9.4624051199616708,-1.053708765249867e1,2.8362501297378865e2,-1.1948736068462118e1,-1.2293855409871548e1,-1.2606929271188501e1,-1.2589669555636217e1,-1.2741110188157801e1,-1.2477853942056856e1,-1.2436371989383401e1,-1.242113750580039e1,-1.2007039361738913e1,-1.1747895802417435e1,-1.1641892887905412e1,-1.1695464406321846e1},
-                                 {-8.0589128986692298e-1,-2.2874620240941528,-4.1399661043368396,-6.0803241035974995,-7.9207194249104177,-9.56080946987154,-1.0861868484584878e1,-1.1948736068462118e1,3.5775968606825229e2,-1.3309946377212799e1,-1.3825090882124969e1,-1.3963200274205813e1,-1.4272753673882449e1,-1.4101370737400984e1,-1.4164261429021656e1,-1.4244838164694612e1,-1.3854689285576082e1,-1.3630098477055473e1,-1.3573507771469806e1,-1.3696188402764414e1},
-                                 {-7.3697796775902482e-1,-2.1227631746408632,-3.9062077742191649,-5.8399415264247295,-7.7469692464597573,-9.5193209921977924,-1.1000066990197293e1,-1.2293855409871548e1,-1.3309946377212799e1,4.3926835971377769e2,-1.4797471835287735e1,-1.5104521154335951e1,-1.5586271034627493e1,-1.5529870022732613e1,-1.5717401354290404e1,-1.5913970493085784e1,-1.5572108734288556e1,-1.540322486889132e1,-1.5414585294218959e1,-1.5622846950345275e1},
-                                 {-6.8563746231026047e-1,-1.998242918396712,-3.7263114326085538,-5.6515895277594642,-7.6094773842111573,-9.4904812062697901,-1.1126369638490042e1,-1.2606929271188501e1,-1.3825090882124969e1,-1.4797471835287735e1,5.3995053741380879e2,-1.6207131125043327e1,-1.6873556666558579e1,-1.6948195152372682e1,-1.7277740441477643e1,-1.7608732309783566e1,-1.733265385748641e1,-1.7236608978931493e1,-1.7333091490083034e1,-1.7644693844007445e1},
-                                 {-6.3120188412441273e-1,-1.8573841557747313,-3.501466989173284,-5.3735404646443852,-7.3248849569849193,-9.2504441912143215,-1.097955806537655e1,-1.2589669555636217e1,-1.3963200274205813e1,-1.5104521154335951e1,-1.6207131125043327e1,6.319461889305425e2,-1.7698340421647917e1,-1.7911853295629329e1,-1.8386687939989851e1,-1.8857129963870343e1,-1.8668031713321175e1,-1.8661614814585784e1,-1.8855453554216327e1,-1.9277838957044393e1},
-                                 {-5.9637818006167412e-1,-1.7690329986373076,-3.3651169899697569,-5.2152031794144744,-7.182932547146761,-9.1677399210382441,-1.0997138717354893e1,-1.2741110188157801e1,-1.4272753673882449e1,-1.5586271034627493e1,-1.6873556666558579e1,-1.7698340421647917e1,7.6064488291302193e2,-1.9083886702350607e1,-1.9718116587570427e1,-2.0344239174194354e1,-2.0251308560760966e1,-2.0346713138438383e1,-2.0653377563199027e1,-2.1205875027511825e1},
-                                 {-5.508152827179472e-1,-1.6449841000505952,-3.1529936428117051,-4.9270337269923267,-6.8457383688482839,-8.8167414696119667,-1.0673062634483443e1,-1.2477853942056856e1,-1.4101370737400984e1,-1.5529870022732613e1,-1.6948195152372682e1,-1.7911853295629329e1,-1.9083886702350607e1,8.5700291882165118e2,-2.0356029640521212e1,-2.112210986530809e1,-2.113635706666635e1,-2.1339168650688758e1,-2.1757952414905085e1,-2.2432459397360795e1},
-                                 {-5.2198898945991329e-1,-1.5679579394915688,-3.024868863452045,-4.7602612402024699,-6.6637702738526084,-8.6494418024047018,-1.0553771960765046e1,-1.2436371989383401e1,-1.4164261429021656e1,-1.5717401354290404e1,-1.7277740441477643e1,-1.8386687939989851e1,-1.9718116587570427e1,-2.0356029640521212e1,9.9841680785075084e2,-2.2203722689734665e1,-2.2329873197141836e1,-2.2648956177705349e1,-2.319311885769375e1,-2.4007874891724921e1},
-                                 {-4.9903407100888294e-1,-1.506541795176621,-2.9226417154320641,-4.6273965326425891,-6.5198127189705415,-8.5198974523136209,-1.0467785596866659e1,-1.242113750580039e1,-1.4244838164694612e1,-1.5913970493085784e1,-1.7608732309783566e1,-1.8857129963870343e1,-2.0344239174194354e1,-2.112210986530809e1,-2.2203722689734665e1,1.1651958354762886e3,-2.3523342185461516e1,-2.3965119955272038e1,-2.4642366438993844e1,-2.5606413414859755e1},
-                                 {-4.6429848457203635e-1,-1.4078310036399073,-2.7444317769457809,-4.3682277295334823,-6.1893982257355891,-8.1359334916862579,-1.0056842633678844e1,-1.2007039361738913e1,-1.3854689285576082e1,-1.5572108734288556e1,-1.733265385748641e1,-1.8668031713321175e1,-2.0251308560760966e1,-2.113635706666635e1,-2.2329873197141836e1,-2.3523342185461516e1,1.2699778199916526e3,-2.4425721259651243e1,-2.521507885538416e1,-2.6298476609316675e1},
-                                 {-4.3924189565977438e-1,-1.3370033414752223,-2.6174820730731802,-4.1854730340833714,-5.9597948197849511,-7.8748153312793675,-9.7863149992066395,-1.1747895802417435e1,-1.3630098477055473e1,-1.540322486889132e1,-1.7236608978931493e1,-1.8661614814585784e1,-2.0346713138438383e1,-2.1339168650688758e1,-2.2648956177705349e1,-2.3965119955272038e1,-2.4425721259651243e1,1.4133285274406566e3,-2.5996332317393393e1,-2.7209221604026969e1},
-                                 {-4.224927224335579e-1,-1.2904306687472019,-2.5358348001702108,-4.0714978101150969,-5.8228211581422956,-7.7291664425825433,-9.6510369143071953,-1.1641892887905412e1,-1.3573507771469806e1,-1.5414585294218959e1,-1.7333091490083034e1,-1.8855453554216327e1,-2.0653377563199027e1,-2.1757952414905085e1,-2.319311885769375e1,-2.4642366438993844e1,-2.521507885538416e1,-2.5996332317393393e1,1.607813461913684e3,-2.8389853548717759e1},
-                                 {-4.1331096267193607e-1,-1.2662525493217591,-2.4966753818739387,-4.0231871868581391,-5.7760479655344596,-7.6983969393643008,-9.6534122814713446,-1.1695464406321846e1,-1.3696188402764414e1,-1.5622846950345275e1,-1.7644693844007445e1,-1.9277838957044393e1,-2.1205875027511825e1,-2.2432459397360795e1,-2.4007874891724921e1,-2.5606413414859755e1,-2.6298476609316675e1,-2.7209221604026969e1,-2.8389853548717759e1,1.8729049541993509e3}};
-
-        IdXdX2_ = new double[][]{{-7.1596221242025493,5.2292590785627714e1,-3.1473506313820153e1,5.9508773032422295e1,-5.528317472730403e1,7.7948042767057455e1,-7.8273859872965015e1,9.8069526756532383e1,-1.0116048451074935e2,1.1887022890592339e2,-1.24609958876216e2,1.4043086809365533e2,-1.4807986826123928e2,1.6197756618835752e2,-1.6974683152946205e2,1.8765221169496223e2,-1.9148806569418388e2,2.0572116595900469e2,-2.1546917126479811e2,2.3601455810073253e2},
-                                 {-2.7311121489707257e1,-2.1791436662326885e1,1.9969111392427397e2,-6.4380205850651091e1,1.636902968577737e2,-1.0773283266176323e2,1.8301275346580021e2,-1.4925581847956992e2,2.1240392113243474e2,-1.8964876659579191e2,2.4692824736302751e2,-2.300490278038907e2,2.8346134530009287e2,-2.6969635133523973e2,3.1778392600541615e2,-3.1580632495922452e2,3.5309709010311752e2,-3.4878978597539938e2,3.930650699667862e2,-4.0229293608915011e2},
-                                 {-4.6596450892097814,-1.3665292582714886e2,-4.5589159862948234e1,4.9898806146273726e2,-1.0657366765106442e2,3.4394445712478157e2,-1.6935833910295645e2,3.4830514260648002e2,-2.313703193476249e2,3.7805991625597228e2,-2.9380473348345497e2,4.1867005257165891e2,-3.5559783198985696e2,4.6345324037187395e2,-4.1248412449976796e2,5.2223530894303235e2,-4.690882065193984e2,5.6144487702478993e2,-5.3087628363736254e2,6.3499703399167014e2},
-                                 {-1.2263475708748776e1,-1.8044321868361866e1,-3.7976937563945422e2,-7.7941198588428616e1,1.0020159046085744e3,-1.5737917938655354e2,6.124233088767829e2,-2.3966718087185355e2,5.8100617699800524e2,-3.2079702842695357e2,6.0678349748789713e2,-4.0143064844190948e2,6.5197418362238986e2,-4.8006727072006215e2,6.9942570417267248e2,-5.6973632987482927e2,7.5355558964280959e2,-6.3521377220105709e2,8.2027071045743282e2,-7.3771959947937778e2},
-                                 {-3.1359995853768065,-6.1771732995870763e1,-4.084115632019412e1,-8.0926611894069372e2,-1.1916829785746241e2,1.766461548988122e3,-2.1571955135964876e2,9.9349445822987695e2,-3.1785934225919673e2,8.9212606805848346e2,-4.2262181723497039e2,8.9266630566089211e2,-5.268051484043076e2,9.2670069925057514e2,-6.2331034861090314e2,9.9924704620555879e2,-7.1875463684166596e2,1.0407434525876178e3,-8.2165761663869614e2,1.149613351155525e3},
-                                 {-8.1931034103908285,-1.3962198552712516e1,-1.6792498702150846e2,-7.2772132549311995e1,-1.4818776777477476e3,-1.6990252698546553e2,2.8322992046260636e3,-2.8448760326840981e2,1.5021588601687011e3,-4.0462586326718923e2,1.3081430403860983e3,-5.2687823960841828e2,1.2767823932898298e3,-6.4731651834600839e2,1.2882881052208122e3,-7.8290687864410686e2,1.3299339027692026e3,-8.8493055177806076e2,1.4029984062879178e3,-1.0382718023036647e3},
-                                 {-2.3282147734963354,-4.2393722318794224e1,-3.4032769818402805e1,-3.4648266874829688e2,-1.1311810005898682e2,-2.4396532848100328e3,-2.2685186189338659e2,4.251911052251646e3,-3.5917995156064815e2,2.1395504715573191e3,-5.01717910957242e2,1.7936218103087413e3,-6.4718927714637481e2,1.6982205528609873e3,-7.8458850015621716e2,1.727040954432839e3,-9.2087081419764372e2,1.7263607481844543e3,-1.0666758315580096e3,1.8497010506271012e3},
-                                 {-6.1534633853009482,-1.1101688877429825e1,-1.1636433787210151e2,-6.3603136154768313e1,-6.1849837358543287e2,-1.6327341785377056e2,-3.7345216375217413e3,-2.9500728387272422e2,6.0975177623522539e3,-4.4386369408136513e2,2.9771887235357241e3,-6.0196357040970097e2,2.441275859074563e3,-7.6173376832986955e2,2.2530163829084431e3,-9.4155728457429788e2,2.1985474032749366e3,-1.0817695612010795e3,2.2294952751772572e3,-1.2851484228567877e3},
-                                 {-1.8484250348681371,-3.2693744646918684e1,-2.8562150544239599e1,-2.4113582671662434e2,-1.0239296562184679e2,-1.0003600142309187e3,-2.2065035738678239e2,-5.4362975685105988e3,-3.7050961844439028e2,8.3808266022710774e3,-5.4144272492358479e2,3.9382701799027683e3,-7.2257729554586997e2,3.1376613851265689e3,-8.9868606223463408e2,2.9242888463794794e3,-1.0754987453572175e3,2.7679959274792551e3,-1.2645786172788759e3,2.854783858527998e3},
-                                 {-4.9265178244115745,-9.1383530640368445,-9.0534590721425242e1,-5.5151898403341993e1,-4.272623221770628e2,-1.504409069256355e2,-1.4981688911635228e3,-2.8754762811100929e2,-7.5611452542561683e3,-4.5334687605713293e2,1.1269706721898671e4,-6.3800132433700196e2,5.1771788405590164e3,-8.3089238981655384e2,4.0240093441623923e3,-1.0502043174594472e3,3.6034443428385406e3,-1.2277654165319583e3,3.4648297324539333e3,-1.4787033499120377e3},
-                                 {-1.5392817187913594,-2.6847262224522993e1,-2.4520000051581107e1,-1.9056332024421486e2,-9.2037640197839296e1,-6.936181063223196e2,-2.08367784254341e2,-2.1674293960450359e3,-3.6604201996068522e2,-1.0265888896449494e4,-5.5567286326823919e2,1.468522329345515e4,-7.648142155574847e2,6.5503831301574785e3,-9.7492232974233309e2,5.143941832010642e3,-1.1897792158657868e3,4.4722002226347795e3,-1.4209341668932342e3,4.377776992844934e3},
-                                 {-4.1194746096607782,-7.760931432178986,-7.4702163395960386e1,-4.8318807746945039e1,-3.3654763636499967e2,-1.3715072876104183e2,-1.0263340315571607e3,-2.730272087364283e2,-2.9576815567990167e3,-4.466806439860476e2,-1.3484351342802557e4,-6.4880505113312647e2,1.8816249765986102e4,-8.6733136152256097e2,8.1827181313059648e3,-1.1198442074758093e3,6.1752967915170947e3,-1.3319739081686163e3,5.4571307209704742e3,-1.626861287206589e3},
-                                 {-1.3186585561243062,-2.2819467432871246e1,-2.1394102447094309e1,-1.590446898056105e2,-8.270597025500268e1,-5.4900060555467961e2,-1.9376510576009299e2,-1.4822780083295478e3,-3.5215675243940761e2,-3.9883575396319632e3,-5.5135236258594038e2,-1.739405729397774e4,-7.7936794107288652e2,2.3526634002120993e4,-1.0159775994082964e3,1.033039107626179e4,-1.2631241202834005e3,7.5694323139609031e3,-1.5318250878204408e3,6.8125685564550296e3},
-                                 {-3.5350516530012716,-6.7237406311568563,-6.3639725980535773e1,-4.2702197980573688e1,-2.8029222163756134e2,-1.2452226037742544e2,-8.0635816388230542e2,-2.5531796667012248e2,-1.997867247613302e3,-4.2989538543601939e2,-5.1545411052667559e3,-6.4095493967856845e2,-2.1873538500278606e4,-8.7658363726433064e2,2.8803884183194703e4,-1.1539726466812836e3,1.2147602120472659e4,-1.3951751692525183e3,9.0468843159269095e3,-1.7275317011588959e3},
-                                 {-1.1411129384275939,-1.9651436349543615e1,-1.8734162114665557e1,-1.3559345120191163e2,-7.3872578268586783e1,-4.5582250882798879e2,-1.7732838716242371e2,-1.1560767078386828e3,-3.3063725321129106e2,-2.6641885160532947e3,-5.3056106361951747e2,-6.5559581266620019e3,-7.6696615875783522e2,-2.691300815960243e4,-1.0197007976769857e3,3.5743031862640369e4,-1.2894626011431144e3,1.4628277231192019e4,-1.586569188297544e3,1.1094316070738861e4},
-                                 {-3.1633013817556287,-6.0545196828053722,-5.6696373166474621e1,-3.8971313452004284e1,-2.4657535324633051e2,-1.15814627018359e2,-6.8856513388346482e2,-2.4268778293524506e2,-1.5971237289369625e3,-4.1784460536078836e2,-3.5186370651893318e3,-6.3638957210637119e2,-8.4055428833829152e3,-8.8739813705739423e2,-3.3541314361798364e4,-1.1884760619383035e3,4.2744625354816688e4,-1.4585727070260674e3,1.7772345619445168e4,-1.8295031290386321e3},
-                                 {-1.0060722708993911,-1.7270260572291229e1,-1.6651104203148477e1,-1.1843528416736217e2,-6.657651645603405e1,-3.9221563444901728e2,-1.6266590101663902e2,-9.6291631291485215e2,-3.092538925423295e2,-2.0716947574076535e3,-5.0604976100151612e2,-4.3428576118834796e3,-7.452458840319412e2,-1.0017653449759773e4,-1.0077904513449965e3,-4.0264534007899844e4,-1.2938529613756552e3,4.9755711968375085e4,-1.6132984130079542e3,2.1058441379781291e4},
-                                 {-2.7579055435075195,-5.3015592319003237,-4.9287804303400186e1,-3.4448635797911549e1,-2.1270072326525077e2,-1.0378712607642859e2,-5.8389403816089986e2,-2.2106343631975522e2,-1.3079311523740874e3,-3.8729098614941301e2,-2.6841406905855607e3,-6.0012560583840266e2,-5.4518336769028359e3,-8.5061439761708237e2,-1.2206084148008284e4,-1.1564026434950525e3,-4.7027269239519794e4,-1.438416873260514e3,5.8998521884476886e4,-1.8258238804890734e3},
-                                 {-9.090518486632684e-1,-1.556987236815392e1,-1.513207828775238e1,-1.0634661585989239e2,-6.1115029336763158e1,-3.489309171420495e2,-1.5130281233602397e2,-8.405508502599576e2,-2.9198990167899833e2,-1.7430253333483551e3,-4.853080937694045e2,-3.3973280805153551e3,-7.2573733710366307e2,-6.6526581147356199e3,-9.957200117482141e2,-1.4984532107418744e4,-1.2954821629837865e3,-5.5931542309007214e4,-1.6348465961446851e3,7.1387246891000236e4},
-                                 {-2.5755838852149075,-4.9665858291005385,-4.5937607923371096e1,-3.2495193453838864e1,-1.972368227930957e2,-9.8905635793292254e1,-5.3568857212578375e2,-2.1330995770325283e2,-1.1754847445355604e3,-3.7885998036917168e2,-2.3212334482479461e3,-5.9535039636991621e2,-4.3770043433898503e3,-8.5547180263149717e2,-8.3084213845143609e3,-1.1781208230739553e3,-1.7920312486276708e4,-1.4829775124411328e3,-6.7859748541929974e4,-1.9028153210272501e3}};
-
-        IdX2dX2_ =new double[][]{{1.0440128325293187e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,1.0914313863249156e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,4.7520703297384442e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,1.3894618876057309e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,3.2417461514821343e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,6.5502763366205583e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,1.1768418565395805e5,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,1.9817112806124063e5,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,3.1288352631206202e5,0,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,4.7008685107633793e5,0,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,6.9410309107363857e5,0,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,9.6091759379113379e5,0,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,1.3504361006836302e6,0,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,1.7568020668839586e6,0,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.3405191119447367e6,0,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.0973972946605647e6,0,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.7998186359369333e6,0,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7283569203206769e6,0,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.9791330895064842e6,0},
-                                 {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,7.7009878835712108e6}};
+    protected int getBoundaryType() {
+        return BoundaryTables.SC;
     }
-}
\ No newline at end of file
+}
@@ -47,261 +47,7 @@ public class Boundary_SF_200 extends Boundary{
     }
 
     @Override
-    protected void initArrays() {
-        c1_ = new double[]{7.1343114531971554e-1,-7.0738165583162023e-1,7.071072938029658e-1,-7.071067821438269e-1,7.0710678118833518e-1,-7.0710678118655086e-1,7.0710678118654753e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1};
-        c2_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c3_ = new double[]{9.4783960205306911e-2,1.9718189751719591e-2,8.5143957730383965e-4,3.679398705224701e-5,1.5900123447770268e-6,6.871066350523653e-8,2.9692569965648223e-9,1.283132291536861e-10,5.54491739680807e-12,2.3961760716503273e-13,1.0354815690590412e-14,4.4747215888960048e-16,1.9337025299568904e-17,8.3562863076006674e-19,3.6110787348533445e-20,1.5604886129199853e-21,6.743482737027158e-23,2.9141231181105078e-24,1.2593067823659661e-25,5.4419580362176888e-27,2.3516832977198975e-28,1.0162544980994603e-29,4.3916338816060969e-31,1.8977970760413873e-32,8.201124772527848e-34,3.5440273559101621e-35,1.5315130848287462e-36,6.6182681267687138e-38,2.8600129787791227e-39,1.235923670982888e-40,5.3409104498115872e-42,2.3080166763228501e-43,9.9738444002038938e-45,4.3100889668599362e-46,1.8625583232347186e-47,8.0488443141773827e-49,3.4782210031068942e-50,1.5030755813159725e-51,6.4953785315260396e-53,2.806907569536273e-54};
-        c4_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-
-        cv_ = new double[]{2.3650203724313519,3.9266023120479187,7.068582745628732,1.021017612281303e1,1.3351768777754093e1,1.6493361431346409e1,1.9634954084936207e1,2.2776546738526e1,2.5918139392115794e1,2.9059732045705587e1,3.220132469929538e1,3.5342917352885173e1,3.8484510006474967e1,4.162610266006476e1,4.4767695313654553e1,4.7909287967244346e1,5.105088062083414e1,5.4192473274423933e1,5.7334065928013726e1,6.0475658581603519e1,6.3617251235193313e1,6.6758843888783106e1,6.9900436542372899e1,7.3042029195962692e1,7.6183621849552486e1,7.9325214503142279e1,8.2466807156732072e1,8.5608399810321865e1,8.8749992463911658e1,9.1891585117501452e1,9.5033177771091245e1,9.8174770424681038e1,1.0131636307827083e2,1.0445795573186062e2,1.0759954838545041e2,1.1074114103904021e2,1.1388273369263e2,1.1702432634621979e2,1.2016591899980959e2,1.2330751165339938e2};
-
-        IX_ = new double[]{6.9194186014653522e-1,-1.8517277478098387e-1,9.9914774947271602e-2,-6.9258705004204403e-2,5.2959664217232863e-2,-4.2872209697249737e-2,3.6012652495061226e-2,-3.104539021794757e-2,2.7282312610607456e-2,-2.4332873409659761e-2,2.1958934540416899e-2,-2.0007029247935703e-2,1.8373802370553184e-2,-1.6987100304851057e-2,1.5795023090475545e-2,-1.4759283871427968e-2,1.3851020248570862e-2,-1.3048062553001537e-2,1.233310022133022e-2,-1.1692419690352026e-2,1.1115016248853161e-2,-1.0591956660671836e-2,1.0115913664686585e-2,-9.6808206038398502e-3,9.2816115067742893e-3,-8.9140229322485749e-3,8.574441106258153e-3,-8.2597827170376703e-3,7.9674010279389917e-3,-7.6950112492060347e-3,7.4406307120421989e-3,-7.2025305292568485e-3,6.979196249279892e-3,-6.769295610203805e-3,6.571651942752599e-3,-6.3852221004050075e-3,6.2090780424628004e-3,-6.0423913836047387e-3,5.8844203670399089e-3,-5.7344988290261533e-3};
-
-        IXX_ =   new double[][] {{5.7276975999909775e-1,-6.5220790152768659e-2,-5.4615834630229278e-3,-1.2424823322160144e-3,-4.2407595820194311e-4,-1.8201956032323717e-4,-9.0603084299496741e-5,-5.0034560861856756e-5,-2.9839115558022301e-5,-1.8880946074380616e-5,-1.2522435540693496e-5,-8.6291942988529004e-6,-6.1380930672523472e-6,-4.4844856849402698e-6,-3.3520891088965177e-6,-2.5556115008707538e-6,-1.982257952168208e-6,-1.5610499774320639e-6,-1.2460096673851624e-6,-1.0065832750281908e-6,-8.2200100584983249e-7,-6.7785464462836971e-7,-5.6396498086019477e-7,-4.7302084339322742e-7,-3.9969163691792763e-7,-3.4003720909398929e-7,-2.911083699511099e-7,-2.5067201736633721e-7,-2.1701914095154536e-7,-1.8882884579172105e-7,-1.6507080920719874e-7,-1.4493447082721349e-7,-1.2777705747294089e-7,-1.1308503719658856e-7,-1.0044525547693763e-7,-8.9523125186916415e-8,-8.0046005944770019e-8,-7.1790436471659407e-8,-6.4572252577328166e-8,-5.8238883982059013e-8},
-                                 {-6.5220790152768659e-2,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-5.4615834630229278e-3,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.2424823322160144e-3,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-4.2407595820194311e-4,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.8201956032323717e-4,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-9.0603084299496741e-5,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-5.0034560861856756e-5,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-2.9839115558022301e-5,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.8880946074380616e-5,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.2522435540693496e-5,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-8.6291942988529004e-6,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-6.1380930672523472e-6,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-4.4844856849402698e-6,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-3.3520891088965177e-6,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-2.5556115008707538e-6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.982257952168208e-6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.5610499774320639e-6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.2460096673851624e-6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.0065832750281908e-6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-8.2200100584983249e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-6.7785464462836971e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-5.6396498086019477e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-4.7302084339322742e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-3.9969163691792763e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-3.4003720909398929e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-2.911083699511099e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-2.5067201736633721e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-2.1701914095154536e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.8882884579172105e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.6507080920719874e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0},
-                                 {-1.4493447082721349e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0},
-                                 {-1.2777705747294089e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0},
-                                 {-1.1308503719658856e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0,0},
-                                 {-1.0044525547693763e-7,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0,0},
-                                 {-8.9523125186916415e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0,0},
-                                 {-8.0046005944770019e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0,0},
-                                 {-7.1790436471659407e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0,0},
-                                 {-6.4572252577328166e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0},
-                                 {-5.8238883982059013e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1}};
-
-        IXdX_ =  new double[][] {{4.9999999999999999e-1,1.4098848258067016,7.6406719941851075e-1,1.1284196203409537,8.915604113545942e-1,1.0806936660761114,9.2881623767490501e-1,1.0588149095315051,9.4681130738740078e-1,1.0462440096238415,9.5747802726631337e-1,1.0380892561756231,9.6455549725293395e-1,1.0323742287610755,9.6960167031492838e-1,1.0281478535432251,9.7338432849591308e-1,1.0248961364818485,9.7632663907209872e-1,1.0223171000598278,9.7868135619127203e-1,1.0202217482296632,9.8060890606895147e-1,1.0184857766404955,9.8221608339036596e-1,1.0170240894095844,9.8357676635942283e-1,1.015776477227206,9.8474370772827317e-1,1.0146991433928288,9.8575559083674876e-1,1.0137594703551572,9.8664143185128531e-1,1.012932668082497,9.8742342493862271e-1,1.0121995596790884,9.8811883762246073e-1,1.0115450782670976,9.88741307018853e-1,1.0109572222055329},
-                                 {-4.0988482580670162e-1,5e-1,1.5009497455097918,8.0127427126121997e-1,1.1647907175325272,8.8012711709356054e-1,1.1031168442743724,9.1434517870654186e-1,1.0760218354648997,9.3333957155643253e-1,1.0604597547749074,9.4541638561999364e-1,1.0502725128284634,9.5377572191520676e-1,1.0430580785221076,9.5990752087414681e-1,1.0376705268561858,9.645988815241775e-1,1.0334894937458058,9.6830482967073421e-1,1.0301484002172667,9.7130680795957652e-1,1.027416163910865,9.7378829030161142e-1,1.0251396605690014,9.7587402538796449e-1,1.0232133016594342,9.7765180769570667e-1,1.0215618660108927,9.7918522715643411e-1,1.0201302889026222,9.80521478355217e-1,1.0188773203596904,9.81696328046319e-1,1.0177714405190335,9.8273737885731078e-1,1.0167881457615874,9.836662743673899e-1,1.0159080965360985,9.8450022577777358e-1},
-                                 {2.3593280058148924e-1,-5.0094974550979183e-1,4.9999999999999999e-1,1.9632941119703568,7.1721488649723734e-1,1.2976319339199679,8.1008961666123039e-1,1.1812442828959669,8.5808883641314224e-1,1.1329215944559352,8.868886006395942e-1,1.105885074560802,9.0598927491136808e-1,1.0883583109060266,9.1956321985870064e-1,1.0759731555401252,9.2970187081922585e-1,1.0667129443702427,9.3756266051099785e-1,1.0595071605710685,9.4383632448996152e-1,1.0537302111001367,9.4896010017815427e-1,1.0489900067311293,9.5322410626231653e-1,1.0450273750949073,9.5682838283762008e-1,1.0416636789892151,9.5991532890780615e-1,1.0387715539932226,9.6258907238264009e-1,1.0362576182152301,9.64927522833381e-1,1.0340517766827257,9.6699013922515304e-1,1.0321003475177114,9.688230900401161e-1,1.0303614991127271,9.7046277284560569e-1,1.0288021361325478},
-                                 {-1.2841962034095375e-1,1.9872572873878002e-1,-9.6329411197035683e-1,5e-1,2.4404890871749336,6.7031056066714081e-1,1.4352328429693367,7.6158443992020609e-1,1.2578210166241575,8.1506665405252525e-1,1.1864596858830594,8.4942384199659631e-1,1.1476697296519541,8.7314642264699805e-1,1.1229995728116446,8.9044510076683469e-1,1.1057642275717933,9.0359648153847511e-1,1.0929596174754769,9.1392504616896137e-1,1.0830284439831572,9.2224917244244878e-1,1.0750776011716084,9.291001405112668e-1,1.0685552260295308,9.3483724494058927e-1,1.0631003146376276,9.397119227280133e-1,1.0584658974753547,9.4390529451067788e-1,1.0544768175823136,9.4755109454278639e-1,1.0510051175038295,9.5075019809570152e-1,1.0479549797374622,9.5358012243225955e-1,1.0452531328674265,9.5610141555084344e-1,1.0428425273563054,9.5836205861028077e-1},
-                                 {1.0843958864540579e-1,-1.6479071753252721e-1,2.8278511350276265e-1,-1.4404890871749336,5e-1,2.9270553681152225,6.395222457151169e-1,1.5804577176959677,7.2513742326848756e-1,1.3378472299102406,7.8009762426603407e-1,1.2411258192789196,8.1749430093322404e-1,1.1894684426163449,8.442925434290012e-1,1.1571471962140638,8.6432966847391963e-1,1.1348479382269646,8.7983441008234844e-1,1.1184279197579345,8.9217018960061313e-1,1.1057694469826467,9.0221062634781353e-1,1.0956753764126,9.1053842594196204e-1,1.0874156363849301,9.1755590430474039e-1,1.0805180162086257,9.2354920604293886e-1,1.0746624864967836,9.2872714253312335e-1,1.0696237985358108,9.332455315686519e-1,1.0652384019546182,9.372229396620881e-1,1.0613844156029902,9.4075115267348848e-1,1.0579689882101461,9.4390231562454419e-1,1.054920036006314},
-                                 {-8.0693666076111431e-2,1.1987288290643945e-1,-2.9763193391996798e-1,3.2968943933285918e-1,-1.9270553681152225,4.9999999999999999e-1,3.4181519450189399,6.1800314316183924e-1,1.7308823309329038,6.9714233367840304e-1,1.4210885759508215,7.5149305113356569e-1,1.2974137755120476,7.9026197090071284e-1,1.2319105533449402,8.1897189760887354e-1,1.1913795984585709,8.4094580361414565e-1,1.1637081593352102,8.5824177057506998e-1,1.1435089856263352,8.72180036811545e-1,1.1280424642027956,8.8363732153825663e-1,1.1157720978871749,8.9321464639962903e-1,1.1057692214258127,9.0133595598720779e-1,1.0974385259791233,9.0830795638521388e-1,1.090379914901442,9.1435756384217235e-1,1.0843138899649419,9.1965602714085507e-1,1.0790388374344237,9.2433488225547729e-1,1.0744053543243867,9.2849676183361235e-1,1.0703001649812578,9.3222288044239361e-1},
-                                 {7.1183762325094983e-2,-1.0311684427437244e-1,1.899103833387696e-1,-4.3523284296933674e-1,3.6047775428488309e-1,-2.4181519450189399,4.9999999999999999e-1,3.9118349260490974,6.0216070393637211e-1,1.8849465071592794,6.7509001457307543e-1,1.5070754725894452,7.2780943449417174e-1,1.3554268250051427,7.668949965204675e-1,1.2753170227748826,7.9667812071692134e-1,1.2260701151105486,8.1996325506517621e-1,1.1927038103863997,8.3858813461884058e-1,1.1685244167042392,8.53784061762188e-1,1.150127174535932,8.6639687307322213e-1,1.1356079909998708,8.7702211903830817e-1,1.1238215185097765,8.8608894702012259e-1,1.1140377925571479,8.9391323501267913e-1,1.1057692311729964,9.0073201403149599e-1,1.0986772923941812,9.0672627490589779e-1,1.0925191789360721,9.1203640774517938e-1,1.0871159236106663,9.1677286731683012e-1,1.0823324847812799},
-                                 {-5.8814909531505173e-2,8.5654821293458131e-2,-1.8124428289596696e-1,2.384155600797939e-1,-5.8045771769596771e-1,3.8199685683816075e-1,-2.9118349260490974,4.9999999999999999e-1,4.4071243522846725,5.9003153713433017e-1,2.0416005815062563,6.573338866145578e-1,1.5952961134704105,7.0796525229346879e-1,1.4150454068791529,7.4671440404901677e-1,1.3197734350673497,7.769783386723987e-1,1.2613931044332863,8.0109528722927995e-1,1.2220371832688602,8.2067460993459263e-1,1.193675340458703,8.3683774122013995e-1,1.1722109038488444,8.5037966925901641e-1,1.1553520895382239,8.6187455716308993e-1,1.141722647891103,8.7174480764641234e-1,1.1304481220623033,8.8030668471145211e-1,1.1209466880025497,8.8780089679621698e-1,1.112816117986415,8.9441343955644468e-1,1.1057692307517824,9.0029004194338447e-1,1.0995952776687997,9.0554634540993018e-1},
-                                 {5.3188692612599218e-2,-7.602183546489979e-2,1.4191116358685775e-1,-2.5782101662415759e-1,2.7486257673151243e-1,-7.3088233093290386e-1,3.9783929606362788e-1,-3.4071243522846725,4.9999999999999999e-1,4.9034784377563035,5.8045662991320211e-1,2.2001445086723901,6.4276329582598406e-1,1.6853129810176648,6.9114799446579642e-1,1.4760840510856919,7.291674667593031e-1,1.3652564102579363,7.5950010877278937e-1,1.2974137931048678,7.8408668730513155e-1,1.2518157510051902,8.0432124597314014e-1,1.2190850277276682,8.2120990078576755e-1,1.1944185380098064,8.3548678855111056e-1,1.1751237673995372,8.4769491733070723e-1,1.1595832608327626,8.5824175824076294e-1,1.1467703461310018,8.6743748824872958e-1,1.1360033017369905,8.7552149674364059e-1,1.1268121125425962,8.8268095964340564e-1,1.1188622466362048,8.8906401839174009e-1,1.1119090261927634},
-                                 {-4.6244009623841563e-2,6.666042844356746e-2,-1.3292159445593524e-1,1.8493334594747474e-1,-3.3784722991024069e-1,3.0285766632159695e-1,-8.8494650715927943e-1,4.0996846286566982e-1,-3.9034784377563035,4.9999999999999999e-1,5.4005737704917153,5.7271080960670584e-1,2.3601016799291846,6.3061007393231717e-1,1.7767756604589958,6.7674511847968701e-1,1.5383510393788535,7.1380775031556196e-1,1.4116942039082293,7.4392647829500876e-1,1.3341367648744057,7.6871206369680811e-1,1.2820878529435517,7.8936529631284902e-1,1.24482433351884,8.067804040936e-1,1.2168304872376045,8.2162729387443771e-1,1.195005435146736,8.3441256578464265e-1,1.1774835668183101,8.4552354716338771e-1,1.1630802935566747,8.5525979517637853e-1,1.1510095342138812,8.6385565102449632e-1,1.1407300732007837,8.7149648039930788e-1,1.131857445843187,8.783304659027079e-1},
-                                 {4.2521972733686628e-2,-6.0459754774907439e-2,1.1311139936040579e-1,-1.864596858830594e-1,2.1990237573396592e-1,-4.2108857595082158e-1,3.2490998542692456e-1,-1.0416005815062563,4.1954337008679788e-1,-4.4005737704917153,4.9999999999999999e-1,5.8982056125202412,5.6631825357939647e-1,2.521139569413515,6.2032951111478727e-1,1.8694094779711251,6.6429087145147871e-1,1.6016709540071882,7.0027529594313574e-1,1.458997663892542,7.2998953779322724e-1,1.3715345119735447,7.5477384519250518e-1,1.3128658127932114,7.7566027626402947e-1,1.2709294170453933,7.9343919063154037e-1,1.2394959532257109,8.0871702691771661e-1,1.2150523918775491,8.2196187528458677e-1,1.1954806480549019,8.3353795180335868e-1,1.1794342439002512,8.4373121617537778e-1,1.1660193859567777,8.5276829865442034e-1,1.1546209449546709,8.6083049475496277e-1,1.1448023756826504},
-                                 {-3.8089256175623194e-2,5.4583614380006356e-2,-1.0588507456080205e-1,1.5057615800340368e-1,-2.4112581927891966e-1,2.485069488664343e-1,-5.0707547258944522e-1,3.4266611338544219e-1,-1.2001445086723901,4.2728919039329415e-1,-4.8982056125202412,4.9999999999999999e-1,6.3962381382738362,5.6095429483336585e-1,2.6830204778156995,6.1152631198733834e-1,1.9629999999999998,6.5342733491553832e-1,1.6658912545164923,6.8827932744428015e-1,1.507075471698113,7.1746361746361759e-1,1.4095639178838453,7.4209986069359936e-1,1.3441406197440829,7.6307509932795379e-1,1.2974137931034481,7.8108580618288669e-1,1.2624424448703368,7.9667812142038956e-1,1.2353002014817433,8.1028161973004509e-1,1.2136141341782613,8.2223606562609368e-1,1.195873287026776,8.3281204442441761e-1,1.1810737527114966,8.4222667816208376e-1,1.168524416135881,8.5065554992179139e-1},
-                                 {3.5444502747066042e-2,-5.0272512828463475e-2,9.4010725088631915e-2,-1.4766972965195414e-1,1.8250569906677595e-1,-2.9741377551204766e-1,2.7219056550582825e-1,-5.9529611347041055e-1,3.5723670417401593e-1,-1.3601016799291846,4.3368174642060352e-1,-5.3962381382738362,4.9999999999999999e-1,6.89457773512476,5.5639004842210718e-1,2.8455706196232168,6.039075200830328e-1,2.0573792236805361,6.4387631751956396e-1,1.7308823529411764,6.775839870907936e-1,1.5558412401597525,7.0615878846083642e-1,1.4481756478815302,7.3054063772284921e-1,1.3758911894326907,7.5149303251493031e-1,1.3242764785510899,7.6962897857206799e-1,1.2856825576719189,7.8543874303623573e-1,1.2557701740760422,7.9931470233156983e-1,1.231910569105691,8.115719647909143e-1,1.2124267784876074,8.2246486193418009e-1,1.1962031542151044,8.3219989182180519e-1,1.1824710755117409},
-                                 {-3.2374228761075599e-2,4.6224278084793231e-2,-8.8358310906026641e-2,1.2685357735300194e-1,-1.8946844261634494e-1,2.0973802909928715e-1,-3.5542682500514272e-1,2.920347477065312e-1,-6.8531298101766484e-1,3.6938992606768282e-1,-1.521139569413515,4.3904570516663414e-1,-5.89457773512476,4.9999999999999999e-1,7.3931578078573786,5.5245963300287472e-1,3.0086603165576722,5.9725187864088182e-1,2.1524145981813713,6.3541912424952022e-1,1.7965352950144839,6.6799692639229518e-1,1.6052164233198715,6.9591503932169184e-1,1.4873193797526748,7.1996665901354602e-1,1.4080901569155147,7.4081049508778122e-1,1.3515074677964651,7.5898611596414538e-1,1.3092187763357491,7.7493286099330377e-1,1.2764734136111486,7.8900800182970906e-1,1.2503867475250365,8.01502546650734e-1,1.2291150566782564,8.1265434420291289e-1,1.2114299336333816,8.2265867524080066e-1},
-                                 {3.0398329685071616e-2,-4.3058078522107642e-2,8.043678014129935e-2,-1.2299957281164463e-1,1.5570745657099879e-1,-2.319105533449402e-1,2.3310500347953249e-1,-4.1504540687915297e-1,3.0885200553420357e-1,-7.7677566045899581e-1,3.7967048888521272e-1,-1.6830204778156995,4.4360995157789281e-1,-6.3931578078573786,4.9999999999999999e-1,7.8919296987087517,5.4903995051698346e-1,3.172191011235955,5.9138942195598758e-1,2.2480006537371976,6.2788193059433585e-1,1.8627588041135873,6.5936032180130241e-1,1.6551311144730206,6.8659725485448348e-1,1.5269466035822913,7.102657512493578e-1,1.4407074584371345,7.309357854766329e-1,1.3790913921360255,7.490827215003046e-1,1.3330468618516602,7.6509998540359071e-1,1.2974137931034482,7.7931224031322076e-1,1.2690522512506948,7.91987433892108e-1,1.2459515674382847,8.0334715925532941e-1,1.2267700193562262},
-                                 {-2.8147853543225138e-2,4.009247912585318e-2,-7.5973155540125224e-2,1.095548992331653e-1,-1.5714719621406384e-1,1.8102810239112645e-1,-2.7531702277488264e-1,2.5328559595098322e-1,-4.7608405108569197e-1,3.2325488152031298e-1,-8.6940947797112519e-1,3.8847368801266165e-1,-1.8455706196232168,4.4754036699712527e-1,-6.8919296987087517,5e-1,8.3908570349861565,5.4603776322710536e-1,3.336086556169429,5.8618757978523691e-1,2.3440527134798677,6.2112512483449261e-1,1.9294764031707855,6.5154384822937773e-1,1.7055238216129305,6.7809098664339769e-1,1.56701200942012,7.0134070292647247e-1,1.4737125064141437,7.2178781405494711e-1,1.4070099480811821,7.3985175452345459e-1,1.3571582301518977,7.5588485966187878e-1,1.318590133626641,7.7018183557191411e-1,1.2879113699953431,7.829888934201873e-1,1.26294451834164,7.9451190526237497e-1},
-                                 {2.6615671504086919e-2,-3.7670526856185803e-2,7.0298129180774141e-2,-1.0576422757179336e-1,1.3567033152608036e-1,-1.9137959845857093e-1,2.0332187928307865e-1,-3.1977343506734978e-1,2.7083253324069689e-1,-5.3835103937885355e-1,3.3570912854852128e-1,-9.6299999999999985e-1,3.9609247991696719e-1,-2.0086603165576722,4.5096004948301653e-1,-7.3908570349861565,4.9999999999999999e-1,8.8899120854662808,5.4338117732006929e-1,3.5002872431225789,5.8154152135314931e-1,2.4405021834061135,6.1503546675619786e-1,1.9966238709247875,6.4443919250530174e-1,1.7563407890075018,6.7029893924783027e-1,1.6074740638723005,6.9310715083843207e-1,1.5070754716981132,7.1329489586432439e-1,1.4352434928631402,7.3123297308994753e-1,1.3815416145467039,7.4723711824953044e-1,1.3399977948272323,7.6157472890146157e-1,1.3069645515059122,7.7447174833820589e-1,1.2800981626316439},
-                                 {-2.4896136481848567e-2,3.5401118475822494e-2,-6.6712944370242725e-2,9.6403518461524885e-2,-1.3484793822696463e-1,1.5905419638585434e-1,-2.2607011511054862e-1,2.2302166132760129e-1,-3.6525641025793637e-1,2.8619224968443803e-1,-6.016709540071882e-1,3.4657266508446167e-1,-1.0573792236805361,4.0274812135911817e-1,-2.172191011235955,4.5396223677289463e-1,-7.8899120854662808,5e-1,9.3890733399405351,5.4101387803221548e-1,3.664745627980922,5.7736731814822921e-1,2.5372930137202334,6.095202585135471e-1,2.0641470914406694,6.3795576244132193e-1,1.8075351577347016,6.6313807356235543e-1,1.6482951304257636,6.8549173878835562e-1,1.5407680017127496,7.0539363480698801e-1,1.4637720773759461,7.2317228604820392e-1,1.4061842203944901,7.3911092559741208e-1,1.3616298317732592,7.5345219129335272e-1,1.3262094933820173,7.6640327623197214e-1},
-                                 {2.3673360927901277e-2,-3.3489493745805835e-2,6.2437339489002144e-2,-9.2959617475476954e-2,1.2016558991765155e-1,-1.6370815933521022e-1,1.8003674493482378e-1,-2.6139310443328633e-1,2.4049989122721062e-1,-4.1169420390822934e-1,2.9972470405686425e-1,-6.6589125451649234e-1,3.5612368248043603e-1,-1.1524145981813713,4.0861057804401241e-1,-2.336086556169429,4.566188226799307e-1,-8.3890733399405351,4.9999999999999999e-1,9.8883238585894475,5.388911340971896e-1,3.8294235569008549,5.7359701840204984e-1,2.6343790241808556,6.0450296552329711e-1,2.1320002759635728,6.3201731906292382e-1,1.8590661114339208,6.5653722801901713e-1,1.6894413426514593,6.7843053239653294e-1,1.5747635847020212,6.9802791385192228e-1,1.4925760998638746,7.1562113433638041e-1,1.4310725202417341,7.314646106330672e-1,1.3834778327948458,7.4577861509875303e-1,1.3456419628362386},
-                                 {-2.2317100059827824e-2,3.1695170329265789e-2,-5.950716057106854e-2,8.6074953831038624e-2,-1.1842791975793451e-1,1.4175822942493001e-1,-1.9270381038639977e-1,1.9890471277072004e-1,-2.9741379310486789e-1,2.5607352170499123e-1,-4.5899766389254209e-1,3.1172067255571984e-1,-7.3088235294117647e-1,3.6458087575047977e-1,-1.2480006537371976,4.1381242021476308e-1,-2.5002872431225789,4.5898612196778451e-1,-8.8883238585894475,4.9999999999999999e-1,1.0387650120096076e1,5.3697696987444085e-1,3.9942900120336943,5.7017504216668146e-1,2.7317218672577911,5.9991989244690262e-1,2.2001445086705202,6.265593209082731e-1,1.9108980758488727,6.5043516736680914e-1,1.7308823529411764,6.7186766463600057e-1,1.6090376946934323,6.9114799446749654e-1,1.5216367047264285,7.0853591346786147e-1,1.4561927946959744,7.24260308491863e-1,1.4055325229359444,7.3852129876068655e-1},
-                                 {2.1318643808727966e-2,-3.014840021726673e-2,5.6163675510038476e-2,-8.3028443983157207e-2,1.0782981039938686e-1,-1.435089856263352e-1,1.6141186538115941e-1,-2.2203718326886021e-1,2.1591331269486844e-1,-3.3413676487440575e-1,2.7001046220677275e-1,-5.0707547169811307e-1,3.2241601290920639e-1,-7.9653529501448391e-1,3.7211806940566414e-1,-1.3440527134798677,4.1845847864685068e-1,-2.664745627980922,4.6110886590281039e-1,-9.3876501200960768,4.9999999999999999e-1,1.0887041201218627e1,5.3524212612817534e-1,4.1593195266272189,5.6705550435155804e-1,2.8292894642644075,5.9571763462871859e-1,2.268546562969619,6.2152681852363454e-1,1.963,6.4477898124686537e-1,1.7725910279209657,6.6575418375263216e-1,1.6435678033306899,6.8470972158335657e-1,1.5509360108917631,7.0187744328436445e-1,1.4815314937601492,7.1746361746361746e-1,1.427784195348994},
-                                 {-2.0221748229663209e-2,2.8693192040423478e-2,-5.3730211100136768e-2,7.7750827557551216e-2,-1.0576944698264675e-1,1.2781996318845499e-1,-1.6852441670423922e-1,1.7932539006540736e-1,-2.5181575100519026e-1,2.3128793630319188e-1,-3.715345119735447e-1,2.825363825363824e-1,-5.5584124015975252e-1,3.3200307360770481e-1,-8.6275880411358738e-1,3.7887487516550738e-1,-1.4405021834061135,4.2263268185177078e-1,-2.8294235569008549,4.6302303012555914e-1,-9.8870412012186275,5e-1,1.1386488181698138e1,5.3366256460638766e-1,4.3244910023646346,5.6420020017055222e-1,2.9270547945205479,5.9185110522845416e-1,2.3371779390960145,6.1687277554378752e-1,2.0153447259570921,6.3952276753152026e-1,1.8145431309660757,6.6004707570188236e-1,1.6783333136049147,6.7867382658314881e-1,1.580457227138643,6.9561048691749432e-1,1.5070754716981132,7.1104327628881696e-1},
-                                 {1.9391093931048521e-2,-2.7416163910865038e-2,5.103989982184572e-2,-7.5077601171608416e-2,9.7789373652186466e-2,-1.2804246420279565e-1,1.4621593823781199e-1,-1.9367534045870306e-1,1.9567875402685985e-1,-2.8208785294355176e-1,2.4522615480749481e-1,-4.0956391788384536e-1,2.9384121153916357e-1,-6.0521642331987159e-1,3.4063967819869758e-1,-9.2947640317078557e-1,3.8496453324380213e-1,-1.5372930137202334,4.2640298159795015e-1,-2.9942900120336943,4.6475787387182465e-1,-1.0386488181698138e1,4.9999999999999999e-1,1.1885983705491852e1,5.3221835464636499e-1,4.4897868152889673,5.6157707037146268e-1,3.0249949500050499,5.8828199397996832e-1,2.4060140807827064,6.1255672200623889e-1,2.0679084439914304,6.3462654701190546e-1,1.8567170139505164,6.5470843542873437e-1,1.7133154504656554,6.7300531907040578e-1,1.6101846933581214,6.8970331818313711e-1,1.5328121331430945},
-                                 {-1.8485776640495575e-2,2.6211709698388578e-2,-4.8990006731129319e-2,7.0899859488733196e-2,-9.5675376412600068e-2,1.1636267846174336e-1,-1.5012717453593201e-1,1.6316225877986004e-1,-2.1908502772766821e-1,2.1063470368715097e-1,-3.1286581279321143e-1,2.5790013930640063e-1,-4.4817564788153024e-1,3.0408496067830815e-1,-6.5513111447302067e-1,3.4845615177062226e-1,-9.966238709247875e-1,3.9047974148645289e-1,-1.6343790241808556,4.2982495783331853e-1,-3.1593195266272189,4.6633743539361233e-1,-1.0885983705491852e1,5e-1,1.2385521652453206e1,5.3089283272717328e-1,4.6551921317474839,5.5915901867829257e-1,3.1230903912596881,5.8497755266490157e-1,2.4750337361221861,6.0854366774432265e-1,2.1206702253855278,6.3005536601444663e-1,1.8990933295313629,6.4970476421580522e-1,1.7484971303549857,6.6767295765969701e-1,1.6401038742279618,6.8412733497507357e-1},
-                                 {1.7783916609634038e-2,-2.5139660569001411e-2,4.6775893737683468e-2,-6.8555226029530856e-2,8.946157405803795e-2,-1.1577209788717499e-1,1.3360312692677786e-1,-1.7221090384884445e-1,1.7879009921423244e-1,-2.4482433351884009e-1,2.2433972373597052e-1,-3.4414061974408297e-1,2.6945936227715078e-1,-4.8731937975267489e-1,3.1340274514551651e-1,-7.0552382161293052e-1,3.5556080749469825e-1,-1.0641470914406694,3.9549703447670288e-1,-1.7317218672577911,4.3294449564844195e-1,-3.3244910023646346,4.67781645353635e-1,-1.1385521652453206e1,4.9999999999999999e-1,1.2885096889342172e1,5.2967196005105061e-1,4.8206943792077657,5.5692299103787966e-1,3.2213243570871936,5.819096301665109e-1,2.5442184343578447,6.0480322049156659e-1,2.1736116236540622,6.2577855185563326e-1,1.9416547689251683,6.4500637336341423e-1,1.783862823351909,6.6264879029800719e-1,1.6702013232329163},
-                                 {-1.7024089409584437e-2,2.4125974612035503e-2,-4.5027375094907333e-2,6.5162755059410729e-2,-8.7415636384930163e-2,1.0678535360037096e-1,-1.3560799099987085e-1,1.4962033074098358e-1,-1.9441853800980648e-1,1.9321959590639999e-1,-2.7092941704539333e-1,2.369249006720462e-1,-3.7589118943269078e-1,2.8003334098645397e-1,-5.2694660358229131e-1,3.219090133566023e-1,-7.5634078900750188e-1,3.6204423755867806e-1,-1.1320002759635728,4.0008010755309737e-1,-1.8292894642644075,4.3579979982944777e-1,-3.4897868152889673,4.6910716727282671e-1,-1.1885096889342172e1,4.9999999999999999e-1,1.3384705078677094e1,5.2854382582668064e-1,4.9862828326803076,5.5484925173098413e-1,3.319682392722003,5.7905389985669925e-1,2.6135520559464378,6.0130886602740313e-1,2.2267163349058412,6.2176909285418753e-1,1.9843858264965675,6.4058687735324979e-1,1.8193984162222781,6.5790775527454316e-1},
-                                 {1.6423233640577163e-2,-2.3213301659434252e-2,4.3171617162379918e-2,-6.3100314637627621e-2,8.2444095695259604e-2,-1.0576922142581274e-1,1.2297788096169182e-1,-1.5535208953822397e-1,1.6451321144888943e-1,-2.1683048723760457e-1,2.0656080936845962e-1,-2.9741379310344816e-1,2.4850696748506968e-1,-4.0809015691551472e-1,2.8973424875064219e-1,-5.6701200942012009e-1,3.2970106075216972e-1,-8.0753515773470163e-1,3.6798268093707617e-1,-1.2001445086705202,4.042823653712814e-1,-1.9270547945205479,4.3842292962853731e-1,-3.6551921317474839,4.7032803994894938e-1,-1.2384705078677094e1,4.9999999999999999e-1,1.3884342530341395e1,5.2749825914018876e-1,5.1519482884195193,5.5292080911422363e-1,3.4181519699812382,5.7638923644128588e-1,2.6830204778156996,5.9803737731874574e-1,2.2799699087555814,6.1800312012480499e-1,2.0272725904685815,6.364227622509391e-1,1.8550910812011333},
-                                 {-1.5776477227206083e-2,2.2348192304293329e-2,-4.1663678989215191e-2,6.0288077271986699e-2,-8.0518016208625715e-2,9.86640440127922e-2,-1.2382151850977651e-1,1.3812544283691006e-1,-1.7512376739953724e-1,1.7837270612556228e-1,-2.3949595322571092e-1,2.189141938171133e-1,-3.2427647855108995e-1,2.5918950491221877e-1,-4.4070745843713457e-1,2.9865929707352752e-1,-6.0747406387230055e-1,3.3686192643764456e-1,-8.5906611143392084e-1,3.7344067909172689e-1,-1.268546562969619,4.0814889477154583e-1,-2.0249949500050499,4.4084098132170742e-1,-3.8206943792077657,4.7145617417331935e-1,-1.2884342530341395e1,5e-1,1.4384006085192697e1,5.2652652271571012e-1,5.3176828042128547,5.5112295623456824e-1,3.5167221793703106,5.7389720987040137e-1,2.7526112794220461,5.9496832693155342e-1,2.3333595021509079,6.1445947279907236e-1,2.070302558025709,6.3249301737782726e-1},
-                                 {1.5256292271726821e-2,-2.1561866010892778e-2,4.0084671092193843e-2,-5.8465897475354717e-2,7.6450793957061138e-2,-9.7438525979123373e-2,1.139110529798774e-1,-1.4172264789110301e-1,1.5230508266929276e-1,-1.9500543514673608e-1,1.9128297308228338e-1,-2.6244244487033683e-1,2.30371021427932e-1,-3.515074677964651e-1,2.6906421452336709e-1,-4.7371250641414377e-1,3.0689284916156792e-1,-6.4829513042576362e-1,3.4346277198098286e-1,-9.1089807584887272e-1,3.7847318147636545e-1,-1.3371779390960145,4.1171800602003167e-1,-2.1230903912596881,4.4307700896212033e-1,-3.9862828326803076,4.7250174085981123e-1,-1.3384006085192697e1,4.9999999999999999e-1,1.4883693022904225e1,5.2562106910884729e-1,5.4834794909722711,5.4944290045832502e-1,3.6153834788889618,5.7156167163421903e-1,2.8223134981404506,5.9208368257655939e-1,2.3868736694944873,6.111193318583096e-1,2.113464472616485},
-                                 {-1.4699143392828833e-2,2.0814772843565882e-2,-3.8771553993222629e-2,5.6094705489322114e-2,-7.4662486496783642e-2,9.1692043614786116e-2,-1.1403779255714795e-1,1.2825519235358765e-1,-1.5958326083276268e-1,1.6558743421535734e-1,-2.1505239187754911e-1,2.0332187857961043e-1,-2.8568255767191898e-1,2.4101388403585461e-1,-3.790913921360255e-1,2.7821218594505288e-1,-5.070754716981132e-1,3.1450826121164437e-1,-6.8944134265145938e-1,3.4956483263319085e-1,-9.63e-1,3.8312722445621247e-1,-1.4060140807827064,4.1502244733509842e-1,-2.2213243570871936,4.4515074826901586e-1,-4.1519482884195193,4.7347347728428987e-1,-1.3883693022904225e1,5e-1,1.538340098835157e1,5.2477534498225821e-1,5.6493323442136498,5.478694626808592e-1,3.714127487830427,5.693684144896814e-1,2.8921174248347723,5.8936746994261915e-1,2.4405021834061135,6.0796591059241407e-1},
-                                 {1.4244409163251238e-2,-2.013028890262223e-2,3.7410927617359905e-2,-5.4476817582313647e-2,7.1272857466876647e-2,-9.0379914901442041e-2,1.0608676498732086e-1,-1.3044812206230337e-1,1.4175824175923705e-1,-1.7748356681831019e-1,1.7803812471541322e-1,-2.3530020148174337e-1,2.1456125696376426e-1,-3.0921877633574919e-1,2.5091727849969539e-1,-4.0700994808118215e-1,2.867051041356756e-1,-5.4076800171274967e-1,3.2156946760346705e-1,-7.3088235294117647e-1,3.5522101875313462e-1,-1.0153447259570921,3.874432779937611e-1,-1.4750337361221861,4.1809036983348909e-1,-2.319682392722003,4.4707919088577636e-1,-4.3176828042128547,4.743789308911527e-1,-1.438340098835157e1,4.9999999999999999e-1,1.5883127932333311e1,5.239836327600537e-1,5.8152361068151355,5.4639283137156632e-1,3.812946816522797,5.673048909494057e-1,2.962014432286133,5.8680549027883019e-1,2.4942358813381974},
-                                 {-1.3759470355157242e-2,1.9478521644782996e-2,-3.6257618215230152e-2,5.2448905457213605e-2,-6.9623798535810832e-2,8.5642436157827645e-2,-1.0576923117299649e-1,1.1969331528854788e-1,-1.4677034613100184e-1,1.5447645283661228e-1,-1.9548064805490192e-1,1.897183802699549e-1,-2.5577017407604221e-1,2.2506713900669622e-1,-3.3304686185166023e-1,2.601482454765454e-1,-4.3524349286314021e-1,2.9460636519301198e-1,-5.7476358470202127e-1,3.2813233536399942e-1,-7.7259102792096571e-1,3.6047723246847973e-1,-1.0679084439914304,3.9145633225567734e-1,-1.5442184343578447,4.2094610014330074e-1,-2.4181519699812382,4.4887704376543175e-1,-4.4834794909722711,4.7522465501774178e-1,-1.4883127932333311e1,5e-1,1.6382872063472385e1,5.2324092159499021e-1,5.9811861565001647,5.4500436016532628e-1,3.9118349249658935,5.6535997909752724e-1,3.0319968306018928,5.8438508275053472e-1},
-                                 {1.3358568148714685e-2,-1.8877320359690411e-2,3.5072477166618996e-2,-5.1005117503829504e-2,6.6754468431348093e-2,-8.4313889964941975e-2,9.9267985968504004e-2,-1.2094668800254975e-1,1.3256251175127041e-1,-1.6308029355667479e-1,1.6646204819664131e-1,-2.1361413417826137e-1,2.0068529766843016e-1,-2.7647341361114869e-1,2.3490001459640928e-1,-3.5715823015189771e-1,2.6876702691005246e-1,-4.6377207737594617e-1,3.0197208614807771e-1,-6.0903769469343239e-1,3.3424581624736783e-1,-8.1454313096607574e-1,3.6537345298809453e-1,-1.1206702253855278,3.951967795084334e-1,-1.6135520559464378,4.2361076355871411e-1,-2.5167221793703106,4.5055709954167497e-1,-4.6493323442136498,4.7601636723994629e-1,-1.5382872063472385e1,4.9999999999999999e-1,1.6882631808913486e1,5.225428015109788e-1,6.1471784130113356,5.436964002851029e-1,4.0107860048401215,5.635237867559168e-1,3.1020577448707746},
-                                 {-1.2932668082497012e-2,1.8303671953680991e-2,-3.4051776682725745e-2,4.9249801904298479e-2,-6.5238401954618236e-2,8.0343972859144924e-2,-9.8677292394181242e-2,1.1219910320378301e-1,-1.3600330173699055e-1,1.4474020482362146e-1,-1.7943424390025121e-1,1.7776393437390631e-1,-2.3191056910569106e-1,2.1099199817029093e-1,-2.9741379310344827e-1,2.4411514033812121e-1,-3.8154161454670396e-1,2.7682771395179607e-1,-4.9257609986387464e-1,3.0885200553250345e-1,-6.4356780333068992e-1,3.3995292429811763e-1,-8.5671701395051648e-1,3.6994463398555336e-1,-1.1736116236540622,3.9869113397259686e-1,-1.6830204778156996,4.2610279012959862e-1,-2.6153834788889618,4.5213053731914079e-1,-4.8152361068151355,4.7675907840500978e-1,-1.5882631808913486e1,4.9999999999999999e-1,1.7382405781995721e1,5.218853760085796e-1,6.3132092610769575,5.4246216101370968e-1,4.1097948805294661,5.6178748690749811e-1},
-                                 {1.257657506137728e-2,-1.7771440519033593e-2,3.3009860774846957e-2,-4.795497973746223e-2,6.2777060337911896e-2,-7.9038837434423764e-2,9.3273725094102204e-2,-1.1281611798641505e-1,1.244785032563594e-1,-1.5100953421388127e-1,1.5626878382462221e-1,-1.9587328702677602e-1,1.8842803520908569e-1,-2.5038674752503652e-1,2.2068775968677923e-1,-3.1859013362664108e-1,2.5276288175046955e-1,-4.0618422039449013e-1,2.8437886566361958e-1,-5.2163670472642859e-1,3.1529027841664342e-1,-6.7833331360491474e-1,3.4529156457126562e-1,-8.9909332953136294e-1,3.7422144814436673e-1,-1.2267163349058412,4.0196262268125425e-1,-1.7526112794220461,4.2843832836578096e-1,-2.714127487830427,4.5360716862843367e-1,-4.9811861565001647,4.7745719848902119e-1,-1.6382405781995721e1,4.9999999999999999e-1,1.7882192755498059e1,5.2126518948471151e-1,6.4792754861280611,5.4129559289775189e-1,4.2088569256990188},
-                                 {-1.2199559679088492e-2,1.7262621142689218e-2,-3.2100347517711496e-2,4.6419877567740441e-2,-6.13844156029902e-2,7.5665117744522708e-2,-9.2519178936072109e-2,1.0558656044355531e-1,-1.2681211254259626e-1,1.3614434897550367e-1,-1.6601938595677777e-1,1.6718795557558238e-1,-2.1242677848760747e-1,1.9849745334926599e-1,-2.6905225125069483e-1,2.2981816442808588e-1,-3.3999779482723235e-1,2.6088907440258791e-1,-4.3107252024173413e-1,2.9146408653213852e-1,-5.509360108917631e-1,3.2132617341685118e-1,-7.1331545046565548e-1,3.5029523578419477e-1,-9.4165476892516837e-1,3.7823090714581246e-1,-1.2799699087555814,4.0503167306844657e-1,-1.8223134981404506,4.3063158551031859e-1,-2.812946816522797,4.5499563983467371e-1,-5.1471784130113356,4.7811462399142039e-1,-1.6882192755498059e1,4.9999999999999999e-1,1.8381991639368307e1,5.2067916661886726e-1,6.6453742203742203,5.4019128948586052e-1},
-                                 {1.1881162377539263e-2,-1.6788145761587431e-2,3.1176909959883896e-2,-4.5253132867426546e-2,5.9248847326511515e-2,-7.4405354324386775e-2,8.7963592254820611e-2,-1.0576923075178247e-1,1.1731904035659435e-1,-1.407300732007837e-1,1.4723170134557965e-1,-1.8107375271149665e-1,1.775351380658199e-1,-2.2911505667825649e-1,2.0801256610789199e-1,-2.8791136999534316e-1,2.3842527109853842e-1,-3.6162983177325925e-1,2.6853538936693279e-1,-4.561927946959744e-1,2.9812255671563554e-1,-5.8045722713864306e-1,3.2699468092959421e-1,-7.4849713035498571e-1,3.5499362663658576e-1,-9.8438582649656754e-1,3.81996879875195e-1,-1.3333595021509079,4.079163174234406e-1,-1.8921174248347723,4.3269510905059429e-1,-2.9118349249658935,4.5630359971489709e-1,-5.3132092610769575,4.7873481051528848e-1,-1.7381991639368307e1,4.9999999999999999e-1,1.8881801462083005e1,5.2012456148671447e-1,6.8115028973449519},
-                                 {-1.1545078267097696e-2,1.633372563261009e-2,-3.0361499112727195e-2,4.3898584449156557e-2,-5.7968988210146134e-2,7.1503238166387645e-2,-8.7115923610666393e-2,9.9709958056615526e-2,-1.188622466362048e-1,1.2850351960069211e-1,-1.5462094495467097e-1,1.5777332183791623e-1,-1.9620315421510446e-1,1.873456557970871e-1,-2.4595156743828478e-1,2.1701110657981269e-1,-3.0696455150591228e-1,2.4654780870664727e-1,-3.8347783279484581e-1,2.7573969150813699e-1,-4.8153149376014921e-1,3.0438951308250567e-1,-6.1018469335812141e-1,3.3232704234030298e-1,-7.8386282335190908e-1,3.594131226467502e-1,-1.0272725904685815,3.8554052720092763e-1,-1.3868736694944873,4.1063253005738084e-1,-1.962014432286133,4.3464002090247275e-1,-3.0107860048401215,4.5753783898629031e-1,-5.4792754861280611,4.7932083338113273e-1,-1.7881801462083005e1,5e-1,1.9381621354966016e1,5.1959891462810666e-1},
-                                 {1.1258692981146992e-2,-1.5908096536098518e-2,2.9537227154394301e-2,-4.2842527356305447e-2,5.6097684375455801e-2,-7.0300164981257847e-2,8.3227132683169873e-2,-9.9595277668799736e-2,1.109359816082599e-1,-1.3185744584318706e-1,1.3916950524503722e-1,-1.6852441613588101e-1,1.678001081781948e-1,-2.1142993363338164e-1,1.9665284074467058e-1,-2.6294451834164009e-1,2.255282516617941e-1,-3.2620949338201734e-1,2.5422138490124696e-1,-4.055325229359444e-1,2.8253638253638253e-1,-5.070754716981132e-1,3.1029668181686288e-1,-6.4010387422796181e-1,3.373512097019928e-1,-8.1939841622227816e-1,3.6357723774906089e-1,-1.070302558025709,3.8888066814169039e-1,-1.4405021834061135,4.131945097211698e-1,-2.0319968306018928,4.3647621324408319e-1,-3.1097948805294661,4.587044071022481e-1,-5.6453742203742203,4.7987543851328552e-1,-1.8381621354966016e1,5e-1,1.9881450538932123e1},
-                                 {-1.0957222205532944e-2,1.5499774222226413e-2,-2.8802136132547821e-2,4.1637941389719228e-2,-5.4920036006314053e-2,6.7777119557606385e-2,-8.2332484781279992e-2,9.4453654590069813e-2,-1.1190902619276346e-1,1.2166953409729209e-1,-1.448023756826504e-1,1.493444500782086e-1,-1.8247107551174095e-1,1.7734132475919933e-1,-2.2677001935622625e-1,2.0548809473762502e-1,-2.8009816263164393e-1,2.3359672376802785e-1,-3.4564196283623863e-1,2.6147870123931344e-1,-4.2778419534899408e-1,2.8895672371118303e-1,-5.3281213314309451e-1,3.1587266502492642e-1,-6.7020132323291639e-1,3.4209224472545683e-1,-8.5509108120113333e-1,3.6750698262217273e-1,-1.113464472616485,3.9203408940758592e-1,-1.4942358813381974,4.1561491724946527e-1,-2.1020577448707746,4.3821251309250188e-1,-3.2088569256990188,4.5980871051413947e-1,-5.8115028973449519,4.8040108537189333e-1,-1.8881450538932123e1,5e-1}};
-
-        IXdX2_ = new double[][] {{-1.4485807346544339,4.5251916443677669,7.1582986810096232,1.0239653734128977e1,1.3364925596179125e1,1.6500337257697199e1,1.9639087807222131e1,2.2779194789835117e1,2.5919936433967791e1,2.9061006968192964e1,3.2202261680689346e1,3.5343626018020641e1,3.848505889967999e1,4.1626536417384914e1,4.4768044011060155e1,4.7909572467705281e1,5.1051115763712943e1,5.4192669847576841e1,5.7334231925907434e1,6.0475800030231966e1,6.361737274621522e1,6.6758949039879974e1,6.9900528143422414e1,7.3042109478581764e1,7.6183692604221053e1,7.9325277179842267e1,8.2466862939787321e1,8.5608449674728967e1,8.8750037218213743e1,9.1891625436757093e1,9.5033214222469674e1,9.8174803487509786e1,1.013163931598685e2,1.0445798318013786e2,1.0759957349901153e2,1.1074116407533634e2,1.1388275487458175e2,1.1702434586762911e2,1.2016593702980736e2,1.2330752834012028e2},
-                                 {5.9553713758758338e-1,-2.8781325089694064,3.4692921788516319,6.4209761885488469,9.4931246193573941,1.2604196772161416e1,1.5730458353029274e1,1.8863554713654351e1,2.2000074701367983e1,2.5138457458975835e1,2.8277922210446983e1,3.1418049558253285e1,3.4558600742480477e1,3.7699433119966021e1,4.0840457933079607e1,4.3981618001157253e1,4.7122875364090564e1,5.0264204153004266e1,5.3405586327968621e1,5.6547009048958101e1,5.9688463008769952e1,6.2829941349549759e1,6.5971438942875472e1,6.9112951901771962e1,7.2254477243900209e1,7.5396012655226886e1,7.85375563216804e1,8.1679106807564569e1,8.4820662966616166e1,8.7962223876170583e1,9.1103788787896448e1,9.4245357090552654e1,9.7386928281565989e1,1.0052850194514748e2,1.0367007773530299e2,1.0681165536254035e2,1.0995323458339263e2,1.1309481519210358e2,1.1623639701398619e2,1.1937797990008487e2},
-                                 {8.9705686659333814e-2,3.30353691281526e-1,-1.0724103481356926e1,4.0784884344670876,6.8188293432696232,9.7538227125502388,1.2781033282497613e1,1.5855030810394338e1,1.8954409902461902e1,2.2068395318177667e1,2.5191221980524111e1,2.8319635757157928e1,3.1451712627948657e1,3.458626842123528e1,3.772254846514559e1,4.0860056940405352e1,4.3998459260406073e1,4.7137524234664524e1,5.0277088718026806e1,5.3417035394003227e1,5.6557278459598963e1,5.9697754191655237e1,6.2838414602267737e1,6.5979223092087036e1,6.9120151421683182e1,7.2261177568416734e1,7.5402284188213479e1,7.8543457496949438e1,8.1684686447066756e1,8.4825962114654118e1,8.7967277238403841e1,9.1108625869418281e1,9.4250003102782849e1,9.7391404870053766e1,1.0053282777754971e2,1.0367426897938674e2,1.0681572607708398e2,1.0995719703964773e2,1.1309868013955422e2,1.1624017390116122e2},
-                                 {2.9477583670925928e-2,1.4045454487097878e-1,9.3690527835932535e-1,-2.3509380218231088e1,4.7741804541087227,7.3647550415918412,1.0168240643923454e1,1.3095172023368873e1,1.6095599878400995e1,1.9141256245071015e1,2.2215690660008078e1,2.5309019429168926e1,2.8415113050895663e1,3.1530055154589519e1,3.4651273894099281e1,3.7777037742296018e1,4.0906154317248973e1,4.4037785564374215e1,4.7171331462312859e1,5.0306355134256059e1,5.3442533585765653e1,5.6579624659991355e1,5.9717444469234961e1,6.2855851724154557e1,6.5994736684993895e1,6.9134013260840651e1,7.227361328561611e1,7.5413482320448177e1,7.8553576540449135e1,8.1693860401330551e1,8.4834304873238806e1,8.7974886091573453e1,9.1115584317414217e1,9.4256383129993143e1,9.7397268794617402e1,1.0053822976435604e2,1.0367925628450982e2,1.0682034007664481e2,1.0996147408464836e2,1.1310265226945512e2},
-                                 {1.3156818357522037e-2,7.1010348315974554e-2,5.3565355979830956e-1,1.6325878267451713,-4.1229490179647547e1,5.5063093083078619,7.9919807641422348,1.0686748718776919e1,1.3518435055581935e1,1.6440631364260641e1,1.9423660945146461e1,2.24483741585029e1,2.5502219881378936e1,2.8576820463470295e1,3.1666477465526518e1,3.476724244540121e1,3.7876330793283658e1,4.0991745804465475e1,4.4112033394812532e1,4.7236119295383132e1,5.0363199186114423e1,5.3492663372357209e1,5.6624044364653556e1,5.9756979879485906e1,6.2891186376124446e1,6.6026439892489572e1,6.9162562004076016e1,7.2299409423290137e1,7.5436866215871393e1,7.8574837919435784e1,8.1713247058834071e1,8.4852029697280544e1,8.7991132762612131e1,9.1130511958676178e1,9.427013012205471e1,9.7409955920370571e1,1.0054996281452684e2,1.0369012822630908e2,1.0683043286683888e2,1.0997086019181055e2},
-                                 {6.9758263506338021e-3,4.0489847595035212e-2,3.2905427555396303e-1,1.0815697607033277,2.3647166547828998,-6.3884402468420965e1,6.2565494244455743,8.6661029392495638,1.1273543637550837e1,1.4021362233864614e1,1.6868957310511351e1,1.9788046792632133e1,2.2758942986587625e1,2.5767855657889496e1,2.8805030221046429e1,3.186348639869738e1,3.4938167472005587e1,3.8025364609568243e1,4.1122324431428211e1,4.4226978885776927e1,4.7337757298590124e1,5.0453454118896477e1,5.3573134796851493e1,5.6696068050466877e1,5.9821676593217276e1,6.294950091641362e1,6.607917240122747e1,6.9210393166669417e1,7.2342920828974246e1,7.5476556876004676e1,7.8611137726593147e1,8.1746527801289202e1,8.4882614112371598e1,8.8019302010421473e1,9.1156511817939176e1,9.4294176148150226e1,9.743223775668039e1,1.0057064781032928e2,1.0370936448434429e2,1.0684835181994438e2},
-                                 {4.1337222859241731e-3,2.5158774873250026e-2,2.14672191911695e-1,7.4346270944529866e-1,1.7087954570276301,3.1149567708559317,-9.1474116958154219e1,7.0170430802626266,9.3692931973450413,1.1906385344025019e1,1.458216707140882e1,1.7361850909874185e1,2.0219646477160881e1,2.3136542888320644e1,2.6098517314371065e1,2.909517998933285e1,3.2118781421527091e1,3.5163495593200124e1,3.822490509744455e1,4.1299631177540432e1,4.4385066893280919e1,4.7479183559002808e1,5.0580389357122117e1,5.3687425276768808e1,5.6799287916409303e1,5.9915171755680763e1,6.3034425642001957e1,6.6156519734981725e1,6.9281020203833828e1,7.2407569716438772e1,7.5535872287298023e1,7.8665681430032883e1,8.1796790832869543e1,8.4929026973601638e1,8.8062243235330861e1,9.1196315190910723e1,9.4331136803068644e1,9.7466617346183026e1,1.0060267890001828e2,1.0373925429923395e2},
-                                 {2.6480513091163409e-3,1.6662481908534346e-2,1.4707706621862758e-1,5.2880143530092479e-1,1.2619707580725214,2.3829176320701284,3.8754504266728337,-1.2399863364843335e2,7.7838891470371493,1.009161255526618e1,1.2571357763680394e1,1.5185602609256999e1,1.7904681020546724e1,2.0705543888147214e1,2.3570432132318268e1,2.6485698504781258e1,2.9440844870048499e1,3.2427768513628026e1,3.5440185472269545e1,3.8473194502989325e1,4.1522949096905467e1,4.4586411016133265e1,4.7661164784025085e1,5.0745277581213152e1,5.3837192957256381e1,5.6935649776240364e1,6.003962005756568e1,6.3148261027890357e1,6.6260877915058698e1,6.9376894905578846e1,7.2495832340925882e1,7.5617288708927626e1,7.8740926341644039e1,8.1866459994515862e1,8.4993647677780911e1,8.8122283258088686e1,9.1252190458838144e1,9.4383217971445263e1,9.7515235453400031e1,1.006481302376451e2},
-                                 {1.7970418519979259e-3,1.1589816032372673e-2,1.0486350469639815e-1,3.8763663674325311e-1,9.5206444128774488e-1,1.8487656767816084,3.0861078901654551,4.6422964934473561,-1.6145795253925716e2,8.554937854882745,1.0827141670407536e1,1.3259487112715369e1,1.5821036123250308e1,1.8486430983457412e1,2.1235243579277772e1,2.4051174618686887e1,2.692127858351942e1,2.9835286078276741e1,3.2785041959109867e1,3.5764053264637943e1,3.8767131766634983e1,4.1790114084879216e1,4.4829643609868889e1,4.7883000875295409e1,5.0947971558169773e1,5.4022743563715078e1,5.7105826552827824e1,6.019598879209949e1,6.329220739724087e1,6.6393628959623247e1,6.9499538249078267e1,7.2609333222397184e1,7.5722504975221649e1,7.8838621585865472e1,8.1957315036634543e1,8.5078270579371554e1,8.820121805081893e1,9.1325924750199688e1,9.4452189573864936e1,9.7579838165748924e1},
-                                 {1.274922487377189e-3,8.3799200504323257e-3,7.7256266822369721e-2,2.9170034982347966e-1,7.3266809637665763e-1,1.4549916195055926,2.4816073832556397,3.8084272480865942,5.4133452012929518,-2.0385207363062566e2,9.3289092038677466,1.1572155107943937e1,1.3964789703756009e1,1.6480956560083137e1,1.9098863370487426e1,2.1800445234940638e1,2.4570877919789017e1,2.7398065811363433e1,3.0272165809492814e1,3.3185171903904457e1,3.6130565770066866e1,3.9103029375430556e1,4.2098211807234336e1,4.5112541638878452e1,4.8143076626722079e1,5.1187383555548453e1,5.4243442212390346e1,5.7309568569636244e1,6.0384353221200896e1,6.3466611920831164e1,6.6555345727485265e1,6.9649708788179834e1,7.2748982205377913e1,7.5852552764359381e1,7.8959895553888825e1,8.2070559715690506e1,8.5184156716745691e1,8.8300350662782431e1,9.1418850269037694e1,9.4539402181302853e1},
-                                 {9.3698139396561242e-4,6.2520179317868604e-3,5.8490275579020458e-2,2.2454211117074959e-1,5.7410502367268461e-1,1.160994042562536,2.015796457049648,3.1465798029110152,4.5439563632279505,6.1873165502779534,-2.5118099692253883e2,1.0104994238700477e1,1.232419869821921e1,1.468314762290305e1,1.7159961498161252e1,1.9735787929113198e1,2.2394635596829217e1,2.5123077535079071e1,2.7909911060787991e1,3.0745822667804627e1,3.3623081710314591e1,3.6535272282284214e1,3.947706475320853e1,4.2444024416622331e1,4.5432452989569279e1,4.8439258238762143e1,5.1461847188369622e1,5.4498038832994796e1,5.7545992844201114e1,6.0604151320094567e1,6.3671191138421133e1,6.6745984917030361e1,6.9827568959248648e1,7.2915116870838714e1,7.6007917787855578e1,7.9105358359537521e1,8.2206907795602826e1,8.5312105420213293e1,8.8420550281580338e1,9.153189245184636e1},
-                                 {7.0866513546807742e-4,4.7867121482953279e-3,4.5311398623043799e-2,1.7627822674180495e-1,4.5722558343932953e-1,9.3849087109352489e-1,1.6538876419252196,2.6192319948978265,3.8347091519459895,5.2889698007643514,6.9634015851106845,-3.0344472241499669e2,1.0882656925113145e1,1.3081593149127484e1,1.5411645360186538e1,1.7854090609534916e1,2.0392506313449564e1,2.3012697973262459e1,2.5702519008585337e1,2.8451643918963548e1,3.1251331637773534e1,3.4094199586859813e1,3.6974018542547728e1,3.9885532146361987e1,4.2824301320435848e1,4.578657197428005e1,4.8769163542688104e1,5.1769375639946746e1,5.4784910182626527e1,5.7813806558748765e1,6.0854387709965812e1,6.390521529268627e1,6.6965052366442315e1,7.0032832310790764e1,7.3107632891665994e1,7.6188654584887957e1,7.9275202421211131e1,8.2366670747508094e1,8.5462530406205055e1,8.8562317923507057e1},
-                                 {5.4889320502331411e-4,3.7452427856944704e-3,3.5795615823979628e-2,1.4077919487874782e-1,3.6947865272557317e-1,7.6779441145922345e-1,1.3700905556221228,2.1967177525977579,3.2546655088911359,4.5400117429866298,6.0410133910396236,7.741064271523352,-3.6064325010799922e2,1.166152814294242e1,1.3843152109236312e1,1.6148166214387884e1,1.8560386900218405e1,2.106541019565093e1,2.3650590975248781e1,2.6304935154285714e1,2.9018948048754887e1,3.1784466667699518e1,3.459449273174792e1,3.7443035802674758e1,4.0324971120536703e1,4.3235913785008725e1,4.6172109182808683e1,4.9130338621315542e1,5.2107838682666707e1,5.5102232665202832e1,5.8111472502306473e1,6.1133789661965014e1,6.416765368456072e1,6.7211737182442028e1,7.0264886286531734e1,7.3326095674251895e1,7.639448744581405e1,7.9469293231611176e1,8.2549839012736071e1,8.5635532220969564e1},
-                                 {4.3375732015470472e-4,2.9849666814449323e-3,2.8758755520809387e-2,1.14128644982811e-1,3.0248658122713873e-1,6.3511442917130165e-1,1.145394313192092,1.8559879666084551,2.7784677155084458,3.9145859457239644,5.2583696621336704,6.7984078419478977,8.5199354893526277,-4.2277658000154644e2,1.2441345475887073e1,1.4608014416717832e1,1.6891139032323117e1,1.9276604373289442e1,2.1751694309976434e1,2.4305098719329541e1,2.6926851027957095e1,2.9608226958196425e1,3.2341625329036714e1,3.5120444337495225e1,3.7938961479945771e1,4.0792221681524698e1,4.3675935840889152e1,4.6586390505828822e1,4.9520368497820041e1,5.2475079801044281e1,5.5448101783530012e1,5.8437327729081811e1,6.1440922664518809e1,6.4457285525662977e1,6.7485016790876938e1,7.052289080629537e1,7.3569832122452635e1,7.6624895252325096e1,7.9687247343146936e1,8.2756153327663844e1},
-                                 {3.4869740560202702e-4,2.4171262052375527e-3,2.3446145841326714e-2,9.3754730902779736e-2,2.5055092969356834e-1,5.3069633873844121e-1,9.6577608565271995e-1,1.5792835571897158,2.3856876577390125,3.3909001025384598,4.59359088380208,5.9868673994171583,7.5599668020567263,9.2997528222972798,-4.8984471209563833e2,1.3221917287276085e1,1.5375540223042696e1,1.7639374594165757e1,2.0001010030236666e1,2.2449151474514982e1,2.4973640926651575e1,2.7565423572789849e1,3.0216480573478422e1,3.2919744202374048e1,3.5669005948856642e1,3.845882444487412e1,4.128443740185988e1,4.4141679897897465e1,4.702691012177504e1,4.9936942885274915e1,5.2868990725259914e1,5.5820612135103338e1,5.8789666320712881e1,6.1774273820738266e1,6.477278232982131e1,6.7783737095249804e1,7.0805855306148808e1,7.3838003950760378e1,7.6879180675430414e1,7.9928497235072742e1},
-                                 {2.8450046093528255e-4,1.9845406930903102e-3,1.9361967511295779e-2,7.7925925509723236e-2,2.0972325597846712e-1,4.4755986279959867e-1,8.2084610702471195e-1,1.3529572760629125,2.0600260435583343,2.9508893134018786,4.0278246611642328,5.287719995175744,6.7233882536185046,8.3248291095382463,1.0080324633686292e1,-5.618476463902749e2,1.4003100382439178e1,1.6145244411611677e1,1.8391957058726903e1,2.0732247382469925e1,2.3156025170256765e1,2.5654129614620543e1,2.8218313490717563e1,3.0841199108639966e1,3.3516217910619518e1,3.6237542067622784e1,3.9000013740631302e1,4.179907568334426e1,4.463070543492076e1,4.7491354353625016e1,5.0377892064874836e1,5.3287556452364678e1,5.6217909041126694e1,5.9166795456198179e1,6.2132310553191562e1,6.511276778117464e1,6.810667233533362e1,7.1112697674093973e1,7.4129665004009948e1,7.7156525370013663e1},
-                                 {2.3514287880342599e-4,1.6492500366080789e-3,1.6171633922223063e-2,6.5449846872885602e-2,1.7721895027112207e-1,3.8064828251801328e-1,7.0285488562915977e-1,1.1665109877403605,1.7885373548010747,2.5797293446604645,3.5450796752904576,4.6845430455005985,5.9940162858592326,7.4663610715537381,9.0923549158631098,1.0861507728849385e1,-6.3878538288545615e2,1.478478562250045e1,1.6916752619828492e1,1.9148170178709285e1,2.1469240703754975e1,2.3870902476389476e1,2.6344860928422847e1,2.8883584163340185e1,3.1480274759858078e1,3.412882689546568e1,3.6823775365404808e1,3.9560241131655553e1,4.2333876555307934e1,4.5140812365672883e1,4.7977607622443109e1,5.0841203363570238e1,5.3728880243233488e1,5.6638220204955778e1,5.9567072068644056e1,6.251352080990982e1,6.5475860255293568e1,6.8452568893254277e1,7.1442288497413609e1,7.4443805268075069e1},
-                                 {1.9657315290843154e-4,1.3853853605171352e-3,1.3643954590880795e-2,5.54884404083346e-2,1.5104130786314538e-1,3.2625276649087606e-1,6.0597640371239905e-1,1.0118419777300939,1.5609521959686028,2.2653245826450877,3.1319289599505192,4.1631420517237003,5.3574469277019644,6.7102337589302697,8.2145966333963772,9.8620591044320906,1.1643192968910656e1,-7.2065792158118208e2,1.5566888374431605e1,1.7689771415633096e1,1.9907446042326072e1,2.221112672750185e1,2.4592635455035483e1,2.7044433156561329e1,2.9559622273552905e1,3.2131929447856921e1,3.4755675272725274e1,3.7425736291271075e1,4.0137503017182707e1,4.2886836645043813e1,4.5670026271120225e1,4.8483747813009219e1,5.1325025354028589e1,5.4191195307313807e1,5.7079873563509729e1,5.9988925629219826e1,6.2916439661109692e1,6.5860702237510528e1,6.8820176674051213e1,7.1793483673741203e1},
-                                 {1.6599789370835817e-4,1.1749067350788949e-3,1.1615784363369677e-2,4.7441684757185087e-2,1.2973624462040966e-1,2.8161993476105019e-1,5.2579325436703201e-1,8.8266628278182006e-1,1.3691154232119353,1.9978319271846753,2.777169832069646,3.7113704334567852,4.801035053710022,6.0437310420274679,7.4346394158774931,8.9671790979575237,1.0633567312648906e1,1.2425295720841812e1,-8.0746526247745269e2,1.6349342002271095e1,1.846406759673761e1,2.0669328754564547e1,2.2957205147374833e1,2.532028276705777e1,2.775168420341838e1,3.0245075466765101e1,3.2794656165901056e1,3.539513839958921e1,3.804171846832738e1,4.0730044477198015e1,4.3456182068291142e1,4.6216579868963847e1,4.9008035741837459e1,5.1827664546011138e1,5.4672867841151229e1,5.7541305765142771e1,6.043087117386462e1,6.3339666033884645e1,6.6265979994047694e1,6.9208271021199416e1},
-                                 {1.4144862844662245e-4,1.004974134765628e-3,9.9698067499969493e-3,4.087270311059146e-2,1.1222949160121613e-1,2.4468173551997315e-1,4.589266808731208e-1,7.7408265991180657e-1,1.206534075150218,1.7692453680065256,2.4714887854964887,3.3189026902452024,4.3137865791571613,5.4555427977907823,6.7411882065660158,8.1658767681107524,9.7233922179399055,1.140658610845351e1,1.3207749348681302e1,-8.9920740557426798e2,1.7132093327159129e1,1.9239453521718467e1,2.1433448240111382e1,2.3706902212833586e1,2.6053065822656903e1,2.8465643551969598e1,3.0938803263002528e1,3.3467171517137682e1,3.6045819107081742e1,3.8670240068503481e1,4.1336326671020407e1,4.4040342259346121e1,4.6778893311451779e1,4.9548901684981468e1,5.2347577718195254e1,5.5172394620639774e1,5.8021064416669532e1,6.0891515579161767e1,6.3781872400771374e1,6.6690436087353555e1},
-                                 {1.2151102190817822e-4,8.6628035682338063e-4,8.6202187559403174e-3,3.5458501030392256e-2,9.7716728742713686e-2,2.1386749474337651e-1,4.0276974302381496e-1,6.8224460023815509e-1,1.068019923557465,1.5730465805791407,2.2071551744166593,2.9769977554653953,3.8862068200365418,4.9357024528285424,6.1240850051128157,7.4480619023077996,8.9028700893958021,1.0482668081556693e1,1.2180882289558024e1,1.3990500673569336e1,-9.9588435087162795e2,1.7915099395055454e1,2.0015776521296246e1,2.2199501038328143e1,2.4459743586745026e1,2.6790335487976464e1,2.9185495070862809e1,3.1639838240504031e1,3.4148377308974549e1,3.6706511364209216e1,3.9310010788570333e1,4.1954997966378069e1,4.4637925741239493e1,4.7355554793166467e1,5.0104930792361577e1,5.2883361939986164e1,5.568839731512107e1,5.8517806301286938e1,6.1369559256347663e1,6.4241809508763984e1},
-                                 {1.0515109686892222e-4,7.5196754683747756e-4,7.5032972224214119e-3,3.0956921666300887e-2,8.5588261395706711e-2,1.8797166145993643e-1,3.5529375515590995e-1,6.0411386587616053e-1,9.4940958821190446e-1,1.403917532353038,1.977753092796489,2.6782730509618806,3.5101327853913789,4.4754857294780798,5.5742749976612966,6.8045736930817844,8.1629392084405098,9.6447561131426772,1.1244550793795167e1,1.2956268214538881e1,1.477350674146566e1,-1.0974960983695325e3,1.8698325133011895e1,2.0792911126659297e1,2.2967236014774655e1,2.5215333850358935e1,2.7531546542123133e1,2.9910547989448264e1,3.2347355185394189e1,3.48373294204358e1,3.7376170178050992e1,3.9959903821132677e1,4.25848687375483e1,4.524769824694884e1,4.794530226649204e1,5.0674848484807814e1,5.3433743594258429e1,5.6219614974002791e1,5.9030293093572231e1,6.1863794812283685e1},
-                                 {9.1601049514789071e-5,6.5690728275692064e-4,6.5710542451281556e-3,2.7184077320113938e-2,7.5376600102260417e-2,1.6605968582515985e-1,3.1490689968542607e-1,5.3727498017818723e-1,8.4734645961178408e-1,1.2575073105670247,1.7779529101310119,2.4164993530600027,3.1785661958499879,4.0672914467285754,5.0837393447600763,6.2271649155890105,7.4953050068840876,8.8846721870865174,1.039083453301566e1,1.2008670279342003e1,1.3732591214116659e1,1.5556732479422101e1,-1.2040426480679819e3,1.9481741621617567e1,2.1570753278948375e1,2.3736443586394551e1,2.5973340844682816e1,2.8276237885868409e1,3.0640214069120477e1,3.3060646436339894e1,3.5533212490730764e1,3.8053886662437883e1,4.0618932157477937e1,4.3224889559458647e1,4.5868563271447177e1,4.854700664709754e1,5.1257506462622435e1,5.3997567220007185e1,5.6764895642175012e1,5.9557385617832349e1},
-                                 {8.028261907231548e-5,5.7721258945388771e-4,5.7868904746332164e-3,2.3998678649916882e-2,6.671946134481695e-2,1.4740028585075035e-1,2.8035016574232339e-1,4.7979512377646067e-1,7.5911107144851074e-1,1.130244488621347,1.6033199199550193,2.1864203032844684,2.8855166131870329,3.7045178015972935,4.6454103200659089,5.7084578799216207,6.8924355882116323,8.1948772350225701,9.6123194991088043,1.1140531598474413e1,1.2774723077558763e1,1.450972581947971e1,1.6340148968027774e1,-1.3155239999669759e3,2.0265324802623306e1,2.2349215955536654e1,2.4506947495389999e1,2.6733483575825118e1,2.9024017063091098e1,3.1373989510677268e1,3.3779102066454291e1,3.6235319265167841e1,3.8738867362047124e1,4.1286228585760435e1,4.3874132439110627e1,4.6499544957115068e1,4.9159656644740373e1,5.1851869658927017e1,5.4573784668943667e1,5.7323187722374761e1},
-                                 {7.0754668568089702e-5,5.099011279073282e-4,5.1225664809860574e-3,2.1290985899461056e-2,5.9333304393563429e-2,1.3141617501135557e-1,2.5062015179302522e-1,4.3011784622989596e-1,6.8248910073308124e-1,1.0191868228751804,1.4501558393121737,1.9835968237685365,2.6258592774591844,3.3814422904580462,4.2530794129587098,5.2418840283113794,6.3475335311397322,7.5684736984243531,8.9021282818796212,1.0345102554707937e1,1.1893372972385853e1,1.3542458054005276e1,1.5287567971768789e1,1.7123732149033512e1,-1.4319401540665146e3,2.1049054499045012e1,2.3128225825045029e1,2.5278598457264068e1,2.7495522778085692e1,2.9774548048177665e1,3.2111440509132765e1,3.4502193860620754e1,3.6943033672503547e1,3.94304170689859e1,4.1961028810676251e1,4.4531774707947953e1,4.7139773128315893e1,4.9782345212440674e1,5.245700428710842e1,5.516144485748821e1},
-                                 {6.2676699988497849e-5,4.5265886479122855e-4,4.5560596247447072e-3,1.8974908156423798e-2,5.2994167168896887e-2,1.1764784461790631e-1,2.249113374746922e-1,3.869820116240861e-1,6.1566845268859332e-1,9.219010981117615e-1,1.3153684349152445,1.8042748240229454,2.3952092883414132,3.0931098384471791,3.9013052553863948,4.8216155317248519,5.8544930131575417,6.9991882191385753,8.2539268916365491,9.6160876304308392,1.1082372220027498e1,1.2648963235999762e1,1.4311665625625172e1,1.6066030648357068e1,1.7907461845455219e1,-1.5532911103665979e3,2.1832913663041014e1,2.3907720659783515e1,2.6051269204488736e1,2.825925348113042e1,3.0527541530097636e1,3.2852191638820649e1,3.522946228657395e1,3.7655816899592934e1,4.0127924503118713e1,4.2642657194934306e1,4.5197085215584645e1,4.7788470256484344e1,5.041425752946384e1,5.3072067019775639e1},
-                                 {5.5783055249357701e-5,4.0367172851186972e-4,4.0700258316964038e-3,1.6982279342090463e-2,4.7523625165547753e-2,1.0572667584196383e-1,2.0257257020609326e-1,3.4935963935960931e-1,5.5715878821154664e-1,8.3636710136386138e-1,1.1963647309329304,1.6452737388412063,2.1898120325515782,2.8352313442218407,3.5853255587823616,4.442494551143577,5.4078488295068758,6.4813413904171351,7.6619149371827103,8.9476546878739756,1.0335939149324049e1,1.1823583274174167e1,1.3406970230323643e1,1.508216953462062e1,1.6845040517865442e1,1.8691321009451221e1,-1.679576868867226e3,2.2616887792114484e1,2.4687647313022545e1,2.6824850581607983e1,2.9024499104102493e1,3.1282747122229407e1,3.3595916450895346e1,3.5960505840435255e1,3.8373195881634203e1,4.0830850341975765e1,4.3330514696248879e1,4.5869412497926563e1,4.8444940131911833e1,5.1054660395313102e1},
-                                 {4.9864407102490002e-5,3.6150402288801357e-4,3.6506809778627841e-3,1.5258660584363667e-2,4.2778390789874642e-2,9.5354787694117236e-2,1.8307400959606746e-1,3.1640795609449261e-1,5.0572837389341888e-1,7.6090080501996646e-1,1.0909637219683119,1.5038931825100542,2.0064488174686439,2.6040933555717172,3.300975401230153,4.0999638402667414,5.0027219421678277,6.0098097553731427,7.1208045172810708,8.3344302884193366,9.6486896653754785,1.1060992067909504e1,1.2568274617919443e1,1.4167112961465945e1,1.5853820496494688e1,1.7624535352603929e1,1.947529513852469e1,-1.8107974295683987e3,2.3400964471282777e1,2.5467960122446598e1,2.7599248441053395e1,2.9791106724454393e1,3.2039947070215315e1,3.4342329812594485e1,3.669497228604797e1,3.9094753746564994e1,4.1538717181474473e1,4.4024068640730522e1,4.6548174630875368e1,4.9108558028822607e1},
-                                 {4.4754302085241974e-5,3.2500948469093242e-4,3.2869775053868873e-3,1.3760226995528263e-2,3.8642529781337722e-2,8.6289796409153315e-2,1.6598182485837712e-1,2.8743218967304003e-1,4.6035432544500545e-1,6.9409280299482487e-1,9.9732507958483662e-1,1.377835071600042,1.8423562252300159,2.396478693973143,3.0446129715179348,3.7900009382534483,4.6347647122304156,5.5799838276949818,6.6257919324294479,7.7714852247736036,9.0156360802562038,1.0356206610265636e1,1.1790658147581718e1,1.3316053795142132e1,1.4929152163726519e1,1.6626491243719356e1,1.8404462005842958e1,2.0259371817692983e1,-1.9469527924701161e3,2.4185133010611872e1,2.6248619638682647e1,2.8374381154869556e1,3.0558943258762569e1,3.2798951134514085e1,3.509118162718918e1,3.7432551413174728e1,3.9820121846740161e1,4.2251101086935086e1,4.472284403240754e1,4.7232850519051902e1},
-                                 {4.0319255641601908e-5,2.9326544931468129e-4,2.9699915029560046e-3,1.2451434287151719e-2,3.5021579755935393e-2,7.8333189849789564e-2,1.5093868387352884e-1,2.6185652660339526e-1,4.2018323423758979e-1,6.3475884903529949e-1,9.1389090188849597e-1,1.2651387941324876,1.6951575541763474,2.2095973436075892,2.8130530814280166,3.509057203367911,4.3001078690055711,5.1877248019662942,6.1725252877102899,7.2543135326055494,8.4321774819010773,9.7045881917174542,1.1069497861211341e1,1.2524433589138509e1,1.4066584780228699e1,1.5692882866771247e1,1.7400072620838603e1,1.9184774815267012e1,2.1043540357022079e1,-2.0880429575723782e3,2.4969384155723537e1,2.7029591604285932e1,2.9150177604632261e1,3.1327892357592884e1,3.3559592401127597e1,3.5842251655640226e1,3.817296902053884e1,4.0548973085330849e1,4.2967624457501056e1,4.5426416148917133e1},
-                                 {3.6451378428967721e-5,2.6552358538705901e-4,2.6924616628861141e-3,1.1303252605612863e-2,3.1838065564429361e-2,7.1321386848467194e-2,1.3764860114298595e-1,2.3920130836063843e-1,3.8449987010281672e-1,5.8190000209960749e-1,8.3933806662526867e-1,1.1641272917597408,1.5628047376901956,2.0410266725035277,2.6035082678232229,3.2540022610279378,3.9953104721860044,4.8293217744529136,5.7570702252136234,6.7788074815326821,7.8940842526724009,9.1018362957428532,1.0400471262012418e1,1.1787953491325739e1,1.3261884587594006e1,1.481957826214867e1,1.645812848974332e1,1.8174470480284016e1,1.996543433150306e1,2.1827791502133743e1,-2.2340679248751849e3,2.5753709854695568e1,2.7810846127502094e1,2.9926575545876235e1,3.2097851863919159e1,3.4321723831003146e1,3.6595345222919718e1,3.891598189190793e1,4.1281016303325535e1,4.368794997856821e1},
-                                 {3.3062828748557689e-5,2.411726517996761e-4,2.4484390875324968e-3,1.0291817350466724e-2,2.9028050421109558e-2,6.5118807954728989e-2,1.2586509028805261e-1,2.1906502277258871e-1,3.5270218983194006e-1,5.3467040920438336e-1,7.7253919164470325e-1,1.0733622208904054,1.4435292437589425,1.8886599644655336,2.4135370240768531,3.0220739949279863,3.7173135597233397,4.501450662752114,5.375875372296535,6.3412304162686027,7.397478776890344,8.5439772852347452,9.7795527801297441,1.1102578036449495e1,1.2511045285492201e1,1.400263571728189e1,1.5574783854280441e1,1.722473611009522e1,1.8949603194100176e1,2.0746406297106346e1,2.2612117201105775e1,-2.3850276943785364e3,2.6538103068944386e1,2.8592357008825279e1,3.0703520268222387e1,3.2868731719662687e1,3.5085215401313137e1,3.7350289639020493e1,3.9661373581487623e1,4.2015991539066323e1},
-                                 {3.0081597672062922e-5,2.1971007534184801e-4,2.233018862307382e-3,9.3973896014372793e-3,2.6538462162902897e-2,5.9612465447331966e-2,1.153818395349197e-1,2.0111000189920867e-1,3.2428128906661141e-1,4.9235117281266937e-1,7.1253058027319677e-1,9.9160664105665764e-1,1.3358006127648561,1.750662246312738,2.2409985560966032,2.8108339301002096,3.4633977857967965,4.2011355501816907,5.0257385915803539,5.9381888147844676,6.9388138981619748,8.0273495480605744,9.2030056215800047,1.0464533479738985e1,1.1810292443785201e1,1.3238313711445397e1,1.4746360529356587e1,1.6331983802266349e1,1.7992572644403396e1,1.9725399643862881e1,2.1527660820322508e1,2.3396510415354593e1,-2.5409222660824325e3,2.7322557618705001e1,2.9374101188395985e1,3.1480963490762477e1,3.3640452231086657e1,3.584995172405264e1,3.8106931200678322e1,4.0408950862220377e1},
-                                 {2.7448277239749965e-5,2.0072006704722989e-4,2.0421325434315158e-3,8.6035485905701801e-3,2.432500463715719e-2,5.470770990741424e-2,1.0602532667722149e-1,1.8505100118123784e-1,2.9880524612064146e-1,4.5432907820434374e-1,6.5848583827346973e-1,9.1779393181531332e-1,1.2382914570563708,1.6254324538671124,2.0840134025321947,2.618127691581901,3.2311450939292937,3.9257128498771156,4.7037747421642403,5.5666045347243627,6.5148502964991558,7.5485864038713219,8.6673703699709222,9.8703020498625028,1.1156083186677761e1,1.2523075670874588e1,1.3969357265306702e1,1.5492773891055726e1,1.7090987866565119e1,1.8761521743233711e1,2.0501797585106855e1,2.2309171701645693e1,2.4180964965115208e1,-2.7017516399868733e3,2.8107068055943936e1,3.0156058289693724e1,3.2258862445955281e1,3.4412942623477989e1,3.6615830051926117e1,3.8865132667556226e1},
-                                 {2.5113561118945644e-5,1.838566327569086e-4,1.8723864495820562e-3,7.8965596250363324e-3,2.2350514425895849e-2,5.0324863835324005e-2,9.7648934816650766e-2,1.7064603085649399e-1,2.7590604329991921e-1,4.2007921414399411e-1,6.0969410170054035e-1,8.5100185910075007e-1,1.1498479075562835,1.5115710654912804,1.9409292580254458,2.4420501349854905,3.0184043040277781,3.6727984524832442,4.4073853837145378,5.2236879143483561,6.1226336421044722,7.1045977698247282,8.1694514283696589,9.3166132496229014,1.0545102274778319e1,1.1853590620810573e1,1.3240454652915857e1,1.4703823710919417e1,1.624162570565042e1,1.7851629133178631e1,1.9531481249559986e1,2.1278742307453007e1,2.3090915881216398e1,2.4965475402354143e1,-2.8675158160918588e3,2.8891629559187258e1,3.0938210240512945e1,3.3037179115594681e1,3.5186139830503321e1,3.7382758600300629e1},
-                                 {2.3036296133986516e-5,1.6883028032902631e-4,1.7209346968212989e-3,7.2648757738867294e-3,2.0583659151963003e-2,4.6396540456580755e-2,9.0128236806720173e-2,1.5768895757447629e-1,2.552689324471372e-1,3.8915072235588238e-1,5.6554201979269006e-1,7.904308987329198e-1,1.0694646416866513,1.4078524273199196,1.8102913698641468,2.2809147093787758,2.8232603917037485,3.4402578646035479,4.1342306541162859,4.9069121632030824,5.7594721361392654,6.6925513345507093,7.7063021504302287,8.8004331140375498,9.9742555184602276,1.1226730659036374e1,1.2556516459667626e1,1.3962012517846648e1,1.5441402838046175e1,1.6992695734101467e1,1.861376056305418e1,2.0302361105303514e1,2.2056185529993097e1,2.3872872982514137e1,2.5750036905597465e1,-3.0382147943973889e3,2.9676237845978631e1,3.1720540956380026e1,3.3815879590232385e1,3.5959987475068365e1},
-                                 {2.1181951752990434e-5,1.553975428145114e-4,1.5853788042725935e-3,6.698742337874439e-3,1.8997899718444547e-2,4.2865495396951282e-2,8.3357195374848048e-2,1.4600350473414103e-1,2.3662375030471959e-1,3.6115506982127402e-1,5.2549880226820274e-1,7.3538608146630014e-1,9.9626375965901254e-1,1.3132010898873905,1.6908169271733574,2.1332266099479623,2.644007183497704,3.2261792429036208,3.882203409248342,4.6139893056430474,5.422914857684379,6.3098537904115313,7.2752093123653299,8.3189521480730611,9.4406612852383746,1.0639566026096919e1,1.1914588160350947e1,1.3264383299166333e1,1.4687380618021815e1,1.6181820445410287e1,1.7745789301380959e1,1.937725213336417e1,2.1074081616727484e1,2.2834084485185901e1,2.4655024933333359e1,2.6534645192388838e1,-3.2138485749034638e3,3.0460889099613724e1,3.2503036074737876e1,3.4594933529423227e1},
-                                 {1.9521409315622953e-5,1.4335266397173404e-4,1.4636877782227991e-3,6.1898808830652022e-3,1.7570657910886089e-2,3.9682895456049595e-2,7.7245084899436175e-2,1.354383637514667e-1,2.1973779609568444e-1,3.3575636226822074e-1,4.8910377328887577e-1,6.8526175417347075e-1,9.2947689186634522e-1,1.2266715661700589,1.5813729181951337,1.997659295118522,2.4791231678686198,3.0288491657146639,3.6494056156785743,4.3428478145454888,5.1107311902604537,5.9541325165660993,6.8736774161602871,7.8695725086699122,8.9416407157733628,1.0089358413406825e1,1.1311893308438838e1,1.2608142104832589e1,1.3976767204626947e1,1.5416231856612503e1,1.6924833316779377e1,1.8500733717481733e1,2.0141988456103673e1,2.1846572009118816e1,2.3612401154825301e1,2.5437355649200439e1,2.731929644602393e1,-3.3944171576100833e3,3.1245579907506997e1,3.3285682730652597e1},
-                                 {1.8029997775033551e-5,1.3252095678837263e-4,1.3541340949260471e-3,5.7312352968238544e-3,1.6282644850900468e-2,3.6806915881273945e-2,7.1713985144904326e-2,1.2586319211644061e-1,2.0440996617113911e-1,3.1266331493369014e-1,4.5595598106612831e-1,6.3952875928063791e-1,8.6843001940144725e-1,1.1474310034021059,1.4809569892753765,1.8730339714447036,2.3272501184381585,2.8467309486655556,3.4341269222518296,4.0916119825653033,4.8208914917313851,5.6232179825457468,6.4994131847383202,7.4498948650967686,8.4747071368513152,9.5735530327965282,1.0745828288834314e1,1.1990655441387642e1,1.3306917496509607e1,1.4693290575192917e1,1.6148275074607189e1,1.767022500635907e1,1.9257375279139562e1,2.0907866783977151e1,2.2619769216144148e1,2.4391101629463006e1,2.621985076755829e1,2.8103987253917204e1,-3.5799205425172475e3,3.2030307209092018e1},
-                                 {1.6686720896620215e-5,1.2275346567151439e-4,1.2552421121314811e-3,5.3167665137926886e-3,1.5117316232769872e-2,3.4201597891567604e-2,6.6696730770780432e-2,1.1716532277171959e-1,1.9046590446533393e-1,2.9162257360905675e-1,4.2570549774235651e-1,5.9772362299284679e-1,8.1253057404514714e-1,1.0747443343292199,1.3886808953279114,1.7583016838586258,2.1871742355098255,2.6784452947657518,3.2348252958137584,3.858583015557691,4.5515490905579133,5.3151270476674069,6.1503105068058641,7.0577052649380699,8.0375550536413122,9.0897698695185338,1.021395589864579e1,1.1409446185745089e1,1.2675331329564176e1,1.40104896130192e1,1.5413616096260071e1,1.6883250310347977e1,1.8417802287091824e1,2.0015576746017467e1,2.1674795332351663e1,2.3393616860709192e1,2.5170155568653848e1,2.7002497423473011e1,2.8888714555502224e1,-3.7703587296249564e3}};
-
-        IdXdX_ = new double[][] {{1.4485807346544342,-5.955371375875831e-1,-8.9705686659333537e-2,-2.9477583670925651e-2,-1.3156818357521761e-2,-6.9758263506335255e-3,-4.1337222859238965e-3,-2.6480513091160643e-3,-1.7970418519976492e-3,-1.2749224873769124e-3,-9.3698139396533579e-4,-7.0866513546780078e-4,-5.4889320502303747e-4,-4.3375732015442809e-4,-3.4869740560175039e-4,-2.8450046093500592e-4,-2.3514287880314936e-4,-1.9657315290815491e-4,-1.6599789370808154e-4,-1.4144862844634582e-4,-1.2151102190790158e-4,-1.0515109686864559e-4,-9.1601049514512437e-5,-8.0282619072038846e-5,-7.0754668567813068e-5,-6.2676699988221215e-5,-5.5783055249081067e-5,-4.9864407102213368e-5,-4.475430208496534e-5,-4.0319255641325274e-5,-3.6451378428691087e-5,-3.3062828748281055e-5,-3.0081597671786288e-5,-2.7448277239473331e-5,-2.511356111866901e-5,-2.3036296133709883e-5,-2.11819517527138e-5,-1.9521409315346319e-5,-1.8029997774756917e-5,-1.6686720896343582e-5},
-                                 {-5.955371375875831e-1,6.8077870157495902,3.5993008154986577,3.789199961909205,3.8586441584642092,3.8891646591851485,3.9044957319069337,3.9129920248716494,3.9180646907478111,3.9212745867297514,3.9234024888483969,3.9248677946318884,3.9259092639944893,3.9266695400987388,3.9272373805749462,3.9276699660870934,3.9280052567435757,3.9282691214196666,3.9284796000451049,3.9286495326454181,3.9287882264233604,3.9289025392333463,3.9289975994974268,3.9290772941907299,3.9291446056522764,3.9292018479153925,3.9292508350516719,3.9292930027572957,3.9293294972954928,3.9293612413308691,3.9293889831947967,3.9294133341283841,3.9294347967048419,3.9294537867131365,3.9294706501474268,3.9294856764998547,3.9294991092373692,3.929511154116212,3.9295219858233954,3.9295317533145122},
-                                 {-8.9705686659333537e-2,3.5993008154986577,1.7792696475707216e1,6.1316877159909643,6.5329394345519801,6.7395387187963266,6.8539208024385947,6.9215159281316621,6.9637294896538915,6.99133672752792,7.0101027187712692,7.0232815957272459,7.0327973785263101,7.0398342388294803,7.045146848508963,7.0492310268389939,7.0524213604280666,7.0549490397594089,7.05697720998692,7.0586231876002927,7.0599727755943494,7.0610896971278683,7.0620219401051615,7.0628061038756565,7.0634704278693036,7.064036934725545,7.0645229685185933,7.0649423133724269,7.0653060168449028,7.0656230028473337,7.0659005326874036,7.0661445552627572,7.0663599754879823,7.0665508618068582,7.0667206079007076,7.0668720596534684,7.0670076155460171,7.0671293065720669,7.0672388602553636,7.0673377522381582},
-                                 {-2.9477583670925651e-2,3.789199961909205,6.1316877159909643,3.371955636868914e1,8.5775883237128806,9.1286063897547242,9.4667134410127533,9.6813747151571271,9.8225395137147988,9.9184758006345723,9.9856340392873023,1.0033897923716247e1,1.0069396955579304e1,1.009604750547524e1,1.0116421419555272e1,1.0132250224948328e1,1.0144726303585166e1,1.0154687710049717e1,1.0162734465700866e1,1.016930344734746e1,1.0174717649427659e1,1.0179219228791751e1,1.0182992073137938e1,1.0186177471808135e1,1.018888516455859e1,1.0191201242301628e1,1.0193193871115961e1,1.0194917489873688e1,1.0196415923462523e1,1.01977247161709e1,1.0198872897852439e1,1.0199884333107585e1,1.0200778760856614e1,1.0201572601867481e1,1.0202279590833015e1,1.0202911274684165e1,1.0203477408120177e1,1.0203986269574986e1,1.0204444915161228e1,1.0204859383944259e1},
-                                 {-1.3156818357521761e-2,3.8586441584642092,6.5329394345519801,8.5775883237128806,5.458125895746915e1,1.0987052123038703e1,1.1642973320793973e1,1.2089798019749081e1,1.2399704336533858e1,1.2619100681444945e1,1.2777663754148918e1,1.2894543194382273e1,1.298229012509603e1,1.3049282196594464e1,1.3101217848128035e1,1.3142045521843136e1,1.3174549827550481e1,1.3200727469958458e1,1.3222032533201193e1,1.3239539286220387e1,1.3254052049078889e1,1.3266180516425896e1,1.3276392177719342e1,1.3285049316476786e1,1.3292435473428039e1,1.3298774610652706e1,1.3304245152656055e1,1.3308990387031728e1,1.3313126248040265e1,1.3316747198065667e1,1.3319930712257174e1,1.3322740727400493e1,1.33252303156587e1,1.3327443773184446e1,1.3329418263395707e1,1.333118511866964e1,1.3332770878103158e1,1.3334198119910717e1,1.3335486132970702e1,1.3336651461588833e1},
-                                 {-6.9758263506335255e-3,3.8891646591851485,6.7395387187963266,9.1286063897547242,1.0987052123038703e1,8.0377763899767531e1,1.3378404660490633e1,1.4110443799276437e1,1.4644595754564957e1,1.5038369811840972e1,1.5332367388784029e1,1.555487056025304e1,1.5725567019887342e1,1.5858247002175263e1,1.5962665092608124e1,1.6045801568546966e1,1.6112713148828552e1,1.6167108664855689e1,1.6211741496585515e1,1.6248679695826592e1,1.6279493936603189e1,1.6305389769886629e1,1.6327301745521405e1,1.6345961145495815e1,1.6361945256335209e1,1.6375713586728659e1,1.6387634755504601e1,1.6398006643652448e1,1.6407071634937412e1,1.6415028241496775e1,1.6422040044498098e1,1.6428242623391836e1,1.6433748965899233e1,1.6438653721439151e1,1.6443036567511241e1,1.6446964890889984e1,1.6450495935949614e1,1.6453678535890515e1,1.6456554515465291e1,1.6459159833454997e1},
-                                 {-4.1337222859238965e-3,3.9044957319069337,6.8539208024385947,9.4667134410127533,1.1642973320793973e1,1.3378404660490633e1,1.1110907104309042e2,1.5759503658263374e1,1.6548846194770752e1,1.7153346701680568e1,1.761915762788656e1,1.7981066443010988e1,1.8264863529314085e1,1.8489559771744116e1,1.8669177999283488e1,1.8814107977911496e1,1.8932099199307048e1,1.9028977681223809e1,1.9109160830569176e1,1.9176027404063087e1,1.9232184341912393e1,1.9279660329780298e1,1.9320047185250782e1,1.9354603919193884e1,1.9384333933143182e1,1.9410042747461515e1,1.9432381514730114e1,1.945188007534014e1,1.946897226007783e1,1.9484015401062679e1,1.9497305483793222e1,1.9509088994648155e1,1.9519572245401288e1,1.9528928758258986e1,1.9537305150119557e1,1.9544825848129487e1,1.955159688956136e1,1.9557709000036771e1,1.9563240099791303e1,1.9568257354165427e1},
-                                 {-2.6480513091160643e-3,3.9129920248716494,6.9215159281316621,9.6813747151571271,1.2089798019749081e1,1.4110443799276437e1,1.5759503658263374e1,1.4677518038695935e2,1.8134250245078644e1,1.8968119490439406e1,1.9629966935614985e1,2.0157314743628174e1,2.0579828985928243e1,2.0920558771917545e1,2.1197263181336285e1,2.1423589462463088e1,2.161003575078564e1,2.1764704760795907e1,2.189388045574418e1,2.2002464078614194e1,2.2094302138287845e1,2.217243287264984e1,2.2239271758347813e1,2.229675161474954e1,2.2346428892296105e1,2.2389564726901914e1,2.2427187099166391e1,2.2460138782431508e1,2.248911454885296e1,2.2514690211922605e1,2.2537345430165362e1,2.2557481715753412e1,2.2575436736626792e1,2.2591495737344763e1,2.2605900707669506e1,2.2618857780951524e1,2.2630543233791859e1,2.2641108374774534e1,2.265068354640956e1,2.2659381415754281e1},
-                                 {-1.7970418519976492e-3,3.9180646907478111,6.9637294896538915,9.8225395137147988,1.2399704336533858e1,1.4644595754564957e1,1.6548846194770752e1,1.8134250245078644e1,1.8737609193137296e2,2.0504794190822842e1,2.1374183028887843e1,2.2083430240169804e1,2.2663473883224658e1,2.3139671676607348e1,2.3532451734376781e1,2.3858113348557459e1,2.4129602037314719e1,2.4357187196147191e1,2.4549023968903858e1,2.4711605316965576e1,2.4850119468558329e1,2.4968729803903889e1,2.507079293250401e1,2.5159028320667283e1,2.5235650291382712e1,2.53024709394272e1,2.5360980603904247e1,2.5412411018222375e1,2.5457785066670788e1,2.5497956157878204e1,2.5533639522012977e1,2.5565437202283854e1,2.5593858103049182e1,2.5619334145995152e1,2.5642233348815874e1,2.5662870459668657e1,2.5681515641811074e1,2.5698401596020109e1,2.5713729425944655e1,2.572767348765046e1},
-                                 {-1.2749224873769124e-3,3.9212745867297514,6.99133672752792,9.9184758006345723,1.2619100681444945e1,1.5038369811840972e1,1.7153346701680568e1,1.8968119490439406e1,2.0504794190822842e1,2.3291180567633125e2,2.2872415495427634e1,2.3770762244941236e1,2.4519720302718957e1,2.5145146099981622e1,2.5668831943167127e1,2.6108842732303708e1,2.6480002701045122e1,2.6794407463060499e1,2.7061900118520912e1,2.7290486677699061e1,2.7486685465126446e1,2.7655814513352549e1,2.7802224735138562e1,2.792948755708424e1,2.8040545222830407e1,2.8137830947593825e1,2.8223364944341726e1,2.829883124068562e1,2.8365639242710762e1,2.8424973196670287e1,2.8477832043605979e1,2.8525061636501204e1,2.8567380872892918e1,2.8605402967501243e1,2.8639652831561593e1,2.8670581323349705e1,2.8698576975884313e1,2.8723975683437366e1,2.8747068730771897e1,2.876810947209653e1},
-                                 {-9.3698139396533579e-4,3.9234024888483969,7.0101027187712692,9.9856340392873023,1.2777663754148918e1,1.5332367388784029e1,1.761915762788656e1,1.9629966935614985e1,2.1374183028887843e1,2.2872415495427634e1,2.8338232162183422e2,2.5237923114184696e1,2.6160311308255757e1,2.694295503716171e1,2.76077338154933e1,2.8173500038131147e1,2.8656245024004923e1,2.9069395739344861e1,2.9424154867225734e1,2.9729835913798891e1,2.9994169524878721e1,3.0223571606498891e1,3.0423371789164368e1,3.0598004779340361e1,3.0751168859983206e1,3.0885956264380136e1,3.100495996836245e1,3.1110360977327068e1,3.1203999619710544e1,3.1287433797406884e1,3.1361986632670112e1,3.1428785507650677e1,3.1488794119022183e1,3.154283886102191e1,3.159163059759484e1,3.163578267950269e1,3.1675825897027177e1,3.1712220926006504e1,3.1745368718229252e1,3.1775619201553024e1},
-                                 {-7.0866513546780078e-4,3.9248677946318884,7.0232815957272459,1.0033897923716247e1,1.2894543194382273e1,1.555487056025304e1,1.7981066443010988e1,2.0157314743628174e1,2.2083430240169804e1,2.3770762244941236e1,2.5237923114184696e1,3.3878763976788186e2,2.7601853081361821e1,2.8544509510937276e1,2.9356049953468015e1,3.0055197357709429e1,3.0658374307384575e1,3.1179775301161473e1,3.1631546919428388e1,3.2024014662639971e1,3.2365919597419778e1,3.2664644301923293e1,3.2926417999825171e1,3.3156497049600705e1,3.3359320529116637e1,3.3538642528862228e1,3.3697643614043967e1,3.3839024170375119e1,3.3965082281285131e1,3.4077778558752686e1,3.4178790061125433e1,3.4269555131994768e1,3.4351310711828516e1,3.442512342106986e1,3.4491915493784423e1,3.4552486454152254e1,3.4607531271418873e1,3.4657655598711703e1,3.4703388593604536e1,3.4745193729892327e1},
-                                 {-5.4889320502303747e-4,3.9259092639944893,7.0327973785263101,1.0069396955579304e1,1.298229012509603e1,1.5725567019887342e1,1.8264863529314085e1,2.0579828985928243e1,2.2663473883224658e1,2.4519720302718957e1,2.6160311308255757e1,2.7601853081361821e1,3.9912776011447419e2,2.9964574517122339e1,3.092454320441824e1,3.1761121752856462e1,3.2490493720615734e1,3.3127063078773002e1,3.3683474952764945e1,3.4170723427317805e1,3.4598303186438425e1,3.4974377221083588e1,3.5305943810624979e1,3.5598993393287934e1,3.5858650729015782e1,3.6089300718133553e1,3.6294697973923388e1,3.6478061189006323e1,3.6642153781244951e1,3.6789352452298619e1,3.6921705268784771e1,3.7040980762716024e1,3.7148709393710111e1,3.7246218549418596e1,3.7334662098918683e1,3.7415045364788315e1,3.7488246246815954e1,3.7555033114608621e1,3.7616079987073519e1,3.767197943242982e1},
-                                 {-4.3375732015442809e-4,3.9266695400987388,7.0398342388294803,1.009604750547524e1,1.3049282196594464e1,1.5858247002175263e1,1.8489559771744116e1,2.0920558771917545e1,2.3139671676607348e1,2.5145146099981622e1,2.694295503716171e1,2.8544509510937276e1,2.9964574517122339e1,4.644026826616112e2,3.232634983776748e1,3.3301273550526514e1,3.4159741588511022e1,3.491586890113449e1,3.5582371618037292e1,3.6170559862273978e1,3.6690400207236217e1,3.715061693058668e1,3.7558811213336184e1,3.7921584858467466e1,3.8244660369606714e1,3.8532992821617581e1,3.8790871315842919e1,3.9022009304493043e1,3.9229623966091617e1,3.9416505316457171e1,3.9585075987561232e1,3.9737442695599226e1,3.9875440413752022e1,4.0000670206197647e1,4.0114531594573479e1,4.021825023274484e1,4.0312901570177369e1,4.0399431093894701e1,4.0478671656662654e1,4.055135832573554e1},
-                                 {-3.4869740560175039e-4,3.9272373805749462,7.045146848508963,1.0116421419555272e1,1.3101217848128035e1,1.5962665092608124e1,1.8669177999283488e1,2.1197263181336285e1,2.3532451734376781e1,2.5668831943167127e1,2.76077338154933e1,2.9356049953468015e1,3.092454320441824e1,3.232634983776748e1,5.3461240740929288e2,3.4687370679968261e1,3.5675340397791443e1,3.6553098680258176e1,3.733305589777706e1,3.8026507107088537e1,3.8643610308541737e1,3.9193420315993257e1,3.9683955968894477e1,4.0122284993588644e1,4.0514615900695843e1,4.0866390058268158e1,4.1182369754872191e1,4.14667199124244e1,4.1723082342136618e1,4.1954642232226537e1,4.216418704583133e1,4.23541582895777e1,4.252669675755795e1,4.2683681911122358e1,4.2826766055629107e1,4.2957403943790406e1,4.3076878386481196e1,4.3186322395459419e1,4.3286738324379177e1,4.3379014418326642e1},
-                                 {-2.8450046093500592e-4,3.9276699660870934,7.0492310268389939,1.0132250224948328e1,1.3142045521843136e1,1.6045801568546966e1,1.8814107977911496e1,2.1423589462463088e1,2.3858113348557459e1,2.6108842732303708e1,2.8173500038131147e1,3.0055197357709429e1,3.1761121752856462e1,3.3301273550526514e1,3.4687370679968261e1,6.0975693435751925e2,3.7047780238394961e1,3.8047228862812256e1,3.8942108869286823e1,3.9743411199133594e1,4.0461226064936547e1,4.1104714274162562e1,4.1682123051655336e1,4.2200830087322726e1,4.2667403938932967e1,4.3087672435519494e1,4.3466793416100769e1,4.3809324126977605e1,4.4119287028990898e1,4.4400230763876435e1,4.4655285706216409e1,4.488721397231636e1,4.5098454037144137e1,4.5291160275662445e1,4.5467237832258856e1,4.5628373257865571e1,4.5776061357296384e1,4.5911628672125824e1,4.6036253995799643e1,4.6150986283385721e1},
-                                 {-2.3514287880314936e-4,3.9280052567435757,7.0524213604280666,1.0144726303585166e1,1.3174549827550481e1,1.6112713148828552e1,1.8932099199307048e1,2.161003575078564e1,2.4129602037314719e1,2.6480002701045122e1,2.8656245024004923e1,3.0658374307384575e1,3.2490493720615734e1,3.4159741588511022e1,3.5675340397791443e1,3.7047780238394961e1,6.8983626350629029e2,3.9407687651923483e1,4.0417313308185233e1,4.1327488402894234e1,4.2148010531438338e1,4.288794141239363e1,4.3555575613950052e1,4.4158445032622507e1,4.4703347089694407e1,4.5196387607676598e1,4.5643031791327264e1,4.6048158678666312e1,4.6416115908603724e1,4.6750772751828569e1,4.7055570148648135e1,4.73335670611108e1,4.7587482835037343e1,4.7819735526904846e1,4.8032476316806361e1,4.8227620229130391e1,4.8406873437336436e1,4.857175745296552e1,4.8723630502395981e1,4.8863706385324314e1},
-                                 {-1.9657315290815491e-4,3.9282691214196666,7.0549490397594089,1.0154687710049717e1,1.3200727469958458e1,1.6167108664855689e1,1.9028977681223809e1,2.1764704760795907e1,2.4357187196147191e1,2.6794407463060499e1,2.9069395739344861e1,3.1179775301161473e1,3.3127063078773002e1,3.491586890113449e1,3.6553098680258176e1,3.8047228862812256e1,3.9407687651923483e1,7.7485039485560601e2,4.176717755358212e1,4.2785887165970422e1,4.370980519286724e1,4.4547717161281256e1,4.5307801087337415e1,4.5997596039401363e1,4.662399957599958e1,4.7193285055285358e1,4.7711131884006798e1,4.818266351905079e1,4.8612489446728951e1,4.9004748472457639e1,4.9363151499971019e1,4.9691022611671819e1,4.9991337724242242e1,5.0266760424546817e1,5.0519674821940689e1,5.0752215409820385e1,5.0966294031520312e1,5.1163624108709269e1,5.1345742325758377e1,5.1514027979658181e1},
-                                 {-1.6599789370808154e-4,3.9284796000451049,7.05697720998692,1.0162734465700866e1,1.3222032533201193e1,1.6211741496585515e1,1.9109160830569176e1,2.189388045574418e1,2.4549023968903858e1,2.7061900118520912e1,2.9424154867225734e1,3.1631546919428388e1,3.3683474952764945e1,3.5582371618037292e1,3.733305589777706e1,3.8942108869286823e1,4.0417313308185233e1,4.176717755358212e1,8.6479932840546642e2,4.4126316579332423e1,4.5153183638455702e1,4.6089515134218559e1,4.6943231394998065e1,4.7721746428904922e1,4.8431937646134105e1,4.9080139036377177e1,4.9672150990831016e1,5.0213261410732655e1,5.0708273995584278e1,5.1161540640303436e1,5.1576995702800103e1,5.1958190555717191e1,5.2308327336433372e1,5.2630291185849486e1,5.2926680544299188e1,5.319983527389744e1,5.3451862518765384e1,5.3684660312335152e1,5.3899939005761896e1,5.4099240632199968e1},
-                                 {-1.4144862844634582e-4,3.9286495326454181,7.0586231876002927,1.016930344734746e1,1.3239539286220387e1,1.6248679695826592e1,1.9176027404063087e1,2.2002464078614194e1,2.4711605316965576e1,2.7290486677699061e1,2.9729835913798891e1,3.2024014662639971e1,3.4170723427317805e1,3.6170559862273978e1,3.8026507107088537e1,3.9743411199133594e1,4.1327488402894234e1,4.2785887165970422e1,4.4126316579332423e1,9.596830641558715e2,4.6485157908034183e1,4.7519390367064638e1,4.8466988302261516e1,4.9335126983129106e1,5.0130556026895582e1,5.085957095117268e1,5.1528003893729544e1,5.2141228293184183e1,5.2704173356829916e1,5.322134504899797e1,5.3696851100070837e1,5.4134428165334917e1,5.4537469766819052e1,5.4909054046879157e1,5.5251970667255163e1,5.5568746418400437e1,5.5861669275960472e1,5.6132810767058031e1,5.6384046599038216e1,5.6617075566045828e1},
-                                 {-1.2151102190790158e-4,3.9287882264233604,7.0599727755943494,1.0174717649427659e1,1.3254052049078889e1,1.6279493936603189e1,1.9232184341912393e1,2.2094302138287845e1,2.4850119468558329e1,2.7486685465126446e1,2.9994169524878721e1,3.2365919597419778e1,3.4598303186438425e1,3.6690400207236217e1,3.8643610308541737e1,4.0461226064936547e1,4.2148010531438338e1,4.370980519286724e1,4.5153183638455702e1,4.6485157908034183e1,1.0595016021068212e3,4.8843744493727652e1,4.9884660021076653e1,5.0842528157634549e1,5.1723878262807459e1,5.2534879015165814e1,5.3281312085869263e1,5.3968561569817834e1,5.4601615154937109e1,5.5185073753292235e1,5.5723166982520912e1,5.6219772458302969e1,5.6678437337031338e1,5.7102400938694157e1,5.749461759308884e1,5.7857779099054047e1,5.8194336377508934e1,5.8506520044932859e1,5.8796359743461927e1,5.9065702144635399e1},
-                                 {-1.0515109686864559e-4,3.9289025392333463,7.0610896971278683,1.0179219228791751e1,1.3266180516425896e1,1.6305389769886629e1,1.9279660329780298e1,2.217243287264984e1,2.4968729803903889e1,2.7655814513352549e1,3.0223571606498891e1,3.2664644301923293e1,3.4974377221083588e1,3.715061693058668e1,3.9193420315993257e1,4.1104714274162562e1,4.288794141239363e1,4.4547717161281256e1,4.6089515134218559e1,4.7519390367064638e1,4.8843744493727652e1,1.1642549422583157e3,5.1202111409361004e1,5.2249118069303395e1,5.321638583477783e1,5.4109880652783344e1,5.4935260614608939e1,5.5697851820873601e1,5.6402637278517469e1,5.7054255697065652e1,5.7657007593040253e1,5.8214866603548361e1,5.8731494340722531e1,5.9210257484911784e1,5.9654246118958378e1,6.0066292554232396e1,6.0448990098371574e1,6.0804711372217006e1,6.1135625906237359e1,6.1443716841115699e1},
-                                 {-9.1601049514512437e-5,3.9289975994974268,7.0620219401051615,1.0182992073137938e1,1.3276392177719342e1,1.6327301745521405e1,1.9320047185250782e1,2.2239271758347813e1,2.507079293250401e1,2.7802224735138562e1,3.0423371789164368e1,3.2926417999825171e1,3.5305943810624979e1,3.7558811213336184e1,3.9683955968894477e1,4.1682123051655336e1,4.3555575613950052e1,4.5307801087337415e1,4.6943231394998065e1,4.8466988302261516e1,4.9884660021076653e1,5.1202111409361004e1,1.2739430846103548e3,5.3560287574345125e1,5.461286857060411e1,5.5588770916747727e1,5.6493466312049255e1,5.7332161924453456e1,5.8109778394791181e1,5.8830938681161558e1,5.949996528036048e1,6.0120883762243155e1,6.0697430920792894e1,6.1233066172401977e1,6.173098511400324e1,6.219413439194267e1,6.2625227230007569e1,6.3026759126212612e1,6.3401023357634579e1,6.3750126035567035e1},
-                                 {-8.0282619072038846e-5,3.9290772941907299,7.0628061038756565,1.0186177471808135e1,1.3285049316476786e1,1.6345961145495815e1,1.9354603919193884e1,2.229675161474954e1,2.5159028320667283e1,2.792948755708424e1,3.0598004779340361e1,3.3156497049600705e1,3.5598993393287934e1,3.7921584858467466e1,4.0122284993588644e1,4.2200830087322726e1,4.4158445032622507e1,4.5997596039401363e1,4.7721746428904922e1,4.9335126983129106e1,5.0842528157634549e1,5.2249118069303395e1,5.3560287574345125e1,1.3885660291629386e3,5.5918297046929179e1,5.6975998547605624e1,5.7959859661342072e1,5.8874916234496747e1,5.972597540082056e1,6.0517595606824183e1,6.1254075704636953e1,6.1939451159513196e1,6.2577495716223707e1,6.3171727146100189e1,6.3725415946339791e1,6.4241596081925142e1,6.4723077047889631e1,6.517245668729278e1,6.5592134330865924e1,6.5984323931024622e1},
-                                 {-7.0754668567813068e-5,3.9291446056522764,7.0634704278693036,1.018888516455859e1,1.3292435473428039e1,1.6361945256335209e1,1.9384333933143182e1,2.2346428892296105e1,2.5235650291382712e1,2.8040545222830407e1,3.0751168859983206e1,3.3359320529116637e1,3.5858650729015782e1,3.8244660369606714e1,4.0514615900695843e1,4.2667403938932967e1,4.4703347089694407e1,4.662399957599958e1,4.8431937646134105e1,5.0130556026895582e1,5.1723878262807459e1,5.321638583477783e1,5.461286857060411e1,5.5918297046929179e1,1.5081237759160671e3,5.8276160004097266e1,5.9338581331687043e1,6.0329801353057797e1,6.1254469685825966e1,6.2117037069323786e1,6.2921737261958479e1,6.3672576564060284e1,6.4373329405767284e1,6.5027538662874724e1,6.5638519574774166e1,6.6209366331092258e1,6.6742960564314111e1,6.7241981133779123e1,6.770891471270117e1,6.8146066795911173e1},
-                                 {-6.2676699988221215e-5,3.9292018479153925,7.064036934725545,1.0191201242301628e1,1.3298774610652706e1,1.6375713586728659e1,1.9410042747461515e1,2.2389564726901914e1,2.53024709394272e1,2.8137830947593825e1,3.0885956264380136e1,3.3538642528862228e1,3.6089300718133553e1,3.8532992821617581e1,4.0866390058268158e1,4.3087672435519494e1,4.5196387607676598e1,4.7193285055285358e1,4.9080139036377177e1,5.085957095117268e1,5.2534879015165814e1,5.4109880652783344e1,5.5588770916747727e1,5.6975998547605624e1,5.8276160004097266e1,1.6326163248697402e3,6.0633893493691058e1,6.1700679150538349e1,6.2698723259422922e1,6.3632331636371031e1,6.4505636240993608e1,6.5322578785860389e1,6.6086900791696881e1,6.680213883226769e1,6.7471623882331705e1,6.8098483844105905e1,6.8685648477045359e1,6.9235856089735453e1,6.9751661470345751e1,7.0235444633623745e1},
-                                 {-5.5783055249081067e-5,3.9292508350516719,7.0645229685185933,1.0193193871115961e1,1.3304245152656055e1,1.6387634755504601e1,1.9432381514730114e1,2.2427187099166391e1,2.5360980603904247e1,2.8223364944341726e1,3.100495996836245e1,3.3697643614043967e1,3.6294697973923388e1,3.8790871315842919e1,4.1182369754872191e1,4.3466793416100769e1,4.5643031791327264e1,4.7711131884006798e1,4.9672150990831016e1,5.1528003893729544e1,5.3281312085869263e1,5.4935260614608939e1,5.6493466312049255e1,5.7959859661342072e1,5.9338581331687043e1,6.0633893493691058e1,1.762043676023958e3,6.2991512018207381e1,6.4062345150889113e1,6.5066734535893468e1,6.6008678666988752e1,6.6892023302451631e1,6.7720446627375485e1,6.8497449891425369e1,6.9226352503816214e1,6.9910290697064446e1,7.0552218996381125e1,7.1154913848293234e1,7.1720978867897757e1,7.2252851258086281e1},
-                                 {-4.9864407102213368e-5,3.9292930027572957,7.0649423133724269,1.0194917489873688e1,1.3308990387031728e1,1.6398006643652448e1,1.945188007534014e1,2.2460138782431508e1,2.5412411018222375e1,2.829883124068562e1,3.1110360977327068e1,3.3839024170375119e1,3.6478061189006323e1,3.9022009304493043e1,4.14667199124244e1,4.3809324126977605e1,4.6048158678666312e1,4.818266351905079e1,5.0213261410732655e1,5.2141228293184183e1,5.3968561569817834e1,5.5697851820873601e1,5.7332161924453456e1,5.8874916234496747e1,6.0329801353057797e1,6.1700679150538349e1,6.2991512018207381e1,1.8964058293787206e3,6.5349027992628881e1,6.6423624995054853e1,6.7433929330037849e1,6.8383663700226645e1,6.9276416008055516e1,7.0115625919266139e1,7.0904576099402448e1,7.1646387292475216e1,7.2344016511155531e1,7.3000257705489276e1,7.3617744368934223e1,7.4198953624576776e1},
-                                 {-4.475430208496534e-5,3.9293294972954928,7.0653060168449028,1.0196415923462523e1,1.3313126248040265e1,1.6407071634937412e1,1.946897226007783e1,2.248911454885296e1,2.5457785066670788e1,2.8365639242710762e1,3.1203999619710544e1,3.3965082281285131e1,3.6642153781244951e1,3.9229623966091617e1,4.1723082342136618e1,4.4119287028990898e1,4.6416115908603724e1,4.8612489446728951e1,5.0708273995584278e1,5.2704173356829916e1,5.4601615154937109e1,5.6402637278517469e1,5.8109778394791181e1,5.972597540082056e1,6.1254469685825966e1,6.2698723259422922e1,6.4062345150889113e1,6.5349027992628881e1,2.0357027849340278e3,6.7706452106889579e1,6.8784558132408598e1,6.9800389269811482e1,7.0757419819508262e1,7.1659004597346539e1,7.2508366758261238e1,7.3308589625865483e1,7.4062611845889843e1,7.4773225259284711e1,7.5443074967402051e1,7.6074661134347482e1},
-                                 {-4.0319255641325274e-5,3.9293612413308691,7.0656230028473337,1.01977247161709e1,1.3316747198065667e1,1.6415028241496775e1,1.9484015401062679e1,2.2514690211922605e1,2.5497956157878204e1,2.8424973196670287e1,3.1287433797406884e1,3.4077778558752686e1,3.6789352452298619e1,3.9416505316457171e1,4.1954642232226537e1,4.4400230763876435e1,4.6750772751828569e1,4.9004748472457639e1,5.1161540640303436e1,5.322134504899797e1,5.5185073753292235e1,5.7054255697065652e1,5.8830938681161558e1,6.0517595606824183e1,6.2117037069323786e1,6.3632331636371031e1,6.5066734535893468e1,6.6423624995054853e1,6.7706452106889579e1,2.1799345426898796e3,7.0063793615367708e1,7.1145178820395106e1,7.216618547363857e1,7.313006337426774e1,7.403995598432282e1,7.4898889383399985e1,7.5709764672091164e1,7.6475353260888948e1,7.7198294542308534e1,7.7881095504482251e1},
-                                 {-3.6451378428691087e-5,3.9293889831947967,7.0659005326874036,1.0198872897852439e1,1.3319930712257174e1,1.6422040044498098e1,1.9497305483793222e1,2.2537345430165362e1,2.5533639522012977e1,2.8477832043605979e1,3.1361986632670112e1,3.4178790061125433e1,3.6921705268784771e1,3.9585075987561232e1,4.216418704583133e1,4.4655285706216409e1,4.7055570148648135e1,4.9363151499971019e1,5.1576995702800103e1,5.3696851100070837e1,5.5723166982520912e1,5.7657007593040253e1,5.949996528036048e1,6.1254075704636953e1,6.2921737261958479e1,6.4505636240993608e1,6.6008678666988752e1,6.7433929330037849e1,6.8784558132408598e1,7.0063793615367708e1,2.3291011026462762e3,7.242106056998547e1,7.3505516950768736e1,7.4531380185984389e1,7.5501696521531259e1,7.6419417208037065e1,7.7287388469710285e1,7.8108344454311867e1,7.8884902696484055e1,7.9619561674831174e1},
-                                 {-3.3062828748281055e-5,3.9294133341283841,7.0661445552627572,1.0199884333107585e1,1.3322740727400493e1,1.6428242623391836e1,1.9509088994648155e1,2.2557481715753412e1,2.5565437202283854e1,2.8525061636501204e1,3.1428785507650677e1,3.4269555131994768e1,3.7040980762716024e1,3.9737442695599226e1,4.23541582895777e1,4.488721397231636e1,4.73335670611108e1,4.9691022611671819e1,5.1958190555717191e1,5.4134428165334917e1,5.6219772458302969e1,5.8214866603548361e1,6.0120883762243155e1,6.1939451159513196e1,6.3672576564060284e1,6.5322578785860389e1,6.6892023302451631e1,6.8383663700226645e1,6.9800389269811482e1,7.1145178820395106e1,7.242106056998547e1,2.4832024648032174e3,7.4778260009326445e1,7.5865598723035345e1,7.689602811722803e1,7.7872409319377524e1,7.8797518291316867e1,7.9674036707199304e1,8.0504545418321967e1,8.1291520114333061e1},
-                                 {-3.0081597671786288e-5,3.9294347967048419,7.0663599754879823,1.0200778760856614e1,1.33252303156587e1,1.6433748965899233e1,1.9519572245401288e1,2.2575436736626792e1,2.5593858103049182e1,2.8567380872892918e1,3.1488794119022183e1,3.4351310711828516e1,3.7148709393710111e1,3.9875440413752022e1,4.252669675755795e1,4.5098454037144137e1,4.7587482835037343e1,4.9991337724242242e1,5.2308327336433372e1,5.4537469766819052e1,5.6678437337031338e1,5.8731494340722531e1,6.0697430920792894e1,6.2577495716223707e1,6.4373329405767284e1,6.6086900791696881e1,6.7720446627375485e1,6.9276416008055516e1,7.0757419819508262e1,7.216618547363857e1,7.3505516950768736e1,7.4778260009326445e1,2.6422386291607033e3,7.7135398113155623e1,7.8225447197054433e1,7.9260177548277734e1,8.0242281461543347e1,8.1174374622167158e1,8.2058987799131269e1,8.2898560791179007e1},
-                                 {-2.7448277239473331e-5,3.9294537867131365,7.0665508618068582,1.0201572601867481e1,1.3327443773184446e1,1.6438653721439151e1,1.9528928758258986e1,2.2591495737344763e1,2.5619334145995152e1,2.8605402967501243e1,3.154283886102191e1,3.442512342106986e1,3.7246218549418596e1,4.0000670206197647e1,4.2683681911122358e1,4.5291160275662445e1,4.7819735526904846e1,5.0266760424546817e1,5.2630291185849486e1,5.4909054046879157e1,5.7102400938694157e1,5.9210257484911784e1,6.1233066172401977e1,6.3171727146100189e1,6.5027538662874724e1,6.680213883226769e1,6.8497449891425369e1,7.0115625919266139e1,7.1659004597346539e1,7.313006337426774e1,7.4531380185984389e1,7.5865598723035345e1,7.7135398113155623e1,2.8062095957187339e3,7.9492480329506481e1,8.0585082749346487e1,8.1623871246674723e1,8.2611383722741808e1,8.3550088947883474e1,8.4442378985843157e1},
-                                 {-2.511356111866901e-5,3.9294706501474268,7.0667206079007076,1.0202279590833015e1,1.3329418263395707e1,1.6443036567511241e1,1.9537305150119557e1,2.2605900707669506e1,2.5642233348815874e1,2.8639652831561593e1,3.159163059759484e1,3.4491915493784423e1,3.7334662098918683e1,4.0114531594573479e1,4.2826766055629107e1,4.5467237832258856e1,4.8032476316806361e1,5.0519674821940689e1,5.2926680544299188e1,5.5251970667255163e1,5.749461759308884e1,5.9654246118958378e1,6.173098511400324e1,6.3725415946339791e1,6.5638519574774166e1,6.7471623882331705e1,6.9226352503816214e1,7.0904576099402448e1,7.2508366758261238e1,7.403995598432282e1,7.5501696521531259e1,7.689602811722803e1,7.8225447197054433e1,7.9492480329506481e1,2.9751153644773092e3,8.1849511479852952e1,8.2944523452117059e1,8.3987147230625116e1,8.4979779169306269e1,8.5924753053098754e1},
-                                 {-2.3036296133709883e-5,3.9294856764998547,7.0668720596534684,1.0202911274684165e1,1.333118511866964e1,1.6446964890889984e1,1.9544825848129487e1,2.2618857780951524e1,2.5662870459668657e1,2.8670581323349705e1,3.163578267950269e1,3.4552486454152254e1,3.7415045364788315e1,4.021825023274484e1,4.2957403943790406e1,4.5628373257865571e1,4.8227620229130391e1,5.0752215409820385e1,5.319983527389744e1,5.5568746418400437e1,5.7857779099054047e1,6.0066292554232396e1,6.219413439194267e1,6.4241596081925142e1,6.6209366331092258e1,6.8098483844105905e1,6.9910290697064446e1,7.1646387292475216e1,7.3308589625865483e1,7.4898889383399985e1,7.6419417208037065e1,7.7872409319377524e1,7.9260177548277734e1,8.0585082749346487e1,8.1849511479852952e1,3.1489559354364292e3,8.4206495846651372e1,8.5303785389839772e1,8.6350039409577205e1,8.7347524178331019e1},
-                                 {-2.11819517527138e-5,3.9294991092373692,7.0670076155460171,1.0203477408120177e1,1.3332770878103158e1,1.6450495935949614e1,1.955159688956136e1,2.2630543233791859e1,2.5681515641811074e1,2.8698576975884313e1,3.1675825897027177e1,3.4607531271418873e1,3.7488246246815954e1,4.0312901570177369e1,4.3076878386481196e1,4.5776061357296384e1,4.8406873437336436e1,5.0966294031520312e1,5.3451862518765384e1,5.5861669275960472e1,5.8194336377508934e1,6.0448990098371574e1,6.2625227230007569e1,6.4723077047889631e1,6.6742960564314111e1,6.8685648477045359e1,7.0552218996381125e1,7.2344016511155531e1,7.4062611845889843e1,7.5709764672091164e1,7.7287388469710285e1,7.8797518291316867e1,8.0242281461543347e1,8.1623871246674723e1,8.2944523452117059e1,8.4206495846651372e1,3.3277313085960938e3,8.6563437246606073e1,8.7662882925071714e1,8.8712578123976156e1},
-                                 {-1.9521409315346319e-5,3.929511154116212,7.0671293065720669,1.0203986269574986e1,1.3334198119910717e1,1.6453678535890515e1,1.9557709000036771e1,2.2641108374774534e1,2.5698401596020109e1,2.8723975683437366e1,3.1712220926006504e1,3.4657655598711703e1,3.7555033114608621e1,4.0399431093894701e1,4.3186322395459419e1,4.5911628672125824e1,4.857175745296552e1,5.1163624108709269e1,5.3684660312335152e1,5.6132810767058031e1,5.8506520044932859e1,6.0804711372217006e1,6.3026759126212612e1,6.517245668729278e1,6.7241981133779123e1,6.9235856089735453e1,7.1154913848293234e1,7.3000257705489276e1,7.4773225259284711e1,7.6475353260888948e1,7.8108344454311867e1,7.9674036707199304e1,8.1174374622167158e1,8.2611383722741808e1,8.3987147230625116e1,8.5303785389839772e1,8.6563437246606073e1,3.5114414839563031e3,8.8920339092302593e1,9.0021828922746786e1},
-                                 {-1.8029997774756917e-5,3.9295219858233954,7.0672388602553636,1.0204444915161228e1,1.3335486132970702e1,1.6456554515465291e1,1.9563240099791303e1,2.265068354640956e1,2.5713729425944655e1,2.8747068730771897e1,3.1745368718229252e1,3.4703388593604536e1,3.7616079987073519e1,4.0478671656662654e1,4.3286738324379177e1,4.6036253995799643e1,4.8723630502395981e1,5.1345742325758377e1,5.3899939005761896e1,5.6384046599038216e1,5.8796359743461927e1,6.1135625906237359e1,6.3401023357634579e1,6.5592134330865924e1,6.770891471270117e1,6.9751661470345751e1,7.1720978867897757e1,7.3617744368934223e1,7.5443074967402051e1,7.7198294542308534e1,7.8884902696484055e1,8.0504545418321967e1,8.2058987799131269e1,8.3550088947883474e1,8.4979779169306269e1,8.6350039409577205e1,8.7662882925071714e1,8.8920339092302593e1,3.7000864615170571e3,9.1277204444307366e1},
-                                 {-1.6686720896343582e-5,3.9295317533145122,7.0673377522381582,1.0204859383944259e1,1.3336651461588833e1,1.6459159833454997e1,1.9568257354165427e1,2.2659381415754281e1,2.572767348765046e1,2.876810947209653e1,3.1775619201553024e1,3.4745193729892327e1,3.767197943242982e1,4.055135832573554e1,4.3379014418326642e1,4.6150986283385721e1,4.8863706385324314e1,5.1514027979658181e1,5.4099240632199968e1,5.6617075566045828e1,5.9065702144635399e1,6.1443716841115699e1,6.3750126035567035e1,6.5984323931024622e1,6.8146066795911173e1,7.0235444633623745e1,7.2252851258086281e1,7.4198953624576776e1,7.6074661134347482e1,7.7881095504482251e1,7.9619561674831174e1,8.1291520114333061e1,8.2898560791179007e1,8.4442378985843157e1,8.5924753053098754e1,8.7347524178331019e1,8.8712578123976156e1,9.0021828922746786e1,9.1277204444307366e1,3.8936662412783557e3}};
-
-        IdXdX2_ = new double[][]{{-1.8268113569451421,7.6884806460247146,-1.0514815387827196e1,1.4407579599435134e1,-1.8497849748514298e1,2.2652785364689338e1,-2.6838887232406903e1,3.1042359794364039e1,-3.5256563375983624e1,3.9477877333579831e1,-4.3704153163009484e1,4.7934032502626397e1,-5.2166613250614391e1,5.6401272246663774e1,-6.0637564891562288e1,6.4875165304339466e1,-6.9113829085574291e1,7.3353369296154503e1,-7.7593640476033408e1,8.1834527724485827e1,-8.6075939062717259e1,9.0317799981128086e1,-9.4560049474435586e1,9.8802637111063949e1,-1.0304552083481348e2,1.0728866529365827e2,-1.1153204055373427e2,1.1577562109868204e2,-1.2001938504304482e2,1.2426331350810037e2,-1.2850739012226477e2,1.3275160061797829e2,-1.3699593250399663e2,1.4124037479712154e2,-1.454849178011519e2,1.4972955292363224e2,-1.5397427252306047e2,1.5821906978080755e2,-1.6246393859320329e2,1.6670887348018009e2},
-                                 {-2.5272327462342988,4.0756036742417971,5.0496094521557148e1,1.7973449428616362e1,8.0897026185125055e1,3.1536267391630203e1,1.1641937831958897e2,4.4689201493540179e1,1.5261661094106629e2,5.7658588310107712e1,1.890310075763931e2,7.0534695059028296e1,2.2554317704791895e2,8.3357644036437137e1,2.6210806572625596e2,9.6147609178554824e1,2.9870476869478633e2,1.0891575936065265e2,3.3532220865893735e2,1.2166875399946766e2,3.7195394592196838e2,1.3441080168629502e2,4.0859597158490717e2,1.4714468921681832e2,4.4524565493686002e2,1.5987233372561454e2,4.8190119582494616e2,1.7259509664966428e2,5.185613196822721e2,1.8531397109680462e2,5.5522509811886176e2,1.9802969831760902e2,5.9189183850248073e2,2.1074284267364738e2,6.2856101337601044e2,2.2345384136631051e2,6.6523221386026363e2,2.36163038301417e2,7.0190511802392924e2,2.4887070768975098e2},
-                                 {9.4943733997508106e-1,-9.2065454579062318,1.2461169928312047e1,1.6302425668972822e2,3.6814104964232508e1,1.9212274245777556e2,6.1359999615419513e1,2.516725236350863e2,8.5158094620565811e1,3.1541440850169904e2,1.0844652070596709e2,3.8048661665490914e2,1.3141847063312191e2,4.4614217285425213e2,1.5418789264776598e2,5.1210481351526155e2,1.7682187009886998e2,5.7824932407410764e2,1.9936147919572446e2,6.445107385561695e2,2.2183298101187913e2,7.1085193973808536e2,2.4425384065206143e2,7.7725013760005204e2,2.6663608108075567e2,8.4369053712538815e2,2.8898822956185434e2,9.1016309836865972e2,3.1131649222009247e2,9.7666075820697091e2,3.3362548838180439e2,1.0431783971470674e3,3.5591872445031421e2,1.1097122100689619e3,3.78198908429176e2,1.1762593075092327e3,4.0046816397282879e2,1.2428174543597698e3,4.2272817935198107e2,1.3093848935762152e3},
-                                 {-6.0826592646508963e-1,2.655574322411999,-5.4725341989956914e1,2.6064636497123e1,3.7132176927093769e2,6.0875677968769313e1,3.5367442122731318e2,9.6825185819064881e1,4.2777320321280868e2,1.320579513694256e2,5.1489541205976151e2,1.6653926246692234e2,6.062231700616057e2,2.0045580351305545e2,6.9939804050174675e2,2.33967547428931e2,7.9353913883121485e2,2.6718746024882129e2,8.8824728840093118e2,3.0019294009686297e2,9.8331652249153003e2,3.3303743248781023e2,1.0786300832173351e3,3.6575853567744215e2,1.174116883552056e3,3.9838326242444828e2,1.2697311502936671e3,4.3093142525251584e2,1.3654420537421949e3,4.6341783834045072e2,1.4612280494957724e3,4.9585377528766628e2,1.5570736126184551e3,5.2824795335824529e2,1.6529672620684649e3,5.6060721114817059e2,1.7489003171903987e3,5.9293698397432518e2,1.8448660878901079e3,6.2524164325451173e2},
-                                 {4.5161382419875136e-1,-2.9363812259549683,1.0318111484638114e1,-1.6683929616566333e2,4.4567231943928794e1,7.0543215234998048e2,8.9633744634049827e1,5.7648852749187584e2,1.3673834336082137e2,6.5200886798429904e2,1.8343535979263655e2,7.5692629351740375e2,2.2931563792554717e2,8.7148887394901741e2,2.7445076794831419e2,9.9032598298009141e2,3.1898938190064763e2,1.1114047534757614e3,3.6306514469182445e2,1.2337969139853608e3,4.0678244001494299e2,1.3570221416564417e3,4.5021978340248208e2,1.4808082991877643e3,4.9343589028031658e2,1.6049901363411354e3,5.3647493361132595e2,1.729461655786369e3,5.7937049967209818e2,1.8541517793701112e3,6.2214843801885092e2,1.9790110635604015e3,6.6482889201133409e2,2.1040040396656059e3,7.0742774841396625e2,2.2291045901918094e3,7.4995768041426658e2,2.3542930469031132e3,7.9242890594753139e2,2.4795543072479371e3},
-                                 {-3.604285749242773e-1,1.7859045153449254,-1.7175310960764978e1,2.3328774403083024e1,-3.7510859315884146e2,6.8007756043093472e1,1.1949579198115836e3,1.2321826025282614e2,8.7053084304092696e2,1.8125738132679758e2,9.3035994385656297e2,2.3933905562255443e2,1.045677647264327e3,2.9669713443475938e2,1.1793944611927268e3,3.53229147489349e2,1.3213402527840549e3,4.0902139761329434e2,1.4676257175626532e3,4.6419648460283494e2,1.616459714918704e3,5.1886821365298793e2,1.7669100943702653e3,5.7313122020039918e2,1.9184470505985465e3,6.2706125996988897e2,2.0707485161031618e3,6.8071824875861272e2,2.2236079933988007e3,7.3414953388817139e2,2.3768872171695735e3,7.8739269332218949e2,2.5304902150622149e3,8.4047775382421185e2,2.6843483176774051e3,8.9342889656539147e2,2.8384111007797428e3,9.4626575447518335e2,2.9926406998871904e3,9.9900439743780944e2},
-                                 {3.0036455436245561e-1,-1.7714551688928811,7.9522393376036924,-5.2965126920692954e1,4.1446643518201001e1,-7.0918834324984954e2,9.638285466993353e1,1.8695228248493821e3,1.6166677539280875e2,1.2457806893570177e3,2.304528275663697e2,1.2689023758249078e3,2.9978444194788578e2,1.3855078967697585e3,3.6859948538650854e2,1.5333056445159794e3,4.3660439711140205e2,1.6951555402493513e3,5.0378997826777775e2,1.8644595496112149e3,5.702399207763191e2,2.0381578886623894e3,6.3605827249359812e2,2.214648742604613e3,7.0134366744712766e2,2.3930176850910428e3,7.6618164879522282e2,2.5727072383848955e3,8.3064376549895767e2,2.7533594117630477e3,8.9478898005461202e2,2.934734385475547e3,9.5866565401306027e2,3.1166657501833019e3,1.0223134723926762e3,3.2990345481108563e3,1.0857651050419883e3,3.4817535460996517e3,1.1490475723716027e3,3.6647573464693442e3},
-                                 {-2.5767362268865915e-1,1.3271269220317851,-1.007844375078022e1,1.9457141893574621e1,-1.2032740719448633e2,6.4612666791313506e1,-1.1986981498144487e3,1.2969277038013355e2,2.7587416373809606e3,2.0500321101185974e2,1.7121729474935861e3,2.843865942860435e2,1.6736724143306833e3,3.6482325124949304e2,1.7807644372592513e3,4.4502252049632259e2,1.9366024554090312e3,5.245077779743201e2,2.1145153216764733e3,6.0315824916425715e2,2.3041975897855906e3,6.809987653175653e2,2.5008462743039923e3,7.5810681069527317e2,2.7019343715527827e3,8.3457264108310285e2,2.9060130088586129e3,9.104830551590582e2,3.1121958509344155e3,9.8591559441414395e2,3.3199123157656274e3,1.0609372378725349e3,3.528779553831809e3,1.1356049283489531e3,3.7385316808820325e3,1.2099667433638624e3,3.9489785836330546e3,1.2840631949703299e3,4.1599808842542654e3,1.357928448353271e3},
-                                 {2.2571358779051945e-1,-1.2813525895588931,6.334061181821935,-3.0836935282613293e1,3.6287769725361101e1,-2.2931500287528526e2,9.27839620023007e1,-1.873253067571971e3,1.6793748738465228e2,3.8922265579211283e3,2.5324186780720301e2,2.2796195271959575e3,3.4310458371923053e2,2.1506783706140188e3,4.3450894982284525e2,2.235780885017046e3,5.259957399364947e2,2.3926700662613146e3,6.1692529089990822e2,2.5821836422807395e3,7.0706172496642391e2,2.789161680434878e3,7.9635907944034791e2,3.0065153441686262e3,8.8485547275968681e2,3.2305005740850136e3,9.7262187919403344e2,3.4589625795417038e3,1.0597379338343142e3,3.6905787831132718e3,1.1462810036447436e3,3.9244954341212316e3,1.2323217175446472e3,4.1601384730205116e3,1.3179225897886328e3,4.3971086208241344e3,1.4031380709931466e3,4.6351201067855331e3,1.4880152053460824e3,4.8739633172635528e3},
-                                 {-2.0086393501794521e-1,1.0518996583311638,-7.1736858720630415,1.630225982328022e1,-7.0010197224905538e1,5.8388973824043986e1,-3.8990093150215361e2,1.2593696162233312e2,-2.7624652791311053e3,2.1111700664219514e2,5.2995884096854128e3,3.0639183981690304e2,2.9580182293650566e3,4.0664053145639884e2,2.7059067026253449e3,5.0888917628243888e2,2.7548738506394689e3,6.1155889718264082e2,2.9048879418384733e3,7.1387111162146322e2,3.1009305381327887e3,8.1547925771024509e2,3.3216889316832604e3,9.1626122769090563e2,3.5571770735885537e3,1.0162071669994e3,3.8021059954737887e3,1.115360106046885e3,4.0534225059474634e3,1.2137850486555104e3,4.3092470777770915e3,1.3115532146414081e3,4.5683632311758252e3,1.4087343079461721e3,4.8299511792313015e3,1.5053930085248721e3,5.0934397053605407e3,1.6015876595415751e3,5.3584194199721324e3,1.6973700664307405e3},
-                                 {1.8097615377689049e-1,-1.0084138674257417,5.2255516554671183,-2.1732170087169019e1,3.1536477679757607e1,-1.3369783941041997e2,8.5682937078513419e1,-6.1202048197619669e2,1.6405734327307798e2,-3.8959456087681373e3,2.5923132809735509e2,7.0104372766149747e3,3.6445915463876118e2,3.7572580636657793e3,4.7501931770973318e2,3.3453277912034619e3,5.8800396024495291e2,3.34234424556548e3,7.0175285176194469e2,3.476625986475166e3,8.1537251931148907e2,3.673524622326229e3,9.284145586410707e2,3.9041226542578233e3,1.0406801729028605e3,4.1548556600626188e3,1.1521066144617871e3,4.4185257120797554e3,1.2627026942955349e3,4.6909679205515914e3,1.372512666834484e3,4.9696121069894251e3,1.4815962696637955e3,5.2527908506171854e3,1.5900178977807336e3,5.5393780661092966e3,1.6978409222893932e3,5.8285876566508197e3,1.8051248916446244e3,6.1198553605184628e3},
-                                 {-1.6469188273767545e-1,8.6995247013129588e-1,-5.5992512944987269,1.3898832226848038e1,-4.9090072323466983e1,5.2122727668911058e1,-2.2796753519049623e2,1.1810821026891979e2,-9.0558553947820713e2,2.0713601417745198e2,-5.3033041403640418e3,3.1228045175321838e2,9.0543828139119032e3,4.2744795490887568e2,4.6872223735135535e3,5.4825949815831083e2,4.0749002997077785e3,6.7188616383402398e2,4.002479676009302e3,7.9661571525299336e2,4.1112436940653434e3,9.2146177745559215e2,4.3027293855843602e3,1.0458849846183387e3,4.5388068274134409e3,1.1696125260257464e3,4.8015811529917199e3,1.2925267786999005e3,5.081544765116595e3,1.4145982525810728e3,5.3731868891448534e3,1.5358457849052672e3,5.6731001150050259e3,1.6563131562935217e3,5.9790694013019011e3,1.7760555104012255e3,6.2895959299181921e3,1.8951315998360005e3,6.6036315510591354e3,2.0135994839362788e3},
-                                 {1.51109020068881e-1,-8.3324798110537292e-1,4.4335182866429126,-1.6832954045583402e1,2.7601923931708138e1,-9.3569278536014421e1,7.8036349944784928e1,-3.5885605310259024e2,1.5561886366940526e2,-1.2804939063175892e3,2.5516694666712101e2,-7.0141505291242128e3,3.7026437760961794e2,1.146103441459216e4,4.9536117668526623e2,5.7577907380291057e3,6.2637510056882492e2,4.9005743305197564e3,7.6056254394255484e2,4.7395568925896691e3,8.9618147872073461e2,4.8120906771413467e3,1.032171854129973e3,4.9913016574925089e3,1.1679147740797416e3,5.2280829420096423e3,1.3030680651016273e3,5.499385292317946e3,1.4374594316381282e3,5.792953545945515e3,1.5710188539298405e3,6.1016757550755881e3,1.7037364590548779e3,6.4211477940221264e3,1.8356365248467198e3,6.7485019240699798e3,1.9667615752079436e3,7.0817944052759477e3,2.097162749394591e3,7.4196637469800226e3},
-                                 {-1.3960440546146616e-1,7.4116305346188824e-1,-4.6081647631019957,1.206017468182953e1,-3.7815102320602819e1,4.6580076997410864e1,-1.5951797335589572e2,1.0922618522635231e2,-5.3237167396866803e2,1.9818116324806337e2,-1.7466345920813467e3,3.0814599810981604e2,-9.0580941680644356e3,4.3318310566656263e2,1.4260001304061571e4,5.6820095644082205e2,6.9788401654984689e3,7.09376879237391e2,5.8282936787856475e3,8.540548667467312e2,5.5578439347715304e3,1.0004797829548507e3,5.5825077319706059e3,1.1475342706081252e3,5.7419912496002948e3,1.2945310195390052e3,5.9742883483889207e3,1.4410642181133692e3,6.2502989004723728e3,1.586908632529364e3,6.5545446062731412e3,1.7319529607001933e3,6.8780356901181124e3,1.8761565365163373e3,7.2151988188967496e3,2.0195214892267849e3,7.5624000764557409e3,2.1620749756046263e3,7.9171729026623419e3,2.3038579241260285e3},
-                                 {1.2973343970322665e-1,-7.1080130159526208e-1,3.8440128303278013,-1.3780850442292249e1,2.441251829379914e1,-7.1839828182240719e1,7.0906333753945162e1,-2.5128418032044917e2,1.4563873387413926e2,-7.5450085744767871e2,2.4577022870731347e2,-2.3138909401890973e3,3.6607023244731432e2,-1.1464744282590544e4,5.0103663592405197e2,1.7480892596545583e4,6.4596888460413772e2,8.3602458643891384e3,7.9727319171142386e2,6.8639974423122983e3,9.5238088893221776e2,6.4616018940548503e3,1.109536183042746e3,6.4258280347584433e3,1.2675781202615426e3,6.5575412096310495e3,1.4257613171330542e3,6.7797555291050808e3,1.5836225011443416e3,7.0563503331884932e3,1.740886241993958e3,7.3681105219811279e3,1.8974003244779042e3,7.7038702054667163e3,2.0530922178396603e3,8.0567012029760778e3,2.2079400733352167e3,8.4220814840069955e3,2.3619535446164191e3,8.7969380610930737e3},
-                                 {-1.21170241823602e-1,6.4535747208367701e-1,-3.9241626933717725,1.0626314267068691e1,-3.0814660917199151e1,4.186349208352619e1,-1.2226063832266561e2,1.0058154790040508e2,-3.7320147944409508e2,1.8722635913213083e2,-1.0312139842855301e3,2.9836750437263624e2,-2.992142529761347e3,4.289375132067372e2,-1.4263709986927986e4,5.7382496838208599e2,2.1153317330177126e4,7.2866616881353642e2,9.9118817549021297e3,8.9007061680244241e2,8.0136211794084053e3,1.0555551656197444e3,7.4550863228229084e3,1.2233725965593902e3,7.3453782862894496e3,1.3923297216789362e3,7.4406883619713311e3,1.5616324409415447e3,7.6468119214745537e3,1.7307662434164233e3,7.919564634141469e3,1.8994088520374639e3,8.2354425144486703e3,2.0673683235802568e3,8.5807833996840537e3,2.2345400038243486e3,8.9471053235588853e3,2.4008769439902974e3,9.3288676694205681e3,2.566369726005947e3},
-                                 {1.1367041240167775e-1,-6.2016891227852558e-1,3.3899519375527571,-1.1694974728328132e1,2.181962872632371e1,-5.8339355491395428e1,6.4586449276834622e1,-1.9245830275951997e2,1.3557618006883851e2,-5.2958648333160403e2,2.3394903128325819e2,-1.3684697178465565e3,3.5595896247710027e2,-3.7912663690841401e3,4.9674624995948957e2,-1.7484600319209691e4,6.5154810304066469e2,2.5306884489594414e4,8.162937421315929e2,1.1643620816674403e4,9.8777439537872137e2,9.2830977497687322e3,1.1635896962658788e3,8.5425483457647989e3,1.3420077901319835e3,8.3444797329636492e3,1.5218126058662284e3,8.3941639547845137e3,1.7021696403854137e3,8.5777800530499152e3,1.8825191577372774e3,8.8419631467030174e3,2.0624956989556237e3,9.1583296051600791e3,2.241869343036541e3,9.5103787587476642e3,2.4205036839388836e3,9.8878624768764309e3,2.5983261425379824e3,1.0284082462509978e4},
-                                 {-1.0704701232508336e-1,5.7136685072532607e-1,-3.4220305214782215,9.4842849482931131,-2.6055880978391477e1,3.7886670100285791e1,-9.9055451276586547e1,9.2650922343289898e1,-2.8581795176076353e2,1.7585047894203639e2,-7.2474010331404895e2,2.8577388820917844e2,-1.7722181605119637e3,4.1853384872460225e2,-4.7211376666249714e3,5.6949523506724827e2,-2.1157024264073873e4,7.3420603989978806e2,2.9971203020941965e4,9.0885233663743698e2,1.3565335330328294e4,1.0903887488385177e3,1.067835793191694e4,1.2764944344706499e3,9.7282355326862069e3,1.4654578402770914e3,9.426449045345995e3,1.6560476699347776e3,9.4206943180977312e3,1.8473963130780711e3,9.5749778431789535e3,2.0389044650979196e3,9.8255634149821554e3,2.2301672574696978e3,1.0138558139008939e4,2.4209189087723726e3,1.0494258362267324e4,2.6109921053468317e3,1.08804238429506e4,2.8002885879947277e3},
-                                 {1.0115458154724201e-1,-5.5027351858242336e-1,3.0302593990272261,-1.0176150254612245e1,1.9689590320004907e1,-4.9178555987820207e1,5.90858953682419e1,-1.5570727331625295e2,1.260708654137737e2,-4.0571905240040961e2,2.2136358487743085e2,-9.6294994561131428e2,3.4267417301671499e2,-2.2484031074280167e3,4.860838055677268e2,-5.7916303425848566e3,6.4718353546743855e2,-2.5310590767665049e4,8.2179877895945612e2,3.517588184209457e4,1.0063425346244508e3,1.5686897048619526e4,1.1979171122342079e3,1.2205330881753977e4,1.394277688631315e3,1.1016392583960106e4,1.5937365438524367e3,1.0594599059416795e4,1.7950534044695203e3,1.0523001485043232e4,1.9973339003741132e3,1.0640718981404371e4,2.1999443811993888e3,1.0872379261782798e4,2.4024443063810608e3,1.1177911557908945e4,2.6045343666530535e3,1.1534022384036009e4,2.8060175256943667e3,1.1926239762672656e4},
-                                 {-9.5878219342851342e-2,5.1253177264979062e-1,-3.0368022728004351,8.5566886013661541,-2.2610491053513216e1,3.4527011251450134e1,-8.3304377858999141e1,8.555508307423516e1,-2.310588188525883e2,1.6483210521332149e2,-5.5553150889023565e2,2.7207738630246442e2,-1.2484927608418425e3,4.0462811952969606e2,-2.8029636564015613e3,5.58602254194955e2,-7.0126173766007558e3,7.2981041908093059e2,-2.9974908747858012e4,9.1432632021966886e2,4.0950529849788655e4,1.1087648049477896e3,1.8018177319888018e4,1.3103623071109324e3,1.386994447695048e4,1.5169464369025129e3,1.2411261870276387e4,1.7268557721807499e3,1.1852239395320801e4,1.9388461440871085e3,1.1703803755170407e4,2.1520019114528905e3,1.1777313329789398e4,2.3656598379429304e3,1.1984420969280938e4,2.5793473200184166e3,1.2278170340790379e4,2.7927339547318187e3,1.2631268802873361e4,3.0055944018268418e3},
-                                 {9.1125946917540398e-2,-4.9467542376634283e-1,2.7386741412015097,-9.0184103017788857,1.7918019381744369e1,-4.2566289061697524e1,5.4320980107483528e1,-1.3072564571466118e2,1.1735866765560671e2,-3.2788012656452623e2,2.0890736243905092e2,-7.3861481513058988e2,3.2795789215187986e2,-1.5856365884705976e3,4.7161797106245625e2,-3.441835365741294e3,6.3608395373801216e2,-8.3939710492950047e3,8.1737530361434214e2,-3.5179587101389186e4,1.0117886636804262e3,4.7324755924699537e4,1.2161195293026616e3,2.0569047178559426e4,1.4277266712233674e3,1.5678125578432491e4,1.6445065755069667e3,1.3917083859450501e4,1.8648257713124178e3,1.3202676971053203e4,2.0874403146434585e3,1.2965816193299546e4,2.3114180180800405e3,1.2987067318913603e4,2.5360703559636552e3,1.316369551413017e4,2.7608960841764784e3,1.3441112051187896e4,2.9855361589561167e3,1.3787593261487652e4},
-                                 {-8.6823254671554316e-2,4.6464364656190587e-1,-2.7313607239766454,7.7900797115336007,-1.9998168290116428e1,3.167071034200209e1,-7.1947634130722612e1,7.9269198841809331e1,-1.9376414807912666e2,1.5451779983464713e2,-4.4893980940779943e2,2.5826437361212098e2,-9.5831858365348618e2,3.8897546163601049e2,-1.9786425199975431e3,5.4362917249426564e2,-4.1709510951419785e3,7.1852468279864125e2,-9.9455631134233266e3,9.0987772021251827e2,-4.095423470893389e4,1.1141858093417283e3,5.4328168935122942e4,1.3284070215367854e3,2.3349377412478009e4,1.5500121570210734e3,1.7635800230995546e4,1.7769631153576753e3,1.5538097455640529e4,2.0076554142254651e3,1.4649216427987069e4,2.2408486640448585e3,1.4311751064978726e4,2.4755981847506441e3,1.4272284321249492e4,2.711194012741897e3,1.4412206826107247e4,2.9471094660793464e3,1.4668511451665239e4,3.182959272924559e3},
-                                 {8.2909137322314895e-2,-4.4936572885801632e-1,2.4977310593481572,-8.1049969841518123,1.6426400379063291e1,-3.7570404231085288e1,5.0187655637987479e1,-1.127104345223538e2,1.0948554949003142e2,-2.7475699798479914e2,1.9702876822063373e2,-5.9700135811284091e2,3.1287017065598603e2,-1.2179836107263711e3,4.5510453966745132e2,-2.4317661078059589e3,6.2064972436855676e2,-4.9962416231272762e3,8.0592100632446587e2,-1.1677264917325639e4,1.0073172871802503e3,-4.7328460438787848e4,1.2215177572035751e3,6.1990377739688642e4,1.4456275420557434e3,2.6369038613681741e4,1.6772204072399601e3,1.9748893818745169e4,1.9143203385620442e3,1.7278540270446839e4,2.1553524116510138e3,1.61951604833316e4,2.399082471135723e3,1.5744318213262692e4,2.6445568129617073e3,1.5635264994112457e4,2.8910474696818246e3,1.5731956051000919e4,3.1380052893209359e3,1.596214065713762e4},
-                                 {-7.9333163293860922e-2,4.2491567677808235e-1,-2.4829158552036866,7.1468600230163931,-1.794677538696135e1,2.9223131935295785e1,-6.3383405293495271e1,7.3715785384983782e1,-1.6684510288527477e2,1.4502967056409409e2,-3.7604750600589442e2,2.4487421596162977e2,-7.7482160226461448e2,3.7269323229717004e2,-1.5209430725545661e3,5.2632320867123263e2,-2.9492584765849389e3,7.0266967308530052e2,-5.9236361055981343e3,8.9827010277034555e2,-1.35989474954276e4,1.1096936906698201e3,-5.4331873149580834e4,1.3337845072659666e3,7.0340991189390516e4,1.567781308714107e3,2.9637901217167016e4,1.8093528135172105e3,2.2023331186665183e4,2.0565819236960274e3,1.9142648840823435e4,2.3079234879869173e3,1.784381022243085e4,2.5621517312331598e3,1.7266225383010578e4,2.818306887104395e3,1.7078307589421115e4,3.0756460340711712e3,1.7124941806103634e4,3.3336002796364231e3},
-                                 {7.6053276386660976e-2,-4.1171372296374473e-1,2.2954071889828712,-7.3648232754404422,1.5156017886086805e1,-3.366109617719306e1,4.6587287932240916e1,-9.913463606043513e1,1.0241339247904123e2,-2.3636361775989377e2,1.8592659907000835e2,-4.9997965140515579e2,2.9802990461956209e2,-9.8515035341275807e2,4.3770446516417812e2,-1.870523669922662e3,6.0261270202015415e2,-3.5353671961401684e3,7.8968071024723962e2,-6.9590624202251916e3,9.9556963438160416e2,-1.5720481635573468e4,1.217006670275645e3,-6.1994081692306725e4,1.4509860595289027e3,7.9409618129125763e4,1.6948685051517594e3,3.3165835530821541e4,1.9464105622792115e3,2.4465036736535238e4,2.2037510466640225e3,2.1134658805256481e4,2.4653745280836145e3,1.9598465341688555e4,2.7300653190196802e3,1.88801784992058e4,2.9968601148954412e3,1.8603708230409934e4,3.2650037401710959e3,1.859316042167451e4},
-                                 {-7.3034124574630322e-2,3.9143072872133851e-1,-2.2766726498001479,6.6000167771249834,-1.6291062105854859e1,2.7108520306510933e1,-5.6697265000474085e1,6.8804586918036418e1,-1.4655762387406204e2,1.3637757196570715e2,-3.2329017647719074e2,2.3217972406647744e2,-6.4889492504171393e2,3.5646874168072402e2,-1.2307306592806023e3,5.0787755066829935e2,-2.2700466492306831e3,6.8395694319765045e2,-4.1943369668446213e3,8.8167585769973524e2,-8.1084474279344878e3,1.097817648708681e3,-1.8051737929801218e4,1.3292560081431537e3,-7.0344694911862721e4,1.5731224139923835e3,8.9225867398876339e4,1.8268892872472113e3,3.6962711758780503e4,2.0883946709892149e3,2.7079934503239509e4,2.3558304623775979e3,2.3258805047024748e4,2.6277106998766719e3,2.1462424351007735e4,2.9028311305363645e3,2.058888190551131e4,3.1802270586179994e3,2.0213761157020971e4,3.4591334392387329e3},
-                                 {7.0245773993895621e-2,-3.7991925320277042e-1,2.1231752662131548,-6.7521159736194084,1.4062698939935451e1,-3.0516297399634878e1,4.343433383192873e1,-8.8549377655556287e1,9.6071222353043303e1,-2.0741101751493e2,1.7566360262224618e2,-4.2965482844666902e2,2.8377926751102106e2,-8.2513067725808191e2,4.2016313100818986e2,-1.5142993442547053e3,5.8318895780361134e2,-2.7228286810435822e3,7.7034213534599868e2,-4.9304101593881877e3,9.7864921922006431e2,-9.3777171735215593e3,1.2050125030156666e3,-2.0602586813107242e4,1.4464415206324629e3,-7.9413321648230779e4,1.700193570656409e3,9.9819347834625981e4,1.9638437881654203e3,4.1038400019827959e4,2.2353060170213242e3,2.9873948215950575e4,2.5128225712831882e3,2.551932181135157e4,2.7949365570492424e3,2.3438984743013878e4,3.0804562064288804e3,2.2395038568709783e4,3.3684172554871677e3,2.1910758942482275e4},
-                                 {-6.766270828484893e-2,3.6282736541106594e-1,-2.1025911623320745,6.1297374501721336,-1.4925031116610726e1,2.5266959658492129e1,-5.1331735514875765e1,6.4448804762963383e1,-1.3074692040315204e2,1.2851847362832973e2,-2.8346989316082799e2,2.2029852090457862e2,-5.5748931360998369e2,3.4070780142079405e2,-1.0310193906080635e3,4.8908629852230351e2,-1.8385876564984413e3,6.6361778945875568e2,-3.2321826013416677e3,8.6175640714246836e2,-5.7478272415863194e3,1.080595783895228e3,-1.0772797041091931e4,1.3171528056653778e3,-2.3382898593379249e4,1.568563051865062e3,-8.9229570737394633e4,1.8321995295209792e3,1.1121966826907936e5,2.1057321223442638e3,4.5402770362024963e4,2.38714536084248e3,3.2853001347547817e4,2.6747294738553195e3,2.7920442801733385e4,2.9670561251968215e3,2.5531443134981893e4,3.2629468386710053e3,2.4301350254019021e4,3.5614393266796077e3},
-                                 {6.526304199089433e-2,-3.5270775268159614e-1,1.9748291663039823,-6.2360453787149105,1.3112857264021234e1,-2.7929510413100298e1,4.065724437597686e1,-8.0068324020649728e1,9.0379404021111149e1,-1.8484600585840589e2,1.662309678996628e2,-3.7651929203477835e2,2.7029055488786481e2,-7.0882445439823198e2,4.0294380971242586e2,-1.2688885024080897e3,5.6321299480212806e2,-2.2063219260389441e3,7.4914555504879584e2,-3.8014180302696912e3,9.581895125366727e2,-6.6508271175970965e3,1.1875112696178207e3,-1.2299611875629426e4,1.4342373702314278e3,-2.6402543474752424e4,1.6956204686759933e3,-9.9823051012058963e4,1.969140290586094e3,1.2345643753223147e5,2.2525543886708819e3,5.006569277443528e4,2.543913364762435e3,3.6023017154809752e4,2.8415530154770027e3,3.0466401259567512e4,3.144072974355311e3,2.7743095388280817e4,3.4503086628878113e3,2.6310517675612014e4},
-                                 {-6.3027896389622383e-2,3.3811247901020715e-1,-1.9536082699036225,5.7212078633519662,-1.3777604265875296e1,2.3651102669638405e1,-4.6928826113576941e1,6.0570897428759957e1,-1.1809041504711992e2,1.213873717298118e2,-2.5242176629916481e2,2.0926009653566167e2,-4.8834960549751876e2,3.2563564531923322e2,-8.8568860654490583e2,4.7046396316403764e2,-1.5410605402107365e3,6.4251982223425355e2,-2.6202241860084629e3,8.397559199570799e2,-4.4338418858228425e3,1.059632578550587e3,-7.6436473990208874e3,1.2993919978118884e3,-1.3964086078913695e4,1.5562651792505647e3,-2.9671391576010825e4,1.8276136566273795e3,-1.1122337130221874e5,2.1110158538517535e3,1.365592644518223e5,2.404310673033454e3,5.5037037196597679e4,2.7056106082045769e3,3.9389918711316507e4,3.0132948235986885e3,3.3161430030312067e4,3.3259902802404566e3,3.0077236709250692e4,3.6425467382164509e3},
-                                 {6.0940899897292901e-2,-3.2915083142414058e-1,1.8457495629210117,-5.7950670888602624,1.22806433021265e1,-2.5762469901699561e1,3.8197057068105491e1,-7.312089314115261e1,8.5260570519030518e1,-1.6678905555783527e2,1.5758444047187813e2,-3.3506226752627096e2,2.5763378650949711e2,-6.2075338525569839e2,3.8632193157833274e2,-1.0901068137251669e3,5.4324454896796647e2,-1.849853423363792e3,7.2698533946408372e2,-3.0830127359563867e3,9.3543445832769153e2,-5.1327588093741896e3,1.1660778944530893e3,-8.7305246228116961e3,1.4162347925730337e3,-1.577214368582891e4,1.6832353553486851e3,-3.3199312945215505e4,1.9645425168320805e3,-1.2346014043561398e5,2.2578262193179578e3,1.5055775785370307e5,2.5610010503869875e3,6.0326673526233383e4,2.8722376002245523e3,4.2959628934550758e4,3.1899563386609415e3,3.6009761618726813e4,3.5128108761226109e3,3.2537161734698086e4},
-                                 {-5.8987784953978999e-2,3.1654481894528462e-1,-1.8246044792604912,5.3631544172511292,-1.2799338021687885e1,2.2223371376325241e1,-4.3248717046625234e1,5.7103885891251319e1,-1.0773435712747961e2,1.1491304645402161e2,-2.2757561740349923e2,1.9904561372372263e2,-4.3436385288755791e2,3.1136357546283795e2,-7.7552320719097038e2,4.523328216596098e2,-1.3241004193107325e3,6.2126234613319651e2,-2.1975808414099589e3,8.1659003731226805e2,-3.5974026407030068e3,1.0361684222543425e3,-5.9014715181329333e3,1.2775187358463262e3,-9.9156944274556872e3,1.538036898989688e3,-1.7729708425547654e4,1.8151471380588483e3,-3.6996177571430231e4,2.1064069634019169e3,-1.3656296723809589e5,2.4095713869847066e3,1.6548152656213321e5,2.7226255864376727e3,6.5944471625560066e4,3.0437947898359292e3,4.6738070608350057e4,3.371538839953333e3,3.901562823521517e4,3.7045372969131082e3},
-                                 {5.7156060315600126e-2,-3.0855585719599984e-1,1.7324300527401474,-5.4136561681106895,1.1545913694501349e1,-2.3919203512167497e1,3.6005410357440217e1,-6.7324235496625126e1,8.0644092927475566e1,-1.5202368682637014e2,1.4966428275373116e2,-3.018763448496777e2,2.4581883529780433e2,-5.5192769415736761e2,3.7044971180990991e2,-9.5445029268253009e2,5.2364907926732228e2,-1.5896869674106197e3,7.0449513895868897e2,-2.586552656412467e3,9.1131624401316905e2,-4.1661061657963997e3,1.1419465328926183e3,-6.7432810974431281e3,1.3939492178798587e3,-1.1203391696231631e4,1.6647959166154167e3,-1.9842703770949304e4,1.9519998650713018e3,-4.1071855394193771e4,2.2532069213818811e3,-1.5056146053392391e5,2.5662513568520002e3,1.8136017940002315e5,2.8891843390254412e3,7.190030132649724e4,3.220282574576512e3,5.0731166401610329e4,3.5580434673402109e3,4.2183261834877212e4},
-                                 {-5.5434742783676333e-2,2.9756002364639363e-1,-1.7117746704153605,5.0468598477868306,-1.1954763692414586e1,2.0953739015007831e1,-4.0124998974929181e1,5.3990827335715393e1,-9.9104687099159514e1,1.0902579385936512e2,-2.0726402569776031e2,1.8961129184772353e2,-3.9112793009406235e2,2.9793225796112791e2,-6.8935730252998874e2,4.3488481723342957e2,-1.159323663214688e3,6.002502296802098e2,-1.8888802808287435e3,7.929219955431983e2,-3.019075298950885e3,1.0111479950717058e3,-4.7918331542913111e3,1.2527587949254112e3,-7.6614872437085102e3,1.5153641726181203e3,-1.2597850674362862e4,1.7965097449756939e3,-2.2117052978812379e4,2.0937929569626577e3,-4.5436216311227347e4,2.404942325065783e3,-1.6548522914600845e5,2.7278661289198385e3,1.9822332518913391e5,3.0606773592659311e3,7.8204032434983283e4,3.4017013076540376e3,5.49448388839476e4,3.7494712395959834e3},
-                                 {5.3814136157317462e-2,-2.9039537287859389e-1,1.6321626322073018,-5.0803315746883444,1.0892781676727196e1,-2.2331041845184186e1,3.4042619225607257e1,-6.2412466836139487e1,7.6467456991838731e1,-1.3973011275164772e2,1.4240609974795744e2,-2.7474648260978707e2,2.3482142341930707e2,-4.9677404799270285e2,3.5539968116367715e2,-8.4825677656807527e2,5.0465650670410707e2,-1.3919296636810291e3,6.8211549409689772e2,-2.2236906417410973e3,8.8652339525161393e2,-3.4974521414977191e3,1.1160708889908723e3,-5.4772913510468738e3,1.3685963336702099e3,-8.6593884668320994e3,1.6417590463779582e3,-1.4103305065345817e4,1.9331765386875085e3,-2.4558679122717008e4,2.2405259046772694e3,-5.0099130184748635e4,2.561613116613691e3,-1.8136388189611055e5,2.8944157031882214e3,2.1610057275024231e5,3.2371046924992879e3,8.486553473457586e4,3.5880513039377295e3,5.9385010538877345e4},
-                                 {-5.2285647980822051e-2,2.8072089172274025e-1,-1.6122293799464951,4.7654855589762464,-1.1217763784140458e1,1.9818024414533148e1,-3.7438714123032605e1,5.118364424168846e1,-9.1802125975182132e1,1.0366093399077259e2,-1.9036090585637225e2,1.8090198725227511e2,-3.5577409840188174e2,2.8533956356511437e2,-6.2026271189278021e2,4.1822460410595047e2,-1.0302296022491669e3,5.7974925429632644e2,-1.6540517359952486e3,7.6922439818868228e2,-2.5961250268012742e3,9.8528126060360175e2,-4.0239838413683616e3,1.2260719413795036e3,-6.2251866810465041e3,1.489451253085934e3,-9.7402822594393826e3,1.7731298135638769e3,-1.5723988110577816e4,2.0747946703004098e3,-2.7173505120145863e4,2.392198259201569e3,-5.5070466846677145e4,2.723219244909967e3,-1.9822702760500702e5,3.065900079657149e3,2.3502153090327849e5,3.4184663790828465e3,9.1894677989470571e4,3.7793328450067588e3},
-                                 {5.0841636752332614e-2,-2.7426049928467026e-1,1.5428236468834664,-4.7864126531899423,1.0308574061284876e1,-2.094756066534846e1,3.2276013824078129e1,-5.8195473876452568e1,7.2676212095673567e1,-1.2933711675068817e2,1.357465203504623e2,-2.5217386268931237e2,2.2459902697142795e2,-4.5165853060839212e2,3.4119368838364419e2,-7.6304429909306877e2,4.8640323731946651e2,-1.2368778591830406e3,6.6014571414478584e2,-1.9474703590876274e3,8.6155715616085018e2,-3.0081873657860277e3,1.0891789301949932e3,-4.6009686504814274e3,1.3411394445208659e3,-7.0382234879531551e3,1.6153165125269159e3,-1.090746523880527e4,1.9094729041399746e3,-1.7464132655516976e4,2.2213626993738333e3,-2.9967453754936498e4,2.548809622997752e3,-6.0360096102951257e4,2.8897606646144654e3,-2.1610427509262799e5,3.2423192583266213e3,2.5501580846744097e5,3.6047624550568407e3,9.9301331947044485e4},
-                                 {-4.9475283842577642e-2,2.6568351735572899e-1,-1.5237334997440319,4.5135962339363717,-1.0568670060966586e1,1.8796594645446219e1,-3.5102629332376961e1,4.8641824556103216e1,-8.5540903008980698e1,9.8760123684177125e1,-1.7608016106439602e2,1.7285894732975546e2,-3.2635861786781579e2,2.7355833550170692e2,-5.6371740477712775e2,4.0239913105661442e2,-9.2657010582482731e2,5.5992673364065878e2,-1.4698017211626699e3,7.4582764819625032e2,-2.2739630964928214e3,9.5909490078930128e2,-3.4618788044841087e3,1.198201096738055e3,-5.2307026920713874e3,1.4612628361318054e3,-7.9191047385495003e3,1.7461858200193781e3,-1.2164233266298798e4,2.0507851423905054e3,-1.9327971204923059e4,2.3728793466182076e3,-3.2946447695984839e4,2.7103596428580817e3,-6.5977887737128634e4,3.0612373353698514e3,-2.3502523317817201e5,3.4236732391966382e3,2.761130142612935e5,3.7959929527062368e3},
-                                 {4.8180485581599822e-2,-2.5982930510316186e-1,1.4627248260601374,-4.5252093094669332,9.7830729128780788,-1.9730895490622575e1,3.0678573742246645e1,-5.4533878786954286e1,6.9223314051086497e1,-1.2043530923208104e2,1.2962599610639556e2,-2.3311033529348989e2,2.1510050669812521e2,-4.1411458187169112e2,3.2782207981796513e2,-6.9327224360491344e2,4.6896185023806979e2,-1.1122913121099419e3,6.3878283542335343e2,-1.7305991670076992e3,8.3677657050327146e2,-2.6353047107745731e3,1.0618198084801201e3,-3.9591979601879639e3,1.3123337259716281e3,-5.9154802060802972e3,1.5864325789972243e3,-8.8705321980533434e3,1.8820535399382486e3,-1.351388154826001e4,2.1970636950451171e3,-2.1319735969199484e4,2.5293434721691849e3,-3.611640951290691e4,2.8768480039133344e3,-7.1933711513404877e4,3.2376492211358911e3,-2.550195106802028e5,3.6099620222671999e3,2.9834275710284688e5},
-                                 {-4.6951761901561826e-2,2.5217368976122448e-1,-1.4445299854497766,4.2868204548645361,-9.9923799713128335,1.7873379823525068e1,-3.3051346922618501e1,4.6331203094044422e1,-8.0111404559400314e1,9.4271557505119225e1,-1.6385752959853993e2,1.654241127417325e2,-3.0151999783185676e2,2.625476452947387e2,-5.1664839371663595e2,3.8741781615757754e2,-8.4164687690526906e2,5.4088092691155417e2,-1.321658258839675e3,7.2295708582219745e2,-2.020865839426399e3,9.3297418746723757e2,-3.0332673168480945e3,1.1697151534981307e3,-4.5021411631567125e3,1.4315639666385782e3,-6.6575937657362056e3,1.7166400519404608e3,-9.8952065806376731e3,2.0229146131463749e3,-1.4959704721495472e4,2.3483060271924749e3,-2.3443658903446327e4,2.6907540572523571e3,-3.9483261689218187e4,3.048274424584339e3,-7.8237437179157056e4,3.4189962896276183e3,-2.7611671641673118e5,3.8011856075383062e3}};
-
-        IdX2dX2_ =new double[][]{{4.4553340807573522,-1.5504355860339106e1,-1.3634774506243351e1,-1.3502778898501214e1,-1.3477174855514607e1,-1.3469602062079394e1,-1.3466742075334281e1,-1.3465472879185544e1,-1.3464841059754377e1,-1.3464498230749836e1,-1.3464299303197211e1,-1.3464177502195559e1,-1.3464099567486051e1,-1.3464047833975849e1,-1.3464012406672823e1,-1.3463987488676627e1,-1.3463969551171039e1,-1.3463956373576834e1,-1.3463946517463909e1,-1.3463939026950838e1,-1.3463933252249535e1,-1.3463928742595472e1,-1.3463925179529568e1,-1.346392233432005e1,-1.3463920040197944e1,-1.3463918173894622e1,-1.3463916643143958e1,-1.3463915378082806e1,-1.3463914325244361e1,-1.3463913443304103e1,-1.3463912700028134e1,-1.3463912070057878e1,-1.3463911533284017e1,-1.346391107364058e1,-1.3463910678201926e1,-1.3463910336500417e1,-1.346391004000643e1,-1.3463909781728926e1,-1.3463909555906283e1,-1.3463909357765302e1},
-                                 {-1.5504355860339106e1,5.9430266882779161e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3634774506243351e1,0,6.2412185946420791e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3502778898501214e1,0,0,2.7168955542447222e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3477174855514607e1,0,0,0,7.9450241135202691e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3469602062079394e1,0,0,0,0,1.8500212337288873e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3466742075334281e1,0,0,0,0,0,3.715861932144258e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3465472879185544e1,0,0,0,0,0,0,6.7280858706660427e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464841059754377e1,0,0,0,0,0,0,0,1.1281199867981953e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464498230749836e1,0,0,0,0,0,0,0,0,1.7828156197400101e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464299303197211e1,0,0,0,0,0,0,0,0,0,2.6880352586849e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464177502195559e1,0,0,0,0,0,0,0,0,0,0,3.9007632218877562e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464099567486051e1,0,0,0,0,0,0,0,0,0,0,0,5.4838283730655105e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464047833975849e1,0,0,0,0,0,0,0,0,0,0,0,0,7.5059041213971346e5,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3464012406672823e1,0,0,0,0,0,0,0,0,0,0,0,0,0,1.004150842152364e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463987488676627e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.3171003773548079e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463969551171039e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.6980597223035544e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463956373576834e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.1562340361013167e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463946517463909e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.7014129323970121e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463939026950838e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.3439704793857617e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463933252249535e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.094865199808891e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463928742595472e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.9656400709539291e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463925179529568e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.9684225246546094e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.346392233432005e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,7.1159244472908692e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463920040197944e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,8.4214421797888499e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463918173894622e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,9.8988565176208967e6,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463916643143958e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.1562632710805559e7,0,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463915378082806e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.342782046390759e7,0,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463914325244361e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.5510053936037947e7,0,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463913443304103e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.7825551740853793e7,0,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463912700028134e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.0391116946558491e7,0,0,0,0,0,0,0,0,0},
-                                 {-1.3463912070057878e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.3224137075901612e7,0,0,0,0,0,0,0,0},
-                                 {-1.3463911533284017e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.6342584106178929e7,0,0,0,0,0,0,0},
-                                 {-1.346391107364058e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.976501446923242e7,0,0,0,0,0,0},
-                                 {-1.3463910678201926e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.3510569051450265e7,0,0,0,0,0},
-                                 {-1.3463910336500417e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,3.7598973193766851e7,0,0,0,0},
-                                 {-1.346391004000643e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.2050536691662767e7,0,0,0},
-                                 {-1.3463909781728926e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.6886153795164806e7,0,0},
-                                 {-1.3463909555906283e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.2127303208845966e7,0},
-                                 {-1.3463909357765302e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.7796048091825449e7}};
+    protected int getBoundaryType() {
+        return BoundaryTables.SF;
     }
-}
\ No newline at end of file
+}
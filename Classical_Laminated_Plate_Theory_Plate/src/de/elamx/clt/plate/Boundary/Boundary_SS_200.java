@@ -47,261 +47,7 @@ public class Boundary_SS_200 extends Boundary{
     }
 
     @Override
-    protected void initArrays() {
-        c1_ = new double[]{  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00};
-        c2_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-        c3_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-        c4_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-        c5_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-
-        cv_ = new double[]{  3.14159265358979300E+00,  6.28318530717958600E+00,  9.42477796076938000E+00,  1.25663706143591720E+01,  1.57079632679489660E+01,  1.88495559215387600E+01,  2.19911485751285520E+01,  2.51327412287183450E+01,  2.82743338823081380E+01,  3.14159265358979300E+01,  3.45575191894877300E+01,  3.76991118430775200E+01,  4.08407044966673140E+01,  4.39822971502571040E+01,  4.71238898038469000E+01,  5.02654824574366900E+01,  5.34070751110264900E+01,  5.65486677646162760E+01,  5.96902604182060700E+01,  6.28318530717958600E+01,  6.59734457253856600E+01,  6.91150383789754600E+01,  7.22566310325652400E+01,  7.53982236861550300E+01,  7.85398163397448300E+01,  8.16814089933346300E+01,  8.48230016469244100E+01,  8.79645943005142100E+01,  9.11061869541040000E+01,  9.42477796076938000E+01,  9.73893722612836000E+01,  1.00530964914873380E+02,  1.03672557568463180E+02,  1.06814150222052970E+02,  1.09955742875642770E+02,  1.13097335529232550E+02,  1.16238928182822350E+02,  1.19380520836412150E+02,  1.22522113490001940E+02,  1.25663706143591720E+02};
-
-        IX_ = new double[]{  6.36619772367581400E-01,  0.00000000000000000E+00,  2.12206590789193770E-01,  0.00000000000000000E+00,  1.27323954473516270E-01,  0.00000000000000000E+00,  9.09456817667973300E-02,  0.00000000000000000E+00,  7.07355302630645900E-02,  0.00000000000000000E+00,  5.78745247606892200E-02,  0.00000000000000000E+00,  4.89707517205831760E-02,  0.00000000000000000E+00,  4.24413181578387550E-02,  0.00000000000000000E+00,  3.74482219039753800E-02,  0.00000000000000000E+00,  3.35063038088200700E-02,  0.00000000000000000E+00,  3.03152272555991100E-02,  0.00000000000000000E+00,  2.76791205377209250E-02,  0.00000000000000000E+00,  2.54647908947032530E-02,  0.00000000000000000E+00,  2.35785100876881970E-02,  0.00000000000000000E+00,  2.19524059437097020E-02,  0.00000000000000000E+00,  2.05361216892768170E-02,  0.00000000000000000E+00,  1.92915082535630720E-02,  0.00000000000000000E+00,  1.81891363533594650E-02,  0.00000000000000000E+00,  1.72059397937184140E-02,  0.00000000000000000E+00,  1.63235839068610600E-02,  0.00000000000000000E+00};
-
-        IXX_ =   new double[][] {{  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01}};
-
-        IXdX_ =  new double[][] {{  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -3.42857142857142860E-01,  0.00000000000000000E+00, -2.53968253968253950E-01,  0.00000000000000000E+00, -2.02020202020202020E-01,  0.00000000000000000E+00, -1.67832167832167840E-01,  0.00000000000000000E+00, -1.43589743589743580E-01,  0.00000000000000000E+00, -1.25490196078431370E-01,  0.00000000000000000E+00, -1.11455108359133120E-01,  0.00000000000000000E+00, -1.00250626566416030E-01,  0.00000000000000000E+00, -9.10973084886128300E-02,  0.00000000000000000E+00, -8.34782608695652200E-02,  0.00000000000000000E+00, -7.70370370370370300E-02,  0.00000000000000000E+00, -7.15197956577266900E-02,  0.00000000000000000E+00, -6.67408231368186900E-02,  0.00000000000000000E+00, -6.25610948191593400E-02,  0.00000000000000000E+00, -5.88744588744588700E-02,  0.00000000000000000E+00, -5.55984555984556000E-02,  0.00000000000000000E+00, -5.26680526680526700E-02,  0.00000000000000000E+00, -5.00312695434646650E-02},
-                                 {  1.33333333333333330E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -9.52380952380952300E-01,  0.00000000000000000E+00, -6.22222222222222200E-01,  0.00000000000000000E+00, -4.67532467532467500E-01,  0.00000000000000000E+00, -3.76068376068376060E-01,  0.00000000000000000E+00, -3.15151515151515100E-01,  0.00000000000000000E+00, -2.71493212669683300E-01,  0.00000000000000000E+00, -2.38596491228070170E-01,  0.00000000000000000E+00, -2.12885154061624640E-01,  0.00000000000000000E+00, -1.92219679633867270E-01,  0.00000000000000000E+00, -1.75238095238095220E-01,  0.00000000000000000E+00, -1.61030595813204500E-01,  0.00000000000000000E+00, -1.48965517241379320E-01,  0.00000000000000000E+00, -1.38590203106332130E-01,  0.00000000000000000E+00, -1.29571577847439920E-01,  0.00000000000000000E+00, -1.21658986175115210E-01,  0.00000000000000000E+00, -1.14660114660114660E-01,  0.00000000000000000E+00, -1.08424908424908430E-01,  0.00000000000000000E+00, -1.02834541858932110E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00, -3.42857142857142900E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -8.72727272727272800E-01,  0.00000000000000000E+00, -6.59340659340659300E-01,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -4.49197860962566860E-01,  0.00000000000000000E+00, -3.88663967611336040E-01,  0.00000000000000000E+00, -3.42857142857142860E-01,  0.00000000000000000E+00, -3.06905370843989800E-01,  0.00000000000000000E+00, -2.77894736842105250E-01,  0.00000000000000000E+00, -2.53968253968253950E-01,  0.00000000000000000E+00, -2.33883058470764600E-01,  0.00000000000000000E+00, -2.16774193548387120E-01,  0.00000000000000000E+00, -2.02020202020202020E-01,  0.00000000000000000E+00, -1.89162561576354700E-01,  0.00000000000000000E+00, -1.77855274629468180E-01,  0.00000000000000000E+00, -1.67832167832167840E-01,  0.00000000000000000E+00, -1.58885017421602800E-01,  0.00000000000000000E+00, -1.50848522941546210E-01},
-                                 {  5.33333333333333300E-01,  0.00000000000000000E+00,  3.42857142857142900E+00,  0.00000000000000000E+00, -4.44444444444444500E+00,  0.00000000000000000E+00, -1.69696969696969700E+00,  0.00000000000000000E+00, -1.10769230769230780E+00,  0.00000000000000000E+00, -8.38095238095238100E-01,  0.00000000000000000E+00, -6.79738562091503300E-01,  0.00000000000000000E+00, -5.74162679425837300E-01,  0.00000000000000000E+00, -4.98168498168498200E-01,  0.00000000000000000E+00, -4.40579710144927600E-01,  0.00000000000000000E+00, -3.95294117647058850E-01,  0.00000000000000000E+00, -3.58674463937621800E-01,  0.00000000000000000E+00, -3.28407224958949100E-01,  0.00000000000000000E+00, -3.02945301542777000E-01,  0.00000000000000000E+00, -2.81212121212121200E-01,  0.00000000000000000E+00, -2.62433862433862460E-01,  0.00000000000000000E+00, -2.46039142590866700E-01,  0.00000000000000000E+00, -2.31596360628618690E-01,  0.00000000000000000E+00, -2.18773096821877300E-01,  0.00000000000000000E+00, -2.07308970099667780E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  9.52380952380952300E-01,  0.00000000000000000E+00,  4.44444444444444500E+00,  0.00000000000000000E+00, -5.45454545454545500E+00,  0.00000000000000000E+00, -2.05128205128205100E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.00840336134453780E+00,  0.00000000000000000E+00, -8.18713450292397600E-01,  0.00000000000000000E+00, -6.92640692640692600E-01,  0.00000000000000000E+00, -6.02006688963210700E-01,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -4.79302832244008700E-01,  0.00000000000000000E+00, -4.35571687840290400E-01,  0.00000000000000000E+00, -3.99385560675883200E-01,  0.00000000000000000E+00, -3.68906455862977600E-01,  0.00000000000000000E+00, -3.42857142857142860E-01,  0.00000000000000000E+00, -3.20320320320320300E-01,  0.00000000000000000E+00, -3.00618921308576500E-01,  0.00000000000000000E+00, -2.83241542092840250E-01,  0.00000000000000000E+00, -2.67794221282593400E-01,  0.00000000000000000E+00, -2.53968253968253950E-01},
-                                 {  3.42857142857142860E-01,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  5.45454545454545500E+00,  0.00000000000000000E+00, -6.46153846153846200E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -1.55294117647058800E+00,  0.00000000000000000E+00, -1.17293233082706760E+00,  0.00000000000000000E+00, -9.52380952380952300E-01,  0.00000000000000000E+00, -8.06324110671936800E-01,  0.00000000000000000E+00, -7.01538461538461600E-01,  0.00000000000000000E+00, -6.22222222222222200E-01,  0.00000000000000000E+00, -5.59837728194726100E-01,  0.00000000000000000E+00, -5.09337860780984800E-01,  0.00000000000000000E+00, -4.67532467532467500E-01,  0.00000000000000000E+00, -4.32298136645962700E-01,  0.00000000000000000E+00, -4.02162162162162160E-01,  0.00000000000000000E+00, -3.76068376068376060E-01,  0.00000000000000000E+00, -3.53238015138772070E-01,  0.00000000000000000E+00, -3.33083270817704450E-01,  0.00000000000000000E+00, -3.15151515151515100E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  6.22222222222222200E-01,  0.00000000000000000E+00,  1.69696969696969700E+00,  0.00000000000000000E+00,  6.46153846153846200E+00,  0.00000000000000000E+00, -7.46666666666666800E+00,  0.00000000000000000E+00, -2.74509803921568630E+00,  0.00000000000000000E+00, -1.76842105263157900E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.08212560386473420E+00,  0.00000000000000000E+00, -9.16363636363636400E-01,  0.00000000000000000E+00, -7.97720797720797700E-01,  0.00000000000000000E+00, -7.08045977011494300E-01,  0.00000000000000000E+00, -6.37571157495256200E-01,  0.00000000000000000E+00, -5.80542264752791000E-01,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -4.93537015276145700E-01,  0.00000000000000000E+00, -4.59487179487179430E-01,  0.00000000000000000E+00, -4.29990966576332460E-01,  0.00000000000000000E+00, -4.04170008019246200E-01,  0.00000000000000000E+00, -3.81362007168458750E-01,  0.00000000000000000E+00, -3.61057382333978050E-01},
-                                 {  2.53968253968253950E-01,  0.00000000000000000E+00,  8.72727272727272800E-01,  0.00000000000000000E+00,  2.05128205128205100E+00,  0.00000000000000000E+00,  7.46666666666666800E+00,  0.00000000000000000E+00, -8.47058823529411800E+00,  0.00000000000000000E+00, -3.08771929824561400E+00,  0.00000000000000000E+00, -1.98095238095238120E+00,  0.00000000000000000E+00, -1.49068322981366470E+00,  0.00000000000000000E+00, -1.20888888888888900E+00,  0.00000000000000000E+00, -1.02356902356902360E+00,  0.00000000000000000E+00, -8.91246684350132500E-01,  0.00000000000000000E+00, -7.91397849462365600E-01,  0.00000000000000000E+00, -7.13012477718360100E-01,  0.00000000000000000E+00, -6.49624060150376000E-01,  0.00000000000000000E+00, -5.97168597168597300E-01,  0.00000000000000000E+00, -5.52954292084726800E-01,  0.00000000000000000E+00, -5.15121951219512200E-01,  0.00000000000000000E+00, -4.82342807924203250E-01,  0.00000000000000000E+00, -4.53639846743295000E-01,  0.00000000000000000E+00, -4.28277282086479100E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  4.67532467532467500E-01,  0.00000000000000000E+00,  1.10769230769230780E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  8.47058823529411800E+00,  0.00000000000000000E+00, -9.47368421052631500E+00,  0.00000000000000000E+00, -3.42857142857142900E+00,  0.00000000000000000E+00, -2.19130434782608670E+00,  0.00000000000000000E+00, -1.64571428571428570E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.12852664576802520E+00,  0.00000000000000000E+00, -9.82630272952853500E-01,  0.00000000000000000E+00, -8.72727272727272800E-01,  0.00000000000000000E+00, -7.86554621848739500E-01,  0.00000000000000000E+00, -7.16927453769559000E-01,  0.00000000000000000E+00, -6.59340659340659300E-01,  0.00000000000000000E+00, -6.10816542948038200E-01,  0.00000000000000000E+00, -5.69302325581395400E-01,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -5.01834189288334600E-01,  0.00000000000000000E+00, -4.73996050032916400E-01},
-                                 {  2.02020202020202020E-01,  0.00000000000000000E+00,  6.59340659340659300E-01,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  2.74509803921568630E+00,  0.00000000000000000E+00,  9.47368421052631500E+00,  0.00000000000000000E+00, -1.04761904761904760E+01,  0.00000000000000000E+00, -3.76811594202898600E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -1.79894179894179900E+00,  0.00000000000000000E+00, -1.45593869731800750E+00,  0.00000000000000000E+00, -1.23167155425219940E+00,  0.00000000000000000E+00, -1.07226107226107240E+00,  0.00000000000000000E+00, -9.52380952380952300E-01,  0.00000000000000000E+00, -8.58505564387917300E-01,  0.00000000000000000E+00, -7.82726045883940600E-01,  0.00000000000000000E+00, -7.20092915214866400E-01,  0.00000000000000000E+00, -6.67340748230535900E-01,  0.00000000000000000E+00, -6.22222222222222200E-01,  0.00000000000000000E+00, -5.83136327817178800E-01,  0.00000000000000000E+00, -5.48909218859957800E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  3.76068376068376060E-01,  0.00000000000000000E+00,  8.38095238095238100E-01,  0.00000000000000000E+00,  1.55294117647058800E+00,  0.00000000000000000E+00,  3.08771929824561400E+00,  0.00000000000000000E+00,  1.04761904761904760E+01,  0.00000000000000000E+00, -1.14782608695652170E+01,  0.00000000000000000E+00, -4.10666666666666650E+00,  0.00000000000000000E+00, -2.60740740740740760E+00,  0.00000000000000000E+00, -1.95073891625615730E+00,  0.00000000000000000E+00, -1.57706093189964160E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.16043956043956050E+00,  0.00000000000000000E+00, -1.03063063063063050E+00,  0.00000000000000000E+00, -9.29110105580693800E-01,  0.00000000000000000E+00, -8.47240051347881900E-01,  0.00000000000000000E+00, -7.79623477297895900E-01,  0.00000000000000000E+00, -7.22705314009661800E-01,  0.00000000000000000E+00, -6.74042553191489300E-01,  0.00000000000000000E+00, -6.31897203325774800E-01,  0.00000000000000000E+00, -5.94996619337390200E-01},
-                                 {  1.67832167832167840E-01,  0.00000000000000000E+00,  5.33333333333333300E-01,  0.00000000000000000E+00,  1.00840336134453780E+00,  0.00000000000000000E+00,  1.76842105263157900E+00,  0.00000000000000000E+00,  3.42857142857142900E+00,  0.00000000000000000E+00,  1.14782608695652170E+01,  0.00000000000000000E+00, -1.24800000000000000E+01,  0.00000000000000000E+00, -4.44444444444444500E+00,  0.00000000000000000E+00, -2.81379310344827570E+00,  0.00000000000000000E+00, -2.10138248847926250E+00,  0.00000000000000000E+00, -1.69696969696969700E+00,  0.00000000000000000E+00, -1.43376623376623380E+00,  0.00000000000000000E+00, -1.24740124740124750E+00,  0.00000000000000000E+00, -1.10769230769230780E+00,  0.00000000000000000E+00, -9.98565279770444700E-01,  0.00000000000000000E+00, -9.10648714810281500E-01,  0.00000000000000000E+00, -8.38095238095238100E-01,  0.00000000000000000E+00, -7.77058279370952800E-01,  0.00000000000000000E+00, -7.24897959183673500E-01,  0.00000000000000000E+00, -6.79738562091503300E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  3.15151515151515100E-01,  0.00000000000000000E+00,  6.79738562091503300E-01,  0.00000000000000000E+00,  1.17293233082706760E+00,  0.00000000000000000E+00,  1.98095238095238120E+00,  0.00000000000000000E+00,  3.76811594202898600E+00,  0.00000000000000000E+00,  1.24800000000000000E+01,  0.00000000000000000E+00, -1.34814814814814810E+01,  0.00000000000000000E+00, -4.78160919540229800E+00,  0.00000000000000000E+00, -3.01935483870967760E+00,  0.00000000000000000E+00, -2.25108225108225120E+00,  0.00000000000000000E+00, -1.81587301587301590E+00,  0.00000000000000000E+00, -1.53316953316953320E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.18373983739837400E+00,  0.00000000000000000E+00, -1.06703146374829000E+00,  0.00000000000000000E+00, -9.73099415204678500E-01,  0.00000000000000000E+00, -8.95643363728470100E-01,  0.00000000000000000E+00, -8.30523513753327300E-01,  0.00000000000000000E+00, -7.74901960784313700E-01,  0.00000000000000000E+00, -7.26764500349406000E-01},
-                                 {  1.43589743589743580E-01,  0.00000000000000000E+00,  4.49197860962566860E-01,  0.00000000000000000E+00,  8.18713450292397600E-01,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  2.19130434782608670E+00,  0.00000000000000000E+00,  4.10666666666666650E+00,  0.00000000000000000E+00,  1.34814814814814810E+01,  0.00000000000000000E+00, -1.44827586206896550E+01,  0.00000000000000000E+00, -5.11827956989247300E+00,  0.00000000000000000E+00, -3.22424242424242400E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -1.93393393393393390E+00,  0.00000000000000000E+00, -1.63170163170163150E+00,  0.00000000000000000E+00, -1.41838649155722330E+00,  0.00000000000000000E+00, -1.25891472868217050E+00,  0.00000000000000000E+00, -1.13464052287581700E+00,  0.00000000000000000E+00, -1.03471444568868990E+00,  0.00000000000000000E+00, -9.52380952380952300E-01,  0.00000000000000000E+00, -8.83205456095481600E-01,  0.00000000000000000E+00, -8.24150943396226400E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  2.71493212669683300E-01,  0.00000000000000000E+00,  5.74162679425837300E-01,  0.00000000000000000E+00,  9.52380952380952300E-01,  0.00000000000000000E+00,  1.49068322981366470E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  4.44444444444444500E+00,  0.00000000000000000E+00,  1.44827586206896550E+01,  0.00000000000000000E+00, -1.54838709677419340E+01,  0.00000000000000000E+00, -5.45454545454545500E+00,  0.00000000000000000E+00, -3.42857142857142900E+00,  0.00000000000000000E+00, -2.54826254826254800E+00,  0.00000000000000000E+00, -2.05128205128205100E+00,  0.00000000000000000E+00, -1.72949002217294900E+00,  0.00000000000000000E+00, -1.50268336314847950E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.20150187734668320E+00,  0.00000000000000000E+00, -1.09559613319011800E+00,  0.00000000000000000E+00, -1.00840336134453780E+00,  0.00000000000000000E+00, -9.35192780968006600E-01,  0.00000000000000000E+00, -8.72727272727272800E-01},
-                                 {  1.25490196078431370E-01,  0.00000000000000000E+00,  3.88663967611336040E-01,  0.00000000000000000E+00,  6.92640692640692600E-01,  0.00000000000000000E+00,  1.08212560386473420E+00,  0.00000000000000000E+00,  1.64571428571428570E+00,  0.00000000000000000E+00,  2.60740740740740760E+00,  0.00000000000000000E+00,  4.78160919540229800E+00,  0.00000000000000000E+00,  1.54838709677419340E+01,  0.00000000000000000E+00, -1.64848484848484840E+01,  0.00000000000000000E+00, -5.79047619047619000E+00,  0.00000000000000000E+00, -3.63243243243243260E+00,  0.00000000000000000E+00, -2.69597069597069600E+00,  0.00000000000000000E+00, -2.16802168021680200E+00,  0.00000000000000000E+00, -1.82663847780126830E+00,  0.00000000000000000E+00, -1.58632478632478650E+00,  0.00000000000000000E+00, -1.40709219858156030E+00,  0.00000000000000000E+00, -1.26770708283313340E+00,  0.00000000000000000E+00, -1.15583075335397310E+00,  0.00000000000000000E+00, -1.06379155435759200E+00,  0.00000000000000000E+00, -9.86561264822134400E-01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  2.38596491228070170E-01,  0.00000000000000000E+00,  4.98168498168498200E-01,  0.00000000000000000E+00,  8.06324110671936800E-01,  0.00000000000000000E+00,  1.20888888888888900E+00,  0.00000000000000000E+00,  1.79894179894179900E+00,  0.00000000000000000E+00,  2.81379310344827570E+00,  0.00000000000000000E+00,  5.11827956989247300E+00,  0.00000000000000000E+00,  1.64848484848484840E+01,  0.00000000000000000E+00, -1.74857142857142840E+01,  0.00000000000000000E+00, -6.12612612612612600E+00,  0.00000000000000000E+00, -3.83589743589743560E+00,  0.00000000000000000E+00, -2.84320557491289170E+00,  0.00000000000000000E+00, -2.28423772609819140E+00,  0.00000000000000000E+00, -1.92323232323232300E+00,  0.00000000000000000E+00, -1.66939443535188210E+00,  0.00000000000000000E+00, -1.48027210884353730E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.21549155908639530E+00,  0.00000000000000000E+00, -1.11861471861471860E+00,  0.00000000000000000E+00, -1.03737604881769640E+00},
-                                 {  1.11455108359133120E-01,  0.00000000000000000E+00,  3.42857142857142860E-01,  0.00000000000000000E+00,  6.02006688963210700E-01,  0.00000000000000000E+00,  9.16363636363636400E-01,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  1.95073891625615730E+00,  0.00000000000000000E+00,  3.01935483870967760E+00,  0.00000000000000000E+00,  5.45454545454545500E+00,  0.00000000000000000E+00,  1.74857142857142840E+01,  0.00000000000000000E+00, -1.84864864864864880E+01,  0.00000000000000000E+00, -6.46153846153846200E+00,  0.00000000000000000E+00, -4.03902439024390250E+00,  0.00000000000000000E+00, -2.99003322259136200E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -2.01934235976789200E+00,  0.00000000000000000E+00, -1.75196232339089470E+00,  0.00000000000000000E+00, -1.55294117647058800E+00,  0.00000000000000000E+00, -1.39844617092119860E+00,  0.00000000000000000E+00, -1.27464114832535880E+00,  0.00000000000000000E+00, -1.17293233082706760E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  2.12885154061624640E-01,  0.00000000000000000E+00,  4.40579710144927600E-01,  0.00000000000000000E+00,  7.01538461538461600E-01,  0.00000000000000000E+00,  1.02356902356902360E+00,  0.00000000000000000E+00,  1.45593869731800750E+00,  0.00000000000000000E+00,  2.10138248847926250E+00,  0.00000000000000000E+00,  3.22424242424242400E+00,  0.00000000000000000E+00,  5.79047619047619000E+00,  0.00000000000000000E+00,  1.84864864864864880E+01,  0.00000000000000000E+00, -1.94871794871794850E+01,  0.00000000000000000E+00, -6.79674796747967500E+00,  0.00000000000000000E+00, -4.24186046511627900E+00,  0.00000000000000000E+00, -3.13650793650793650E+00,  0.00000000000000000E+00, -2.51536643026004740E+00,  0.00000000000000000E+00, -2.11502782931354360E+00,  0.00000000000000000E+00, -1.83408748114630480E+00,  0.00000000000000000E+00, -1.62515723270440260E+00,  0.00000000000000000E+00, -1.46310160427807500E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -1.22679580306698940E+00},
-                                 {  1.00250626566416030E-01,  0.00000000000000000E+00,  3.06905370843989800E-01,  0.00000000000000000E+00,  5.33333333333333300E-01,  0.00000000000000000E+00,  7.97720797720797700E-01,  0.00000000000000000E+00,  1.12852664576802520E+00,  0.00000000000000000E+00,  1.57706093189964160E+00,  0.00000000000000000E+00,  2.25108225108225120E+00,  0.00000000000000000E+00,  3.42857142857142900E+00,  0.00000000000000000E+00,  6.12612612612612600E+00,  0.00000000000000000E+00,  1.94871794871794850E+01,  0.00000000000000000E+00, -2.04878048780487800E+01,  0.00000000000000000E+00, -7.13178294573643400E+00,  0.00000000000000000E+00, -4.44444444444444500E+00,  0.00000000000000000E+00, -3.28267477203647400E+00,  0.00000000000000000E+00, -2.63038548752834500E+00,  0.00000000000000000E+00, -2.21033868092691630E+00,  0.00000000000000000E+00, -1.91582002902757600E+00,  0.00000000000000000E+00, -1.69696969696969700E+00,  0.00000000000000000E+00, -1.52734778121775030E+00,  0.00000000000000000E+00, -1.39161462979482600E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.92219679633867270E-01,  0.00000000000000000E+00,  3.95294117647058850E-01,  0.00000000000000000E+00,  6.22222222222222200E-01,  0.00000000000000000E+00,  8.91246684350132500E-01,  0.00000000000000000E+00,  1.23167155425219940E+00,  0.00000000000000000E+00,  1.69696969696969700E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  3.63243243243243260E+00,  0.00000000000000000E+00,  6.46153846153846200E+00,  0.00000000000000000E+00,  2.04878048780487800E+01,  0.00000000000000000E+00, -2.14883720930232550E+01,  0.00000000000000000E+00, -7.46666666666666800E+00,  0.00000000000000000E+00, -4.64680851063829800E+00,  0.00000000000000000E+00, -3.42857142857142900E+00,  0.00000000000000000E+00, -2.74509803921568630E+00,  0.00000000000000000E+00, -2.30531732418524900E+00,  0.00000000000000000E+00, -1.99720279720279700E+00,  0.00000000000000000E+00, -1.76842105263157900E+00,  0.00000000000000000E+00, -1.59122632103688930E+00,  0.00000000000000000E+00, -1.44952545297670400E+00},
-                                 {  9.10973084886128300E-02,  0.00000000000000000E+00,  2.77894736842105250E-01,  0.00000000000000000E+00,  4.79302832244008700E-01,  0.00000000000000000E+00,  7.08045977011494300E-01,  0.00000000000000000E+00,  9.82630272952853500E-01,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  1.81587301587301590E+00,  0.00000000000000000E+00,  2.54826254826254800E+00,  0.00000000000000000E+00,  3.83589743589743560E+00,  0.00000000000000000E+00,  6.79674796747967500E+00,  0.00000000000000000E+00,  2.14883720930232550E+01,  0.00000000000000000E+00, -2.24888888888888870E+01,  0.00000000000000000E+00, -7.80141843971631200E+00,  0.00000000000000000E+00, -4.84897959183673400E+00,  0.00000000000000000E+00, -3.57422969187675040E+00,  0.00000000000000000E+00, -2.85953878406708600E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -2.07827260458839400E+00,  0.00000000000000000E+00, -1.83954802259887000E+00,  0.00000000000000000E+00, -1.65477338476374160E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.75238095238095220E-01,  0.00000000000000000E+00,  3.58674463937621800E-01,  0.00000000000000000E+00,  5.59837728194726100E-01,  0.00000000000000000E+00,  7.91397849462365600E-01,  0.00000000000000000E+00,  1.07226107226107240E+00,  0.00000000000000000E+00,  1.43376623376623380E+00,  0.00000000000000000E+00,  1.93393393393393390E+00,  0.00000000000000000E+00,  2.69597069597069600E+00,  0.00000000000000000E+00,  4.03902439024390250E+00,  0.00000000000000000E+00,  7.13178294573643400E+00,  0.00000000000000000E+00,  2.24888888888888870E+01,  0.00000000000000000E+00, -2.34893617021276600E+01,  0.00000000000000000E+00, -8.13605442176870700E+00,  0.00000000000000000E+00, -5.05098039215686300E+00,  0.00000000000000000E+00, -3.71967654986522900E+00,  0.00000000000000000E+00, -2.97373737373737400E+00,  0.00000000000000000E+00, -2.49441786283891530E+00,  0.00000000000000000E+00, -2.15906127770534530E+00,  0.00000000000000000E+00, -1.91038251366120230E+00,  0.00000000000000000E+00, -1.71802054154995340E+00},
-                                 {  8.34782608695652200E-02,  0.00000000000000000E+00,  2.53968253968253950E-01,  0.00000000000000000E+00,  4.35571687840290400E-01,  0.00000000000000000E+00,  6.37571157495256200E-01,  0.00000000000000000E+00,  8.72727272727272800E-01,  0.00000000000000000E+00,  1.16043956043956050E+00,  0.00000000000000000E+00,  1.53316953316953320E+00,  0.00000000000000000E+00,  2.05128205128205100E+00,  0.00000000000000000E+00,  2.84320557491289170E+00,  0.00000000000000000E+00,  4.24186046511627900E+00,  0.00000000000000000E+00,  7.46666666666666800E+00,  0.00000000000000000E+00,  2.34893617021276600E+01,  0.00000000000000000E+00, -2.44897959183673460E+01,  0.00000000000000000E+00, -8.47058823529411800E+00,  0.00000000000000000E+00, -5.25283018867924500E+00,  0.00000000000000000E+00, -3.86493506493506440E+00,  0.00000000000000000E+00, -3.08771929824561400E+00,  0.00000000000000000E+00, -2.58859784283513100E+00,  0.00000000000000000E+00, -2.23959646910466600E+00,  0.00000000000000000E+00, -1.98095238095238120E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.61030595813204500E-01,  0.00000000000000000E+00,  3.28407224958949100E-01,  0.00000000000000000E+00,  5.09337860780984800E-01,  0.00000000000000000E+00,  7.13012477718360100E-01,  0.00000000000000000E+00,  9.52380952380952300E-01,  0.00000000000000000E+00,  1.24740124740124750E+00,  0.00000000000000000E+00,  1.63170163170163150E+00,  0.00000000000000000E+00,  2.16802168021680200E+00,  0.00000000000000000E+00,  2.99003322259136200E+00,  0.00000000000000000E+00,  4.44444444444444500E+00,  0.00000000000000000E+00,  7.80141843971631200E+00,  0.00000000000000000E+00,  2.44897959183673460E+01,  0.00000000000000000E+00, -2.54901960784313700E+01,  0.00000000000000000E+00, -8.80503144654088000E+00,  0.00000000000000000E+00, -5.45454545454545500E+00,  0.00000000000000000E+00, -4.01002506265664100E+00,  0.00000000000000000E+00, -3.20150659133710000E+00,  0.00000000000000000E+00, -2.68256333830104300E+00,  0.00000000000000000E+00, -2.31990231990232000E+00,  0.00000000000000000E+00, -2.05128205128205100E+00},
-                                 {  7.70370370370370300E-02,  0.00000000000000000E+00,  2.33883058470764600E-01,  0.00000000000000000E+00,  3.99385560675883200E-01,  0.00000000000000000E+00,  5.80542264752791000E-01,  0.00000000000000000E+00,  7.86554621848739500E-01,  0.00000000000000000E+00,  1.03063063063063050E+00,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  1.72949002217294900E+00,  0.00000000000000000E+00,  2.28423772609819140E+00,  0.00000000000000000E+00,  3.13650793650793650E+00,  0.00000000000000000E+00,  4.64680851063829800E+00,  0.00000000000000000E+00,  8.13605442176870700E+00,  0.00000000000000000E+00,  2.54901960784313700E+01,  0.00000000000000000E+00, -2.64905660377358500E+01,  0.00000000000000000E+00, -9.13939393939393900E+00,  0.00000000000000000E+00, -5.65614035087719300E+00,  0.00000000000000000E+00, -4.15496368038740900E+00,  0.00000000000000000E+00, -3.31511839708561000E+00,  0.00000000000000000E+00, -2.77633477633477630E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.48965517241379320E-01,  0.00000000000000000E+00,  3.02945301542777000E-01,  0.00000000000000000E+00,  4.67532467532467500E-01,  0.00000000000000000E+00,  6.49624060150376000E-01,  0.00000000000000000E+00,  8.58505564387917300E-01,  0.00000000000000000E+00,  1.10769230769230780E+00,  0.00000000000000000E+00,  1.41838649155722330E+00,  0.00000000000000000E+00,  1.82663847780126830E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  3.28267477203647400E+00,  0.00000000000000000E+00,  4.84897959183673400E+00,  0.00000000000000000E+00,  8.47058823529411800E+00,  0.00000000000000000E+00,  2.64905660377358500E+01,  0.00000000000000000E+00, -2.74909090909090920E+01,  0.00000000000000000E+00, -9.47368421052631500E+00,  0.00000000000000000E+00, -5.85762711864406800E+00,  0.00000000000000000E+00, -4.29976580796253000E+00,  0.00000000000000000E+00, -3.42857142857142900E+00,  0.00000000000000000E+00, -2.86993006993007000E+00,  0.00000000000000000E+00, -2.47990815154994240E+00},
-                                 {  7.15197956577266900E-02,  0.00000000000000000E+00,  2.16774193548387120E-01,  0.00000000000000000E+00,  3.68906455862977600E-01,  0.00000000000000000E+00,  5.33333333333333300E-01,  0.00000000000000000E+00,  7.16927453769559000E-01,  0.00000000000000000E+00,  9.29110105580693800E-01,  0.00000000000000000E+00,  1.18373983739837400E+00,  0.00000000000000000E+00,  1.50268336314847950E+00,  0.00000000000000000E+00,  1.92323232323232300E+00,  0.00000000000000000E+00,  2.51536643026004740E+00,  0.00000000000000000E+00,  3.42857142857142900E+00,  0.00000000000000000E+00,  5.05098039215686300E+00,  0.00000000000000000E+00,  8.80503144654088000E+00,  0.00000000000000000E+00,  2.74909090909090920E+01,  0.00000000000000000E+00, -2.84912280701754400E+01,  0.00000000000000000E+00, -9.80790960451977300E+00,  0.00000000000000000E+00, -6.05901639344262300E+00,  0.00000000000000000E+00, -4.44444444444444500E+00,  0.00000000000000000E+00, -3.54188034188034170E+00,  0.00000000000000000E+00, -2.96336499321573930E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.38590203106332130E-01,  0.00000000000000000E+00,  2.81212121212121200E-01,  0.00000000000000000E+00,  4.32298136645962700E-01,  0.00000000000000000E+00,  5.97168597168597300E-01,  0.00000000000000000E+00,  7.82726045883940600E-01,  0.00000000000000000E+00,  9.98565279770444700E-01,  0.00000000000000000E+00,  1.25891472868217050E+00,  0.00000000000000000E+00,  1.58632478632478650E+00,  0.00000000000000000E+00,  2.01934235976789200E+00,  0.00000000000000000E+00,  2.63038548752834500E+00,  0.00000000000000000E+00,  3.57422969187675040E+00,  0.00000000000000000E+00,  5.25283018867924500E+00,  0.00000000000000000E+00,  9.13939393939393900E+00,  0.00000000000000000E+00,  2.84912280701754400E+01,  0.00000000000000000E+00, -2.94915254237288130E+01,  0.00000000000000000E+00, -1.01420765027322410E+01,  0.00000000000000000E+00, -6.26031746031746000E+00,  0.00000000000000000E+00, -4.58901098901098900E+00,  0.00000000000000000E+00, -3.65505804311774440E+00,  0.00000000000000000E+00, -3.05665349143610000E+00},
-                                 {  6.67408231368186900E-02,  0.00000000000000000E+00,  2.02020202020202020E-01,  0.00000000000000000E+00,  3.42857142857142860E-01,  0.00000000000000000E+00,  4.93537015276145700E-01,  0.00000000000000000E+00,  6.59340659340659300E-01,  0.00000000000000000E+00,  8.47240051347881900E-01,  0.00000000000000000E+00,  1.06703146374829000E+00,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  1.66939443535188210E+00,  0.00000000000000000E+00,  2.11502782931354360E+00,  0.00000000000000000E+00,  2.74509803921568630E+00,  0.00000000000000000E+00,  3.71967654986522900E+00,  0.00000000000000000E+00,  5.45454545454545500E+00,  0.00000000000000000E+00,  9.47368421052631500E+00,  0.00000000000000000E+00,  2.94915254237288130E+01,  0.00000000000000000E+00, -3.04918032786885220E+01,  0.00000000000000000E+00, -1.04761904761904760E+01,  0.00000000000000000E+00, -6.46153846153846200E+00,  0.00000000000000000E+00, -4.73347547974413600E+00,  0.00000000000000000E+00, -3.76811594202898600E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.29571577847439920E-01,  0.00000000000000000E+00,  2.62433862433862460E-01,  0.00000000000000000E+00,  4.02162162162162160E-01,  0.00000000000000000E+00,  5.52954292084726800E-01,  0.00000000000000000E+00,  7.20092915214866400E-01,  0.00000000000000000E+00,  9.10648714810281500E-01,  0.00000000000000000E+00,  1.13464052287581700E+00,  0.00000000000000000E+00,  1.40709219858156030E+00,  0.00000000000000000E+00,  1.75196232339089470E+00,  0.00000000000000000E+00,  2.21033868092691630E+00,  0.00000000000000000E+00,  2.85953878406708600E+00,  0.00000000000000000E+00,  3.86493506493506440E+00,  0.00000000000000000E+00,  5.65614035087719300E+00,  0.00000000000000000E+00,  9.80790960451977300E+00,  0.00000000000000000E+00,  3.04918032786885220E+01,  0.00000000000000000E+00, -3.14920634920634940E+01,  0.00000000000000000E+00, -1.08102564102564110E+01,  0.00000000000000000E+00, -6.66268656716417950E+00,  0.00000000000000000E+00, -4.87784679089026900E+00,  0.00000000000000000E+00, -3.88106416275430370E+00},
-                                 {  6.25610948191593400E-02,  0.00000000000000000E+00,  1.89162561576354700E-01,  0.00000000000000000E+00,  3.20320320320320300E-01,  0.00000000000000000E+00,  4.59487179487179430E-01,  0.00000000000000000E+00,  6.10816542948038200E-01,  0.00000000000000000E+00,  7.79623477297895900E-01,  0.00000000000000000E+00,  9.73099415204678500E-01,  0.00000000000000000E+00,  1.20150187734668320E+00,  0.00000000000000000E+00,  1.48027210884353730E+00,  0.00000000000000000E+00,  1.83408748114630480E+00,  0.00000000000000000E+00,  2.30531732418524900E+00,  0.00000000000000000E+00,  2.97373737373737400E+00,  0.00000000000000000E+00,  4.01002506265664100E+00,  0.00000000000000000E+00,  5.85762711864406800E+00,  0.00000000000000000E+00,  1.01420765027322410E+01,  0.00000000000000000E+00,  3.14920634920634940E+01,  0.00000000000000000E+00, -3.24923076923076900E+01,  0.00000000000000000E+00, -1.11442786069651750E+01,  0.00000000000000000E+00, -6.86376811594202900E+00,  0.00000000000000000E+00, -5.02213279678068400E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.21658986175115210E-01,  0.00000000000000000E+00,  2.46039142590866700E-01,  0.00000000000000000E+00,  3.76068376068376060E-01,  0.00000000000000000E+00,  5.15121951219512200E-01,  0.00000000000000000E+00,  6.67340748230535900E-01,  0.00000000000000000E+00,  8.38095238095238100E-01,  0.00000000000000000E+00,  1.03471444568868990E+00,  0.00000000000000000E+00,  1.26770708283313340E+00,  0.00000000000000000E+00,  1.55294117647058800E+00,  0.00000000000000000E+00,  1.91582002902757600E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  3.08771929824561400E+00,  0.00000000000000000E+00,  4.15496368038740900E+00,  0.00000000000000000E+00,  6.05901639344262300E+00,  0.00000000000000000E+00,  1.04761904761904760E+01,  0.00000000000000000E+00,  3.24923076923076900E+01,  0.00000000000000000E+00, -3.34925373134328340E+01,  0.00000000000000000E+00, -1.14782608695652170E+01,  0.00000000000000000E+00, -7.06478873239436660E+00,  0.00000000000000000E+00, -5.16634050880626200E+00},
-                                 {  5.88744588744588700E-02,  0.00000000000000000E+00,  1.77855274629468180E-01,  0.00000000000000000E+00,  3.00618921308576500E-01,  0.00000000000000000E+00,  4.29990966576332460E-01,  0.00000000000000000E+00,  5.69302325581395400E-01,  0.00000000000000000E+00,  7.22705314009661800E-01,  0.00000000000000000E+00,  8.95643363728470100E-01,  0.00000000000000000E+00,  1.09559613319011800E+00,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  1.62515723270440260E+00,  0.00000000000000000E+00,  1.99720279720279700E+00,  0.00000000000000000E+00,  2.49441786283891530E+00,  0.00000000000000000E+00,  3.20150659133710000E+00,  0.00000000000000000E+00,  4.29976580796253000E+00,  0.00000000000000000E+00,  6.26031746031746000E+00,  0.00000000000000000E+00,  1.08102564102564110E+01,  0.00000000000000000E+00,  3.34925373134328340E+01,  0.00000000000000000E+00, -3.44927536231884060E+01,  0.00000000000000000E+00, -1.18122065727699520E+01,  0.00000000000000000E+00, -7.26575342465753400E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.14660114660114660E-01,  0.00000000000000000E+00,  2.31596360628618690E-01,  0.00000000000000000E+00,  3.53238015138772070E-01,  0.00000000000000000E+00,  4.82342807924203250E-01,  0.00000000000000000E+00,  6.22222222222222200E-01,  0.00000000000000000E+00,  7.77058279370952800E-01,  0.00000000000000000E+00,  9.52380952380952300E-01,  0.00000000000000000E+00,  1.15583075335397310E+00,  0.00000000000000000E+00,  1.39844617092119860E+00,  0.00000000000000000E+00,  1.69696969696969700E+00,  0.00000000000000000E+00,  2.07827260458839400E+00,  0.00000000000000000E+00,  2.58859784283513100E+00,  0.00000000000000000E+00,  3.31511839708561000E+00,  0.00000000000000000E+00,  4.44444444444444500E+00,  0.00000000000000000E+00,  6.46153846153846200E+00,  0.00000000000000000E+00,  1.11442786069651750E+01,  0.00000000000000000E+00,  3.44927536231884060E+01,  0.00000000000000000E+00, -3.54929577464788700E+01,  0.00000000000000000E+00, -1.21461187214611870E+01,  0.00000000000000000E+00, -7.46666666666666800E+00},
-                                 {  5.55984555984556000E-02,  0.00000000000000000E+00,  1.67832167832167840E-01,  0.00000000000000000E+00,  2.83241542092840250E-01,  0.00000000000000000E+00,  4.04170008019246200E-01,  0.00000000000000000E+00,  5.33333333333333300E-01,  0.00000000000000000E+00,  6.74042553191489300E-01,  0.00000000000000000E+00,  8.30523513753327300E-01,  0.00000000000000000E+00,  1.00840336134453780E+00,  0.00000000000000000E+00,  1.21549155908639530E+00,  0.00000000000000000E+00,  1.46310160427807500E+00,  0.00000000000000000E+00,  1.76842105263157900E+00,  0.00000000000000000E+00,  2.15906127770534530E+00,  0.00000000000000000E+00,  2.68256333830104300E+00,  0.00000000000000000E+00,  3.42857142857142900E+00,  0.00000000000000000E+00,  4.58901098901098900E+00,  0.00000000000000000E+00,  6.66268656716417950E+00,  0.00000000000000000E+00,  1.14782608695652170E+01,  0.00000000000000000E+00,  3.54929577464788700E+01,  0.00000000000000000E+00, -3.64931506849315100E+01,  0.00000000000000000E+00, -1.24800000000000000E+01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.08424908424908430E-01,  0.00000000000000000E+00,  2.18773096821877300E-01,  0.00000000000000000E+00,  3.33083270817704450E-01,  0.00000000000000000E+00,  4.53639846743295000E-01,  0.00000000000000000E+00,  5.83136327817178800E-01,  0.00000000000000000E+00,  7.24897959183673500E-01,  0.00000000000000000E+00,  8.83205456095481600E-01,  0.00000000000000000E+00,  1.06379155435759200E+00,  0.00000000000000000E+00,  1.27464114832535880E+00,  0.00000000000000000E+00,  1.52734778121775030E+00,  0.00000000000000000E+00,  1.83954802259887000E+00,  0.00000000000000000E+00,  2.23959646910466600E+00,  0.00000000000000000E+00,  2.77633477633477630E+00,  0.00000000000000000E+00,  3.54188034188034170E+00,  0.00000000000000000E+00,  4.73347547974413600E+00,  0.00000000000000000E+00,  6.86376811594202900E+00,  0.00000000000000000E+00,  1.18122065727699520E+01,  0.00000000000000000E+00,  3.64931506849315100E+01,  0.00000000000000000E+00, -3.74933333333333300E+01,  0.00000000000000000E+00, -1.28138528138528130E+01},
-                                 {  5.26680526680526700E-02,  0.00000000000000000E+00,  1.58885017421602800E-01,  0.00000000000000000E+00,  2.67794221282593400E-01,  0.00000000000000000E+00,  3.81362007168458750E-01,  0.00000000000000000E+00,  5.01834189288334600E-01,  0.00000000000000000E+00,  6.31897203325774800E-01,  0.00000000000000000E+00,  7.74901960784313700E-01,  0.00000000000000000E+00,  9.35192780968006600E-01,  0.00000000000000000E+00,  1.11861471861471860E+00,  0.00000000000000000E+00,  1.33333333333333330E+00,  0.00000000000000000E+00,  1.59122632103688930E+00,  0.00000000000000000E+00,  1.91038251366120230E+00,  0.00000000000000000E+00,  2.31990231990232000E+00,  0.00000000000000000E+00,  2.86993006993007000E+00,  0.00000000000000000E+00,  3.65505804311774440E+00,  0.00000000000000000E+00,  4.87784679089026900E+00,  0.00000000000000000E+00,  7.06478873239436660E+00,  0.00000000000000000E+00,  1.21461187214611870E+01,  0.00000000000000000E+00,  3.74933333333333300E+01,  0.00000000000000000E+00, -3.84935064935064940E+01,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.02834541858932110E-01,  0.00000000000000000E+00,  2.07308970099667780E-01,  0.00000000000000000E+00,  3.15151515151515100E-01,  0.00000000000000000E+00,  4.28277282086479100E-01,  0.00000000000000000E+00,  5.48909218859957800E-01,  0.00000000000000000E+00,  6.79738562091503300E-01,  0.00000000000000000E+00,  8.24150943396226400E-01,  0.00000000000000000E+00,  9.86561264822134400E-01,  0.00000000000000000E+00,  1.17293233082706760E+00,  0.00000000000000000E+00,  1.39161462979482600E+00,  0.00000000000000000E+00,  1.65477338476374160E+00,  0.00000000000000000E+00,  1.98095238095238120E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  2.96336499321573930E+00,  0.00000000000000000E+00,  3.76811594202898600E+00,  0.00000000000000000E+00,  5.02213279678068400E+00,  0.00000000000000000E+00,  7.26575342465753400E+00,  0.00000000000000000E+00,  1.24800000000000000E+01,  0.00000000000000000E+00,  3.84935064935064940E+01,  0.00000000000000000E+00, -3.94936708860759500E+01},
-                                 {  5.00312695434646650E-02,  0.00000000000000000E+00,  1.50848522941546210E-01,  0.00000000000000000E+00,  2.53968253968253950E-01,  0.00000000000000000E+00,  3.61057382333978050E-01,  0.00000000000000000E+00,  4.73996050032916400E-01,  0.00000000000000000E+00,  5.94996619337390200E-01,  0.00000000000000000E+00,  7.26764500349406000E-01,  0.00000000000000000E+00,  8.72727272727272800E-01,  0.00000000000000000E+00,  1.03737604881769640E+00,  0.00000000000000000E+00,  1.22679580306698940E+00,  0.00000000000000000E+00,  1.44952545297670400E+00,  0.00000000000000000E+00,  1.71802054154995340E+00,  0.00000000000000000E+00,  2.05128205128205100E+00,  0.00000000000000000E+00,  2.47990815154994240E+00,  0.00000000000000000E+00,  3.05665349143610000E+00,  0.00000000000000000E+00,  3.88106416275430370E+00,  0.00000000000000000E+00,  5.16634050880626200E+00,  0.00000000000000000E+00,  7.46666666666666800E+00,  0.00000000000000000E+00,  1.28138528138528130E+01,  0.00000000000000000E+00,  3.94936708860759500E+01,  0.00000000000000000E+00}};
-
-        IXdX2_ = new double[][] {{ -4.93480220054467900E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00, -1.97392088021787160E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00, -4.44132198049021100E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.89568352087148600E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.23370055013616960E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.77652879219608450E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -2.41805307826689270E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -3.15827340834859460E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -3.99718978244119000E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -4.93480220054467850E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -5.97111066265906200E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.10611516878433800E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -8.33981571892050900E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -9.67221231306757100E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.11033049512255270E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.26330936333943780E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.42615783595741230E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.59887591297647600E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.78146359439662930E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -1.97392088021787140E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -2.17624777044020360E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -2.38844426506362470E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -2.61051036408813520E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -2.84244606751373500E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -3.08425137534042460E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -3.33592628756820340E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -3.59747080419707100E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -3.86888492522702840E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -4.15016865065807500E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -4.44132198049021100E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -4.74234491472343700E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -5.05323745335775100E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -5.37399959639315600E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -5.70463134382964900E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -6.04513269566723200E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -6.39550365190590400E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -6.75574421254566600E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.12585437758651700E+03,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.50583414702845800E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.89568352087148600E+03}};
-
-        IdXdX_ = new double[][] {{  4.93480220054467900E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.97392088021787160E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  4.44132198049021100E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.89568352087148600E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.23370055013616960E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.77652879219608450E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.41805307826689270E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.15827340834859460E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.99718978244119000E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.93480220054467850E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.97111066265906200E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.10611516878433800E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  8.33981571892050900E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  9.67221231306757100E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.11033049512255270E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.26330936333943780E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.42615783595741230E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.59887591297647600E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.78146359439662930E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.97392088021787140E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.17624777044020360E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.38844426506362470E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.61051036408813520E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.84244606751373500E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.08425137534042460E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.33592628756820340E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.59747080419707100E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.86888492522702840E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.15016865065807500E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.44132198049021100E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.74234491472343700E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.05323745335775100E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.37399959639315600E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.70463134382964900E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  6.04513269566723200E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  6.39550365190590400E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  6.75574421254566600E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.12585437758651700E+03,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.50583414702845800E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.89568352087148600E+03}};
-
-        IdXdX2_ = new double[][]{{  0.00000000000000000E+00, -5.26378901391432450E+01,  0.00000000000000000E+00, -8.42206242226292000E+01,  0.00000000000000000E+00, -1.21819117179160090E+02,  0.00000000000000000E+00, -1.60420236614531800E+02,  0.00000000000000000E+00, -1.99385947496754700E+02,  0.00000000000000000E+00, -2.38526942728425330E+02,  0.00000000000000000E+00, -2.77766097195786640E+02,  0.00000000000000000E+00, -3.17065879426368700E+02,  0.00000000000000000E+00, -3.56405776267202100E+02,  0.00000000000000000E+00, -3.95773610068746200E+02,  0.00000000000000000E+00, -4.35161688044718400E+02,  0.00000000000000000E+00, -4.74564908663162800E+02,  0.00000000000000000E+00, -5.13979753936434200E+02,  0.00000000000000000E+00, -5.53403718550992600E+02,  0.00000000000000000E+00, -5.92834969587125000E+02,  0.00000000000000000E+00, -6.32272134926483100E+02,  0.00000000000000000E+00, -6.71714166892495500E+02,  0.00000000000000000E+00, -7.11160251640502100E+02,  0.00000000000000000E+00, -7.50609747327200700E+02,  0.00000000000000000E+00, -7.90062140925226900E+02},
-                                 {  1.31594725347858110E+01,  0.00000000000000000E+00, -2.13183455063530150E+02,  0.00000000000000000E+00, -2.34990580978318060E+02,  0.00000000000000000E+00, -3.00913271962102200E+02,  0.00000000000000000E+00, -3.73763200436059300E+02,  0.00000000000000000E+00, -4.49109178046151670E+02,  0.00000000000000000E+00, -5.25661111980444200E+02,  0.00000000000000000E+00, -6.02894386491883900E+02,  0.00000000000000000E+00, -6.80552511193712600E+02,  0.00000000000000000E+00, -7.58494303496604100E+02,  0.00000000000000000E+00, -8.36635298475867800E+02,  0.00000000000000000E+00, -9.14921727604222700E+02,  0.00000000000000000E+00, -9.93317673217528200E+02,  0.00000000000000000E+00, -1.07179819821595500E+03,  0.00000000000000000E+00, -1.15034543244047020E+03,  0.00000000000000000E+00, -1.22894622659499710E+03,  0.00000000000000000E+00, -1.30759068520533920E+03,  0.00000000000000000E+00, -1.38627121604162560E+03,  0.00000000000000000E+00, -1.46498189517473800E+03,  0.00000000000000000E+00, -1.54371803155759970E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  9.47482022504578400E+01,  0.00000000000000000E+00, -5.41418298574044800E+02,  0.00000000000000000E+00, -4.73741011252289240E+02,  0.00000000000000000E+00, -5.51262267639027400E+02,  0.00000000000000000E+00, -6.50743147324573100E+02,  0.00000000000000000E+00, -7.57985618003662700E+02,  0.00000000000000000E+00, -8.68947416361150800E+02,  0.00000000000000000E+00, -9.82005658952113500E+02,  0.00000000000000000E+00, -1.09637205461244070E+03,  0.00000000000000000E+00, -1.21161383951992120E+03,  0.00000000000000000E+00, -1.32747218100378310E+03,  0.00000000000000000E+00, -1.44378212953078630E+03,  0.00000000000000000E+00, -1.56043328593894970E+03,  0.00000000000000000E+00, -1.67734881919520220E+03,  0.00000000000000000E+00, -1.79447352747079250E+03,  0.00000000000000000E+00, -1.91176668186145480E+03,  0.00000000000000000E+00, -2.02919754863338880E+03,  0.00000000000000000E+00, -2.14674248455582800E+03,  0.00000000000000000E+00, -2.26438299385327630E+03,  0.00000000000000000E+00, -2.38210439347474130E+03},
-                                 {  5.26378901391432500E+00,  0.00000000000000000E+00,  3.04547792947900230E+02,  0.00000000000000000E+00, -1.09662271123215100E+03,  0.00000000000000000E+00, -8.20672559896642400E+02,  0.00000000000000000E+00, -8.85531274879279100E+02,  0.00000000000000000E+00, -1.00087188250285230E+03,  0.00000000000000000E+00, -1.13377886897742860E+03,  0.00000000000000000E+00, -1.27502066425556310E+03,  0.00000000000000000E+00, -1.42093381458027900E+03,  0.00000000000000000E+00, -1.56975342810601520E+03,  0.00000000000000000E+00, -1.72051588439507850E+03,  0.00000000000000000E+00, -1.87264681088583600E+03,  0.00000000000000000E+00, -2.02578087050274210E+03,  0.00000000000000000E+00, -2.17967375513763640E+03,  0.00000000000000000E+00, -2.33415545927920860E+03,  0.00000000000000000E+00, -2.48910378592891500E+03,  0.00000000000000000E+00, -2.64442850596047170E+03,  0.00000000000000000E+00, -2.80006146366720440E+03,  0.00000000000000000E+00, -2.95595016543018070E+03,  0.00000000000000000E+00, -3.11205349351877570E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  3.75984929565308900E+01,  0.00000000000000000E+00,  7.01838535188576700E+02,  0.00000000000000000E+00, -1.93803140966845580E+03,  0.00000000000000000E+00, -1.29570191111737220E+03,  0.00000000000000000E+00, -1.31594725347858120E+03,  0.00000000000000000E+00, -1.43316608446070680E+03,  0.00000000000000000E+00, -1.58375406295843280E+03,  0.00000000000000000E+00, -1.75003894488580140E+03,  0.00000000000000000E+00, -1.92506798886799790E+03,  0.00000000000000000E+00, -2.10551560556573000E+03,  0.00000000000000000E+00, -2.28957620180391040E+03,  0.00000000000000000E+00, -2.47617806244390750E+03,  0.00000000000000000E+00, -2.66464158146768930E+03,  0.00000000000000000E+00, -2.85451325181440820E+03,  0.00000000000000000E+00, -3.04547792947900200E+03,  0.00000000000000000E+00, -3.23730927942838930E+03,  0.00000000000000000E+00, -3.42984024209032850E+03,  0.00000000000000000E+00, -3.62294463365243970E+03,  0.00000000000000000E+00, -3.81652524803788100E+03,  0.00000000000000000E+00, -4.01050591536329500E+03},
-                                 {  3.38386436608778000E+00,  0.00000000000000000E+00,  1.18435252813072310E+02,  0.00000000000000000E+00,  1.34585514560309430E+03,  0.00000000000000000E+00, -3.12486859345260000E+03,  0.00000000000000000E+00, -1.91865109557177150E+03,  0.00000000000000000E+00, -1.85455672346116740E+03,  0.00000000000000000E+00, -1.95640789797232970E+03,  0.00000000000000000E+00, -2.11491522880486260E+03,  0.00000000000000000E+00, -2.29989089751234860E+03,  0.00000000000000000E+00, -2.49953045859957800E+03,  0.00000000000000000E+00, -2.70821944765892000E+03,  0.00000000000000000E+00, -2.92292438331977840E+03,  0.00000000000000000E+00, -3.14185199525340400E+03,  0.00000000000000000E+00, -3.36386880392453400E+03,  0.00000000000000000E+00, -3.58822034889195100E+03,  0.00000000000000000E+00, -3.81438336924782400E+03,  0.00000000000000000E+00, -4.04198260241536540E+03,  0.00000000000000000E+00, -4.27074134933597500E+03,  0.00000000000000000E+00, -4.50045075824497500E+03,  0.00000000000000000E+00, -4.73095000782399700E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  2.45643487316001800E+01,  0.00000000000000000E+00,  2.67974713435638360E+02,  0.00000000000000000E+00,  2.29582182376109400E+03,  0.00000000000000000E+00, -4.71635495646723500E+03,  0.00000000000000000E+00, -2.70930316892649100E+03,  0.00000000000000000E+00, -2.51332073338056600E+03,  0.00000000000000000E+00, -2.57925661681801900E+03,  0.00000000000000000E+00, -2.73411881534332450E+03,  0.00000000000000000E+00, -2.93030349141870500E+03,  0.00000000000000000E+00, -3.14927547841027940E+03,  0.00000000000000000E+00, -3.38225670638894900E+03,  0.00000000000000000E+00, -3.62452325876514260E+03,  0.00000000000000000E+00, -3.87329240406643100E+03,  0.00000000000000000E+00, -4.12681058690883000E+03,  0.00000000000000000E+00, -4.38391358826295800E+03,  0.00000000000000000E+00, -4.64379564944466200E+03,  0.00000000000000000E+00, -4.90587989098990600E+03,  0.00000000000000000E+00, -5.16974152455585500E+03,  0.00000000000000000E+00, -5.43506025645308550E+03,  0.00000000000000000E+00, -5.70158964756677300E+03},
-                                 {  2.50656619710205940E+00,  0.00000000000000000E+00,  7.75212563867382300E+01,  0.00000000000000000E+00,  5.06133559030223500E+02,  0.00000000000000000E+00,  3.61095926354522700E+03,  0.00000000000000000E+00, -6.77170974907684000E+03,  0.00000000000000000E+00, -3.68742272501050870E+03,  0.00000000000000000E+00, -3.30415556101993500E+03,  0.00000000000000000E+00, -3.31030209725978470E+03,  0.00000000000000000E+00, -3.44813272338147700E+03,  0.00000000000000000E+00, -3.64690190368064170E+03,  0.00000000000000000E+00, -3.87914721945840000E+03,  0.00000000000000000E+00, -4.13190457627713500E+03,  0.00000000000000000E+00, -4.39821943007547200E+03,  0.00000000000000000E+00, -4.67400718018987900E+03,  0.00000000000000000E+00, -4.95670078225314500E+03,  0.00000000000000000E+00, -5.24459995028500450E+03,  0.00000000000000000E+00, -5.53653031589382700E+03,  0.00000000000000000E+00, -5.83165255740508200E+03,  0.00000000000000000E+00, -6.12934953843223700E+03,  0.00000000000000000E+00, -6.42915649656246750E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.84574419968424370E+01,  0.00000000000000000E+00,  1.74919758000845230E+02,  0.00000000000000000E+00,  8.52733820254120600E+02,  0.00000000000000000E+00,  5.35048671531997200E+03,  0.00000000000000000E+00, -9.35015153787413000E+03,  0.00000000000000000E+00, -4.87276468716640400E+03,  0.00000000000000000E+00, -4.23895217894439600E+03,  0.00000000000000000E+00, -4.15809253304866400E+03,  0.00000000000000000E+00, -4.26366910127060300E+03,  0.00000000000000000E+00, -4.45524461992748500E+03,  0.00000000000000000E+00, -4.69391528022429500E+03,  0.00000000000000000E+00, -4.96136040875124700E+03,  0.00000000000000000E+00, -5.24777647926695500E+03,  0.00000000000000000E+00, -5.54741963674088900E+03,  0.00000000000000000E+00, -5.85668832592115800E+03,  0.00000000000000000E+00, -6.17320206391106100E+03,  0.00000000000000000E+00, -6.49531978125348000E+03,  0.00000000000000000E+00, -6.82187056203296500E+03,  0.00000000000000000E+00, -7.15199470912571900E+03,  0.00000000000000000E+00, -7.48504560240615000E+03},
-                                 {  1.99385947496754710E+00,  0.00000000000000000E+00,  5.85668832592115800E+01,  0.00000000000000000E+00,  3.28986813369645300E+02,  0.00000000000000000E+00,  1.32755855277398040E+03,  0.00000000000000000E+00,  7.57362274567804400E+03,  0.00000000000000000E+00, -1.25108985312856530E+04,  0.00000000000000000E+00, -6.28507851280965900E+03,  0.00000000000000000E+00, -5.32958637658825400E+03,  0.00000000000000000E+00, -5.13114988598434050E+03,  0.00000000000000000E+00, -5.18740356989056800E+03,  0.00000000000000000E+00, -5.36084494771193800E+03,  0.00000000000000000E+00, -5.59829728429157200E+03,  0.00000000000000000E+00, -5.87476452445795200E+03,  0.00000000000000000E+00, -6.17689740625252300E+03,  0.00000000000000000E+00, -6.49689019536216900E+03,  0.00000000000000000E+00, -6.82985794919519300E+03,  0.00000000000000000E+00, -7.17257782329521250E+03,  0.00000000000000000E+00, -7.52283179905255600E+03,  0.00000000000000000E+00, -7.87903974355207700E+03,  0.00000000000000000E+00, -8.24004311707557600E+03,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.48465843982198890E+01,  0.00000000000000000E+00,  1.32346695206988730E+02,  0.00000000000000000E+00,  5.51768942517372100E+02,  0.00000000000000000E+00,  1.95037235041878150E+03,  0.00000000000000000E+00,  1.03395855630459960E+04,  0.00000000000000000E+00, -1.63131687352962200E+04,  0.00000000000000000E+00, -7.94411037979949800E+03,  0.00000000000000000E+00, -6.58792438363677200E+03,  0.00000000000000000E+00, -6.23797893141561100E+03,  0.00000000000000000E+00, -6.22598700570511500E+03,  0.00000000000000000E+00, -6.36918470683633300E+03,  0.00000000000000000E+00, -6.59697373031759250E+03,  0.00000000000000000E+00, -6.87621562698743100E+03,  0.00000000000000000E+00, -7.18924016271447800E+03,  0.00000000000000000E+00, -7.52573172560600700E+03,  0.00000000000000000E+00, -7.87924510999747000E+03,  0.00000000000000000E+00, -8.24553477330353200E+03,  0.00000000000000000E+00, -8.62168322095230000E+03,  0.00000000000000000E+00, -9.00561490500729800E+03,  0.00000000000000000E+00, -9.39581000455295200E+03},
-                                 {  1.65643710228073160E+00,  0.00000000000000000E+00,  4.73741011252289200E+01,  0.00000000000000000E+00,  2.48813556329983870E+02,  0.00000000000000000E+00,  8.55227193997553700E+02,  0.00000000000000000E+00,  2.74093013653110170E+03,  0.00000000000000000E+00,  1.37075931734086300E+04,  0.00000000000000000E+00, -2.08161800344255900E+04,  0.00000000000000000E+00, -9.86960440108935800E+03,  0.00000000000000000E+00, -8.02582616649137000E+03,  0.00000000000000000E+00, -7.48707280225680100E+03,  0.00000000000000000E+00, -7.38605303906978200E+03,  0.00000000000000000E+00, -7.48572322585273100E+03,  0.00000000000000000E+00, -7.69459802579731700E+03,  0.00000000000000000E+00, -7.96978147391351200E+03,  0.00000000000000000E+00, -8.28842863947782100E+03,  0.00000000000000000E+00, -8.63722060355994300E+03,  0.00000000000000000E+00, -9.00784694252567000E+03,  0.00000000000000000E+00, -9.39484082212853900E+03,  0.00000000000000000E+00, -9.79445038488253300E+03,  0.00000000000000000E+00, -1.02040098207968570E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.24416831237974940E+01,  0.00000000000000000E+00,  1.07340011264135240E+02,  0.00000000000000000E+00,  4.16749611402389750E+02,  0.00000000000000000E+00,  1.25127784559334800E+03,  0.00000000000000000E+00,  3.71898136852642500E+03,  0.00000000000000000E+00,  1.77368634612857100E+04,  0.00000000000000000E+00, -2.60791502367155260E+04,  0.00000000000000000E+00, -1.20813033367633600E+04,  0.00000000000000000E+00, -9.65514744868375200E+03,  0.00000000000000000E+00, -8.88691651699821000E+03,  0.00000000000000000E+00, -8.67422298169138600E+03,  0.00000000000000000E+00, -8.71590342077921700E+03,  0.00000000000000000E+00, -8.89580343351520800E+03,  0.00000000000000000E+00, -9.15950642460252700E+03,  0.00000000000000000E+00, -9.47806058763985000E+03,  0.00000000000000000E+00, -9.83460482150561300E+03,  0.00000000000000000E+00, -1.02186304112369000E+04,  0.00000000000000000E+00, -1.06232323304062570E+04,  0.00000000000000000E+00, -1.10436770589105540E+04,  0.00000000000000000E+00, -1.14766049779264100E+04},
-                                 {  1.41717396528462580E+00,  0.00000000000000000E+00,  3.99006466696446800E+01,  0.00000000000000000E+00,  2.02009446805922550E+02,  0.00000000000000000E+00,  6.44814154204504800E+02,  0.00000000000000000E+00,  1.75181186986987810E+03,  0.00000000000000000E+00,  4.90427222426397700E+03,  0.00000000000000000E+00,  2.24866142347190000E+04,  0.00000000000000000E+00, -3.21612971001015320E+04,  0.00000000000000000E+00, -1.45989490304457690E+04,  0.00000000000000000E+00, -1.14877409965940200E+04,  0.00000000000000000E+00, -1.04459892981129780E+04,  0.00000000000000000E+00, -1.00971091559925480E+04,  0.00000000000000000E+00, -1.00651560034419450E+04,  0.00000000000000000E+00, -1.02052079848892540E+04,  0.00000000000000000E+00, -1.04494168816569220E+04,  0.00000000000000000E+00, -1.07617134273985450E+04,  0.00000000000000000E+00, -1.11211100270263740E+04,  0.00000000000000000E+00, -1.15145384679375860E+04,  0.00000000000000000E+00, -1.19334202970116110E+04,  0.00000000000000000E+00, -1.23718805864982260E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  1.07181224265223810E+01,  0.00000000000000000E+00,  9.06681361248400500E+01,  0.00000000000000000E+00,  3.38386436608778000E+02,  0.00000000000000000E+00,  9.41597040998338800E+02,  0.00000000000000000E+00,  2.36870505626144600E+03,  0.00000000000000000E+00,  6.31654681669719000E+03,  0.00000000000000000E+00,  2.80160632516440020E+04,  0.00000000000000000E+00, -3.91218383485761440E+04,  0.00000000000000000E+00, -1.74422826870161040E+04,  0.00000000000000000E+00, -1.35354574643511200E+04,  0.00000000000000000E+00, -1.21727661385482040E+04,  0.00000000000000000E+00, -1.16613172000563500E+04,  0.00000000000000000E+00, -1.15389024581073100E+04,  0.00000000000000000E+00, -1.16274180221492100E+04,  0.00000000000000000E+00, -1.18435252813072310E+04,  0.00000000000000000E+00, -1.21429485737758240E+04,  0.00000000000000000E+00, -1.24999440831498210E+04,  0.00000000000000000E+00, -1.28984947601463610E+04,  0.00000000000000000E+00, -1.33280951442963560E+04,  0.00000000000000000E+00, -1.37815566909756850E+04},
-                                 {  1.23853859150925280E+00,  0.00000000000000000E+00,  3.45236364475352460E+01,  0.00000000000000000E+00,  1.70902240711504050E+02,  0.00000000000000000E+00,  5.23327429499308200E+02,  0.00000000000000000E+00,  1.31564646553492900E+03,  0.00000000000000000E+00,  3.11382363445331840E+03,  0.00000000000000000E+00,  7.97554790591018700E+03,  0.00000000000000000E+00,  3.43844282360532500E+04,  0.00000000000000000E+00, -4.70199916824746800E+04,  0.00000000000000000E+00, -2.06310450551076300E+04,  0.00000000000000000E+00, -1.58101459647115320E+04,  0.00000000000000000E+00, -1.40757188862188100E+04,  0.00000000000000000E+00, -1.33734476979530610E+04,  0.00000000000000000E+00, -1.31425571874260880E+04,  0.00000000000000000E+00, -1.31670307959339970E+04,  0.00000000000000000E+00, -1.33458330649805650E+04,  0.00000000000000000E+00, -1.36253147029800060E+04,  0.00000000000000000E+00, -1.39743005555155830E+04,  0.00000000000000000E+00, -1.43734072734125220E+04,  0.00000000000000000E+00, -1.48099304592751210E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  9.41941191963616000E+00,  0.00000000000000000E+00,  7.86676160321261800E+01,  0.00000000000000000E+00,  2.86491599690119600E+02,  0.00000000000000000E+00,  7.63600326285171400E+02,  0.00000000000000000E+00,  1.77548438961395870E+03,  0.00000000000000000E+00,  3.99902757084691030E+03,  0.00000000000000000E+00,  9.90101733552723500E+03,  0.00000000000000000E+00,  4.16509268882820760E+04,  0.00000000000000000E+00, -5.59149747852344800E+04,  0.00000000000000000E+00, -2.41849765504171660E+04,  0.00000000000000000E+00, -1.83236544642829870E+04,  0.00000000000000000E+00, -1.61633170110885570E+04,  0.00000000000000000E+00, -1.52400973550919460E+04,  0.00000000000000000E+00, -1.48815290861257820E+04,  0.00000000000000000E+00, -1.48286363996727200E+04,  0.00000000000000000E+00, -1.49603329231380500E+04,  0.00000000000000000E+00, -1.52123502502123970E+04,  0.00000000000000000E+00, -1.55473614099956870E+04,  0.00000000000000000E+00, -1.59421711789468050E+04,  0.00000000000000000E+00, -1.63815859471933200E+04},
-                                 {  1.10001782798519180E+00,  0.00000000000000000E+00,  3.04547792947900220E+01,  0.00000000000000000E+00,  1.48539196671913430E+02,  0.00000000000000000E+00,  4.43163182344186900E+02,  0.00000000000000000E+00,  1.06591727531765080E+03,  0.00000000000000000E+00,  2.32961558858422500E+03,  0.00000000000000000E+00,  5.03617258897393300E+03,  0.00000000000000000E+00,  1.21126963104278500E+04,  0.00000000000000000E+00,  4.98747768917677900E+04,  0.00000000000000000E+00, -6.58660053279618600E+04,  0.00000000000000000E+00, -2.81238173410734000E+04,  0.00000000000000000E+00, -2.10878300630729400E+04,  0.00000000000000000E+00, -1.84440281581819400E+04,  0.00000000000000000E+00, -1.72678598601459400E+04,  0.00000000000000000E+00, -1.67612227129092100E+04,  0.00000000000000000E+00, -1.66168192302397330E+04,  0.00000000000000000E+00, -1.66910105111505070E+04,  0.00000000000000000E+00, -1.69075853419327700E+04,  0.00000000000000000E+00, -1.72222991217432100E+04,  0.00000000000000000E+00, -1.76076710817509670E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  8.40436901381278600E+00,  0.00000000000000000E+00,  6.95735591404328000E+01,  0.00000000000000000E+00,  2.49260655151204470E+02,  0.00000000000000000E+00,  6.46542165749476700E+02,  0.00000000000000000E+00,  1.43695389747661170E+03,  0.00000000000000000E+00,  2.98653319536005350E+03,  0.00000000000000000E+00,  6.23711145521448300E+03,  0.00000000000000000E+00,  1.46303255792453000E+04,  0.00000000000000000E+00,  5.91151959176167400E+04,  0.00000000000000000E+00, -7.69323009725939800E+04,  0.00000000000000000E+00, -3.24673074080193550E+04,  0.00000000000000000E+00, -2.41145191960235020E+04,  0.00000000000000000E+00, -2.09263185531262530E+04,  0.00000000000000000E+00, -1.94633265269104400E+04,  0.00000000000000000E+00, -1.87870391753574800E+04,  0.00000000000000000E+00, -1.85361591049261730E+04,  0.00000000000000000E+00, -1.85418457766739800E+04,  0.00000000000000000E+00, -1.87145433065396320E+04,  0.00000000000000000E+00, -1.90022783402307100E+04,  0.00000000000000000E+00, -1.93727828115006630E+04},
-                                 {  9.89434025171865600E-01,  0.00000000000000000E+00,  2.72613113891982300E+01,  0.00000000000000000E+00,  1.31594725347858120E+02,  0.00000000000000000E+00,  3.85786246105259240E+02,  0.00000000000000000E+00,  9.02187035535315700E+02,  0.00000000000000000E+00,  1.88336106922579730E+03,  0.00000000000000000E+00,  3.75472222843174400E+03,  0.00000000000000000E+00,  7.61369482369750500E+03,  0.00000000000000000E+00,  1.74736455576764020E+04,  0.00000000000000000E+00,  6.94314016277660600E+04,  0.00000000000000000E+00, -8.91730793741351700E+04,  0.00000000000000000E+00, -3.72351865885439500E+04,  0.00000000000000000E+00, -2.74155677808037730E+04,  0.00000000000000000E+00, -2.36186533041509830E+04,  0.00000000000000000E+00, -2.18330867789721900E+04,  0.00000000000000000E+00, -2.09643768066205400E+04,  0.00000000000000000E+00, -2.05912321255122370E+04,  0.00000000000000000E+00, -2.05168139974160620E+04,  0.00000000000000000E+00, -2.06367418670125600E+04,  0.00000000000000000E+00, -2.08904572156367400E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  7.58852878436161200E+00,  0.00000000000000000E+00,  6.24223450120663500E+01,  0.00000000000000000E+00,  2.21079138584401620E+02,  0.00000000000000000E+00,  5.62960140692375500E+02,  0.00000000000000000E+00,  1.21561109925440800E+03,  0.00000000000000000E+00,  2.41177242092074500E+03,  0.00000000000000000E+00,  4.64266191027243400E+03,  0.00000000000000000E+00,  9.17777180717948400E+03,  0.00000000000000000E+00,  2.06623964138498450E+04,  0.00000000000000000E+00,  8.08826116772201000E+04,  0.00000000000000000E+00, -1.02647558182269280E+05,  0.00000000000000000E+00, -4.24471946082051140E+04,  0.00000000000000000E+00, -3.10028213278679000E+04,  0.00000000000000000E+00, -2.65294966301281970E+04,  0.00000000000000000E+00, -2.43837285203384160E+04,  0.00000000000000000E+00, -2.32986316888947440E+04,  0.00000000000000000E+00, -2.27866113538146560E+04,  0.00000000000000000E+00, -2.26198866004250920E+04,  0.00000000000000000E+00, -2.26776940909832120E+04,  0.00000000000000000E+00, -2.28899884643038800E+04},
-                                 {  8.99094396786608200E-01,  0.00000000000000000E+00,  2.46844000599877020E+01,  0.00000000000000000E+00,  1.18263233564251580E+02,  0.00000000000000000E+00,  3.42418550853426670E+02,  0.00000000000000000E+00,  7.85551937392908800E+02,  0.00000000000000000E+00,  1.59229617670908330E+03,  0.00000000000000000E+00,  3.02880926426827300E+03,  0.00000000000000000E+00,  5.65882723382922700E+03,  0.00000000000000000E+00,  1.09411903722681470E+04,  0.00000000000000000E+00,  2.42163181287086500E+04,  0.00000000000000000E+00,  9.35280437156627000E+04,  0.00000000000000000E+00, -1.17414955042541910E+05,  0.00000000000000000E+00, -4.81230711046023700E+04,  0.00000000000000000E+00, -3.48881250235601700E+04,  0.00000000000000000E+00, -2.96673120349563250E+04,  0.00000000000000000E+00, -2.71218384221499700E+04,  0.00000000000000000E+00, -2.57951980626871500E+04,  0.00000000000000000E+00, -2.51268673450135980E+04,  0.00000000000000000E+00, -2.48550318147442800E+04,  0.00000000000000000E+00, -2.48409091539071000E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  6.91812270400168400E+00,  0.00000000000000000E+00,  5.66396010853939000E+01,  0.00000000000000000E+00,  1.98913568619115350E+02,  0.00000000000000000E+00,  4.99890156676250740E+02,  0.00000000000000000E+00,  1.05827925979046740E+03,  0.00000000000000000E+00,  2.03770159645140480E+03,  0.00000000000000000E+00,  3.74108392169100100E+03,  0.00000000000000000E+00,  6.81169004701704200E+03,  0.00000000000000000E+00,  1.29157976189709480E+04,  0.00000000000000000E+00,  2.81551505395417370E+04,  0.00000000000000000E+00,  1.07426915388639480E+05,  0.00000000000000000E+00, -1.33534487597241000E+05,  0.00000000000000000E+00, -5.42825556453275000E+04,  0.00000000000000000E+00, -3.90833237936659860E+04,  0.00000000000000000E+00, -3.30405624424608700E+04,  0.00000000000000000E+00, -3.00540021468388300E+04,  0.00000000000000000E+00, -2.84594686499188870E+04,  0.00000000000000000E+00, -2.76165685725063300E+04,  0.00000000000000000E+00, -2.72262151956748240E+04,  0.00000000000000000E+00, -2.71298929568693500E+04},
-                                 {  8.23897410873546500E-01,  0.00000000000000000E+00,  2.25590957739185360E+01,  0.00000000000000000E+00,  1.07473006182461260E+02,  0.00000000000000000E+00,  3.08336179999118030E+02,  0.00000000000000000E+00,  6.97691307480644100E+02,  0.00000000000000000E+00,  1.38582260654241080E+03,  0.00000000000000000E+00,  2.55727027449945800E+03,  0.00000000000000000E+00,  4.55520203127201150E+03,  0.00000000000000000E+00,  8.10971981979964000E+03,  0.00000000000000000E+00,  1.51134399822300070E+04,  0.00000000000000000E+00,  3.24986333719070400E+04,  0.00000000000000000E+00,  1.22638444338438360E+05,  0.00000000000000000E+00, -1.51065373486061600E+05,  0.00000000000000000E+00, -6.09453877416915600E+04,  0.00000000000000000E+00, -4.36002623525738960E+04,  0.00000000000000000E+00, -3.66577103018622000E+04,  0.00000000000000000E+00, -3.31868045250945700E+04,  0.00000000000000000E+00, -3.12968349113126300E+04,  0.00000000000000000E+00, -3.02602817691831080E+04,  0.00000000000000000E+00, -2.97374000491794100E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  6.35723310859218000E+00,  0.00000000000000000E+00,  5.18599902848701900E+01,  0.00000000000000000E+00,  1.80970674926596050E+02,  0.00000000000000000E+00,  4.50377669639728300E+02,  0.00000000000000000E+00,  9.39962323913272300E+02,  0.00000000000000000E+00,  1.77283538514370180E+03,  0.00000000000000000E+00,  3.15643292267939400E+03,  0.00000000000000000E+00,  5.47776417708157350E+03,  0.00000000000000000E+00,  9.56138419720151800E+03,  0.00000000000000000E+00,  1.75459633797144160E+04,  0.00000000000000000E+00,  3.72665062634040700E+04,  0.00000000000000000E+00,  1.39221848204754380E+05,  0.00000000000000000E+00, -1.70066830346614270E+05,  0.00000000000000000E+00, -6.81313068593439000E+04,  0.00000000000000000E+00, -4.84507852417114000E+04,  0.00000000000000000E+00, -4.05272176710396100E+04,  0.00000000000000000E+00, -3.65268296968376800E+04,  0.00000000000000000E+00, -3.43126872531464300E+04,  0.00000000000000000E+00, -3.30625722036981240E+04,  0.00000000000000000E+00, -3.23925477779343050E+04},
-                                 {  7.60325079787624800E-01,  0.00000000000000000E+00,  2.07749993690096840E+01,  0.00000000000000000E+00,  9.85444371844559600E+01,  0.00000000000000000E+00,  2.80756402069903970E+02,  0.00000000000000000E+00,  6.28801619557135200E+02,  0.00000000000000000E+00,  1.23080190956431830E+03,  0.00000000000000000E+00,  2.22395085837880200E+03,  0.00000000000000000E+00,  3.84061102525761130E+03,  0.00000000000000000E+00,  6.51536706452895300E+03,  0.00000000000000000E+00,  1.11751494048499660E+04,  0.00000000000000000E+00,  2.02252133218783160E+04,  0.00000000000000000E+00,  4.24785087816246200E+04,  0.00000000000000000E+00,  1.57236344625198100E+05,  0.00000000000000000E+00, -1.90598075814818400E+05,  0.00000000000000000E+00, -7.58600524265742700E+04,  0.00000000000000000E+00, -5.36467368598889800E+04,  0.00000000000000000E+00, -4.46575462828603200E+04,  0.00000000000000000E+00, -4.00806612244603400E+04,  0.00000000000000000E+00, -3.75124151946258640E+04,  0.00000000000000000E+00, -3.60280039057365940E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  5.88092289830428000E+00,  0.00000000000000000E+00,  4.78392045023349600E+01,  0.00000000000000000E+00,  1.66116977971581950E+02,  0.00000000000000000E+00,  4.10338078919276100E+02,  0.00000000000000000E+00,  8.47311029664269300E+02,  0.00000000000000000E+00,  1.57427782200760730E+03,  0.00000000000000000E+00,  2.74378705766569740E+03,  0.00000000000000000E+00,  4.61521898488488100E+03,  0.00000000000000000E+00,  7.67460438228708600E+03,  0.00000000000000000E+00,  1.29594805509744770E+04,  0.00000000000000000E+00,  2.31630349950660100E+04,  0.00000000000000000E+00,  4.81543804378797500E+04,  0.00000000000000000E+00,  1.76741151235688940E+05,  0.00000000000000000E+00, -2.12718327525209720E+05,  0.00000000000000000E+00, -8.41513638408671700E+04,  0.00000000000000000E+00, -5.91999614874725100E+04,  0.00000000000000000E+00, -4.90571575984601200E+04,  0.00000000000000000E+00, -4.38548821844976300E+04,  0.00000000000000000E+00, -4.09014075043567350E+04,  0.00000000000000000E+00, -3.91611398509355060E+04},
-                                 {  7.05872089988510900E-01,  0.00000000000000000E+00,  1.92552798121898200E+01,  0.00000000000000000E+00,  9.10240195093880300E+01,  0.00000000000000000E+00,  2.57925661681801900E+02,  0.00000000000000000E+00,  5.73139018591852000E+02,  0.00000000000000000E+00,  1.10956385164343350E+03,  0.00000000000000000E+00,  1.97443442060947340E+03,  0.00000000000000000E+00,  3.33695032523414830E+03,  0.00000000000000000E+00,  5.48566569628871400E+03,  0.00000000000000000E+00,  8.96206744415136400E+03,  0.00000000000000000E+00,  1.49228418544471100E+04,  0.00000000000000000E+00,  2.63712733250628880E+04,  0.00000000000000000E+00,  5.43138606978187960E+04,  0.00000000000000000E+00,  1.97795485670762600E+05,  0.00000000000000000E+00, -2.36486803111182960E+05,  0.00000000000000000E+00, -9.30249804741230000E+04,  0.00000000000000000E+00, -6.51223033058003500E+04,  0.00000000000000000E+00, -5.37345128503753950E+04,  0.00000000000000000E+00, -4.78560752423747700E+04,  0.00000000000000000E+00, -4.44850523123749000E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  5.47132191410449500E+00,  0.00000000000000000E+00,  4.44072382264772100E+01,  0.00000000000000000E+00,  1.53598017312854000E+02,  0.00000000000000000E+00,  3.77204340147682900E+02,  0.00000000000000000E+00,  7.72519642730341200E+02,  0.00000000000000000E+00,  1.41918397631962670E+03,  0.00000000000000000E+00,  2.43529810797236220E+03,  0.00000000000000000E+00,  4.00803791172307200E+03,  0.00000000000000000E+00,  6.45735571817191900E+03,  0.00000000000000000E+00,  1.03843456737085300E+04,  0.00000000000000000E+00,  1.70736968191663040E+04,  0.00000000000000000E+00,  2.98617730262575060E+04,  0.00000000000000000E+00,  6.09766889897315200E+04,  0.00000000000000000E+00,  2.20458565563813840E+05,  0.00000000000000000E+00, -2.61962720205185320E+05,  0.00000000000000000E+00, -1.02500641676852320E+05,  0.00000000000000000E+00, -7.14256064129020200E+04,  0.00000000000000000E+00, -5.86980730777122150E+04,  0.00000000000000000E+00, -5.20908227137667800E+04,  0.00000000000000000E+00, -4.82687372026926240E+04},
-                                 {  6.58705521763472200E-01,  0.00000000000000000E+00,  1.79447352747079240E+01,  0.00000000000000000E+00,  8.45966091521945000E+01,  0.00000000000000000E+00,  2.38679739805427720E+02,  0.00000000000000000E+00,  5.27101949332904200E+02,  0.00000000000000000E+00,  1.01179282088702980E+03,  0.00000000000000000E+00,  1.77976915479014950E+03,  0.00000000000000000E+00,  2.96088132032680800E+03,  0.00000000000000000E+00,  4.76163991056157300E+03,  0.00000000000000000E+00,  7.53569015811561200E+03,  0.00000000000000000E+00,  1.19480269749658240E+04,  0.00000000000000000E+00,  1.94205083689575600E+04,  0.00000000000000000E+00,  3.36463786400773600E+04,  0.00000000000000000E+00,  6.81626047111024100E+04,  0.00000000000000000E+00,  2.44789608547289860E+05,  0.00000000000000000E+00, -2.89205296438871900E+05,  0.00000000000000000E+00, -1.12598086781570880E+05,  0.00000000000000000E+00, -7.81217148363150000E+04,  0.00000000000000000E+00, -6.39562991550165400E+04,  0.00000000000000000E+00, -5.65657066152869200E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  5.11528085991674200E+00,  0.00000000000000000E+00,  4.14418944587540500E+01,  0.00000000000000000E+00,  1.42890532042582380E+02,  0.00000000000000000E+00,  3.49276167344682960E+02,  0.00000000000000000E+00,  7.10703220519791200E+02,  0.00000000000000000E+00,  1.29423492914946090E+03,  0.00000000000000000E+00,  2.19489680725298100E+03,  0.00000000000000000E+00,  3.55518549909992200E+03,  0.00000000000000000E+00,  5.60234071862401000E+03,  0.00000000000000000E+00,  8.72606734926973500E+03,  0.00000000000000000E+00,  1.36596980190640840E+04,  0.00000000000000000E+00,  2.19717389530412370E+04,  0.00000000000000000E+00,  3.77369345653329400E+04,  0.00000000000000000E+00,  7.58913472338318800E+04,  0.00000000000000000E+00,  2.70847832252845700E+05,  0.00000000000000000E+00, -3.18273749443231100E+05,  0.00000000000000000E+00, -1.23337055105568220E+05,  0.00000000000000000E+00, -8.52224725436058400E+04,  0.00000000000000000E+00, -6.95176518161235300E+04,  0.00000000000000000E+00, -6.12873087066081000E+04},
-                                 {  6.17453256764143800E-01,  0.00000000000000000E+00,  1.68026368522979440E+01,  0.00000000000000000E+00,  7.90358710797946600E+01,  0.00000000000000000E+00,  2.22212877756629330E+02,  0.00000000000000000E+00,  4.88309928883589800E+02,  0.00000000000000000E+00,  9.31043611630560200E+02,  0.00000000000000000E+00,  1.62309395979926600E+03,  0.00000000000000000E+00,  2.66812834873003930E+03,  0.00000000000000000E+00,  4.22220333475282900E+03,  0.00000000000000000E+00,  6.53472015320151150E+03,  0.00000000000000000E+00,  1.00338833738306480E+04,  0.00000000000000000E+00,  1.55259444684352950E+04,  0.00000000000000000E+00,  2.47358506292966380E+04,  0.00000000000000000E+00,  4.21452850823900950E+04,  0.00000000000000000E+00,  8.41826559084304600E+04,  0.00000000000000000E+00,  2.98692454311469800E+05,  0.00000000000000000E+00, -3.49227296848687500E+05,  0.00000000000000000E+00, -1.34737285953180100E+05,  0.00000000000000000E+00, -9.27397234510616700E+04,  0.00000000000000000E+00, -7.53905916739759700E+04,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  4.80290426154394550E+00,  0.00000000000000000E+00,  3.88529440728811300E+01,  0.00000000000000000E+00,  1.33619259583979020E+02,  0.00000000000000000E+00,  3.25379192118645450E+02,  0.00000000000000000E+00,  6.58638918576236300E+02,  0.00000000000000000E+00,  1.19112025686289850E+03,  0.00000000000000000E+00,  2.00159556041980660E+03,  0.00000000000000000E+00,  3.20301245542964300E+03,  0.00000000000000000E+00,  4.96592048265634900E+03,  0.00000000000000000E+00,  7.56335431607428400E+03,  0.00000000000000000E+00,  1.14645324723053980E+04,  0.00000000000000000E+00,  1.75533511537690320E+04,  0.00000000000000000E+00,  2.77213051305909760E+04,  0.00000000000000000E+00,  4.68832743725872060E+04,  0.00000000000000000E+00,  9.30562700674139500E+04,  0.00000000000000000E+00,  3.28382692353586840E+05,  0.00000000000000000E+00, -3.82125156285186070E+05,  0.00000000000000000E+00, -1.46818518617665980E+05,  0.00000000000000000E+00, -1.00685311430912580E+05,  0.00000000000000000E+00, -8.15835792371848400E+04},
-                                 {  5.81067618419113800E-01,  0.00000000000000000E+00,  1.57982508111596010E+01,  0.00000000000000000E+00,  7.41747457199465600E+01,  0.00000000000000000E+00,  2.07948196071371460E+02,  0.00000000000000000E+00,  4.55121887786792300E+02,  0.00000000000000000E+00,  8.63070681288691500E+02,  0.00000000000000000E+00,  1.49390012067390670E+03,  0.00000000000000000E+00,  2.43294759403867650E+03,  0.00000000000000000E+00,  3.80308756255309940E+03,  0.00000000000000000E+00,  5.79031689046652800E+03,  0.00000000000000000E+00,  8.69281626905905000E+03,  0.00000000000000000E+00,  1.30234073666151300E+04,  0.00000000000000000E+00,  1.97485022149857700E+04,  0.00000000000000000E+00,  3.09365639180600600E+04,  0.00000000000000000E+00,  5.19627465339538000E+04,  0.00000000000000000E+00,  1.02531929028071840E+05,  0.00000000000000000E+00,  3.59977764009141540E+05,  0.00000000000000000E+00, -4.17026545382261200E+05,  0.00000000000000000E+00, -1.59600492382768980E+05,  0.00000000000000000E+00, -1.09071080317366960E+05,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  4.52659988911551300E+00,  0.00000000000000000E+00,  3.65722313621838900E+01,  0.00000000000000000E+00,  1.25507500878445000E+02,  0.00000000000000000E+00,  3.04674092795041000E+02,  0.00000000000000000E+00,  6.14108718290004500E+02,  0.00000000000000000E+00,  1.10437312521347710E+03,  0.00000000000000000E+00,  1.84232615487001360E+03,  0.00000000000000000E+00,  2.92034362629550150E+03,  0.00000000000000000E+00,  4.47188379656017700E+03,  0.00000000000000000E+00,  6.69936783589095800E+03,  0.00000000000000000E+00,  9.92767656733598400E+03,  0.00000000000000000E+00,  1.47158995174825120E+04,  0.00000000000000000E+00,  2.21179812144777060E+04,  0.00000000000000000E+00,  3.43900882242402500E+04,  0.00000000000000000E+00,  5.73955455940273460E+04,  0.00000000000000000E+00,  1.12629372094739940E+05,  0.00000000000000000E+00,  3.93536886907668550E+05,  0.00000000000000000E+00, -4.53990681769095200E+05,  0.00000000000000000E+00, -1.73102946524019500E+05,  0.00000000000000000E+00, -1.17908873911680870E+05},
-                                 {  5.48734762068288600E-01,  0.00000000000000000E+00,  1.49079339205265830E+01,  0.00000000000000000E+00,  6.98870492602708300E+01,  0.00000000000000000E+00,  1.95460906406818600E+02,  0.00000000000000000E+00,  4.26366910127060300E+02,  0.00000000000000000E+00,  8.04956535289528000E+02,  0.00000000000000000E+00,  1.38528261098661850E+03,  0.00000000000000000E+00,  2.23932200696985460E+03,  0.00000000000000000E+00,  3.46696562306230900E+03,  0.00000000000000000E+00,  5.21292448584938800E+03,  0.00000000000000000E+00,  7.69704474597798250E+03,  0.00000000000000000E+00,  1.12725036843023520E+04,  0.00000000000000000E+00,  1.65473993311855850E+04,  0.00000000000000000E+00,  2.46683712287799170E+04,  0.00000000000000000E+00,  3.80903390882376300E+04,  0.00000000000000000E+00,  6.31935155203744000E+04,  0.00000000000000000E+00,  1.23368338560677660E+05,  0.00000000000000000E+00,  4.29119278678350000E+05,  0.00000000000000000E+00, -4.93076783074565900E+05,  0.00000000000000000E+00, -1.87345620309830300E+05,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  4.28044381351274800E+00,  0.00000000000000000E+00,  3.45472627077303760E+01,  0.00000000000000000E+00,  1.18346404161299560E+02,  0.00000000000000000E+00,  2.86543732987336100E+02,  0.00000000000000000E+00,  5.75532486745951600E+02,  0.00000000000000000E+00,  1.03024167671518240E+03,  0.00000000000000000E+00,  1.70851013748303560E+03,  0.00000000000000000E+00,  2.68779566252272160E+03,  0.00000000000000000E+00,  4.07598605949218400E+03,  0.00000000000000000E+00,  6.02972735340031000E+03,  0.00000000000000000E+00,  8.78731584977080500E+03,  0.00000000000000000E+00,  1.27318643528484080E+04,  0.00000000000000000E+00,  1.85232963269299360E+04,  0.00000000000000000E+00,  2.74062549233176180E+04,  0.00000000000000000E+00,  4.20457773845981650E+04,  0.00000000000000000E+00,  6.93685002292820600E+04,  0.00000000000000000E+00,  1.34768567709628140E+05,  0.00000000000000000E+00,  4.66784156950063800E+05,  0.00000000000000000E+00, -5.34344066927287600E+05,  0.00000000000000000E+00, -2.02348253002420800E+05},
-                                 {  5.19812844409418800E-01,  0.00000000000000000E+00,  1.41131904049026920E+01,  0.00000000000000000E+00,  6.60755756239245400E+01,  0.00000000000000000E+00,  1.84430715073546540E+02,  0.00000000000000000E+00,  4.01185298780597800E+02,  0.00000000000000000E+00,  7.54625625696595000E+02,  0.00000000000000000E+00,  1.29250791063426850E+03,  0.00000000000000000E+00,  2.07674612705448770E+03,  0.00000000000000000E+00,  3.19064229273935370E+03,  0.00000000000000000E+00,  4.75056958505767800E+03,  0.00000000000000000E+00,  6.92580546684459600E+03,  0.00000000000000000E+00,  9.97414670257062400E+03,  0.00000000000000000E+00,  1.43103238416283440E+04,  0.00000000000000000E+00,  2.06489792733213730E+04,  0.00000000000000000E+00,  3.03382146137658300E+04,  0.00000000000000000E+00,  4.62648638471570100E+04,  0.00000000000000000E+00,  7.59323435929804800E+04,  0.00000000000000000E+00,  1.46849798817121800E+05,  0.00000000000000000E+00,  5.06590739351424300E+05,  0.00000000000000000E+00, -5.77851750955645300E+05,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  4.05974498765969650E+00,  0.00000000000000000E+00,  3.27369203788957300E+01,  0.00000000000000000E+00,  1.11975148114177440E+02,  0.00000000000000000E+00,  2.70523350282707400E+02,  0.00000000000000000E+00,  5.41751684225876100E+02,  0.00000000000000000E+00,  9.66060101377217200E+02,  0.00000000000000000E+00,  1.59427258050864730E+03,  0.00000000000000000E+00,  2.49266416671560230E+03,  0.00000000000000000E+00,  3.75074650262150770E+03,  0.00000000000000000E+00,  5.49387434993734100E+03,  0.00000000000000000E+00,  7.90466800163776300E+03,  0.00000000000000000E+00,  1.12615006103401320E+04,  0.00000000000000000E+00,  1.60124461803273730E+04,  0.00000000000000000E+00,  2.29298363003957420E+04,  0.00000000000000000E+00,  3.34708323167378260E+04,  0.00000000000000000E+00,  5.07560590888569350E+04,  0.00000000000000000E+00,  8.28968894456779700E+04,  0.00000000000000000E+00,  1.59631771151571360E+05,  0.00000000000000000E+00,  5.48598243510816500E+05,  0.00000000000000000E+00, -6.23659052787823700E+05},
-                                 {  4.93788838078266850E-01,  0.00000000000000000E+00,  1.33993372132954210E+01,  0.00000000000000000E+00,  6.26641549275514860E+01,  0.00000000000000000E+00,  1.74611182956732420E+02,  0.00000000000000000E+00,  3.78930433621811350E+02,  0.00000000000000000E+00,  7.10558131594317000E+02,  0.00000000000000000E+00,  1.21221640079347700E+03,  0.00000000000000000E+00,  1.93803140966845580E+03,  0.00000000000000000E+00,  2.95892396171179370E+03,  0.00000000000000000E+00,  4.37098412184483600E+03,  0.00000000000000000E+00,  6.30905307047375700E+03,  0.00000000000000000E+00,  8.96982085886492900E+03,  0.00000000000000000E+00,  1.26533389757555890E+04,  0.00000000000000000E+00,  1.78427943445824900E+04,  0.00000000000000000E+00,  2.53712549921653080E+04,  0.00000000000000000E+00,  3.68106897919064900E+04,  0.00000000000000000E+00,  5.55278236183089300E+04,  0.00000000000000000E+00,  9.02739815886306600E+04,  0.00000000000000000E+00,  1.73134223975196280E+05,  0.00000000000000000E+00,  5.92865887056425000E+05,  0.00000000000000000E+00}};
-
-        IdX2dX2_ =new double[][]{{  4.87045455170012200E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  7.79272728272019500E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  3.94506818687709850E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.24683636523523130E+04,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.04403409481257620E+04,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  6.31210909900335760E+04,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.16939613786319930E+05,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.99493818437637000E+05,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.19550523137045000E+05,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.87045455170012200E+05,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.13083250914414900E+05,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.00993745584053700E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.39105052451107100E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.87103382058111800E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.46566761679818600E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.19190109500219100E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.06785234612545740E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.11280837019271900E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  6.34722507632111500E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.79272728272019400E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  9.47210871669191300E+06,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.14093320146306360E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.36295287220231390E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.61589992934485950E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.90252130925786000E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.22568083921771500E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.58835923741006440E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  2.99365411292979000E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.44477996578101400E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  3.94506818687709900E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  4.49796705804064800E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.10704175200350660E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.77597433240676000E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  6.50856375380073340E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.30872586164499500E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  8.18049339230835100E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  9.12801597306885300E+07,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.01555601221137850E+08,  0.00000000000000000E+00,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.12675092485396820E+08,  0.00000000000000000E+00},
-                                 {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.24683636523523120E+08}};
+    protected int getBoundaryType() {
+        return BoundaryTables.SS;
     }
-}
\ No newline at end of file
+}
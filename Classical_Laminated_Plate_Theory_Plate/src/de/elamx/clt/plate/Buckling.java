@@ -39,7 +39,13 @@ import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 import de.elamx.clt.plate.Stiffener.Stiffener;
 import de.elamx.clt.plate.Stiffener.Stiffenerx;
 import de.elamx.clt.plate.Stiffener.Stiffenery;
+import de.elamx.core.GlobalProperties;
 import de.elamx.mathtools.MatrixTools;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Diese Klasse enthält die statische Methode calc. Damit kann das Beulproblem
@@ -56,11 +62,6 @@ import de.elamx.mathtools.MatrixTools;
  */
 public class Buckling {
 
-    private static int m_ = 10; //  number of terms used in ritz-approach in x-direction
-    private static int n_ = 10; //  number of terms used in ritz-approach in y-direction
-    private static double[][][] eigenvecs; // Eigenvektoren
-    private static double eigvalcrit;
-
     /**
      * Diese Methode berechnet für die gegebenen Daten die Eigenwerte und
      * Eigenformen Alle Ergebnisse werden im DataMemory (m, n, Eigenwerte,
@@ -73,12 +74,93 @@ public class Buckling {
      * 
      */
     public static BucklingResult calc(CLT_Laminate laminat, BucklingInput input) {
+        return calc(laminat, input.getDMatrixService().getDMatrix(laminat), input);
+    }
 
-        BucklingResult result = new BucklingResult(laminat, input);
+    /**
+     * Berechnung mit einer bereits bestimmten D-Matrix, z.B. der im Ergebnis
+     * gespeicherten (siehe {@link BucklingResult#getEigenvector(int)}).
+     */
+    static BucklingResult calc(CLT_Laminate laminat, double[][] dmat, BucklingInput input) {
+
+        if (input.getConvergenceTolerance() > 0.0) {
+            return calcAdaptive(laminat, dmat, input);
+        }
 
         // Speichern der Termanzahl
-        m_ = input.getM();
-        n_ = input.getN();
+        // m_ number of terms used in ritz-approach in x-direction
+        // n_ number of terms used in ritz-approach in y-direction
+        int m_ = input.getM();
+        int n_ = input.getN();
+
+        double[][][] mats = assemble(dmat, input, m_, n_);
+        return solve(laminat, dmat, input, mats[0], mats[1], m_, n_);
+    }
+
+    /**
+     * Berechnet die Beullasten für eine Folge von Eingaben, die sich von Punkt
+     * zu Punkt nur wenig unterscheiden, z.B. bei einer Variation der Plattenlänge oder des Lastverhältnisses
+     * (Fortsetzungsrechnung). Der iterative Eigenwertlöser wird mit den
+     * Eigenvektoren des vorherigen Punktes gestartet und die Eigenformen
+     * werden über das Modal Assurance Criterion verfolgt (siehe
+     * {@link Result#getModeIds()}). Die adaptive Termanzahlwahl wird dabei
+     * nicht verwendet.
+     *
+     * <p>Bestimmt werden immer nur die kleinsten positiven Eigenwerte, deren
+     * Anzahl durch {@link Input#getNumberOfModes()} bzw., falls diese nicht
+     * gesetzt ist, durch {@link Input#getNumberOfStoredEigenvectors()}
+     * gegeben ist. Für alle werden die Eigenvektoren gespeichert, sodass jeder
+     * Eigenwert eine Kennung hat. Die Ergebnisse enthalten dazu eine
+     * entsprechend angepasste Kopie der Eingabe. Nur für einen Punkt ohne
+     * positiven Eigenwert wird die vollständige Lösung verwendet, die
+     * Kennungen beziehen sich dann auf die gespeicherten Eigenvektoren.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @param inputs Eingabegrößen in der Reihenfolge der Fortsetzung
+     * @return Ergebnisse in der Reihenfolge der Eingaben
+     */
+    public static List<BucklingResult> calcContinuation(CLT_Laminate laminat, List<BucklingInput> inputs) {
+        ModeTracker tracker = new ModeTracker();
+        List<BucklingResult> results = new ArrayList<>(inputs.size());
+        for (BucklingInput input : inputs) {
+            BucklingInput in = (BucklingInput) ModeTracker.getContinuationInput(input);
+            int m_ = in.getM();
+            int n_ = in.getN();
+            double[][] dmat = in.getDMatrixService().getDMatrix(laminat);
+            double[][][] mats = assemble(dmat, in, m_, n_);
+            BucklingResult result = solve(laminat, dmat, in, mats[0], mats[1], m_, n_, tracker.getStartVectors(m_, n_), true);
+            tracker.track(result, result.getStoredEigenvectors());
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Adaptive Wahl der Termanzahl (siehe
+     * {@link Input#getConvergenceTolerance()}). Überwacht wird der kleinste
+     * positive Eigenwert.
+     */
+    private static BucklingResult calcAdaptive(CLT_Laminate laminat, double[][] dmat, BucklingInput input) {
+        double[][][] mats = assemble(dmat, input, input.getM(), input.getN());
+        AdaptiveTerms terms = new AdaptiveTerms(input.getM(), input.getN(), input.getConvergenceTolerance());
+        BucklingResult result;
+        do {
+            BucklingInput in = (BucklingInput) input.copy();
+            in.setM(terms.getM());
+            in.setN(terms.getN());
+            result = solve(laminat, dmat, in, terms.getSubMatrix(mats[0]), terms.getSubMatrix(mats[1]), terms.getM(), terms.getN());
+        } while (terms.next(result.getSmallestPositiveEigenValue()));
+        terms.setConvergence(result);
+        return result;
+    }
+
+    /**
+     * Baut Steifigkeitsmatrix und geometrische Steifigkeitsmatrix für m_ x n_
+     * Terme auf.
+     *
+     * @return {kmat, kgmat}
+     */
+    private static double[][][] assemble(double[][] dmat, BucklingInput input, int m_, int n_) {
 
         double length = input.getLength();
         double width = input.getWidth();
@@ -146,10 +228,19 @@ public class Buckling {
         double[][] kgmat = new double[m_ * n_][m_ * n_]; // geometrische Steifigkeitsmatrix
 
         // Aufruf der Methoden add für Platte, Last zum Füllen von Kmat und Kgmat
-        plate_.addStiffness(laminat, kmat, m_, n_, input.getDMatrixService(), bx, by); // fill stiffness matrix from Plate.class
+        plate_.addStiffness(dmat, kmat, m_, n_, bx, by); // fill stiffness matrix from Plate.class
         load_.add(kgmat, m_, n_, bx, by);                  // fill geometric stiffness matrix from Load.class
 
-        
+        addStiffeners(input, kmat, m_, n_, bx, by);
+
+        return new double[][][]{kmat, kgmat};
+    }
+
+    /**
+     * Fügt die Steifen der Eingabe der Steifigkeitsmatrix hinzu.
+     */
+    static void addStiffeners(BucklingInput input, double[][] kmat, int m_, int n_, Boundary bx, Boundary by) {
+        List<Stiffener> stiffeners = new ArrayList<>();
         for (StiffenerProperties s : input.getStiffenerProperties()) {
             Stiffener stiff;
             switch(s.getDirection()){
@@ -160,22 +251,60 @@ public class Buckling {
                 default:
                     stiff = new Stiffenerx(s, s.getPosition()); break;
             }
-            stiff.addStiffness(kmat, m_, n_, bx, by);
+            stiffeners.add(stiff);
         }
+        Stiffener.addStiffness(stiffeners, kmat, m_, n_, bx, by);
+    }
+
+    /**
+     * Löst das Eigenwertproblem für die aufgebauten Matrizen.
+     */
+    static BucklingResult solve(CLT_Laminate laminat, double[][] dmat, BucklingInput input, double[][] kmat, double[][] kgmat, int m_, int n_) {
+        return solve(laminat, dmat, input, kmat, kgmat, m_, n_, null, false);
+    }
+
+    /**
+     * Löst das Eigenwertproblem für die aufgebauten Matrizen. Der iterative
+     * Eigenwertlöser wird gegebenenfalls mit den Startvektoren begonnen.
+     *
+     * @param partial true, wenn auch bei {@link Input#getNumberOfModes()}
+     * gleich m x n nur die positiven Eigenwerte bestimmt werden sollen
+     */
+    private static BucklingResult solve(CLT_Laminate laminat, double[][] dmat, BucklingInput input, double[][] kmat, double[][] kgmat, int m_, int n_, double[][][] startvecs, boolean partial) {
+
+        BucklingResult result = new BucklingResult(laminat, input);
+        result.setDMatrix(dmat);
+        double[] eigenvecs = null; // Eigenvektoren, zusammenhängend je m x n Terme
 
         // Initialiesierung des Eigenvektorfeldes
         // m und n werden unabhängig gespeichert, da dies für die 3D-Darstellung
         // Vorteile bringt
         int number = m_ * n_;
-        eigenvecs = new double[number][m_][n_];
+        // es werden nur die zu speichernden Eigenvektoren bestimmt, die Löser
+        // schreiben sie direkt in das Feld des Ergebnisses
+        int stored = Math.max(0, input.getNumberOfStoredEigenvectors());
+        double[] eigenvalues = null;
+        if (input.getNumberOfModes() > 0 && (partial || input.getNumberOfModes() < number)) {
+            // nur die kleinsten positiven Eigenwerte
+            eigenvecs = new double[Math.min(input.getNumberOfModes(), stored) * number];
+            eigenvalues = MatrixTools.getLowestPositiveEigenValuesBlockwise(kgmat, kmat, input.getNumberOfModes(), m_, n_, eigenvecs, startvecs);
+            if (eigenvalues.length == 0) {
+                // kein positiver Eigenwert, vollständige Lösung wie bisher
+                eigenvalues = null;
+            }
+        }
+
+        if (eigenvalues == null) {
+            eigenvecs = new double[Math.min(number, stored) * number];
 
-        // Eigener Eigenwertlöser
-        double[] eigenvalues = MatrixTools.getEigenValues(kgmat, kmat, number, m_, n_, eigenvecs);
+            // Eigener Eigenwertlöser
+            eigenvalues = MatrixTools.getEigenValuesBlockwise(kgmat, kmat, number, m_, n_, eigenvecs);
+        }
 
         // kleinsten positiven eigenwert aus array suchen
         // initialisieren mit erstem eigenwert
         if ((m_ * n_) > 0) {
-            eigvalcrit = eigenvalues[0];
+            double eigvalcrit = eigenvalues[0];
             //System.out.println(eigvalcrit);
             // kleinsten positiven eigenwert aus array suchen
             // Eigenwerte kommen betragsmäßig sortiert aus eigenvaluesCalc
@@ -197,8 +326,43 @@ public class Buckling {
             result.setSmallestPositiveEigenValue(eigvalcrit);
         }
 
-        result.setEigenForms(eigenvalues, eigenvecs);
+        int count = Math.min(eigenvalues.length, eigenvecs.length / Math.max(1, number));
+        result.setEigenForms(eigenvalues, new EigenvectorStore(eigenvecs, count, m_, n_));
         
         return result;
     }
+
+    /**
+     * Berechnet die Beullasten eines Laminats für mehrere Eingaben, z.B. für
+     * Parameterstudien über Plattenabmessungen oder Lastverhältnisse. Die
+     * Eingaben werden parallel im Thread-Pool der Batchrun-Berechnungen
+     * ausgewertet.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @param inputs Liste der Eingabegrößen
+     * @return Ergebnisse der Beulberechnungen in der Reihenfolge der Eingaben
+     * oder <code>null</code>, wenn die Berechnung unterbrochen wurde
+     */
+    public static List<BucklingResult> calcAll(CLT_Laminate laminat, List<BucklingInput> inputs) {
+        List<Callable<BucklingResult>> tasks = new ArrayList<>(inputs.size());
+        for (BucklingInput input : inputs) {
+            tasks.add(() -> calc(laminat, input));
+        }
+
+        List<BucklingResult> results = new ArrayList<>(inputs.size());
+        try {
+            for (Future<BucklingResult> future : GlobalProperties.getDefault().getBatchRunPool().invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+        return results;
+    }
 }
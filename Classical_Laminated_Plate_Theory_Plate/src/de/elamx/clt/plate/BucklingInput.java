@@ -107,6 +107,9 @@ public class BucklingInput extends Input{
     @Override
     public Input copy() {
         Input in = new BucklingInput(getLength(), getWidth(), nx, ny, nxy, getDMatrixService(), getBcx(), getBcy(), getM(), getN());
+        in.setNumberOfModes(getNumberOfModes());
+        in.setConvergenceTolerance(getConvergenceTolerance());
+        in.setNumberOfStoredEigenvectors(getNumberOfStoredEigenvectors());
         for (StiffenerProperties ss : getStiffenerProperties()){
             in.addStiffenerProperty(ss.getCopy());
         }
@@ -36,7 +36,9 @@ public class BucklingResult extends Result{
     private double[]     n_crit;
     private double       smallestPositiveEigenValue;
     private double[]     eigenvalues_;
-    private double[][][] eigenvectors_;
+    private EigenvectorStore eigenvectors_;
+    // bei der Berechnung verwendete D-Matrix für die Nachberechnung von Eigenformen
+    private double[][]   dmat_;
     
     public BucklingResult(CLT_Laminate laminate, BucklingInput input){
         super(laminate, input.copy());
@@ -59,15 +61,65 @@ public class BucklingResult extends Result{
     }
     
     public void setEigenForms(double[] eigenvalues, double[][][] eigenvectors){
+        setEigenForms(eigenvalues, new EigenvectorStore(eigenvectors, getInput().getM(), getInput().getN()));
+    }
+
+    void setEigenForms(double[] eigenvalues, EigenvectorStore eigenvectors){
         eigenvalues_  = eigenvalues;
         eigenvectors_ = eigenvectors;
     }
 
+    void setDMatrix(double[][] dmat) {
+        dmat_ = new double[][]{dmat[0].clone(), dmat[1].clone(), dmat[2].clone()};
+    }
+
+    /**
+     * Liefert die berechneten Eigenwerte. Bei einer Teilberechnung
+     * ({@link Input#getNumberOfModes()} größer null) sind nur die kleinsten
+     * positiven Eigenwerte aufsteigend enthalten. Bei einer vollständigen
+     * Berechnung sind alle Eigenwerte einschließlich der negativen enthalten,
+     * sortiert nach aufsteigendem Betrag. Findet die Teilberechnung keinen
+     * positiven Eigenwert, wird vollständig gerechnet.
+     *
+     * @return Eigenwerte
+     */
     public double[] getEigenvalues_() {
         return eigenvalues_;
     }
 
-    public double[][][] getEigenvectors_() {
-        return eigenvectors_;
+    /**
+     * @return Anzahl der gespeicherten Eigenvektoren (siehe
+     * {@link Input#getNumberOfStoredEigenvectors()})
+     */
+    public int getNumberOfStoredEigenvectors() {
+        return eigenvectors_ == null ? 0 : eigenvectors_.getCount();
+    }
+
+    /**
+     * Liefert die Eigenform zum Eigenwert mit dem angegebenen Index als
+     * m x n Feld der Koeffizienten. Ist die Eigenform nicht gespeichert, wird
+     * die Berechnung einmalig wiederholt und dabei werden alle Eigenvektoren
+     * gespeichert. Die Nachberechnung verwendet die D-Matrix der ursprünglichen
+     * Berechnung, spätere Änderungen am Laminat wirken sich nicht aus.
+     *
+     * @param index Index des Eigenwertes in {@link #getEigenvalues_()}
+     * @return Eigenform
+     */
+    public synchronized double[][] getEigenvector(int index) {
+        if (index < 0 || index >= eigenvalues_.length) {
+            throw new IndexOutOfBoundsException("Eigenvector " + index + " of " + eigenvalues_.length);
+        }
+        if (index >= getNumberOfStoredEigenvectors()) {
+            BucklingInput input = (BucklingInput) getInput().copy();
+            // die Termanzahl steht nach einer adaptiven Wahl bereits fest
+            input.setConvergenceTolerance(0.0);
+            input.setNumberOfStoredEigenvectors(eigenvalues_.length);
+            eigenvectors_ = Buckling.calc(getLaminate(), dmat_, input).eigenvectors_;
+        }
+        return eigenvectors_.get(index);
+    }
+
+    synchronized double[][][] getStoredEigenvectors() {
+        return eigenvectors_ == null ? new double[0][][] : eigenvectors_.toArray();
     }
 }
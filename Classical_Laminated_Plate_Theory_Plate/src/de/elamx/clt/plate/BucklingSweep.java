@@ -0,0 +1,268 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.InplaneLoad;
+import de.elamx.clt.plate.Mechanical.Plate;
+import de.elamx.core.GlobalProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Parameterstudie für das Beulproblem. Ausgehend von einer Basiseingabe wird
+ * das kritische Lastniveau für alle Kombinationen aus Seitenverhältnissen a/b,
+ * Lastfällen (nx, ny, nxy) und Randbedingungen bestimmt. Nicht variierte
+ * Größen (Breite, Termanzahl, D-Matrix-Option, Steifen) werden aus der
+ * Basiseingabe übernommen.
+ *
+ * <p>Die D-Matrix wird einmal für alle Punkte bestimmt. Für jede Kombination
+ * aus Seitenverhältnis und Randbedingung wird die Steifigkeitsmatrix nur
+ * einmal aufgebaut, die geometrische Steifigkeitsmatrix der einzelnen
+ * Lastfälle wird aus den drei Einheitslastfällen linear kombiniert. Die
+ * Kombinationen werden parallel im Thread-Pool der Batchrun-Berechnungen
+ * ausgewertet.
+ *
+ * <p>Die adaptive Termwahl der Basiseingabe wird nicht verwendet.
+ *
+ * @author Andreas Hauffe
+ */
+public class BucklingSweep {
+
+    private final BucklingInput baseInput;
+    private double[] aspectRatios;
+    private double[][] loadCases;
+    private int[][] boundaryConditions;
+
+    /**
+     * Erzeugt eine Parameterstudie, die zunächst nur aus dem Punkt der
+     * Basiseingabe besteht.
+     *
+     * @param baseInput Basiseingabe
+     */
+    public BucklingSweep(BucklingInput baseInput) {
+        this.baseInput = (BucklingInput) baseInput.copy();
+        this.aspectRatios = new double[]{baseInput.getLength() / baseInput.getWidth()};
+        this.loadCases = new double[][]{{baseInput.getNx(), baseInput.getNy(), baseInput.getNxy()}};
+        this.boundaryConditions = new int[][]{{baseInput.getBcx(), baseInput.getBcy()}};
+    }
+
+    public BucklingInput getBaseInput() {
+        return baseInput;
+    }
+
+    public double[] getAspectRatios() {
+        return aspectRatios.clone();
+    }
+
+    /**
+     * Setzt die Seitenverhältnisse a/b. Die Länge a ergibt sich aus der
+     * Breite b der Basiseingabe.
+     *
+     * @param aspectRatios Seitenverhältnisse a/b
+     */
+    public void setAspectRatios(double... aspectRatios) {
+        this.aspectRatios = aspectRatios.clone();
+    }
+
+    public double[][] getLoadCases() {
+        return copy(loadCases);
+    }
+
+    /**
+     * Setzt die Lastfälle. Jeder Lastfall besteht aus den Kraftflüssen
+     * {nx, ny, nxy}, die mit dem kritischen Eigenwert skaliert werden.
+     *
+     * @param loadCases Lastfälle [Anzahl][3]
+     */
+    public void setLoadCases(double[][] loadCases) {
+        for (double[] loadCase : loadCases) {
+            if (loadCase.length != 3) {
+                throw new IllegalArgumentException("A load case needs exactly three entries (nx, ny, nxy).");
+            }
+        }
+        this.loadCases = copy(loadCases);
+    }
+
+    public int[][] getBoundaryConditions() {
+        int[][] bcs = new int[boundaryConditions.length][];
+        for (int ii = 0; ii < bcs.length; ii++) {
+            bcs[ii] = boundaryConditions[ii].clone();
+        }
+        return bcs;
+    }
+
+    /**
+     * Setzt die Kombinationen der Randbedingungen {bcx, bcy} (0 = SS, 1 = CC,
+     * 2 = CF, 3 = FF, 4 = SC, 5 = SF).
+     *
+     * @param boundaryConditions Randbedingungen [Anzahl][2]
+     */
+    public void setBoundaryConditions(int[][] boundaryConditions) {
+        int[][] bcs = new int[boundaryConditions.length][];
+        for (int ii = 0; ii < bcs.length; ii++) {
+            if (boundaryConditions[ii].length != 2) {
+                throw new IllegalArgumentException("A boundary condition combination needs exactly two entries (bcx, bcy).");
+            }
+            bcs[ii] = boundaryConditions[ii].clone();
+        }
+        this.boundaryConditions = bcs;
+    }
+
+    /**
+     * Liefert count äquidistante Werte zwischen start und end (jeweils
+     * einschließlich).
+     *
+     * @param start Startwert
+     * @param end Endwert
+     * @param count Anzahl der Werte
+     * @return Werte
+     */
+    public static double[] range(double start, double end, int count) {
+        if (count < 1) {
+            return new double[0];
+        }
+        double[] values = new double[count];
+        for (int ii = 0; ii < count; ii++) {
+            values[ii] = count == 1 ? start : start + (end - start) * ii / (count - 1);
+        }
+        return values;
+    }
+
+    /**
+     * Wertet alle Punkte der Parameterstudie aus. Die Reihenfolge der Punkte
+     * ist Seitenverhältnis, Randbedingung und Lastfall, wobei der Lastfall am
+     * schnellsten läuft.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @return Ergebnisse in Spaltenform oder <code>null</code>, wenn die
+     * Berechnung unterbrochen wurde
+     */
+    public BucklingSweepResult calc(CLT_Laminate laminat) {
+        final int nLoads = loadCases.length;
+        final int nBcs = boundaryConditions.length;
+        final BucklingSweepResult result = new BucklingSweepResult(aspectRatios.length * nBcs * nLoads);
+
+        final double[][] dmat = baseInput.getDMatrixService().getDMatrix(laminat);
+
+        List<Callable<Void>> tasks = new ArrayList<>(aspectRatios.length * nBcs);
+        for (int r = 0; r < aspectRatios.length; r++) {
+            for (int b = 0; b < nBcs; b++) {
+                final int offset = (r * nBcs + b) * nLoads;
+                final double aspectRatio = aspectRatios[r];
+                final int[] bc = boundaryConditions[b];
+                tasks.add(() -> {
+                    calcGroup(laminat, dmat, aspectRatio, bc, result, offset);
+                    return null;
+                });
+            }
+        }
+
+        try {
+            for (Future<Void> future : GlobalProperties.getDefault().getBatchRunPool().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Berechnet alle Lastfälle für ein Seitenverhältnis und eine Kombination
+     * der Randbedingungen.
+     */
+    private void calcGroup(CLT_Laminate laminat, double[][] dmat, double aspectRatio, int[] bc, BucklingSweepResult result, int offset) {
+        int m = baseInput.getM();
+        int n = baseInput.getN();
+        double width = baseInput.getWidth();
+        double length = aspectRatio * width;
+
+        Boundary bx = Deformation.getBoundary(bc[0], length, m);
+        Boundary by = Deformation.getBoundary(bc[1], width, n);
+
+        double[][] kmat = new double[m * n][m * n];
+        new Plate(length, width).addStiffness(dmat, kmat, m, n, bx, by);
+
+        BucklingInput input = (BucklingInput) baseInput.copy();
+        input.setLength(length);
+        input.setBcx(bc[0]);
+        input.setBcy(bc[1]);
+        // für die Studie wird nur der kritische Eigenwert benötigt
+        input.setNumberOfModes(1);
+        input.setNumberOfStoredEigenvectors(0);
+
+        Buckling.addStiffeners(input, kmat, m, n, bx, by);
+
+        // geometrische Steifigkeitsmatrizen der Einheitslastfälle nx, ny, nxy
+        double[][][] kgUnit = new double[3][m * n][m * n];
+        new InplaneLoad(1.0, 0.0, 0.0).add(kgUnit[0], m, n, bx, by);
+        new InplaneLoad(0.0, 1.0, 0.0).add(kgUnit[1], m, n, bx, by);
+        new InplaneLoad(0.0, 0.0, 1.0).add(kgUnit[2], m, n, bx, by);
+
+        double[][] kgmat = new double[m * n][m * n];
+        double[][] kmatCopy = new double[m * n][];
+        for (int l = 0; l < loadCases.length; l++) {
+            double[] loads = loadCases[l];
+            for (int ii = 0; ii < kgmat.length; ii++) {
+                double[] row = kgmat[ii];
+                double[] gx = kgUnit[0][ii];
+                double[] gy = kgUnit[1][ii];
+                double[] gxy = kgUnit[2][ii];
+                for (int jj = 0; jj < row.length; jj++) {
+                    row[jj] = loads[0] * gx[jj] + loads[1] * gy[jj] + loads[2] * gxy[jj];
+                }
+                // Der Eigenwertlöser darf die Matrizen verändern
+                kmatCopy[ii] = kmat[ii].clone();
+            }
+            input.setNx(loads[0]);
+            input.setNy(loads[1]);
+            input.setNxy(loads[2]);
+
+            BucklingResult pointResult = Buckling.solve(laminat, dmat, input, kmatCopy, kgmat, m, n);
+            result.set(offset + l, aspectRatio, length, width, bc[0], bc[1], loads,
+                    pointResult.getSmallestPositiveEigenValue(), pointResult.getN_crit());
+        }
+    }
+
+    private static double[][] copy(double[][] values) {
+        double[][] copy = new double[values.length][];
+        for (int ii = 0; ii < copy.length; ii++) {
+            copy[ii] = values[ii].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+/**
+ * Ergebnisse einer {@link BucklingSweep Parameterstudie} in Spaltenform. Jede
+ * Spalte enthält einen Wert je Punkt der Studie, sodass die Ergebnisse direkt
+ * als Datensätze ausgegeben oder als Beulkurven dargestellt werden können.
+ *
+ * @author Andreas Hauffe
+ */
+public class BucklingSweepResult {
+
+    private final double[] aspectRatio;
+    private final double[] length;
+    private final double[] width;
+    private final int[] bcx;
+    private final int[] bcy;
+    private final double[] nx;
+    private final double[] ny;
+    private final double[] nxy;
+    private final double[] eigenvalue;
+    private final double[] nxCrit;
+    private final double[] nyCrit;
+    private final double[] nxyCrit;
+
+    BucklingSweepResult(int numberOfPoints) {
+        aspectRatio = new double[numberOfPoints];
+        length = new double[numberOfPoints];
+        width = new double[numberOfPoints];
+        bcx = new int[numberOfPoints];
+        bcy = new int[numberOfPoints];
+        nx = new double[numberOfPoints];
+        ny = new double[numberOfPoints];
+        nxy = new double[numberOfPoints];
+        eigenvalue = new double[numberOfPoints];
+        nxCrit = new double[numberOfPoints];
+        nyCrit = new double[numberOfPoints];
+        nxyCrit = new double[numberOfPoints];
+    }
+
+    void set(int index, double aspectRatio, double length, double width, int bcx, int bcy, double[] loads, double eigenvalue, double[] nCrit) {
+        this.aspectRatio[index] = aspectRatio;
+        this.length[index] = length;
+        this.width[index] = width;
+        this.bcx[index] = bcx;
+        this.bcy[index] = bcy;
+        this.nx[index] = loads[0];
+        this.ny[index] = loads[1];
+        this.nxy[index] = loads[2];
+        this.eigenvalue[index] = eigenvalue;
+        this.nxCrit[index] = nCrit[0];
+        this.nyCrit[index] = nCrit[1];
+        this.nxyCrit[index] = nCrit[2];
+    }
+
+    public int getNumberOfPoints() {
+        return eigenvalue.length;
+    }
+
+    public double[] getAspectRatio() {
+        return aspectRatio;
+    }
+
+    public double[] getLength() {
+        return length;
+    }
+
+    public double[] getWidth() {
+        return width;
+    }
+
+    public int[] getBcx() {
+        return bcx;
+    }
+
+    public int[] getBcy() {
+        return bcy;
+    }
+
+    public double[] getNx() {
+        return nx;
+    }
+
+    public double[] getNy() {
+        return ny;
+    }
+
+    public double[] getNxy() {
+        return nxy;
+    }
+
+    /**
+     * @return kleinster positiver Eigenwert je Punkt, also der Lastfaktor, mit
+     * dem der Lastfall skaliert werden muss, damit die Platte beult
+     */
+    public double[] getEigenvalue() {
+        return eigenvalue;
+    }
+
+    public double[] getNxCrit() {
+        return nxCrit;
+    }
+
+    public double[] getNyCrit() {
+        return nyCrit;
+    }
+
+    public double[] getNxyCrit() {
+        return nxyCrit;
+    }
+}
@@ -39,7 +39,13 @@ import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 import de.elamx.clt.plate.Stiffener.Stiffener;
 import de.elamx.clt.plate.Stiffener.Stiffenerx;
 import de.elamx.clt.plate.Stiffener.Stiffenery;
-import de.elamx.mathtools.MatrixTools;
+import de.elamx.mathtools.PackedCholesky;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Diese Klasse enthält die statische Methode calc. Damit kann das statische 
@@ -57,6 +63,32 @@ import de.elamx.mathtools.MatrixTools;
  */
 public class Deformation {
 
+    /**
+     * Maximale Anzahl zwischengespeicherter Zerlegungen von Steifigkeitsmatrizen.
+     */
+    private static final int MAX_CACHED_FACTORIZATIONS = 8;
+
+    /**
+     * Anzahl der Rasterpunkte je Richtung zur Bestimmung der maximalen
+     * Durchbiegung bei adaptiver Termanzahl.
+     */
+    private static final int DEFLECTION_GRID = 21;
+
+    /**
+     * Zerlegungen der Steifigkeitsmatrizen der zuletzt berechneten
+     * Konfigurationen. Ändern sich nur die Querlasten, entfällt damit der
+     * Aufbau und die Zerlegung der Steifigkeitsmatrix. Gilt nur für die
+     * Rechnung mit fester Termanzahl, die adaptive Rechnung
+     * ({@link #calcAdaptive(CLT_Laminate, DeformationInput)}) zerlegt ihre
+     * Untermatrizen jedes Mal neu und nutzt den Zwischenspeicher nicht.
+     */
+    private static final Map<StiffnessKey, PackedCholesky> FACTORIZATIONS = new LinkedHashMap<StiffnessKey, PackedCholesky>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StiffnessKey, PackedCholesky> eldest) {
+            return size() > MAX_CACHED_FACTORIZATIONS;
+        }
+    };
+
     /**
      * Diese Methode berechnet für die gegebenen Daten die statische Lösung.
      * Alle Ergebnisse werden im DataMemory (m, n, Lösungsvektor,
@@ -66,57 +98,177 @@ public class Deformation {
      * @return DeformationResult
      */
     public static DeformationResult calc(CLT_Laminate laminat, DeformationInput input){
+        return calcAll(laminat, Collections.singletonList(input)).get(0);
+    }
 
-        // Speichern der Termanzahl
-        int m = input.getM();
-        int n = input.getN();
+    /**
+     * Berechnet die statische Lösung für mehrere Eingaben, z.B. verschiedene
+     * Kombinationen von Querlasten. Eingaben mit gleicher Steifigkeit
+     * (D-Matrix, Abmessungen, Randbedingungen, Termanzahl, Versteifungen)
+     * teilen sich eine Zerlegung der Steifigkeitsmatrix, ihre Lastvektoren
+     * werden gemeinsam gelöst.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @param inputs Liste der Eingabegrößen
+     * @return Ergebnisse in der Reihenfolge der Eingaben
+     */
+    public static List<DeformationResult> calcAll(CLT_Laminate laminat, List<DeformationInput> inputs){
 
-        double length = input.getLength();
-        double width  = input.getWidth();
+        DeformationResult[] results = new DeformationResult[inputs.size()];
 
-        // create new object plate with geometric dimensions
-        Plate plate = new Plate(length, width);
+        // Eingaben nach gleicher Steifigkeitsmatrix gruppieren
+        Map<StiffnessKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            if (inputs.get(i).getConvergenceTolerance() > 0.0) {
+                results[i] = calcAdaptive(laminat, inputs.get(i));
+                continue;
+            }
+            StiffnessKey key = new StiffnessKey(laminat, inputs.get(i));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
 
-        // create new object boundary x-direction with integrals needed for
-        // calculation based on boundary condition and geometry
-        Boundary bx;
-        switch ( input.getBcx() )
-        {
-            case 0: bx = new Boundary_SS_200(length, m); break;
-            case 1: bx = new Boundary_CC_200(length, m); break;
-            case 2: bx = new Boundary_CF_200(length, m); break;
-            case 3: bx = new Boundary_FF_200(length, m); break;
-            case 4: bx = new Boundary_SC_200(length, m); break;
-            case 5: bx = new Boundary_SF_200(length, m); break;
-            default: bx = new Boundary_SS_200(length, m);
+        for (Map.Entry<StiffnessKey, List<Integer>> group : groups.entrySet()) {
+            List<Integer> indices = group.getValue();
+            DeformationInput first = inputs.get(indices.get(0));
+
+            // Speichern der Termanzahl
+            int m = first.getM();
+            int n = first.getN();
+
+            // create new object boundary x- and y-direction with integrals needed for
+            // calculation based on boundary condition and geometry
+            Boundary bx = getBoundary(first.getBcx(), first.getLength(), m);
+            Boundary by = getBoundary(first.getBcy(), first.getWidth(), n);
+
+            PackedCholesky factorization = getFactorization(laminat, first, group.getKey(), bx, by);
+
+            // Kraftvektoren
+            double[][] fvecs = new double[indices.size()][m * n];
+            for (int r = 0; r < indices.size(); r++) {
+                // fill Loadvector from Load.class
+                for (TransverseLoad load : inputs.get(indices.get(r)).getLoads()) {
+                    load.add(fvecs[r], m, n, bx, by);
+                }
+            }
+
+            double[][] cvecs = factorization.solve(fvecs);
+
+            for (int r = 0; r < indices.size(); r++) {
+                int index = indices.get(r);
+                results[index] = new DeformationResult(laminat, inputs.get(index), getResultVectors(cvecs[r], m, n));
+            }
         }
-        // create new object boundary y-direction with integrals needed for
-        // calculation based on boundary condition and geometry
-        Boundary by;
-        switch ( input.getBcy() )
-        {
-            case 0: by = new Boundary_SS_200(width, n); break;
-            case 1: by = new Boundary_CC_200(width, n); break;
-            case 2: by = new Boundary_CF_200(width, n); break;
-            case 3: by = new Boundary_FF_200(width, n); break;
-            case 4: by = new Boundary_SC_200(width, n); break;
-            case 5: by = new Boundary_SF_200(width, n); break;
-            default: by = new Boundary_SS_200(width, n);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Adaptive Wahl der Termanzahl (siehe
+     * {@link Input#getConvergenceTolerance()}). Überwacht wird die maximale
+     * Durchbiegung. Die Zerlegungen der Untermatrizen werden nicht in
+     * {@link #FACTORIZATIONS} abgelegt.
+     */
+    private static DeformationResult calcAdaptive(CLT_Laminate laminat, DeformationInput input) {
+        int mMax = input.getM();
+        int nMax = input.getN();
+        Boundary bx = getBoundary(input.getBcx(), input.getLength(), mMax);
+        Boundary by = getBoundary(input.getBcy(), input.getWidth(), nMax);
+
+        double[][] kmat = assembleStiffness(laminat, input, bx, by);
+        double[] fvec = new double[mMax * nMax];
+        for (TransverseLoad load : input.getLoads()) {
+            load.add(fvec, mMax, nMax, bx, by);
+        }
+
+        AdaptiveTerms terms = new AdaptiveTerms(mMax, nMax, input.getConvergenceTolerance());
+        DeformationResult result;
+        do {
+            int m = terms.getM();
+            int n = terms.getN();
+            double[] cvec = new PackedCholesky(terms.getSubMatrix(kmat)).solve(terms.getSubVector(fvec));
+            DeformationInput in = (DeformationInput) input.copy();
+            in.setM(m);
+            in.setN(n);
+            result = new DeformationResult(laminat, in, getResultVectors(cvec, m, n));
+        } while (terms.next(getMaximumDeflection(result.getResultvectors(), bx, by)));
+        terms.setConvergence(result);
+        return result;
+    }
+
+    /**
+     * Initialiesierung des Lösungsfeldes. m und n werden unabhängig
+     * gespeichert, da dies für die 3D-Darstellung Vorteile bringt.
+     */
+    private static double[][] getResultVectors(double[] cvec, int m, int n) {
+        double[][] resultvecs = new double[m][n];
+        int iTemp, mm, nn;
+        for ( mm = 0; mm < m; mm++ ){
+            iTemp = mm*n;
+            for(nn = 0; nn < n; nn++){
+                resultvecs[mm][nn] = cvec[iTemp+nn];
+            }
         }
-        
+        return resultvecs;
+    }
+
+    /**
+     * Betragsmäßig größte Durchbiegung auf einem Raster von
+     * DEFLECTION_GRID x DEFLECTION_GRID Punkten inklusive der Ränder. Die
+     * Randbedingungsobjekte dürfen für eine größere Termanzahl erzeugt worden
+     * sein.
+     */
+    private static double getMaximumDeflection(double[][] resultvecs, Boundary bx, Boundary by) {
+        FieldEvaluator evaluator = new FieldEvaluator(bx, by, resultvecs.length, resultvecs[0].length,
+                FieldEvaluator.getGrid(bx.getA(), DEFLECTION_GRID - 1),
+                FieldEvaluator.getGrid(by.getA(), DEFLECTION_GRID - 1), 0);
+        double maxVal = 0.0;
+        for (double[] row : evaluator.getField(resultvecs, 0, 0)) {
+            for (double w : row) {
+                maxVal = Math.max(maxVal, Math.abs(w));
+            }
+        }
+        return maxVal;
+    }
+
+    /**
+     * Liefert die Zerlegung der Steifigkeitsmatrix aus dem Zwischenspeicher
+     * oder baut die Steifigkeitsmatrix auf und zerlegt sie.
+     */
+    private static PackedCholesky getFactorization(CLT_Laminate laminat, DeformationInput input, StiffnessKey key, Boundary bx, Boundary by) {
+        synchronized (FACTORIZATIONS) {
+            PackedCholesky factorization = FACTORIZATIONS.get(key);
+            if (factorization != null) {
+                return factorization;
+            }
+        }
+
+        double[][] kmat = assembleStiffness(laminat, input, bx, by);
+
+        PackedCholesky factorization = new PackedCholesky(kmat);
+        synchronized (FACTORIZATIONS) {
+            FACTORIZATIONS.put(key, factorization);
+        }
+        return factorization;
+    }
+
+    /**
+     * Baut die Steifigkeitsmatrix von Platte und Versteifungen auf.
+     */
+    private static double[][] assembleStiffness(CLT_Laminate laminat, DeformationInput input, Boundary bx, Boundary by) {
+        int m = input.getM();
+        int n = input.getN();
+
+        // create new object plate with geometric dimensions
+        Plate plate = new Plate(input.getLength(), input.getWidth());
+
         // Initialisierung der Matrizen
         // Achtung: An dieser Stelle wäre in anderen Programmiersprachen ein Nullsetzen
         // der Matrixeinträge notwendig. Java macht dies intern automatrisch.
         double[][] kmat = new double[m * n][m * n]; // Steifigkeitsmatrix
-        double[]   fvec = new double[m * n];          // Kraftvektor
 
-        // Aufruf der Methoden addStiffness für Platte, Last zum Füllen von Kmat und Kgmat
+        // Aufruf der Methoden addStiffness für Platte zum Füllen von Kmat
         plate.addStiffness(laminat, kmat, m, n, input.getDMatrixService(), bx, by); // fill stiffness matrix from Plate.class
-        // fill Loadvector from Load.class
-        for (TransverseLoad load : input.getLoads()) {
-            load.add(fvec, m, n, bx, by);
-        }
 
+        List<Stiffener> stiffeners = new ArrayList<>();
         for (StiffenerProperties s : input.getStiffenerProperties()) {
             Stiffener stiff;
             switch(s.getDirection()){
@@ -127,24 +279,77 @@ public class Deformation {
                 default:
                     stiff = new Stiffenerx(s, s.getPosition()); break;
             }
-            stiff.addStiffness(kmat, m, n, bx, by);
+            stiffeners.add(stiff);
         }
+        Stiffener.addStiffness(stiffeners, kmat, m, n, bx, by);
 
-        // Initialiesierung des Lösungsfeldes
-        // m und n werden unabhängig gespeichert, da dies für die 3D-Darstellung
-        // Vorteile bringt
-        double[][] resultvecs = new double[m][n];
+        return kmat;
+    }
 
-        double[] cvec = MatrixTools.solveAbCholesky(kmat, fvec);
+    static Boundary getBoundary(int bc, double a, int terms) {
+        switch ( bc )
+        {
+            case 0: return new Boundary_SS_200(a, terms);
+            case 1: return new Boundary_CC_200(a, terms);
+            case 2: return new Boundary_CF_200(a, terms);
+            case 3: return new Boundary_FF_200(a, terms);
+            case 4: return new Boundary_SC_200(a, terms);
+            case 5: return new Boundary_SF_200(a, terms);
+            default: return new Boundary_SS_200(a, terms);
+        }
+    }
 
-        int iTemp, mm, nn;
-        for ( mm = 0; mm < m; mm++ ){
-            iTemp = mm*n;
-            for(nn = 0; nn < n; nn++){
-                resultvecs[mm][nn] = cvec[iTemp+nn];
+    /**
+     * Schlüssel für die Zerlegung der Steifigkeitsmatrix. Er enthält alle
+     * Größen, von denen die Steifigkeitsmatrix abhängt: die verwendete
+     * D-Matrix, Abmessungen, Randbedingungen, Termanzahl sowie Richtung,
+     * Position, Biege- und Torsionssteifigkeit der Versteifungen.
+     */
+    private static final class StiffnessKey {
+
+        private final int[] ints;
+        private final double[] values;
+        private final int hash;
+
+        StiffnessKey(CLT_Laminate laminat, DeformationInput input) {
+            List<StiffenerProperties> stiffProps = input.getStiffenerProperties();
+            ints = new int[4 + stiffProps.size()];
+            ints[0] = input.getBcx();
+            ints[1] = input.getBcy();
+            ints[2] = input.getM();
+            ints[3] = input.getN();
+            values = new double[11 + 3 * stiffProps.size()];
+            double[][] dmat = input.getDMatrixService().getDMatrix(laminat);
+            for (int i = 0; i < 3; i++) {
+                System.arraycopy(dmat[i], 0, values, 3 * i, 3);
+            }
+            values[9] = input.getLength();
+            values[10] = input.getWidth();
+            for (int i = 0; i < stiffProps.size(); i++) {
+                StiffenerProperties s = stiffProps.get(i);
+                ints[4 + i] = s.getDirection();
+                values[11 + 3 * i] = s.getPosition();
+                values[12 + 3 * i] = s.getE() * s.getI();
+                values[13 + 3 * i] = s.getG() * s.getJ();
             }
+            hash = 31 * Arrays.hashCode(ints) + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StiffnessKey)) {
+                return false;
+            }
+            StiffnessKey other = (StiffnessKey) obj;
+            return hash == other.hash && Arrays.equals(ints, other.ints) && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        
-        return new DeformationResult(laminat, input, resultvecs);
     }
 }
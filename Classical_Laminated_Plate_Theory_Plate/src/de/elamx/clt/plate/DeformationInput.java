@@ -103,6 +103,7 @@ public class DeformationInput extends Input implements PropertyChangeListener{
     @Override
     public Input copy() {
         DeformationInput in = new DeformationInput(getLength(), getWidth(), getDMatrixService(), getBcx(), getBcy(), getM(), getN());
+        in.setConvergenceTolerance(getConvergenceTolerance());
         for (TransverseLoad l : loads){
             in.addLoad(l.getCopy());
         }
@@ -0,0 +1,104 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+/**
+ * Speicher für Eigenvektoren in einem zusammenhängenden Feld. Der
+ * Eigenvektor k belegt die Einträge k*m*n bis (k+1)*m*n-1, der Koeffizient
+ * des Terms (pp, qq) liegt dabei an der Stelle pp*n+qq.
+ *
+ * @author Andreas Hauffe
+ */
+final class EigenvectorStore {
+
+    private final int m;
+    private final int n;
+    private final int count;
+    private final double[] data;
+
+    /**
+     * Übernimmt die Eigenvektoren aus dem Ergebnisfeld der Eigenwertlöser.
+     *
+     * @param eigenvectors Eigenvektoren [Anzahl][m][n]
+     * @param m Anzahl der Terme in x-Richtung
+     * @param n Anzahl der Terme in y-Richtung
+     */
+    EigenvectorStore(double[][][] eigenvectors, int m, int n) {
+        this.m = m;
+        this.n = n;
+        this.count = eigenvectors.length;
+        this.data = new double[count * m * n];
+        for (int k = 0; k < count; k++) {
+            for (int pp = 0; pp < m; pp++) {
+                System.arraycopy(eigenvectors[k][pp], 0, data, (k * m + pp) * n, n);
+            }
+        }
+    }
+
+    /**
+     * Übernimmt das zusammenhängende Ergebnisfeld der Eigenwertlöser (siehe
+     * {@link de.elamx.mathtools.MatrixTools#getEigenValuesBlockwise(double[][], double[][], int, int, int, double[])})
+     * ohne Kopie.
+     *
+     * @param data Eigenvektoren, der Eigenvektor k beginnt an der Stelle
+     * k*m*n
+     * @param count Anzahl der gültigen Eigenvektoren in <code>data</code>
+     * @param m Anzahl der Terme in x-Richtung
+     * @param n Anzahl der Terme in y-Richtung
+     */
+    EigenvectorStore(double[] data, int count, int m, int n) {
+        this.m = m;
+        this.n = n;
+        this.count = count;
+        this.data = data;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return Eigenvektor k als m x n Feld (Kopie)
+     */
+    double[][] get(int k) {
+        double[][] eigenvector = new double[m][n];
+        for (int pp = 0; pp < m; pp++) {
+            System.arraycopy(data, (k * m + pp) * n, eigenvector[pp], 0, n);
+        }
+        return eigenvector;
+    }
+
+    /**
+     * @return alle gespeicherten Eigenvektoren als [Anzahl][m][n] Feld
+     */
+    double[][][] toArray() {
+        double[][][] eigenvectors = new double[count][][];
+        for (int k = 0; k < count; k++) {
+            eigenvectors[k] = get(k);
+        }
+        return eigenvectors;
+    }
+}
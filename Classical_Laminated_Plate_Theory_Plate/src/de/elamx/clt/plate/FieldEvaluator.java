@@ -0,0 +1,147 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.plate.Boundary.Boundary;
+import java.util.Arrays;
+
+/**
+ * Auswertung von Feldgrößen des Ritz-Ansatzes
+ * w(x,y) = Summe(c[mm][nn] * X_mm(x) * Y_nn(y)) und deren Ableitungen auf einem
+ * Raster. Die eindimensionalen Ansatzfunktionen werden dazu einmalig auf den
+ * Rasterpunkten in x- und y-Richtung tabelliert. Das Feld ergibt sich dann als
+ * Matrixprodukt Wx * C * Wy' ohne weitere Auswertung von Winkel- und
+ * Exponentialfunktionen.
+ *
+ * @author Andreas Hauffe
+ */
+public final class FieldEvaluator {
+
+    private final int m;
+    private final int n;
+    private final int nx;
+    private final int ny;
+    // [Ableitung][Rasterpunkt][Ansatzfunktion]
+    private final double[][][] tableX = new double[3][][];
+    private final double[][][] tableY = new double[3][][];
+    private final double[][] temp;
+
+    /**
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param x Rasterpunkte in x-Richtung (0 bis Länge)
+     * @param y Rasterpunkte in y-Richtung (0 bis Breite)
+     * @param maxDerivative höchste benötigte Ableitung (0, 1 oder 2)
+     */
+    public FieldEvaluator(Boundary bx, Boundary by, int m, int n, double[] x, double[] y, int maxDerivative) {
+        this.m = m;
+        this.n = n;
+        this.nx = x.length;
+        this.ny = y.length;
+        for (int d = 0; d <= maxDerivative; d++) {
+            tableX[d] = new double[nx][m];
+            tableY[d] = new double[ny][n];
+        }
+        bx.tabulate(x, m, tableX[0], tableX[1], tableX[2]);
+        by.tabulate(y, n, tableY[0], tableY[1], tableY[2]);
+        temp = new double[nx][n];
+    }
+
+    /**
+     * Liefert elements+1 äquidistante Rasterpunkte von 0 bis a.
+     *
+     * @param a Länge
+     * @param elements Anzahl der Elemente
+     * @return Rasterpunkte
+     */
+    public static double[] getGrid(double a, int elements) {
+        double[] grid = new double[elements + 1];
+        double size = a / elements;
+        for (int ii = 0; ii <= elements; ii++) {
+            grid[ii] = ii * size;
+        }
+        return grid;
+    }
+
+    /**
+     * Berechnet die Ableitung d^(dx+dy) w / (dx^dx dy^dy) an allen
+     * Rasterpunkten.
+     *
+     * @param c Koeffizienten des Ritz-Ansatzes [m][n]
+     * @param dx Ableitungsordnung in x-Richtung
+     * @param dy Ableitungsordnung in y-Richtung
+     * @return Feld [Rasterpunkt x][Rasterpunkt y]
+     */
+    public double[][] getField(double[][] c, int dx, int dy) {
+        double[][] field = new double[nx][ny];
+        getField(c, dx, dy, field);
+        return field;
+    }
+
+    /**
+     * Wie {@link #getField(double[][], int, int)}, schreibt das Ergebnis aber
+     * in das übergebene Feld.
+     *
+     * @param c Koeffizienten des Ritz-Ansatzes [m][n]
+     * @param dx Ableitungsordnung in x-Richtung
+     * @param dy Ableitungsordnung in y-Richtung
+     * @param field Ergebnis [Rasterpunkt x][Rasterpunkt y]
+     */
+    public void getField(double[][] c, int dx, int dy, double[][] field) {
+        double[][] wx = tableX[dx];
+        double[][] wy = tableY[dy];
+
+        // temp = Wx * C
+        for (int ii = 0; ii < nx; ii++) {
+            double[] wxRow = wx[ii];
+            double[] tRow = temp[ii];
+            Arrays.fill(tRow, 0.0);
+            for (int mm = 0; mm < m; mm++) {
+                double val = wxRow[mm];
+                double[] cRow = c[mm];
+                for (int nn = 0; nn < n; nn++) {
+                    tRow[nn] += val * cRow[nn];
+                }
+            }
+        }
+
+        // field = temp * Wy'
+        for (int ii = 0; ii < nx; ii++) {
+            double[] tRow = temp[ii];
+            double[] fRow = field[ii];
+            for (int jj = 0; jj < ny; jj++) {
+                double[] wyRow = wy[jj];
+                double val = 0.0;
+                for (int nn = 0; nn < n; nn++) {
+                    val += tRow[nn] * wyRow[nn];
+                }
+                fRow[jj] = val;
+            }
+        }
+    }
+}
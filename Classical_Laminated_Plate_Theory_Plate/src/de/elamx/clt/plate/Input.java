@@ -48,6 +48,10 @@ public abstract class Input{
     public static final String PROP_M = "m";
     public static final String PROP_N = "n";
     public static final String PROP_STIFF_PROP = "PROP_STIFF_PROP";
+    public static final String PROP_NUMBER_OF_MODES = "numberOfModes";
+    public static final String PROP_CONVERGENCE_TOLERANCE = "convergenceTolerance";
+    public static final String PROP_NUMBER_OF_STORED_EIGENVECTORS = "numberOfStoredEigenvectors";
+    public static final int DEFAULT_NUMBER_OF_STORED_EIGENVECTORS = 10;
     private double  length;
     private double  width;
     private DMatrixService dMatService;
@@ -55,6 +59,9 @@ public abstract class Input{
     private int     bcy;
     private int     m;
     private int     n;
+    private int     numberOfModes = 0;
+    private double  convergenceTolerance = 0.0;
+    private int     numberOfStoredEigenvectors = DEFAULT_NUMBER_OF_STORED_EIGENVECTORS;
     private boolean notify = true;
     @SuppressWarnings("this-escape")
     private final transient PropertyChangeSupport propertyChangeSupport = new java.beans.PropertyChangeSupport(this);
@@ -186,6 +193,70 @@ public abstract class Input{
         firePropertyChange(PROP_N, oldN, n);
     }
     
+    /**
+     * Anzahl der zu berechnenden Eigenformen. Bei einem Wert kleiner gleich
+     * null werden alle m*n Eigenformen berechnet, ansonsten nur die
+     * entsprechende Anzahl der kleinsten positiven Eigenwerte.
+     *
+     * @return the numberOfModes
+     */
+    public int getNumberOfModes() {
+        return numberOfModes;
+    }
+
+    /**
+     * @param numberOfModes the numberOfModes to set
+     */
+    public void setNumberOfModes(int numberOfModes) {
+        int oldNumberOfModes = this.numberOfModes;
+        this.numberOfModes = numberOfModes;
+        firePropertyChange(PROP_NUMBER_OF_MODES, oldNumberOfModes, numberOfModes);
+    }
+    
+    /**
+     * Toleranz für die adaptive Wahl der Termanzahl. Bei einem Wert kleiner
+     * gleich null werden genau m x n Terme verwendet. Ansonsten sind m und n
+     * die maximalen Termanzahlen und die Berechnung beginnt mit wenigen
+     * Termen, die erhöht werden, bis sich die maßgebende Ergebnisgröße
+     * (kleinster positiver Beuleigenwert, kleinste Eigenfrequenzen bzw.
+     * maximale Durchbiegung) relativ um weniger als die Toleranz ändert.
+     *
+     * @return the convergenceTolerance
+     */
+    public double getConvergenceTolerance() {
+        return convergenceTolerance;
+    }
+
+    /**
+     * @param convergenceTolerance the convergenceTolerance to set
+     */
+    public void setConvergenceTolerance(double convergenceTolerance) {
+        double oldConvergenceTolerance = this.convergenceTolerance;
+        this.convergenceTolerance = convergenceTolerance;
+        firePropertyChange(PROP_CONVERGENCE_TOLERANCE, oldConvergenceTolerance, convergenceTolerance);
+    }
+
+    /**
+     * Anzahl der Eigenvektoren, die im Ergebnis gespeichert werden. Die
+     * Eigenwerte werden unabhängig davon vollständig gespeichert. Weitere
+     * Eigenvektoren werden bei Bedarf nachberechnet (siehe
+     * {@link BucklingResult#getEigenvector(int)}).
+     *
+     * @return the numberOfStoredEigenvectors
+     */
+    public int getNumberOfStoredEigenvectors() {
+        return numberOfStoredEigenvectors;
+    }
+
+    /**
+     * @param numberOfStoredEigenvectors the numberOfStoredEigenvectors to set
+     */
+    public void setNumberOfStoredEigenvectors(int numberOfStoredEigenvectors) {
+        int oldNumberOfStoredEigenvectors = this.numberOfStoredEigenvectors;
+        this.numberOfStoredEigenvectors = numberOfStoredEigenvectors;
+        firePropertyChange(PROP_NUMBER_OF_STORED_EIGENVECTORS, oldNumberOfStoredEigenvectors, numberOfStoredEigenvectors);
+    }
+    
     public void addStiffenerProperty(StiffenerProperties prop){
         stiffProps.add(prop);
         prop.addPropertyChangeListener(WeakListeners.propertyChange(sCl, prop));
@@ -26,6 +26,7 @@
 package de.elamx.clt.plate.Mechanical;
 
 import de.elamx.clt.plate.Boundary.Boundary;
+import java.util.Arrays;
 
 /**
  * In this class the object load is created which contains the geometric
@@ -44,9 +45,6 @@ public class InplaneLoad {
     private double my_  = 0.0;
     private double mxy_ = 0.0;
 
-    private int k; // 1. Index der Steifigkeitsmatrix
-    private int l; // 2. Index der Steifigkeitsmatrix
-    
     /**
      * load plate contains the 3 in-plane loads - 2 of axial compression and 1 of shear load.
      * Die Lasten müssen für Druck negativ sein und für Zug positiv.
@@ -95,20 +93,14 @@ public class InplaneLoad {
      * @param by Randbedingungsobjekt in y-Richtung
      */
     public void add(double[][] Kgmat, int m, int n, Boundary bx, Boundary by){
-        k = -1;
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){
-                        l++;
-                        Kgmat[k][l] = nx_  * ( bx.IdXdX(ii,pp) * by.IXX(jj,qq) )
-                                    + nxy_ * ( bx.IXdX(ii,pp)  * by.IXdX(qq,jj) + bx.IXdX(pp,ii) * by.IXdX(jj,qq) )
-                                    + ny_  * ( bx.IXX(ii,pp)   * by.IdXdX(jj,qq) );
-                    }
-                }
-            }
+        for (double[] row : Kgmat){
+            Arrays.fill(row, 0.0);
         }
+        KroneckerSum sum = new KroneckerSum(m, n, bx, by);
+        sum.addTerm(nx_,  Boundary.TABLE_IDXDX, true,  Boundary.TABLE_IXX,   true);
+        sum.addTerm(nxy_, Boundary.TABLE_IXDX,  true,  Boundary.TABLE_IXDX,  false);
+        sum.addTerm(nxy_, Boundary.TABLE_IXDX,  false, Boundary.TABLE_IXDX,  true);
+        sum.addTerm(ny_,  Boundary.TABLE_IXX,   true,  Boundary.TABLE_IDXDX, true);
+        sum.addToMatrix(Kgmat, 1.0);
     }
 }
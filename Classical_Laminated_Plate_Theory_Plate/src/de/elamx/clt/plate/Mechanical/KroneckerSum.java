@@ -0,0 +1,186 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate.Mechanical;
+
+import de.elamx.clt.plate.Boundary.Boundary;
+import java.util.ArrayList;
+
+/**
+ * Assemblierung symmetrischer Ritz-Matrizen als Summe von Kronecker-Produkten
+ * der eindimensionalen Integraltabellen. Der Eintrag zu den Indizes
+ * k = pp*n+qq und l = ii*n+jj ergibt sich zu
+ * Summe(A_t[pp][ii] * B_t[qq][jj]). Es wird nur die obere Dreiecksmatrix
+ * zeilenweise in ein gepacktes Feld geschrieben.
+ *
+ * @author Andreas Hauffe
+ */
+public final class KroneckerSum {
+
+    private final int m;
+    private final int n;
+    private final Boundary bx;
+    private final Boundary by;
+    private final double[][][] tablesX = new double[6][][];
+    private final double[][][] tablesY = new double[6][][];
+    private final ArrayList<double[][]> factorsX = new ArrayList<>();
+    private final ArrayList<double[][]> factorsY = new ArrayList<>();
+
+    /**
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public KroneckerSum(int m, int n, Boundary bx, Boundary by) {
+        this.m = m;
+        this.n = n;
+        this.bx = bx;
+        this.by = by;
+    }
+
+    /**
+     * Fügt den Term factor * Ix(.,.) * Iy(.,.) hinzu.
+     *
+     * @param factor Vorfaktor
+     * @param typeX Integral in x-Richtung, z.B. {@link Boundary#TABLE_IXX}
+     * @param transposeX false: Ix(pp,ii), true: Ix(ii,pp)
+     * @param typeY Integral in y-Richtung, z.B. {@link Boundary#TABLE_IXX}
+     * @param transposeY false: Iy(qq,jj), true: Iy(jj,qq)
+     */
+    public void addTerm(double factor, int typeX, boolean transposeX, int typeY, boolean transposeY) {
+        if (factor == 0.0) {
+            return;
+        }
+        addTerm(getFactorX(factor, typeX, transposeX), getFactorY(1.0, typeY, transposeY));
+    }
+
+    /**
+     * Fügt den Term a[pp][ii] * b[qq][jj] hinzu.
+     *
+     * @param a Faktor in x-Richtung (m x m)
+     * @param b Faktor in y-Richtung (n x n)
+     */
+    public void addTerm(double[][] a, double[][] b) {
+        factorsX.add(a);
+        factorsY.add(b);
+    }
+
+    /**
+     * Liefert factor * Ix(pp,ii) bzw. factor * Ix(ii,pp) als Feld [pp][ii].
+     */
+    public double[][] getFactorX(double factor, int typeX, boolean transposeX) {
+        if (tablesX[typeX] == null) {
+            tablesX[typeX] = bx.getIntegralTable(typeX, m);
+        }
+        return getFactor(factor, tablesX[typeX], transposeX);
+    }
+
+    /**
+     * Liefert factor * Iy(qq,jj) bzw. factor * Iy(jj,qq) als Feld [qq][jj].
+     */
+    public double[][] getFactorY(double factor, int typeY, boolean transposeY) {
+        if (tablesY[typeY] == null) {
+            tablesY[typeY] = by.getIntegralTable(typeY, n);
+        }
+        return getFactor(factor, tablesY[typeY], transposeY);
+    }
+
+    private static double[][] getFactor(double factor, double[][] table, boolean transpose) {
+        int size = table.length;
+        double[][] a = new double[size][size];
+        for (int ii = 0; ii < size; ii++) {
+            for (int jj = 0; jj < size; jj++) {
+                a[ii][jj] = factor * (transpose ? table[jj][ii] : table[ii][jj]);
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Addiert die obere Dreiecksmatrix (inklusive Hauptdiagonale) zeilenweise
+     * gepackt auf <code>packed</code>. Der Eintrag (k, l) mit l &gt;= k steht an
+     * der Stelle {@link #packedIndex(int, int, int)}.
+     *
+     * @param packed gepacktes Feld der Länge nm*(nm+1)/2
+     */
+    public void addToPacked(double[] packed) {
+        int nm = m * n;
+        int terms = factorsX.size();
+        double[][][] a = factorsX.toArray(new double[terms][][]);
+        double[][][] b = factorsY.toArray(new double[terms][][]);
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                int k = pp * n + qq;
+                int rowOffset = packedIndex(nm, k, k) - k;
+                for (int ii = pp; ii < m; ii++) {
+                    int jjStart = ii == pp ? qq : 0;
+                    int offset = rowOffset + ii * n;
+                    for (int t = 0; t < terms; t++) {
+                        double aVal = a[t][pp][ii];
+                        if (aVal == 0.0) {
+                            continue;
+                        }
+                        double[] bRow = b[t][qq];
+                        for (int jj = jjStart; jj < n; jj++) {
+                            packed[offset + jj] += aVal * bRow[jj];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Addiert die Matrix auf das volle Feld <code>mat</code>.
+     *
+     * @param mat Matrix (m*n x m*n)
+     * @param sign Vorzeichen bzw. Faktor, mit dem addiert wird
+     */
+    public void addToMatrix(double[][] mat, double sign) {
+        int nm = m * n;
+        double[] packed = new double[nm * (nm + 1) / 2];
+        addToPacked(packed);
+        int idx = 0;
+        for (int k = 0; k < nm; k++) {
+            double[] row = mat[k];
+            for (int l = k; l < nm; l++) {
+                double val = sign * packed[idx++];
+                row[l] += val;
+                if (l != k) {
+                    mat[l][k] += val;
+                }
+            }
+        }
+    }
+
+    /**
+     * Index des Eintrags (k, l), l &gt;= k, im zeilenweise gepackten oberen
+     * Dreieck einer nm x nm Matrix.
+     */
+    public static int packedIndex(int nm, int k, int l) {
+        return k * nm - k * (k - 1) / 2 + (l - k);
+    }
+}
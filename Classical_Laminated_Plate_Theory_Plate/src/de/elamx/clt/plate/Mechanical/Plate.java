@@ -107,30 +107,61 @@ public class Plate {
      * @param by Randbedingungsobjekt in y-Richtung
      */
     public void addStiffness(CLT_Laminate laminat, double[][] kmat, int m, int n, DMatrixService dMatServ, Boundary bx, Boundary by){
+        getStiffnessSum(laminat, m, n, dMatServ, bx, by).addToMatrix(kmat, 1.0);
+    }
+
+    /**
+     * Fügt die Eigenschaften der Platte der Steifigkeitsmatix wie
+     * {@link #addStiffness(CLT_Laminate, double[][], int, int, DMatrixService, Boundary, Boundary)}
+     * hinzu. Die symmetrische Steifigkeitsmatrix ist dabei als zeilenweise
+     * gepackte obere Dreiecksmatrix der Länge m*n*(m*n+1)/2 gespeichert.
+     * @param laminat Laminat der Platte
+     * @param kPacked gepackte Steifigkeitsmatrix
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param dMatServ Objekt, das eine eventuell angepasst D-Matrix des Laminates für die Berechnung bereitstellt
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public void addStiffness(CLT_Laminate laminat, double[] kPacked, int m, int n, DMatrixService dMatServ, Boundary bx, Boundary by){
+        getStiffnessSum(laminat, m, n, dMatServ, bx, by).addToPacked(kPacked);
+    }
+
+    /**
+     * Fügt die Eigenschaften der Platte der Steifigkeitsmatix für eine bereits
+     * bestimmte D-Matrix hinzu. Damit kann die D-Matrix bei mehreren
+     * Berechnungen mit demselben Laminat wiederverwendet werden.
+     * @param dmat D-Matrix des Laminates (3x3)
+     * @param kmat Steifigkeitsmatrix (m*n x m*n)
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public void addStiffness(double[][] dmat, double[][] kmat, int m, int n, Boundary bx, Boundary by){
+        getStiffnessSum(dmat, m, n, bx, by).addToMatrix(kmat, 1.0);
+    }
 
+    private KroneckerSum getStiffnessSum(CLT_Laminate laminat, int m, int n, DMatrixService dMatServ, Boundary bx, Boundary by){
         // Hier wird die D-Matrix des Laminates gespeichert.
         // Gegebenenfalls Nutzung von D-Tilde anstelle von D Matrix
-        double [][] dmat = dMatServ.getDMatrix(laminat);
+        return getStiffnessSum(dMatServ.getDMatrix(laminat), m, n, bx, by);
+    }
 
-        int k = -1; // Laufvariable (1. Index) für die Steifigkeitsmatrix
-        int l = -1; // Laufvariable (2. Index) für die Steifigkeitsmatrix
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){                        
-                        l++;
-                        kmat[k][l] += ( dmat[0][0]*(bx.IdX2dX2(ii,pp) * by.IXX(jj,qq))
-                                    +   dmat[0][1]*(bx.IXdX2(ii,pp)   * by.IXdX2(qq,jj)   + bx.IXdX2(pp,ii)  * by.IXdX2(jj,qq))
-                                    + 2*dmat[0][2]*(bx.IdXdX2(ii,pp)  * by.IXdX(qq,jj)    + bx.IdXdX2(pp,ii) * by.IXdX(jj,qq))
-                                    +   dmat[1][1]*(bx.IXX(ii,pp)     * by.IdX2dX2(jj,qq))
-                                    + 2*dmat[1][2]*(bx.IXdX(pp,ii)    * by.IdXdX2(jj,qq)  + bx.IXdX(ii,pp)   * by.IdXdX2(qq,jj))
-                                    + 4*dmat[2][2]*(bx.IdXdX(ii,pp)   * by.IdXdX(jj,qq)));
-                    }
-                }
-            }
-        }
+    private KroneckerSum getStiffnessSum(double[][] dmat, int m, int n, Boundary bx, Boundary by){
+
+        // Eintrag (pp,qq),(ii,jj) als Summe von Produkten der 1D-Integrale
+        KroneckerSum sum = new KroneckerSum(m, n, bx, by);
+        sum.addTerm(  dmat[0][0], Boundary.TABLE_IDX2DX2, true,  Boundary.TABLE_IXX,     true);
+        sum.addTerm(  dmat[0][1], Boundary.TABLE_IXDX2,   true,  Boundary.TABLE_IXDX2,   false);
+        sum.addTerm(  dmat[0][1], Boundary.TABLE_IXDX2,   false, Boundary.TABLE_IXDX2,   true);
+        sum.addTerm(2*dmat[0][2], Boundary.TABLE_IDXDX2,  true,  Boundary.TABLE_IXDX,    false);
+        sum.addTerm(2*dmat[0][2], Boundary.TABLE_IDXDX2,  false, Boundary.TABLE_IXDX,    true);
+        sum.addTerm(  dmat[1][1], Boundary.TABLE_IXX,     true,  Boundary.TABLE_IDX2DX2, true);
+        sum.addTerm(2*dmat[1][2], Boundary.TABLE_IXDX,    false, Boundary.TABLE_IDXDX2,  true);
+        sum.addTerm(2*dmat[1][2], Boundary.TABLE_IXDX,    true,  Boundary.TABLE_IDXDX2,  false);
+        sum.addTerm(4*dmat[2][2], Boundary.TABLE_IDXDX,   true,  Boundary.TABLE_IDXDX,   true);
+        return sum;
     }
     
     /**
@@ -145,8 +176,21 @@ public class Plate {
      * @param by Randbedingungsobjekt in y-Richtung
      */
     public void addMass(CLT_Laminate laminat, double[][] mmat, int m, int n, Boundary bx, Boundary by){
-        
-        MassMoments mm = laminat.getMassMoments();
+        addMass(laminat.getMassMoments(), mmat, m, n, bx, by);
+    }
+
+    /**
+     * Fügt die Eigenschaften der Platte der Massenmatrix für bereits
+     * bestimmte Massenmomente hinzu.
+     * @param mm Massenmomente des Laminates, bei <code>null</code> wird
+     * nichts hinzugefügt
+     * @param mmat Massenmatrix (m*n x m*n)
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public void addMass(MassMoments mm, double[][] mmat, int m, int n, Boundary bx, Boundary by){
         
         if (mm == null){
             return;
@@ -155,21 +199,11 @@ public class Plate {
         double I0 = mm.getI0();
         double I2 = mm.getI2();
         
-        int k = -1; // Laufvariable (1. Index) für die Steifigkeitsmatrix
-        int l = -1; // Laufvariable (2. Index) für die Steifigkeitsmatrix
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){                        
-                        l++;
-                        mmat[k][l] -= (I0*bx.IXX(ii,pp)*by.IXX(jj,qq)
-                                    +  I2*(bx.IdXdX(ii,pp)*by.IXX(jj,qq) + bx.IXX(ii,pp)*by.IdXdX(jj,qq)));
-                    }
-                }
-            }
-        }
+        KroneckerSum sum = new KroneckerSum(m, n, bx, by);
+        sum.addTerm(I0, Boundary.TABLE_IXX,   true, Boundary.TABLE_IXX,   true);
+        sum.addTerm(I2, Boundary.TABLE_IDXDX, true, Boundary.TABLE_IXX,   true);
+        sum.addTerm(I2, Boundary.TABLE_IXX,   true, Boundary.TABLE_IDXDX, true);
+        sum.addToMatrix(mmat, -1.0);
     }
     
     public void addStiffnessAndMass(CLT_Laminate laminat, double[][] kmat, double[][] mmat, int m, int n, DMatrixService dMatServ, Boundary bx, Boundary by){
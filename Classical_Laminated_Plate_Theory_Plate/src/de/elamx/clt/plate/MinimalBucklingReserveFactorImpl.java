@@ -43,11 +43,18 @@ public class MinimalBucklingReserveFactorImpl implements MinimalReserveFactorCal
     private final BucklingInput input;
 
     public MinimalBucklingReserveFactorImpl() {
-        input = new BucklingInput();
+        this(new BucklingInput());
     }
     
+    /**
+     * @param input Eingabe, es wird mit einer Kopie gerechnet, da die Anzahl
+     * der Eigenwerte und der gespeicherten Eigenvektoren angepasst wird
+     */
     public MinimalBucklingReserveFactorImpl(BucklingInput input) {
-        this.input = input;
+        this.input = (BucklingInput) input.copy();
+        // Für den Reservefaktor wird nur der kleinste positive Eigenwert benötigt.
+        this.input.setNumberOfModes(1);
+        this.input.setNumberOfStoredEigenvectors(0);
     }
     
     @Override
@@ -76,7 +83,7 @@ public class MinimalBucklingReserveFactorImpl implements MinimalReserveFactorCal
 
     @Override
     public MinimalReserveFactorCalculator getCopy() {
-        return new MinimalBucklingReserveFactorImpl((BucklingInput)input.copy());
+        return new MinimalBucklingReserveFactorImpl(input);
     }
 
     @Override
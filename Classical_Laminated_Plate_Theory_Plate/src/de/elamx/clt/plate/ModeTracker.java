@@ -0,0 +1,107 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.mathtools.MatrixTools;
+
+/**
+ * Verfolgt die Eigenformen entlang einer Folge von Eigenwertrechnungen
+ * (Fortsetzung). Die Eigenvektoren des letzten Punktes dienen als
+ * Startvektoren für den nächsten Punkt und zur Zuordnung der Eigenformen über
+ * das Modal Assurance Criterion.
+ *
+ * @author Andreas Hauffe
+ */
+final class ModeTracker {
+
+    /**
+     * Kleinster MAC-Wert, ab dem zwei Eigenformen benachbarter Punkte als
+     * dieselbe Eigenform gelten.
+     */
+    static final double MIN_MAC = 0.7;
+
+    private double[][][] previous;
+    private int[] previousIds;
+    private int nextId = 0;
+
+    /**
+     * Erzeugt die Eingabe für einen Punkt der Fortsetzung. Es werden nur die
+     * kleinsten positiven Eigenwerte bestimmt und für alle die Eigenvektoren
+     * gespeichert, damit jeder Eigenwert eine Kennung erhält. Die Anzahl ist
+     * {@link Input#getNumberOfModes()} oder, falls diese nicht gesetzt ist,
+     * {@link Input#getNumberOfStoredEigenvectors()}.
+     *
+     * @param input Eingabe des Punktes, wird nicht verändert
+     * @return angepasste Kopie der Eingabe
+     */
+    static Input getContinuationInput(Input input) {
+        int modes = input.getNumberOfModes() > 0 ? input.getNumberOfModes() : input.getNumberOfStoredEigenvectors();
+        modes = Math.max(1, Math.min(modes, input.getM() * input.getN()));
+        Input in = input.copy();
+        in.setNumberOfModes(modes);
+        in.setNumberOfStoredEigenvectors(modes);
+        return in;
+    }
+
+    /**
+     * Liefert die Eigenvektoren des letzten Punktes für m x n Terme. Wegen der
+     * hierarchischen Ansatzfunktionen werden bei abweichender Termanzahl die
+     * gemeinsamen Terme übernommen.
+     *
+     * @return Startvektoren [Anzahl][m][n] oder <code>null</code> für den
+     * ersten Punkt
+     */
+    double[][][] getStartVectors(int m, int n) {
+        if (previous == null || previous.length == 0) {
+            return null;
+        }
+        if (previous[0].length == m && previous[0][0].length == n) {
+            return previous;
+        }
+        double[][][] start = new double[previous.length][m][n];
+        for (int k = 0; k < previous.length; k++) {
+            for (int mm = 0; mm < Math.min(m, previous[k].length); mm++) {
+                System.arraycopy(previous[k][mm], 0, start[k][mm], 0, Math.min(n, previous[k][mm].length));
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Ordnet die Eigenformen des Ergebnisses denen des letzten Punktes zu und
+     * setzt die Kennungen (siehe {@link Result#getModeIds()}).
+     */
+    void track(Result result, double[][][] eigenvectors) {
+        int[] assignment = previous == null ? null : MatrixTools.getModeAssignment(previous, eigenvectors, MIN_MAC);
+        int[] ids = new int[eigenvectors.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = assignment != null && assignment[i] >= 0 ? previousIds[assignment[i]] : nextId++;
+        }
+        result.setModeIds(ids);
+        previous = eigenvectors;
+        previousIds = ids;
+    }
+}
@@ -35,6 +35,9 @@ public abstract class Result {
     
     private final CLT_Laminate laminate;
     private final Input input;
+    private double convergenceError = Double.NaN;
+    private boolean converged = false;
+    private int[] modeIds;
 
     public Result(CLT_Laminate laminate, Input input) {
         this.laminate = laminate;
@@ -48,4 +51,49 @@ public abstract class Result {
     public Input getInput() {
         return input;
     }
+
+    /**
+     * Relative Änderung der überwachten Ergebnisgröße im letzten Schritt der
+     * adaptiven Termanzahlwahl (siehe {@link Input#getConvergenceTolerance()}).
+     * Die erreichte Termanzahl steht in {@link #getInput()}.
+     *
+     * @return relative Änderung oder NaN, wenn die Termanzahl fest vorgegeben
+     * war bzw. kein Vergleich möglich war
+     */
+    public double getConvergenceError() {
+        return convergenceError;
+    }
+
+    /**
+     * @return true, wenn die adaptive Termanzahlwahl die geforderte Toleranz
+     * erreicht hat
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    void setConvergence(double convergenceError, boolean converged) {
+        this.convergenceError = convergenceError;
+        this.converged = converged;
+    }
+
+    /**
+     * Kennungen der Eigenformen bei einer Fortsetzungsrechnung (z.B.
+     * {@link Buckling#calcContinuation(CLT_Laminate, java.util.List)}). Eine
+     * Eigenform, die über das Modal Assurance Criterion einer Eigenform des
+     * vorherigen Punktes zugeordnet wurde, behält deren Kennung, auch wenn
+     * sich die Reihenfolge der Eigenwerte ändert. Neue Eigenformen erhalten
+     * eine neue Kennung.
+     *
+     * @return Kennung je gespeicherter Eigenform, bei der Fortsetzungsrechnung
+     * in der Regel je Eigenwert, oder <code>null</code>, wenn die Eigenformen
+     * nicht verfolgt wurden
+     */
+    public int[] getModeIds() {
+        return modeIds;
+    }
+
+    void setModeIds(int[] modeIds) {
+        this.modeIds = modeIds;
+    }
 }
@@ -27,6 +27,8 @@ package de.elamx.clt.plate.Stiffener;
 
 import de.elamx.clt.plate.Boundary.Boundary;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  *
@@ -67,6 +69,75 @@ public abstract class Stiffener {
         addMass(mmat, m, n, bx, by);
     }
 
+    /**
+     * Fügt die Steifigkeiten aller übergebenen Versteifungen hinzu. Die
+     * Versteifungen werden nach ihrer Richtung zusammengefasst und jeweils in
+     * einem Durchgang assembliert, z.B. für Paneele mit vielen Stringern.
+     *
+     * @param stiffeners Versteifungen
+     * @param kmat Steifigkeitsmatrix (m*n x m*n)
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public static void addStiffness(List<? extends Stiffener> stiffeners, double[][] kmat, int m, int n, Boundary bx, Boundary by) {
+        List<Stiffenerx> xStiffeners = new ArrayList<>();
+        List<Stiffenery> yStiffeners = new ArrayList<>();
+        for (Stiffener s : stiffeners) {
+            if (s instanceof Stiffenerx) {
+                xStiffeners.add((Stiffenerx) s);
+            } else if (s instanceof Stiffenery) {
+                yStiffeners.add((Stiffenery) s);
+            } else {
+                s.addStiffness(kmat, m, n, bx, by);
+            }
+        }
+        Stiffenerx.assembleStiffness(xStiffeners, kmat, m, n, bx, by);
+        Stiffenery.assembleStiffness(yStiffeners, kmat, m, n, bx, by);
+    }
+
+    /**
+     * Fügt die Steifigkeiten und Massen aller übergebenen Versteifungen hinzu.
+     *
+     * @param stiffeners Versteifungen
+     * @param kmat Steifigkeitsmatrix (m*n x m*n)
+     * @param mmat Massenmatrix (m*n x m*n)
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public static void addStiffnessAndMass(List<? extends Stiffener> stiffeners, double[][] kmat, double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+        addStiffness(stiffeners, kmat, m, n, bx, by);
+        List<Stiffenerx> xStiffeners = new ArrayList<>();
+        List<Stiffenery> yStiffeners = new ArrayList<>();
+        for (Stiffener s : stiffeners) {
+            if (s instanceof Stiffenerx) {
+                xStiffeners.add((Stiffenerx) s);
+            } else if (s instanceof Stiffenery) {
+                yStiffeners.add((Stiffenery) s);
+            } else {
+                s.addMass(mmat, m, n, bx, by);
+            }
+        }
+        Stiffenerx.assembleMass(xStiffeners, mmat, m, n, bx, by);
+        Stiffenery.assembleMass(yStiffeners, mmat, m, n, bx, by);
+    }
+
+    /**
+     * Addiert factor * w * w^T auf mat.
+     */
+    static void addOuterProduct(double[][] mat, double factor, double[] w) {
+        for (int ii = 0; ii < w.length; ii++) {
+            double fw = factor * w[ii];
+            double[] row = mat[ii];
+            for (int jj = 0; jj < w.length; jj++) {
+                row[jj] += fw * w[jj];
+            }
+        }
+    }
+
     public abstract int getDirection();
 
     public abstract String getDirectionAsString();
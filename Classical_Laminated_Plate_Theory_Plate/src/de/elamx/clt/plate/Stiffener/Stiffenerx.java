@@ -26,7 +26,10 @@
 package de.elamx.clt.plate.Stiffener;
 
 import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.KroneckerSum;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import java.util.Collections;
+import java.util.List;
 
 /**
  *
@@ -44,53 +47,81 @@ public class Stiffenerx extends Stiffener {
 
     @Override
     public void addStiffness(double[][] kmat, int m, int n, Boundary bx, Boundary by) {
-        int k, l;
-        
-        double tPos = position_ + by.getA()/2.0;
-
-        double E = props_.getE();
-        double I = props_.getI();
-        double G = props_.getG();
-        double J = props_.getJ();
-
-        k = -1;
-        for (int pp = 0; pp < m; pp++) {
-            for (int qq = 0; qq < n; qq++) {
-                k++;
-                l = -1;
-                for (int ii = 0; ii < m; ii++) {
-                    for (int jj = 0; jj < n; jj++) {
-                        l++;
-                        kmat[k][l] += E * I * bx.IdX2dX2(ii, pp) * by.wx(jj, tPos) * by.wx(qq, tPos)
-                                + G * J * bx.IdXdX(ii, pp) * by.wdx(jj, tPos) * by.wdx(qq, tPos);
-                    }
-                }
-            }
-        }
+        assembleStiffness(Collections.singletonList(this), kmat, m, n, bx, by);
     }
     
     @Override
     public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by){
-        int k,l;
-        
-        double tPos = position_ + bx.getA()/2.0;
-        
-        double rho = props_.getRho();
-        double A = props_.getA();
-        
-        k=-1;
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){
-                        l++;
-                        mmat[k][l] -= rho*A*bx.IXX(ii,pp)    *by.wx(jj,tPos) *by.wx(qq,tPos);
-                    }
-                }
+        assembleMass(Collections.singletonList(this), mmat, m, n, bx, by);
+    }
+
+    /**
+     * Fügt die Steifigkeiten mehrerer Versteifungen in x-Richtung in einem
+     * Durchgang hinzu. Die Ansatzfunktionen quer zur Versteifung werden je
+     * Versteifung nur einmal an deren Position ausgewertet und als gewichtete
+     * dyadische Produkte aufsummiert.
+     *
+     * @param stiffeners Versteifungen
+     * @param kmat Steifigkeitsmatrix (m*n x m*n)
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    static void assembleStiffness(List<Stiffenerx> stiffeners, double[][] kmat, int m, int n, Boundary bx, Boundary by) {
+        if (stiffeners.isEmpty()) {
+            return;
+        }
+        double[][] wEI = new double[n][n];
+        double[][] wGJ = new double[n][n];
+        double[] w = new double[n];
+        double[] wd = new double[n];
+        for (Stiffenerx s : stiffeners) {
+            double tPos = s.position_ + by.getA()/2.0;
+            for (int ii = 0; ii < n; ii++) {
+                w[ii] = by.wx(ii, tPos);
+                wd[ii] = by.wdx(ii, tPos);
             }
+            StiffenerProperties props = s.getProperties();
+            addOuterProduct(wEI, props.getE() * props.getI(), w);
+            addOuterProduct(wGJ, props.getG() * props.getJ(), wd);
         }
+
+        KroneckerSum sum = new KroneckerSum(m, n, bx, by);
+        sum.addTerm(sum.getFactorX(1.0, Boundary.TABLE_IDX2DX2, true), wEI);
+        sum.addTerm(sum.getFactorX(1.0, Boundary.TABLE_IDXDX, true), wGJ);
+        sum.addToMatrix(kmat, 1.0);
+    }
+
+    /**
+     * Fügt die Massen mehrerer Versteifungen in x-Richtung in einem
+     * Durchgang hinzu.
+     *
+     * @param stiffeners Versteifungen
+     * @param mmat Massenmatrix (m*n x m*n)
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    static void assembleMass(List<Stiffenerx> stiffeners, double[][] mmat, int m, int n, Boundary bx, Boundary by){
+        if (stiffeners.isEmpty()) {
+            return;
+        }
+        double[][] wRhoA = new double[n][n];
+        double[] w = new double[n];
+        for (Stiffenerx s : stiffeners) {
+            double tPos = s.position_ + bx.getA()/2.0;
+            for (int ii = 0; ii < n; ii++) {
+                w[ii] = by.wx(ii, tPos);
+            }
+            StiffenerProperties props = s.getProperties();
+            addOuterProduct(wRhoA, props.getRho() * props.getA(), w);
+        }
+
+        KroneckerSum sum = new KroneckerSum(m, n, bx, by);
+        sum.addTerm(sum.getFactorX(1.0, Boundary.TABLE_IXX, true), wRhoA);
+        sum.addToMatrix(mmat, -1.0);
     }
 
     @Override
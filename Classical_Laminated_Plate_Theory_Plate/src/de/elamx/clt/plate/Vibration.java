@@ -26,6 +26,7 @@
 package de.elamx.clt.plate;
 
 import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.CLT_Laminate.MassMoments;
 import de.elamx.clt.plate.Boundary.Boundary;
 import de.elamx.clt.plate.Boundary.Boundary_CC_200;
 import de.elamx.clt.plate.Boundary.Boundary_CF_200;
@@ -39,6 +40,9 @@ import de.elamx.clt.plate.Stiffener.Stiffener;
 import de.elamx.clt.plate.Stiffener.Stiffenerx;
 import de.elamx.clt.plate.Stiffener.Stiffenery;
 import de.elamx.mathtools.MatrixTools;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Diese Klasse enthält die statische Methode calc. Damit kann das Vibrationsproblem
@@ -55,11 +59,6 @@ import de.elamx.mathtools.MatrixTools;
  */
 public class Vibration {
 
-    private static int m_ = 10; //  number of terms used in ritz-approach in x-direction
-    private static int n_ = 10; //  number of terms used in ritz-approach in y-direction
-
-    private static double[][][] eigenvecs; // Eigenvektoren
-
     /**
      * Diese Methode berechnet für die gegebenen Daten die Eigenwerte und Eigenformen
      * Alle Ergebnisse werden im DataMemory (m, n, Eigenwerte, Eigenvektoren,
@@ -70,12 +69,93 @@ public class Vibration {
      * @return Ergebnisse der Vibrationsberechnung
      */
     public static VibrationResult calc(CLT_Laminate laminat, VibrationInput input){
-        
-        VibrationResult result = new VibrationResult(laminat, input);
+        return calc(laminat, input.getDMatrixService().getDMatrix(laminat), laminat.getMassMoments(), input);
+    }
+
+    /**
+     * Berechnung mit bereits bestimmter D-Matrix und Massenmomenten, z.B. den
+     * im Ergebnis gespeicherten (siehe {@link VibrationResult#getEigenvector(int)}).
+     */
+    static VibrationResult calc(CLT_Laminate laminat, double[][] dmat, MassMoments mm, VibrationInput input){
+
+        if (input.getConvergenceTolerance() > 0.0) {
+            return calcAdaptive(laminat, dmat, mm, input);
+        }
 
         // Speichern der Termanzahl
-        m_ = input.getM();
-        n_ = input.getN();
+        // m_ number of terms used in ritz-approach in x-direction
+        // n_ number of terms used in ritz-approach in y-direction
+        int m_ = input.getM();
+        int n_ = input.getN();
+
+        double[][][] mats = assemble(dmat, mm, input, m_, n_);
+        return solve(laminat, dmat, mm, input, mats[0], mats[1], m_, n_);
+    }
+
+    /**
+     * Berechnet die Eigenfrequenzen für eine Folge von Eingaben, die sich von Punkt
+     * zu Punkt nur wenig unterscheiden, z.B. bei einer Variation der Plattenabmessungen
+     * (Fortsetzungsrechnung). Der iterative Eigenwertlöser wird mit den
+     * Eigenvektoren des vorherigen Punktes gestartet und die Eigenformen
+     * werden über das Modal Assurance Criterion verfolgt (siehe
+     * {@link Result#getModeIds()}). Die adaptive Termanzahlwahl wird dabei
+     * nicht verwendet.
+     *
+     * <p>Bestimmt werden immer nur die kleinsten Eigenfrequenzen, deren
+     * Anzahl durch {@link Input#getNumberOfModes()} bzw., falls diese nicht
+     * gesetzt ist, durch {@link Input#getNumberOfStoredEigenvectors()}
+     * gegeben ist. Für alle werden die Eigenvektoren gespeichert, sodass jede
+     * Eigenfrequenz eine Kennung hat. Die Ergebnisse enthalten dazu eine
+     * entsprechend angepasste Kopie der Eingabe.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @param inputs Eingabegrößen in der Reihenfolge der Fortsetzung
+     * @return Ergebnisse in der Reihenfolge der Eingaben
+     */
+    public static List<VibrationResult> calcContinuation(CLT_Laminate laminat, List<VibrationInput> inputs) {
+        ModeTracker tracker = new ModeTracker();
+        List<VibrationResult> results = new ArrayList<>(inputs.size());
+        for (VibrationInput input : inputs) {
+            VibrationInput in = (VibrationInput) ModeTracker.getContinuationInput(input);
+            int m_ = in.getM();
+            int n_ = in.getN();
+            double[][] dmat = in.getDMatrixService().getDMatrix(laminat);
+            MassMoments mm = laminat.getMassMoments();
+            double[][][] mats = assemble(dmat, mm, in, m_, n_);
+            VibrationResult result = solve(laminat, dmat, mm, in, mats[0], mats[1], m_, n_, tracker.getStartVectors(m_, n_), true);
+            tracker.track(result, result.getStoredEigenvectors());
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Adaptive Wahl der Termanzahl (siehe
+     * {@link Input#getConvergenceTolerance()}). Überwacht werden die
+     * kleinsten Eigenfrequenzen, deren Anzahl durch
+     * {@link Input#getNumberOfModes()} gegeben ist (mindestens eine).
+     */
+    private static VibrationResult calcAdaptive(CLT_Laminate laminat, double[][] dmat, MassMoments mm, VibrationInput input) {
+        double[][][] mats = assemble(dmat, mm, input, input.getM(), input.getN());
+        AdaptiveTerms terms = new AdaptiveTerms(input.getM(), input.getN(), input.getConvergenceTolerance());
+        int monitored = Math.max(1, input.getNumberOfModes());
+        VibrationResult result;
+        do {
+            VibrationInput in = (VibrationInput) input.copy();
+            in.setM(terms.getM());
+            in.setN(terms.getN());
+            result = solve(laminat, dmat, mm, in, terms.getSubMatrix(mats[0]), terms.getSubMatrix(mats[1]), terms.getM(), terms.getN());
+        } while (terms.next(Arrays.copyOf(result.getFrequencies(), Math.min(monitored, result.getFrequencies().length))));
+        terms.setConvergence(result);
+        return result;
+    }
+
+    /**
+     * Baut Steifigkeitsmatrix und Massenmatrix für m_ x n_ Terme auf.
+     *
+     * @return {kmat, mmat}
+     */
+    private static double[][][] assemble(double[][] dmat, MassMoments mm, VibrationInput input, int m_, int n_) {
 
         double length = input.getLength();
         double width  = input.getWidth();
@@ -116,9 +196,11 @@ public class Vibration {
         double[][] mmat  = new double[m_*n_][m_*n_]; // Massenmatrix
 
         // Aufruf der Methoden add für Platte, Last zum Füllen von Kmat und Kgmat
-        plate.addStiffnessAndMass(laminat, kmat, mmat, m_, n_, input.getDMatrixService(), bx, by); // fill stiffness and mass matrix from Plate.class
+        plate.addMass(mm, mmat, m_, n_, bx, by);           // fill mass matrix from Plate.class
+        plate.addStiffness(dmat, kmat, m_, n_, bx, by);    // fill stiffness matrix from Plate.class
 
         
+        List<Stiffener> stiffeners = new ArrayList<>();
         for (StiffenerProperties s : input.getStiffenerProperties()) {
             Stiffener stiff;
             switch(s.getDirection()){
@@ -129,22 +211,60 @@ public class Vibration {
                 default:
                     stiff = new Stiffenerx(s, s.getPosition()); break;
             }
-            stiff.addStiffnessAndMass(kmat, mmat, m_, n_, bx, by);
+            stiffeners.add(stiff);
         }
+        Stiffener.addStiffnessAndMass(stiffeners, kmat, mmat, m_, n_, bx, by);
+
+        return new double[][][]{kmat, mmat};
+    }
+
+    /**
+     * Löst das Eigenwertproblem für die aufgebauten Matrizen.
+     */
+    private static VibrationResult solve(CLT_Laminate laminat, double[][] dmat, MassMoments mm, VibrationInput input, double[][] kmat, double[][] mmat, int m_, int n_) {
+        return solve(laminat, dmat, mm, input, kmat, mmat, m_, n_, null, false);
+    }
+
+    /**
+     * Löst das Eigenwertproblem für die aufgebauten Matrizen. Der iterative
+     * Eigenwertlöser wird gegebenenfalls mit den Startvektoren begonnen.
+     *
+     * @param partial true, wenn auch bei {@link Input#getNumberOfModes()}
+     * gleich m x n der iterative Eigenwertlöser verwendet werden soll
+     */
+    private static VibrationResult solve(CLT_Laminate laminat, double[][] dmat, MassMoments mm, VibrationInput input, double[][] kmat, double[][] mmat, int m_, int n_, double[][][] startvecs, boolean partial) {
+
+        VibrationResult result = new VibrationResult(laminat, input);
+        result.setLaminateData(dmat, mm);
+        double[] eigenvecs = null; // Eigenvektoren, zusammenhängend je m x n Terme
 
         // Initialiesierung des Eigenvektorfeldes
         // m und n werden unabhängig gespeichert, da dies für die 3D-Darstellung
         // Vorteile bringt
-        eigenvecs = new double[m_*n_][m_][n_];
-        
         // Eigener Eigenwertlöser
         // gelöst wird das Problem (K+lambda*M)*x=0,
         // wobei lambda=w_0^2 entspricht und in der Massenmatrix die negativen
         // Einträge stehen, sodass die Lösung (K-w_0^2*M)*x=0 entspricht.
-        double[] eigenvalues = MatrixTools.getEigenValues(mmat, kmat, m_*n_, m_, n_, eigenvecs);       // calculate eigenvalues and eigenvalues with eLamX eigenvaluesolver-method eigenvaluescalc
+        // es werden nur die zu speichernden Eigenvektoren bestimmt, die Löser
+        // schreiben sie direkt in das Feld des Ergebnisses
+        int stored = Math.max(0, input.getNumberOfStoredEigenvectors());
+        double[] eigenvalues = null;
+        if (input.getNumberOfModes() > 0 && (partial || input.getNumberOfModes() < m_*n_)) {
+            // nur die kleinsten Eigenfrequenzen
+            eigenvecs = new double[Math.min(input.getNumberOfModes(), stored) * m_*n_];
+            eigenvalues = MatrixTools.getLowestPositiveEigenValuesBlockwise(mmat, kmat, input.getNumberOfModes(), m_, n_, eigenvecs, startvecs);
+            if (eigenvalues.length == 0) {
+                eigenvalues = null;
+            }
+        }
+        if (eigenvalues == null) {
+            eigenvecs = new double[Math.min(m_*n_, stored) * m_*n_];
+            eigenvalues = MatrixTools.getEigenValuesBlockwise(mmat, kmat, m_*n_, m_, n_, eigenvecs);       // calculate eigenvalues and eigenvalues with eLamX eigenvaluesolver-method eigenvaluescalc
+        }
         
         // kleinsten positiven eigenwert aus array suchen nicht nötig, sollten nur positive eigenwerte sein
-        result.setEigenForms(eigenvalues, eigenvecs);
+        int count = Math.min(eigenvalues.length, eigenvecs.length / Math.max(1, m_*n_));
+        result.setEigenForms(eigenvalues, new EigenvectorStore(eigenvecs, count, m_, n_));
         
         return result;
     }
@@ -47,6 +47,9 @@ public class VibrationInput extends Input{
     @Override
     public Input copy() {
         VibrationInput in = new VibrationInput(getLength(), getWidth(), getDMatrixService(), getBcx(), getBcy(), getM(), getN());
+        in.setNumberOfModes(getNumberOfModes());
+        in.setConvergenceTolerance(getConvergenceTolerance());
+        in.setNumberOfStoredEigenvectors(getNumberOfStoredEigenvectors());
         for (StiffenerProperties ss : getStiffenerProperties()){
             in.addStiffenerProperty(ss.getCopy());
         }
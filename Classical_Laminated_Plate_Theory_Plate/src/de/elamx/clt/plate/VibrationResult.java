@@ -26,6 +26,7 @@
 package de.elamx.clt.plate;
 
 import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.CLT_Laminate.MassMoments;
 
 /**
  *
@@ -36,7 +37,10 @@ public class VibrationResult extends Result{
     private double       f_crit;
     private double[]     eigenvalues_;
     private double[]     frequencies_;
-    private double[][][] eigenvectors_;
+    private EigenvectorStore eigenvectors_;
+    // bei der Berechnung verwendete Laminatdaten für die Nachberechnung von Eigenformen
+    private double[][]   dmat_;
+    private MassMoments  massMoments_;
     
     public VibrationResult(CLT_Laminate laminate, VibrationInput input){
         super(laminate, input.copy());
@@ -53,6 +57,10 @@ public class VibrationResult extends Result{
     */
     
     public void setEigenForms(double[] eigenvalues, double[][][] eigenvectors){
+        setEigenForms(eigenvalues, new EigenvectorStore(eigenvectors, getInput().getM(), getInput().getN()));
+    }
+
+    void setEigenForms(double[] eigenvalues, EigenvectorStore eigenvectors){
         eigenvalues_  = eigenvalues;
         eigenvectors_ = eigenvectors;
         
@@ -64,12 +72,50 @@ public class VibrationResult extends Result{
         f_crit = frequencies_[0];
     }
 
+    void setLaminateData(double[][] dmat, MassMoments mm) {
+        dmat_ = new double[][]{dmat[0].clone(), dmat[1].clone(), dmat[2].clone()};
+        massMoments_ = mm;
+    }
+
     public double[] getEigenvalues_() {
         return eigenvalues_;
     }
 
-    public double[][][] getEigenvectors_() {
-        return eigenvectors_;
+    /**
+     * @return Anzahl der gespeicherten Eigenvektoren (siehe
+     * {@link Input#getNumberOfStoredEigenvectors()})
+     */
+    public int getNumberOfStoredEigenvectors() {
+        return eigenvectors_ == null ? 0 : eigenvectors_.getCount();
+    }
+
+    /**
+     * Liefert die Eigenform zum Eigenwert mit dem angegebenen Index als
+     * m x n Feld der Koeffizienten. Ist die Eigenform nicht gespeichert, wird
+     * die Berechnung einmalig wiederholt und dabei werden alle Eigenvektoren
+     * gespeichert. Die Nachberechnung verwendet D-Matrix und Massenmomente der
+     * ursprünglichen Berechnung, spätere Änderungen am Laminat wirken sich
+     * nicht aus.
+     *
+     * @param index Index des Eigenwertes in {@link #getEigenvalues_()}
+     * @return Eigenform
+     */
+    public synchronized double[][] getEigenvector(int index) {
+        if (index < 0 || index >= eigenvalues_.length) {
+            throw new IndexOutOfBoundsException("Eigenvector " + index + " of " + eigenvalues_.length);
+        }
+        if (index >= getNumberOfStoredEigenvectors()) {
+            VibrationInput input = (VibrationInput) getInput().copy();
+            // die Termanzahl steht nach einer adaptiven Wahl bereits fest
+            input.setConvergenceTolerance(0.0);
+            input.setNumberOfStoredEigenvectors(eigenvalues_.length);
+            eigenvectors_ = Vibration.calc(getLaminate(), dmat_, massMoments_, input).eigenvectors_;
+        }
+        return eigenvectors_.get(index);
+    }
+
+    synchronized double[][][] getStoredEigenvectors() {
+        return eigenvectors_ == null ? new double[0][][] : eigenvectors_.toArray();
     }
     
     public double[] getFrequencies() {
@@ -25,13 +25,8 @@
  */
 package de.elamx.clt.plate.view3d;
 
-import com.ardor3d.math.ColorRGBA;
-import com.ardor3d.math.Vector3;
-import com.ardor3d.renderer.IndexMode;
 import com.ardor3d.scenegraph.Mesh;
-import com.ardor3d.scenegraph.MeshData;
 import com.ardor3d.scenegraph.Node;
-import com.ardor3d.util.geom.BufferUtils;
 import de.elamx.clt.plate.BucklingInput;
 import de.elamx.clt.plate.BucklingResult;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
@@ -74,101 +69,30 @@ public class BucklingPlate extends Plate<BucklingInput> {
             init();
         }
 
-        double maxz = 0.0;
         double scale = 0.1;
-        //double zScale = 0.0;
-
-        int numPoints = enum_x * enum_y * 4;
-
-        Vector3[] vertices = new Vector3[numPoints];
-        ColorRGBA[] colors = new ColorRGBA[numPoints];
 
-        double[][] dZ = new double[enum_x + 1][enum_y + 1];
-        double yTemp, xTemp, zTemp;
-
-        double[] eigen;
+        double[][] eigenvector = result.getEigenvector(eigenvectorNumber);
 
         // calculation of plate deflection for all grid positions
-        double[] bx_wx = new double[m];
-        double[] by_wx = new double[n];
-
-        double[][] eigenvector = result.getEigenvectors_()[eigenvectorNumber];
-
-        for (int jj = 0; jj <= enum_y; jj++) {
-            yTemp = jj * elemsize_y;
-            for (int nn = 0; nn < n; nn++) {
-                by_wx[nn] = by.wx(nn, yTemp);
-            }
-
-            for (int ii = 0; ii <= enum_x; ii++) {
-
-                xTemp = ii * elemsize_x;
-                for (int mm = 0; mm < m; mm++) {
-                    bx_wx[mm] = bx.wx(mm, xTemp);
-                }
-                zTemp = 0.0;
+        double[][] dZ = getFieldEvaluator(0).getField(eigenvector, 0, 0);
 
-                for (int mm = 0; mm < m; mm++) {
-                    eigen = eigenvector[mm];
-                    for (int nn = 0; nn < n; nn++) {
-                        //zTemp += eigen[nn]*bx.wx(mm,xTemp)*by.wx(nn,yTemp);     // Ritz-approach w=sum(c*X(x)*Y(y))
-                        zTemp += eigen[nn] * bx_wx[mm] * by_wx[nn];
-                    }
-                }
-
-                if (Math.abs(zTemp) > maxz) {
-                    maxz = Math.abs(zTemp);
-                }
-                dZ[ii][jj] = zTemp;
+        double maxz = 0.0;
+        for (double[] row : dZ) {
+            for (double zTemp : row) {
+                maxz = Math.max(maxz, Math.abs(zTemp));
             }
         }
         zScale = scale / maxz;
 
-        // creation of Quad-Elements and adding of coordinates in kartesian plate coordinate system
-        Color farbe;
-        for (int jj = 0; jj < enum_y; jj++) {
-            for (int ii = 0; ii < enum_x; ii++) {
-                xTemp = elemsize_x * ii;
-                yTemp = elemsize_y * jj;
-                xTemp = (xTemp - deltax) / maxsize;
-                yTemp = (yTemp - deltay) / maxsize;
-                zTemp = zScale * dZ[ii][jj];
-                vertices[(ii + jj * enum_x) * 4] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                colors[(ii + jj * enum_x) * 4] = getRainbowColor(1.0 - Math.abs(zTemp / scale));
-
-                xTemp = elemsize_x * (ii + 1);
-                xTemp = (xTemp - deltax) / maxsize;
-                zTemp = zScale * dZ[ii + 1][jj];
-                vertices[(ii + jj * enum_x) * 4 + 1] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                colors[(ii + jj * enum_x) * 4 + 1] = getRainbowColor(1.0 - Math.abs(zTemp / scale));
-
-                yTemp = elemsize_y * (jj + 1);
-                yTemp = (yTemp - deltay) / maxsize;
-                zTemp = zScale * dZ[ii + 1][jj + 1];
-                vertices[(ii + jj * enum_x) * 4 + 2] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                colors[(ii + jj * enum_x) * 4 + 2] = getRainbowColor(1.0 - Math.abs(zTemp / scale));
-
-                xTemp = elemsize_x * ii;
-                xTemp = (xTemp - deltax) / maxsize;
-                zTemp = zScale * dZ[ii][jj + 1];
-                vertices[(ii + jj * enum_x) * 4 + 3] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                colors[(ii + jj * enum_x) * 4 + 3] = getRainbowColor(1.0 - Math.abs(zTemp / scale));
+        double[][] colorValues = new double[enum_x + 1][enum_y + 1];
+        for (int ii = 0; ii <= enum_x; ii++) {
+            for (int jj = 0; jj <= enum_y; jj++) {
+                colorValues[ii][jj] = 1.0 - Math.abs(zScale * dZ[ii][jj] / scale);
             }
         }
 
         ArrayList<Mesh> shapes = new ArrayList<>();
-
-        final Mesh mesh = new Mesh();
-        final MeshData meshData = mesh.getMeshData();
-
-        meshData.setVertexBuffer(BufferUtils.createFloatBuffer(vertices));
-        meshData.setColorBuffer(BufferUtils.createFloatBuffer(colors));
-        meshData.setIndexMode(IndexMode.Quads);
-
-        mesh.updateModelBound();
-        setPlateAppearance(mesh);
-
-        shapes.add(mesh);
+        shapes.add(createPlateMesh(dZ, colorValues));
 
         for (StiffenerProperties s : input.getStiffenerProperties()) {
             if (s.getDirection() == StiffenerProperties.X_DIRECTION) {
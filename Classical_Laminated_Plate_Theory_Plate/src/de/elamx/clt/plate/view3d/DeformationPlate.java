@@ -39,11 +39,11 @@ import com.ardor3d.util.geom.BufferUtils;
 import de.elamx.clt.CLT_Layer;
 import de.elamx.clt.plate.DeformationInput;
 import de.elamx.clt.plate.DeformationResult;
+import de.elamx.clt.plate.FieldEvaluator;
 import de.elamx.clt.plate.Mechanical.PointLoad;
 import de.elamx.clt.plate.Mechanical.SurfaceLoad_const_full;
 import de.elamx.clt.plate.Mechanical.TransverseLoad;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
-import static de.elamx.clt.plate.view3d.Plate.setPlateAppearance;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.StressStrainState;
 import de.view3d.Arrow;
@@ -118,57 +118,18 @@ public class DeformationPlate extends Plate<DeformationInput> {
     }
 
     private void init_dZ_Kappa() {
-        dZ = new double[enum_x + 1][enum_y + 1];
-        kappa = new double[3][enum_x + 1][enum_y + 1];
-        double yTemp, xTemp, zTemp;
-        double w2dx2, w2dxdy, w2dy2;
-
-        double[] eigen;
-
-        // calculation of plate deflection for all grid positions
-        double[] bx_wx = new double[m];
-        double[] by_wx = new double[n];
-        double[] bx_wdx = new double[m];
-        double[] by_wdx = new double[n];
-        double[] bx_wdx2 = new double[m];
-        double[] by_wdx2 = new double[n];
-
+        // calculation of plate deflection and curvatures for all grid positions
+        FieldEvaluator evaluator = getFieldEvaluator(2);
         double[][] eigenvector = result.getResultvectors();
 
-        for (int jj = 0; jj <= enum_y; jj++) {
-            yTemp = jj * elemsize_y;
-            for (int nn = 0; nn < n; nn++) {
-                by_wx[nn] = by.wx(nn, yTemp);
-                by_wdx[nn] = by.wdx(nn, yTemp);
-                by_wdx2[nn] = by.wdx2(nn, yTemp);
-            }
-
-            for (int ii = 0; ii <= enum_x; ii++) {
-
-                xTemp = ii * elemsize_x;
-                for (int mm = 0; mm < m; mm++) {
-                    bx_wx[mm] = bx.wx(mm, xTemp);
-                    bx_wdx[mm] = bx.wdx(mm, xTemp);
-                    bx_wdx2[mm] = bx.wdx2(mm, xTemp);
-                }
-                zTemp = 0.0;
-                w2dx2 = 0.0;
-                w2dxdy = 0.0;
-                w2dy2 = 0.0;
-
-                for (int mm = 0; mm < m; mm++) {
-                    eigen = eigenvector[mm];
-                    for (int nn = 0; nn < n; nn++) {
-                        zTemp += eigen[nn] * bx_wx[mm] * by_wx[nn];
-                        w2dx2 += eigen[nn] * bx_wdx2[mm] * by_wx[nn];
-                        w2dxdy += eigen[nn] * bx_wdx[mm] * by_wdx[nn];
-                        w2dy2 += eigen[nn] * bx_wx[mm] * by_wdx2[nn];
-                    }
-                }
-                dZ[ii][jj] = zTemp;
-                kappa[0][ii][jj] = w2dx2;
-                kappa[1][ii][jj] = w2dy2;
-                kappa[2][ii][jj] = 2.0 * w2dxdy;
+        dZ = evaluator.getField(eigenvector, 0, 0);
+        kappa = new double[3][][];
+        kappa[0] = evaluator.getField(eigenvector, 2, 0);
+        kappa[1] = evaluator.getField(eigenvector, 0, 2);
+        kappa[2] = evaluator.getField(eigenvector, 1, 1);
+        for (double[] row : kappa[2]) {
+            for (int jj = 0; jj < row.length; jj++) {
+                row[jj] *= 2.0;
             }
         }
     }
@@ -202,11 +163,7 @@ public class DeformationPlate extends Plate<DeformationInput> {
         double minZ = Double.POSITIVE_INFINITY;
         double maxZ = Double.NEGATIVE_INFINITY;
 
-        int numPoints = enum_x * enum_y * 4;
-        Vector3[] vertices = new Vector3[numPoints];
-        ColorRGBA[] colors = new ColorRGBA[numPoints];
-
-        double yTemp, xTemp, zTemp, value;
+        double zTemp, value;
         double[][] values = getValues(resultType);
 
         for (int jj = 0; jj <= enum_y; jj++) {
@@ -252,55 +209,15 @@ public class DeformationPlate extends Plate<DeformationInput> {
             }
         }
 
-        // creation of Quad-Elements and adding of coordinates in kartesian plate coordinate system
-        ColorRGBA farbe;
-        for (int jj = 0; jj < enum_y; jj++) {
-            for (int ii = 0; ii < enum_x; ii++) {
-                xTemp = elemsize_x * ii;
-                yTemp = elemsize_y * jj;
-                xTemp = (xTemp - deltax) / maxsize;
-                yTemp = (yTemp - deltay) / maxsize;
-                zTemp = zScale * dZ[ii][jj];
-                vertices[(ii + jj * enum_x) * 4] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                farbe = getRainbowColor(1.0 - (values[ii][jj] - minVal) / scale);
-                colors[(ii + jj * enum_x) * 4] = farbe;
-
-                xTemp = elemsize_x * (ii + 1);
-                xTemp = (xTemp - deltax) / maxsize;
-                zTemp = zScale * dZ[ii + 1][jj];
-                vertices[(ii + jj * enum_x) * 4 + 1] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                farbe = getRainbowColor(1.0 - (values[ii + 1][jj] - minVal) / scale);
-                colors[(ii + jj * enum_x) * 4 + 1] = farbe;
-
-                yTemp = elemsize_y * (jj + 1);
-                yTemp = (yTemp - deltay) / maxsize;
-                zTemp = zScale * dZ[ii + 1][jj + 1];
-                vertices[(ii + jj * enum_x) * 4 + 2] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                farbe = getRainbowColor(1.0 - (values[ii + 1][jj + 1] - minVal) / scale);
-                colors[(ii + jj * enum_x) * 4 + 2] = farbe;
-
-                xTemp = elemsize_x * ii;
-                xTemp = (xTemp - deltax) / maxsize;
-                zTemp = zScale * dZ[ii][jj + 1];
-                vertices[(ii + jj * enum_x) * 4 + 3] = new Vector3((float) xTemp, (float) yTemp, (float) (zTemp));
-                farbe = getRainbowColor(1.0 - (values[ii][jj + 1] - minVal) / scale);
-                colors[(ii + jj * enum_x) * 4 + 3] = farbe;
+        double[][] colorValues = new double[enum_x + 1][enum_y + 1];
+        for (int ii = 0; ii <= enum_x; ii++) {
+            for (int jj = 0; jj <= enum_y; jj++) {
+                colorValues[ii][jj] = 1.0 - (values[ii][jj] - minVal) / scale;
             }
         }
 
         ArrayList<Mesh> shapes = new ArrayList<>();
-
-        final Mesh mesh = new Mesh();
-        final MeshData meshData = mesh.getMeshData();
-
-        meshData.setVertexBuffer(BufferUtils.createFloatBuffer(vertices));
-        meshData.setColorBuffer(BufferUtils.createFloatBuffer(colors));
-        meshData.setIndexMode(IndexMode.Quads);
-
-        mesh.updateModelBound();
-        setPlateAppearance(mesh);
-
-        shapes.add(mesh);
+        shapes.add(createPlateMesh(dZ, colorValues));
 
         for (StiffenerProperties s : input.getStiffenerProperties()) {
             if (s.getDirection() == StiffenerProperties.X_DIRECTION) {
@@ -322,33 +239,41 @@ public class DeformationPlate extends Plate<DeformationInput> {
 
         double[][] values = new double[kappa[0].length][kappa[0][0].length];
 
+        double[] epskappa = new double[6];
+        double[] strain_glo = new double[3];
+        double[] strain_loc = new double[3];
+        double[] stress_loc = new double[3];
+
         for (int ii = 0; ii < kappa[0].length; ii++) {
             for (int jj = 0; jj < kappa[0][0].length; jj++) {
 
-                double[] epskappa = new double[]{0.0, 0.0, 0.0, kappa[0][ii][jj], kappa[1][ii][jj], kappa[2][ii][jj]};
+                epskappa[3] = kappa[0][ii][jj];
+                epskappa[4] = kappa[1][ii][jj];
+                epskappa[5] = kappa[2][ii][jj];
 
-                StressStrainState sss = layer.getStressState(epskappa, 0.0, 0.0, position, false)[0];
+                layer.getStressState(epskappa, 0.0, 0.0, position, strain_glo, strain_loc, stress_loc, null);
 
                 switch (type) {
                     case LOCAL_STRAIN_X:
-                        values[ii][jj] = sss.getStrain()[0];
+                        values[ii][jj] = strain_loc[0];
                         break;
                     case LOCAL_STRAIN_Y:
-                        values[ii][jj] = sss.getStrain()[1];
+                        values[ii][jj] = strain_loc[1];
                         break;
                     case LOCAL_STRAIN_XY:
-                        values[ii][jj] = sss.getStrain()[2];
+                        values[ii][jj] = strain_loc[2];
                         break;
                     case LOCAL_STRESS_X:
-                        values[ii][jj] = sss.getStress()[0];
+                        values[ii][jj] = stress_loc[0];
                         break;
                     case LOCAL_STRESS_Y:
-                        values[ii][jj] = sss.getStress()[1];
+                        values[ii][jj] = stress_loc[1];
                         break;
                     case LOCAL_STRESS_XY:
-                        values[ii][jj] = sss.getStress()[2];
+                        values[ii][jj] = stress_loc[2];
                         break;
                     case MIN_RESERVE_FACTOR:
+                        StressStrainState sss = new StressStrainState(stress_loc, strain_loc);
                         values[ii][jj] = layer.getLayer().getCriterion().getReserveFactor(layer.getLayer().getMaterial(), layer.getLayer(), sss).getMinimalReserveFactor();
                         break;
                 }
@@ -26,9 +26,12 @@
 package de.elamx.clt.plate.view3d;
 
 import com.ardor3d.math.ColorRGBA;
+import com.ardor3d.renderer.IndexMode;
 import com.ardor3d.renderer.state.MaterialState;
 import com.ardor3d.scenegraph.Mesh;
+import com.ardor3d.scenegraph.MeshData;
 import com.ardor3d.scenegraph.Node;
+import com.ardor3d.util.geom.BufferUtils;
 import de.elamx.clt.plate.Boundary.Boundary;
 import de.elamx.clt.plate.Boundary.Boundary_CC_200;
 import de.elamx.clt.plate.Boundary.Boundary_CF_200;
@@ -36,8 +39,10 @@ import de.elamx.clt.plate.Boundary.Boundary_FF_200;
 import de.elamx.clt.plate.Boundary.Boundary_SC_200;
 import de.elamx.clt.plate.Boundary.Boundary_SF_200;
 import de.elamx.clt.plate.Boundary.Boundary_SS_200;
+import de.elamx.clt.plate.FieldEvaluator;
 import de.elamx.clt.plate.Input;
 import de.view3d.View3DProperties;
+import java.nio.FloatBuffer;
 import java.util.List;
 
 /**
@@ -207,7 +212,85 @@ public abstract class Plate <T extends Input>{
 
     public abstract List<Mesh> getShapes(boolean reinit);
 
+    /**
+     * Liefert einen Auswerter für Feldgrößen an den Knoten des Netzes
+     * [enum_x+1][enum_y+1].
+     *
+     * @param maxDerivative höchste benötigte Ableitung (0, 1 oder 2)
+     * @return Auswerter für Feldgrößen
+     */
+    protected FieldEvaluator getFieldEvaluator(int maxDerivative) {
+        return new FieldEvaluator(bx, by, m, n, FieldEvaluator.getGrid(length, enum_x), FieldEvaluator.getGrid(width, enum_y), maxDerivative);
+    }
+
+    /**
+     * Erzeugt das Netz der verformten Platte aus Viereckselementen. Die
+     * Knotenkoordinaten und Farben werden direkt in die Puffer des Netzes
+     * geschrieben.
+     *
+     * @param dZ Durchbiegung an den Knoten [enum_x+1][enum_y+1]
+     * @param colorValues Farbwerte an den Knoten [enum_x+1][enum_y+1], siehe
+     * {@link #getRainbowColor(double)}
+     * @return Netz der Platte
+     */
+    protected Mesh createPlateMesh(double[][] dZ, double[][] colorValues) {
+        int numPoints = enum_x * enum_y * 4;
+        FloatBuffer vertices = BufferUtils.createFloatBuffer(numPoints * 3);
+        FloatBuffer colors = BufferUtils.createFloatBuffer(numPoints * 4);
+        float[] rgba = new float[4];
+
+        float[] xCoord = new float[enum_x + 1];
+        float[] yCoord = new float[enum_y + 1];
+        for (int ii = 0; ii <= enum_x; ii++) {
+            xCoord[ii] = (float) ((elemsize_x * ii - deltax) / maxsize);
+        }
+        for (int jj = 0; jj <= enum_y; jj++) {
+            yCoord[jj] = (float) ((elemsize_y * jj - deltay) / maxsize);
+        }
+
+        // creation of Quad-Elements and adding of coordinates in kartesian plate coordinate system
+        int[] cornerX = {0, 1, 1, 0};
+        int[] cornerY = {0, 0, 1, 1};
+        for (int jj = 0; jj < enum_y; jj++) {
+            for (int ii = 0; ii < enum_x; ii++) {
+                for (int k = 0; k < 4; k++) {
+                    int i = ii + cornerX[k];
+                    int j = jj + cornerY[k];
+                    vertices.put(xCoord[i]).put(yCoord[j]).put((float) (zScale * dZ[i][j]));
+                    getRainbowColor(colorValues[i][j], rgba);
+                    colors.put(rgba);
+                }
+            }
+        }
+        vertices.rewind();
+        colors.rewind();
+
+        final Mesh mesh = new Mesh();
+        final MeshData meshData = mesh.getMeshData();
+
+        meshData.setVertexBuffer(vertices);
+        meshData.setColorBuffer(colors);
+        meshData.setIndexMode(IndexMode.Quads);
+
+        mesh.updateModelBound();
+        setPlateAppearance(mesh);
+
+        return mesh;
+    }
+
     public ColorRGBA getRainbowColor(double value) {
+        float[] rgba = new float[4];
+        getRainbowColor(value, rgba);
+        return new ColorRGBA(rgba[0], rgba[1], rgba[2], rgba[3]);
+    }
+
+    /**
+     * Allokationsfreie Variante von {@link #getRainbowColor(double)}.
+     *
+     * @param value Farbwert
+     * @param rgba Ergebnis (rot, grün, blau, alpha)
+     */
+    public static void getRainbowColor(double value, float[] rgba) {
         int r = 0;
         int g = 255;
         int b = 0;
@@ -230,7 +313,10 @@ public abstract class Plate <T extends Input>{
             b = (int) (255.0 * (value - 0.5) / 0.25);
         }
 
-        return new ColorRGBA(r/255.0f, g/255.0f, b/255.0f, 1.0f);
+        rgba[0] = r/255.0f;
+        rgba[1] = g/255.0f;
+        rgba[2] = b/255.0f;
+        rgba[3] = 1.0f;
     }
     
     public abstract List<Node> getUndeformedWithBC();
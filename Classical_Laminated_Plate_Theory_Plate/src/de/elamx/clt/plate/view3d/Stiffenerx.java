@@ -31,6 +31,7 @@ import com.ardor3d.scenegraph.Mesh;
 import com.ardor3d.scenegraph.MeshData;
 import com.ardor3d.util.geom.BufferUtils;
 import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.FieldEvaluator;
 import de.elamx.clt.plate.Input;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 
@@ -59,31 +60,11 @@ public class Stiffenerx {
         double[] dZ = new double[enum_x+1];
         double yTemp, xTemp, zTemp;
 
-        double[] eigen;
-
-        // calculation of plate deflection for all grid positions
-
-        double[] bx_wx = new double[m];
-        double[] by_wx = new double[n];
-        
+        // calculation of plate deflection along the stiffener
         yTemp = stiffener.getPosition() + by.getA()/2.0;
-        for (int nn = 0; nn < n; nn++)
-            by_wx[nn] = by.wx(nn,yTemp);
-
+        double[][] w = new FieldEvaluator(bx, by, m, n, FieldEvaluator.getGrid(bx.getA(), enum_x), new double[]{yTemp}, 0).getField(eigenvector, 0, 0);
         for (int ii = 0; ii <= enum_x; ii++){
-
-            xTemp = ii*elemsize_x;
-            for (int mm = 0; mm < n; mm++)
-                bx_wx[mm] = bx.wx(mm,xTemp);
-            zTemp = 0.0;
-            
-            for (int mm = 0; mm < m; mm++){
-                eigen = eigenvector[mm];
-                for(int nn = 0; nn < n; nn++){
-                    zTemp += eigen[nn]*bx_wx[mm]*by_wx[nn];
-                }
-            }
-            dZ[ii] = zTemp;
+            dZ[ii] = w[ii][0];
         }
 
         double deltax = p.getDeltaX();
@@ -31,6 +31,7 @@ import com.ardor3d.scenegraph.Mesh;
 import com.ardor3d.scenegraph.MeshData;
 import com.ardor3d.util.geom.BufferUtils;
 import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.FieldEvaluator;
 import de.elamx.clt.plate.Input;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 
@@ -58,31 +59,11 @@ public class Stiffenery {
         double[] dZ = new double[enum_y+1];
         double yTemp, xTemp, zTemp;
 
-        double[] eigen;
-
-        // calculation of plate deflection for all grid positions
-
-        double[] bx_wx = new double[m];
-        double[] by_wx = new double[n];
-        
+        // calculation of plate deflection along the stiffener
         xTemp = stiffener.getPosition() + bx.getA()/2.0;
-        for (int nn = 0; nn < n; nn++)
-            bx_wx[nn] = bx.wx(nn,xTemp);
-
+        double[][] w = new FieldEvaluator(bx, by, m, n, new double[]{xTemp}, FieldEvaluator.getGrid(by.getA(), enum_y), 0).getField(eigenvector, 0, 0);
         for (int ii = 0; ii <= enum_y; ii++){
-
-            yTemp = ii*elemsize_y;
-            for (int mm = 0; mm < n; mm++)
-                by_wx[mm] = by.wx(mm,yTemp);
-            zTemp = 0.0;
-            
-            for (int mm = 0; mm < m; mm++){
-                eigen = eigenvector[mm];
-                for(int nn = 0; nn < n; nn++){
-                    zTemp += eigen[nn]*bx_wx[mm]*by_wx[nn];
-                }
-            }
-            dZ[ii] = zTemp;
+            dZ[ii] = w[0][ii];
         }
 
         double deltay = p.getDeltaY();
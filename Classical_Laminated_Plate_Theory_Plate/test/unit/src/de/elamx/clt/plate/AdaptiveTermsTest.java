@@ -0,0 +1,160 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests der adaptiven Termanzahl.
+ *
+ * @author Andreas Hauffe
+ */
+public class AdaptiveTermsTest {
+
+    public AdaptiveTermsTest() {
+    }
+
+    /**
+     * Der Eintrag (pp*nMax+qq, ii*nMax+jj) der großen Matrix enthält
+     * 1000*(pp*nMax+qq) + ii*nMax+jj.
+     */
+    private static double[][] createMatrix(int mMax, int nMax) {
+        int size = mMax * nMax;
+        double[][] A = new double[size][size];
+        for (int k = 0; k < size; k++) {
+            for (int l = 0; l < size; l++) {
+                A[k][l] = 1000 * k + l;
+            }
+        }
+        return A;
+    }
+
+    private static void assertSubSystem(AdaptiveTerms terms, double[][] A, double[] b, int nMax) {
+        int m = terms.getM();
+        int n = terms.getN();
+        double[][] sub = terms.getSubMatrix(A);
+        double[] subVec = terms.getSubVector(b);
+        assertEquals(m * n, sub.length);
+        assertEquals(m * n, subVec.length);
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                int k = pp * nMax + qq;
+                assertEquals(b[k], subVec[pp * n + qq], 0.0);
+                for (int ii = 0; ii < m; ii++) {
+                    for (int jj = 0; jj < n; jj++) {
+                        assertEquals(A[k][ii * nMax + jj], sub[pp * n + qq][ii * n + jj], 0.0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void subSystemsFollowTermIndices() {
+        int mMax = 9;
+        int nMax = 5;
+        double[][] A = createMatrix(mMax, nMax);
+        double[] b = new double[mMax * nMax];
+        for (int k = 0; k < b.length; k++) {
+            b[k] = -k;
+        }
+
+        AdaptiveTerms terms = new AdaptiveTerms(mMax, nMax, 0.0);
+        int[][] expected = {{4, 4}, {6, 5}, {8, 5}, {9, 5}};
+        for (int step = 0; step < expected.length; step++) {
+            assertEquals(expected[step][0], terms.getM());
+            assertEquals(expected[step][1], terms.getN());
+            assertSubSystem(terms, A, b, nMax);
+            assertEquals(step < expected.length - 1, terms.next(step));
+        }
+
+        // vollständiges System
+        assertArrayEquals(b, terms.getSubVector(b), 0.0);
+        double[][] full = terms.getSubMatrix(A);
+        for (int k = 0; k < A.length; k++) {
+            assertArrayEquals(A[k], full[k], 0.0);
+        }
+    }
+
+    @Test
+    public void smallMaximumIsNotExceeded() {
+        AdaptiveTerms terms = new AdaptiveTerms(2, 3, 1.0E-3);
+        assertEquals(2, terms.getM());
+        assertEquals(3, terms.getN());
+        assertFalse(terms.next(1.0));
+        assertFalse(terms.isConverged());
+        assertTrue(Double.isNaN(terms.getError()));
+    }
+
+    @Test
+    public void convergesOnRelativeChange() {
+        AdaptiveTerms terms = new AdaptiveTerms(20, 20, 1.0E-3);
+        assertTrue(terms.next(-100.0, 5.0));
+        assertTrue(Double.isNaN(terms.getError()));
+        assertTrue(terms.next(-100.5, 5.0));
+        assertEquals(0.5 / 100.5, terms.getError(), 1.0E-15);
+        assertFalse(terms.isConverged());
+        // negative Werte werden über den Betrag verglichen
+        assertFalse(terms.next(-100.55, 5.001));
+        assertEquals(0.05 / 100.55, terms.getError(), 1.0E-15);
+        assertTrue(terms.isConverged());
+        assertEquals(8, terms.getM());
+        assertEquals(8, terms.getN());
+    }
+
+    @Test
+    public void zeroValuesUseAbsoluteChange() {
+        AdaptiveTerms terms = new AdaptiveTerms(20, 20, 1.0E-3);
+        assertTrue(terms.next(0.0));
+        // Änderung von 1 auf 0 ist nicht konvergiert
+        assertTrue(terms.next(1.0));
+        assertTrue(terms.next(0.0));
+        assertEquals(1.0, terms.getError(), 0.0);
+        assertFalse(terms.isConverged());
+        // unveränderte Nullwerte sind konvergiert
+        assertFalse(terms.next(0.0));
+        assertEquals(0.0, terms.getError(), 0.0);
+        assertTrue(terms.isConverged());
+    }
+
+    @Test
+    public void nanValuesNeverConverge() {
+        AdaptiveTerms terms = new AdaptiveTerms(8, 8, 1.0E-3);
+        assertTrue(terms.next(Double.NaN, 1.0));
+        assertTrue(terms.next(Double.NaN, 1.0));
+        assertTrue(Double.isNaN(terms.getError()));
+        assertFalse(terms.isConverged());
+        // NaN in einer der Größen verhindert die Konvergenz bis zur Maximalanzahl
+        assertFalse(terms.next(1.0, Double.NaN));
+        assertFalse(terms.isConverged());
+        assertEquals(8, terms.getM());
+        assertEquals(8, terms.getN());
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate.Boundary;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests der zur Laufzeit erzeugten Tabellen der Verschiebungsansätze.
+ *
+ * @author Andreas Hauffe
+ */
+public class BoundaryTablesTest {
+
+    private static final double LENGTH = 500.0;
+
+    // Lagerungen mit den Indizes ihrer ersten echten Balkeneigenform
+    private static final int[] TYPES = {BoundaryTables.SS, BoundaryTables.CC, BoundaryTables.CF, BoundaryTables.SC, BoundaryTables.SF};
+    private static final int[] FIRST_MODE = {0, 0, 0, 0, 1};
+
+    // Indexpaare (i, p) der unten aufgeführten Einträge der bisherigen Tabellen
+    private static final int[][] PAIRS = {{0, 0}, {0, 1}, {1, 3}, {2, 2}, {4, 7}, {9, 9}, {12, 17}, {19, 18}, {19, 19}};
+
+    // Ableitungsordnungen von X_i und X_p in den Tabellen TABLE_IXX bis TABLE_IDX2DX2
+    private static final int[][] DERIVATIVES = {{0, 0}, {0, 1}, {0, 2}, {1, 1}, {1, 2}, {2, 2}};
+
+    /**
+     * Werte der bisherigen Klassen Boundary_*_200 (Länge 1, 20 Ansätze) in
+     * der Reihenfolge von {@link #TYPES}. Je Lagerung: cv, c1 und c2 aller
+     * Ansätze, anschließend IXX, IXdX, IXdX2, IdXdX, IdXdX2 und IdX2dX2 an den
+     * Stellen {@link #PAIRS}.
+     */
+    private static final double[][][] FORMER_TABLES = {
+        // SS
+        {{3.141592653589793, 6.283185307179586, 9.42477796076938, 12.566370614359172, 15.707963267948966, 18.84955592153876, 21.991148575128552, 25.132741228718345, 28.274333882308138, 31.41592653589793, 34.55751918948773, 37.69911184307752, 40.840704496667314, 43.982297150257104, 47.1238898038469, 50.26548245743669, 53.40707511102649, 56.548667764616276, 59.69026041820607, 62.83185307179586},
+         {1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0},
+         {0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0},
+         {0.5, 0.0, 0.0, 0.5, 0.0, 0.5, 0.0, 0.0, 0.5},
+         {0.0, -1.3333333333333333, 0.0, 0.0, -2.051282051282051, 0.0, -3.0193548387096776, 19.487179487179485, 0.0},
+         {-4.934802200544679, 0.0, 0.0, -44.41321980490211, 0.0, -493.48022005446785, 0.0, 0.0, -1973.9208802178714},
+         {4.934802200544679, 0.0, 0.0, 44.41321980490211, 0.0, 493.48022005446785, 0.0, 0.0, 1973.9208802178714},
+         {0.0, -52.637890139143245, 0.0, 0.0, -1295.7019111173722, 0.0, -9655.147448683752, 69431.40162776606, 0.0},
+         {48.70454551700122, 0.0, 0.0, 3945.0681868770985, 0.0, 487045.4551700122, 0.0, 0.0, 7792727.282720194}},
+        // CC
+        {{4.730040744862704, 7.853204624095837, 10.99560783800167, 14.137165491257464, 17.27875965739948, 20.42035224562606, 23.561944902040455, 26.703537555508188, 29.845130209103253, 32.98672286269282, 36.12831551628262, 39.269908169872416, 42.411500823462205, 45.553093477052, 48.69468613064179, 51.83627878423159, 54.97787143782138, 58.119464091411174, 61.26105674500097, 64.40264939859077},
+         {-0.6187823289949002, -0.6632183497069601, -0.6617812832077621, -0.6612019968379611, -0.6612639695778821, -0.6612641276787194, -0.66385010869322, -0.6657515191997274, -0.6659147577108248, -0.6618676425360082, -0.6637484042531653, -0.6638501090108383, -0.6669713805799383, -0.6612768127425169, -0.6701552493360118, -0.6715149532111429, -0.6623233776806237, -0.6623814140410202, -0.6718810335322557, -0.6916698145368808},
+         {0.6298024776074286, 0.6627032226010469, 0.6618034866317426, 0.6612010381641253, 0.6612640110097866, 0.661264125888284, 0.6638501087708943, 0.6657515191963612, 0.6659147577109702, 0.6618676425360019, 0.6637484042531656, 0.6638501090108383, 0.6669713805799383, 0.6612768127425169, 0.6701552493360118, 0.6715149532111429, 0.6623233776806237, 0.6623814140410202, 0.6718810335322557, 0.6916698145368808},
+         {0.3966511608004556, 0.0, 0.0, 0.43798385491793107, 0.0, 0.4380687762361648, 0.0, 0.0, 0.4784071323414831},
+         {0.0, -1.394864360716068, 0.0, 0.0, -1.7879983731926308, 0.0, -2.626944167603017, 18.553968233772654, 0.0},
+         {-4.879847957684767, 0.0, 7.505551554246124, -43.31870618814902, 0.0, -447.77219215871673, 0.0, 0.0, -1922.668486982187},
+         {4.879847957684767, 0.0, -7.505551554246124, 43.31870618814902, 0.0, 447.77219215871673, 0.0, 0.0, 1922.668486982187},
+         {0.0, -50.94654798005499, 0.0, 0.0, -824.9895629725515, 0.0, -6475.243204568193, 73202.35053345146, 0.0},
+         {198.5492526801478, 0.0, 0.0, 6402.285994593466, 0.0, 518679.3842371414, 0.0, 0.0, 8230241.534337534}},
+        // CF
+        {{1.8751040687119611, 4.694091132974174, 7.854757438237613, 10.995540734875465, 14.13716839104647, 17.278759532088237, 20.42035225104125, 23.56194490180644, 26.7035375555183, 29.845130209102816, 32.98672286269284, 36.12831551628262, 39.269908169872416, 42.411500823462205, 45.553093477052, 48.69468613064179, 51.83627878423159, 54.97787143782138, 58.119464091411174, 61.26105674500097},
+         {0.36704775687945634, 0.5092336593796097, 0.49961224825871414, 0.5000167766258566, 0.49999927505432507, 0.5000000313278142, 0.49999999864620254, 0.5000000000585029, 0.49999999999747186, 0.5000000000001092, 0.4999999999999953, 0.5000000000000002, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5},
+         {-0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5, -0.5},
+         {0.25, 0.0, 0.0, 0.25, 0.0, 0.25, 0.0, 0.0, 0.25},
+         {0.5, -1.1898652573931245, 0.8458440929639653, 0.5, -1.5625001802880891, 0.5, -2.0416666666666665, 9.006578947368421, 0.5},
+         {0.21456090500287492, -2.935809592796139, 7.6002918235463826, -11.47605665408454, -6.929997425825352, -207.76038419511804, -10.40121892066891, 1.4881800493994557, -907.5987400060567},
+         {1.1619445796696597, -1.8449688174154948, 3.3956178474750867, 19.324722700574043, -16.631947478737974, 237.60551440422736, -44.57665251715247, -59.60764414081063, 968.8597967510576},
+         {0.947383674666785, -7.830226856370325, 44.46518451409949, 30.800779354658584, -520.4667784580209, 445.3658985993454, -4407.909257257356, 32067.562166787488, 1876.4585367571142},
+         {3.0905908420815473, 0.0, 0.0, 951.6365665978627, 0.0, 198350.78363502907, 0.0, 0.0, 3521096.6401686505}},
+        // SC
+        {{3.9266023120479185, 7.068582745628732, 10.21017612281303, 13.351768777754094, 16.493361431346408, 19.634954084936208, 22.776546738526, 25.918139392115794, 29.059732045705587, 32.20132469929538, 35.34291735288517, 38.48451000647497, 41.62610266006476, 44.767695313654556, 47.909287967244346, 51.05088062083414, 54.19247327442393, 57.33406592801373, 60.47565858160352, 63.617251235193315},
+         {-0.9375682058569587, 0.9350801535118923, -0.9351686964080299, 0.93510571602642, -0.936022196570326, 0.9388258275459855, -0.9351866370633211, 0.9371897845801831, -0.9367487792006796, 0.9350968057249102, -0.9432399721308569, 0.9360221965702957, -0.9484632664635942, 0.935291399108951, -0.9426091712483038, 0.9550079329807808, -0.9386819952983282, 0.9355018287006662, -0.9455247360702074, 0.9697022814438624},
+         {0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0},
+         {0.43917556124581264, 0.0, 0.0, 0.43727024418679633, 0.0, 0.43720301803846523, 0.0, 0.0, 0.47016125731871583},
+         {0.0, 1.3129841215279705, -0.11081989527451634, 0.0, 1.7880020840563202, 0.0, 2.657582467304173, -18.085133280327376, 0.0},
+         {-5.056021839865831, 1.876387888561531, 3.3422285168940213, -41.11980971482459, 8.009674166182053, -439.26835971377767, 20.346713138438382, 28.38985354871776, -1872.9049541993509},
+         {5.056021839865831, -1.876387888561531, -3.3422285168940213, 41.11980971482459, -8.009674166182053, 439.26835971377767, -20.346713138438382, -28.38985354871776, 1872.9049541993509},
+         {-7.159622124202549, 52.292590785627716, -64.3802058506511, -45.589159862948236, 993.494458229877, -453.34687605713293, 7569.432313960903, -67859.74854192998, -1902.81532102725},
+         {104.40128325293188, 0.0, 0.0, 4752.070329738444, 0.0, 470086.8510763379, 0.0, 0.0, 7700987.883571211}},
+        // SF
+        {{2.365020372431352, 3.9266023120479185, 7.068582745628732, 10.21017612281303, 13.351768777754094, 16.493361431346408, 19.634954084936208, 22.776546738526, 25.918139392115794, 29.059732045705587, 32.20132469929538, 35.34291735288517, 38.48451000647497, 41.62610266006476, 44.767695313654556, 47.909287967244346, 51.05088062083414, 54.19247327442393, 57.33406592801373, 60.47565858160352},
+         {0.7134311453197155, -0.7073816558316203, 0.7071072938029658, -0.7071067821438269, 0.7071067811883351, -0.7071067811865509, 0.7071067811865476, -0.7071067811865476, 0.7071067811865476, -0.7071067811865476, 0.7071067811865476, -0.7071067811865476, 0.7071067811865476, -0.7071067811865476, 0.7071067811865476, -0.7071067811865476, 0.7071067811865476, -0.7071067811865476, 0.7071067811865476, -0.7071067811865476},
+         {0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0},
+         {0.5727697599990977, -0.06522079015276866, 0.0, 0.25, 0.0, 0.25, 0.0, 0.0, 0.25},
+         {0.5, 1.4098848258067016, 0.80127427126122, 0.5, 1.5804577176959678, 0.5, 2.057379223680536, -8.888323858589448, 0.5},
+         {-1.448580734654434, 4.525191644367767, 6.420976188548847, -10.724103481356925, 10.686748718776919, -203.85207363062565, 21.06541019565093, 13.207749348681302, -899.207405574268},
+         {1.4485807346544342, -0.5955371375875831, 3.789199961909205, 17.792696475707217, 12.08979801974908, 232.91180567633126, 33.127063078773, 44.126316579332425, 959.6830641558715},
+         {-1.826811356945142, 7.688480646024715, 17.973449428616362, 12.461169928312048, 576.4885274918759, 211.11700664219515, 4900.574330519757, -29974.90874785801, 914.3263202196689},
+         {4.4553340807573525, -15.504355860339105, 0.0, 624.1218594642079, 0.0, 178281.561974001, 0.0, 0.0, 3343970.4793857615}}
+    };
+
+    public BoundaryTablesTest() {
+    }
+
+    private static Boundary createBoundary(int type, double length, int m) {
+        switch (type) {
+            case BoundaryTables.SS: return new Boundary_SS_200(length, m);
+            case BoundaryTables.CC: return new Boundary_CC_200(length, m);
+            case BoundaryTables.CF: return new Boundary_CF_200(length, m);
+            case BoundaryTables.FF: return new Boundary_FF_200(length, m);
+            case BoundaryTables.SC: return new Boundary_SC_200(length, m);
+            default: return new Boundary_SF_200(length, m);
+        }
+    }
+
+    @Test
+    public void characteristicRootsMatchClosedForm() {
+        // cos(cv)*cosh(cv) = 1, cos(cv)*cosh(cv) = -1 und tan(cv) = tanh(cv)
+        double[] cc = {4.730040744862704, 7.853204624095838, 10.995607838001671, 14.137165491257464, 17.278759657399482};
+        double[] cf = {1.875104068711961, 4.694091132974175, 7.854757438237613, 10.995540734875467, 14.137168391046471};
+        double[] sc = {3.926602312047919, 7.068582745628732, 10.210176122813031};
+
+        int m = 60;
+        Boundary ss = createBoundary(BoundaryTables.SS, LENGTH, m);
+        Boundary ccb = createBoundary(BoundaryTables.CC, LENGTH, m);
+        Boundary cfb = createBoundary(BoundaryTables.CF, LENGTH, m);
+        Boundary scb = createBoundary(BoundaryTables.SC, LENGTH, m);
+        Boundary sfb = createBoundary(BoundaryTables.SF, LENGTH, m);
+        for (int i = 0; i < m; i++) {
+            assertRoot((i + 1) * Math.PI, ss.getCv(i));
+            assertRoot(i < cc.length ? cc[i] : (2 * i + 3) * Math.PI / 2.0, ccb.getCv(i));
+            assertRoot(i < cf.length ? cf[i] : (2 * i + 1) * Math.PI / 2.0, cfb.getCv(i));
+            assertRoot(i < sc.length ? sc[i] : (4 * i + 5) * Math.PI / 4.0, scb.getCv(i));
+            if (i > 0) {
+                // gelenkig - frei besitzt dieselben Nullstellen wie gelenkig - eingespannt
+                assertRoot(scb.getCv(i - 1), sfb.getCv(i));
+            }
+        }
+    }
+
+    private static void assertRoot(double expected, double actual) {
+        // die asymptotischen Werte weichen um die Größenordnung exp(-cv) ab
+        assertEquals(expected, actual, 1.0E-12 * expected + 4.0 * Math.exp(-expected));
+    }
+
+    @Test
+    public void modesAreOrthogonal() {
+        int m = 60;
+        for (int t = 0; t < TYPES.length; t++) {
+            Boundary b = createBoundary(TYPES[t], LENGTH, m);
+            for (int i = FIRST_MODE[t]; i < m; i++) {
+                double cv4 = Math.pow(b.getCv(i) / LENGTH, 4);
+                assertEquals(cv4 * b.IXX(i, i), b.IdX2dX2(i, i), 1.0E-12 * b.IdX2dX2(i, i));
+                for (int p = FIRST_MODE[t]; p < m; p++) {
+                    if (p != i) {
+                        assertEquals(0.0, b.IXX(i, p), 1.0E-12 * Math.sqrt(b.IXX(i, i) * b.IXX(p, p)));
+                        assertEquals(0.0, b.IdX2dX2(i, p), 1.0E-12 * Math.sqrt(b.IdX2dX2(i, i) * b.IdX2dX2(p, p)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void formerTablesAreReproduced() {
+        int m = 20;
+        for (int t = 0; t < TYPES.length; t++) {
+            Boundary b = createBoundary(TYPES[t], 1.0, m);
+            double[][] former = FORMER_TABLES[t];
+
+            // Die Ansätze sind jetzt auf max|X| = 1 normiert. Der Skalierungsfaktor
+            // jedes Ansatzes folgt aus dem betragsmäßig größeren Koeffizienten c1
+            // oder c2.
+            double[] scale = new double[m];
+            for (int i = 0; i < m; i++) {
+                assertEquals(former[0][i], b.getCv(i), 1.0E-14 * former[0][i]);
+                if (Math.abs(former[1][i]) > Math.abs(former[2][i])) {
+                    scale[i] = b.getC1(i) / former[1][i];
+                } else {
+                    scale[i] = b.getC2(i) / former[2][i];
+                }
+                assertEquals(scale[i] * former[1][i], b.getC1(i), 1.0E-13);
+                assertEquals(scale[i] * former[2][i], b.getC2(i), 1.0E-13);
+            }
+
+            // Die Einträge werden auf die Cauchy-Schwarz-Schranke aus den
+            // Normen der beteiligten Ableitungen bezogen.
+            double[][] norm = {
+                diagonal(b.getIntegralTable(Boundary.TABLE_IXX, m)),
+                diagonal(b.getIntegralTable(Boundary.TABLE_IDXDX, m)),
+                diagonal(b.getIntegralTable(Boundary.TABLE_IDX2DX2, m))};
+            for (int table = Boundary.TABLE_IXX; table <= Boundary.TABLE_IDX2DX2; table++) {
+                double[][] actual = b.getIntegralTable(table, m);
+                for (int q = 0; q < PAIRS.length; q++) {
+                    int i = PAIRS[q][0];
+                    int p = PAIRS[q][1];
+                    double bound = Math.sqrt(norm[DERIVATIVES[table][0]][i] * norm[DERIVATIVES[table][1]][p]);
+                    assertEquals(scale[i] * scale[p] * former[3 + table][q], actual[i][p], 1.0E-12 * bound);
+                }
+            }
+        }
+    }
+
+    private static double[] diagonal(double[][] table) {
+        double[] d = new double[table.length];
+        for (int i = 0; i < d.length; i++) {
+            d[i] = table[i][i];
+        }
+        return d;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Vergleich der Parameterstudie mit einzelnen Beulrechnungen.
+ *
+ * @author Andreas Hauffe
+ */
+public class BucklingSweepTest {
+
+    public BucklingSweepTest() {
+    }
+
+    @Test
+    public void sweepMatchesSingleCalculations() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1");
+        for (double angle : new double[]{45.0, -45.0, 0.0, 90.0, 10.0, -45.0, 45.0}) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, angle, 0.25));
+        }
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        double width = 300.0;
+        int terms = 8;
+        BucklingInput baseInput = new BucklingInput(500.0, width, -1.0, 0.0, 0.0, new StandardDMatrixServiceImpl(), 0, 0, terms, terms);
+        BucklingSweep sweep = new BucklingSweep(baseInput);
+        sweep.setAspectRatios(BucklingSweep.range(0.5, 3.0, 6));
+        sweep.setLoadCases(new double[][]{{-1.0, 0.0, 0.0}, {-1.0, -0.5, 0.0}, {0.0, 0.0, 1.0}});
+        sweep.setBoundaryConditions(new int[][]{{0, 0}, {1, 4}, {2, 5}});
+
+        BucklingSweepResult result = sweep.calc(clt_lam);
+        assertEquals(54, result.getNumberOfPoints());
+
+        for (int i = 0; i < result.getNumberOfPoints(); i++) {
+            assertEquals(result.getAspectRatio()[i] * width, result.getLength()[i], 1.0E-12);
+            assertEquals(width, result.getWidth()[i], 0.0);
+
+            BucklingInput input = new BucklingInput(result.getLength()[i], width,
+                    result.getNx()[i], result.getNy()[i], result.getNxy()[i],
+                    new StandardDMatrixServiceImpl(), result.getBcx()[i], result.getBcy()[i], terms, terms);
+            input.setNumberOfModes(1);
+            BucklingResult single = Buckling.calc(clt_lam, input);
+
+            double ev = single.getSmallestPositiveEigenValue();
+            assertEquals(ev, result.getEigenvalue()[i], 1.0E-10 * ev);
+            assertEquals(ev * result.getNx()[i], result.getNxCrit()[i], 1.0E-10 * ev);
+            assertEquals(ev * result.getNy()[i], result.getNyCrit()[i], 1.0E-10 * ev);
+            assertEquals(ev * result.getNxy()[i], result.getNxyCrit()[i], 1.0E-10 * ev);
+        }
+    }
+}
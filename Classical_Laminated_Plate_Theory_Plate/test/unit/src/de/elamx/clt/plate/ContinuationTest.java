@@ -0,0 +1,121 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Test;
+
+/**
+ * Verfolgung der Beulformen einer allseitig gelenkig gelagerten
+ * Kreuzlagenplatte über eine Variation der Plattenlänge. Die Beulformen sind
+ * dort reine Sinusformen, d.h. jede Eigenform wird durch genau einen Term
+ * beschrieben. Mit zunehmender Länge wechselt die maßgebende Beulform, die
+ * Kennungen der Eigenformen müssen dabei erhalten bleiben.
+ *
+ * @author Andreas Hauffe
+ */
+public class ContinuationTest {
+
+    public ContinuationTest() {
+    }
+
+    /**
+     * @return Index m*n+n des betragsmäßig größten Terms des Eigenvektors
+     */
+    private static int dominantTerm(double[][] eigenvector) {
+        int term = -1;
+        double max = 0.0;
+        for (int mm = 0; mm < eigenvector.length; mm++) {
+            for (int nn = 0; nn < eigenvector[mm].length; nn++) {
+                if (Math.abs(eigenvector[mm][nn]) > max) {
+                    max = Math.abs(eigenvector[mm][nn]);
+                    term = mm * eigenvector[mm].length + nn;
+                }
+            }
+        }
+        return term;
+    }
+
+    @Test
+    public void modeIdsAcrossCrossing() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1");
+        for (double angle : new double[]{0.0, 90.0, 90.0, 0.0}) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, angle, 0.25));
+        }
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        int modes = 3;
+        List<BucklingInput> inputs = new ArrayList<>();
+        for (double length = 200.0; length <= 1000.0; length += 50.0) {
+            BucklingInput input = new BucklingInput(length, 300.0, -1.0, 0.0, 0.0, new StandardDMatrixServiceImpl(), 0, 0, 5, 3);
+            input.setNumberOfModes(modes);
+            inputs.add(input);
+        }
+
+        List<BucklingResult> results = Buckling.calcContinuation(clt_lam, inputs);
+        assertEquals(inputs.size(), results.size());
+
+        Map<Integer, Integer> idOfTerm = new HashMap<>();
+        for (BucklingResult result : results) {
+            int[] ids = result.getModeIds();
+            assertNotNull(ids);
+            assertEquals(modes, result.getEigenvalues_().length);
+            assertEquals(modes, ids.length);
+            for (int i = 0; i < modes; i++) {
+                int term = dominantTerm(result.getEigenvector(i));
+                Integer id = idOfTerm.putIfAbsent(term, ids[i]);
+                if (id != null) {
+                    assertEquals(id.intValue(), ids[i]);
+                }
+            }
+        }
+
+        // die maßgebende Beulform hat gewechselt
+        assertNotEquals(results.get(0).getModeIds()[0], results.get(results.size() - 1).getModeIds()[0]);
+
+        // ohne gesetzte Anzahl werden so viele Eigenwerte bestimmt wie
+        // Eigenvektoren gespeichert werden
+        BucklingInput input = new BucklingInput(500.0, 300.0, -1.0, 0.0, 0.0, new StandardDMatrixServiceImpl(), 0, 0, 5, 3);
+        input.setNumberOfStoredEigenvectors(4);
+        BucklingResult result = Buckling.calcContinuation(clt_lam, List.of(input)).get(0);
+        assertEquals(4, result.getEigenvalues_().length);
+        assertEquals(4, result.getModeIds().length);
+        assertEquals(0, input.getNumberOfModes());
+    }
+}
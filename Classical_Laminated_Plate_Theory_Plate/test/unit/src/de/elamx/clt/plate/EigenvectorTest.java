@@ -0,0 +1,117 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+
+/**
+ * Tests der nachträglich berechneten Eigenformen.
+ *
+ * @author Andreas Hauffe
+ */
+public class EigenvectorTest {
+
+    public EigenvectorTest() {
+    }
+
+    private static DefaultMaterial createMaterial() {
+        return new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+    }
+
+    private static Laminat createLaminate(DefaultMaterial mat) {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1");
+        for (double angle : new double[]{45.0, -45.0, 0.0, 90.0}) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, angle, 0.25));
+        }
+        lam.setSymmetric(true);
+        return lam;
+    }
+
+    private static void assertEigenvectorsEqual(double[][] expected, double[][] actual) {
+        for (int ii = 0; ii < expected.length; ii++) {
+            assertArrayEquals(expected[ii], actual[ii], 0.0);
+        }
+    }
+
+    @Test
+    public void bucklingEigenvectorsUseOriginalLaminate() {
+        DefaultMaterial mat = createMaterial();
+        Laminat lam = createLaminate(mat);
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        BucklingInput input = new BucklingInput(500.0, 300.0, -1.0, -0.2, 0.1, new StandardDMatrixServiceImpl(), 0, 1, 8, 8);
+        input.setNumberOfModes(0);
+        input.setNumberOfStoredEigenvectors(2);
+        BucklingResult result = Buckling.calc(clt_lam, input);
+
+        BucklingInput allInput = (BucklingInput) input.copy();
+        allInput.setNumberOfStoredEigenvectors(64);
+        BucklingResult reference = Buckling.calc(clt_lam, allInput);
+        assertEquals(2, result.getNumberOfStoredEigenvectors());
+
+        // Änderung des Laminates nach der Berechnung
+        double d11 = clt_lam.getDMatrix()[0][0];
+        lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, 0.0, 0.5));
+        assertNotEquals(d11, clt_lam.getDMatrix()[0][0], 0.0);
+
+        assertEigenvectorsEqual(reference.getEigenvector(5), result.getEigenvector(5));
+        // alle Eigenformen werden bei der ersten Nachberechnung gespeichert
+        assertEquals(result.getEigenvalues_().length, result.getNumberOfStoredEigenvectors());
+        assertEigenvectorsEqual(reference.getEigenvector(40), result.getEigenvector(40));
+    }
+
+    @Test
+    public void vibrationEigenvectorsUseOriginalLaminate() {
+        DefaultMaterial mat = createMaterial();
+        Laminat lam = createLaminate(mat);
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        VibrationInput input = new VibrationInput(500.0, 300.0, new StandardDMatrixServiceImpl(), 1, 1, 8, 8);
+        input.setNumberOfModes(6);
+        input.setNumberOfStoredEigenvectors(1);
+        VibrationResult result = Vibration.calc(clt_lam, input);
+
+        VibrationInput allInput = (VibrationInput) input.copy();
+        allInput.setNumberOfStoredEigenvectors(6);
+        VibrationResult reference = Vibration.calc(clt_lam, allInput);
+
+        double i0 = clt_lam.getMassMoments().getI0();
+        lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, 0.0, 0.5));
+        assertNotEquals(i0, clt_lam.getMassMoments().getI0(), 0.0);
+
+        assertEigenvectorsEqual(reference.getEigenvector(4), result.getEigenvector(4));
+        assertEquals(6, result.getNumberOfStoredEigenvectors());
+    }
+}
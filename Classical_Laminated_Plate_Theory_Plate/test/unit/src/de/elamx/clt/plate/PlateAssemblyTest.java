@@ -0,0 +1,228 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Boundary.Boundary_CC_200;
+import de.elamx.clt.plate.Boundary.Boundary_CF_200;
+import de.elamx.clt.plate.Boundary.Boundary_SC_200;
+import de.elamx.clt.plate.Boundary.Boundary_SS_200;
+import de.elamx.clt.plate.Mechanical.InplaneLoad;
+import de.elamx.clt.plate.Mechanical.Plate;
+import de.elamx.clt.plate.Stiffener.Properties.DefaultStiffenerProperties;
+import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import de.elamx.clt.plate.Stiffener.Stiffener;
+import de.elamx.clt.plate.Stiffener.Stiffenerx;
+import de.elamx.clt.plate.Stiffener.Stiffenery;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Vergleich der Assemblierung über Kronecker-Produkte mit der bisherigen
+ * Assemblierung in vier geschachtelten Schleifen für eine versteifte Platte.
+ *
+ * @author Andreas Hauffe
+ */
+public class PlateAssemblyTest {
+
+    public PlateAssemblyTest() {
+    }
+
+    @Test
+    public void kroneckerSumMatchesLoopAssembly() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        // symmetrisch für die Massenmomente, aber mit D16 und D26 ungleich null
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1");
+        for (double angle : new double[]{45.0, -45.0, 0.0, 90.0, 10.0, 30.0}) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer", mat, angle, 0.25));
+        }
+        lam.setSymmetric(true);
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+        double[][] dmat = clt_lam.getDMatrix();
+
+        double length = 500.0;
+        double width = 300.0;
+        int m = 7;
+        int n = 6;
+        int nm = m * n;
+        Boundary[][] boundaries = {
+            {new Boundary_SS_200(length, m), new Boundary_SC_200(width, n)},
+            {new Boundary_CF_200(length, m), new Boundary_CC_200(width, n)}};
+
+        for (Boundary[] b : boundaries) {
+            Boundary bx = b[0];
+            Boundary by = b[1];
+
+            List<Stiffener> stiffeners = new ArrayList<>();
+            for (int ii = 0; ii < 4; ii++) {
+                int direction = ii % 2 == 0 ? StiffenerProperties.X_DIRECTION : StiffenerProperties.Y_DIRECTION;
+                double position = -100.0 + 60.0 * ii;
+                StiffenerProperties props = new DefaultStiffenerProperties("Stiffener", direction, position, 70000.0 + ii, 1000.0 + 10.0 * ii, 27000.0, 500.0, 0.0, 50.0, 2.7E-9);
+                stiffeners.add(direction == StiffenerProperties.X_DIRECTION ? new Stiffenerx(props, position) : new Stiffenery(props, position));
+            }
+
+            double[][] kmat = new double[nm][nm];
+            double[][] mmat = new double[nm][nm];
+            double[][] kgmat = new double[nm][nm];
+            Plate plate = new Plate(length, width);
+            plate.addStiffness(dmat, kmat, m, n, bx, by);
+            plate.addMass(clt_lam, mmat, m, n, bx, by);
+            Stiffener.addStiffnessAndMass(stiffeners, kmat, mmat, m, n, bx, by);
+            new InplaneLoad(-1.0, 0.3, 0.5).add(kgmat, m, n, bx, by);
+
+            double[][] kRef = new double[nm][nm];
+            double[][] mRef = new double[nm][nm];
+            double[][] kgRef = new double[nm][nm];
+            addPlateStiffness(dmat, kRef, m, n, bx, by);
+            addPlateMass(clt_lam.getMassMoments().getI0(), clt_lam.getMassMoments().getI2(), mRef, m, n, bx, by);
+            for (Stiffener s : stiffeners) {
+                addStiffener(s, kRef, mRef, m, n, bx, by);
+            }
+            addGeometricStiffness(kgRef, m, n, bx, by, -1.0, 0.3, 0.5);
+
+            assertMatrixEquals(kRef, kmat);
+            assertMatrixEquals(mRef, mmat);
+            assertMatrixEquals(kgRef, kgmat);
+        }
+    }
+
+    private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+        double max = 0.0;
+        for (double[] row : expected) {
+            for (double v : row) {
+                max = Math.max(max, Math.abs(v));
+            }
+        }
+        for (int k = 0; k < expected.length; k++) {
+            for (int l = 0; l < expected.length; l++) {
+                assertEquals(expected[k][l], actual[k][l], 1.0E-12 * max);
+            }
+        }
+    }
+
+    private static void addPlateStiffness(double[][] dmat, double[][] kmat, int m, int n, Boundary bx, Boundary by) {
+        int k = -1;
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                k++;
+                int l = -1;
+                for (int ii = 0; ii < m; ii++) {
+                    for (int jj = 0; jj < n; jj++) {
+                        l++;
+                        kmat[k][l] += (dmat[0][0] * (bx.IdX2dX2(ii, pp) * by.IXX(jj, qq))
+                                + dmat[0][1] * (bx.IXdX2(ii, pp) * by.IXdX2(qq, jj) + bx.IXdX2(pp, ii) * by.IXdX2(jj, qq))
+                                + 2 * dmat[0][2] * (bx.IdXdX2(ii, pp) * by.IXdX(qq, jj) + bx.IdXdX2(pp, ii) * by.IXdX(jj, qq))
+                                + dmat[1][1] * (bx.IXX(ii, pp) * by.IdX2dX2(jj, qq))
+                                + 2 * dmat[1][2] * (bx.IXdX(pp, ii) * by.IdXdX2(jj, qq) + bx.IXdX(ii, pp) * by.IdXdX2(qq, jj))
+                                + 4 * dmat[2][2] * (bx.IdXdX(ii, pp) * by.IdXdX(jj, qq)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addPlateMass(double I0, double I2, double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+        int k = -1;
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                k++;
+                int l = -1;
+                for (int ii = 0; ii < m; ii++) {
+                    for (int jj = 0; jj < n; jj++) {
+                        l++;
+                        mmat[k][l] -= (I0 * bx.IXX(ii, pp) * by.IXX(jj, qq)
+                                + I2 * (bx.IdXdX(ii, pp) * by.IXX(jj, qq) + bx.IXX(ii, pp) * by.IdXdX(jj, qq)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addGeometricStiffness(double[][] kgmat, int m, int n, Boundary bx, Boundary by, double nx, double ny, double nxy) {
+        int k = -1;
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                k++;
+                int l = -1;
+                for (int ii = 0; ii < m; ii++) {
+                    for (int jj = 0; jj < n; jj++) {
+                        l++;
+                        kgmat[k][l] = nx * (bx.IdXdX(ii, pp) * by.IXX(jj, qq))
+                                + nxy * (bx.IXdX(ii, pp) * by.IXdX(qq, jj) + bx.IXdX(pp, ii) * by.IXdX(jj, qq))
+                                + ny * (bx.IXX(ii, pp) * by.IdXdX(jj, qq));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addStiffener(Stiffener s, double[][] kmat, double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+        StiffenerProperties props = s.getProperties();
+        double EI = props.getE() * props.getI();
+        double GJ = props.getG() * props.getJ();
+        double rhoA = props.getRho() * props.getA();
+        boolean xDirection = s.getDirection() == Stiffener.X_DIRECTION;
+        // Position wie in der bisherigen Implementierung, für die Masse der
+        // x-Versteifung bezogen auf die Plattenlänge
+        double tPosK = s.getPosition() + (xDirection ? by : bx).getA() / 2.0;
+        double tPosM = s.getPosition() + bx.getA() / 2.0;
+
+        int k = -1;
+        for (int pp = 0; pp < m; pp++) {
+            for (int qq = 0; qq < n; qq++) {
+                k++;
+                int l = -1;
+                for (int ii = 0; ii < m; ii++) {
+                    for (int jj = 0; jj < n; jj++) {
+                        l++;
+                        if (xDirection) {
+                            kmat[k][l] += EI * bx.IdX2dX2(ii, pp) * by.wx(jj, tPosK) * by.wx(qq, tPosK)
+                                    + GJ * bx.IdXdX(ii, pp) * by.wdx(jj, tPosK) * by.wdx(qq, tPosK);
+                            mmat[k][l] -= rhoA * bx.IXX(ii, pp) * by.wx(jj, tPosM) * by.wx(qq, tPosM);
+                        } else {
+                            kmat[k][l] += EI * by.IdX2dX2(jj, qq) * bx.wx(ii, tPosK) * bx.wx(pp, tPosK)
+                                    + GJ * by.IdXdX(jj, qq) * bx.wdx(ii, tPosK) * bx.wdx(pp, tPosK);
+                            mmat[k][l] -= rhoA * by.IXX(jj, qq) * bx.wx(ii, tPosM) * bx.wx(pp, tPosM);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
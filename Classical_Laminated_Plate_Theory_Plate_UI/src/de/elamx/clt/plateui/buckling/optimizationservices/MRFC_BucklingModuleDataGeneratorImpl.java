@@ -48,7 +48,11 @@ public class MRFC_BucklingModuleDataGeneratorImpl implements MRFC_ModuleDataGene
         if (calculator instanceof MinimalBucklingReserveFactorImpl){
             MinimalBucklingReserveFactorImpl calc = (MinimalBucklingReserveFactorImpl)calculator;
             
-            laminat.getLookup().add(new BucklingModuleData(laminat, (BucklingInput)calc.getInput().copy()));
+            BucklingInput input = (BucklingInput)calc.getInput().copy();
+            // Im Beulmodul sollen wieder alle Eigenformen berechnet werden.
+            input.setNumberOfModes(0);
+            input.setNumberOfStoredEigenvectors(BucklingInput.DEFAULT_NUMBER_OF_STORED_EIGENVECTORS);
+            laminat.getLookup().add(new BucklingModuleData(laminat, input));
             
             return true;
         }
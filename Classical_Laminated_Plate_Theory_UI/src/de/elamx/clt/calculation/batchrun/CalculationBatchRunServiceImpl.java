@@ -28,15 +28,26 @@ package de.elamx.clt.calculation.batchrun;
 import ch.systemsx.cisd.hdf5.HDF5CompoundType;
 import ch.systemsx.cisd.hdf5.IHDF5Writer;
 import de.elamx.clt.CLT_Calculator;
+import de.elamx.clt.CLT_Input;
 import de.elamx.clt.CLT_Laminate;
 import de.elamx.clt.CLT_LayerResult;
+import de.elamx.clt.Loads;
+import de.elamx.clt.Strains;
 import de.elamx.clt.calculation.CalculationModuleData;
 import de.elamx.core.BatchRunService;
+import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.openide.util.Lookup;
 import org.openide.util.lookup.ServiceProvider;
 
@@ -75,24 +86,46 @@ public class CalculationBatchRunServiceImpl implements BatchRunService {
         double minRF_temp;
         int minRF_layer = -1;
         String minRF_position = "";
-        for (CalculationModuleData data : col) {
-            CLT_Calculator.determineValues(clt_lam, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), data.getDataHolder().isUseStrains());
-            CLT_LayerResult[] layerResults = CLT_Calculator.getLayerResults(data.getLaminat().getLookup().lookup(CLT_Laminate.class), data.getDataHolder().getLoad(), data.getDataHolder().getStrains());
-            outputWriter.writeResults(ps, data, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), layerResults);
+
+        /*
+        Auswertung aller Lastfälle parallel im Fork-Join-Pool. Gerechnet wird
+        auf Kopien der Lasten und Verzerrungen, die Eingabedaten werden nicht
+        verändert.
+         */
+        List<CalculationModuleData> datas = new ArrayList<>(col);
+        int numCases = datas.size();
+        Loads[] loads = new Loads[numCases];
+        Strains[] strains = new Strains[numCases];
+        boolean[][] useStrains = new boolean[numCases][];
+        for (int ii = 0; ii < numCases; ii++) {
+            CLT_Input dataHolder = datas.get(ii).getDataHolder();
+            loads[ii] = dataHolder.getLoad().getCopy();
+            strains[ii] = dataHolder.getStrains().getCopy();
+            useStrains[ii] = dataHolder.isUseStrains().clone();
+        }
+        CLT_LayerResult[][] layerResults = evaluate(clt_lam, loads, strains, useStrains);
+        if (layerResults == null) {
+            return;
+        }
+
+        // Ausgabe in der ursprünglichen Reihenfolge
+        for (int ii = 0; ii < numCases; ii++) {
+            CalculationModuleData data = datas.get(ii);
+            outputWriter.writeResults(ps, data, loads[ii], strains[ii], layerResults[ii]);
 
             if (hdf5OutputWriter != null) {
-                hdf5OutputWriter.writeResults(hdf5writer, data, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), layerResults);
+                hdf5OutputWriter.writeResults(hdf5writer, data, loads[ii], strains[ii], layerResults[ii]);
 
                 minRF_temp = Double.MAX_VALUE;
-                for (int lay = 0; lay < layerResults.length; lay++) {
-                    if (layerResults[lay].getRr_lower().getMinimalReserveFactor() < minRF_temp) {
-                        minRF_temp = layerResults[lay].getRr_lower().getMinimalReserveFactor();
+                for (int lay = 0; lay < layerResults[ii].length; lay++) {
+                    if (layerResults[ii][lay].getRr_lower().getMinimalReserveFactor() < minRF_temp) {
+                        minRF_temp = layerResults[ii][lay].getRr_lower().getMinimalReserveFactor();
                         minRF_layer = lay + 1;
                         minRF_position = "lower";
                     }
 
-                    if (layerResults[lay].getRr_upper().getMinimalReserveFactor() < minRF_temp) {
-                        minRF_temp = layerResults[lay].getRr_upper().getMinimalReserveFactor();
+                    if (layerResults[ii][lay].getRr_upper().getMinimalReserveFactor() < minRF_temp) {
+                        minRF_temp = layerResults[ii][lay].getRr_upper().getMinimalReserveFactor();
                         minRF_layer = lay + 1;
                         minRF_position = "upper";
                     }
@@ -128,4 +161,54 @@ public class CalculationBatchRunServiceImpl implements BatchRunService {
             hdf5writer.compound().write(calculationGroup.concat("/min RF"), HDF5minRFType, minRFValuesArrayList);
         }
     }
+
+    /**
+     * Berechnet die Schichtergebnisse aller Lastfälle im Fork-Join-Pool aus
+     * {@link GlobalProperties#getBatchRunPool()}. Die Lastfälle werden in
+     * zusammenhängende Blöcke aufgeteilt, die jeweils gemeinsam gelöst werden.
+     * Die übergebenen Lasten und Verzerrungen werden mit den Ergebnissen
+     * überschrieben und dürfen daher nicht geteilt sein.
+     *
+     * @param clt_lam Laminat
+     * @param loads Lasten der Lastfälle
+     * @param strains Verzerrungen der Lastfälle
+     * @param useStrains Boolean-Vektoren der Länge 6 der Lastfälle
+     * @return Schichtergebnisse je Lastfall oder <code>null</code>, falls die
+     * Auswertung abgebrochen wurde
+     */
+    private static CLT_LayerResult[][] evaluate(CLT_Laminate clt_lam, Loads[] loads, Strains[] strains, boolean[][] useStrains) {
+        int numCases = loads.length;
+        CLT_LayerResult[][] layerResults = new CLT_LayerResult[numCases][];
+
+        ForkJoinPool pool = GlobalProperties.getDefault().getBatchRunPool();
+        int numBlocks = Math.min(numCases, 4 * pool.getParallelism());
+        List<Callable<Void>> tasks = new ArrayList<>(numBlocks);
+        for (int block = 0; block < numBlocks; block++) {
+            int from = (int) ((long) block * numCases / numBlocks);
+            int to = (int) ((long) (block + 1) * numCases / numBlocks);
+            tasks.add(() -> {
+                CLT_Calculator.determineValues(clt_lam,
+                        Arrays.copyOfRange(loads, from, to),
+                        Arrays.copyOfRange(strains, from, to),
+                        Arrays.copyOfRange(useStrains, from, to));
+                for (int ii = from; ii < to; ii++) {
+                    layerResults[ii] = CLT_Calculator.getLayerResults(clt_lam, loads[ii], strains[ii]);
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            Logger.getLogger(CalculationBatchRunServiceImpl.class.getName()).log(Level.SEVERE, null, ex);
+            return null;
+        }
+        return layerResults;
+    }
 }
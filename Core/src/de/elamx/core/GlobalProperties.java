@@ -30,6 +30,7 @@ import java.text.DecimalFormatSymbols;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import org.openide.util.NbPreferences;
 
 /**
@@ -62,6 +63,7 @@ public class GlobalProperties{
     public static final String SHOW_TRANSVERSAL_SHEAR = "show_transversal_shear";
     public static final String INVERT_Z_DEFAULT       = "invert_z_default";
     public static final String RESERVE_FACTOR_ROUND_DOWN = "reserve_factor_round_down";
+    public static final String BATCHRUN_THREADS       = "batchrun_threads";
     
     private final HashMap<String, ELamXDecimalFormat> formats = new HashMap<>();
     
@@ -75,6 +77,9 @@ public class GlobalProperties{
     
     private boolean headless = false;
     
+    private int batchRunThreads;
+    private ForkJoinPool batchRunPool;
+    
     private GlobalProperties(){
         init();
     }
@@ -121,6 +126,8 @@ public class GlobalProperties{
         
         reserveFactorRoundDown = Boolean.parseBoolean(NbPreferences.forModule(GlobalProperties.class).get(RESERVE_FACTOR_ROUND_DOWN, Boolean.toString(false)));
         if (reserveFactorRoundDown) formats.get(FORMAT_RESERVE_FACTOR).setRoundingMode(RoundingMode.DOWN);
+        
+        batchRunThreads = Integer.parseInt(NbPreferences.forModule(GlobalProperties.class).get(BATCHRUN_THREADS, Integer.toString(0)));
     }
     
     public ELamXDecimalFormat getFormat(String format){
@@ -174,4 +181,40 @@ public class GlobalProperties{
     public void setHeadless(boolean headless) {
         this.headless = headless;
     }
+
+    /**
+     * Anzahl der Threads für die parallele Auswertung im Batch-Modus. Ein Wert
+     * kleiner oder gleich 0 steht für die Anzahl der verfügbaren Prozessoren.
+     *
+     * @return Anzahl der Threads
+     */
+    public int getBatchRunThreads() {
+        return batchRunThreads;
+    }
+
+    public synchronized void setBatchRunThreads(int batchRunThreads) {
+        if (this.batchRunThreads == batchRunThreads) {
+            return;
+        }
+        this.batchRunThreads = batchRunThreads;
+        if (batchRunPool != null) {
+            batchRunPool.shutdown();
+            batchRunPool = null;
+        }
+    }
+
+    /**
+     * Liefert den Fork-Join-Pool für die parallele Auswertung im Batch-Modus.
+     * Der Pool wird beim ersten Aufruf mit der über
+     * {@link #setBatchRunThreads(int)} eingestellten Parallelität angelegt.
+     *
+     * @return Fork-Join-Pool
+     */
+    public synchronized ForkJoinPool getBatchRunPool() {
+        if (batchRunPool == null) {
+            int parallelism = batchRunThreads > 0 ? batchRunThreads : Runtime.getRuntime().availableProcessors();
+            batchRunPool = new ForkJoinPool(parallelism);
+        }
+        return batchRunPool;
+    }
 }
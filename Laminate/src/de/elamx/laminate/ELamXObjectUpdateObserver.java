@@ -35,7 +35,12 @@ import java.util.Comparator;
  */
 public class ELamXObjectUpdateObserver implements Comparator<ELamXObject>{
     
-    private static ELamXObjectUpdateObserver instance = null;
+    /*
+     * Je Thread ein eigener Beobachter, damit Optimierer Laminate parallel in
+     * mehreren Threads ändern können. Die Änderungsbenachrichtigungen laufen
+     * immer vollständig in dem Thread ab, in dem die Änderung erfolgt.
+     */
+    private static final ThreadLocal<ELamXObjectUpdateObserver> instance = new ThreadLocal<>();
     
     private ELamXObject source = null;
     
@@ -50,11 +55,11 @@ public class ELamXObjectUpdateObserver implements Comparator<ELamXObject>{
     }
     
     public static void setActual(ELamXObjectUpdateObserver inst){
-        instance = inst;
+        instance.set(inst);
     }
     
     public static ELamXObjectUpdateObserver getActual(){
-        return instance;
+        return instance.get();
     }
     
     public void addELamXObject(ELamXObject eObject){
@@ -68,7 +73,7 @@ public class ELamXObjectUpdateObserver implements Comparator<ELamXObject>{
         }
         objects.clear();
         source = null;
-        instance = null;
+        instance.remove();
     }
 
     @Override
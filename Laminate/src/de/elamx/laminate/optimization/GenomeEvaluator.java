@@ -0,0 +1,121 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.optimization;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bewertet {@link LaminateGenome}-Objekte mit einer Liste von
+ * {@link MinimalReserveFactorCalculator}en. Statt für jeden Lagenaufbau ein
+ * neues Laminat zu erzeugen, wird ein einziges Arbeitslaminat verwendet, in
+ * dem nur die geänderten Einzelschichten angepasst werden. Die von den
+ * Rechnern im Lookup des Laminats abgelegten Daten (z.B. die
+ * Laminatsteifigkeiten) bleiben so erhalten und werden bei reinen
+ * Winkeländerungen inkrementell aktualisiert.
+ *
+ * <p>Ein Objekt dieser Klasse darf nur von einem Thread verwendet werden.
+ * Für parallele Bewertungen ist je Thread ein eigenes Objekt mit eigenen
+ * Kopien der Rechner (siehe {@link MinimalReserveFactorCalculator#getCopy()})
+ * zu verwenden.
+ *
+ * @author Andreas Hauffe
+ */
+public class GenomeEvaluator {
+
+    private final PlyTemplate template;
+    private final List<? extends MinimalReserveFactorCalculator> calculators;
+    private final Laminat laminat = new Laminat("", "", false);
+    private LaminateGenome current = new LaminateGenome(new short[0]);
+
+    public GenomeEvaluator(PlyTemplate template, List<? extends MinimalReserveFactorCalculator> calculators) {
+        this.template = template;
+        this.calculators = calculators;
+        laminat.setSymmetric(template.isSymmetric());
+    }
+
+    public PlyTemplate getTemplate() {
+        return template;
+    }
+
+    public List<? extends MinimalReserveFactorCalculator> getCalculators() {
+        return calculators;
+    }
+
+    /**
+     * Berechnet den kleinsten Reservefaktor aller Rechner für den
+     * Lagenaufbau.
+     *
+     * @param genome Lagenaufbau
+     * @return minimaler Reservefaktor
+     */
+    public double getMinimalReserveFactor(LaminateGenome genome) {
+        update(genome);
+        double minResFac = Double.MAX_VALUE;
+        for (MinimalReserveFactorCalculator calc : calculators) {
+            minResFac = Math.min(minResFac, calc.getMinimalReserveFactor(laminat));
+        }
+        return minResFac;
+    }
+
+    /**
+     * Überträgt den Lagenaufbau auf das Arbeitslaminat. Ändert sich die
+     * Lagenanzahl, werden die Schichten vom Laminat gelöst, angepasst und mit
+     * einer einzigen Änderungsbenachrichtigung wieder angefügt.
+     */
+    private void update(LaminateGenome genome) {
+        int numLayers = genome.getNumberOfLayers();
+        List<DataLayer> layers = laminat.getOriginalLayers();
+        boolean restack = layers.size() != numLayers;
+        if (restack) {
+            layers = new ArrayList<>(layers.subList(0, Math.min(layers.size(), numLayers)));
+            laminat.clear();
+        }
+        for (int ii = 0; ii < numLayers; ii++) {
+            DataLayer ply = template.getPly(genome.getPly(ii));
+            if (ii >= layers.size()) {
+                layers.add(ply.getCopyWithoutListeners(ply.getAngle()));
+            } else if (ii >= current.getNumberOfLayers() || genome.getPly(ii) != current.getPly(ii)) {
+                DataLayer layer = layers.get(ii);
+                if (layer.getMaterial() == ply.getMaterial()
+                        && layer.getThickness() == ply.getThickness()
+                        && layer.getCriterion() == ply.getCriterion()) {
+                    layer.setAngle(ply.getAngle());
+                } else if (restack) {
+                    layers.set(ii, ply.getCopyWithoutListeners(ply.getAngle()));
+                } else {
+                    laminat.setLayer(ii, ply.getCopyWithoutListeners(ply.getAngle()));
+                }
+            }
+        }
+        if (restack) {
+            laminat.addLayers(layers);
+        }
+        current = genome;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Kompakte Darstellung eines Lagenaufbaus für Optimierer. Für jede
+ * Einzelschicht (ohne symmetrische Schichten) wird nur der Index der Lage in
+ * einem gemeinsamen {@link PlyTemplate} gespeichert. Ein vollständiges
+ * {@link de.elamx.laminate.Laminat} wird erst mit
+ * {@link PlyTemplate#createLaminat(LaminateGenome)} erzeugt.
+ *
+ * <p>Objekte dieser Klasse sind unveränderlich.
+ *
+ * @author Andreas Hauffe
+ */
+public final class LaminateGenome {
+
+    private final short[] plies;
+
+    /**
+     * @param plies Index der Lage im Template je Einzelschicht. Das Feld wird
+     * nicht kopiert und darf danach nicht mehr verändert werden.
+     */
+    public LaminateGenome(short[] plies) {
+        this.plies = plies;
+    }
+
+    /**
+     * Erzeugt einen Lagenaufbau, in dem alle Einzelschichten dieselbe Lage
+     * verwenden.
+     *
+     * @param numLayers Anzahl der Einzelschichten
+     * @param ply Index der Lage im Template
+     * @return neuer Lagenaufbau
+     */
+    public static LaminateGenome filled(int numLayers, int ply) {
+        short[] plies = new short[numLayers];
+        Arrays.fill(plies, (short) ply);
+        return new LaminateGenome(plies);
+    }
+
+    public int getNumberOfLayers() {
+        return plies.length;
+    }
+
+    /**
+     * @param layer Index der Einzelschicht
+     * @return Index der Lage im Template
+     */
+    public int getPly(int layer) {
+        return plies[layer];
+    }
+
+    /**
+     * Liefert einen Lagenaufbau, in dem die Einzelschicht <code>layer</code>
+     * durch die Lage <code>ply</code> ersetzt ist.
+     *
+     * @param layer Index der Einzelschicht
+     * @param ply Index der Lage im Template
+     * @return neuer Lagenaufbau
+     */
+    public LaminateGenome withPly(int layer, int ply) {
+        short[] newPlies = plies.clone();
+        newPlies[layer] = (short) ply;
+        return new LaminateGenome(newPlies);
+    }
+
+    /**
+     * Liefert einen Lagenaufbau, an den die Lage <code>ply</code> angehängt
+     * ist.
+     *
+     * @param ply Index der Lage im Template
+     * @return neuer Lagenaufbau
+     */
+    public LaminateGenome addPly(int ply) {
+        short[] newPlies = Arrays.copyOf(plies, plies.length + 1);
+        newPlies[plies.length] = (short) ply;
+        return new LaminateGenome(newPlies);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LaminateGenome)) {
+            return false;
+        }
+        return Arrays.equals(plies, ((LaminateGenome) obj).plies);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(plies);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(plies);
+    }
+}
@@ -36,6 +36,19 @@ public interface MinimalReserveFactorCalculator {
     public double getMinimalReserveFactor(Laminat laminat);
     
     public boolean isSymmetricLaminateNeeded();
+
+    /**
+     * Gibt an, ob der Reservefaktor eines symmetrischen Laminats nur von der
+     * Anzahl der Lagen je Winkel und Material, nicht aber von deren
+     * Reihenfolge abhängt. Das ist z.B. in der CLT bei reinen Scheibenlasten
+     * der Fall. Optimierer dürfen dann Lagenaufbauten, die sich nur in der
+     * Reihenfolge der Lagen unterscheiden, als gleichwertig ansehen.
+     *
+     * @return true, wenn die Reihenfolge der Lagen keinen Einfluss hat
+     */
+    public default boolean isStackingSequenceIrrelevant() {
+        return false;
+    }
     
     public MinimalReserveFactorCalculator getCopy();
     
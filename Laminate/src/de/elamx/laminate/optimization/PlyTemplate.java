@@ -0,0 +1,116 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.optimization;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.Laminat;
+import java.util.Arrays;
+
+/**
+ * Gemeinsame Lagendefinition für alle {@link LaminateGenome}-Objekte eines
+ * Optimierungslaufs. Enthält die möglichen Lagen (Material, Dicke,
+ * Versagenskriterium und Winkel) sowie das Symmetrieflag.
+ *
+ * @author Andreas Hauffe
+ */
+public class PlyTemplate {
+
+    private final DataLayer[] plies;
+    private final boolean symmetric;
+
+    /**
+     * @param plies mögliche Lagen, der Index im Feld ist der Index im
+     * {@link LaminateGenome}
+     * @param symmetric true, wenn die Laminate symmetrisch sind
+     */
+    public PlyTemplate(DataLayer[] plies, boolean symmetric) {
+        this.plies = plies;
+        this.symmetric = symmetric;
+    }
+
+    /**
+     * Erzeugt ein Template mit einer Lage je Winkel. Der Index der Lage
+     * entspricht dem Index des Winkels in <code>angles</code>.
+     *
+     * @param baseLayer Lage mit Material, Dicke und Versagenskriterium
+     * @param angles mögliche Winkel
+     * @param symmetric true, wenn die Laminate symmetrisch sind
+     * @return neues Template
+     */
+    public static PlyTemplate create(DataLayer baseLayer, double[] angles, boolean symmetric) {
+        DataLayer[] plies = new DataLayer[angles.length];
+        for (int ii = 0; ii < angles.length; ii++) {
+            plies[ii] = baseLayer.getCopyWithoutListeners(angles[ii]);
+        }
+        return new PlyTemplate(plies, symmetric);
+    }
+
+    /**
+     * Liefert ein neues Template, an das die Lage <code>ply</code> angehängt
+     * ist.
+     *
+     * @param ply zusätzliche Lage
+     * @return neues Template
+     */
+    public PlyTemplate withPly(DataLayer ply) {
+        DataLayer[] newPlies = Arrays.copyOf(plies, plies.length + 1);
+        newPlies[plies.length] = ply;
+        return new PlyTemplate(newPlies, symmetric);
+    }
+
+    public int getNumberOfPlies() {
+        return plies.length;
+    }
+
+    public DataLayer getPly(int index) {
+        return plies[index];
+    }
+
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * Erzeugt ein vollständiges Laminat (ohne Eintrag im globalen Lookup) für
+     * den Lagenaufbau. Gedacht ist die Methode nur für auszugebende
+     * Ergebnisse, die Bewertung während der Optimierung erfolgt mit einem
+     * {@link GenomeEvaluator}.
+     *
+     * @param genome Lagenaufbau
+     * @return neues Laminat
+     */
+    public Laminat createLaminat(LaminateGenome genome) {
+        Laminat laminat = new Laminat("", "", false);
+        laminat.setSymmetric(symmetric);
+        DataLayer[] layers = new DataLayer[genome.getNumberOfLayers()];
+        for (int ii = 0; ii < layers.length; ii++) {
+            DataLayer ply = plies[genome.getPly(ii)];
+            layers[ii] = ply.getCopyWithoutListeners(ply.getAngle());
+        }
+        laminat.addLayers(Arrays.asList(layers));
+        return laminat;
+    }
+}
@@ -43,6 +43,7 @@ import de.elamx.laminate.failure.ReserveFactor;
 import de.elamx.mathtools.MatrixTools;
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 
 /**
@@ -77,6 +78,9 @@ public class PlyFailureCriterion{
     private final double[] axisIntersections = {0.0, 0.0, 0.0, 0.0, 0.0, 0.0};
     
     private boolean ABD_ok = true;
+
+    private final double[] abd   = new double[36];    // ABD-Matrix, zeilenweise
+    private final double[] abdLD = new double[36];    // LDL^T-Zerlegung der ABD-Matrix
     
     public PlyFailureCriterion(Laminat laminate, ArrayList<Color> layerColor, int failureType, int resolution){
         this.laminate   = laminate;
@@ -166,7 +170,7 @@ public class PlyFailureCriterion{
     }
 
     private double[][][] getPointInformation(){
-        int mm,nn;                                      // Hilfvariablen als Zähler
+        int mm;                                         // Hilfvariable als Zähler
         int numLayers = laminate.getNumberofLayers();   // Anzahl der Lagen
 
         boolean[] ZFB  = new boolean[numLayers];        // Vektor, das definiert welche Lagen aktiv sind
@@ -183,11 +187,10 @@ public class PlyFailureCriterion{
         double[] nVec       = new double[3];            // Lastvetkor
         double[] VecNMax   = new double[3];             // maximaler Kraft
         double[] eVec       = new double[6];            // Verzerrungsvektor
+        double[] loadVec    = new double[6];            // Schnittlastvektor (ohne Momente)
         double[] rfMinLayer = new double[numLayers];    // Vektor mit den minimalen Reservefaktoren der Lagen
         int[]    failTypLay = new int[numLayers];
 
-        double[][]   ABDmatInv;                         // Inverse ABD-Matrix
-
         double[][][] punkte = new double [alphaSteps_+1][betaSteps_+1][4];  // Punktinformationen für die Darstellung 1-3 x,y,z Koordinate, 4 Farbe
         
         CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
@@ -209,8 +212,8 @@ public class PlyFailureCriterion{
             ZFB[ii]    = false;
         }
 
-        // Generieren der inversen A-Matrix
-        ABDmatInv = getABDMatInv(layers, ZFB);
+        // Zerlegung der ABD-Matrix
+        factorizeABDMat(layers, ZFB);
         
         double maxVal = 0.0;
 
@@ -230,10 +233,8 @@ public class PlyFailureCriterion{
                 
                 do{
                     // Berechnen der Dehnungen
-                    for (mm = 0; mm < 6; mm++){
-                        eVec[mm] = 0;
-                        for (nn = 0; nn < 3; nn++) eVec[mm] += ABDmatInv[mm][nn] * nVec[nn];
-                    }
+                    System.arraycopy(nVec, 0, loadVec, 0, 3);
+                    MatrixTools.solveLDLT6x6(abdLD, loadVec, eVec);
 
                     // Suchen des minimalen Reservefaktors
                     RF = Double.MAX_VALUE;
@@ -292,8 +293,8 @@ public class PlyFailureCriterion{
                         break;
                     }
 
-                    // Generieren der inversen ABD-Matrix
-                    ABDmatInv = getABDMatInv(layers, ZFB);
+                    // Zerlegung der ABD-Matrix
+                    factorizeABDMat(layers, ZFB);
                     
                 } while(ABD_ok); // solange, wie die ABD-Matrix keine Fastnullelemente auf der Hauptdiagonalen hat
                 
@@ -304,7 +305,7 @@ public class PlyFailureCriterion{
                         numZFBLayers = 0;
                         ((DataLayer) layers[mm].getLayer()).setMaterial(getAsDefaultMaterial(origLayers[mm].getLayer().getMaterial()));
                     }
-                    ABDmatInv = getABDMatInv(layers, ZFB);
+                    factorizeABDMat(layers, ZFB);
                 }
 
                 // Punkt für die Darstellung abspeichern
@@ -345,17 +346,19 @@ public class PlyFailureCriterion{
         return new Vector3((float)(-zvec[0]),(float)(-zvec[1]),(float)(-zvec[2]));
     }
 
-    private double[][] getABDMatInv(CLT_Layer[] layers, boolean[] ZFB){
+    /**
+     * Berechnet die ABD-Matrix und ihre LDL^T-Zerlegung in die Felder
+     * <code>abd</code> und <code>abdLD</code>. Es wird nur das untere Dreieck
+     * belegt.
+     */
+    private void factorizeABDMat(CLT_Layer[] layers, boolean[] ZFB){
 
-        int ii, jj, m, n;
+        int ii, m, n;
         double thick;
         double[][] Qmat;
-        double[][] A = new double[3][3];
-        double[][] B = new double[3][3];
-        double[][] D = new double[3][3];
-        double[][] ABD = new double[6][6];
         
         double temp, zm;
+        Arrays.fill(abd, 0.0);
         CLT_Layer layer;
         for (ii = 0; ii < layers.length; ii++){
             layer = layers[ii];
@@ -372,44 +375,24 @@ public class PlyFailureCriterion{
             for (m = 0; m < 3; m++){
                 for (n = 0; n < 3; n++){
                     temp = Qmat[m][n] * thick;
-                    A[m][n] += temp;
-                    B[m][n] += temp * zm;
-                    D[m][n] += temp * (thick*thick/12.0 + zm*zm);
+                    if (n <= m){
+                        abd[6*m + n]       += temp;                                   // A
+                        abd[6*(m+3) + n+3] += temp * (thick*thick/12.0 + zm*zm);      // D
+                    }
+                    abd[6*(m+3) + n] += temp * zm;                                    // B
                 }
             }
         }
         
-        for(ii = 0; ii < 3; ii++){
-            for(jj = 0; jj <= ii; jj++){
-                ABD[ii][jj] = A[ii][jj];
-            }
-        }
-
-        for(ii = 0; ii < 3; ii++){
-            System.arraycopy(B[ii], 0, ABD[ii+3], 0, 3);
-        }
-
-        for(ii = 0; ii < 3; ii++){
-            for(jj = 0; jj <= ii; jj++){
-                ABD[ii+3][jj+3] = D[ii][jj];
-            }
-        }
-        
-        for(ii = 0; ii < 6; ii++){
-            for(jj = ii+1; jj < 6; jj++){
-                ABD[ii][jj] = ABD[jj][ii];
-            }
-        }
-        
         ABD_ok = true;
         for (ii = 0; ii < 6; ii++){
-            if (Math.abs(ABD[ii][ii]) < EPS_ZERO ){
+            if (Math.abs(abd[7*ii]) < EPS_ZERO ){
                 ABD_ok = false;
                 break;
             }
         }
 
-        return MatrixTools.getInverse(ABD);
+        MatrixTools.factorizeLDLT6x6(abd, abdLD);
     }
     
     private DefaultMaterial getAsDefaultMaterial(LayerMaterial material){
@@ -25,12 +25,42 @@
  */
 package de.elamx.mathtools;
 
+import java.util.Arrays;
+import java.util.Random;
+
 /**
  *
  * @author Andreas Hauffe
  */
 public class MatrixTools {
 
+    /**
+     * Eigenwertlöser mit Householder-Tridiagonalisierung und implizitem
+     * QL-Verfahren.
+     */
+    public static final int EIGENSOLVER_QL = 0;
+    /**
+     * Klassisches Jacobi-Verfahren.
+     */
+    public static final int EIGENSOLVER_JACOBI = 1;
+
+    private static volatile int defaultEigenSolver = EIGENSOLVER_QL;
+
+    /**
+     * Setzt den Eigenwertlöser, der von
+     * {@link #getEigenValues(double[][], double[][], int, int, int, double[][][])}
+     * verwendet wird.
+     *
+     * @param solver {@link #EIGENSOLVER_QL} oder {@link #EIGENSOLVER_JACOBI}
+     */
+    public static void setDefaultEigenSolver(int solver) {
+        defaultEigenSolver = solver;
+    }
+
+    public static int getDefaultEigenSolver() {
+        return defaultEigenSolver;
+    }
+
     /**
      * Liefert die Maximumnorm einer Matrix zurück.
      * @param mat
@@ -195,6 +225,216 @@ public class MatrixTools {
         return kInverse;
     }
 
+    /**
+     * Berechnet die Inverse einer 3x3-Matrix. Die Matrizen sind zeilenweise in
+     * Felder der Länge 9 gespeichert. <code>m</code> und <code>inv</code>
+     * dürfen nicht dasselbe Feld sein.
+     *
+     * @param m Matrix
+     * @param inv Ergebnis, Inverse der Matrix
+     */
+    public static void invert3x3(double[] m, double[] inv) {
+        double c00 = m[4] * m[8] - m[5] * m[7];
+        double c01 = m[5] * m[6] - m[3] * m[8];
+        double c02 = m[3] * m[7] - m[4] * m[6];
+
+        double detInv = 1.0 / (m[0] * c00 + m[1] * c01 + m[2] * c02);
+
+        inv[0] = c00 * detInv;
+        inv[1] = (m[2] * m[7] - m[1] * m[8]) * detInv;
+        inv[2] = (m[1] * m[5] - m[2] * m[4]) * detInv;
+        inv[3] = c01 * detInv;
+        inv[4] = (m[0] * m[8] - m[2] * m[6]) * detInv;
+        inv[5] = (m[2] * m[3] - m[0] * m[5]) * detInv;
+        inv[6] = c02 * detInv;
+        inv[7] = (m[1] * m[6] - m[0] * m[7]) * detInv;
+        inv[8] = (m[0] * m[4] - m[1] * m[3]) * detInv;
+    }
+
+    /**
+     * Berechnet die Inverse einer 3x3-Matrix in die übergebene 3x3-Matrix.
+     * <code>m</code> und <code>inv</code> dürfen nicht dasselbe Feld sein.
+     *
+     * @param m Matrix
+     * @param inv Ergebnis, Inverse der Matrix
+     */
+    public static void invert3x3(double[][] m, double[][] inv) {
+        double c00 = m[1][1] * m[2][2] - m[1][2] * m[2][1];
+        double c01 = m[1][2] * m[2][0] - m[1][0] * m[2][2];
+        double c02 = m[1][0] * m[2][1] - m[1][1] * m[2][0];
+
+        double detInv = 1.0 / (m[0][0] * c00 + m[0][1] * c01 + m[0][2] * c02);
+
+        inv[0][0] = c00 * detInv;
+        inv[0][1] = (m[0][2] * m[2][1] - m[0][1] * m[2][2]) * detInv;
+        inv[0][2] = (m[0][1] * m[1][2] - m[0][2] * m[1][1]) * detInv;
+        inv[1][0] = c01 * detInv;
+        inv[1][1] = (m[0][0] * m[2][2] - m[0][2] * m[2][0]) * detInv;
+        inv[1][2] = (m[0][2] * m[1][0] - m[0][0] * m[1][2]) * detInv;
+        inv[2][0] = c02 * detInv;
+        inv[2][1] = (m[0][1] * m[2][0] - m[0][0] * m[2][1]) * detInv;
+        inv[2][2] = (m[0][0] * m[1][1] - m[0][1] * m[1][0]) * detInv;
+    }
+
+    /**
+     * Löst das 3x3-Gleichungssystem mx=b nach der Cramerschen Regel. Die Matrix
+     * ist zeilenweise in einem Feld der Länge 9 gespeichert. <code>b</code> und
+     * <code>x</code> dürfen dasselbe Feld sein.
+     *
+     * @param m Matrix
+     * @param b rechte Seite
+     * @param x Ergebnis, Lösungsvektor
+     */
+    public static void solve3x3(double[] m, double[] b, double[] x) {
+        double c00 = m[4] * m[8] - m[5] * m[7];
+        double c01 = m[5] * m[6] - m[3] * m[8];
+        double c02 = m[3] * m[7] - m[4] * m[6];
+
+        double detInv = 1.0 / (m[0] * c00 + m[1] * c01 + m[2] * c02);
+
+        double b0 = b[0], b1 = b[1], b2 = b[2];
+        x[0] = (c00 * b0 + (m[2] * m[7] - m[1] * m[8]) * b1 + (m[1] * m[5] - m[2] * m[4]) * b2) * detInv;
+        x[1] = (c01 * b0 + (m[0] * m[8] - m[2] * m[6]) * b1 + (m[2] * m[3] - m[0] * m[5]) * b2) * detInv;
+        x[2] = (c02 * b0 + (m[1] * m[6] - m[0] * m[7]) * b1 + (m[0] * m[4] - m[1] * m[3]) * b2) * detInv;
+    }
+
+    /**
+     * LDL<sup>T</sup>-Zerlegung einer symmetrischen, positiv definiten
+     * 6x6-Matrix, z.B. der ABD-Matrix. Die Matrizen sind zeilenweise in
+     * Feldern der Länge 36 gespeichert, von <code>a</code> wird nur das untere
+     * Dreieck gelesen. In <code>ld</code> steht danach unterhalb der
+     * Hauptdiagonalen L (mit impliziter Einheitsdiagonale) und auf der
+     * Hauptdiagonalen D. Das obere Dreieck von <code>ld</code> wird nicht
+     * verwendet. <code>a</code> und <code>ld</code> dürfen dasselbe Feld sein.
+     *
+     * @param a symmetrische Matrix
+     * @param ld Ergebnis, Faktoren L und D
+     */
+    public static void factorizeLDLT6x6(double[] a, double[] ld) {
+        for (int j = 0; j < 6; j++) {
+            int rowJ = 6 * j;
+            double d = a[rowJ + j];
+            for (int k = 0; k < j; k++) {
+                double l = ld[rowJ + k];
+                d -= l * l * ld[7 * k];
+            }
+            ld[rowJ + j] = d;
+            double dInv = 1.0 / d;
+            for (int i = j + 1; i < 6; i++) {
+                int rowI = 6 * i;
+                double h = a[rowI + j];
+                for (int k = 0; k < j; k++) {
+                    h -= ld[rowI + k] * ld[rowJ + k] * ld[7 * k];
+                }
+                ld[rowI + j] = h * dInv;
+            }
+        }
+    }
+
+    /**
+     * Löst das Gleichungssystem ax=b mit der durch
+     * {@link #factorizeLDLT6x6(double[], double[])} bestimmten Zerlegung.
+     * <code>b</code> und <code>x</code> dürfen dasselbe Feld sein.
+     *
+     * @param ld Faktoren L und D
+     * @param b rechte Seite (Länge 6)
+     * @param x Ergebnis, Lösungsvektor (Länge 6)
+     */
+    public static void solveLDLT6x6(double[] ld, double[] b, double[] x) {
+        // Löse L*y = b
+        for (int i = 0; i < 6; i++) {
+            int rowI = 6 * i;
+            double h = b[i];
+            for (int k = 0; k < i; k++) {
+                h -= ld[rowI + k] * x[k];
+            }
+            x[i] = h;
+        }
+        // Löse D*z = y und L'*x = z
+        for (int i = 5; i >= 0; i--) {
+            double h = x[i] / ld[7 * i];
+            for (int k = i + 1; k < 6; k++) {
+                h -= ld[6 * k + i] * x[k];
+            }
+            x[i] = h;
+        }
+    }
+
+    /**
+     * Berechnet die Inverse einer symmetrischen Matrix aus ihrer durch
+     * {@link #factorizeLDLT6x6(double[], double[])} bestimmten Zerlegung. Die
+     * Inverse wird zeilenweise in ein Feld der Länge 36 geschrieben.
+     *
+     * @param ld Faktoren L und D
+     * @param inv Ergebnis, Inverse der Matrix
+     */
+    public static void invertLDLT6x6(double[] ld, double[] inv) {
+        invertLDLT6x6(ld, inv, 0);
+    }
+
+    /**
+     * Berechnet die Inverse wie {@link #invertLDLT6x6(double[], double[])},
+     * schreibt sie aber ab <code>offset</code> in <code>inv</code>.
+     */
+    private static void invertLDLT6x6(double[] ld, double[] inv, int offset) {
+        for (int j = 0; j < 6; j++) {
+            int rowJ = offset + 6 * j;
+            // Löse L*y = e_j, die ersten j Komponenten sind null
+            inv[rowJ + j] = 1.0;
+            for (int i = j + 1; i < 6; i++) {
+                int rowI = 6 * i;
+                double h = 0.0;
+                for (int k = j; k < i; k++) {
+                    h -= ld[rowI + k] * inv[rowJ + k];
+                }
+                inv[rowJ + i] = h;
+            }
+            // Löse D*z = y und L'*x = z, für die Symmetrie werden nur die Komponenten ab j benötigt
+            for (int i = 5; i >= j; i--) {
+                double h = inv[rowJ + i] / ld[7 * i];
+                for (int k = i + 1; k < 6; k++) {
+                    h -= ld[6 * k + i] * inv[rowJ + k];
+                }
+                inv[rowJ + i] = h;
+            }
+            for (int i = 0; i < j; i++) {
+                inv[rowJ + i] = inv[offset + 6 * i + j];
+            }
+        }
+    }
+
+    /**
+     * Berechnet die Inverse einer symmetrischen, positiv definiten 6x6-Matrix
+     * über eine LDL<sup>T</sup>-Zerlegung.
+     *
+     * @param a symmetrische Matrix, zeilenweise (Länge 36)
+     * @param inv Ergebnis, Inverse der Matrix, zeilenweise (Länge 36)
+     * @param work Arbeitsfeld (Länge 36)
+     */
+    public static void invertSym6x6(double[] a, double[] inv, double[] work) {
+        factorizeLDLT6x6(a, work);
+        invertLDLT6x6(work, inv);
+    }
+
+    /**
+     * Berechnet die Inverse einer symmetrischen, positiv definiten 6x6-Matrix
+     * über eine LDL<sup>T</sup>-Zerlegung.
+     *
+     * @param a symmetrische Matrix (6x6)
+     * @param inv Ergebnis, Inverse der Matrix (6x6)
+     * @param work Arbeitsfeld (Länge 72)
+     */
+    public static void invertSym6x6(double[][] a, double[][] inv, double[] work) {
+        for (int ii = 0; ii < 6; ii++) {
+            System.arraycopy(a[ii], 0, work, 6 * ii, 6);
+        }
+        factorizeLDLT6x6(work, work);
+        invertLDLT6x6(work, work, 36);
+        for (int ii = 0; ii < 6; ii++) {
+            System.arraycopy(work, 36 + 6 * ii, inv[ii], 0, 6);
+        }
+    }
+
     /**
      * Löst das lineare Gleichungssystem Ax=b mittels Cholesky-Faktorisierung.
      * Das Verfahren basiert auf der Arbeit von M. Herrich: "Eigenwertberechnung
@@ -341,6 +581,137 @@ public class MatrixTools {
         return solveAbLU(tA, b);
     }
 
+    /**
+     * Löst das lineare Gleichungssystem Ax=b wie
+     * {@link #solveAbWithExchange(double[][], double[], boolean[])}, allerdings
+     * ohne neuen Speicher anzulegen. Der Austausch und die LU-Faktorisierung
+     * erfolgen direkt im übergebenen Arbeitsfeld <code>work</code>, die Lösung
+     * wird in <code>x</code> geschrieben. <code>A</code> und <code>b</code>
+     * bleiben unverändert.
+     *
+     * @param A quadratische Matrix
+     * @param b rechte Seite
+     * @param exchange Angabe ueber Austausch der entsprechenden Elemente
+     * @param work Arbeitsfeld mit der Dimension von A
+     * @param x Lösungsvektor, darf nicht b sein
+     */
+    public static void solveAbWithExchange(double[][] A, double[] b, boolean[] exchange, double[][] work, double[] x) {
+        factorizeLUWithExchange(A, exchange, work);
+        solveLU(work, b, x);
+    }
+
+    /**
+     * Führt den Austausch der Abhängigen und die LU-Faktorisierung (ohne
+     * Pivotisierung) der Matrix <code>A</code> durch und speichert das
+     * Ergebnis in <code>lu</code>. L steht unterhalb, U auf und oberhalb der
+     * Hauptdiagonalen. Die Faktorisierung kann anschließend mit
+     * {@link #solveLU(double[][], double[], double[])} für beliebig viele
+     * rechte Seiten verwendet werden.
+     *
+     * @param A quadratische Matrix, bleibt unverändert
+     * @param exchange Angabe ueber Austausch der entsprechenden Elemente
+     * @param lu Ergebnisfeld mit der Dimension von A
+     */
+    public static void factorizeLUWithExchange(double[][] A, boolean[] exchange, double[][] lu) {
+        int n = A.length;
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A[i], 0, lu[i], 0, n);
+        }
+        for (int i = 0; i < exchange.length; i++) {
+            if (exchange[i]) {
+                exchangeInPlace(lu, i);
+            }
+        }
+        factorizeLUInPlace(lu);
+    }
+
+    /**
+     * Austausch der Abhängigen nach Bronstein S279 direkt in der übergebenen
+     * Matrix. Das Pivotelement liegt auf der Hauptdiagonalen (i,i).
+     */
+    private static void exchangeInPlace(double[][] mat, int i) {
+        int n = mat.length;
+        double pivInv = 1.0 / mat[i][i];
+        double[] rowI = mat[i];
+
+        for (int mu = 0; mu < n; mu++) {
+            if (mu == i) {
+                continue;
+            }
+            double[] rowMu = mat[mu];
+            double f = rowMu[i] * pivInv;
+            for (int nu = 0; nu < n; nu++) {
+                if (nu == i) {
+                    continue;
+                }
+                rowMu[nu] -= f * rowI[nu];
+            }
+            rowMu[i] = f;
+        }
+        for (int nu = 0; nu < n; nu++) {
+            if (nu == i) {
+                continue;
+            }
+            rowI[nu] = -rowI[nu] * pivInv;
+        }
+        rowI[i] = pivInv;
+    }
+
+    /**
+     * LU-Faktorisierung ohne Pivotisierung (wie {@link #solveAbLU(double[][], double[])})
+     * direkt im Feld <code>A</code>. L wird unterhalb, U auf und oberhalb der
+     * Hauptdiagonalen gespeichert.
+     */
+    private static void factorizeLUInPlace(double[][] A) {
+        int n = A.length;
+
+        for (int k = 0; k < n; k++) {
+            double[] rowK = A[k];
+            double u = rowK[k];
+            for (int i = k + 1; i < n; i++) {
+                double[] rowI = A[i];
+                double l = rowI[k] / u;
+                rowI[k] = l;
+                for (int j = k + 1; j < n; j++) {
+                    rowI[j] -= l * rowK[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Vorwärts- und Rückwärtseinsetzen mit einer durch
+     * {@link #factorizeLUWithExchange(double[][], boolean[], double[][])}
+     * erzeugten LU-Faktorisierung.
+     *
+     * @param lu LU-Faktorisierung
+     * @param b rechte Seite
+     * @param x Lösungsvektor, darf nicht b sein
+     */
+    public static void solveLU(double[][] lu, double[] b, double[] x) {
+        int n = lu.length;
+
+        // löse untere L * y = b
+        for (int i = 0; i < n; i++) {
+            double h = b[i];
+            double[] row = lu[i];
+            for (int j = 0; j < i; j++) {
+                h -= row[j] * x[j];
+            }
+            x[i] = h;
+        }
+
+        // löse obere U * x = y
+        for (int i = n - 1; i >= 0; i--) {
+            double h = x[i];
+            double[] row = lu[i];
+            for (int j = i + 1; j < n; j++) {
+                h -= row[j] * x[j];
+            }
+            x[i] = h / row[i];
+        }
+    }
+
     /**
      * Austausch der Abhängigen nach Bronstein S279.
      *
@@ -390,6 +761,68 @@ public class MatrixTools {
         return newMat;
     }
 
+    /**
+     * Berechnet die <code>number</code> betragsmäßig kleinsten Eigenwerte
+     * &lambda; und die zugehörigen Eigenvektoren des allgemeinen
+     * Eigenwertproblems (K + &lambda;*Kg)*x = 0 mit dem voreingestellten
+     * Eigenwertlöser (siehe {@link #setDefaultEigenSolver(int)}). Die
+     * Eigenwerte sind betragsmäßig aufsteigend sortiert, die Eigenvektoren
+     * sind normiert und als m x n Feld in <code>eigenvecs</code> abgelegt.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der zu berechnenden Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @return Eigenwerte
+     */
+    public static double[] getEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        return getEigenValues(Kg, K, number, m, n, eigenvecs, defaultEigenSolver);
+    }
+
+    /**
+     * Berechnet die Eigenwerte und Eigenvektoren wie
+     * {@link #getEigenValues(double[][], double[][], int, int, int, double[][][])}
+     * mit dem angegebenen Eigenwertlöser. Beim Jacobi-Verfahren werden die
+     * Matrizen <code>K</code> und <code>Kg</code> überschrieben. Konvergiert
+     * das QL-Verfahren nicht oder ist <code>K</code> nicht positiv definit,
+     * wird auf das Jacobi-Verfahren zurückgegriffen.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der zu berechnenden Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @param solver {@link #EIGENSOLVER_QL} oder {@link #EIGENSOLVER_JACOBI}
+     * @return Eigenwerte
+     */
+    public static double[] getEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs, int solver) {
+        double[] flat = new double[eigenvecs.length * m * n];
+        double[] eigenvalues = getEigenValues(Kg, K, number, m, n, flat, solver);
+        unflattenEigenvectors(flat, Math.min(eigenvalues.length, eigenvecs.length), m, n, eigenvecs);
+        return eigenvalues;
+    }
+
+    /**
+     * Wie {@link #getEigenValues(double[][], double[][], int, int, int, double[][][], int)},
+     * die Eigenvektoren werden jedoch direkt in das zusammenhängende Feld
+     * <code>eigenvecs</code> geschrieben (siehe
+     * {@link #getEigenValuesBlockwise(double[][], double[][], int, int, int, double[])}).
+     */
+    private static double[] getEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs, int solver) {
+        if (solver != EIGENSOLVER_JACOBI) {
+            double[] eigenvalues = getEigenValuesQL(Kg, K, number, m, n, eigenvecs);
+            if (eigenvalues != null) {
+                return eigenvalues;
+            }
+        }
+        return getEigenValuesJacobi(Kg, K, number, m, n, eigenvecs);
+    }
+
     /**
      * eigenvaluescalc computes the m*n eigenvalues and resulting eigenvectors
      * calculations are based on the document: "Eigenwertberechnung nach dem
@@ -403,7 +836,7 @@ public class MatrixTools {
      * @param eigenvecs
      * @return
      */
-    public static double[] getEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+    private static double[] getEigenValuesJacobi(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs) {
 
         //int m_ = K.length;
         //int n_ = K[0].length;
@@ -588,6 +1021,9 @@ public class MatrixTools {
             }
             eigenvalues[i] = - 1 / h;
             K[p][p] = 0;
+            if (i >= eigenvecs.length / nm) {
+                continue;
+            }
             for (j = 0; j < nm; j++) {
                 eigvec[j][i] = Kg[j][p];
             }
@@ -606,19 +1042,1180 @@ public class MatrixTools {
             }
 
             skp1 = Math.sqrt(skp1);
-            int iTemp, mm, nn;
-            for (mm = 0; mm < m; mm++) {
-                iTemp = mm * n;
-                for (nn = 0; nn < n; nn++) {
-                    eigenvecs[i][mm][nn] = eigvec[iTemp + nn][i] / skp1;
+            int offset = i * nm;
+            for (ii = 0; ii < nm; ii++) {
+                eigenvecs[offset + ii] = eigvec[ii][i] / skp1;
+            }
+
+        }
+
+        return eigenvalues;
+    }
+
+    /**
+     * Lösung des allgemeinen Eigenwertproblems über die Cholesky-Zerlegung
+     * K = L*L^T, die Transformation auf das spezielle Eigenwertproblem
+     * C = L^-1*Kg*L^-T, die Householder-Tridiagonalisierung von C und das
+     * implizite QL-Verfahren. Die Eingangsmatrizen bleiben unverändert.
+     *
+     * @return Eigenwerte oder <code>null</code>, wenn K nicht positiv definit
+     * ist oder das QL-Verfahren nicht konvergiert
+     */
+    private static double[] getEigenValuesQL(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs) {
+        int nm = m * n;
+
+        double[][] L = choleskyLower(K);
+        if (L == null) {
+            return null;
+        }
+
+        // W = L^-1 * Kg (zeilenweise Vorwärtssubstitution)
+        double[][] W = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            System.arraycopy(Kg[i], 0, W[i], 0, nm);
+        }
+        forwardSubstitutionRows(L, W);
+
+        // C = L^-1 * W^T = L^-1 * Kg * L^-T
+        transposeInPlace(W);
+        forwardSubstitutionRows(L, W);
+        double[][] C = W;
+        for (int i = 0; i < nm; i++) {
+            for (int j = 0; j < i; j++) {
+                double h = 0.5 * (C[i][j] + C[j][i]);
+                C[i][j] = h;
+                C[j][i] = h;
+            }
+        }
+
+        // Tridiagonalisierung und QL-Verfahren, C enthält danach die
+        // Eigenvektoren zeilenweise
+        double[] d = new double[nm];
+        double[] e = new double[nm];
+        tridiagonalize(C, d, e);
+        transposeInPlace(C);
+        if (!tridiagonalQL(d, e, C)) {
+            return null;
+        }
+
+        // Sortierung nach betragsmäßig absteigenden Eigenwerten von C, das
+        // entspricht betragsmäßig aufsteigenden Eigenwerten -1/mu
+        Integer[] order = new Integer[nm];
+        for (int i = 0; i < nm; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(Math.abs(d[b]), Math.abs(d[a])));
+
+        double[] eigenvalues = new double[number];
+        double[] x = new double[nm];
+        for (int i = 0; i < number; i++) {
+            int p = order[i];
+            eigenvalues[i] = -1.0 / d[p];
+            if (i >= eigenvecs.length / nm) {
+                continue;
+            }
+
+            // Rücktransformation x = L^-T * z
+            System.arraycopy(C[p], 0, x, 0, nm);
+            backSubstitutionTransposed(L, x);
+            storeEigenvector(x, eigenvecs, i * nm);
+        }
+
+        return eigenvalues;
+    }
+
+    /**
+     * Berechnet die <code>number</code> kleinsten positiven Eigenwerte
+     * &lambda; und die zugehörigen Eigenvektoren des allgemeinen
+     * Eigenwertproblems (K + &lambda;*Kg)*x = 0, z.B. die kleinsten kritischen
+     * Lastfaktoren beim Beulen oder die kleinsten Eigenfrequenzen. Es wird das
+     * Lanczos-Verfahren mit vollständiger Reorthogonalisierung auf das
+     * transformierte Problem L^-1*Kg*L^-T angewendet, sodass nur die
+     * benötigten Eigenpaare bestimmt werden. Da das Lanczos-Verfahren mit
+     * einem einzelnen Startvektor mehrfache Eigenwerte nur einmal findet,
+     * wird das Ergebnis über den Trägheitssatz von Sylvester geprüft: Die
+     * Anzahl der negativen Pivotelemente der LDL^T-Zerlegung von
+     * K + &sigma;*Kg mit &sigma; knapp oberhalb des größten gefundenen
+     * Eigenwerts muss der Anzahl der gefundenen Eigenwerte entsprechen.
+     * Konvergiert das Verfahren nicht oder schlägt die Prüfung fehl, wird auf
+     * die vollständige Lösung mit dem voreingestellten Eigenwertlöser
+     * zurückgegriffen. Die Eingangsmatrizen bleiben nur im Fall des
+     * Lanczos-Verfahrens unverändert.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @return aufsteigend sortierte positive Eigenwerte, höchstens
+     * <code>number</code> viele
+     */
+    public static double[] getLowestPositiveEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        return getLowestPositiveEigenValues(Kg, K, number, m, n, eigenvecs, null);
+    }
+
+    /**
+     * Berechnet die kleinsten positiven Eigenwerte und Eigenvektoren wie
+     * {@link #getLowestPositiveEigenValues(double[][], double[][], int, int, int, double[][][])}.
+     * Das Lanczos-Verfahren wird dabei mit einer Kombination der übergebenen
+     * Startvektoren begonnen, z.B. den Eigenvektoren eines benachbarten
+     * Punktes einer Parameterstudie (Warmstart). Liegen diese nahe an den
+     * gesuchten Eigenvektoren, konvergiert das Verfahren in weniger Schritten.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @param startvecs Startvektoren [Anzahl][m*n] oder <code>null</code>
+     * @return aufsteigend sortierte positive Eigenwerte, höchstens
+     * <code>number</code> viele
+     */
+    public static double[] getLowestPositiveEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs, double[][] startvecs) {
+        double[] flat = new double[eigenvecs.length * m * n];
+        double[] eigenvalues = getLowestPositiveEigenValues(Kg, K, number, m, n, flat, startvecs);
+        unflattenEigenvectors(flat, Math.min(eigenvalues.length, eigenvecs.length), m, n, eigenvecs);
+        return eigenvalues;
+    }
+
+    /**
+     * Wie {@link #getLowestPositiveEigenValues(double[][], double[][], int, int, int, double[][][], double[][])},
+     * die Eigenvektoren werden jedoch direkt in das zusammenhängende Feld
+     * <code>eigenvecs</code> geschrieben (siehe
+     * {@link #getEigenValuesBlockwise(double[][], double[][], int, int, int, double[])}).
+     */
+    private static double[] getLowestPositiveEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs, double[][] startvecs) {
+        int nm = m * n;
+        number = Math.min(number, nm);
+        if (defaultEigenSolver != EIGENSOLVER_JACOBI) {
+            double[] eigenvalues = getLowestPositiveEigenValuesLanczos(Kg, K, number, m, n, eigenvecs, startvecs);
+            if (eigenvalues != null && (eigenvalues.length == 0
+                    || countEigenValuesBelow(Kg, K, eigenvalues[eigenvalues.length - 1] * (1.0 + INERTIA_SHIFT)) == eigenvalues.length)) {
+                return eigenvalues;
+            }
+        }
+
+        // Eigenvektoren werden nur bestimmt, wenn sie benötigt werden
+        double[] allEigenvecs = new double[eigenvecs.length == 0 ? 0 : nm * nm];
+        double[] allEigenvalues = getEigenValues(Kg, K, nm, m, n, allEigenvecs, defaultEigenSolver);
+        int count = 0;
+        for (int i = 0; i < nm && count < number; i++) {
+            if (allEigenvalues[i] > 0.0) {
+                allEigenvalues[count] = allEigenvalues[i];
+                if (count < eigenvecs.length / nm) {
+                    System.arraycopy(allEigenvecs, i * nm, eigenvecs, count * nm, nm);
+                }
+                count++;
+            }
+        }
+        return Arrays.copyOf(allEigenvalues, count);
+    }
+
+    private static double[] getLowestPositiveEigenValuesLanczos(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs, double[][] startvecs) {
+        int nm = m * n;
+        double[][] L = choleskyLower(K);
+        if (L == null) {
+            return null;
+        }
+
+        // Begrenzung der Lanczos-Schritte, liegen keine positiven Eigenwerte
+        // vor, konvergiert das Verfahren nur langsam
+        int maxSteps = Math.min(nm, 2 * number + 60);
+        double[][] Q = new double[maxSteps][];
+        double[] alpha = new double[maxSteps];
+        double[] beta = new double[maxSteps];
+        double eps = Math.ulp(1.0);
+        double tol = 1.0E-10;
+
+        // deterministischer Startvektor
+        double[] v = new double[nm];
+        Random random = new Random(nm);
+        for (int i = 0; i < nm; i++) {
+            v[i] = random.nextDouble() - 0.5;
+        }
+        scale(v, 1.0 / Math.sqrt(dot(v, v)));
+
+        if (startvecs != null && startvecs.length > 0) {
+            // Warmstart: Summe der normierten transformierten Startvektoren
+            // z = L^T * x. Der kleine zufällige Anteil stellt sicher, dass
+            // auch Eigenvektoren erreicht werden, die orthogonal zu allen
+            // Startvektoren sind.
+            scale(v, WARM_START_PERTURBATION);
+            double[] z = new double[nm];
+            for (double[] x : startvecs) {
+                for (int i = 0; i < nm; i++) {
+                    double h = 0.0;
+                    for (int k = i; k < nm; k++) {
+                        h += L[k][i] * x[k];
+                    }
+                    z[i] = h;
+                }
+                double norm = Math.sqrt(dot(z, z));
+                if (norm > 0.0) {
+                    for (int i = 0; i < nm; i++) {
+                        v[i] += z[i] / norm;
+                    }
+                }
+            }
+            scale(v, 1.0 / Math.sqrt(dot(v, v)));
+        }
+
+        double[] u = new double[nm];
+        double[] d = null;
+        double[][] Z = null;
+        int steps = 0;
+        boolean converged = false;
+        while (!converged && steps < maxSteps) {
+            int j = steps;
+            Q[j] = v;
+
+            // w = L^-1 * Kg * L^-T * v
+            System.arraycopy(v, 0, u, 0, nm);
+            backSubstitutionTransposed(L, u);
+            double[] w = new double[nm];
+            for (int i = 0; i < nm; i++) {
+                double[] Kgi = Kg[i];
+                double h = 0.0;
+                for (int k = 0; k < nm; k++) {
+                    h += Kgi[k] * u[k];
+                }
+                w[i] = h;
+            }
+            forwardSubstitution(L, w);
+
+            alpha[j] = dot(w, v);
+            // vollständige Reorthogonalisierung (zweifach)
+            for (int pass = 0; pass < 2; pass++) {
+                for (int i = 0; i <= j; i++) {
+                    double h = dot(w, Q[i]);
+                    double[] Qi = Q[i];
+                    for (int k = 0; k < nm; k++) {
+                        w[k] -= h * Qi[k];
+                    }
+                }
+            }
+            beta[j] = Math.sqrt(dot(w, w));
+            steps++;
+
+            if (steps >= number) {
+                // Eigenwerte der Tridiagonalmatrix T
+                d = Arrays.copyOf(alpha, steps);
+                double[] e = new double[steps];
+                for (int i = 1; i < steps; i++) {
+                    e[i] = beta[i - 1];
+                }
+                Z = new double[steps][steps];
+                for (int i = 0; i < steps; i++) {
+                    Z[i][i] = 1.0;
+                }
+                if (!tridiagonalQL(d, e, Z)) {
+                    return null;
+                }
+                double tNorm = 0.0;
+                for (int i = 0; i < steps; i++) {
+                    tNorm = Math.max(tNorm, Math.abs(d[i]));
+                }
+
+                // Konvergenz der gesuchten Ritz-Werte (algebraisch kleinste, negative)
+                converged = true;
+                boolean[] used = new boolean[steps];
+                for (int ii = 0; ii < number; ii++) {
+                    int p = indexOfMinimum(d, used);
+                    used[p] = true;
+                    if (Math.abs(beta[j] * Z[p][steps - 1]) > tol * tNorm) {
+                        converged = false;
+                        break;
+                    }
+                    if (d[p] >= 0.0) {
+                        break;
+                    }
+                }
+                if (beta[j] <= eps * tNorm) {
+                    // invarianter Unterraum, die Ritz-Werte sind exakt
+                    converged = true;
+                }
+            }
+            if (!converged) {
+                if (beta[j] == 0.0) {
+                    return null;
+                }
+                scale(w, 1.0 / beta[j]);
+                v = w;
+            }
+        }
+        if (!converged) {
+            return null;
+        }
+
+        double[] eigenvalues = new double[number];
+        boolean[] used = new boolean[steps];
+        int count = 0;
+        for (int ii = 0; ii < number; ii++) {
+            int p = indexOfMinimum(d, used);
+            used[p] = true;
+            if (d[p] >= 0.0) {
+                break;
+            }
+            eigenvalues[count] = -1.0 / d[p];
+            if (count >= eigenvecs.length / nm) {
+                count++;
+                continue;
+            }
+
+            // Ritz-Vektor und Rücktransformation x = L^-T * (Q^T * z)
+            double[] x = new double[nm];
+            double[] Zp = Z[p];
+            for (int jj = 0; jj < steps; jj++) {
+                double[] Qj = Q[jj];
+                double h = Zp[jj];
+                for (int k = 0; k < nm; k++) {
+                    x[k] += h * Qj[k];
+                }
+            }
+            backSubstitutionTransposed(L, x);
+            storeEigenvector(x, eigenvecs, count * nm);
+            count++;
+        }
+        return Arrays.copyOf(eigenvalues, count);
+    }
+
+    /**
+     * Relativer Abstand der Verschiebung &sigma; oberhalb des größten
+     * gefundenen Eigenwerts bei der Prüfung über den Trägheitssatz.
+     */
+    private static final double INERTIA_SHIFT = 1.0E-6;
+
+    /**
+     * Bestimmt über den Trägheitssatz von Sylvester die Anzahl der
+     * Eigenwerte 0 &lt; &lambda; &lt; sigma des Eigenwertproblems
+     * (K + &lambda;*Kg)*x = 0. Dazu wird K + sigma*Kg ohne Pivotisierung in
+     * L*D*L^T zerlegt und die Anzahl der negativen Diagonalelemente von D
+     * gezählt.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param sigma positive Verschiebung
+     * @return Anzahl der Eigenwerte unterhalb von sigma oder -1, wenn die
+     * Zerlegung wegen eines verschwindenden Pivotelements abbricht
+     */
+    static int countEigenValuesBelow(double[][] Kg, double[][] K, double sigma) {
+        int nm = K.length;
+        double[][] A = new double[nm][];
+        for (int i = 0; i < nm; i++) {
+            A[i] = new double[i + 1];
+            for (int j = 0; j <= i; j++) {
+                A[i][j] = K[i][j] + sigma * Kg[i][j];
+            }
+        }
+
+        // A enthält danach unterhalb der Diagonalen L und auf der Diagonalen D
+        double[] w = new double[nm];
+        int negative = 0;
+        for (int j = 0; j < nm; j++) {
+            double[] Aj = A[j];
+            double dj = Aj[j];
+            for (int k = 0; k < j; k++) {
+                w[k] = Aj[k] * A[k][k];
+                dj -= Aj[k] * w[k];
+            }
+            if (Math.abs(dj) <= Math.ulp(1.0) * (Math.abs(K[j][j]) + Math.abs(sigma * Kg[j][j]))) {
+                return -1;
+            }
+            Aj[j] = dj;
+            if (dj < 0.0) {
+                negative++;
+            }
+            for (int i = j + 1; i < nm; i++) {
+                double[] Ai = A[i];
+                double h = Ai[j];
+                for (int k = 0; k < j; k++) {
+                    h -= Ai[k] * w[k];
+                }
+                Ai[j] = h / dj;
+            }
+        }
+        return negative;
+    }
+
+    /**
+     * Relative Schranke, unterhalb der ein Eintrag bei der Suche nach
+     * entkoppelten Blöcken als null gilt.
+     */
+    public static final double BLOCK_TOLERANCE = 1.0E-12;
+
+    /**
+     * Relativer Anteil des zufälligen Startvektors beim Warmstart des
+     * Lanczos-Verfahrens.
+     */
+    private static final double WARM_START_PERTURBATION = 1.0E-2;
+
+    /**
+     * Bestimmt die voneinander entkoppelten Blöcke der symmetrischen Matrizen
+     * <code>K</code> und <code>matrices</code>. Zwei Indizes gehören zum selben
+     * Block, wenn sie über Einträge ungleich null in einer der Matrizen
+     * miteinander verbunden sind. Ein Eintrag gilt als null, wenn er bezogen
+     * auf die Diagonale von K, also |A_ij|/sqrt(K_ii*K_jj), kleiner als das
+     * {@link #BLOCK_TOLERANCE}-fache des größten so bezogenen Eintrags der
+     * Matrix ist. Damit werden auch Rundungsfehler, z.B. in den Integralen der
+     * Ansatzfunktionen oder in D16 und D26 ausgeglichener Laminate, als null
+     * erkannt.
+     *
+     * <p>Bei einer gelenkig gelagerten orthotropen Platte ohne Schublast
+     * zerfällt das Problem so in 1x1-Blöcke, bei symmetrischen
+     * Randbedingungen in Blöcke gleicher Symmetrie der Ansätze. Ist die
+     * Diagonale von K nicht positiv, wird ein einziger Block geliefert.
+     *
+     * @param K Steifigkeitsmatrix (symmetrisch)
+     * @param matrices weitere symmetrische Matrizen gleicher Größe
+     * @return Indizes der Blöcke, jeweils aufsteigend sortiert und nach dem
+     * kleinsten Index geordnet
+     */
+    public static int[][] getDecoupledBlocks(double[][] K, double[][]... matrices) {
+        int nm = K.length;
+        double[] s = new double[nm];
+        for (int i = 0; i < nm; i++) {
+            if (!(K[i][i] > 0.0)) {
+                int[] all = new int[nm];
+                for (int j = 0; j < nm; j++) {
+                    all[j] = j;
+                }
+                return new int[][]{all};
+            }
+            s[i] = 1.0 / Math.sqrt(K[i][i]);
+        }
+
+        int[] parent = new int[nm];
+        for (int i = 0; i < nm; i++) {
+            parent[i] = i;
+        }
+        joinCoupled(K, s, parent);
+        for (double[][] A : matrices) {
+            joinCoupled(A, s, parent);
+        }
+
+        // Blöcke in der Reihenfolge ihres kleinsten Index
+        int[] blockOf = new int[nm];
+        int[] size = new int[nm];
+        int count = 0;
+        int[] rootBlock = new int[nm];
+        Arrays.fill(rootBlock, -1);
+        for (int i = 0; i < nm; i++) {
+            int r = findRoot(parent, i);
+            if (rootBlock[r] < 0) {
+                rootBlock[r] = count++;
+            }
+            blockOf[i] = rootBlock[r];
+            size[blockOf[i]]++;
+        }
+        int[][] blocks = new int[count][];
+        for (int b = 0; b < count; b++) {
+            blocks[b] = new int[size[b]];
+            size[b] = 0;
+        }
+        for (int i = 0; i < nm; i++) {
+            int b = blockOf[i];
+            blocks[b][size[b]++] = i;
+        }
+        return blocks;
+    }
+
+    private static void joinCoupled(double[][] A, double[] s, int[] parent) {
+        int nm = A.length;
+        double max = 0.0;
+        for (int i = 0; i < nm; i++) {
+            double[] Ai = A[i];
+            for (int j = 0; j < nm; j++) {
+                max = Math.max(max, Math.abs(Ai[j]) * s[i] * s[j]);
+            }
+        }
+        double tol = BLOCK_TOLERANCE * max;
+        for (int i = 0; i < nm; i++) {
+            double[] Ai = A[i];
+            for (int j = i + 1; j < nm; j++) {
+                double a = Math.max(Math.abs(Ai[j]), Math.abs(A[j][i])) * s[i] * s[j];
+                if (a > tol) {
+                    int ri = findRoot(parent, i);
+                    int rj = findRoot(parent, j);
+                    if (ri != rj) {
+                        parent[Math.max(ri, rj)] = Math.min(ri, rj);
+                    }
                 }
             }
+        }
+    }
+
+    private static int findRoot(int[] parent, int i) {
+        int r = i;
+        while (parent[r] != r) {
+            r = parent[r];
+        }
+        while (parent[i] != r) {
+            int next = parent[i];
+            parent[i] = r;
+            i = next;
+        }
+        return r;
+    }
 
+    private static double[][] subMatrix(double[][] A, int[] idx) {
+        double[][] sub = new double[idx.length][idx.length];
+        for (int i = 0; i < idx.length; i++) {
+            double[] Ai = A[idx[i]];
+            double[] subi = sub[i];
+            for (int j = 0; j < idx.length; j++) {
+                subi[j] = Ai[idx[j]];
+            }
         }
+        return sub;
+    }
 
+    /**
+     * Berechnet die Eigenwerte und Eigenvektoren wie
+     * {@link #getEigenValues(double[][], double[][], int, int, int, double[][][])},
+     * löst aber die entkoppelten Blöcke (siehe
+     * {@link #getDecoupledBlocks(double[][], double[][]...)}) unabhängig
+     * voneinander. 1x1-Blöcke werden direkt gelöst. Die Eingangsmatrizen
+     * bleiben unverändert, sofern mehr als ein Block vorliegt.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der zu berechnenden Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @return Eigenwerte, betragsmäßig aufsteigend sortiert
+     */
+    public static double[] getEigenValuesBlockwise(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        double[] flat = new double[eigenvecs.length * m * n];
+        double[] eigenvalues = getEigenValuesBlockwise(Kg, K, number, m, n, flat);
+        unflattenEigenvectors(flat, Math.min(eigenvalues.length, eigenvecs.length), m, n, eigenvecs);
+        return eigenvalues;
+    }
+
+    /**
+     * Berechnet die Eigenwerte und Eigenvektoren blockweise wie
+     * {@link #getEigenValuesBlockwise(double[][], double[][], int, int, int, double[][][])}.
+     * Die Eigenvektoren werden direkt in ein zusammenhängendes Feld
+     * geschrieben, sodass für die Ergebnisse keine m x n Felder angelegt und
+     * umkopiert werden müssen.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der zu berechnenden Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren, der Eigenvektor k
+     * belegt die Einträge k*m*n bis (k+1)*m*n-1, der Koeffizient des Terms
+     * (pp, qq) liegt dabei an der Stelle k*m*n+pp*n+qq. Es werden nur die
+     * ersten eigenvecs.length/(m*n) Eigenvektoren bestimmt.
+     * @return Eigenwerte, betragsmäßig aufsteigend sortiert
+     */
+    public static double[] getEigenValuesBlockwise(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs) {
+        int[][] blocks = getDecoupledBlocks(K, Kg);
+        if (blocks.length == 1) {
+            return getEigenValues(Kg, K, number, m, n, eigenvecs, defaultEigenSolver);
+        }
+        return solveBlocks(Kg, K, blocks, number, false, m, n, eigenvecs, null);
+    }
+
+    /**
+     * Berechnet die kleinsten positiven Eigenwerte und Eigenvektoren wie
+     * {@link #getLowestPositiveEigenValues(double[][], double[][], int, int, int, double[][][])},
+     * löst aber die entkoppelten Blöcke (siehe
+     * {@link #getDecoupledBlocks(double[][], double[][]...)}) unabhängig
+     * voneinander. 1x1-Blöcke werden direkt gelöst.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @return aufsteigend sortierte positive Eigenwerte, höchstens
+     * <code>number</code> viele
+     */
+    public static double[] getLowestPositiveEigenValuesBlockwise(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        return getLowestPositiveEigenValuesBlockwise(Kg, K, number, m, n, eigenvecs, null);
+    }
+
+    /**
+     * Berechnet die kleinsten positiven Eigenwerte und Eigenvektoren
+     * blockweise wie
+     * {@link #getLowestPositiveEigenValuesBlockwise(double[][], double[][], int, int, int, double[][][])}
+     * mit Warmstart (siehe
+     * {@link #getLowestPositiveEigenValues(double[][], double[][], int, int, int, double[][][], double[][])}).
+     * Die Startvektoren werden dabei auf die einzelnen Blöcke aufgeteilt.
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren [höchstens number][m][n],
+     * es werden nur die ersten eigenvecs.length Eigenvektoren bestimmt
+     * @param startvecs Startvektoren [Anzahl][m][n] oder <code>null</code>
+     * @return aufsteigend sortierte positive Eigenwerte, höchstens
+     * <code>number</code> viele
+     */
+    public static double[] getLowestPositiveEigenValuesBlockwise(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs, double[][][] startvecs) {
+        double[] flat = new double[eigenvecs.length * m * n];
+        double[] eigenvalues = getLowestPositiveEigenValuesBlockwise(Kg, K, number, m, n, flat, startvecs);
+        unflattenEigenvectors(flat, Math.min(eigenvalues.length, eigenvecs.length), m, n, eigenvecs);
         return eigenvalues;
     }
 
+    /**
+     * Berechnet die kleinsten positiven Eigenwerte und Eigenvektoren
+     * blockweise wie
+     * {@link #getLowestPositiveEigenValuesBlockwise(double[][], double[][], int, int, int, double[][][], double[][][])}.
+     * Die Eigenvektoren werden direkt in ein zusammenhängendes Feld
+     * geschrieben (siehe
+     * {@link #getEigenValuesBlockwise(double[][], double[][], int, int, int, double[])}).
+     *
+     * @param Kg geometrische Steifigkeitsmatrix bzw. Massenmatrix (symmetrisch)
+     * @param K Steifigkeitsmatrix (symmetrisch, positiv definit)
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Ergebnisfeld der Eigenvektoren, der Eigenvektor k
+     * belegt die Einträge k*m*n bis (k+1)*m*n-1. Es werden nur die ersten
+     * eigenvecs.length/(m*n) Eigenvektoren bestimmt.
+     * @param startvecs Startvektoren [Anzahl][m][n] oder <code>null</code>
+     * @return aufsteigend sortierte positive Eigenwerte, höchstens
+     * <code>number</code> viele
+     */
+    public static double[] getLowestPositiveEigenValuesBlockwise(double[][] Kg, double[][] K, int number, int m, int n, double[] eigenvecs, double[][][] startvecs) {
+        int nm = m * n;
+        double[][] flatStart = null;
+        if (startvecs != null) {
+            flatStart = new double[startvecs.length][nm];
+            for (int k = 0; k < startvecs.length; k++) {
+                for (int mm = 0; mm < m; mm++) {
+                    System.arraycopy(startvecs[k][mm], 0, flatStart[k], mm * n, n);
+                }
+            }
+        }
+        int[][] blocks = getDecoupledBlocks(K, Kg);
+        if (blocks.length == 1) {
+            return getLowestPositiveEigenValues(Kg, K, number, m, n, eigenvecs, flatStart);
+        }
+        return solveBlocks(Kg, K, blocks, Math.min(number, nm), true, m, n, eigenvecs, flatStart);
+    }
+
+    private static double[] solveBlocks(double[][] Kg, double[][] K, int[][] blocks, int number, boolean lowestPositive, int m, int n, double[] eigenvecs, double[][] startvecs) {
+        int nm = m * n;
+
+        // Eigenpaare aller Blöcke, je Block höchstens number viele
+        int total = 0;
+        for (int[] idx : blocks) {
+            total += Math.min(idx.length, number);
+        }
+        double[] values = new double[total];
+        int[][] blockOf = new int[total][];
+        double[][] vectors = new double[total][];
+        int count = 0;
+        for (int[] idx : blocks) {
+            int size = idx.length;
+            if (size == 1) {
+                double mu = Kg[idx[0]][idx[0]] / K[idx[0]][idx[0]];
+                if (lowestPositive && !(mu < 0.0)) {
+                    continue;
+                }
+                values[count] = -1.0 / mu;
+                blockOf[count] = idx;
+                vectors[count] = new double[]{1.0};
+                count++;
+                continue;
+            }
+            int blockNumber = Math.min(size, number);
+            double[] blockVecs = new double[blockNumber * size];
+            double[] blockValues = lowestPositive
+                    ? getLowestPositiveEigenValues(subMatrix(Kg, idx), subMatrix(K, idx), blockNumber, size, 1, blockVecs, subVectors(startvecs, idx))
+                    : getEigenValues(subMatrix(Kg, idx), subMatrix(K, idx), blockNumber, size, 1, blockVecs, defaultEigenSolver);
+            for (int i = 0; i < blockValues.length; i++) {
+                values[count] = blockValues[i];
+                blockOf[count] = idx;
+                vectors[count] = Arrays.copyOfRange(blockVecs, i * size, (i + 1) * size);
+                count++;
+            }
+        }
+
+        // Zusammenführen, betragsmäßig aufsteigend wie bei der vollständigen
+        // Lösung bzw. aufsteigend bei den positiven Eigenwerten
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(Math.abs(values[a]), Math.abs(values[b])));
+
+        int found = Math.min(number, count);
+        double[] eigenvalues = new double[found];
+        double[] x = new double[nm];
+        for (int i = 0; i < found; i++) {
+            int p = order[i];
+            eigenvalues[i] = values[p];
+            if (i >= eigenvecs.length / nm) {
+                continue;
+            }
+            Arrays.fill(x, 0.0);
+            int[] idx = blockOf[p];
+            for (int r = 0; r < idx.length; r++) {
+                x[idx[r]] = vectors[p][r];
+            }
+            storeEigenvector(x, eigenvecs, i * nm);
+        }
+        return eigenvalues;
+    }
+
+    /**
+     * Schränkt die Vektoren auf die Indizes eines Blockes ein. Vektoren, die
+     * im Block verschwinden, entfallen.
+     */
+    private static double[][] subVectors(double[][] vectors, int[] idx) {
+        if (vectors == null) {
+            return null;
+        }
+        double[][] sub = new double[vectors.length][];
+        int count = 0;
+        for (double[] vector : vectors) {
+            double[] s = new double[idx.length];
+            boolean nonZero = false;
+            for (int r = 0; r < idx.length; r++) {
+                s[r] = vector[idx[r]];
+                nonZero |= s[r] != 0.0;
+            }
+            if (nonZero) {
+                sub[count++] = s;
+            }
+        }
+        return Arrays.copyOf(sub, count);
+    }
+
+    /**
+     * Modal Assurance Criterion zweier Eigenvektoren
+     * MAC = (a^T*b)^2 / ((a^T*a)*(b^T*b)). Der Wert liegt zwischen 0
+     * (orthogonal) und 1 (gleiche Form). Haben die Vektoren unterschiedlich
+     * viele Terme, werden nur die gemeinsamen Terme verglichen, was wegen der
+     * hierarchischen Ansatzfunktionen dem Vergleich der Formen entspricht.
+     *
+     * @param a Eigenvektor [m][n]
+     * @param b Eigenvektor [m'][n']
+     * @return MAC-Wert
+     */
+    public static double getMAC(double[][] a, double[][] b) {
+        int m = Math.min(a.length, b.length);
+        double ab = 0.0, aa = 0.0, bb = 0.0;
+        for (int mm = 0; mm < m; mm++) {
+            int n = Math.min(a[mm].length, b[mm].length);
+            for (int nn = 0; nn < n; nn++) {
+                ab += a[mm][nn] * b[mm][nn];
+                aa += a[mm][nn] * a[mm][nn];
+                bb += b[mm][nn] * b[mm][nn];
+            }
+        }
+        if (aa == 0.0 || bb == 0.0) {
+            return 0.0;
+        }
+        return ab * ab / (aa * bb);
+    }
+
+    /**
+     * Ordnet die Eigenvektoren den Referenzvektoren über das Modal Assurance
+     * Criterion (siehe {@link #getMAC(double[][], double[][])}) zu. Es werden
+     * jeweils die Paare mit dem größten MAC-Wert zuerst zugeordnet, wobei
+     * jeder Referenzvektor höchstens einmal vergeben wird.
+     *
+     * @param reference Referenzvektoren [Anzahl][m][n]
+     * @param modes Eigenvektoren [Anzahl][m][n]
+     * @param minMAC kleinster MAC-Wert für eine Zuordnung
+     * @return Index des zugeordneten Referenzvektors je Eigenvektor oder -1
+     */
+    public static int[] getModeAssignment(double[][][] reference, double[][][] modes, double minMAC) {
+        double[][] mac = new double[modes.length][reference.length];
+        for (int i = 0; i < modes.length; i++) {
+            for (int j = 0; j < reference.length; j++) {
+                mac[i][j] = getMAC(modes[i], reference[j]);
+            }
+        }
+        int[] assignment = new int[modes.length];
+        Arrays.fill(assignment, -1);
+        boolean[] used = new boolean[reference.length];
+        for (int pair = 0; pair < Math.min(modes.length, reference.length); pair++) {
+            int bestI = -1, bestJ = -1;
+            double best = minMAC;
+            for (int i = 0; i < modes.length; i++) {
+                if (assignment[i] >= 0) {
+                    continue;
+                }
+                for (int j = 0; j < reference.length; j++) {
+                    if (!used[j] && mac[i][j] >= best) {
+                        best = mac[i][j];
+                        bestI = i;
+                        bestJ = j;
+                    }
+                }
+            }
+            if (bestI < 0) {
+                break;
+            }
+            assignment[bestI] = bestJ;
+            used[bestJ] = true;
+        }
+        return assignment;
+    }
+
+    private static int indexOfMinimum(double[] d, boolean[] used) {
+        int p = -1;
+        for (int i = 0; i < d.length; i++) {
+            if (!used[i] && (p < 0 || d[i] < d[p])) {
+                p = i;
+            }
+        }
+        return p;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double h = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            h += a[i] * b[i];
+        }
+        return h;
+    }
+
+    private static void scale(double[] a, double factor) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] *= factor;
+        }
+    }
+
+    /**
+     * Cholesky-Faktorisierung K = L*L^T, L unterhalb der Hauptdiagonalen.
+     *
+     * @return L oder <code>null</code>, wenn K nicht positiv definit ist
+     */
+    private static double[][] choleskyLower(double[][] K) {
+        int nm = K.length;
+        double[][] L = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            double[] Li = L[i];
+            for (int j = 0; j <= i; j++) {
+                double[] Lj = L[j];
+                double h = K[i][j];
+                for (int k = 0; k < j; k++) {
+                    h -= Li[k] * Lj[k];
+                }
+                if (i == j) {
+                    if (!(h > 0.0)) {
+                        return null;
+                    }
+                    Li[i] = Math.sqrt(h);
+                } else {
+                    Li[j] = h / Lj[j];
+                }
+            }
+        }
+        return L;
+    }
+
+    /**
+     * Überschreibt x mit L^-1*x. L ist eine untere Dreiecksmatrix.
+     */
+    private static void forwardSubstitution(double[][] L, double[] x) {
+        for (int i = 0; i < x.length; i++) {
+            double[] Li = L[i];
+            double h = x[i];
+            for (int k = 0; k < i; k++) {
+                h -= Li[k] * x[k];
+            }
+            x[i] = h / Li[i];
+        }
+    }
+
+    /**
+     * Überschreibt x mit L^-T*x. L ist eine untere Dreiecksmatrix.
+     */
+    private static void backSubstitutionTransposed(double[][] L, double[] x) {
+        for (int i = x.length - 1; i >= 0; i--) {
+            double[] Li = L[i];
+            double xi = x[i] / Li[i];
+            x[i] = xi;
+            for (int k = 0; k < i; k++) {
+                x[k] -= Li[k] * xi;
+            }
+        }
+    }
+
+    /**
+     * Normiert den Eigenvektor, sodass die betragsmäßig größte Komponente
+     * positiv ist, und legt ihn ab der Stelle offset im zusammenhängenden
+     * Feld eigenvecs ab.
+     */
+    private static void storeEigenvector(double[] x, double[] eigenvecs, int offset) {
+        double norm = 0.0;
+        double maxVal = 0.0;
+        for (int ii = 0; ii < x.length; ii++) {
+            norm += x[ii] * x[ii];
+            if (Math.abs(x[ii]) > Math.abs(maxVal)) {
+                maxVal = x[ii];
+            }
+        }
+        norm = Math.sqrt(norm);
+        if (maxVal < 0.0) {
+            norm = -norm;
+        }
+        for (int ii = 0; ii < x.length; ii++) {
+            eigenvecs[offset + ii] = x[ii] / norm;
+        }
+    }
+
+    /**
+     * Überträgt die ersten count Eigenvektoren aus dem zusammenhängenden Feld
+     * in m x n Felder.
+     */
+    private static void unflattenEigenvectors(double[] flat, int count, int m, int n, double[][][] eigenvecs) {
+        for (int k = 0; k < count; k++) {
+            for (int mm = 0; mm < m; mm++) {
+                System.arraycopy(flat, (k * m + mm) * n, eigenvecs[k][mm], 0, n);
+            }
+        }
+    }
+
+    /**
+     * Überschreibt B mit L^-1*B. L ist eine untere Dreiecksmatrix.
+     */
+    private static void forwardSubstitutionRows(double[][] L, double[][] B) {
+        int nm = L.length;
+        for (int i = 0; i < nm; i++) {
+            double[] Li = L[i];
+            double[] Bi = B[i];
+            for (int k = 0; k < i; k++) {
+                double lik = Li[k];
+                if (lik != 0.0) {
+                    double[] Bk = B[k];
+                    for (int j = 0; j < nm; j++) {
+                        Bi[j] -= lik * Bk[j];
+                    }
+                }
+            }
+            double inv = 1.0 / Li[i];
+            for (int j = 0; j < nm; j++) {
+                Bi[j] *= inv;
+            }
+        }
+    }
+
+    private static void transposeInPlace(double[][] A) {
+        for (int i = 0; i < A.length; i++) {
+            for (int j = 0; j < i; j++) {
+                double h = A[i][j];
+                A[i][j] = A[j][i];
+                A[j][i] = h;
+            }
+        }
+    }
+
+    /**
+     * Householder-Tridiagonalisierung einer symmetrischen Matrix. In
+     * <code>V</code> steht danach die orthogonale Transformationsmatrix
+     * (spaltenweise), in <code>d</code> die Hauptdiagonale und in
+     * <code>e</code> ab Index 1 die Nebendiagonale.
+     * Nach "tred2" aus Wilkinson/Reinsch, Handbook for Automatic Computation.
+     */
+    private static void tridiagonalize(double[][] V, double[] d, double[] e) {
+        int nm = d.length;
+        if (nm == 0) {
+            return;
+        }
+        System.arraycopy(V[nm - 1], 0, d, 0, nm);
+
+        for (int i = nm - 1; i > 0; i--) {
+            double scale = 0.0;
+            double h = 0.0;
+            for (int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+            if (scale == 0.0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = V[i - 1][j];
+                    V[i][j] = 0.0;
+                    V[j][i] = 0.0;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (f > 0) {
+                    g = -g;
+                }
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) {
+                    e[j] = 0.0;
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    V[j][i] = f;
+                    g = e[j] + V[j][j] * f;
+                    for (int k = j + 1; k <= i - 1; k++) {
+                        g += V[k][j] * d[k];
+                        e[k] += V[k][j] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0.0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k <= i - 1; k++) {
+                        V[k][j] -= (f * e[k] + g * d[k]);
+                    }
+                    d[j] = V[i - 1][j];
+                    V[i][j] = 0.0;
+                }
+            }
+            d[i] = h;
+        }
+
+        // Aufbau der Transformationsmatrix
+        for (int i = 0; i < nm - 1; i++) {
+            V[nm - 1][i] = V[i][i];
+            V[i][i] = 1.0;
+            double h = d[i + 1];
+            if (h != 0.0) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = V[k][i + 1] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    double g = 0.0;
+                    for (int k = 0; k <= i; k++) {
+                        g += V[k][i + 1] * V[k][j];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        V[k][j] -= g * d[k];
+                    }
+                }
+            }
+            for (int k = 0; k <= i; k++) {
+                V[k][i + 1] = 0.0;
+            }
+        }
+        for (int j = 0; j < nm; j++) {
+            d[j] = V[nm - 1][j];
+            V[nm - 1][j] = 0.0;
+        }
+        V[nm - 1][nm - 1] = 1.0;
+        e[0] = 0.0;
+    }
+
+    /**
+     * Implizites QL-Verfahren für symmetrische Tridiagonalmatrizen. Die
+     * Rotationen werden auf die Zeilen von <code>Z</code> angewendet, sodass
+     * Z danach die Eigenvektoren zeilenweise enthält. Nach "tql2" aus
+     * Wilkinson/Reinsch, Handbook for Automatic Computation.
+     *
+     * @return false, wenn das Verfahren nicht konvergiert
+     */
+    private static boolean tridiagonalQL(double[] d, double[] e, double[][] Z) {
+        int nm = d.length;
+        if (nm == 0) {
+            return true;
+        }
+        for (int i = 1; i < nm; i++) {
+            e[i - 1] = e[i];
+        }
+        e[nm - 1] = 0.0;
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        double eps = Math.ulp(1.0);
+        for (int l = 0; l < nm; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < nm - 1) {
+                if (Math.abs(e[m]) <= eps * tst1) {
+                    break;
+                }
+                m++;
+            }
+            if (m > l) {
+                int iter = 0;
+                do {
+                    if (++iter > 30) {
+                        return false;
+                    }
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = Math.hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < nm; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        double[] Zi = Z[i];
+                        double[] Zi1 = Z[i + 1];
+                        for (int k = 0; k < nm; k++) {
+                            h = Zi1[k];
+                            Zi1[k] = s * Zi[k] + c * h;
+                            Zi[k] = c * Zi[k] - s * h;
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+        return true;
+    }
+
     /**
      * Berechnung Matrix mal Vektor (Ab).
      *
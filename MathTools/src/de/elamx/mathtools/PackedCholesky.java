@@ -0,0 +1,195 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.mathtools;
+
+/**
+ * Cholesky-Zerlegung A = U'*U einer symmetrisch positiv definiten Matrix. Der
+ * Faktor U wird als obere Dreiecksmatrix zeilenweise gepackt gespeichert
+ * (nm*(nm+1)/2 Einträge). Entkoppelte Blöcke von A (siehe
+ * {@link MatrixTools#getDecoupledBlocks(double[][], double[][]...)}) werden
+ * getrennt zerlegt. Nach der einmaligen Zerlegung kostet jede weitere rechte
+ * Seite nur noch eine Vorwärts- und Rückwärtssubstitution.
+ *
+ * @author Andreas Hauffe
+ */
+public final class PackedCholesky {
+
+    private final int size;
+    private final int[][] blocks;
+    private final double[][] factors;
+
+    /**
+     * Zerlegt die Matrix A. A wird dabei nicht verändert.
+     *
+     * @param A symmetrisch positiv definite Matrix
+     */
+    public PackedCholesky(double[][] A) {
+        size = A.length;
+        blocks = MatrixTools.getDecoupledBlocks(A);
+        factors = new double[blocks.length][];
+        for (int b = 0; b < blocks.length; b++) {
+            factors[b] = factorize(A, blocks[b]);
+        }
+    }
+
+    /**
+     * @return Dimension der zerlegten Matrix
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Löst das lineare Gleichungssystem Ax=b.
+     *
+     * @param b rechte Seite
+     * @return Lösungsvektor des Gleichungssystems.
+     */
+    public double[] solve(double[] b) {
+        return solve(new double[][]{b})[0];
+    }
+
+    /**
+     * Löst das lineare Gleichungssystem Ax=b gleichzeitig für mehrere rechte
+     * Seiten. Der Faktor wird dabei für alle rechten Seiten nur einmal
+     * durchlaufen.
+     *
+     * @param B rechte Seiten, B[r] ist die r-te rechte Seite
+     * @return Lösungsvektoren, X[r] gehört zur r-ten rechten Seite
+     */
+    public double[][] solve(double[][] B) {
+        int nrhs = B.length;
+        double[][] X = new double[nrhs][size];
+        for (int b = 0; b < blocks.length; b++) {
+            int[] idx = blocks[b];
+            int bs = idx.length;
+            // rechte Seiten des Blocks spaltenweise sammeln: y[i][r]
+            double[][] y = new double[bs][nrhs];
+            boolean loaded = false;
+            for (int i = 0; i < bs; i++) {
+                for (int r = 0; r < nrhs; r++) {
+                    y[i][r] = B[r][idx[i]];
+                    loaded |= y[i][r] != 0.0;
+                }
+            }
+            if (!loaded) {
+                continue;
+            }
+            substitute(factors[b], y);
+            for (int i = 0; i < bs; i++) {
+                for (int r = 0; r < nrhs; r++) {
+                    X[r][idx[i]] = y[i][r];
+                }
+            }
+        }
+        return X;
+    }
+
+    /**
+     * Zeilenorientierte Cholesky-Zerlegung der Untermatrix A(idx, idx) in das
+     * gepackte obere Dreieck U.
+     */
+    private static double[] factorize(double[][] A, int[] idx) {
+        int bs = idx.length;
+        double[] u = new double[bs * (bs + 1) / 2];
+        int pos = 0;
+        for (int i = 0; i < bs; i++) {
+            double[] row = A[idx[i]];
+            for (int j = i; j < bs; j++) {
+                u[pos++] = row[idx[j]];
+            }
+        }
+        int rowK = 0;
+        for (int k = 0; k < bs; k++) {
+            int len = bs - k;
+            double ukk = Math.sqrt(u[rowK]);
+            u[rowK] = ukk;
+            for (int j = 1; j < len; j++) {
+                u[rowK + j] /= ukk;
+            }
+            // Restmatrix aktualisieren: A(i,j) -= U(k,i)*U(k,j)
+            int rowI = rowK + len;
+            for (int i = 1; i < len; i++) {
+                double uki = u[rowK + i];
+                if (uki != 0.0) {
+                    for (int j = i; j < len; j++) {
+                        u[rowI + j - i] -= uki * u[rowK + j];
+                    }
+                }
+                rowI += len - i;
+            }
+            rowK += len;
+        }
+        return u;
+    }
+
+    /**
+     * Löst U'*U*x = y für alle Spalten von y. Das Ergebnis steht in y.
+     */
+    private static void substitute(double[] u, double[][] y) {
+        int bs = y.length;
+        int nrhs = bs > 0 ? y[0].length : 0;
+        // Löse U'*z = y (U zeilenweise durchlaufen)
+        int rowK = 0;
+        for (int k = 0; k < bs; k++) {
+            int len = bs - k;
+            double[] yk = y[k];
+            double ukk = u[rowK];
+            for (int r = 0; r < nrhs; r++) {
+                yk[r] /= ukk;
+            }
+            for (int j = 1; j < len; j++) {
+                double ukj = u[rowK + j];
+                if (ukj != 0.0) {
+                    double[] yj = y[k + j];
+                    for (int r = 0; r < nrhs; r++) {
+                        yj[r] -= ukj * yk[r];
+                    }
+                }
+            }
+            rowK += len;
+        }
+        // Löse U*x = z (rückwärts)
+        for (int k = bs - 1; k >= 0; k--) {
+            int len = bs - k;
+            rowK -= len;
+            double[] yk = y[k];
+            for (int j = 1; j < len; j++) {
+                double ukj = u[rowK + j];
+                if (ukj != 0.0) {
+                    double[] yj = y[k + j];
+                    for (int r = 0; r < nrhs; r++) {
+                        yk[r] -= ukj * yj[r];
+                    }
+                }
+            }
+            double ukk = u[rowK];
+            for (int r = 0; r < nrhs; r++) {
+                yk[r] /= ukk;
+            }
+        }
+    }
+}
@@ -0,0 +1,540 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.mathtools;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class MatrixToolsTest {
+
+    public MatrixToolsTest() {
+    }
+
+    /**
+     * Vergleich der Eigenwerte und Eigenvektoren des QL-Verfahrens mit dem
+     * bisherigen Jacobi-Verfahren für ein zufälliges allgemeines
+     * Eigenwertproblem. Die Genauigkeit des Jacobi-Verfahrens ist durch das
+     * absolute Abbruchkriterium begrenzt, die QL-Lösung wird zusätzlich über
+     * das Residuum geprüft.
+     */
+    @Test
+    public void eigenValuesQLvsJacobi() {
+        int m = 3;
+        int n = 4;
+        int nm = m * n;
+        Random random = new Random(4711);
+
+        for (int run = 0; run < 5; run++) {
+            double[][] R = new double[nm][nm];
+            double[][] K = new double[nm][nm];
+            double[][] Kg = new double[nm][nm];
+            for (int i = 0; i < nm; i++) {
+                for (int j = 0; j < nm; j++) {
+                    R[i][j] = random.nextDouble() - 0.5;
+                }
+            }
+            for (int i = 0; i < nm; i++) {
+                for (int j = 0; j <= i; j++) {
+                    double h = 0.0;
+                    for (int k = 0; k < nm; k++) {
+                        h += R[i][k] * R[j][k];
+                    }
+                    K[i][j] = K[j][i] = h + (i == j ? 1.0 : 0.0);
+                    Kg[i][j] = Kg[j][i] = random.nextDouble() - 0.5;
+                }
+            }
+
+            double[][][] vecQL = new double[nm][m][n];
+            double[][][] vecJacobi = new double[nm][m][n];
+            double[] valQL = MatrixTools.getEigenValues(copy(Kg), copy(K), nm, m, n, vecQL, MatrixTools.EIGENSOLVER_QL);
+            double[] valJacobi = MatrixTools.getEigenValues(copy(Kg), copy(K), nm, m, n, vecJacobi, MatrixTools.EIGENSOLVER_JACOBI);
+
+            for (int i = 0; i < nm; i++) {
+                assertEquals(valJacobi[i], valQL[i], Math.abs(valJacobi[i]) * 1.0E-6);
+
+                // Residuum (K + lambda*Kg)*x
+                double resMax = 0.0;
+                double kxMax = 0.0;
+                for (int ii = 0; ii < nm; ii++) {
+                    double res = 0.0;
+                    double kx = 0.0;
+                    for (int jj = 0; jj < nm; jj++) {
+                        double x = vecQL[i][jj / n][jj % n];
+                        res += (K[ii][jj] + valQL[i] * Kg[ii][jj]) * x;
+                        kx += K[ii][jj] * x;
+                    }
+                    resMax = Math.max(resMax, Math.abs(res));
+                    kxMax = Math.max(kxMax, Math.abs(kx));
+                }
+                assertEquals(0.0, resMax / kxMax, 1.0E-10);
+
+                // Eigenvektoren sind nur bis auf das Vorzeichen bestimmt
+                double dot = 0.0;
+                for (int mm = 0; mm < m; mm++) {
+                    for (int nn = 0; nn < n; nn++) {
+                        dot += vecQL[i][mm][nn] * vecJacobi[i][mm][nn];
+                    }
+                }
+                assertEquals(1.0, Math.abs(dot), 1.0E-6);
+            }
+        }
+    }
+
+    /**
+     * Prüfung gegen die analytische Lösung eines entkoppelten Problems.
+     */
+    @Test
+    public void eigenValuesDiagonal() {
+        int m = 2;
+        int n = 3;
+        int nm = m * n;
+        double[] k = {4.0, 1.0, 9.0, 2.0, 6.0, 3.0};
+        double[] kg = {-1.0, -2.0, 3.0, -0.4, -1.0, -0.25};
+        double[][] K = new double[nm][nm];
+        double[][] Kg = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            K[i][i] = k[i];
+            Kg[i][i] = kg[i];
+        }
+        // (K + lambda*Kg)*x = 0 -> lambda = -k/kg, betragsmäßig sortiert
+        double[] expected = {0.5, -3.0, 4.0, 5.0, 6.0, 12.0};
+        int[] expectedIndex = {1, 2, 0, 3, 4, 5};
+
+        double[][][] eigenvecs = new double[nm][m][n];
+        double[] eigenvalues = MatrixTools.getEigenValues(Kg, K, nm, m, n, eigenvecs, MatrixTools.EIGENSOLVER_QL);
+
+        for (int i = 0; i < nm; i++) {
+            assertEquals(expected[i], eigenvalues[i], 1.0E-12);
+            assertEquals(1.0, eigenvecs[i][expectedIndex[i] / n][expectedIndex[i] % n], 1.0E-12);
+        }
+    }
+
+    /**
+     * Vergleich der kleinsten positiven Eigenwerte aus dem Lanczos-Verfahren
+     * mit der vollständigen Lösung.
+     */
+    @Test
+    public void lowestPositiveEigenValues() {
+        int m = 8;
+        int n = 8;
+        int nm = m * n;
+        int number = 4;
+        Random random = new Random(815);
+
+        double[][] K = new double[nm][nm];
+        double[][] Kg = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            K[i][i] = 1.0 + i;
+            for (int j = 0; j <= i; j++) {
+                Kg[i][j] = Kg[j][i] = (random.nextDouble() - 0.5) / (1.0 + 0.1 * (i + j));
+                if (j < i) {
+                    K[i][j] = K[j][i] = 0.01 * (random.nextDouble() - 0.5);
+                }
+            }
+        }
+
+        double[][][] vecAll = new double[nm][m][n];
+        double[] valAll = MatrixTools.getEigenValues(copy(Kg), copy(K), nm, m, n, vecAll, MatrixTools.EIGENSOLVER_QL);
+
+        double[][][] vecLowest = new double[number][m][n];
+        double[] valLowest = MatrixTools.getLowestPositiveEigenValues(Kg, K, number, m, n, vecLowest);
+
+        assertEquals(number, valLowest.length);
+        int count = 0;
+        for (int i = 0; i < nm && count < number; i++) {
+            if (valAll[i] > 0.0) {
+                assertEquals(valAll[i], valLowest[count], valAll[i] * 1.0E-10);
+                for (int mm = 0; mm < m; mm++) {
+                    for (int nn = 0; nn < n; nn++) {
+                        assertEquals(vecAll[i][mm][nn], vecLowest[count][mm][nn], 1.0E-8);
+                    }
+                }
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Warmstart des Lanczos-Verfahrens mit den Eigenvektoren eines leicht
+     * geänderten Problems und Zuordnung der Eigenformen über das MAC.
+     */
+    @Test
+    public void lowestPositiveEigenValuesWarmStart() {
+        int m = 8;
+        int n = 8;
+        int nm = m * n;
+        int number = 4;
+        Random random = new Random(4712);
+
+        double[][] K = new double[nm][nm];
+        double[][] Kg = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            K[i][i] = 1.0 + i;
+            for (int j = 0; j <= i; j++) {
+                Kg[i][j] = Kg[j][i] = (random.nextDouble() - 0.5) / (1.0 + 0.1 * (i + j));
+                if (j < i) {
+                    K[i][j] = K[j][i] = 0.01 * (random.nextDouble() - 0.5);
+                }
+            }
+        }
+        double[][][] vecStart = new double[number][m][n];
+        MatrixTools.getLowestPositiveEigenValuesBlockwise(copy(Kg), copy(K), number, m, n, vecStart);
+
+        // leicht geändertes Problem
+        for (int i = 0; i < nm; i++) {
+            K[i][i] *= 1.02;
+        }
+        double[][][] vecCold = new double[number][m][n];
+        double[] valCold = MatrixTools.getLowestPositiveEigenValuesBlockwise(copy(Kg), copy(K), number, m, n, vecCold);
+        double[][][] vecWarm = new double[number][m][n];
+        double[] valWarm = MatrixTools.getLowestPositiveEigenValuesBlockwise(Kg, K, number, m, n, vecWarm, vecStart);
+
+        assertEquals(valCold.length, valWarm.length);
+        for (int i = 0; i < valCold.length; i++) {
+            assertEquals(valCold[i], valWarm[i], valCold[i] * 1.0E-10);
+            assertEquals(1.0, MatrixTools.getMAC(vecCold[i], vecWarm[i]), 1.0E-10);
+        }
+
+        double[][][] permuted = {vecWarm[2], vecWarm[0], vecWarm[3], vecWarm[1]};
+        int[] assignment = MatrixTools.getModeAssignment(vecWarm, permuted, 0.7);
+        assertEquals(2, assignment[0]);
+        assertEquals(0, assignment[1]);
+        assertEquals(3, assignment[2]);
+        assertEquals(1, assignment[3]);
+    }
+
+    /**
+     * Mehrfache Eigenwerte werden vom Lanczos-Verfahren mit einem einzelnen
+     * Startvektor nur einmal gefunden und müssen über die Prüfung mit dem
+     * Trägheitssatz erkannt werden.
+     */
+    @Test
+    public void lowestPositiveEigenValuesRepeated() {
+        int m = 3;
+        int n = 2;
+        int nm = m * n;
+        double[] lambda = {1.0, 3.0, -2.0, 5.0, 3.0, 1.0};
+        Random random = new Random(42);
+
+        // zufällige orthonormale Basis
+        double[][] Q = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            for (int k = 0; k < nm; k++) {
+                Q[i][k] = random.nextDouble() - 0.5;
+            }
+            for (int j = 0; j < i; j++) {
+                double h = 0.0;
+                for (int k = 0; k < nm; k++) {
+                    h += Q[i][k] * Q[j][k];
+                }
+                for (int k = 0; k < nm; k++) {
+                    Q[i][k] -= h * Q[j][k];
+                }
+            }
+            double norm = 0.0;
+            for (int k = 0; k < nm; k++) {
+                norm += Q[i][k] * Q[i][k];
+            }
+            for (int k = 0; k < nm; k++) {
+                Q[i][k] /= Math.sqrt(norm);
+            }
+        }
+
+        // K = I, Kg = -Q^T * diag(1/lambda) * Q
+        double[][] K = new double[nm][nm];
+        double[][] Kg = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            K[i][i] = 1.0;
+            for (int j = 0; j < nm; j++) {
+                for (int p = 0; p < nm; p++) {
+                    Kg[i][j] -= Q[p][i] * Q[p][j] / lambda[p];
+                }
+            }
+        }
+
+        assertEquals(2, MatrixTools.countEigenValuesBelow(Kg, K, 2.0));
+        assertEquals(4, MatrixTools.countEigenValuesBelow(Kg, K, 4.0));
+        assertEquals(5, MatrixTools.countEigenValuesBelow(Kg, K, 6.0));
+
+        int number = 4;
+        double[][][] vecs = new double[number][m][n];
+        double[] val = MatrixTools.getLowestPositiveEigenValues(Kg, K, number, m, n, vecs);
+        assertArrayEquals(new double[]{1.0, 1.0, 3.0, 3.0}, val, 1.0E-10);
+
+        // Residuum (K + lambda*Kg)*x = 0
+        for (int ii = 0; ii < number; ii++) {
+            for (int i = 0; i < nm; i++) {
+                double r = 0.0;
+                for (int j = 0; j < nm; j++) {
+                    r += (K[i][j] + val[ii] * Kg[i][j]) * vecs[ii][j / n][j % n];
+                }
+                assertEquals(0.0, r, 1.0E-8);
+            }
+        }
+    }
+
+    /**
+     * Vergleich der gepackten Cholesky-Zerlegung für mehrere rechte Seiten
+     * mit der direkten Lösung, einmal für eine voll besetzte und einmal für
+     * eine in Blöcke zerfallende Matrix.
+     */
+    @Test
+    public void packedCholeskyMultipleRightHandSides() {
+        int nm = 12;
+        Random random = new Random(1234);
+
+        for (int run = 0; run < 2; run++) {
+            double[][] A = new double[nm][nm];
+            for (int i = 0; i < nm; i++) {
+                A[i][i] = nm + i;
+                for (int j = 0; j < i; j++) {
+                    // im zweiten Durchlauf entkoppeln gerade und ungerade Indizes
+                    if (run == 0 || (i + j) % 2 == 0) {
+                        A[i][j] = A[j][i] = random.nextDouble() - 0.5;
+                    }
+                }
+            }
+            double[][] B = new double[3][nm];
+            for (double[] b : B) {
+                for (int i = 0; i < nm; i++) {
+                    b[i] = random.nextDouble() - 0.5;
+                }
+            }
+
+            PackedCholesky cholesky = new PackedCholesky(A);
+            double[][] X = cholesky.solve(B);
+            for (int r = 0; r < B.length; r++) {
+                double[] expected = MatrixTools.solveAbCholesky(A, B[r]);
+                double[] x = cholesky.solve(B[r]);
+                for (int i = 0; i < nm; i++) {
+                    assertEquals(expected[i], X[r][i], 1.0E-12);
+                    assertEquals(expected[i], x[i], 1.0E-12);
+                }
+            }
+        }
+    }
+
+    /**
+     * Vergleich der geschlossenen 3x3-Inversion und der 6x6-Inversion über
+     * die LDL<sup>T</sup>-Zerlegung mit der allgemeinen Inversion für
+     * zufällige symmetrische, positiv definite Matrizen, jeweils für
+     * geschachtelte und zeilenweise gespeicherte Felder sowie für die Lösung
+     * eines Gleichungssystems.
+     */
+    @Test
+    public void fixedSizeInverses() {
+        Random random = new Random(2718);
+        for (int run = 0; run < 10; run++) {
+            for (int size : new int[]{3, 6}) {
+                double[][] A = new double[size][size];
+                for (int i = 0; i < size; i++) {
+                    A[i][i] = size + random.nextDouble();
+                    for (int j = 0; j < i; j++) {
+                        A[i][j] = A[j][i] = random.nextDouble() - 0.5;
+                    }
+                }
+                double[][] inv = new double[size][size];
+                if (size == 3) {
+                    MatrixTools.invert3x3(A, inv);
+                } else {
+                    MatrixTools.invertSym6x6(A, inv, new double[72]);
+                }
+                double[] flat = new double[size * size];
+                double[] invFlat = new double[size * size];
+                double[] b = new double[size];
+                double[] x = new double[size];
+                for (int i = 0; i < size; i++) {
+                    System.arraycopy(A[i], 0, flat, size * i, size);
+                    b[i] = random.nextDouble() - 0.5;
+                }
+                if (size == 3) {
+                    MatrixTools.invert3x3(flat, invFlat);
+                    MatrixTools.solve3x3(flat, b, x);
+                } else {
+                    double[] ld = new double[36];
+                    MatrixTools.invertSym6x6(flat, invFlat, ld);
+                    MatrixTools.solveLDLT6x6(ld, b, x);
+                }
+                double[][] expected = MatrixTools.getInverse(copy(A));
+                for (int i = 0; i < size; i++) {
+                    double expectedX = 0.0;
+                    for (int j = 0; j < size; j++) {
+                        assertEquals(expected[i][j], inv[i][j], 1.0E-12);
+                        assertEquals(expected[i][j], invFlat[size * i + j], 1.0E-12);
+                        expectedX += expected[i][j] * b[j];
+                    }
+                    assertEquals(expectedX, x[i], 1.0E-12);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ein in drei Blöcke zerfallendes Problem. Die Blöcke sind verschränkt
+     * (Indizes modulo 3), die Ergebnisse der blockweisen Lösung müssen mit
+     * der vollständigen Lösung übereinstimmen.
+     */
+    @Test
+    public void decoupledBlocks() {
+        int m = 3;
+        int n = 4;
+        int nm = m * n;
+        Random random = new Random(3141);
+
+        double[][] K = new double[nm][nm];
+        double[][] Kg = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            K[i][i] = 2.0 + i;
+            for (int j = 0; j <= i; j++) {
+                if ((i - j) % 3 == 0) {
+                    Kg[i][j] = Kg[j][i] = random.nextDouble() - 0.5;
+                    if (j < i) {
+                        K[i][j] = K[j][i] = 0.2 * (random.nextDouble() - 0.5);
+                    }
+                } else {
+                    // Rundungsfehler unterhalb der Toleranz
+                    Kg[i][j] = Kg[j][i] = 1.0E-17;
+                }
+            }
+        }
+
+        int[][] blocks = MatrixTools.getDecoupledBlocks(K, Kg);
+        assertEquals(3, blocks.length);
+        for (int b = 0; b < 3; b++) {
+            assertArrayEquals(new int[]{b, b + 3, b + 6, b + 9}, blocks[b]);
+        }
+
+        double[][][] vecDense = new double[nm][m][n];
+        double[] valDense = MatrixTools.getEigenValues(copy(Kg), copy(K), nm, m, n, vecDense, MatrixTools.EIGENSOLVER_QL);
+        double[][][] vecBlocks = new double[nm][m][n];
+        double[] valBlocks = MatrixTools.getEigenValuesBlockwise(Kg, K, nm, m, n, vecBlocks);
+        assertEquals(nm, valBlocks.length);
+        for (int i = 0; i < nm; i++) {
+            assertEquals(valDense[i], valBlocks[i], Math.abs(valDense[i]) * 1.0E-10);
+            assertEquals(1.0, MatrixTools.getMAC(vecDense[i], vecBlocks[i]), 1.0E-10);
+        }
+
+        int number = 4;
+        double[][][] vecLowestDense = new double[number][m][n];
+        double[] valLowestDense = MatrixTools.getLowestPositiveEigenValues(copy(Kg), copy(K), number, m, n, vecLowestDense);
+        double[][][] vecLowestBlocks = new double[number][m][n];
+        double[] valLowestBlocks = MatrixTools.getLowestPositiveEigenValuesBlockwise(Kg, K, number, m, n, vecLowestBlocks);
+        assertEquals(valLowestDense.length, valLowestBlocks.length);
+        for (int i = 0; i < valLowestDense.length; i++) {
+            assertEquals(valLowestDense[i], valLowestBlocks[i], valLowestDense[i] * 1.0E-10);
+            assertEquals(1.0, MatrixTools.getMAC(vecLowestDense[i], vecLowestBlocks[i]), 1.0E-10);
+        }
+
+        // zusammenhängendes Ergebnisfeld, Eigenvektor k ab der Stelle k*m*n
+        double[] flat = new double[number * nm];
+        double[] valFlat = MatrixTools.getLowestPositiveEigenValuesBlockwise(Kg, K, number, m, n, flat, null);
+        assertArrayEquals(valLowestBlocks, valFlat, 0.0);
+        for (int i = 0; i < valFlat.length; i++) {
+            for (int mm = 0; mm < m; mm++) {
+                assertArrayEquals(vecLowestBlocks[i][mm], Arrays.copyOfRange(flat, (i * m + mm) * n, (i * m + mm + 1) * n), 0.0);
+            }
+        }
+        flat = new double[2 * nm];
+        valFlat = MatrixTools.getEigenValuesBlockwise(Kg, K, nm, m, n, flat);
+        assertArrayEquals(valBlocks, valFlat, 0.0);
+        for (int mm = 0; mm < m; mm++) {
+            assertArrayEquals(vecBlocks[1][mm], Arrays.copyOfRange(flat, (m + mm) * n, (m + mm + 1) * n), 0.0);
+        }
+    }
+
+    /**
+     * Ein Problem aus 1x1-Blöcken und einem 2x2-Block. Die 1x1-Blöcke werden
+     * direkt über lambda = -K_ii/Kg_ii gelöst, die Eigenwerte aller Blöcke
+     * müssen betragsmäßig sortiert wie bei der vollständigen Lösung
+     * zusammengeführt werden.
+     */
+    @Test
+    public void decoupledBlocksOneByOne() {
+        int m = 2;
+        int n = 3;
+        int nm = m * n;
+        double[] k = {4.0, 1.0, 9.0, 2.0, 6.0, 3.0};
+        double[] kg = {-1.0, 2.0, -3.0, -0.4, -1.0, -0.5};
+        double[][] K = new double[nm][nm];
+        double[][] Kg = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            K[i][i] = k[i];
+            Kg[i][i] = kg[i];
+        }
+        Kg[4][5] = Kg[5][4] = 0.3;
+
+        int[][] blocks = MatrixTools.getDecoupledBlocks(K, Kg);
+        assertEquals(5, blocks.length);
+        for (int b = 0; b < 4; b++) {
+            assertArrayEquals(new int[]{b}, blocks[b]);
+        }
+        assertArrayEquals(new int[]{4, 5}, blocks[4]);
+
+        double[][][] vecDense = new double[nm][m][n];
+        double[] valDense = MatrixTools.getEigenValues(copy(Kg), copy(K), nm, m, n, vecDense, MatrixTools.EIGENSOLVER_QL);
+        double[][][] vecBlocks = new double[nm][m][n];
+        double[] valBlocks = MatrixTools.getEigenValuesBlockwise(Kg, K, nm, m, n, vecBlocks);
+        assertEquals(nm, valBlocks.length);
+        for (int i = 0; i < nm; i++) {
+            assertEquals(valDense[i], valBlocks[i], Math.abs(valDense[i]) * 1.0E-12);
+            assertEquals(1.0, MatrixTools.getMAC(vecDense[i], vecBlocks[i]), 1.0E-12);
+            if (i > 0) {
+                assertTrue(Math.abs(valBlocks[i - 1]) <= Math.abs(valBlocks[i]));
+            }
+        }
+        // 1x1-Block des Index 0: lambda = -4/(-1)
+        assertEquals(4.0, valBlocks[2], 1.0E-14);
+        assertEquals(1.0, vecBlocks[2][0][0], 0.0);
+
+        double[][][] vecLowest = new double[3][m][n];
+        double[] valLowest = MatrixTools.getLowestPositiveEigenValuesBlockwise(Kg, K, 3, m, n, vecLowest);
+        int count = 0;
+        for (int i = 0; i < nm && count < valLowest.length; i++) {
+            if (valDense[i] > 0.0) {
+                assertEquals(valDense[i], valLowest[count], valDense[i] * 1.0E-12);
+                assertEquals(1.0, MatrixTools.getMAC(vecDense[i], vecLowest[count]), 1.0E-12);
+                count++;
+            }
+        }
+        assertEquals(3, count);
+    }
+
+    private static double[][] copy(double[][] mat) {
+        double[][] c = new double[mat.length][];
+        for (int i = 0; i < mat.length; i++) {
+            c[i] = mat[i].clone();
+        }
+        return c;
+    }
+}
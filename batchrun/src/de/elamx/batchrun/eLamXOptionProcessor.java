@@ -30,6 +30,7 @@ import ch.systemsx.cisd.hdf5.IHDF5Writer;
 import de.elamx.reducedinput.ReducedInputHandler;
 import de.elamx.core.BatchRunService;
 import de.elamx.core.GeneralOutputWriterService;
+import de.elamx.core.GlobalProperties;
 import de.elamx.core.HDF5OutputWriterService;
 import de.elamx.filesupport.NewFileCreator;
 import de.elamx.laminate.Laminat;
@@ -77,6 +78,7 @@ public class eLamXOptionProcessor extends OptionProcessor {
     private final Option outputTypeOption = Option.optionalArgument('t', "outputtype");
     private final Option reducedInputOption = Option.optionalArgument('b', "reducedinput");
     private final Option hdf5OutputOption = Option.optionalArgument('h', "hdf5output");
+    private final Option threadsOption = Option.optionalArgument('p', "threads");
 
     @Override
     protected Set<Option> getOptions() {
@@ -86,6 +88,7 @@ public class eLamXOptionProcessor extends OptionProcessor {
         set.add(outputTypeOption);
         set.add(reducedInputOption);
         set.add(hdf5OutputOption);
+        set.add(threadsOption);
         return set;
     }
 
@@ -148,6 +151,14 @@ public class eLamXOptionProcessor extends OptionProcessor {
             outputType = Integer.parseInt(maps.get(outputTypeOption)[0]);
         }
 
+        /*
+        Anzahl der Threads für die parallele Auswertung der Berechnungen über
+        die Option "-p" setzen. Ohne Angabe werden alle Prozessoren genutzt.
+         */
+        if (maps.containsKey(threadsOption)) {
+            GlobalProperties.getDefault().setBatchRunThreads(Integer.parseInt(maps.get(threadsOption)[0]));
+        }
+
         List<GeneralOutputWriterService> writerServices = new ArrayList<>(Lookup.getDefault().lookupAll(GeneralOutputWriterService.class));
         GeneralOutputWriterService writerService = writerServices.get(Math.min(Math.max(outputType, 0), writerServices.size() - 1));
 